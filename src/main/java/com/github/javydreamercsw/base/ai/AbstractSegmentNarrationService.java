@@ -20,26 +20,70 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.javydreamercsw.management.service.performance.PerformanceMonitoringService;
 import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 @Slf4j
 public abstract class AbstractSegmentNarrationService implements SegmentNarrationService {
 
+  /** Cache kinds, so a narration and a summary of the same text never collide. */
+  private static final String NARRATION = "narration";
+
+  private static final String SUMMARY = "summary";
+
+  /** Runs HTTP callbacks, retry backoffs and blocking provider calls; one virtual thread each. */
+  private static final ExecutorService NARRATION_EXECUTOR =
+      Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ai-narration-", 0).factory());
+
   @Autowired private ObjectMapper objectMapper = new ObjectMapper();
   private volatile HttpClient httpClient;
+  private final ConcurrentHashMap<String, SharedNarration> inFlight = new ConcurrentHashMap<>();
+  private ProviderRequestLimiter requestLimiter;
+
+  /** Provider calls allowed in flight at once, per provider. */
+  @Value("${atw.ai.narration.max-concurrent-requests:4}")
+  @Setter
+  private int maxConcurrentRequests = 4;
+
+  /** Sustained provider call rate per provider; 0 disables rate limiting. */
+  @Value("${atw.ai.narration.requests-per-minute:30}")
+  @Setter
+  private int requestsPerMinute = 30;
+
+  /** Provider calls that may start back to back after an idle period. */
+  @Value("${atw.ai.narration.request-burst:5}")
+  @Setter
+  private int requestBurst = 5;
 
   @Autowired(required = false)
   @Setter
   @Getter
   private PerformanceMonitoringService performanceMonitoringService;
 
+  @Autowired(required = false)
+  @Setter
+  private NarrationCache narrationCache;
+
   protected String getSystemMessage(@NonNull final String prompt) {
     if (prompt.contains("Summarize the following segment narration")) {
       return """
@@ -233,20 +277,63 @@ public abstract class AbstractSegmentNarrationService implements SegmentNarratio
    */
   protected abstract String callAIProvider(@NonNull String prompt);
 
+  /**
+   * Non-blocking variant of {@link #callAIProvider(String)} used by the narration pipeline.
+   * Providers talking HTTP should override this with {@link #sendAsync}; the default runs the
+   * blocking call on a virtual thread.
+   *
+   * @param prompt The formatted prompt for segment narration
+   * @return A future resolving to the AI-generated segment narration
+   */
+  protected CompletableFuture<String> callAIProviderAsync(@NonNull final String prompt) {
+    return CompletableFuture.supplyAsync(() -> callAIProvider(prompt), NARRATION_EXECUTOR);
+  }
+
   @Override
   public String narrateSegment(
       @NonNull final SegmentNarrationService.SegmentNarrationContext segmentContext) {
+    return await(narrateSegmentAsync(segmentContext));
+  }
+
+  /**
+   * Narrates a segment without blocking the caller. Identical contexts requested while a narration
+   * is still running share that one provider call; cancelling the returned future detaches the
+   * caller and cancels the provider call once no caller is left. Finished narrations are served
+   * from the {@link NarrationCache} when one is configured.
+   */
+  @Override
+  public CompletableFuture<String> narrateSegmentAsync(
+      @NonNull final SegmentNarrationContext segmentContext) {
     if (!isAvailable()) {
-      throw new AIServiceException(
-          503,
-          "Service Unavailable",
-          getProviderName(),
-          getProviderName()
-              + " AI service is not available. Please configure the required API key.");
+      return CompletableFuture.failedFuture(
+          new AIServiceException(
+              503,
+              "Service Unavailable",
+              getProviderName(),
+              getProviderName()
+                  + " AI service is not available. Please configure the required API key."));
     }
 
+    // The prompt embeds the context serialized as JSON, so it is a canonical key for the context.
     String prompt = buildSegmentNarrationPrompt(segmentContext);
-    return executeWithRetry(prompt);
+    String cached = cachedResponse(NARRATION, prompt);
+    if (cached != null) {
+      return CompletableFuture.completedFuture(cached);
+    }
+    while (true) {
+      SharedNarration created = new SharedNarration(prompt);
+      SharedNarration shared = inFlight.putIfAbsent(prompt, created);
+      if (shared == null) {
+        shared = created;
+        created.start();
+      } else if (performanceMonitoringService != null) {
+        performanceMonitoringService.incrementCounter("ai.narration.coalesced");
+      }
+      CompletableFuture<String> view = shared.subscribe();
+      if (view != null) {
+        return view;
+      }
+    }
   }
 
   @Override
@@ -258,7 +345,13 @@ public abstract class AbstractSegmentNarrationService implements SegmentNarratio
     }
 
     String prompt = buildSummaryPrompt(narration);
-    return executeWithRetry(prompt);
+    String cached = cachedResponse(SUMMARY, prompt);
+    if (cached != null) {
+      return cached;
+    }
+    String summary = executeWithRetry(prompt);
+    cacheResponse(SUMMARY, prompt, summary);
+    return summary;
   }
 
   protected String buildSummaryPrompt(@NonNull final String narration) {
@@ -323,119 +416,333 @@ public abstract class AbstractSegmentNarrationService implements SegmentNarratio
 
   /** Executes AI provider call with retry logic using the provider's retry policies. */
   protected String executeWithRetry(@NonNull final String prompt) {
-    List<RetryPolicyConfig> policies = getRetryPolicies();
-    Exception lastException = null;
+    return await(executeWithRetryAsync(prompt));
+  }
 
-    String operationName = "AI.Narration." + getProviderName();
-    if (performanceMonitoringService != null) {
-      performanceMonitoringService.startOperation(operationName);
+  /**
+   * Asynchronous form of {@link #executeWithRetry(String)}. Every attempt waits for a slot in the
+   * provider's {@link ProviderRequestLimiter}; the backoff between attempts is a scheduled delay,
+   * so no thread sleeps. Cancelling the returned future cancels the running attempt and any
+   * pending retry.
+   */
+  protected CompletableFuture<String> executeWithRetryAsync(@NonNull final String prompt) {
+    return new RetryingCall(prompt).start();
+  }
+
+  /**
+   * Calculates retry delay, potentially extracting it from API error response. Can be overridden by
+   * implementations to parse provider-specific retry hints.
+   */
+  protected final Duration calculateRetryDelay(@NonNull final Duration defaultDelay) {
+    return defaultDelay;
+  }
+
+  protected synchronized HttpClient getHttpClient(final int timeout) {
+    if (httpClient == null) {
+      httpClient =
+          HttpClient.newBuilder()
+              .connectTimeout(Duration.ofSeconds(timeout))
+              .executor(NARRATION_EXECUTOR)
+              .build();
     }
+    return httpClient;
+  }
 
-    try {
-      for (RetryPolicyConfig policy : policies) {
-        try {
-          return callAIProviderWithRetry(prompt, policy);
-        } catch (AIServiceException e) {
-          lastException = e;
-          if (!isRetryableException(e)) {
-            throw e; // Re-throw non-retryable AI exceptions directly
+  /**
+   * Sends {@code request} with {@link HttpClient#sendAsync} and maps the response with {@code
+   * handler}. Transport failures are converted with {@link #toServiceException(Throwable)};
+   * cancelling the returned future aborts the HTTP exchange.
+   */
+  protected final CompletableFuture<String> sendAsync(
+      @NonNull final HttpRequest request,
+      final int timeout,
+      @NonNull final Function<HttpResponse<String>, String> handler) {
+    CompletableFuture<HttpResponse<String>> exchange =
+        getHttpClient(timeout).sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    CompletableFuture<String> result =
+        exchange.handle(
+            (response, error) -> {
+              if (error != null) {
+                throw toServiceException(error);
+              }
+              return handler.apply(response);
+            });
+    result.whenComplete(
+        (value, error) -> {
+          if (result.isCancelled()) {
+            exchange.cancel(true);
           }
-          log.warn(
-              "Retryable AI error for {}: {} - {}",
-              getProviderName(),
-              e.getStatusCode(),
-              e.getMessage());
-        } catch (Exception e) {
-          lastException = e;
-          log.warn(
-              "Retry policy '{}' failed for {}: {}",
-              policy.getDescription(),
-              getProviderName(),
-              e.getMessage());
-        }
-      }
-    } finally {
-      if (performanceMonitoringService != null) {
-        performanceMonitoringService.endOperation(operationName);
+        });
+    return result;
+  }
+
+  /** Maps a failed provider call onto the {@link AIServiceException} the retry policies expect. */
+  protected AIServiceException toServiceException(@NonNull final Throwable error) {
+    Throwable cause = unwrap(error);
+    if (cause instanceof AIServiceException aiException) {
+      return aiException;
+    }
+    if (cause instanceof HttpTimeoutException) {
+      return new AIServiceException(
+          504, "Gateway Timeout", getProviderName(), cause.getMessage(), cause);
+    }
+    return new AIServiceException(
+        500, "Internal Server Error", getProviderName(), cause.getMessage(), cause);
+  }
+
+  /** Returns the cached response for {@code prompt}, recording the lookup, or null on a miss. */
+  private String cachedResponse(final String kind, final String prompt) {
+    if (narrationCache == null) {
+      return null;
+    }
+    Optional<NarrationCache.Hit> hit =
+        narrationCache.get(NarrationCache.key(getProviderName(), kind, prompt));
+    if (performanceMonitoringService != null) {
+      if (hit.isPresent()) {
+        performanceMonitoringService.recordAiCacheHit(
+            getProviderName(), hit.get().tier().name().toLowerCase(Locale.ROOT));
+      } else {
+        performanceMonitoringService.recordAiCacheMiss(getProviderName());
       }
     }
+    return hit.map(NarrationCache.Hit::content).orElse(null);
+  }
 
-    throw new AIServiceException(
-        503,
-        "Service Unavailable",
-        getProviderName(),
-        "All retry policies exhausted for " + getProviderName(),
-        lastException);
+  private void cacheResponse(final String kind, final String prompt, final String response) {
+    // Providers report unparseable responses as text; those must not be replayed.
+    if (narrationCache == null
+        || response == null
+        || response.isBlank()
+        || response.startsWith("Error parsing AI response")
+        || response.equals("No content in AI response")) {
+      return;
+    }
+    narrationCache.put(NarrationCache.key(getProviderName(), kind, prompt), response);
   }
 
-  /** Executes the AI provider call with a specific retry policy. */
-  private String callAIProviderWithRetry(
-      @NonNull final String prompt, @NonNull final RetryPolicyConfig policy) {
-    Exception lastException = null;
-    Duration currentDelay = policy.getBaseDelay();
-
-    for (int attempt = 0; attempt < policy.getMaxRetries() + 1; attempt++) {
-      try {
-        return callAIProvider(prompt);
-      } catch (Exception e) {
-        lastException = e;
-
-        if (attempt < policy.getMaxRetries() && policy.getShouldRetry().test(e)) {
-          Duration delay = calculateRetryDelay(currentDelay);
-          log.warn(
-              "Attempt {} failed for {} ({}), retrying in {}ms: {}",
-              attempt + 1,
-              getProviderName(),
-              policy.getDescription(),
-              delay.toMillis(),
-              e.getMessage());
-
-          try {
-            Thread.sleep(delay.toMillis());
-          } catch (InterruptedException ie) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException("Interrupted during retry delay", ie);
-          }
+  private synchronized ProviderRequestLimiter getRequestLimiter() {
+    if (requestLimiter == null) {
+      requestLimiter =
+          new ProviderRequestLimiter(
+              maxConcurrentRequests,
+              requestsPerMinute,
+              requestBurst,
+              System::nanoTime,
+              NARRATION_EXECUTOR);
+    }
+    return requestLimiter;
+  }
 
-          // Exponential backoff
-          if (!policy.getBaseDelay().equals(policy.getMaxDelay())) {
-            currentDelay =
-                Duration.ofMillis(
-                    Math.min(currentDelay.toMillis() * 2, policy.getMaxDelay().toMillis()));
-          }
-        } else {
-          break;
-        }
+  private String await(@NonNull final CompletableFuture<String> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for " + getProviderName(), e);
+    } catch (ExecutionException e) {
+      Throwable cause = unwrap(e);
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
       }
+      throw toServiceException(cause);
     }
-
-    throw new RuntimeException(
-        "Max retries exceeded for "
-            + getProviderName()
-            + " with policy: "
-            + policy.getDescription(),
-        lastException);
   }
 
-  /**
-   * Calculates retry delay, potentially extracting it from API error response. Can be overridden by
-   * implementations to parse provider-specific retry hints.
-   */
-  protected final Duration calculateRetryDelay(@NonNull final Duration defaultDelay) {
-    return defaultDelay;
+  private static Throwable unwrap(@NonNull final Throwable error) {
+    Throwable current = error;
+    while ((current instanceof CompletionException || current instanceof ExecutionException)
+        && current.getCause() != null) {
+      current = current.getCause();
+    }
+    return current;
   }
 
-  protected synchronized HttpClient getHttpClient(final int timeout) {
-    if (httpClient == null) {
-      httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(timeout)).build();
+  /** One provider call shared by every caller that asked for the same prompt while it ran. */
+  private final class SharedNarration {
+    private final String prompt;
+    private final CompletableFuture<String> outcome = new CompletableFuture<>();
+    private int subscribers;
+    private boolean abandoned;
+
+    private SharedNarration(final String prompt) {
+      this.prompt = prompt;
+    }
+
+    private void start() {
+      CompletableFuture<String> call = executeWithRetryAsync(prompt);
+      outcome.whenComplete(
+          (value, error) -> {
+            inFlight.remove(prompt, this);
+            if (outcome.isCancelled()) {
+              call.cancel(true);
+            }
+          });
+      call.whenComplete(
+          (value, error) -> {
+            if (error != null) {
+              outcome.completeExceptionally(unwrap(error));
+            } else {
+              cacheResponse(NARRATION, prompt, value);
+              outcome.complete(value);
+            }
+          });
+    }
+
+    /** Returns a caller-owned view of the outcome, or null if every caller already left. */
+    private synchronized CompletableFuture<String> subscribe() {
+      if (abandoned) {
+        return null;
+      }
+      subscribers++;
+      CompletableFuture<String> view = new CompletableFuture<>();
+      outcome.whenComplete(
+          (value, error) -> {
+            if (error != null) {
+              view.completeExceptionally(error);
+            } else {
+              view.complete(value);
+            }
+          });
+      view.whenComplete(
+          (value, error) -> {
+            if (view.isCancelled()) {
+              release();
+            }
+          });
+      return view;
+    }
+
+    private void release() {
+      boolean cancel;
+      synchronized (this) {
+        subscribers--;
+        cancel = subscribers == 0 && !outcome.isDone();
+        abandoned |= cancel;
+      }
+      if (cancel) {
+        log.debug("All callers left, cancelling {} narration", getProviderName());
+        if (performanceMonitoringService != null) {
+          performanceMonitoringService.incrementCounter("ai.narration.cancelled");
+        }
+        outcome.cancel(true);
+      }
     }
-    return httpClient;
   }
 
-  @Override
-  @org.springframework.scheduling.annotation.Async
-  public java.util.concurrent.CompletableFuture<String> narrateSegmentAsync(
-      @NonNull final SegmentNarrationContext segmentContext) {
-    return java.util.concurrent.CompletableFuture.completedFuture(narrateSegment(segmentContext));
+  /** Walks the retry policies for one prompt without blocking between attempts. */
+  private final class RetryingCall {
+    private final String prompt;
+    private final List<RetryPolicyConfig> policies = getRetryPolicies();
+    private final CompletableFuture<String> result = new CompletableFuture<>();
+    private final String operationName = "AI.Narration." + getProviderName();
+    private final long startNanos = System.nanoTime();
+    private volatile CompletableFuture<String> current;
+    private volatile Exception lastException;
+
+    private RetryingCall(final String prompt) {
+      this.prompt = prompt;
+    }
+
+    private CompletableFuture<String> start() {
+      if (performanceMonitoringService != null) {
+        performanceMonitoringService.incrementCounter("operations.started." + operationName);
+      }
+      result.whenComplete(
+          (value, error) -> {
+            CompletableFuture<String> running = current;
+            if (result.isCancelled() && running != null) {
+              running.cancel(true);
+            }
+            if (performanceMonitoringService != null) {
+              long nanos = System.nanoTime() - startNanos;
+              performanceMonitoringService.recordTimer(
+                  "operations.duration." + operationName, nanos / 1_000_000);
+              performanceMonitoringService.recordLatency(
+                  "operations.duration." + operationName, nanos);
+              performanceMonitoringService.incrementCounter(
+                  "operations.completed." + operationName);
+            }
+          });
+      attempt(0, 0, policies.isEmpty() ? Duration.ZERO : policies.get(0).getBaseDelay());
+      return result;
+    }
+
+    private void attempt(final int policyIndex, final int attempt, final Duration delay) {
+      if (result.isDone()) {
+        return;
+      }
+      if (policyIndex >= policies.size()) {
+        result.completeExceptionally(
+            new AIServiceException(
+                503,
+                "Service Unavailable",
+                getProviderName(),
+                "All retry policies exhausted for " + getProviderName(),
+                lastException));
+        return;
+      }
+      CompletableFuture<String> call =
+          getRequestLimiter().submit(() -> callAIProviderAsync(prompt));
+      current = call;
+      if (result.isDone()) {
+        call.cancel(true);
+        return;
+      }
+      call.whenComplete(
+          (value, error) -> {
+            if (error == null) {
+              result.complete(value);
+            } else if (!result.isDone()) {
+              onFailure(policyIndex, attempt, delay, unwrap(error));
+            }
+          });
+    }
+
+    private void onFailure(
+        final int policyIndex, final int attempt, final Duration delay, final Throwable error) {
+      Exception e = error instanceof Exception ex ? ex : new RuntimeException(error);
+      lastException = e;
+      RetryPolicyConfig policy = policies.get(policyIndex);
+
+      if (attempt < policy.getMaxRetries() && policy.getShouldRetry().test(e)) {
+        Duration wait = calculateRetryDelay(delay);
+        log.warn(
+            "Attempt {} failed for {} ({}), retrying in {}ms: {}",
+            attempt + 1,
+            getProviderName(),
+            policy.getDescription(),
+            wait.toMillis(),
+            e.getMessage());
+        if (performanceMonitoringService != null) {
+          performanceMonitoringService.incrementCounter("ai.narration.retries");
+        }
+        // Exponential backoff
+        Duration next =
+            policy.getBaseDelay().equals(policy.getMaxDelay())
+                ? delay
+                : Duration.ofMillis(
+                    Math.min(delay.toMillis() * 2, policy.getMaxDelay().toMillis()));
+        CompletableFuture.delayedExecutor(
+                wait.toMillis(), TimeUnit.MILLISECONDS, NARRATION_EXECUTOR)
+            .execute(() -> attempt(policyIndex, attempt + 1, next));
+        return;
+      }
+
+      if (e instanceof AIServiceException aiException && !isRetryableException(aiException)) {
+        result.completeExceptionally(aiException);
+        return;
+      }
+      log.warn(
+          "Retry policy '{}' failed for {}: {}",
+          policy.getDescription(),
+          getProviderName(),
+          e.getMessage());
+      int nextPolicy = policyIndex + 1;
+      attempt(
+          nextPolicy,
+          0,
+          nextPolicy < policies.size() ? policies.get(nextPolicy).getBaseDelay() : Duration.ZERO);
+    }
   }
 }
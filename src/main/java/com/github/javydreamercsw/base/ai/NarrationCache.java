@@ -0,0 +1,246 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.base.ai;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.javydreamercsw.base.config.StorageProperties;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Content-addressed cache for AI narrations and summaries.
+ *
+ * <p>Entries are keyed on a SHA-256 of the provider, the kind of request and the full prompt. The
+ * prompt embeds the serialized {@link SegmentNarrationService.SegmentNarrationContext}, so the same
+ * context sent to the same provider maps to the same entry. Lookups go to a bounded Caffeine tier
+ * first and then to one file per entry under {@code atw.storage.narration-cache-dir}, which
+ * survives restarts. The disk tier is bounded by entry count; once it overflows, the least recently
+ * used files (by modification time, touched on every hit) are deleted down to 90% of the limit.
+ */
+@Component
+@ConditionalOnProperty(
+    name = "atw.ai.narration.cache.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+@Slf4j
+public class NarrationCache {
+
+  /** Tier that answered a lookup. */
+  public enum Tier {
+    MEMORY,
+    DISK
+  }
+
+  /** A cached response and the tier it came from. */
+  public record Hit(String content, Tier tier) {}
+
+  private static final String SUFFIX = ".txt";
+
+  private final Cache<String, String> memory;
+  private final Path directory;
+  private final int maxDiskEntries;
+  private final AtomicLong diskEntries = new AtomicLong(-1);
+  private final AtomicBoolean evicting = new AtomicBoolean();
+
+  @Autowired
+  public NarrationCache(
+      @NonNull final StorageProperties storageProperties,
+      @Value("${atw.ai.narration.cache.memory-entries:256}") final int maxMemoryEntries,
+      @Value("${atw.ai.narration.cache.disk-entries:5000}") final int maxDiskEntries) {
+    this(storageProperties.getResolvedNarrationCacheDir(), maxMemoryEntries, maxDiskEntries);
+  }
+
+  public NarrationCache(
+      @NonNull final Path directory, final int maxMemoryEntries, final int maxDiskEntries) {
+    this.directory = directory;
+    this.maxDiskEntries = Math.max(1, maxDiskEntries);
+    this.memory = Caffeine.newBuilder().maximumSize(Math.max(1, maxMemoryEntries)).build();
+  }
+
+  /**
+   * Canonical cache key for a provider call.
+   *
+   * @param provider Provider display name
+   * @param kind What the prompt asks for, e.g. {@code narration} or {@code summary}
+   * @param prompt The full prompt sent to the provider
+   */
+  public static String key(
+      @NonNull final String provider, @NonNull final String kind, @NonNull final String prompt) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(provider.getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+      digest.update(kind.getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+      digest.update(prompt.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  /** Looks {@code key} up in memory, then on disk; a disk hit is promoted to memory. */
+  public Optional<Hit> get(@NonNull final String key) {
+    String cached = memory.getIfPresent(key);
+    if (cached != null) {
+      return Optional.of(new Hit(cached, Tier.MEMORY));
+    }
+    Path file = fileFor(key);
+    try {
+      String content = Files.readString(file, StandardCharsets.UTF_8);
+      Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+      memory.put(key, content);
+      return Optional.of(new Hit(content, Tier.DISK));
+    } catch (NoSuchFileException e) {
+      return Optional.empty();
+    } catch (IOException e) {
+      log.warn("Failed to read narration cache entry {}: {}", file, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  /** Stores {@code content} in both tiers. Disk failures are logged and otherwise ignored. */
+  public void put(@NonNull final String key, @NonNull final String content) {
+    memory.put(key, content);
+    Path file = fileFor(key);
+    try {
+      Files.createDirectories(file.getParent());
+      boolean added = !Files.exists(file);
+      Path temp = Files.createTempFile(file.getParent(), key, ".tmp");
+      Files.writeString(temp, content, StandardCharsets.UTF_8);
+      try {
+        Files.move(
+            temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+      if (added && countDiskEntries().incrementAndGet() > maxDiskEntries) {
+        evictDiskEntries();
+      }
+    } catch (IOException e) {
+      log.warn("Failed to write narration cache entry {}: {}", file, e.getMessage());
+    }
+  }
+
+  /** Drops every entry from both tiers. */
+  public void clear() {
+    memory.invalidateAll();
+    try (Stream<Path> files = listDiskEntries()) {
+      files.forEach(this::deleteQuietly);
+    } catch (IOException | UncheckedIOException e) {
+      log.warn("Failed to clear narration cache: {}", e.getMessage());
+    }
+    diskEntries.set(0);
+  }
+
+  public long getMemoryEntryCount() {
+    memory.cleanUp();
+    return memory.estimatedSize();
+  }
+
+  public long getDiskEntryCount() {
+    return countDiskEntries().get();
+  }
+
+  private Path fileFor(final String key) {
+    return directory.resolve(key.substring(0, 2)).resolve(key + SUFFIX);
+  }
+
+  private Stream<Path> listDiskEntries() throws IOException {
+    if (!Files.isDirectory(directory)) {
+      return Stream.empty();
+    }
+    return Files.walk(directory, 2)
+        .filter(Files::isRegularFile)
+        .filter(p -> p.getFileName().toString().endsWith(SUFFIX));
+  }
+
+  private AtomicLong countDiskEntries() {
+    if (diskEntries.get() < 0) {
+      synchronized (diskEntries) {
+        if (diskEntries.get() < 0) {
+          try (Stream<Path> files = listDiskEntries()) {
+            diskEntries.set(files.count());
+          } catch (IOException | UncheckedIOException e) {
+            log.warn("Failed to count narration cache entries: {}", e.getMessage());
+            diskEntries.set(0);
+          }
+        }
+      }
+    }
+    return diskEntries;
+  }
+
+  private void evictDiskEntries() {
+    if (!evicting.compareAndSet(false, true)) {
+      return;
+    }
+    try (Stream<Path> files = listDiskEntries()) {
+      List<Path> oldestFirst =
+          files.sorted(Comparator.comparing(NarrationCache::lastModified)).toList();
+      long target = (long) (maxDiskEntries * 0.9);
+      int toDelete = (int) Math.max(0, oldestFirst.size() - target);
+      oldestFirst.subList(0, toDelete).forEach(this::deleteQuietly);
+      diskEntries.set(oldestFirst.size() - toDelete);
+      log.debug("Evicted {} narration cache entries", toDelete);
+    } catch (IOException | UncheckedIOException e) {
+      log.warn("Failed to evict narration cache entries: {}", e.getMessage());
+    } finally {
+      evicting.set(false);
+    }
+  }
+
+  private static FileTime lastModified(final Path file) {
+    try {
+      return Files.getLastModifiedTime(file);
+    } catch (IOException e) {
+      return FileTime.fromMillis(0);
+    }
+  }
+
+  private void deleteQuietly(final Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("Failed to delete narration cache entry {}: {}", file, e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,181 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.base.ai;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.NonNull;
+
+/**
+ * Non-blocking admission control for calls to one AI provider.
+ *
+ * <p>A call is started only when fewer than {@code maxConcurrent} calls are running and the token
+ * bucket (refilled at {@code requestsPerMinute}, holding at most {@code burst} tokens) has a token
+ * left. Otherwise it waits in a FIFO queue; nothing blocks a thread, a refill is scheduled on the
+ * given executor instead. Cancelling the returned future removes a queued call or cancels a running
+ * one.
+ */
+final class ProviderRequestLimiter {
+
+  private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+  private record Waiter<T>(Supplier<CompletableFuture<T>> call, CompletableFuture<T> result) {}
+
+  private final int maxConcurrent;
+  private final double tokensPerNano;
+  private final double burst;
+  private final LongSupplier nanoClock;
+  private final Executor executor;
+
+  private final Deque<Waiter<?>> waiting = new ArrayDeque<>();
+  private int active;
+  private double tokens;
+  private long lastRefill;
+  private boolean refillScheduled;
+
+  /**
+   * @param maxConcurrent Calls allowed to run at the same time (at least 1)
+   * @param requestsPerMinute Sustained call rate; {@code <= 0} disables rate limiting
+   * @param burst Calls that may start back to back after an idle period (at least 1)
+   * @param nanoClock Monotonic clock, {@link System#nanoTime()} outside tests
+   * @param executor Executor used to start calls after a scheduled refill
+   */
+  ProviderRequestLimiter(
+      final int maxConcurrent,
+      final int requestsPerMinute,
+      final int burst,
+      @NonNull final LongSupplier nanoClock,
+      @NonNull final Executor executor) {
+    this.maxConcurrent = Math.max(1, maxConcurrent);
+    this.tokensPerNano = requestsPerMinute > 0 ? (double) requestsPerMinute / NANOS_PER_MINUTE : 0;
+    this.burst = Math.max(1, burst);
+    this.nanoClock = nanoClock;
+    this.executor = executor;
+    this.tokens = this.burst;
+    this.lastRefill = nanoClock.getAsLong();
+  }
+
+  /** Queues {@code call} and starts it as soon as a permit and a token are available. */
+  <T> CompletableFuture<T> submit(@NonNull final Supplier<CompletableFuture<T>> call) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    synchronized (this) {
+      waiting.add(new Waiter<>(call, result));
+    }
+    result.whenComplete(
+        (value, error) -> {
+          if (result.isCancelled()) {
+            synchronized (this) {
+              waiting.removeIf(w -> w.result() == result);
+            }
+          }
+        });
+    dispatch();
+    return result;
+  }
+
+  synchronized int getActiveCount() {
+    return active;
+  }
+
+  synchronized int getQueuedCount() {
+    return waiting.size();
+  }
+
+  private void dispatch() {
+    List<Waiter<?>> ready = new ArrayList<>();
+    synchronized (this) {
+      refill();
+      while (active < maxConcurrent && !waiting.isEmpty()) {
+        if (waiting.peek().result().isDone()) {
+          waiting.poll();
+          continue;
+        }
+        if (tokensPerNano > 0 && tokens < 1) {
+          scheduleRefill();
+          break;
+        }
+        if (tokensPerNano > 0) {
+          tokens -= 1;
+        }
+        active++;
+        ready.add(waiting.poll());
+      }
+    }
+    ready.forEach(this::start);
+  }
+
+  private <T> void start(final Waiter<T> waiter) {
+    CompletableFuture<T> call;
+    try {
+      call = waiter.call().get();
+    } catch (RuntimeException e) {
+      call = CompletableFuture.failedFuture(e);
+    }
+    CompletableFuture<T> running = call;
+    waiter
+        .result()
+        .whenComplete(
+            (value, error) -> {
+              if (waiter.result().isCancelled()) {
+                running.cancel(true);
+              }
+            });
+    running.whenComplete(
+        (value, error) -> {
+          synchronized (this) {
+            active--;
+          }
+          if (error != null) {
+            waiter.result().completeExceptionally(error);
+          } else {
+            waiter.result().complete(value);
+          }
+          dispatch();
+        });
+  }
+
+  private void refill() {
+    long now = nanoClock.getAsLong();
+    if (tokensPerNano > 0) {
+      tokens = Math.min(burst, tokens + (now - lastRefill) * tokensPerNano);
+    }
+    lastRefill = now;
+  }
+
+  private void scheduleRefill() {
+    if (refillScheduled) {
+      return;
+    }
+    refillScheduled = true;
+    long waitNanos = (long) Math.ceil((1 - tokens) / tokensPerNano);
+    CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS, executor)
+        .execute(
+            () -> {
+              synchronized (this) {
+                refillScheduled = false;
+              }
+              dispatch();
+            });
+  }
+}
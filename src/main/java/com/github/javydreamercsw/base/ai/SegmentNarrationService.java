@@ -73,8 +73,8 @@ public interface SegmentNarrationService {
    * Narrates a segment asynchronously, freeing the calling thread immediately.
    *
    * <p>Default implementation delegates to {@link #narrateSegment(SegmentNarrationContext)} via
-   * {@code supplyAsync}. Concrete implementations annotated with {@code @Async} will execute on a
-   * managed thread pool instead.
+   * {@code supplyAsync}. {@link AbstractSegmentNarrationService} replaces it with a non-blocking
+   * pipeline; cancelling the returned future there cancels the provider call.
    *
    * @param segmentContext Complete segment context including all participants and details
    * @return a {@link java.util.concurrent.CompletableFuture} that resolves to the narration string
@@ -27,6 +27,7 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -76,48 +77,25 @@ public class ClaudeSegmentNarrationService extends AbstractSegmentNarrationServi
     return apiKey != null && !apiKey.trim().isEmpty();
   }
 
+  @Override
+  protected CompletableFuture<String> callAIProviderAsync(@NonNull final String prompt) {
+    HttpRequest request;
+    try {
+      request = buildRequest(prompt);
+    } catch (Exception e) {
+      return CompletableFuture.failedFuture(toServiceException(e));
+    }
+    return sendAsync(request, aiSettingsService.getAiTimeout(), this::handleResponse);
+  }
+
   /** Makes a call to the Claude API with the given prompt. */
   private String callClaude(@NonNull final String prompt) {
     try {
-      String fullApiUrl = aiSettingsService.getClaudeApiUrl();
-      String modelName = aiSettingsService.getClaudeModelName();
-      int timeout = aiSettingsService.getAiTimeout();
-
-      Map<String, Object> requestBody =
-          Map.of(
-              "model",
-              modelName,
-              "max_tokens",
-              4000,
-              "messages",
-              List.of(
-                  Map.of("role", "user", "content", getSystemMessage(prompt) + "\n\n" + prompt)));
-
-      String jsonBody = objectMapper.writeValueAsString(requestBody);
-
-      HttpRequest request =
-          HttpRequest.newBuilder()
-              .uri(URI.create(fullApiUrl))
-              .header("Content-Type", "application/json")
-              .header("x-api-key", aiSettingsService.getClaudeApiKey())
-              .header("anthropic-version", "2023-06-01")
-              .timeout(Duration.ofSeconds(timeout))
-              .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-              .build();
-
+      HttpRequest request = buildRequest(prompt);
       HttpResponse<String> response =
-          getHttpClient(timeout).send(request, HttpResponse.BodyHandlers.ofString());
-
-      if (response.statusCode() == 200) {
-        return extractContentFromResponse(response.body());
-      } else {
-        throw new AIServiceException(
-            response.statusCode(),
-            "Claude API Error",
-            getProviderName(),
-            "Claude API returned an error: " + response.body());
-      }
-
+          getHttpClient(aiSettingsService.getAiTimeout())
+              .send(request, HttpResponse.BodyHandlers.ofString());
+      return handleResponse(response);
     } catch (Exception e) {
       log.error("Failed to call Claude API for segment narration", e);
       if (e instanceof java.net.http.HttpTimeoutException) {
@@ -128,6 +106,44 @@ public class ClaudeSegmentNarrationService extends AbstractSegmentNarrationServi
     }
   }
 
+  /** Builds the Claude messages request for the given prompt. */
+  private HttpRequest buildRequest(@NonNull final String prompt) throws Exception {
+    String fullApiUrl = aiSettingsService.getClaudeApiUrl();
+    String modelName = aiSettingsService.getClaudeModelName();
+    int timeout = aiSettingsService.getAiTimeout();
+
+    Map<String, Object> requestBody =
+        Map.of(
+            "model",
+            modelName,
+            "max_tokens",
+            4000,
+            "messages",
+            List.of(Map.of("role", "user", "content", getSystemMessage(prompt) + "\n\n" + prompt)));
+
+    String jsonBody = objectMapper.writeValueAsString(requestBody);
+
+    return HttpRequest.newBuilder()
+        .uri(URI.create(fullApiUrl))
+        .header("Content-Type", "application/json")
+        .header("x-api-key", aiSettingsService.getClaudeApiKey())
+        .header("anthropic-version", "2023-06-01")
+        .timeout(Duration.ofSeconds(timeout))
+        .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
+        .build();
+  }
+
+  private String handleResponse(@NonNull final HttpResponse<String> response) {
+    if (response.statusCode() == 200) {
+      return extractContentFromResponse(response.body());
+    }
+    throw new AIServiceException(
+        response.statusCode(),
+        "Claude API Error",
+        getProviderName(),
+        "Claude API returned an error: " + response.body());
+  }
+
   /** Extracts the content from Claude API response. */
   private String extractContentFromResponse(@NonNull final String responseBody) {
     try {
@@ -27,6 +27,7 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -76,103 +77,26 @@ public class GeminiSegmentNarrationService extends AbstractSegmentNarrationServi
     return apiKey != null && !apiKey.trim().isEmpty();
   }
 
+  @Override
+  protected CompletableFuture<String> callAIProviderAsync(@NonNull final String prompt) {
+    HttpRequest request;
+    try {
+      request = buildRequest(prompt);
+    } catch (Exception e) {
+      return CompletableFuture.failedFuture(toServiceException(e));
+    }
+    return sendAsync(request, aiSettingsService.getAiTimeout(), this::handleResponse);
+  }
+
   /** Makes a call to the Gemini API with the given prompt. */
   private String callGemini(@NonNull final String prompt) {
     try {
-      String modelName = aiSettingsService.getGeminiModelName();
-      String apiUrl = aiSettingsService.getGeminiApiUrl();
-      String fullApiUrl = apiUrl + modelName + ":generateContent";
-
-      String apiKey = aiSettingsService.getGeminiApiKey();
-      if (apiKey != null) {
-        apiKey = apiKey.trim();
-      }
-
-      // Logging for troubleshooting
-      int keyLen = apiKey != null ? apiKey.length() : 0;
-      String keyStart = keyLen > 4 ? apiKey.substring(0, 4) : "***";
-      String keyEnd = keyLen > 4 ? apiKey.substring(keyLen - 4) : "***";
-
-      log.debug(
-          "Gemini Request - URL: {}, Model: {}, Key Length: {}, Key: {}...{}",
-          fullApiUrl,
-          modelName,
-          keyLen,
-          keyStart,
-          keyEnd);
-
-      String url = fullApiUrl + "?key=" + apiKey;
-
-      // Create request body for Gemini API
-      Map<String, Object> requestBody =
-          Map.of(
-              "contents",
-              List.of(
-                  Map.of(
-                      "parts",
-                      List.of(Map.of("text", getSystemMessage(prompt) + "\n\n" + prompt)))),
-              "generationConfig",
-              Map.of(
-                  "temperature",
-                  0.8, // Higher creativity for storytelling
-                  "topK",
-                  40,
-                  "topP",
-                  0.95,
-                  "maxOutputTokens",
-                  16000, // Increased to accommodate both thoughts and long JSON responses
-                  "stopSequences",
-                  List.of()),
-              "safetySettings",
-              List.of(
-                  Map.of(
-                      "category",
-                      "HARM_CATEGORY_HARASSMENT",
-                      "threshold",
-                      "BLOCK_MEDIUM_AND_ABOVE"),
-                  Map.of(
-                      "category",
-                      "HARM_CATEGORY_HATE_SPEECH",
-                      "threshold",
-                      "BLOCK_MEDIUM_AND_ABOVE"),
-                  Map.of(
-                      "category",
-                      "HARM_CATEGORY_SEXUALLY_EXPLICIT",
-                      "threshold",
-                      "BLOCK_MEDIUM_AND_ABOVE"),
-                  Map.of(
-                      "category",
-                      "HARM_CATEGORY_DANGEROUS_CONTENT",
-                      "threshold",
-                      "BLOCK_MEDIUM_AND_ABOVE")));
-
-      String jsonBody = objectMapper.writeValueAsString(requestBody);
-      log.debug("Gemini Request Body: {}", jsonBody);
-
-      // Create HTTP request
-      HttpRequest request =
-          HttpRequest.newBuilder()
-              .uri(URI.create(url))
-              .header("Content-Type", "application/json")
-              .timeout(Duration.ofSeconds(aiSettingsService.getAiTimeout()))
-              .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-              .build();
+      HttpRequest request = buildRequest(prompt);
       // Send request and get response
       HttpResponse<String> response =
           getHttpClient(aiSettingsService.getAiTimeout())
               .send(request, HttpResponse.BodyHandlers.ofString());
-
-      log.debug("Gemini API Response Status: {}", response.statusCode());
-      log.trace("Gemini API Response Headers: {}", response.headers().map());
-
-      if (response.statusCode() == 200) {
-        return extractContentFromResponse(response.body());
-      } else {
-        // Throw custom exception for AI service errors
-        throw new AIServiceException(
-            response.statusCode(), "Gemini API Error", getProviderName(), response.body());
-      }
-
+      return handleResponse(response);
     } catch (Exception e) {
       log.error("Failed to call Gemini API for segment narration", e);
       if (e instanceof java.net.http.HttpTimeoutException) {
@@ -184,6 +108,99 @@ public class GeminiSegmentNarrationService extends AbstractSegmentNarrationServi
     }
   }
 
+  /** Builds the Gemini generateContent request for the given prompt. */
+  private HttpRequest buildRequest(@NonNull final String prompt) throws Exception {
+    String modelName = aiSettingsService.getGeminiModelName();
+    String apiUrl = aiSettingsService.getGeminiApiUrl();
+    String fullApiUrl = apiUrl + modelName + ":generateContent";
+
+    String apiKey = aiSettingsService.getGeminiApiKey();
+    if (apiKey != null) {
+      apiKey = apiKey.trim();
+    }
+
+    // Logging for troubleshooting
+    int keyLen = apiKey != null ? apiKey.length() : 0;
+    String keyStart = keyLen > 4 ? apiKey.substring(0, 4) : "***";
+    String keyEnd = keyLen > 4 ? apiKey.substring(keyLen - 4) : "***";
+
+    log.debug(
+        "Gemini Request - URL: {}, Model: {}, Key Length: {}, Key: {}...{}",
+        fullApiUrl,
+        modelName,
+        keyLen,
+        keyStart,
+        keyEnd);
+
+    String url = fullApiUrl + "?key=" + apiKey;
+
+    // Create request body for Gemini API
+    Map<String, Object> requestBody =
+        Map.of(
+            "contents",
+            List.of(
+                Map.of(
+                    "parts",
+                    List.of(Map.of("text", getSystemMessage(prompt) + "\n\n" + prompt)))),
+            "generationConfig",
+            Map.of(
+                "temperature",
+                0.8, // Higher creativity for storytelling
+                "topK",
+                40,
+                "topP",
+                0.95,
+                "maxOutputTokens",
+                16000, // Increased to accommodate both thoughts and long JSON responses
+                "stopSequences",
+                List.of()),
+            "safetySettings",
+            List.of(
+                Map.of(
+                    "category",
+                    "HARM_CATEGORY_HARASSMENT",
+                    "threshold",
+                    "BLOCK_MEDIUM_AND_ABOVE"),
+                Map.of(
+                    "category",
+                    "HARM_CATEGORY_HATE_SPEECH",
+                    "threshold",
+                    "BLOCK_MEDIUM_AND_ABOVE"),
+                Map.of(
+                    "category",
+                    "HARM_CATEGORY_SEXUALLY_EXPLICIT",
+                    "threshold",
+                    "BLOCK_MEDIUM_AND_ABOVE"),
+                Map.of(
+                    "category",
+                    "HARM_CATEGORY_DANGEROUS_CONTENT",
+                    "threshold",
+                    "BLOCK_MEDIUM_AND_ABOVE")));
+
+    String jsonBody = objectMapper.writeValueAsString(requestBody);
+    log.debug("Gemini Request Body: {}", jsonBody);
+
+    // Create HTTP request
+    return HttpRequest.newBuilder()
+        .uri(URI.create(url))
+        .header("Content-Type", "application/json")
+        .timeout(Duration.ofSeconds(aiSettingsService.getAiTimeout()))
+        .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
+        .build();
+  }
+
+  private String handleResponse(@NonNull final HttpResponse<String> response) {
+    log.debug("Gemini API Response Status: {}", response.statusCode());
+    log.trace("Gemini API Response Headers: {}", response.headers().map());
+
+    if (response.statusCode() == 200) {
+      return extractContentFromResponse(response.body());
+    }
+    // Throw custom exception for AI service errors
+    throw new AIServiceException(
+        response.statusCode(), "Gemini API Error", getProviderName(), response.body());
+  }
+
   /** Extracts the content from Gemini API response. */
   private String extractContentFromResponse(@NonNull final String responseBody) {
     try {
@@ -0,0 +1,68 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.base.ai.image;
+
+import com.github.javydreamercsw.base.security.GeneralSecurityUtils;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs {@link ImageCleanupService#cleanupIncrementally(Duration)} on {@code
+ * atw.images.cleanup.cron} (hourly by default), each run limited to {@code
+ * atw.images.cleanup.time-budget-seconds}, so a large directory is cleaned up over several short
+ * runs instead of one blocking pass.
+ *
+ * <p>Unless {@code atw.images.cleanup.scheduled-dry-run} is switched off, the runs only log what
+ * they would delete; deleting is left to an admin from the Admin view.
+ */
+@Component
+@ConditionalOnProperty(
+    name = "atw.images.cleanup.scheduled",
+    havingValue = "true",
+    matchIfMissing = true)
+@Slf4j
+public class ImageCleanupScheduler {
+
+  private final ImageCleanupService imageCleanupService;
+  private final Duration timeBudget;
+  private final boolean dryRun;
+
+  public ImageCleanupScheduler(
+      final ImageCleanupService imageCleanupService,
+      @Value("${atw.images.cleanup.time-budget-seconds:30}") final long timeBudgetSeconds,
+      @Value("${atw.images.cleanup.scheduled-dry-run:true}") final boolean dryRun) {
+    this.imageCleanupService = imageCleanupService;
+    this.timeBudget = Duration.ofSeconds(timeBudgetSeconds);
+    this.dryRun = dryRun;
+  }
+
+  @Scheduled(cron = "${atw.images.cleanup.cron:0 15 * * * *}")
+  public void runCleanup() {
+    GeneralSecurityUtils.runAsAdmin(
+        () -> {
+          try {
+            imageCleanupService.cleanupIncrementally(timeBudget, dryRun);
+          } catch (Exception e) {
+            log.error("Error during scheduled image cleanup", e);
+          }
+        });
+  }
+}
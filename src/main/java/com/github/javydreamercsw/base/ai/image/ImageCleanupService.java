@@ -17,106 +17,286 @@
 package com.github.javydreamercsw.base.ai.image;
 
 import com.github.javydreamercsw.base.config.StorageProperties;
-import com.github.javydreamercsw.management.domain.npc.Npc;
-import com.github.javydreamercsw.management.domain.npc.NpcRepository;
-import com.github.javydreamercsw.management.domain.show.template.ShowTemplate;
-import com.github.javydreamercsw.management.domain.show.template.ShowTemplateRepository;
-import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
-import com.github.javydreamercsw.management.domain.wrestler.WrestlerRepository;
+import com.github.javydreamercsw.base.domain.ImageReferencingRepository;
 import java.io.IOException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Deletes generated images that no entity references any more.
+ *
+ * <p>The generated-images directory is walked in file name order, a window of names at a time, so
+ * memory stays bounded however many files there are. Each batch of names is checked against every
+ * {@link ImageReferencingRepository} with one projection query, and only the unreferenced files
+ * are deleted. Files younger than {@code atw.images.cleanup.min-age-minutes} are kept, since a
+ * freshly generated image may not have been assigned to its entity yet.
+ *
+ * <p>A run can be a dry run, which only reports what would go, and can be given a time budget. The
+ * scheduled, incremental run remembers where it stopped and picks up from there next time.
+ */
 @Service
 @Slf4j
-@Transactional
 public class ImageCleanupService {
 
   private static final String PUBLIC_PATH_PREFIX = "images/generated/";
+  private static final int SAMPLE_SIZE = 20;
+  private static final int BATCHES_PER_WINDOW = 10;
 
-  private final WrestlerRepository wrestlerRepository;
-  private final NpcRepository npcRepository;
-  private final ShowTemplateRepository showTemplateRepository;
+  /**
+   * Outcome of one cleanup run.
+   *
+   * @param scanned Files checked against the database
+   * @param unused Files no entity references (deleted unless this was a dry run)
+   * @param deleted Files actually deleted
+   * @param bytes Size of the unused files
+   * @param complete Whether the run reached the end of the directory
+   * @param dryRun Whether files were only reported
+   * @param sample The first few unused file names
+   */
+  public record CleanupReport(
+      int scanned,
+      int unused,
+      int deleted,
+      long bytes,
+      boolean complete,
+      boolean dryRun,
+      List<String> sample) {}
+
+  private final List<ImageReferencingRepository<?, ?>> repositories;
   private final StorageProperties storageProperties;
+  private final int batchSize;
+  private final Duration minAge;
+  private final Clock clock;
+
+  /** File name the next incremental run starts after; empty to start from the beginning. */
+  private String cursor = "";
 
   @Autowired
   public ImageCleanupService(
-      final WrestlerRepository wrestlerRepository,
-      final NpcRepository npcRepository,
-      final ShowTemplateRepository showTemplateRepository,
-      final StorageProperties storageProperties) {
-    this.wrestlerRepository = wrestlerRepository;
-    this.npcRepository = npcRepository;
-    this.showTemplateRepository = showTemplateRepository;
+      @NonNull final List<ImageReferencingRepository<?, ?>> repositories,
+      @NonNull final StorageProperties storageProperties,
+      @Value("${atw.images.cleanup.batch-size:500}") final int batchSize,
+      @Value("${atw.images.cleanup.min-age-minutes:60}") final long minAgeMinutes) {
+    this(
+        repositories,
+        storageProperties,
+        batchSize,
+        Duration.ofMinutes(minAgeMinutes),
+        Clock.systemUTC());
+  }
+
+  ImageCleanupService(
+      @NonNull final List<ImageReferencingRepository<?, ?>> repositories,
+      @NonNull final StorageProperties storageProperties,
+      final int batchSize,
+      @NonNull final Duration minAge,
+      @NonNull final Clock clock) {
+    this.repositories = List.copyOf(repositories);
     this.storageProperties = storageProperties;
+    this.batchSize = Math.max(1, batchSize);
+    this.minAge = minAge;
+    this.clock = clock;
   }
 
   /**
-   * Identifies and deletes generated images that are no longer referenced by any Wrestler, NPC or
-   * Show Template.
+   * Identifies and deletes generated images that are no longer referenced by any entity, walking
+   * the whole directory.
    *
    * @return The number of deleted images.
    * @throws IOException If file operations fail.
    */
   @PreAuthorize("hasAuthority('ROLE_ADMIN')")
   public int cleanupUnusedImages() throws IOException {
+    return cleanup(false, null).deleted();
+  }
+
+  /**
+   * Walks the whole directory from the start.
+   *
+   * @param dryRun Only report unused images, do not delete them
+   * @param timeBudget Stop after the batch that exceeds this budget; {@code null} for no limit
+   * @return What was found and deleted
+   * @throws IOException If the directory cannot be read
+   */
+  @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+  public CleanupReport cleanup(final boolean dryRun, final Duration timeBudget)
+      throws IOException {
+    return run("", dryRun, timeBudget).report();
+  }
+
+  /**
+   * Continues from where the previous incremental run stopped, for at most {@code timeBudget}.
+   * Once the end of the directory is reached the next run starts over.
+   *
+   * @param timeBudget Stop after the batch that exceeds this budget
+   * @return What was found and deleted
+   * @throws IOException If the directory cannot be read
+   */
+  @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+  public CleanupReport cleanupIncrementally(@NonNull final Duration timeBudget)
+      throws IOException {
+    return cleanupIncrementally(timeBudget, false);
+  }
+
+  /**
+   * Same as {@link #cleanupIncrementally(Duration)}, optionally only reporting what would be
+   * deleted.
+   *
+   * @param timeBudget Stop after the batch that exceeds this budget
+   * @param dryRun Only report unused images, do not delete them
+   * @return What was found and deleted
+   * @throws IOException If the directory cannot be read
+   */
+  @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+  public synchronized CleanupReport cleanupIncrementally(
+      @NonNull final Duration timeBudget, final boolean dryRun) throws IOException {
+    Run run = run(cursor, dryRun, timeBudget);
+    cursor = run.resumeAfter();
+    return run.report();
+  }
+
+  /** A finished run and the file name the next one should start after. */
+  private record Run(CleanupReport report, String resumeAfter) {}
+
+  private Run run(final String from, final boolean dryRun, final Duration timeBudget)
+      throws IOException {
     Path directory = storageProperties.getResolvedImageDir();
-    if (!Files.exists(directory)) {
+    if (!Files.isDirectory(directory)) {
       log.info("Image directory does not exist: {}", directory);
-      return 0;
+      return new Run(new CleanupReport(0, 0, 0, 0, true, dryRun, List.of()), "");
     }
-
-    // 1. Get all referenced image paths from DB
-    Set<String> referencedImages = new HashSet<>();
-
-    List<Wrestler> wrestlers = wrestlerRepository.findAll();
-    for (Wrestler w : wrestlers) {
-      if (w.getImageUrl() != null && w.getImageUrl().startsWith(PUBLIC_PATH_PREFIX)) {
-        referencedImages.add(w.getImageUrl().substring(PUBLIC_PATH_PREFIX.length()));
+    Instant deadline = timeBudget == null ? null : clock.instant().plus(timeBudget);
+    Instant youngest = clock.instant().minus(minAge);
+    Tally tally = new Tally(dryRun);
+    String last = from;
+    boolean complete = false;
+    outer:
+    while (true) {
+      List<String> window = nextWindow(directory, last, batchSize * BATCHES_PER_WINDOW);
+      if (window.isEmpty()) {
+        complete = true;
+        break;
       }
-    }
-
-    List<Npc> npcs = npcRepository.findAll();
-    for (Npc n : npcs) {
-      if (n.getImageUrl() != null && n.getImageUrl().startsWith(PUBLIC_PATH_PREFIX)) {
-        referencedImages.add(n.getImageUrl().substring(PUBLIC_PATH_PREFIX.length()));
+      for (int start = 0; start < window.size(); start += batchSize) {
+        List<String> batch = window.subList(start, Math.min(window.size(), start + batchSize));
+        sweep(directory, batch, youngest, tally);
+        last = batch.getLast();
+        if (deadline != null && clock.instant().isAfter(deadline)) {
+          break outer;
+        }
       }
     }
+    log.info(
+        "Image cleanup {}: scanned {}, unused {} ({} bytes), deleted {}{}",
+        dryRun ? "dry run" : "run",
+        tally.scanned,
+        tally.unused,
+        tally.bytes,
+        tally.deleted,
+        complete ? "" : ", stopped after " + last);
+    CleanupReport report =
+        new CleanupReport(
+            tally.scanned,
+            tally.unused,
+            tally.deleted,
+            tally.bytes,
+            complete,
+            dryRun,
+            List.copyOf(tally.sample));
+    return new Run(report, complete ? "" : last);
+  }
 
-    List<ShowTemplate> showTemplates = showTemplateRepository.findAll();
-    for (ShowTemplate st : showTemplates) {
-      if (st.getImageUrl() != null && st.getImageUrl().startsWith(PUBLIC_PATH_PREFIX)) {
-        referencedImages.add(st.getImageUrl().substring(PUBLIC_PATH_PREFIX.length()));
+  /** The {@code size} smallest file names after {@code after}, in order, in one directory pass. */
+  private static List<String> nextWindow(final Path directory, final String after, final int size)
+      throws IOException {
+    PriorityQueue<String> largestFirst = new PriorityQueue<>(size, Collections.reverseOrder());
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+      for (Path file : files) {
+        String name = file.getFileName().toString();
+        if (name.compareTo(after) <= 0) {
+          continue;
+        }
+        if (largestFirst.size() < size) {
+          largestFirst.add(name);
+        } else if (name.compareTo(largestFirst.peek()) < 0) {
+          largestFirst.poll();
+          largestFirst.add(name);
+        }
       }
     }
+    List<String> window = new ArrayList<>(largestFirst);
+    Collections.sort(window);
+    return window;
+  }
 
-    // 2. List all files in the directory
-    int deletedCount = 0;
-    try (Stream<Path> files = Files.list(directory)) {
-      List<Path> filesToDelete =
-          files
-              .filter(Files::isRegularFile)
-              .filter(path -> !referencedImages.contains(path.getFileName().toString()))
-              .collect(Collectors.toList());
-
-      for (Path path : filesToDelete) {
-        log.info("Deleting unused generated image: {}", path);
-        Files.delete(path);
-        deletedCount++;
+  private void sweep(
+      final Path directory, final List<String> names, final Instant youngest, final Tally tally) {
+    List<String> urls = names.stream().map(name -> PUBLIC_PATH_PREFIX + name).toList();
+    Set<String> referenced = new HashSet<>();
+    for (ImageReferencingRepository<?, ?> repository : repositories) {
+      referenced.addAll(repository.findReferencedImageUrls(urls));
+    }
+    for (String name : names) {
+      tally.scanned++;
+      if (referenced.contains(PUBLIC_PATH_PREFIX + name)) {
+        continue;
+      }
+      Path file = directory.resolve(name);
+      try {
+        BasicFileAttributes attributes =
+            Files.readAttributes(file, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        if (!attributes.isRegularFile()
+            || attributes.lastModifiedTime().toInstant().isAfter(youngest)) {
+          continue;
+        }
+        tally.unused++;
+        tally.bytes += attributes.size();
+        if (tally.sample.size() < SAMPLE_SIZE) {
+          tally.sample.add(name);
+        }
+        if (!tally.dryRun) {
+          Files.delete(file);
+          tally.deleted++;
+          log.debug("Deleted unused generated image: {}", file);
+        }
+      } catch (NoSuchFileException e) {
+        // Removed by someone else in the meantime.
+      } catch (IOException e) {
+        log.warn("Failed to delete unused generated image {}: {}", file, e.getMessage());
       }
     }
+  }
 
-    log.info("Cleanup complete. Deleted {} unused images.", deletedCount);
-    return deletedCount;
+  /** Running totals of one cleanup run. */
+  private static final class Tally {
+    private final boolean dryRun;
+    private final List<String> sample = new ArrayList<>();
+    private int scanned;
+    private int unused;
+    private int deleted;
+    private long bytes;
+
+    private Tally(final boolean dryRun) {
+      this.dryRun = dryRun;
+    }
   }
 }
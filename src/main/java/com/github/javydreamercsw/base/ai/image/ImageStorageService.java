@@ -17,6 +17,7 @@
 package com.github.javydreamercsw.base.ai.image;
 
 import com.github.javydreamercsw.base.config.StorageProperties;
+import com.github.javydreamercsw.base.image.ImageIndex;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -39,12 +40,15 @@ import org.springframework.stereotype.Service;
 public class ImageStorageService {
 
   private final StorageProperties storageProperties;
+  private final ImageIndex imageIndex;
 
   private static final String PUBLIC_PATH = "images/generated/";
 
   @Autowired
-  public ImageStorageService(final StorageProperties storageProperties) {
+  public ImageStorageService(
+      final StorageProperties storageProperties, final ImageIndex imageIndex) {
     this.storageProperties = storageProperties;
+    this.imageIndex = imageIndex;
   }
 
   /**
@@ -68,6 +72,7 @@ public class ImageStorageService {
     } else {
       downloadImage(imageData, sourceFilePath);
     }
+    imageIndex.add(sourceFilePath);
 
     log.info("Saved generated image to: {}", sourceFilePath);
 
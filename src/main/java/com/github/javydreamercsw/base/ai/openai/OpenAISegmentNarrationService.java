@@ -26,6 +26,7 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -92,6 +93,17 @@ public class OpenAISegmentNarrationService extends AbstractSegmentNarrationServi
         : aiSettingsService.getOpenAIDefaultModel();
   }
 
+  @Override
+  protected CompletableFuture<String> callAIProviderAsync(@NonNull final String prompt) {
+    HttpRequest request;
+    try {
+      request = buildRequest(prompt);
+    } catch (Exception e) {
+      return CompletableFuture.failedFuture(toServiceException(e));
+    }
+    return sendAsync(request, aiSettingsService.getAiTimeout(), this::handleResponse);
+  }
+
   /** Makes a call to the OpenAI API with the given prompt. */
   private String callOpenAI(@NonNull final String prompt) {
     if (!isAvailable()) {
@@ -103,53 +115,11 @@ public class OpenAISegmentNarrationService extends AbstractSegmentNarrationServi
     }
 
     try {
-      // Create request body for OpenAI Chat Completions API
-      Map<String, Object> requestBody =
-          Map.of(
-              "model",
-              getModel(),
-              "messages",
-              List.of(
-                  Map.of("role", "system", "content", getSystemMessage(prompt)),
-                  Map.of("role", "user", "content", prompt)),
-              "max_tokens",
-              aiSettingsService.getOpenAIMaxTokens(),
-              "temperature",
-              0.8, // Good balance for creative storytelling
-              "top_p",
-              0.95,
-              "frequency_penalty",
-              0.1, // Slight penalty to avoid repetition
-              "presence_penalty",
-              0.1 // Encourage diverse vocabulary
-              );
-
-      String jsonBody = objectMapper.writeValueAsString(requestBody);
-
-      // Create HTTP request
-      HttpRequest request =
-          HttpRequest.newBuilder()
-              .uri(URI.create(aiSettingsService.getOpenAIApiUrl()))
-              .header("Content-Type", "application/json")
-              .header("Authorization", "Bearer " + aiSettingsService.getOpenAIApiKey())
-              .timeout(Duration.ofSeconds(aiSettingsService.getAiTimeout()))
-              .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-              .build();
-
+      HttpRequest request = buildRequest(prompt);
       HttpResponse<String> response =
           getHttpClient(aiSettingsService.getAiTimeout())
               .send(request, HttpResponse.BodyHandlers.ofString());
-
-      if (response.statusCode() == 200) {
-        return extractContentFromResponse(response.body());
-      } else {
-        throw new com.github.javydreamercsw.base.ai.AIServiceException(
-            response.statusCode(),
-            "OpenAI API Error",
-            getProviderName(),
-            "OpenAI API returned an error: " + response.body());
-      }
-
+      return handleResponse(response);
     } catch (Exception e) {
       log.error("Failed to call OpenAI API for segment narration", e);
       if (e instanceof java.net.http.HttpTimeoutException) {
@@ -161,6 +131,52 @@ public class OpenAISegmentNarrationService extends AbstractSegmentNarrationServi
     }
   }
 
+  /** Builds the Chat Completions request for the given prompt. */
+  private HttpRequest buildRequest(@NonNull final String prompt) throws Exception {
+    // Create request body for OpenAI Chat Completions API
+    Map<String, Object> requestBody =
+        Map.of(
+            "model",
+            getModel(),
+            "messages",
+            List.of(
+                Map.of("role", "system", "content", getSystemMessage(prompt)),
+                Map.of("role", "user", "content", prompt)),
+            "max_tokens",
+            aiSettingsService.getOpenAIMaxTokens(),
+            "temperature",
+            0.8, // Good balance for creative storytelling
+            "top_p",
+            0.95,
+            "frequency_penalty",
+            0.1, // Slight penalty to avoid repetition
+            "presence_penalty",
+            0.1 // Encourage diverse vocabulary
+            );
+
+    String jsonBody = objectMapper.writeValueAsString(requestBody);
+
+    // Create HTTP request
+    return HttpRequest.newBuilder()
+        .uri(URI.create(aiSettingsService.getOpenAIApiUrl()))
+        .header("Content-Type", "application/json")
+        .header("Authorization", "Bearer " + aiSettingsService.getOpenAIApiKey())
+        .timeout(Duration.ofSeconds(aiSettingsService.getAiTimeout()))
+        .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
+        .build();
+  }
+
+  private String handleResponse(@NonNull final HttpResponse<String> response) {
+    if (response.statusCode() == 200) {
+      return extractContentFromResponse(response.body());
+    }
+    throw new com.github.javydreamercsw.base.ai.AIServiceException(
+        response.statusCode(),
+        "OpenAI API Error",
+        getProviderName(),
+        "OpenAI API returned an error: " + response.body());
+  }
+
   /** Extracts the content from OpenAI API response. */
   private String extractContentFromResponse(@NonNull final String responseBody) {
     try {
@@ -50,6 +50,11 @@ public class StorageProperties {
   /** Directory for backups. If not absolute, it will be resolved relative to baseDir. */
   private String backupDir = "backups";
 
+  /**
+   * Directory for cached AI narrations. If not absolute, it will be resolved relative to baseDir.
+   */
+  private String narrationCacheDir = "cache/narration";
+
   /**
    * Resolves and returns the absolute path for image storage. Ensures the directory exists.
    *
@@ -77,6 +82,16 @@ public class StorageProperties {
     return resolveAndCreate(backupDir);
   }
 
+  /**
+   * Resolves and returns the absolute path for the AI narration cache. Ensures the directory
+   * exists.
+   *
+   * @return The absolute path to the narration cache directory.
+   */
+  public Path getResolvedNarrationCacheDir() {
+    return resolveAndCreate(narrationCacheDir);
+  }
+
   private Path resolveAndCreate(final String pathStr) {
     Path path = Paths.get(pathStr);
     if (!path.isAbsolute()) {
@@ -0,0 +1,45 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.base.domain;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RestResource;
+
+/**
+ * Repository of an entity with an {@code imageUrl} column. Lets image housekeeping ask which of a
+ * batch of image URLs are still in use without loading the entities themselves. Entities that keep
+ * their image URL under another name override {@link #findReferencedImageUrls(Collection)}.
+ *
+ * <p>Every entity with an image URL column must be covered: the scheduled cleanup deletes any
+ * generated image that none of these repositories reports as referenced.
+ *
+ * @param <T> The entity type
+ * @param <ID> The entity id type
+ */
+@NoRepositoryBean
+public interface ImageReferencingRepository<T, ID> extends Repository<T, ID> {
+
+  /** The subset of {@code imageUrls} referenced by at least one entity. */
+  @RestResource(exported = false)
+  @Query("SELECT DISTINCT e.imageUrl FROM #{#entityName} e WHERE e.imageUrl IN :imageUrls")
+  List<String> findReferencedImageUrls(@Param("imageUrls") Collection<String> imageUrls);
+}
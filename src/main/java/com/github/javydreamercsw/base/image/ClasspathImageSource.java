@@ -16,29 +16,32 @@
 */
 package com.github.javydreamercsw.base.image;
 
-import java.net.URL;
 import java.util.Optional;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-/** Image source that resolves images from the application's classpath. */
+/**
+ * Image source that resolves images from the application's classpath, as listed by the {@link
+ * ImageIndex}.
+ */
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class ClasspathImageSource implements ImageSource {
 
-  private static final String RESOURCE_PREFIX = "META-INF/resources/";
   private static final String IMAGES_BASE = "images/";
 
+  private final ImageIndex imageIndex;
+
   @Override
   public Optional<String> resolveImage(final String name, final ImageCategory category) {
     String subDir = category.getDirectoryName() + "/";
     String filename = category.formatName(name) + ".png";
     String webPath = IMAGES_BASE + subDir + filename;
-    String classpathPath = RESOURCE_PREFIX + webPath;
 
-    URL resource = getClass().getClassLoader().getResource(classpathPath);
-    if (resource != null) {
-      log.debug("Found image in classpath: {}", classpathPath);
+    if (imageIndex.isBundled(webPath)) {
+      log.debug("Found image in classpath: {}", webPath);
       return Optional.of(webPath);
     }
 
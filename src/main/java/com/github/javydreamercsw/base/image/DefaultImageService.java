@@ -16,24 +16,51 @@
 */
 package com.github.javydreamercsw.base.image;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-/** Service that orchestrates multiple {@link ImageSource}s to resolve images for entities. */
+/**
+ * Service that orchestrates multiple {@link ImageSource}s to resolve images for entities.
+ *
+ * <p>Resolutions are cached per category and name, fallbacks included, so a grid that renders the
+ * same roster again never walks the sources. The cache is dropped whenever the {@link ImageIndex}
+ * reports a change, which is what lets a newly added image replace a cached fallback.
+ */
 @Service
 @Slf4j
 public class DefaultImageService {
 
+  private static final int MAX_CACHED_RESOLUTIONS = 10_000;
+
+  private record Key(ImageCategory category, String name) {}
+
   private final List<ImageSource> sources;
+  private final LongSupplier indexVersion;
+  private final Cache<Key, ImageResolution> resolutions =
+      Caffeine.newBuilder().maximumSize(MAX_CACHED_RESOLUTIONS).build();
+  private volatile long cachedVersion;
 
-  @Autowired
   public DefaultImageService(final List<ImageSource> sources) {
+    this(sources, () -> 0L);
+  }
+
+  @Autowired
+  public DefaultImageService(final List<ImageSource> sources, final ImageIndex imageIndex) {
+    this(sources, imageIndex::getVersion);
+  }
+
+  private DefaultImageService(final List<ImageSource> sources, final LongSupplier indexVersion) {
     this.sources =
         sources.stream().sorted(Comparator.comparingInt(ImageSource::getPriority)).toList();
+    this.indexVersion = indexVersion;
+    this.cachedVersion = indexVersion.getAsLong();
     log.debug("Initialized DefaultImageService with {} sources", sources.size());
   }
 
@@ -45,6 +72,25 @@ public class DefaultImageService {
    * @return The resolution result (specific image or fallback).
    */
   public ImageResolution resolveImage(final String name, final ImageCategory category) {
+    long version = indexVersion.getAsLong();
+    if (version != cachedVersion) {
+      resolutions.invalidateAll();
+      cachedVersion = version;
+    }
+    Key key = new Key(category, name);
+    ImageResolution cached = resolutions.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    ImageResolution resolution = resolveFromSources(name, category);
+    // A resolution computed while the index changed may already be stale; do not keep it.
+    if (indexVersion.getAsLong() == version) {
+      resolutions.put(key, resolution);
+    }
+    return resolution;
+  }
+
+  private ImageResolution resolveFromSources(final String name, final ImageCategory category) {
     for (ImageSource source : sources) {
       Optional<String> path = source.resolveImage(name, category);
       if (path.isPresent()) {
@@ -16,32 +16,29 @@
 */
 package com.github.javydreamercsw.base.image;
 
-import com.github.javydreamercsw.base.config.StorageProperties;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-/** Image source that resolves images from a local filesystem directory. */
+/**
+ * Image source that resolves images from the default-image directory, as listed by the {@link
+ * ImageIndex}.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class FileSystemImageSource implements ImageSource {
 
-  private final StorageProperties storageProperties;
+  private final ImageIndex imageIndex;
 
   @Override
   public Optional<String> resolveImage(final String name, final ImageCategory category) {
-    Path baseDir = storageProperties.getResolvedDefaultImageDir();
-    String subDir = category.getDirectoryName();
-    String filename = category.formatName(name) + ".png";
-    Path imagePath = baseDir.resolve(subDir).resolve(filename);
+    String relativePath = category.getDirectoryName() + "/" + category.formatName(name) + ".png";
 
-    if (Files.exists(imagePath)) {
-      log.debug("Found image in filesystem: {}", imagePath);
-      return Optional.of("images/defaults/" + subDir + "/" + filename);
+    if (imageIndex.hasDefaultImage(relativePath)) {
+      log.debug("Found image in filesystem: {}", relativePath);
+      return Optional.of("images/defaults/" + relativePath);
     }
 
     return Optional.empty();
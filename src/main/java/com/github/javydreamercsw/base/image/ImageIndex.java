@@ -0,0 +1,368 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.base.image;
+
+import com.github.javydreamercsw.base.config.StorageProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory index of every image the application can serve, so resolving an image never touches
+ * the classpath or the filesystem.
+ *
+ * <p>Three sets are kept: the PNGs bundled under {@code META-INF/resources/images} (scanned once,
+ * they cannot change at runtime), the default/profile images under {@code
+ * atw.storage.default-image-dir} and the generated images under {@code atw.storage.image-dir}. The
+ * two directories are kept current by a {@link WatchService}, whose events can lag by seconds on
+ * polling implementations. Code writing an image therefore reports it through {@link #add(Path)}
+ * straight away, and {@link #refresh()} rescans both directories. Every change bumps {@link
+ * #getVersion()} so that caches built on top of the index know when to drop their entries.
+ *
+ * <p>The index loads itself on first use, so it also works when constructed outside Spring.
+ */
+@Component
+@Slf4j
+public class ImageIndex {
+
+  private static final String RESOURCE_ROOT = "META-INF/resources/";
+  private static final String MANIFEST_PATTERN = "classpath*:" + RESOURCE_ROOT + "images/**/*.png";
+
+  private final StorageProperties storageProperties;
+  private final boolean watch;
+  private final AtomicLong version = new AtomicLong();
+
+  private volatile boolean loaded;
+  private volatile Set<String> bundled = Set.of();
+  private volatile DirectoryIndex defaults;
+  private volatile DirectoryIndex generated;
+  private WatchService watchService;
+  private Thread watcher;
+
+  @Autowired
+  public ImageIndex(
+      @NonNull final StorageProperties storageProperties,
+      @Value("${atw.images.index.watch:true}") final boolean watch) {
+    this.storageProperties = storageProperties;
+    this.watch = watch;
+  }
+
+  @PostConstruct
+  public void start() {
+    ensureLoaded();
+    if (watch) {
+      startWatching();
+    }
+  }
+
+  @PreDestroy
+  public synchronized void stop() {
+    if (watchService != null) {
+      try {
+        watchService.close();
+      } catch (IOException e) {
+        log.debug("Failed to close image watch service: {}", e.getMessage());
+      }
+      watchService = null;
+    }
+    if (watcher != null) {
+      watcher.interrupt();
+      watcher = null;
+    }
+  }
+
+  /** Whether {@code webPath} (e.g. {@code images/wrestlers/John.png}) is a bundled resource. */
+  public boolean isBundled(@NonNull final String webPath) {
+    ensureLoaded();
+    return bundled.contains(webPath);
+  }
+
+  /** Whether {@code relativePath} (e.g. {@code wrestlers/John.png}) exists under the defaults. */
+  public boolean hasDefaultImage(@NonNull final String relativePath) {
+    ensureLoaded();
+    return defaults.contains(relativePath);
+  }
+
+  /** Whether a generated image called {@code fileName} exists. */
+  public boolean hasGeneratedImage(@NonNull final String fileName) {
+    ensureLoaded();
+    return generated.contains(fileName);
+  }
+
+  /** Relative paths of every default/profile image, sorted. */
+  public List<String> getDefaultImages() {
+    ensureLoaded();
+    return defaults.snapshot();
+  }
+
+  /** Incremented whenever the indexed content may have changed. */
+  public long getVersion() {
+    ensureLoaded();
+    return version.get();
+  }
+
+  /**
+   * Records a file just written under one of the image directories, without waiting for the
+   * watcher to report it. Files outside both directories are ignored.
+   */
+  public void add(@NonNull final Path file) {
+    ensureLoaded();
+    boolean covered = false;
+    for (DirectoryIndex index : List.of(defaults, generated)) {
+      if (index.covers(file)) {
+        index.add(file);
+        covered = true;
+      }
+    }
+    if (covered) {
+      version.incrementAndGet();
+    }
+  }
+
+  /** Rescans both image directories. The bundled images are left alone. */
+  public synchronized void refresh() {
+    if (!loaded) {
+      ensureLoaded();
+      return;
+    }
+    defaults.rescan();
+    generated.rescan();
+    version.incrementAndGet();
+  }
+
+  private void ensureLoaded() {
+    if (loaded) {
+      return;
+    }
+    synchronized (this) {
+      if (loaded) {
+        return;
+      }
+      long start = System.nanoTime();
+      bundled = scanClasspath();
+      defaults = new DirectoryIndex(storageProperties.getResolvedDefaultImageDir(), false);
+      generated = new DirectoryIndex(storageProperties.getResolvedImageDir(), true);
+      defaults.rescan();
+      generated.rescan();
+      version.incrementAndGet();
+      loaded = true;
+      log.info(
+          "Indexed {} bundled, {} default and {} generated images in {} ms",
+          bundled.size(),
+          defaults.size(),
+          generated.size(),
+          (System.nanoTime() - start) / 1_000_000);
+    }
+  }
+
+  private static Set<String> scanClasspath() {
+    PathMatchingResourcePatternResolver resolver =
+        new PathMatchingResourcePatternResolver(ImageIndex.class.getClassLoader());
+    Set<String> paths = new HashSet<>();
+    try {
+      for (Resource resource : resolver.getResources(MANIFEST_PATTERN)) {
+        String url = resource.getURL().toExternalForm();
+        int root = url.lastIndexOf(RESOURCE_ROOT);
+        if (root >= 0) {
+          String encoded = url.substring(root + RESOURCE_ROOT.length());
+          paths.add(URLDecoder.decode(encoded.replace("+", "%2B"), StandardCharsets.UTF_8));
+        }
+      }
+    } catch (IOException e) {
+      log.warn("Failed to scan bundled images: {}", e.getMessage());
+    }
+    return Set.copyOf(paths);
+  }
+
+  private synchronized void startWatching() {
+    if (watchService != null) {
+      return;
+    }
+    try {
+      watchService = FileSystems.getDefault().newWatchService();
+      register(generated.root);
+      for (Path dir : defaults.directories(defaults.root)) {
+        register(dir);
+      }
+    } catch (IOException | UncheckedIOException e) {
+      log.warn("Image directories will not be watched: {}", e.getMessage());
+      stop();
+      return;
+    }
+    WatchService service = watchService;
+    watcher =
+        Thread.ofPlatform().daemon().name("image-index-watcher").start(() -> watchLoop(service));
+  }
+
+  private void register(final Path dir) throws IOException {
+    dir.register(
+        watchService,
+        StandardWatchEventKinds.ENTRY_CREATE,
+        StandardWatchEventKinds.ENTRY_DELETE,
+        StandardWatchEventKinds.OVERFLOW);
+  }
+
+  private void watchLoop(final WatchService service) {
+    while (!Thread.currentThread().isInterrupted()) {
+      WatchKey key;
+      try {
+        key = service.take();
+      } catch (InterruptedException | ClosedWatchServiceException e) {
+        return;
+      }
+      Path dir = (Path) key.watchable();
+      for (WatchEvent<?> event : key.pollEvents()) {
+        apply(dir, event);
+      }
+      version.incrementAndGet();
+      key.reset();
+    }
+  }
+
+  private void apply(final Path dir, final WatchEvent<?> event) {
+    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+      log.debug("Image watch events overflowed for {}, rescanning", dir);
+      refresh();
+      return;
+    }
+    Path child = dir.resolve((Path) event.context());
+    for (DirectoryIndex index : List.of(defaults, generated)) {
+      if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+        index.remove(child);
+      } else if (Files.isDirectory(child) && !index.flat && index.covers(child)) {
+        // A new category folder: watch it, then pick up anything copied in before registration.
+        try {
+          synchronized (this) {
+            if (watchService != null) {
+              for (Path subDir : index.directories(child)) {
+                register(subDir);
+              }
+            }
+          }
+          index.addAll(child);
+        } catch (IOException | UncheckedIOException e) {
+          log.warn("Failed to watch new image directory {}: {}", child, e.getMessage());
+        }
+      } else if (Files.isRegularFile(child)) {
+        index.add(child);
+      }
+    }
+  }
+
+  /** The image files under one root, as {@code /}-separated paths relative to that root. */
+  private static final class DirectoryIndex {
+
+    private final Path root;
+    private final boolean flat;
+    private volatile Set<String> files = ConcurrentHashMap.newKeySet();
+
+    private DirectoryIndex(final Path root, final boolean flat) {
+      this.root = root == null ? null : root.toAbsolutePath().normalize();
+      this.flat = flat;
+    }
+
+    boolean contains(final String relativePath) {
+      return files.contains(relativePath);
+    }
+
+    int size() {
+      return files.size();
+    }
+
+    List<String> snapshot() {
+      return files.stream().sorted().toList();
+    }
+
+    void rescan() {
+      Set<String> fresh = ConcurrentHashMap.newKeySet();
+      if (root != null && Files.isDirectory(root)) {
+        try (Stream<Path> paths = Files.walk(root, flat ? 1 : Integer.MAX_VALUE)) {
+          paths.filter(Files::isRegularFile).map(this::relativize).forEach(fresh::add);
+        } catch (IOException | UncheckedIOException e) {
+          log.warn("Failed to scan image directory {}: {}", root, e.getMessage());
+        }
+      }
+      files = fresh;
+    }
+
+    void addAll(final Path dir) throws IOException {
+      try (Stream<Path> paths = Files.walk(dir)) {
+        paths.filter(Files::isRegularFile).forEach(this::add);
+      }
+    }
+
+    List<Path> directories(final Path from) throws IOException {
+      if (from == null || !Files.isDirectory(from)) {
+        return List.of();
+      }
+      try (Stream<Path> paths = Files.walk(from)) {
+        return paths.filter(Files::isDirectory).toList();
+      }
+    }
+
+    boolean covers(final Path path) {
+      Path normalized = path.toAbsolutePath().normalize();
+      return root != null
+          && normalized.startsWith(root)
+          && !normalized.equals(root)
+          && (!flat || root.relativize(normalized).getNameCount() == 1);
+    }
+
+    void add(final Path file) {
+      if (covers(file)) {
+        files.add(relativize(file));
+      }
+    }
+
+    void remove(final Path path) {
+      if (!covers(path)) {
+        return;
+      }
+      String relative = relativize(path);
+      files.remove(relative);
+      files.removeIf(f -> f.startsWith(relative + "/"));
+    }
+
+    private String relativize(final Path file) {
+      return root.relativize(file.toAbsolutePath().normalize()).toString().replace('\\', '/');
+    }
+  }
+}
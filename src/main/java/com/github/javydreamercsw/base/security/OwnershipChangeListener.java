@@ -0,0 +1,92 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.base.security;
+
+import com.github.javydreamercsw.base.domain.account.Account;
+import com.github.javydreamercsw.management.domain.universe.UniverseMembership;
+import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
+import com.github.javydreamercsw.management.event.OwnershipChangedEvent;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.util.HashSet;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Reports {@link Wrestler} writes that move a wrestler to another account, and every {@link
+ * UniverseMembership} write, as {@link OwnershipChangedEvent}s. The owning account as last stored
+ * is kept on the wrestler, so other wrestler updates are not reported.
+ *
+ * <p>Only entity lifecycle writes are seen: bulk JPQL or native updates of {@code wrestler.account}
+ * or of memberships bypass this listener and must publish the event themselves.
+ */
+public class OwnershipChangeListener {
+
+  @Autowired(required = false)
+  private ApplicationEventPublisher eventPublisher;
+
+  @PostLoad
+  void onLoad(final Object entity) {
+    if (entity instanceof Wrestler wrestler) {
+      wrestler.markAccountStored();
+    }
+  }
+
+  @PostPersist
+  @PostUpdate
+  void onWrite(final Object entity) {
+    if (entity instanceof Wrestler wrestler) {
+      Long previous = wrestler.markAccountStored();
+      Long current = accountId(wrestler.getAccount());
+      if (previous == null ? current != null : !previous.equals(current)) {
+        publish(previous, current);
+      }
+    } else if (entity instanceof UniverseMembership membership) {
+      publish(accountId(membership.getAccount()), null);
+    }
+  }
+
+  @PostRemove
+  void onRemove(final Object entity) {
+    if (entity instanceof Wrestler wrestler) {
+      publish(wrestler.markAccountStored(), null);
+    } else if (entity instanceof UniverseMembership membership) {
+      publish(accountId(membership.getAccount()), null);
+    }
+  }
+
+  private void publish(final Long first, final Long second) {
+    if (eventPublisher == null || (first == null && second == null)) {
+      return;
+    }
+    Set<Long> accountIds = new HashSet<>();
+    if (first != null) {
+      accountIds.add(first);
+    }
+    if (second != null) {
+      accountIds.add(second);
+    }
+    eventPublisher.publishEvent(new OwnershipChangedEvent(this, accountIds));
+  }
+
+  private static Long accountId(final Account account) {
+    return account == null ? null : account.getId();
+  }
+}
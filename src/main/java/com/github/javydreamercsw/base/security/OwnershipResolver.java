@@ -0,0 +1,168 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.base.security;
+
+import com.github.javydreamercsw.base.domain.account.Account;
+import com.github.javydreamercsw.base.domain.account.AccountRepository;
+import com.github.javydreamercsw.management.domain.universe.Universe;
+import com.github.javydreamercsw.management.domain.universe.UniverseMembership;
+import com.github.javydreamercsw.management.domain.universe.UniverseMembershipRepository;
+import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
+import com.github.javydreamercsw.management.domain.wrestler.WrestlerRepository;
+import com.github.javydreamercsw.management.event.OwnershipChangedEvent;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Resolves what an account owns for {@link PermissionService}: its account id, the ids of its
+ * wrestlers (which also own their decks, deck cards and campaigns) and, as they are asked for,
+ * the universes it owns.
+ *
+ * <p>Within a web request the result is kept as a request attribute, so every ownership check the
+ * request makes after the first is answered without a query. Outside a request each call loads
+ * afresh. An {@link OwnershipChangedEvent} drops the request's result for the accounts involved.
+ * {@link OwnershipChangeListener} raises it for entity writes only; a bulk JPQL or native update of
+ * wrestler accounts or memberships has to publish it itself.
+ */
+@Component
+@RequiredArgsConstructor
+public class OwnershipResolver {
+
+  private static final String ATTRIBUTE = OwnershipResolver.class.getName();
+
+  private final AccountRepository accountRepository;
+  private final WrestlerRepository wrestlerRepository;
+  private final UniverseMembershipRepository universeMembershipRepository;
+  private final AtomicLong loads = new AtomicLong();
+
+  /** What one account owned when it was resolved. */
+  public static final class Ownership {
+    private final Account account;
+    private final Set<Long> wrestlerIds;
+    private final Map<Long, Boolean> ownedUniverses = new HashMap<>();
+
+    Ownership(final Account account, final Set<Long> wrestlerIds) {
+      this.account = account;
+      this.wrestlerIds = wrestlerIds;
+    }
+
+    /** The account id, or {@code null} when the user has no account. */
+    public Long getAccountId() {
+      return account == null ? null : account.getId();
+    }
+
+    public boolean hasWrestlers() {
+      return !wrestlerIds.isEmpty();
+    }
+
+    public boolean ownsWrestler(final Long wrestlerId) {
+      return wrestlerId != null && wrestlerIds.contains(wrestlerId);
+    }
+  }
+
+  /** Ownership of {@code username}, from the current request when it has resolved it already. */
+  public Ownership resolve(@NonNull final String username) {
+    Map<String, Ownership> scoped = requestScope(true);
+    Ownership ownership = scoped == null ? null : scoped.get(username);
+    if (ownership == null) {
+      ownership = load(username);
+      // Not computeIfAbsent: the queries above may flush and report ownership changes.
+      if (scoped != null) {
+        scoped.put(username, ownership);
+      }
+    }
+    return ownership;
+  }
+
+  /** Whether the account holds the {@code OWNER} role in {@code universe}. */
+  public boolean ownsUniverse(
+      @NonNull final Ownership ownership, @NonNull final Universe universe) {
+    if (ownership.account == null) {
+      return false;
+    }
+    Long universeId = universe.getId();
+    Boolean owned = universeId == null ? null : ownership.ownedUniverses.get(universeId);
+    if (owned == null) {
+      owned =
+          universeMembershipRepository
+              .findByAccountAndUniverse(ownership.account, universe)
+              .map(m -> UniverseMembership.UniverseMemberRole.OWNER == m.getRole())
+              .orElse(false);
+      if (universeId != null) {
+        ownership.ownedUniverses.put(universeId, owned);
+      }
+    }
+    return owned;
+  }
+
+  @EventListener
+  public void onOwnershipChanged(@NonNull final OwnershipChangedEvent event) {
+    Map<String, Ownership> scoped = requestScope(false);
+    if (scoped != null) {
+      scoped
+          .values()
+          .removeIf(
+              o -> o.getAccountId() == null || event.getAccountIds().contains(o.getAccountId()));
+    }
+  }
+
+  /** Ownerships loaded from the database so far. */
+  public long getLoadCount() {
+    return loads.get();
+  }
+
+  private Ownership load(final String username) {
+    loads.incrementAndGet();
+    Account account = accountRepository.findByUsername(username).orElse(null);
+    Set<Long> wrestlerIds = new HashSet<>();
+    if (account != null) {
+      for (Wrestler wrestler : wrestlerRepository.findByAccount(account)) {
+        wrestlerIds.add(wrestler.getId());
+      }
+    }
+    return new Ownership(account, wrestlerIds);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Ownership> requestScope(final boolean create) {
+    RequestAttributes request = RequestContextHolder.getRequestAttributes();
+    if (request == null) {
+      return null;
+    }
+    try {
+      Map<String, Ownership> scoped =
+          (Map<String, Ownership>) request.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+      if (scoped == null && create) {
+        scoped = new HashMap<>();
+        request.setAttribute(ATTRIBUTE, scoped, RequestAttributes.SCOPE_REQUEST);
+      }
+      return scoped;
+    } catch (IllegalStateException e) {
+      // Attributes inherited from a request that has already completed.
+      return null;
+    }
+  }
+}
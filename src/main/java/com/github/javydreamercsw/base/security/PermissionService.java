@@ -16,21 +16,16 @@
 */
 package com.github.javydreamercsw.base.security;
 
-import com.github.javydreamercsw.base.domain.account.AccountRepository;
+import com.github.javydreamercsw.base.security.OwnershipResolver.Ownership;
 import com.github.javydreamercsw.management.domain.campaign.Campaign;
 import com.github.javydreamercsw.management.domain.deck.Deck;
 import com.github.javydreamercsw.management.domain.deck.DeckCard;
 import com.github.javydreamercsw.management.domain.deck.DeckRepository;
 import com.github.javydreamercsw.management.domain.inbox.InboxItem;
 import com.github.javydreamercsw.management.domain.universe.Universe;
-import com.github.javydreamercsw.management.domain.universe.UniverseMembership;
-import com.github.javydreamercsw.management.domain.universe.UniverseMembershipRepository;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
-import com.github.javydreamercsw.management.domain.wrestler.WrestlerRepository;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -43,6 +38,9 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * Service for checking object ownership and providing fine-grained access control. Used primarily
  * in SpEL expressions within @PreAuthorize annotations.
+ *
+ * <p>What the current user owns comes from {@link OwnershipResolver}, once per request; the
+ * elements of a collection are all checked against that one resolution.
  */
 @Service
 @Slf4j
@@ -50,10 +48,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class PermissionService {
 
-  private final WrestlerRepository wrestlerRepository;
-  private final AccountRepository accountRepository;
+  private final OwnershipResolver ownershipResolver;
   private final DeckRepository deckRepository;
-  private final UniverseMembershipRepository universeMembershipRepository;
 
   /**
    * Checks if the currently authenticated user owns the target domain object.
@@ -62,10 +58,39 @@ public class PermissionService {
    * @return True if the user is the owner, false otherwise.
    */
   public boolean isOwner(@NonNull final Object targetDomainObject) {
+    Ownership ownership = currentOwnership();
+    return ownership != null && isOwner(ownership, targetDomainObject);
+  }
+
+  /**
+   * Checks if the currently authenticated user owns the object with the specified ID and type.
+   *
+   * @param targetId The ID of the object.
+   * @param targetType The type of the object (e.g., "Wrestler", "Deck").
+   * @return True if the user is the owner, false otherwise.
+   */
+  public boolean isOwner(final Long targetId, final String targetType) {
+    if (targetId == null || targetType == null) {
+      return false;
+    }
+
+    if ("Wrestler".equals(targetType)) {
+      Ownership ownership = currentOwnership();
+      return ownership != null && ownership.ownsWrestler(targetId);
+    }
+
+    if ("Deck".equals(targetType)) {
+      return deckRepository.findById(targetId).map(this::isOwner).orElse(false);
+    }
+
+    return false;
+  }
+
+  private Ownership currentOwnership() {
     Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
     if (authentication == null) {
       log.warn("isOwner: Authentication is null");
-      return false;
+      return null;
     }
 
     Object principal = authentication.getPrincipal();
@@ -74,76 +99,59 @@ public class PermissionService {
       log.warn(
           "isOwner: Principal is not UserDetails: {}",
           principal != null ? principal.getClass().getName() : "null");
-      return false;
+      return null;
     }
 
     log.debug("isOwner: Checking ownership for user: {}", userDetails.getUsername());
 
-    Set<Long> ownedWrestlerIds = new HashSet<>();
-
-    // Always fetch from repo to handle integration tests with mock users
+    // Always resolved from the database to handle integration tests with mock users
     // where the transient ID in principal might not match the persistent ID in DB.
     // We prioritize the database as the source of truth for ownership.
-    accountRepository
-        .findByUsername(userDetails.getUsername())
-        .ifPresent(
-            account -> {
-              List<Wrestler> wrestlers = wrestlerRepository.findByAccount(account);
-              wrestlers.forEach(w -> ownedWrestlerIds.add(w.getId()));
-            });
+    return ownershipResolver.resolve(userDetails.getUsername());
+  }
+
+  private boolean isOwner(final Ownership ownership, final Object targetDomainObject) {
+    if (targetDomainObject instanceof Collection<?> collection) {
+      if (collection.isEmpty()) {
+        return false;
+      }
+      List<?> copy = new java.util.ArrayList<>(collection);
+      return copy.stream().allMatch(element -> element != null && isOwner(ownership, element));
+    }
 
     // InboxItem ownership can be established by account ID alone — don't short-circuit.
-    if (ownedWrestlerIds.isEmpty() && !(targetDomainObject instanceof InboxItem)) {
-      log.debug("isOwner: No wrestlers found in DB for user: {}", userDetails.getUsername());
+    if (!ownership.hasWrestlers() && !(targetDomainObject instanceof InboxItem)) {
+      log.debug("isOwner: No wrestlers found in DB for account: {}", ownership.getAccountId());
       return false;
     }
 
     if (targetDomainObject instanceof Wrestler targetWrestler) {
-      Long targetId = targetWrestler.getId();
-      return targetId != null && ownedWrestlerIds.contains(targetId);
+      return ownership.ownsWrestler(targetWrestler.getId());
     }
 
     if (targetDomainObject instanceof Deck deck) {
       Wrestler deckWrestler = deck.getWrestler();
-      if (deckWrestler == null) {
-        return false;
-      }
-      Long wrestlerId = deckWrestler.getId();
-      return wrestlerId != null && ownedWrestlerIds.contains(wrestlerId);
+      return deckWrestler != null && ownership.ownsWrestler(deckWrestler.getId());
     }
 
     if (targetDomainObject instanceof DeckCard deckCard) {
       Deck deck = deckCard.getDeck();
-      if (deck != null && deck.getWrestler() != null) {
-        Long wrestlerId = deck.getWrestler().getId();
-        return ownedWrestlerIds.contains(wrestlerId);
-      }
+      return deck != null
+          && deck.getWrestler() != null
+          && ownership.ownsWrestler(deck.getWrestler().getId());
     }
 
     if (targetDomainObject instanceof Campaign campaign) {
       Wrestler campaignWrestler = campaign.getWrestler();
-      if (campaignWrestler == null) {
-        return false;
-      }
-      Long wrestlerId = campaignWrestler.getId();
-      return wrestlerId != null && ownedWrestlerIds.contains(wrestlerId);
+      return campaignWrestler != null && ownership.ownsWrestler(campaignWrestler.getId());
     }
 
     if (targetDomainObject instanceof Universe universe) {
-      return accountRepository
-          .findByUsername(userDetails.getUsername())
-          .flatMap(
-              account -> universeMembershipRepository.findByAccountAndUniverse(account, universe))
-          .map(m -> UniverseMembership.UniverseMemberRole.OWNER == m.getRole())
-          .orElse(false);
+      return ownershipResolver.ownsUniverse(ownership, universe);
     }
 
     if (targetDomainObject instanceof InboxItem inboxItem) {
-      Long accountId =
-          accountRepository
-              .findByUsername(userDetails.getUsername())
-              .map(a -> a.getId())
-              .orElse(null);
+      Long accountId = ownership.getAccountId();
       return inboxItem.getTargets().stream()
           .anyMatch(
               target -> {
@@ -154,48 +162,17 @@ public class PermissionService {
                       == target.getTargetType()) {
                     return accountId != null && accountId.equals(targetIdLong);
                   }
-                  return ownedWrestlerIds.contains(targetIdLong);
+                  return ownership.ownsWrestler(targetIdLong);
                 } catch (NumberFormatException e) {
                   return false;
                 }
               });
     }
 
-    if (targetDomainObject instanceof Collection<?> collection) {
-      if (collection.isEmpty()) {
-        return false;
-      }
-      List<?> copy = new java.util.ArrayList<>(collection);
-      return copy.stream().allMatch(this::isOwner);
-    }
-
     log.warn(
         "isOwner: Unsupported target domain object: {} (Class: {})",
         targetDomainObject,
         targetDomainObject.getClass().getName());
     return false;
   }
-
-  /**
-   * Checks if the currently authenticated user owns the object with the specified ID and type.
-   *
-   * @param targetId The ID of the object.
-   * @param targetType The type of the object (e.g., "Wrestler", "Deck").
-   * @return True if the user is the owner, false otherwise.
-   */
-  public boolean isOwner(final Long targetId, final String targetType) {
-    if (targetId == null || targetType == null) {
-      return false;
-    }
-
-    if ("Wrestler".equals(targetType)) {
-      return wrestlerRepository.findById(targetId).map(this::isOwner).orElse(false);
-    }
-
-    if ("Deck".equals(targetType)) {
-      return deckRepository.findById(targetId).map(this::isOwner).orElse(false);
-    }
-
-    return false;
-  }
 }
@@ -16,15 +16,23 @@
 */
 package com.github.javydreamercsw.base.service.db;
 
+import com.github.javydreamercsw.base.service.db.ParallelTableMigrator.TableStep;
 import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.Driver;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import javax.sql.DataSource;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -34,20 +42,51 @@ import org.springframework.core.env.Environment;
 import org.springframework.jdbc.datasource.SimpleDriverDataSource;
 import org.springframework.stereotype.Service;
 
+/**
+ * Copies all game data from one database into a freshly migrated target database.
+ *
+ * <p>Tables are copied by {@link ParallelTableMigrator}: tables that do not reference each other
+ * run concurrently on separate connections, source rows are streamed with {@code
+ * atw.migration.fetch-size}, and target rows are inserted and committed in chunks of {@code
+ * atw.migration.batch-size}, so there is no single run-long transaction.
+ */
 @Slf4j
 @Service
 public class DataMigrationService {
 
+  /**
+   * Dependencies the target foreign keys do not express, keyed by dependent table. {@code
+   * migrateInjuries} looks up the "Legacy Injury" type in the target, and {@code
+   * rebuildWrestlerRecords} aggregates the segments already copied there.
+   */
+  private static final Map<String, Set<String>> EXTRA_DEPENDENCIES =
+      Map.of(
+          "injury",
+          Set.of("injury_type"),
+          "wrestler_record",
+          Set.of("segment", "segment_participant", "segment_type", "wrestling_show"));
+
   private final Environment env;
   private final DataSource dataSource;
+  private final int parallelism;
+  private final int fetchSize;
+  private final int batchSize;
 
   @Autowired
   public DataMigrationService(final Environment env, final DataSource dataSource) {
     this.env = env;
     this.dataSource = dataSource;
+    int defaultParallelism = Math.min(4, Runtime.getRuntime().availableProcessors());
+    this.parallelism = intProperty("atw.migration.parallelism", defaultParallelism);
+    this.fetchSize = intProperty("atw.migration.fetch-size", 1_000);
+    this.batchSize = Math.max(1, intProperty("atw.migration.batch-size", 1_000));
+  }
+
+  private int intProperty(final String key, final int defaultValue) {
+    return env == null ? defaultValue : env.getProperty(key, Integer.class, defaultValue);
   }
 
-  public void migrateData(
+  public MigrationReport migrateData(
       final String sourceDbType,
       final String targetDbType,
       final String host,
@@ -56,6 +95,27 @@ public class DataMigrationService {
       final String user,
       final String password)
       throws SQLException {
+    return migrateData(
+        sourceDbType,
+        targetDbType,
+        host,
+        port,
+        database,
+        user,
+        password,
+        MigrationProgressListener.NONE);
+  }
+
+  public MigrationReport migrateData(
+      final String sourceDbType,
+      final String targetDbType,
+      final String host,
+      final Integer port,
+      final String database,
+      final String user,
+      final String password,
+      @NonNull final MigrationProgressListener listener)
+      throws SQLException {
     DatabaseManager sourceManager =
         new DatabaseManager() {
           @Override
@@ -96,10 +156,10 @@ public class DataMigrationService {
     DatabaseManager targetManager =
         DatabaseManagerFactory.getDatabaseManager(
             targetDbType, host, port, database, user, password);
-    migrateDataInternal(sourceManager, targetManager, password);
+    return migrateDataInternal(sourceManager, targetManager, password, listener);
   }
 
-  public void migrateData(
+  public MigrationReport migrateData(
       final String sourceDbType,
       final String sourceUrl,
       final String sourceUser,
@@ -109,13 +169,36 @@ public class DataMigrationService {
       final String targetUser,
       final String targetPassword)
       throws SQLException {
+    return migrateData(
+        sourceDbType,
+        sourceUrl,
+        sourceUser,
+        sourcePassword,
+        targetDbType,
+        targetUrl,
+        targetUser,
+        targetPassword,
+        MigrationProgressListener.NONE);
+  }
+
+  public MigrationReport migrateData(
+      final String sourceDbType,
+      final String sourceUrl,
+      final String sourceUser,
+      final String sourcePassword,
+      final String targetDbType,
+      final String targetUrl,
+      final String targetUser,
+      final String targetPassword,
+      @NonNull final MigrationProgressListener listener)
+      throws SQLException {
     DatabaseManager sourceManager =
         DatabaseManagerFactory.getDatabaseManager(
             sourceDbType, sourceUrl, sourceUser, sourcePassword);
     DatabaseManager targetManager =
         DatabaseManagerFactory.getDatabaseManager(
             targetDbType, targetUrl, targetUser, targetPassword);
-    migrateDataInternal(sourceManager, targetManager, targetPassword);
+    return migrateDataInternal(sourceManager, targetManager, targetPassword, listener);
   }
 
   public void setTargetFlywayMigration(
@@ -164,95 +247,216 @@ public class DataMigrationService {
     log.debug("Finished Flyway migration for target database.");
   }
 
-  private void migrateDataInternal(
+  private MigrationReport migrateDataInternal(
       @NonNull final DatabaseManager sourceManager,
       @NonNull final DatabaseManager targetManager,
-      @NonNull final String password)
+      @NonNull final String password,
+      @NonNull final MigrationProgressListener listener)
       throws SQLException {
 
     // Perform Flyway migration for the target database before opening data transfer connections
     setTargetFlywayMigration(
         targetManager.getURL(), targetManager.getUser(), password, "db/migration/mysql");
 
-    try (Connection sourceConnection = sourceManager.getConnection();
-        Connection targetConnection = targetManager.getConnection(password)) {
-      boolean isMySQL = targetManager.getURL().startsWith("jdbc:mysql");
-      try {
-        targetConnection.setAutoCommit(false);
-
-        if (isMySQL) {
-          try (Statement s = targetConnection.createStatement()) {
-            s.execute("SET FOREIGN_KEY_CHECKS = 0");
-          }
-        }
+    boolean isMySQL = targetManager.getURL().startsWith("jdbc:mysql");
+    List<TableStep> steps = tableSteps();
 
+    try (Connection controlConnection = targetManager.getConnection(password)) {
+      setReferentialIntegrity(controlConnection, isMySQL, false);
+      try {
         // Truncate all tables in the target database before migration
-        truncateAllTables(targetConnection);
-
-        // Migrate Core Lookup tables first
-        migrateNpcs(sourceConnection, targetConnection);
-        migrateRoles(sourceConnection, targetConnection);
-        migrateFactions(sourceConnection, targetConnection);
-        migrateInjuryTypes(sourceConnection, targetConnection);
-        migrateCardSets(sourceConnection, targetConnection);
-        migrateUniverse(sourceConnection, targetConnection);
-
-        // Dependent tables
-        migrateAccounts(sourceConnection, targetConnection);
-        migrateAccountRoles(sourceConnection, targetConnection);
-        migrateUniverseMembers(sourceConnection, targetConnection);
-        migrateWrestlers(sourceConnection, targetConnection);
-        migrateWrestlerStates(sourceConnection, targetConnection);
-        migrateInjuries(sourceConnection, targetConnection);
-        migrateTeams(sourceConnection, targetConnection);
-        migrateCards(sourceConnection, targetConnection);
-        migrateDecks(sourceConnection, targetConnection);
-        migrateDeckCards(sourceConnection, targetConnection);
-        migrateSeasons(sourceConnection, targetConnection);
-        migrateShowTypes(sourceConnection, targetConnection);
-        migrateShowTemplates(sourceConnection, targetConnection);
-        migrateShows(sourceConnection, targetConnection);
-        migrateSegmentTypes(sourceConnection, targetConnection);
-        migrateSegmentRules(sourceConnection, targetConnection);
-        migrateSegments(sourceConnection, targetConnection);
-        migrateSegmentParticipants(sourceConnection, targetConnection);
-        migrateSegmentSegmentRules(sourceConnection, targetConnection);
-        migrateTitles(sourceConnection, targetConnection);
-        migrateSegmentTitles(sourceConnection, targetConnection);
-        migrateTitleChampions(sourceConnection, targetConnection);
-        migrateTitleContenders(sourceConnection, targetConnection);
-        migrateTitleReigns(sourceConnection, targetConnection);
-        migrateTitleReignChampions(sourceConnection, targetConnection);
-        migrateRivalries(sourceConnection, targetConnection);
-        migrateHeatEvents(sourceConnection, targetConnection);
-        migrateFactionRivalries(sourceConnection, targetConnection);
-        migrateFactionHeatEvents(sourceConnection, targetConnection);
-        migrateDramaEvents(sourceConnection, targetConnection);
-        migrateMultiWrestlerFeuds(sourceConnection, targetConnection);
-        migrateFeudParticipants(sourceConnection, targetConnection);
-        migrateFeudHeatEvents(sourceConnection, targetConnection);
-        migrateInboxItems(sourceConnection, targetConnection);
-        migrateTierBoundaries(sourceConnection, targetConnection);
-        migrateInboxItemTargets(sourceConnection, targetConnection);
-        migrateGameSettings(sourceConnection, targetConnection);
-        migratePasswordResetTokens(sourceConnection, targetConnection);
-        migrateHolidays(sourceConnection, targetConnection);
-
-        targetConnection.commit();
+        truncateAllTables(controlConnection);
+        Map<String, Set<String>> dependencies = buildDependencyGraph(controlConnection, steps);
+
+        ParallelTableMigrator migrator =
+            new ParallelTableMigrator(
+                () -> openSource(sourceManager),
+                () -> openTarget(targetManager, password, isMySQL),
+                parallelism,
+                listener);
+        MigrationReport report = migrator.run(steps, dependencies);
+        log.info(
+            "Migrated {} rows across {} tables in {}ms ({} rows/s, parallelism {})",
+            report.totalRows(),
+            report.rowsPerTable().size(),
+            report.elapsed().toMillis(),
+            Math.round(report.throughput()),
+            report.parallelism());
+        return report;
       } catch (SQLException e) {
-        targetConnection.rollback();
         throw new SQLException("Error during data migration: " + e.getMessage(), e);
       } finally {
-        if (isMySQL) {
-          try (Statement s = targetConnection.createStatement()) {
-            s.execute("SET FOREIGN_KEY_CHECKS = 1");
-          } catch (SQLException e) {
-            log.warn("Failed to re-enable foreign key checks", e);
-          }
+        try {
+          setReferentialIntegrity(controlConnection, isMySQL, true);
+        } catch (SQLException e) {
+          log.warn("Failed to re-enable foreign key checks", e);
+        }
+      }
+    }
+  }
+
+  /**
+   * The tables to copy, in the order they were historically migrated one after another. That order
+   * satisfies every foreign key, which {@link #buildDependencyGraph} relies on.
+   */
+  private List<TableStep> tableSteps() {
+    return List.of(
+        // Core lookup tables
+        new TableStep("npc", this::migrateNpcs),
+        new TableStep("role", this::migrateRoles),
+        new TableStep("faction", this::migrateFactions),
+        new TableStep("injury_type", this::migrateInjuryTypes),
+        new TableStep("card_set", this::migrateCardSets),
+        new TableStep("universe", this::migrateUniverse),
+        // Dependent tables
+        new TableStep("account", this::migrateAccounts),
+        new TableStep("account_roles", this::migrateAccountRoles),
+        new TableStep("universe_members", this::migrateUniverseMembers),
+        new TableStep("wrestler", this::migrateWrestlers),
+        new TableStep("wrestler_state", this::migrateWrestlerStates),
+        new TableStep("injury", this::migrateInjuries),
+        new TableStep("team", this::migrateTeams),
+        new TableStep("card", this::migrateCards),
+        new TableStep("deck", this::migrateDecks),
+        new TableStep("deck_card", this::migrateDeckCards),
+        new TableStep("season", this::migrateSeasons),
+        new TableStep("show_type", this::migrateShowTypes),
+        new TableStep("show_template", this::migrateShowTemplates),
+        new TableStep("wrestling_show", this::migrateShows),
+        new TableStep("segment_type", this::migrateSegmentTypes),
+        new TableStep("segment_rule", this::migrateSegmentRules),
+        new TableStep("segment", this::migrateSegments),
+        new TableStep("segment_participant", this::migrateSegmentParticipants),
+        new TableStep("segment_segment_rule", this::migrateSegmentSegmentRules),
+        new TableStep("title", this::migrateTitles),
+        new TableStep("segment_title", this::migrateSegmentTitles),
+        new TableStep("wrestler_record", this::rebuildWrestlerRecords),
+        new TableStep("title_champion", this::migrateTitleChampions),
+        new TableStep("title_contender", this::migrateTitleContenders),
+        new TableStep("title_reign", this::migrateTitleReigns),
+        new TableStep("title_reign_champion", this::migrateTitleReignChampions),
+        new TableStep("rivalry", this::migrateRivalries),
+        new TableStep("heat_event", this::migrateHeatEvents),
+        new TableStep("faction_rivalry", this::migrateFactionRivalries),
+        new TableStep("faction_heat_event", this::migrateFactionHeatEvents),
+        new TableStep("drama_event", this::migrateDramaEvents),
+        new TableStep("multi_wrestler_feud", this::migrateMultiWrestlerFeuds),
+        new TableStep("feud_participant", this::migrateFeudParticipants),
+        new TableStep("feud_heat_event", this::migrateFeudHeatEvents),
+        new TableStep("inbox_item", this::migrateInboxItems),
+        new TableStep("tier_boundary", this::migrateTierBoundaries),
+        new TableStep("inbox_item_target", this::migrateInboxItemTargets),
+        new TableStep("game_setting", this::migrateGameSettings),
+        new TableStep("password_reset_token", this::migratePasswordResetTokens),
+        new TableStep("holiday", this::migrateHolidays));
+  }
+
+  /**
+   * Builds the table dependency graph from the target schema's foreign keys. Only references to
+   * tables copied earlier in {@link #tableSteps()} count, which keeps the graph acyclic even for
+   * mutually referencing tables. If the metadata cannot be read, every table depends on the one
+   * before it, i.e. the copy runs sequentially.
+   */
+  Map<String, Set<String>> buildDependencyGraph(
+      @NonNull final Connection targetConnection, @NonNull final List<TableStep> steps) {
+    Map<String, Integer> positions = new HashMap<>();
+    for (int i = 0; i < steps.size(); i++) {
+      positions.put(steps.get(i).table(), i);
+    }
+    Map<String, Set<String>> graph = new HashMap<>();
+    try {
+      DatabaseMetaData metaData = targetConnection.getMetaData();
+      for (int i = 0; i < steps.size(); i++) {
+        String table = steps.get(i).table();
+        Set<String> dependsOn = new HashSet<>(importedTables(metaData, targetConnection, table));
+        dependsOn.addAll(EXTRA_DEPENDENCIES.getOrDefault(table, Set.of()));
+        int position = i;
+        dependsOn.removeIf(
+            other -> {
+              Integer otherPosition = positions.get(other);
+              return otherPosition == null || otherPosition >= position;
+            });
+        graph.put(table, dependsOn);
+      }
+    } catch (SQLException e) {
+      log.warn("Could not read target foreign keys, tables will be copied sequentially", e);
+      graph.clear();
+      for (int i = 1; i < steps.size(); i++) {
+        graph.put(steps.get(i).table(), Set.of(steps.get(i - 1).table()));
+      }
+    }
+    return graph;
+  }
+
+  private Set<String> importedTables(
+      final DatabaseMetaData metaData, final Connection connection, final String table)
+      throws SQLException {
+    Set<String> referenced = new HashSet<>();
+    // MySQL reports lower case names, H2 upper case unless DATABASE_TO_LOWER is set.
+    for (String candidate : new String[] {table, table.toUpperCase(Locale.ROOT)}) {
+      try (ResultSet keys =
+          metaData.getImportedKeys(connection.getCatalog(), connection.getSchema(), candidate)) {
+        while (keys.next()) {
+          referenced.add(keys.getString("PKTABLE_NAME").toLowerCase(Locale.ROOT));
         }
-        targetConnection.setAutoCommit(true);
+      }
+      if (!referenced.isEmpty()) {
+        break;
+      }
+    }
+    return referenced;
+  }
+
+  private Connection openSource(final DatabaseManager sourceManager) throws SQLException {
+    Connection connection = sourceManager.getConnection();
+    connection.setReadOnly(true);
+    return connection;
+  }
+
+  private Connection openTarget(
+      final DatabaseManager targetManager, final String password, final boolean isMySQL)
+      throws SQLException {
+    Connection connection = targetManager.getConnection(password);
+    if (isMySQL) {
+      // Session scoped, so every pooled connection needs it.
+      try (Statement s = connection.createStatement()) {
+        s.execute("SET FOREIGN_KEY_CHECKS = 0");
       }
     }
+    connection.setAutoCommit(false);
+    return connection;
+  }
+
+  private void setReferentialIntegrity(
+      final Connection connection, final boolean isMySQL, final boolean enabled)
+      throws SQLException {
+    try (Statement s = connection.createStatement()) {
+      if (isMySQL) {
+        s.execute("SET FOREIGN_KEY_CHECKS = " + (enabled ? 1 : 0));
+      } else {
+        // Database wide in H2, needed so TRUNCATE works on referenced tables.
+        s.execute("SET REFERENTIAL_INTEGRITY " + (enabled ? "TRUE" : "FALSE"));
+      }
+    }
+  }
+
+  /** Source statement that streams rows instead of buffering the whole table. */
+  private Statement streamingStatement(@NonNull final Connection sourceConnection)
+      throws SQLException {
+    Statement statement =
+        sourceConnection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+    statement.setFetchSize(fetchSize);
+    return statement;
+  }
+
+  /** Executes the pending batch and commits it, so each chunk is its own small transaction. */
+  private void flushBatch(@NonNull final PreparedStatement targetStatement) throws SQLException {
+    int[] results = targetStatement.executeBatch();
+    ParallelTableMigrator.recordRows(results.length);
+    Connection connection = targetStatement.getConnection();
+    if (!connection.getAutoCommit()) {
+      connection.commit();
+    }
   }
 
   private void migrateFeudHeatEvents(
@@ -264,7 +468,7 @@ public class DataMigrationService {
         heat_change, heat_after_event, reason, event_date, creation_date) \
         VALUES (?, ?, ?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -284,12 +488,12 @@ public class DataMigrationService {
         targetStatement.setTimestamp(7, resultSet.getTimestamp("creation_date"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Feud Heat Events", count);
       }
     }
@@ -304,7 +508,7 @@ public class DataMigrationService {
         role, is_active, joined_date, left_date, left_reason, creation_date) \
         VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -326,12 +530,12 @@ public class DataMigrationService {
         targetStatement.setTimestamp(9, resultSet.getTimestamp("creation_date"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Feud Participants", count);
       }
     }
@@ -346,7 +550,7 @@ public class DataMigrationService {
         heat, is_active, started_date, ended_date, storyline_notes, creation_date) \
         VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -368,12 +572,12 @@ public class DataMigrationService {
         targetStatement.setTimestamp(9, resultSet.getTimestamp("creation_date"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Multi-Wrestler Feuds", count);
       }
     }
@@ -390,7 +594,7 @@ public class DataMigrationService {
         processed_date, processing_notes, primary_wrestler_id, secondary_wrestler_id) \
         VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -438,12 +642,12 @@ public class DataMigrationService {
         }
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Drama Events", count);
       }
     }
@@ -453,7 +657,7 @@ public class DataMigrationService {
       @NonNull final Connection sourceConnection, @NonNull final Connection targetConnection)
       throws SQLException {
     String sql = "INSERT INTO title_contender (title_id, wrestler_id) VALUES (?, ?)";
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery("SELECT title_id, wrestler_id FROM title_contender");
         PreparedStatement targetStatement = targetConnection.prepareStatement(sql)) {
@@ -464,12 +668,12 @@ public class DataMigrationService {
         targetStatement.setLong(2, resultSet.getLong("wrestler_id"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Title Contenders", count);
       }
     }
@@ -484,7 +688,7 @@ public class DataMigrationService {
         holiday_month, day_of_week, week_of_month, type, creation_date) \
         VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -515,12 +719,12 @@ public class DataMigrationService {
         targetStatement.setTimestamp(10, resultSet.getTimestamp("creation_date"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Holidays", count);
       }
     }
@@ -534,7 +738,7 @@ public class DataMigrationService {
         INSERT INTO password_reset_token (id, token, account_id, expiry_date) \
         VALUES (?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 "SELECT id, token, account_id, expiry_date FROM password_reset_token");
@@ -548,12 +752,12 @@ public class DataMigrationService {
         targetStatement.setTimestamp(4, resultSet.getTimestamp("expiry_date"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Password Reset Tokens", count);
       }
     }
@@ -563,7 +767,7 @@ public class DataMigrationService {
       @NonNull final Connection sourceConnection, @NonNull final Connection targetConnection)
       throws SQLException {
     String sql = "INSERT INTO game_setting (setting_key, setting_value) VALUES (?, ?)";
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery("SELECT setting_key, setting_value FROM game_setting");
         PreparedStatement targetStatement = targetConnection.prepareStatement(sql)) {
@@ -574,12 +778,12 @@ public class DataMigrationService {
         targetStatement.setString(2, resultSet.getString("setting_value"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Game Settings", count);
       }
     }
@@ -593,7 +797,7 @@ public class DataMigrationService {
         INSERT INTO inbox_item_target (inbox_item_target_id, inbox_item_id, \
         target_id) VALUES (?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -613,12 +817,12 @@ public class DataMigrationService {
         targetStatement.setString(3, resultSet.getString("target_id"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Inbox Item Targets", count);
       }
     }
@@ -632,7 +836,7 @@ public class DataMigrationService {
         INSERT INTO tier_boundary (id, tier, gender, min_fans, max_fans, \
         challenge_cost, contender_entry_fee) VALUES (?, ?, ?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -652,12 +856,12 @@ public class DataMigrationService {
         targetStatement.setLong(7, resultSet.getLong("contender_entry_fee"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Tier Boundaries", count);
       }
     }
@@ -671,7 +875,7 @@ public class DataMigrationService {
         INSERT INTO inbox_item (inbox_item_id, event_type, description, \
         event_timestamp, is_read) VALUES (?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -689,12 +893,12 @@ public class DataMigrationService {
         targetStatement.setBoolean(5, resultSet.getBoolean("is_read"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Inbox Items", count);
       }
     }
@@ -709,7 +913,7 @@ public class DataMigrationService {
         heat_change, heat_after_event, reason, event_date, creation_date) \
         VALUES (?, ?, ?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -729,12 +933,12 @@ public class DataMigrationService {
         targetStatement.setTimestamp(7, resultSet.getTimestamp("creation_date"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Faction Heat Events", count);
       }
     }
@@ -749,7 +953,7 @@ public class DataMigrationService {
         heat, is_active, started_date, ended_date, storyline_notes, creation_date) \
         VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -772,12 +976,12 @@ public class DataMigrationService {
         targetStatement.setTimestamp(9, resultSet.getTimestamp("creation_date"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Faction Rivalries", count);
       }
     }
@@ -792,7 +996,7 @@ public class DataMigrationService {
         heat_after_event, reason, event_date, creation_date) \
         VALUES (?, ?, ?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -812,12 +1016,12 @@ public class DataMigrationService {
         targetStatement.setTimestamp(7, resultSet.getTimestamp("creation_date"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Heat Events", count);
       }
     }
@@ -832,7 +1036,7 @@ public class DataMigrationService {
         started_date, ended_date, storyline_notes, creation_date) \
         VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -854,12 +1058,12 @@ public class DataMigrationService {
         targetStatement.setTimestamp(9, resultSet.getTimestamp("creation_date"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Rivalries", count);
       }
     }
@@ -869,7 +1073,7 @@ public class DataMigrationService {
       @NonNull final Connection sourceConnection, @NonNull final Connection targetConnection)
       throws SQLException {
     String sql = "INSERT INTO title_reign_champion (title_reign_id, wrestler_id) VALUES (?, ?)";
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 "SELECT title_reign_id, wrestler_id FROM title_reign_champion");
@@ -881,12 +1085,12 @@ public class DataMigrationService {
         targetStatement.setLong(2, resultSet.getLong("wrestler_id"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Title Reign Champions", count);
       }
     }
@@ -900,7 +1104,7 @@ public class DataMigrationService {
         INSERT INTO title_reign (title_reign_id, title_id, start_date, \
         end_date, reign_number, notes, creation_date) VALUES (?, ?, ?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -920,12 +1124,12 @@ public class DataMigrationService {
         targetStatement.setTimestamp(7, resultSet.getTimestamp("creation_date"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Title Reigns", count);
       }
     }
@@ -935,7 +1139,7 @@ public class DataMigrationService {
       @NonNull final Connection sourceConnection, @NonNull final Connection targetConnection)
       throws SQLException {
     String sql = "INSERT INTO title_champion (title_id, wrestler_id) VALUES (?, ?)";
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery("SELECT title_id, wrestler_id FROM title_champion");
         PreparedStatement targetStatement = targetConnection.prepareStatement(sql)) {
@@ -946,12 +1150,12 @@ public class DataMigrationService {
         targetStatement.setLong(2, resultSet.getLong("wrestler_id"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Title Champions", count);
       }
     }
@@ -961,7 +1165,7 @@ public class DataMigrationService {
       @NonNull final Connection sourceConnection, @NonNull final Connection targetConnection)
       throws SQLException {
     String sql = "INSERT INTO segment_title (segment_id, title_id) VALUES (?, ?)";
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery("SELECT segment_id, title_id FROM segment_title");
         PreparedStatement targetStatement = targetConnection.prepareStatement(sql)) {
@@ -972,17 +1176,57 @@ public class DataMigrationService {
         targetStatement.setLong(2, resultSet.getLong("title_id"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Segment Titles", count);
       }
     }
   }
 
+  /**
+   * Segments are copied over JDBC, past the listener that keeps {@code wrestler_record} current,
+   * and the target schema was backfilled while it was still empty, so the records are aggregated
+   * again from the copied history instead of copied from the source.
+   */
+  private void rebuildWrestlerRecords(
+      @NonNull final Connection sourceConnection, @NonNull final Connection targetConnection)
+      throws SQLException {
+    String sql =
+        """
+        INSERT INTO wrestler_record (wrestler_id, universe_id, season_id, wins, losses, draws)
+        SELECT p.wrestler_id, sh.universe_id, sh.season_id,
+               SUM(CASE WHEN p.is_winner THEN 1 ELSE 0 END),
+               SUM(CASE WHEN NOT p.is_winner AND w.winners > 0 THEN 1 ELSE 0 END),
+               SUM(CASE WHEN w.winners = 0 THEN 1 ELSE 0 END)
+        FROM segment_participant p
+        JOIN segment s ON s.segment_id = p.segment_id
+        JOIN segment_type st ON st.segment_type_id = s.segment_type_id
+        JOIN wrestling_show sh ON sh.show_id = s.show_id
+        JOIN (SELECT segment_id, SUM(CASE WHEN is_winner THEN 1 ELSE 0 END) AS winners
+              FROM segment_participant
+              GROUP BY segment_id) w ON w.segment_id = s.segment_id
+        WHERE s.status = 'COMPLETED'
+          AND sh.universe_id IS NOT NULL
+          AND LOWER(st.name) NOT LIKE '%promo%'
+          AND LOWER(st.name) NOT LIKE '%beatdown%'
+          AND LOWER(st.name) NOT LIKE '%confrontation%'
+          AND LOWER(st.name) NOT LIKE '%review%'
+        GROUP BY p.wrestler_id, sh.universe_id, sh.season_id
+        """;
+    try (Statement targetStatement = targetConnection.createStatement()) {
+      int count = targetStatement.executeUpdate(sql);
+      ParallelTableMigrator.recordRows(count);
+      if (!targetConnection.getAutoCommit()) {
+        targetConnection.commit();
+      }
+      log.debug("Rebuilt {} Wrestler Records", count);
+    }
+  }
+
   private void migrateTitles(
       @NonNull final Connection sourceConnection, @NonNull final Connection targetConnection)
       throws SQLException {
@@ -991,7 +1235,7 @@ public class DataMigrationService {
         INSERT INTO title (title_id, name, description, tier, gender, is_active, \
         creation_date) VALUES (?, ?, ?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -1011,12 +1255,12 @@ public class DataMigrationService {
         targetStatement.setTimestamp(7, resultSet.getTimestamp("creation_date"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Titles", count);
       }
     }
@@ -1026,7 +1270,7 @@ public class DataMigrationService {
       @NonNull final Connection sourceConnection, @NonNull final Connection targetConnection)
       throws SQLException {
     String sql = "INSERT INTO segment_segment_rule (segment_id, segment_rule_id) VALUES (?, ?)";
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 "SELECT segment_id, segment_rule_id FROM segment_segment_rule");
@@ -1038,12 +1282,12 @@ public class DataMigrationService {
         targetStatement.setLong(2, resultSet.getLong("segment_rule_id"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Segment's Segment Rules", count);
       }
     }
@@ -1057,7 +1301,7 @@ public class DataMigrationService {
         INSERT INTO segment_participant (segment_participant_id, segment_id, \
         wrestler_id, is_winner) VALUES (?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -1074,12 +1318,12 @@ public class DataMigrationService {
         targetStatement.setBoolean(4, resultSet.getBoolean("is_winner"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Segment Participants", count);
       }
     }
@@ -1095,7 +1339,7 @@ public class DataMigrationService {
         summary, is_title_segment, is_npc_generated) \
         VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -1133,12 +1377,12 @@ public class DataMigrationService {
         targetStatement.setBoolean(12, resultSet.getBoolean("is_npc_generated"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Segments", count);
       }
     }
@@ -1152,7 +1396,7 @@ public class DataMigrationService {
         INSERT INTO segment_rule (segment_rule_id, name, description, \
         requires_high_heat, creation_date) VALUES (?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -1170,12 +1414,12 @@ public class DataMigrationService {
         targetStatement.setTimestamp(5, resultSet.getTimestamp("creation_date"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Segment Rules", count);
       }
     }
@@ -1189,7 +1433,7 @@ public class DataMigrationService {
         INSERT INTO segment_type (segment_type_id, name, description, creation_date) \
         VALUES (?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 "SELECT segment_type_id, name, description, creation_date FROM segment_type");
@@ -1203,12 +1447,12 @@ public class DataMigrationService {
         targetStatement.setTimestamp(4, resultSet.getTimestamp("creation_date"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Segment Types", count);
       }
     }
@@ -1223,7 +1467,7 @@ public class DataMigrationService {
         season_id, template_id, creation_date) \
         VALUES (?, ?, ?, ?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -1252,12 +1496,12 @@ public class DataMigrationService {
         targetStatement.setTimestamp(8, resultSet.getTimestamp("creation_date"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Shows", count);
       }
     }
@@ -1271,7 +1515,7 @@ public class DataMigrationService {
         INSERT INTO show_template (template_id, name, description, show_type_id, \
         creation_date) VALUES (?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -1289,12 +1533,12 @@ public class DataMigrationService {
         targetStatement.setTimestamp(5, resultSet.getTimestamp("creation_date"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Show Templates", count);
       }
     }
@@ -1308,7 +1552,7 @@ public class DataMigrationService {
         INSERT INTO show_type (show_type_id, name, description, is_ppv, creation_date) \
         VALUES (?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 "SELECT show_type_id, name, description, is_ppv, creation_date FROM show_type");
@@ -1323,12 +1567,12 @@ public class DataMigrationService {
         targetStatement.setTimestamp(5, resultSet.getTimestamp("creation_date"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Show Types", count);
       }
     }
@@ -1343,7 +1587,7 @@ public class DataMigrationService {
         creation_date, shows_per_ppv) \
         VALUES (?, ?, ?, ?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -1364,12 +1608,12 @@ public class DataMigrationService {
         targetStatement.setInt(8, resultSet.getInt("shows_per_ppv"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Seasons", count);
       }
     }
@@ -1400,7 +1644,7 @@ public class DataMigrationService {
       @NonNull final Connection sourceConnection, @NonNull final Connection targetConnection)
       throws SQLException {
     String sql = "INSERT INTO role (ID, NAME, DESCRIPTION) VALUES (?, ?, ?)";
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery("SELECT ID, NAME, DESCRIPTION FROM role");
         PreparedStatement targetStatement = targetConnection.prepareStatement(sql)) {
@@ -1412,12 +1656,12 @@ public class DataMigrationService {
         targetStatement.setString(3, resultSet.getString("DESCRIPTION"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Roles", count);
       }
     }
@@ -1432,7 +1676,7 @@ public class DataMigrationService {
         FAILED_LOGIN_ATTEMPTS, LOCKED_UNTIL, LAST_LOGIN, CREATED_DATE, \
         UPDATED_DATE) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -1459,12 +1703,12 @@ public class DataMigrationService {
         targetStatement.setTimestamp(13, resultSet.getTimestamp("UPDATED_DATE"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Accounts", count);
       }
     }
@@ -1473,7 +1717,7 @@ public class DataMigrationService {
   private void migrateAccountRoles(
       final Connection sourceConnection, final Connection targetConnection) throws SQLException {
     String sql = "INSERT INTO account_roles (ACCOUNT_ID, ROLE_ID) VALUES (?, ?)";
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery("SELECT ACCOUNT_ID, ROLE_ID FROM account_roles");
         PreparedStatement targetStatement = targetConnection.prepareStatement(sql)) {
@@ -1484,12 +1728,12 @@ public class DataMigrationService {
         targetStatement.setLong(2, resultSet.getLong("ROLE_ID"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Account Roles", count);
       }
     }
@@ -1503,7 +1747,7 @@ public class DataMigrationService {
         INSERT INTO npc (ID, NAME, NPC_TYPE, DESCRIPTION) \
         VALUES (?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery("SELECT ID, NAME, NPC_TYPE, DESCRIPTION FROM npc");
         PreparedStatement targetStatement = targetConnection.prepareStatement(sql)) {
@@ -1516,12 +1760,12 @@ public class DataMigrationService {
         targetStatement.setString(4, resultSet.getString("DESCRIPTION"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} NPCs", count);
       }
     }
@@ -1537,7 +1781,7 @@ public class DataMigrationService {
         AFFINITY, UNIVERSE_ID) \
         VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -1574,12 +1818,12 @@ public class DataMigrationService {
         }
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Factions", count);
       }
     }
@@ -1593,7 +1837,7 @@ public class DataMigrationService {
         INSERT INTO universe_members (id, universe_id, account_id, role, joined_date) \
         VALUES (?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 "SELECT id, universe_id, account_id, role, joined_date FROM universe_members");
@@ -1608,12 +1852,12 @@ public class DataMigrationService {
         targetStatement.setTimestamp(5, resultSet.getTimestamp("joined_date"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Universe Members", count);
       }
     }
@@ -1630,7 +1874,7 @@ public class DataMigrationService {
         IMAGE_URL, ACTIVE, ACCOUNT_ID) \
         VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -1663,12 +1907,12 @@ public class DataMigrationService {
         }
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Wrestlers", count);
       }
     }
@@ -1678,7 +1922,7 @@ public class DataMigrationService {
       @NonNull final Connection sourceConnection, @NonNull final Connection targetConnection)
       throws SQLException {
     String sql = "INSERT INTO universe (id, name, type, creation_date) VALUES (?, ?, ?, ?)";
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet = sourceStatement.executeQuery("SELECT * FROM universe");
         PreparedStatement targetStatement = targetConnection.prepareStatement(sql)) {
 
@@ -1692,7 +1936,7 @@ public class DataMigrationService {
         count++;
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Universes", count);
       }
     }
@@ -1707,7 +1951,7 @@ public class DataMigrationService {
          current_health, physical_condition, morale, management_stamina, faction_id,\
          manager_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet = sourceStatement.executeQuery("SELECT * FROM wrestler_state");
         PreparedStatement targetStatement = targetConnection.prepareStatement(sql)) {
 
@@ -1737,7 +1981,7 @@ public class DataMigrationService {
         count++;
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Wrestler States", count);
       }
     }
@@ -1752,7 +1996,7 @@ public class DataMigrationService {
         STAMINA_EFFECT, CARD_EFFECT, SPECIAL_EFFECTS) \
         VALUES (?, ?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -1783,12 +2027,12 @@ public class DataMigrationService {
         targetStatement.setString(6, resultSet.getString("SPECIAL_EFFECTS"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Injury Types", count);
       }
     }
@@ -1806,7 +2050,7 @@ public class DataMigrationService {
         INJURY_NOTES, CREATION_DATE, UNIVERSE_ID) \
         VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -1838,12 +2082,12 @@ public class DataMigrationService {
         }
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Injuries", count);
       }
     }
@@ -1872,7 +2116,7 @@ public class DataMigrationService {
          STATUS, FORMED_DATE, DISBANDED_DATE, MANAGER_ID) VALUES (?,\
          ?, ?, ?, ?, ?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -1903,12 +2147,12 @@ public class DataMigrationService {
         }
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Teams", count);
       }
     }
@@ -1922,7 +2166,7 @@ public class DataMigrationService {
         INSERT INTO card_set (SET_ID, SET_CODE, NAME, DESCRIPTION, RELEASE_DATE, CREATION_DATE) \
         VALUES (?, ?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -1941,12 +2185,12 @@ public class DataMigrationService {
         targetStatement.setTimestamp(6, resultSet.getTimestamp("CREATION_DATE"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Card Sets", count);
       }
     }
@@ -1961,7 +2205,7 @@ public class DataMigrationService {
         NUMBER, FINISHER, SIGNATURE, PIN, TAUNT, RECOVER, CREATION_DATE, SET_ID) \
         VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -1989,12 +2233,12 @@ public class DataMigrationService {
         targetStatement.setLong(15, resultSet.getLong("SET_ID"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Cards", count);
       }
     }
@@ -2004,7 +2248,7 @@ public class DataMigrationService {
       @NonNull final Connection sourceConnection, @NonNull final Connection targetConnection)
       throws SQLException {
     String sql = "INSERT INTO deck (DECK_ID, WRESTLER_ID, CREATION_DATE) VALUES (?, ?, ?)";
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery("SELECT DECK_ID, WRESTLER_ID, CREATION_DATE FROM deck");
         PreparedStatement targetStatement = targetConnection.prepareStatement(sql)) {
@@ -2016,12 +2260,12 @@ public class DataMigrationService {
         targetStatement.setTimestamp(3, resultSet.getTimestamp("CREATION_DATE"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Decks", count);
       }
     }
@@ -2035,7 +2279,7 @@ public class DataMigrationService {
         INSERT INTO deck_card (ID, DECK_ID, CARD_ID, AMOUNT, CREATION_DATE, SET_ID) \
         VALUES (?, ?, ?, ?, ?, ?)\
         """;
-    try (Statement sourceStatement = sourceConnection.createStatement();
+    try (Statement sourceStatement = streamingStatement(sourceConnection);
         ResultSet resultSet =
             sourceStatement.executeQuery(
                 """
@@ -2054,12 +2298,12 @@ public class DataMigrationService {
         targetStatement.setLong(6, resultSet.getLong("SET_ID"));
         targetStatement.addBatch();
         count++;
-        if (count % 1000 == 0) {
-          targetStatement.executeBatch();
+        if (count % batchSize == 0) {
+          flushBatch(targetStatement);
         }
       }
       if (count > 0) {
-        targetStatement.executeBatch();
+        flushBatch(targetStatement);
         log.debug("Migrated {} Deck Cards", count);
       }
     }
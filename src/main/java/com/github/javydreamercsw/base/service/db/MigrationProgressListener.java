@@ -0,0 +1,48 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.base.service.db;
+
+import java.time.Duration;
+
+/**
+ * Receives a callback every time a table has been fully copied and committed by {@link
+ * DataMigrationService}. Callbacks arrive on migration worker threads.
+ */
+@FunctionalInterface
+public interface MigrationProgressListener {
+
+  MigrationProgressListener NONE = progress -> {};
+
+  void onTableMigrated(Progress progress);
+
+  /**
+   * Progress snapshot taken after a table finished.
+   *
+   * @param table The table that was just committed
+   * @param tableRows Rows copied for that table
+   * @param completedTables Tables finished so far, including this one
+   * @param totalTables Tables in the whole run
+   * @param elapsed Time since the data copy started
+   */
+  record Progress(
+      String table, long tableRows, int completedTables, int totalTables, Duration elapsed) {
+
+    public double fraction() {
+      return totalTables == 0 ? 1.0 : (double) completedTables / totalTables;
+    }
+  }
+}
@@ -0,0 +1,46 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.base.service.db;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Outcome of a {@link DataMigrationService} run.
+ *
+ * @param rowsPerTable Rows copied per table, in completion order
+ * @param elapsed Wall-clock time of the data copy (excluding the target schema migration)
+ * @param parallelism Number of tables that were allowed to copy concurrently
+ */
+public record MigrationReport(Map<String, Long> rowsPerTable, Duration elapsed, int parallelism) {
+
+  public MigrationReport {
+    rowsPerTable = Collections.unmodifiableMap(new LinkedHashMap<>(rowsPerTable));
+  }
+
+  public long totalRows() {
+    return rowsPerTable.values().stream().mapToLong(Long::longValue).sum();
+  }
+
+  /** Rows per second over the whole run. */
+  public double throughput() {
+    long millis = Math.max(1, elapsed.toMillis());
+    return totalRows() * 1000.0 / millis;
+  }
+}
@@ -19,6 +19,7 @@ package com.github.javydreamercsw.base.service.db;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.Properties;
 import lombok.Getter;
 import lombok.NonNull;
 
@@ -59,6 +60,12 @@ public class MySQLDatabaseManager implements DatabaseManager {
 
   @Override
   public Connection getConnection(final String password) throws SQLException {
-    return DriverManager.getConnection(url, user, password);
+    Properties properties = new Properties();
+    properties.setProperty("user", user);
+    properties.setProperty("password", password);
+    // Collapse JDBC batches into multi-row INSERTs and honour Statement.setFetchSize().
+    properties.setProperty("rewriteBatchedStatements", "true");
+    properties.setProperty("useCursorFetch", "true");
+    return DriverManager.getConnection(url, properties);
   }
 }
@@ -0,0 +1,235 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.base.service.db;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Copies tables from a source to a target database in dependency order, running independent tables
+ * concurrently.
+ *
+ * <p>The run keeps a fixed pool of {@code parallelism} source/target connection pairs; every table
+ * borrows one pair for its whole copy, so two tables never share a JDBC connection. A table only
+ * starts once every table it depends on has been committed. After the first failure no further
+ * tables are started, and the error lists the tables that were already committed.
+ */
+@Slf4j
+final class ParallelTableMigrator {
+
+  /** Copies one table using the given connections. */
+  @FunctionalInterface
+  interface TableCopier {
+    void copy(Connection source, Connection target) throws SQLException;
+  }
+
+  /** Opens a fully configured connection for the pool. */
+  @FunctionalInterface
+  interface ConnectionOpener {
+    Connection open() throws SQLException;
+  }
+
+  /**
+   * A single table copy.
+   *
+   * @param table Target table name, used for the dependency graph and reporting
+   * @param copier The copy routine
+   */
+  record TableStep(String table, TableCopier copier) {}
+
+  private record ConnectionPair(Connection source, Connection target) {}
+
+  /** Rows flushed by the table currently running on this worker thread. */
+  private static final ThreadLocal<long[]> CURRENT_TABLE_ROWS = new ThreadLocal<>();
+
+  private final ConnectionOpener sourceOpener;
+  private final ConnectionOpener targetOpener;
+  private final int parallelism;
+  private final MigrationProgressListener listener;
+
+  ParallelTableMigrator(
+      @NonNull final ConnectionOpener sourceOpener,
+      @NonNull final ConnectionOpener targetOpener,
+      final int parallelism,
+      @NonNull final MigrationProgressListener listener) {
+    this.sourceOpener = sourceOpener;
+    this.targetOpener = targetOpener;
+    this.parallelism = Math.max(1, parallelism);
+    this.listener = listener;
+  }
+
+  /** Called by copy routines after each executed batch so progress can report row counts. */
+  static void recordRows(final long rows) {
+    long[] counter = CURRENT_TABLE_ROWS.get();
+    if (counter != null) {
+      counter[0] += rows;
+    }
+  }
+
+  /**
+   * Runs every step. {@code dependencies} maps a table to the tables that must be committed before
+   * it starts; every dependency must refer to a step that appears earlier in {@code steps}.
+   */
+  MigrationReport run(
+      @NonNull final List<TableStep> steps, @NonNull final Map<String, Set<String>> dependencies)
+      throws SQLException {
+    long start = System.nanoTime();
+    Map<String, Long> rowsPerTable = Collections.synchronizedMap(new LinkedHashMap<>());
+    AtomicInteger completed = new AtomicInteger();
+    AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+    BlockingQueue<ConnectionPair> pool = new ArrayBlockingQueue<>(parallelism);
+    List<ConnectionPair> opened = new ArrayList<>();
+    AtomicInteger threadIds = new AtomicInteger();
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            parallelism,
+            r -> {
+              Thread t = new Thread(r, "data-migration-" + threadIds.incrementAndGet());
+              t.setDaemon(true);
+              return t;
+            });
+    try {
+      for (int i = 0; i < parallelism; i++) {
+        ConnectionPair pair = openPair();
+        opened.add(pair);
+        pool.add(pair);
+      }
+
+      Map<String, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+      for (TableStep step : steps) {
+        CompletableFuture<?>[] prerequisites =
+            dependencies.getOrDefault(step.table(), Set.of()).stream()
+                .map(futures::get)
+                .filter(Objects::nonNull)
+                .toArray(CompletableFuture[]::new);
+        futures.put(
+            step.table(),
+            CompletableFuture.allOf(prerequisites)
+                .thenRunAsync(
+                    () -> {
+                      if (firstFailure.get() != null) {
+                        return;
+                      }
+                      try {
+                        long rows = copy(step, pool);
+                        rowsPerTable.put(step.table(), rows);
+                        listener.onTableMigrated(
+                            new MigrationProgressListener.Progress(
+                                step.table(),
+                                rows,
+                                completed.incrementAndGet(),
+                                steps.size(),
+                                Duration.ofNanos(System.nanoTime() - start)));
+                      } catch (Exception e) {
+                        firstFailure.compareAndSet(
+                            null, new SQLException("Failed to migrate " + step.table(), e));
+                        throw new CompletionException(e);
+                      }
+                    },
+                    executor));
+      }
+
+      try {
+        CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+      } catch (CompletionException e) {
+        // The root cause is captured in firstFailure below.
+      }
+      Throwable failure = firstFailure.get();
+      if (failure != null) {
+        throw new SQLException(
+            failure.getMessage()
+                + " (committed before failure: "
+                + rowsPerTable.keySet()
+                + "): "
+                + failure.getCause().getMessage(),
+            failure.getCause());
+      }
+      return new MigrationReport(
+          rowsPerTable, Duration.ofNanos(System.nanoTime() - start), parallelism);
+    } finally {
+      executor.shutdownNow();
+      for (ConnectionPair pair : opened) {
+        closeQuietly(pair.source());
+        closeQuietly(pair.target());
+      }
+    }
+  }
+
+  private long copy(final TableStep step, final BlockingQueue<ConnectionPair> pool)
+      throws SQLException, InterruptedException {
+    ConnectionPair pair = pool.take();
+    long[] rows = new long[1];
+    CURRENT_TABLE_ROWS.set(rows);
+    try {
+      long tableStart = System.nanoTime();
+      step.copier().copy(pair.source(), pair.target());
+      if (!pair.target().getAutoCommit()) {
+        pair.target().commit();
+      }
+      log.debug(
+          "Copied {} ({} rows) in {}ms",
+          step.table(),
+          rows[0],
+          Duration.ofNanos(System.nanoTime() - tableStart).toMillis());
+      return rows[0];
+    } catch (SQLException e) {
+      if (!pair.target().getAutoCommit()) {
+        pair.target().rollback();
+      }
+      throw e;
+    } finally {
+      CURRENT_TABLE_ROWS.remove();
+      pool.add(pair);
+    }
+  }
+
+  private ConnectionPair openPair() throws SQLException {
+    Connection source = sourceOpener.open();
+    try {
+      return new ConnectionPair(source, targetOpener.open());
+    } catch (SQLException e) {
+      closeQuietly(source);
+      throw e;
+    }
+  }
+
+  private static void closeQuietly(final Connection connection) {
+    try {
+      connection.close();
+    } catch (SQLException e) {
+      log.warn("Failed to close migration connection", e);
+    }
+  }
+}
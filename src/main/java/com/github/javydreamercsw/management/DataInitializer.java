@@ -102,6 +102,7 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.Month;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -109,8 +110,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
+import lombok.AccessLevel;
 import lombok.NonNull;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -124,8 +129,51 @@ import org.springframework.stereotype.Component;
 @Component
 public class DataInitializer implements Initializable {
 
+  /**
+   * Reference data passes whose source files are fingerprinted, with the passes whose rows they
+   * look up. A pass is skipped when its files hash the same as when it last ran, none of its rows
+   * have gone missing since, and none of the passes it depends on ran in this initialization.
+   */
+  enum ReferenceData {
+    SEGMENT_RULES("segment_rules.json"),
+    SHOW_TYPES("show_types.json"),
+    SEGMENT_TYPES(List.of("segment_types.json"), SEGMENT_RULES),
+    CARD_SETS("sets.json"),
+    CARDS(List.of("cards/*.json"), CARD_SETS),
+    NPCS("npcs.json"),
+    LOCATIONS("locations.json"),
+    ARENAS(List.of("arenas.json"), LOCATIONS),
+    WRESTLERS(List.of("wrestlers*.json"), NPCS),
+    RELATIONSHIPS(List.of("relationships.json"), WRESTLERS),
+    CHAMPIONSHIPS(List.of("championships.json"), WRESTLERS),
+    DECKS(List.of("decks.json"), CARDS, WRESTLERS),
+    FACTIONS(List.of("factions.json"), WRESTLERS, NPCS),
+    TEAMS(List.of("teams.json"), WRESTLERS, FACTIONS, NPCS),
+    CAMPAIGN_ABILITY_CARDS("campaign_ability_cards.json"),
+    COMMENTATORS(List.of("commentators.json"), NPCS),
+    COMMENTARY_TEAMS(List.of("commentary_teams.json"), COMMENTATORS),
+    ACHIEVEMENTS("achievements.json"),
+    RINGSIDE_ACTION_TYPES("ringside_action_types.json"),
+    RINGSIDE_ACTIONS(List.of("ringside_actions.json"), RINGSIDE_ACTION_TYPES),
+    OUTCOME_MATRICES("outcome_matrices/*.json");
+
+    private final List<String> resources;
+    private final Set<ReferenceData> dependsOn;
+
+    ReferenceData(final String resource) {
+      this(List.of(resource));
+    }
+
+    ReferenceData(final List<String> resources, final ReferenceData... dependsOn) {
+      this.resources = resources;
+      this.dependsOn = Set.of(dependsOn);
+    }
+  }
+
   private final boolean enabled;
   private final boolean skipIfNotEmpty;
+  @Setter(AccessLevel.PACKAGE) private boolean skipUnchanged;
+  private final ReferenceDataFingerprints fingerprints;
   private final ShowTemplateService showTemplateService;
   private final WrestlerRepository wrestlerRepository;
   private final WrestlerService wrestlerService;
@@ -167,6 +215,8 @@ public class DataInitializer implements Initializable {
   public DataInitializer(
       @Value("${data.initializer.enabled:true}") final boolean enabled,
       @Value("${data.initializer.skip-if-not-empty:false}") final boolean skipIfNotEmpty,
+      @Value("${data.initializer.skip-unchanged:true}") final boolean skipUnchanged,
+      final ReferenceDataFingerprints fingerprints,
       final ShowTemplateService showTemplateService,
       final WrestlerRepository wrestlerRepository,
       final WrestlerService wrestlerService,
@@ -205,6 +255,8 @@ public class DataInitializer implements Initializable {
       final TitleReignRepairService titleReignRepairService) {
     this.enabled = enabled;
     this.skipIfNotEmpty = skipIfNotEmpty;
+    this.skipUnchanged = skipUnchanged;
+    this.fingerprints = fingerprints;
     this.showTemplateService = showTemplateService;
     this.wrestlerRepository = wrestlerRepository;
     this.wrestlerService = wrestlerService;
@@ -249,44 +301,118 @@ public class DataInitializer implements Initializable {
   }
 
   private void performInit() {
+    long started = System.nanoTime();
+    ReferenceDataRun run = new ReferenceDataRun();
     syncAiSettingsFromEnvironment();
     initializeGameDate();
-    loadSegmentRulesFromFile();
-    syncShowTypesFromFile();
-    loadSegmentTypesFromFile();
+    run.sync(
+        ReferenceData.SEGMENT_RULES, segmentRuleService::count, this::loadSegmentRulesFromFile);
+    run.sync(ReferenceData.SHOW_TYPES, showTypeService::count, this::syncShowTypesFromFile);
+    run.sync(
+        ReferenceData.SEGMENT_TYPES, segmentTypeService::count, this::loadSegmentTypesFromFile);
     loadShowTemplatesFromFile();
-    syncSetsFromFile();
-    syncCardsFromFile();
-    syncNpcsFromFile();
-    syncLocationsFromFile();
-    syncArenasFromFile();
-    syncWrestlersFromFile();
-    wrestlerService.evictWrestlerCache();
-    syncRelationshipsFromFile();
-    syncChampionshipsFromFile();
+    run.sync(ReferenceData.CARD_SETS, cardSetService::count, this::syncSetsFromFile);
+    run.sync(ReferenceData.CARDS, cardService::count, this::syncCardsFromFile);
+    run.sync(ReferenceData.NPCS, npcService::count, this::syncNpcsFromFile);
+    run.sync(ReferenceData.LOCATIONS, locationRepository::count, this::syncLocationsFromFile);
+    run.sync(ReferenceData.ARENAS, arenaRepository::count, this::syncArenasFromFile);
+    if (run.sync(
+        ReferenceData.WRESTLERS, wrestlerRepository::count, this::syncWrestlersFromFile)) {
+      wrestlerService.evictWrestlerCache();
+    }
+    run.sync(
+        ReferenceData.RELATIONSHIPS, relationshipService::count, this::syncRelationshipsFromFile);
+    run.sync(ReferenceData.CHAMPIONSHIPS, titleService::count, this::syncChampionshipsFromFile);
     titleReignRepairService.repairIfNeeded();
-    syncDecksFromFile();
-    syncFactionsFromFile();
-    syncTeamsFromFile();
-    syncCampaignAbilityCardsFromFile();
+    run.sync(ReferenceData.DECKS, deckService::count, this::syncDecksFromFile);
+    run.sync(ReferenceData.FACTIONS, factionService::count, this::syncFactionsFromFile);
+    run.sync(ReferenceData.TEAMS, teamService::count, this::syncTeamsFromFile);
+    run.sync(
+        ReferenceData.CAMPAIGN_ABILITY_CARDS,
+        campaignAbilityCardService::count,
+        this::syncCampaignAbilityCardsFromFile);
     syncStatusCardsFromFile();
     campaignUpgradeService.loadUpgrades();
-    syncCommentatorsFromFile();
-    syncCommentaryTeamsFromFile();
-    loadAchievements();
-    syncRingsideActions();
-    syncOutcomeMatricesFromFiles();
-    log.debug("Data initialization complete.");
+    run.sync(
+        ReferenceData.COMMENTATORS,
+        commentaryService::countCommentators,
+        this::syncCommentatorsFromFile);
+    run.sync(
+        ReferenceData.COMMENTARY_TEAMS,
+        commentaryService::countTeams,
+        this::syncCommentaryTeamsFromFile);
+    run.sync(ReferenceData.ACHIEVEMENTS, achievementRepository::count, this::loadAchievements);
+    run.sync(
+        ReferenceData.RINGSIDE_ACTION_TYPES,
+        ringsideActionDataService::countTypes,
+        this::syncRingsideActionTypesFromFile);
+    run.sync(
+        ReferenceData.RINGSIDE_ACTIONS,
+        ringsideActionDataService::countActions,
+        this::syncRingsideActionsFromFile);
+    run.sync(
+        ReferenceData.OUTCOME_MATRICES,
+        outcomeMatrixService::count,
+        this::syncOutcomeMatricesFromFiles);
+    log.info(
+        "Data initialization complete in {}ms; unchanged reference data skipped: {}",
+        (System.nanoTime() - started) / 1_000_000,
+        run.skipped.isEmpty() ? "none" : run.skipped);
   }
 
-  private void syncRingsideActions() {
-    syncRingsideActionTypesFromFile();
-    syncRingsideActionsFromFile();
+  /** Fingerprint bookkeeping for one {@link #performInit()}. */
+  private final class ReferenceDataRun {
+    private final Map<String, String> hashes;
+    private final Map<String, ReferenceDataFingerprints.Fingerprint> applied;
+    private final Set<ReferenceData> ran = EnumSet.noneOf(ReferenceData.class);
+    private final List<ReferenceData> skipped = new ArrayList<>();
+
+    private ReferenceDataRun() {
+      if (skipUnchanged) {
+        Map<String, List<String>> resources = new HashMap<>();
+        for (ReferenceData data : ReferenceData.values()) {
+          resources.put(data.name(), data.resources);
+        }
+        hashes = fingerprints.hash(resources);
+        applied = fingerprints.findAll();
+      } else {
+        hashes = Map.of();
+        applied = Map.of();
+      }
+    }
+
+    /**
+     * Runs {@code pass} unless its reference data is unchanged. The fingerprint is only recorded
+     * when the pass reports that it applied the data, so a failed or skipped pass runs again.
+     *
+     * @param rowCount Counts the rows the pass owns
+     * @param pass Applies the data; returns false if it failed or skipped it
+     * @return Whether the pass ran
+     */
+    private boolean sync(
+        final ReferenceData data, final LongSupplier rowCount, final BooleanSupplier pass) {
+      String hash = hashes.get(data.name());
+      ReferenceDataFingerprints.Fingerprint last = applied.get(data.name());
+      if (hash != null
+          && last != null
+          && last.hash().equals(hash)
+          && data.dependsOn.stream().noneMatch(ran::contains)
+          && rowCount.getAsLong() >= last.rowCount()) {
+        skipped.add(data);
+        return false;
+      }
+      boolean passApplied = pass.getAsBoolean();
+      ran.add(data);
+      if (passApplied && hash != null) {
+        fingerprints.record(data.name(), hash, rowCount.getAsLong());
+      }
+      return true;
+    }
   }
 
-  private void syncRingsideActionTypesFromFile() {
+  private boolean syncRingsideActionTypesFromFile() {
     if (skipIfNotEmpty && ringsideActionDataService.countTypes() > 0) {
-      return;
+      return false;
     }
     ClassPathResource resource = new ClassPathResource("ringside_action_types.json");
     if (resource.exists()) {
@@ -306,13 +432,15 @@ public class DataInitializer implements Initializable {
         log.debug("Ringside action type loading completed - {} types loaded", dtos.size());
       } catch (IOException e) {
         log.error("Error loading ringside action types from file", e);
+        return false;
       }
     }
+    return true;
   }
 
-  private void syncRingsideActionsFromFile() {
+  private boolean syncRingsideActionsFromFile() {
     if (skipIfNotEmpty && ringsideActionDataService.countActions() > 0) {
-      return;
+      return false;
     }
     ClassPathResource resource = new ClassPathResource("ringside_actions.json");
     if (resource.exists()) {
@@ -334,13 +462,15 @@ public class DataInitializer implements Initializable {
         log.debug("Ringside action loading completed - {} actions loaded", dtos.size());
       } catch (IOException e) {
         log.error("Error loading ringside actions from file", e);
+        return false;
       }
     }
+    return true;
   }
 
-  private void loadAchievements() {
+  private boolean loadAchievements() {
     if (skipIfNotEmpty && achievementRepository.count() > 0) {
-      return;
+      return false;
     }
     ClassPathResource resource = new ClassPathResource("achievements.json");
     if (resource.exists()) {
@@ -368,15 +498,17 @@ public class DataInitializer implements Initializable {
             achievementsFromFile.size());
       } catch (IOException e) {
         log.error("Error loading achievements from file", e);
+        return false;
       }
     } else {
       log.warn("Achievements file not found: {}", resource.getPath());
     }
+    return true;
   }
 
-  private void syncCommentatorsFromFile() {
+  private boolean syncCommentatorsFromFile() {
     if (skipIfNotEmpty && commentaryService.countCommentators() > 0) {
-      return;
+      return false;
     }
     ClassPathResource resource = new ClassPathResource("commentators.json");
     if (resource.exists()) {
@@ -399,15 +531,17 @@ public class DataInitializer implements Initializable {
         log.debug("Commentator loading completed - {} commentators loaded", dtos.size());
       } catch (IOException e) {
         log.error("Error loading commentators from file", e);
+        return false;
       }
     } else {
       log.warn("Commentators file not found: {}", resource.getPath());
     }
+    return true;
   }
 
-  private void syncCommentaryTeamsFromFile() {
+  private boolean syncCommentaryTeamsFromFile() {
     if (skipIfNotEmpty && commentaryService.countTeams() > 0) {
-      return;
+      return false;
     }
     ClassPathResource resource = new ClassPathResource("commentary_teams.json");
     if (resource.exists()) {
@@ -422,10 +556,12 @@ public class DataInitializer implements Initializable {
         log.debug("Commentary team loading completed - {} teams loaded", dtos.size());
       } catch (IOException e) {
         log.error("Error loading commentary teams from file", e);
+        return false;
       }
     } else {
       log.warn("Commentary teams file not found: {}", resource.getPath());
     }
+    return true;
   }
 
   private Long getGlobalUniverseId() {
@@ -500,6 +636,7 @@ public class DataInitializer implements Initializable {
 
     if (!toSave.isEmpty()) {
       gameSettingRepository.saveAll(toSave);
+      gameSettingService.reloadSettings();
       log.debug("AI settings synchronization saved {} settings.", toSave.size());
     }
     log.debug("AI settings synchronization complete.");
@@ -575,9 +712,9 @@ public class DataInitializer implements Initializable {
     }
   }
 
-  private void syncCampaignAbilityCardsFromFile() {
+  private boolean syncCampaignAbilityCardsFromFile() {
     if (skipIfNotEmpty && campaignAbilityCardService.count() > 0) {
-      return;
+      return false;
     }
     ClassPathResource resource = new ClassPathResource("campaign_ability_cards.json");
     if (resource.exists()) {
@@ -603,10 +740,12 @@ public class DataInitializer implements Initializable {
             "Campaign ability card loading completed - {} cards loaded", cardsFromFile.size());
       } catch (IOException e) {
         log.error("Error loading campaign ability cards from file", e);
+        return false;
       }
     } else {
       log.warn("Campaign ability cards file not found: {}", resource.getPath());
     }
+    return true;
   }
 
   private void syncStatusCardsFromFile() {
@@ -645,7 +784,7 @@ public class DataInitializer implements Initializable {
     }
   }
 
-  private void loadSegmentRulesFromFile() {
+  private boolean loadSegmentRulesFromFile() {
     ClassPathResource resource = new ClassPathResource("segment_rules.json");
     if (resource.exists()) {
       log.debug("Loading segment rules from file: {}", resource.getPath());
@@ -673,15 +812,17 @@ public class DataInitializer implements Initializable {
         log.debug("Segment rule loading completed - {} rules loaded", segmentRulesFromFile.size());
       } catch (IOException e) {
         log.error("Error loading segment rules from file", e);
+        return false;
       }
     } else {
       log.warn("Segment rules file not found: {}", resource.getPath());
     }
+    return true;
   }
 
-  private void syncShowTypesFromFile() {
+  private boolean syncShowTypesFromFile() {
     if (skipIfNotEmpty && showTypeService.count() > 0) {
-      return;
+      return false;
     }
     ClassPathResource resource = new ClassPathResource("show_types.json");
     if (resource.exists()) {
@@ -701,15 +842,17 @@ public class DataInitializer implements Initializable {
         log.debug("Show type loading completed - {} types loaded", showTypesFromFile.size());
       } catch (IOException e) {
         log.error("Error loading show types from file", e);
+        return false;
       }
     } else {
       log.warn("Show types file not found: {}", resource.getPath());
     }
+    return true;
   }
 
-  private void loadSegmentTypesFromFile() {
+  private boolean loadSegmentTypesFromFile() {
     if (skipIfNotEmpty && segmentTypeService.count() > 0) {
-      return;
+      return false;
     }
     ClassPathResource resource = new ClassPathResource("segment_types.json");
     if (resource.exists()) {
@@ -734,10 +877,12 @@ public class DataInitializer implements Initializable {
         log.debug("Segment type loading completed");
       } catch (IOException e) {
         log.error("Error loading segment types from file", e);
+        return false;
       }
     } else {
       log.warn("Segment types file not found: {}", resource.getPath());
     }
+    return true;
   }
 
   private void loadShowTemplatesFromFile() {
@@ -797,9 +942,9 @@ public class DataInitializer implements Initializable {
     }
   }
 
-  private void syncSetsFromFile() {
+  private boolean syncSetsFromFile() {
     if (skipIfNotEmpty && cardSetService.count() > 0) {
-      return;
+      return false;
     }
     ClassPathResource resource = new ClassPathResource("sets.json");
     if (resource.exists()) {
@@ -824,14 +969,17 @@ public class DataInitializer implements Initializable {
         log.debug("Card sets loading completed - {} sets processed", setsFromFile.size());
       } catch (IOException e) {
         log.error("Error loading card sets from file", e);
+        return false;
       }
     }
+    return true;
   }
 
-  private void syncCardsFromFile() {
+  private boolean syncCardsFromFile() {
     if (skipIfNotEmpty && cardService.count() > 0) {
-      return;
+      return false;
     }
+    boolean applied = true;
     try {
       Resource[] resources = resourcePatternResolver.getResources("classpath*:cards/*.json");
       Map<String, CardSet> setCache = new HashMap<>();
@@ -890,18 +1038,22 @@ public class DataInitializer implements Initializable {
             log.debug("Saved/Updated {} cards from {}", toSave.size(), resource.getFilename());
           } catch (IOException e) {
             log.error("Error loading cards from file: {}", resource.getFilename(), e);
+            applied = false;
           }
         }
       }
     } catch (IOException e) {
       log.error("Error resolving card resources", e);
+      return false;
     }
+    return applied;
   }
 
-  protected void syncWrestlersFromFile() {
+  protected boolean syncWrestlersFromFile() {
     if (skipIfNotEmpty && wrestlerRepository.count() > 0) {
-      return;
+      return false;
     }
+    boolean applied = true;
     try {
       Resource[] resources = resourcePatternResolver.getResources("classpath*:wrestlers*.json");
       // Load universe once
@@ -1124,6 +1276,7 @@ public class DataInitializer implements Initializable {
             toSaveBulk.forEach(saved -> wrestlersByName.put(saved.getName(), saved));
 
             // Process states for ALL wrestlers, but only save if something actually changed.
+            List<WrestlerState> fanChanges = new ArrayList<>();
             for (Wrestler wrestler : allWrestlers) {
               WrestlerImportDTO w = dtoMap.get(wrestler.getName());
               WrestlerState state = wrestlerService.getOrCreateState(wrestler.getId(), leagueId);
@@ -1138,8 +1291,10 @@ public class DataInitializer implements Initializable {
                 stateChanged = true;
               }
               if (stateChanged) {
-                state.setTier(WrestlerTier.fromFanCount(state.getFans()));
-                tierRecalculationService.recalculateTier(state);
+                if (state.getTier() == null) {
+                  state.setTier(WrestlerTier.fromFanCount(state.getFans()));
+                }
+                fanChanges.add(state);
               }
 
               if (w.getManager() != null) {
@@ -1156,19 +1311,24 @@ public class DataInitializer implements Initializable {
                 wrestlerStateRepository.save(state);
               }
             }
+            // Re-tier only the states whose fans moved, with one bulk update per tier.
+            tierRecalculationService.recalculateChangedTiers(fanChanges);
           } catch (IOException e) {
             log.error("Error loading wrestlers from file", e);
+            applied = false;
           }
         }
       }
     } catch (IOException e) {
       log.error("Error resolving wrestler resources", e);
+      return false;
     }
+    return applied;
   }
 
-  private void syncChampionshipsFromFile() {
+  private boolean syncChampionshipsFromFile() {
     if (skipIfNotEmpty && titleService.count() > 0) {
-      return;
+      return false;
     }
     ClassPathResource resource = new ClassPathResource("championships.json");
     if (resource.exists()) {
@@ -1250,13 +1410,15 @@ public class DataInitializer implements Initializable {
         }
       } catch (IOException e) {
         log.error("Error loading championships from file", e);
+        return false;
       }
     }
+    return true;
   }
 
-  private void syncDecksFromFile() {
+  private boolean syncDecksFromFile() {
     if (skipIfNotEmpty && deckService.count() > 0) {
-      return;
+      return false;
     }
     ClassPathResource resource = new ClassPathResource("decks.json");
     if (resource.exists()) {
@@ -1373,8 +1535,10 @@ public class DataInitializer implements Initializable {
             decksToSave.size());
       } catch (IOException e) {
         log.error("Error loading decks from file", e);
+        return false;
       }
     }
+    return true;
   }
 
   private void initializeGameDate() {
@@ -1385,12 +1549,13 @@ public class DataInitializer implements Initializable {
       setting.setSettingKey(GameSettingService.CURRENT_GAME_DATE_KEY);
       setting.setValue(LocalDate.now().format(java.time.format.DateTimeFormatter.ISO_LOCAL_DATE));
       gameSettingRepository.save(setting);
+      gameSettingService.reloadSettings();
     }
   }
 
-  void syncNpcsFromFile() {
+  boolean syncNpcsFromFile() {
     if (skipIfNotEmpty && npcService.count() > 0) {
-      return;
+      return false;
     }
     ClassPathResource resource = new ClassPathResource("npcs.json");
     if (resource.exists()) {
@@ -1469,15 +1634,17 @@ public class DataInitializer implements Initializable {
         log.debug("Npc loading completed - {} npcs processed", dtos.size());
       } catch (IOException e) {
         log.error("Error loading npcs from file", e);
+        return false;
       }
     } else {
       log.warn("Npcs file not found: {}", resource.getPath());
     }
+    return true;
   }
 
-  private void syncFactionsFromFile() {
+  private boolean syncFactionsFromFile() {
     if (skipIfNotEmpty && factionService.count() > 0) {
-      return;
+      return false;
     }
     ClassPathResource resource = new ClassPathResource("factions.json");
     if (resource.exists()) {
@@ -1524,15 +1691,17 @@ public class DataInitializer implements Initializable {
         log.debug("Faction loading completed - {} factions processed", dtos.size());
       } catch (IOException e) {
         log.error("Error loading factions from file", e);
+        return false;
       }
     } else {
       log.warn("Factions file not found: {}", resource.getPath());
     }
+    return true;
   }
 
-  private void syncTeamsFromFile() {
+  private boolean syncTeamsFromFile() {
     if (skipIfNotEmpty && teamService.count() > 0) {
-      return;
+      return false;
     }
     ClassPathResource resource = new ClassPathResource("teams.json");
     if (resource.exists()) {
@@ -1580,15 +1749,17 @@ public class DataInitializer implements Initializable {
         log.debug("Team loading completed - {} teams processed", dtos.size());
       } catch (IOException e) {
         log.error("Error loading teams from file", e);
+        return false;
       }
     } else {
       log.warn("Teams file not found: {}", resource.getPath());
     }
+    return true;
   }
 
-  private void syncLocationsFromFile() {
+  private boolean syncLocationsFromFile() {
     if (skipIfNotEmpty && locationRepository.count() > 0) {
-      return;
+      return false;
     }
     ClassPathResource resource = new ClassPathResource("locations.json");
     if (resource.exists()) {
@@ -1597,7 +1768,7 @@ public class DataInitializer implements Initializable {
         List<LocationImportDTO> locationsFromFile =
             objectMapper.readValue(is, new TypeReference<>() {});
         if (locationsFromFile == null) {
-          return;
+          return true;
         }
 
         List<Location> toSave = new ArrayList<>();
@@ -1639,15 +1810,17 @@ public class DataInitializer implements Initializable {
 
       } catch (IOException e) {
         log.error("Error loading locations from file", e);
+        return false;
       }
     } else {
       log.warn("Locations file not found: {}", resource.getPath());
     }
+    return true;
   }
 
-  private void syncArenasFromFile() {
+  private boolean syncArenasFromFile() {
     if (skipIfNotEmpty && arenaRepository.count() > 0) {
-      return;
+      return false;
     }
     ClassPathResource resource = new ClassPathResource("arenas.json");
     if (resource.exists()) {
@@ -1655,7 +1828,7 @@ public class DataInitializer implements Initializable {
       try (var is = resource.getInputStream()) {
         List<ArenaImportDTO> arenasFromFile = objectMapper.readValue(is, new TypeReference<>() {});
         if (arenasFromFile == null) {
-          return;
+          return true;
         }
 
         Map<String, Arena> existingByName =
@@ -1717,15 +1890,17 @@ public class DataInitializer implements Initializable {
         log.debug("Arena loading completed - {} arenas processed", arenasFromFile.size());
       } catch (IOException e) {
         log.error("Error loading arenas from file", e);
+        return false;
       }
     } else {
       log.warn("Arenas file not found: {}", resource.getPath());
     }
+    return true;
   }
 
-  private void syncRelationshipsFromFile() {
+  private boolean syncRelationshipsFromFile() {
     if (skipIfNotEmpty && relationshipService.count() > 0) {
-      return;
+      return false;
     }
     ClassPathResource resource = new ClassPathResource("relationships.json");
     if (resource.exists()) {
@@ -1756,16 +1931,19 @@ public class DataInitializer implements Initializable {
         log.debug("Relationship loading completed - {} relationships processed", dtos.size());
       } catch (IOException e) {
         log.error("Error loading relationships from file", e);
+        return false;
       }
     } else {
       log.warn("Relationships file not found: {}", resource.getPath());
     }
+    return true;
   }
 
-  void syncOutcomeMatricesFromFiles() {
+  boolean syncOutcomeMatricesFromFiles() {
     if (skipIfNotEmpty && outcomeMatrixService.count() > 0) {
-      return;
+      return false;
     }
+    boolean applied = true;
     try {
       Resource[] resources =
           resourcePatternResolver.getResources("classpath*:outcome_matrices/*.json");
@@ -1817,6 +1995,7 @@ public class DataInitializer implements Initializable {
           }
         } catch (IOException e) {
           log.error("Error loading outcome matrix from file {}", res.getFilename(), e);
+          applied = false;
         }
       }
 
@@ -1861,11 +2040,14 @@ public class DataInitializer implements Initializable {
           }
         } catch (IOException e) {
           log.error("Error wiring redirects for file {}", res.getFilename(), e);
+          applied = false;
         }
       }
       log.debug("Outcome matrix loading complete.");
     } catch (IOException e) {
       log.error("Error resolving outcome_matrices resources", e);
+      return false;
     }
+    return applied;
   }
 }
@@ -0,0 +1,174 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.info.BuildProperties;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Content hashes of the reference data files {@link DataInitializer} last applied, stored in the
+ * {@code reference_data_fingerprint} table by pass name.
+ *
+ * <p>A hash covers every file a pass reads plus the application build, so a new build applies
+ * everything once even when the files did not change.
+ */
+@Component
+@Slf4j
+public class ReferenceDataFingerprints {
+
+  /**
+   * What a pass looked like when it last ran.
+   *
+   * @param hash Hex SHA-256 of its files and the build
+   * @param rowCount Rows the pass owned right after it ran
+   */
+  public record Fingerprint(String hash, long rowCount) {}
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ResourcePatternResolver resourcePatternResolver;
+  private final String build;
+
+  public ReferenceDataFingerprints(
+      @NonNull final JdbcTemplate jdbcTemplate,
+      @NonNull final ResourcePatternResolver resourcePatternResolver,
+      @NonNull final Optional<BuildProperties> buildProperties) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.resourcePatternResolver = resourcePatternResolver;
+    this.build =
+        buildProperties.map(p -> p.getVersion() + "@" + p.getTime()).orElse("development");
+  }
+
+  /**
+   * Hashes the files behind each pass, reading them in parallel.
+   *
+   * @param resourcesByPass Classpath locations by pass name; patterns such as {@code cards/*.json}
+   *     are expanded
+   * @return Hashes by pass name, without the passes whose files could not be read
+   */
+  public Map<String, String> hash(@NonNull final Map<String, List<String>> resourcesByPass) {
+    Map<String, Future<String>> pending = new HashMap<>();
+    Map<String, String> hashes = new HashMap<>();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      resourcesByPass.forEach(
+          (pass, locations) -> pending.put(pass, executor.submit(() -> hash(locations))));
+      for (Map.Entry<String, Future<String>> entry : pending.entrySet()) {
+        try {
+          hashes.put(entry.getKey(), entry.getValue().get());
+        } catch (ExecutionException e) {
+          log.warn(
+              "Could not fingerprint reference data for {}: {}",
+              entry.getKey(),
+              e.getCause().getMessage());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+      }
+    }
+    return hashes;
+  }
+
+  /** Every stored fingerprint by pass name. */
+  public Map<String, Fingerprint> findAll() {
+    Map<String, Fingerprint> fingerprints = new HashMap<>();
+    jdbcTemplate.query(
+        "SELECT pass_name, content_hash, row_count FROM reference_data_fingerprint",
+        rs -> {
+          fingerprints.put(
+              rs.getString("pass_name"),
+              new Fingerprint(rs.getString("content_hash"), rs.getLong("row_count")));
+        });
+    return fingerprints;
+  }
+
+  public void record(@NonNull final String pass, @NonNull final String hash, final long rowCount) {
+    Timestamp now = Timestamp.from(Instant.now());
+    int updated =
+        jdbcTemplate.update(
+            "UPDATE reference_data_fingerprint SET content_hash = ?, row_count = ?, applied_at = ?"
+                + " WHERE pass_name = ?",
+            hash,
+            rowCount,
+            now,
+            pass);
+    if (updated == 0) {
+      jdbcTemplate.update(
+          "INSERT INTO reference_data_fingerprint (pass_name, content_hash, row_count, applied_at)"
+              + " VALUES (?, ?, ?, ?)",
+          pass,
+          hash,
+          rowCount,
+          now);
+    }
+  }
+
+  /** Forgets every fingerprint, so the next initialization applies all reference data. */
+  public void clear() {
+    jdbcTemplate.update("DELETE FROM reference_data_fingerprint");
+  }
+
+  private String hash(final List<String> locations) throws IOException {
+    MessageDigest digest = sha256();
+    digest.update(build.getBytes(StandardCharsets.UTF_8));
+    for (String location : locations) {
+      Resource[] resources =
+          resourcePatternResolver.getResources(
+              location.contains(":") ? location : "classpath*:" + location);
+      Arrays.sort(resources, Comparator.comparing(Resource::getDescription));
+      for (Resource resource : resources) {
+        digest.update((byte) 0);
+        digest.update(String.valueOf(resource.getFilename()).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        try (InputStream in = resource.getInputStream()) {
+          digest.update(in.readAllBytes());
+        }
+      }
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
@@ -16,28 +16,59 @@
 */
 package com.github.javydreamercsw.management.aspect;
 
+import com.github.javydreamercsw.management.service.performance.PerformanceMonitoringProperties;
 import com.github.javydreamercsw.management.service.performance.PerformanceMonitoringService;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
-import lombok.RequiredArgsConstructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
 /**
  * Aspect for monitoring performance of critical operations. Automatically tracks execution times
- * and logs slow operations.
+ * into per-operation latency histograms and logs slow operations.
+ *
+ * <p>Timing uses {@link System#nanoTime()}. Metric names are built once per (class, method) pair
+ * and cached, so the per-call cost is a map lookup plus the histogram update. Calls skipped by the
+ * runtime sample rate only pay for the sampling decision.
  */
-// @Aspect
+@Aspect
 @Component
-@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "atw.performance.monitoring",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
 @Slf4j
 public class PerformanceMonitoringAspect {
 
   private final PerformanceMonitoringService performanceMonitoringService;
+  private final PerformanceMonitoringProperties properties;
+
+  private final OperationNameCache serviceNames = new OperationNameCache("service");
+  private final OperationNameCache repositoryNames = new OperationNameCache("repository");
+  private final OperationNameCache controllerNames = new OperationNameCache("controller");
+  private final Map<String, OperationNames> annotatedNames = new ConcurrentHashMap<>();
+
+  public PerformanceMonitoringAspect(
+      @NonNull final PerformanceMonitoringService performanceMonitoringService,
+      @NonNull final PerformanceMonitoringProperties properties) {
+    this.performanceMonitoringService = performanceMonitoringService;
+    this.properties = properties;
+  }
 
   /** Annotation to mark methods for performance monitoring. */
   @Target(ElementType.METHOD)
@@ -55,17 +86,18 @@ public class PerformanceMonitoringAspect {
   public Object monitorMethodPerformance(
       final ProceedingJoinPoint joinPoint, final MonitorPerformance monitorPerformance)
       throws Throwable {
-    String operationName = getOperationName(joinPoint, monitorPerformance);
-
-    performanceMonitoringService.startOperation(operationName);
+    OperationNames names = namesFor(joinPoint, monitorPerformance);
+    performanceMonitoringService.incrementCounter(names.started());
 
+    long start = System.nanoTime();
     try {
       Object result = joinPoint.proceed();
-      performanceMonitoringService.endOperation(operationName);
+      record(names, System.nanoTime() - start, monitorPerformance.slowThreshold());
+      performanceMonitoringService.incrementCounter(names.completed());
       return result;
-    } catch (Exception e) {
-      performanceMonitoringService.incrementCounter("operations.failed." + operationName);
-      performanceMonitoringService.endOperation(operationName);
+    } catch (Throwable e) {
+      performanceMonitoringService.incrementCounter(names.errors());
+      record(names, System.nanoTime() - start, monitorPerformance.slowThreshold());
       throw e;
     }
   }
@@ -80,64 +112,21 @@ public class PerformanceMonitoringAspect {
        com.github.javydreamercsw.management.service.performance..*(..))\
       """)
   public Object monitorServiceMethods(final ProceedingJoinPoint joinPoint) throws Throwable {
-    String className = joinPoint.getTarget().getClass().getSimpleName();
-    String methodName = joinPoint.getSignature().getName();
-    String operationName = className + "." + methodName;
-
-    long startTime = System.currentTimeMillis();
-
-    try {
-      Object result = joinPoint.proceed();
-
-      long duration = System.currentTimeMillis() - startTime;
-      performanceMonitoringService.recordTimer("service.methods." + operationName, duration);
-
-      // Log slow service methods
-      if (duration > 500) { // More than 500ms
-        log.warn("⚠️ Slow service method: {} took {}ms", operationName, duration);
-        performanceMonitoringService.incrementCounter("service.slow." + operationName);
-      }
-
-      return result;
-    } catch (Exception e) {
-      long duration = System.currentTimeMillis() - startTime;
-      performanceMonitoringService.recordTimer(
-          "service.methods." + operationName + ".failed", duration);
-      performanceMonitoringService.incrementCounter("service.errors." + operationName);
-      throw e;
-    }
+    return timed(
+        joinPoint,
+        serviceNames.get(joinPoint.getTarget().getClass(), joinPoint),
+        properties.getServiceSlowThresholdMs());
   }
 
   /** Monitors performance of repository methods (database operations). */
   @Around("execution(* com.github.javydreamercsw.management.domain..*Repository.*(..))")
   public Object monitorRepositoryMethods(final ProceedingJoinPoint joinPoint) throws Throwable {
-    String className = joinPoint.getTarget().getClass().getSimpleName();
-    String methodName = joinPoint.getSignature().getName();
-    String operationName = className + "." + methodName;
-
-    long startTime = System.currentTimeMillis();
-
-    try {
-      Object result = joinPoint.proceed();
-
-      long duration = System.currentTimeMillis() - startTime;
-      performanceMonitoringService.recordTimer("repository.methods." + operationName, duration);
-      performanceMonitoringService.incrementCounter("repository.calls." + operationName);
-
-      // Log slow database operations
-      if (duration > 100) { // More than 100ms for database operations
-        log.warn("⚠️ Slow database operation: {} took {}ms", operationName, duration);
-        performanceMonitoringService.incrementCounter("repository.slow." + operationName);
-      }
-
-      return result;
-    } catch (Exception e) {
-      long duration = System.currentTimeMillis() - startTime;
-      performanceMonitoringService.recordTimer(
-          "repository.methods." + operationName + ".failed", duration);
-      performanceMonitoringService.incrementCounter("repository.errors." + operationName);
-      throw e;
-    }
+    // The target of a Spring Data proxy is SimpleJpaRepository; the proxy itself carries the
+    // repository interface we actually want to label the metric with.
+    return timed(
+        joinPoint,
+        repositoryNames.get(joinPoint.getThis().getClass(), joinPoint),
+        properties.getRepositorySlowThresholdMs());
   }
 
   /**
@@ -150,44 +139,140 @@ public class PerformanceMonitoringAspect {
        com.github.javydreamercsw.management.controller.system.PerformanceController.*(..))\
       """)
   public Object monitorControllerMethods(final ProceedingJoinPoint joinPoint) throws Throwable {
-    String className = joinPoint.getTarget().getClass().getSimpleName();
-    String methodName = joinPoint.getSignature().getName();
-    String operationName = className + "." + methodName;
+    return timed(
+        joinPoint,
+        controllerNames.get(joinPoint.getTarget().getClass(), joinPoint),
+        properties.getControllerSlowThresholdMs());
+  }
 
-    long startTime = System.currentTimeMillis();
+  private Object timed(
+      final ProceedingJoinPoint joinPoint, final OperationNames names, final long slowThresholdMs)
+      throws Throwable {
+    if (!performanceMonitoringService.shouldSample()) {
+      return joinPoint.proceed();
+    }
 
+    long start = System.nanoTime();
     try {
       Object result = joinPoint.proceed();
-
-      long duration = System.currentTimeMillis() - startTime;
-      performanceMonitoringService.recordTimer("controller.methods." + operationName, duration);
-      performanceMonitoringService.incrementCounter("controller.requests." + operationName);
-
-      // Log slow API endpoints
-      if (duration > 2000) { // More than 2 seconds for API calls
-        log.warn("⚠️ Slow API endpoint: {} took {}ms", operationName, duration);
-        performanceMonitoringService.incrementCounter("controller.slow." + operationName);
-      }
-
+      record(names, System.nanoTime() - start, slowThresholdMs);
+      performanceMonitoringService.incrementCounter(names.calls());
       return result;
-    } catch (Exception e) {
-      long duration = System.currentTimeMillis() - startTime;
-      performanceMonitoringService.recordTimer(
-          "controller.methods." + operationName + ".failed", duration);
-      performanceMonitoringService.incrementCounter("controller.errors." + operationName);
+    } catch (Throwable e) {
+      performanceMonitoringService.recordLatency(names.failed(), System.nanoTime() - start);
+      performanceMonitoringService.incrementCounter(names.errors());
       throw e;
     }
   }
 
-  /** Gets the operation name from the join point and annotation. */
-  private String getOperationName(
+  private void record(
+      final OperationNames names, final long durationNanos, final long slowThresholdMs) {
+    performanceMonitoringService.recordLatency(names.timer(), durationNanos);
+    long durationMs = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+    if (durationMs > slowThresholdMs) {
+      log.warn("⚠️ Slow {}: {} took {}ms", names.category(), names.label(), durationMs);
+      performanceMonitoringService.incrementCounter(names.slow());
+    }
+  }
+
+  /** Gets the operation names from the join point and annotation. */
+  private OperationNames namesFor(
       final ProceedingJoinPoint joinPoint, final MonitorPerformance monitorPerformance) {
     if (!monitorPerformance.value().isEmpty()) {
-      return monitorPerformance.value();
+      return annotatedNames.computeIfAbsent(
+          monitorPerformance.value(), name -> OperationNames.of("operations", name));
     }
+    return serviceNames.get(joinPoint.getTarget().getClass(), joinPoint);
+  }
 
-    String className = joinPoint.getTarget().getClass().getSimpleName();
-    String methodName = joinPoint.getSignature().getName();
-    return className + "." + methodName;
+  /**
+   * Pre-built metric names for one operation, so the hot path never concatenates strings.
+   *
+   * @param category The metric family, e.g. {@code service}
+   * @param label The human-readable {@code Class.method} label
+   * @param timer Latency histogram name
+   * @param failed Latency histogram name for failed calls
+   * @param calls Call counter name
+   * @param slow Slow-call counter name
+   * @param errors Error counter name
+   * @param started Started counter name (annotated operations only)
+   * @param completed Completed counter name (annotated operations only)
+   */
+  record OperationNames(
+      String category,
+      String label,
+      String timer,
+      String failed,
+      String calls,
+      String slow,
+      String errors,
+      String started,
+      String completed) {
+
+    static OperationNames of(final String category, final String label) {
+      if ("operations".equals(category)) {
+        return new OperationNames(
+            category,
+            label,
+            "operations.duration." + label,
+            "operations.duration." + label + ".failed",
+            "operations.completed." + label,
+            "operations.slow." + label,
+            "operations.failed." + label,
+            "operations.started." + label,
+            "operations.completed." + label);
+      }
+      return new OperationNames(
+          category,
+          label,
+          category + ".methods." + label,
+          category + ".methods." + label + ".failed",
+          category + ".calls." + label,
+          category + ".slow." + label,
+          category + ".errors." + label,
+          category + ".started." + label,
+          category + ".completed." + label);
+    }
+  }
+
+  /**
+   * Two-level cache of operation names keyed by the invoked class and then by method. {@link
+   * ClassValue} gives an allocation-free lookup for the first level.
+   */
+  static final class OperationNameCache {
+    private final String category;
+    private final ClassValue<Map<Method, OperationNames>> byClass =
+        new ClassValue<>() {
+          @Override
+          protected Map<Method, OperationNames> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+          }
+        };
+
+    OperationNameCache(final String category) {
+      this.category = category;
+    }
+
+    OperationNames get(final Class<?> invokedClass, final ProceedingJoinPoint joinPoint) {
+      Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+      Map<Method, OperationNames> methods = byClass.get(invokedClass);
+      OperationNames names = methods.get(method);
+      if (names == null) {
+        String label = labelFor(invokedClass) + "." + method.getName();
+        names = methods.computeIfAbsent(method, m -> OperationNames.of(category, label));
+      }
+      return names;
+    }
+
+    static String labelFor(final Class<?> type) {
+      if (Proxy.isProxyClass(type)) {
+        for (Class<?> iface : type.getInterfaces()) {
+          if (iface.getName().startsWith("com.github.javydreamercsw.")) {
+            return iface.getSimpleName();
+          }
+        }
+      }
+      return ClassUtils.getUserClass(type).getSimpleName();
+    }
   }
 }
@@ -29,7 +29,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -181,6 +183,28 @@ public class PerformanceController {
     return ResponseEntity.ok(operations);
   }
 
+  @Operation(
+      summary = "Get latency percentiles",
+      description =
+          """
+          Returns p50/p95/p99/max latency in milliseconds for every traced service, repository and\
+           controller operation\
+          """)
+  @GetMapping("/latency")
+  public ResponseEntity<Map<String, PerformanceMonitoringService.LatencyStats>> getLatencyStats() {
+    return ResponseEntity.ok(performanceMonitoringService.getLatencyStats());
+  }
+
+  @Operation(
+      summary = "Set tracing sample rate",
+      description = "Sets the fraction of calls (0.0 - 1.0) timed by the performance tracing layer")
+  @PutMapping("/sampling")
+  public ResponseEntity<Map<String, Object>> setSampleRate(@RequestParam final double rate) {
+    performanceMonitoringService.setSampleRate(rate);
+    return ResponseEntity.ok(
+        Map.of("status", "success", "sampleRate", performanceMonitoringService.getSampleRate()));
+  }
+
   @Operation(
       summary = "Get performance health status",
       description = "Returns overall performance health status with key indicators")
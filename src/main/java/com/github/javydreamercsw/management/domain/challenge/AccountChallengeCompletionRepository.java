@@ -16,13 +16,29 @@
 */
 package com.github.javydreamercsw.management.domain.challenge;
 
+import com.github.javydreamercsw.base.domain.ImageReferencingRepository;
 import com.github.javydreamercsw.base.domain.account.Account;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RestResource;
 
 public interface AccountChallengeCompletionRepository
-    extends JpaRepository<AccountChallengeCompletion, Long> {
+    extends JpaRepository<AccountChallengeCompletion, Long>,
+        ImageReferencingRepository<AccountChallengeCompletion, Long> {
+
+  /** Proof screenshots are uploaded into the generated image directory like any other image. */
+  @Override
+  @RestResource(exported = false)
+  @Query(
+      """
+      SELECT DISTINCT c.proofImageUrl FROM AccountChallengeCompletion c
+      WHERE c.proofImageUrl IN :imageUrls
+      """)
+  List<String> findReferencedImageUrls(@Param("imageUrls") Collection<String> imageUrls);
 
   Optional<AccountChallengeCompletion> findByAccountAndChallengeId(
       Account account, String challengeId);
@@ -20,6 +20,7 @@ import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -32,6 +33,9 @@ public interface DeckRepository extends JpaRepository<Deck, Long>, JpaSpecificat
 
   List<Deck> findByWrestler(Wrestler wrestler);
 
+  @Query("SELECT d FROM Deck d JOIN FETCH d.wrestler")
+  Slice<Deck> findAllWithWrestler(Pageable pageable);
+
   @Query("SELECT d FROM Deck d LEFT JOIN FETCH d.cards WHERE d.wrestler = :wrestler")
   List<Deck> findByWrestlerWithCards(@Param("wrestler") Wrestler wrestler);
 }
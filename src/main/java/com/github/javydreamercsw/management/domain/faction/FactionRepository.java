@@ -16,6 +16,7 @@
 */
 package com.github.javydreamercsw.management.domain.faction;
 
+import com.github.javydreamercsw.base.domain.ImageReferencingRepository;
 import com.github.javydreamercsw.management.domain.universe.Universe;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
 import java.util.List;
@@ -28,7 +29,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface FactionRepository
-    extends JpaRepository<Faction, Long>, JpaSpecificationExecutor<Faction> {
+    extends JpaRepository<Faction, Long>,
+        JpaSpecificationExecutor<Faction>,
+        ImageReferencingRepository<Faction, Long> {
 
   // If you don't need a total row count, Slice is better than Page.
   Page<Faction> findAllBy(Pageable pageable);
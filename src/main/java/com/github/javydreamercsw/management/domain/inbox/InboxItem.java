@@ -22,11 +22,13 @@ import jakarta.validation.constraints.Size;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
 @Entity
 @Table(name = "inbox_item")
+@EntityListeners(InboxUnreadListener.class)
 @Getter
 @Setter
 public class InboxItem extends AbstractEntity<Long> {
@@ -76,6 +78,12 @@ public class InboxItem extends AbstractEntity<Long> {
   @Column(name = "sender_account_id")
   private Long senderAccountId;
 
+  /** The read flag as last loaded or written, maintained by {@link InboxUnreadListener}. */
+  @Transient
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  boolean readAsStored;
+
   @OneToMany(
       mappedBy = "inboxItem",
       cascade = CascadeType.ALL,
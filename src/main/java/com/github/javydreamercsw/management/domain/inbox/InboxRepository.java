@@ -46,6 +46,13 @@ public interface InboxRepository
   boolean existsUnreadByEventTypeAndAccountId(
       @Param("eventType") InboxEventType eventType, @Param("accountId") String accountId);
 
+  @Query(
+      """
+      SELECT COUNT(DISTINCT i) FROM InboxItem i JOIN i.targets t
+      WHERE t.targetId = :accountId AND t.targetType = 'ACCOUNT' AND i.isRead = false
+      """)
+  long countUnreadForAccount(@Param("accountId") String accountId);
+
   @Query(
       """
       SELECT i FROM InboxItem i JOIN i.targets t
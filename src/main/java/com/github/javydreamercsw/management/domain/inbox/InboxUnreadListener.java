@@ -0,0 +1,98 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.domain.inbox;
+
+import com.github.javydreamercsw.management.event.InboxUnreadChangedEvent;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Reports {@link InboxItem} writes that change an account's unread count as {@link
+ * InboxUnreadChangedEvent}s. The read flag as last stored is kept on the item, so an update is
+ * only reported when it actually flips the flag.
+ */
+public class InboxUnreadListener {
+
+  @Autowired(required = false)
+  private ApplicationEventPublisher eventPublisher;
+
+  @PostLoad
+  void onLoad(final InboxItem item) {
+    item.readAsStored = item.isRead();
+  }
+
+  @PostPersist
+  void onPersist(final InboxItem item) {
+    item.readAsStored = item.isRead();
+    if (!item.isRead()) {
+      publish(item, 1);
+    }
+  }
+
+  @PostUpdate
+  void onUpdate(final InboxItem item) {
+    if (item.isRead() != item.readAsStored) {
+      item.readAsStored = item.isRead();
+      publish(item, item.isRead() ? -1 : 1);
+    }
+  }
+
+  @PostRemove
+  void onRemove(final InboxItem item) {
+    if (!item.readAsStored) {
+      publish(item, -1);
+    }
+  }
+
+  private void publish(final InboxItem item, final long delta) {
+    if (eventPublisher == null) {
+      return;
+    }
+    Map<Long, Long> deltas = new HashMap<>();
+    for (InboxItemTarget target : item.getTargets()) {
+      Long accountId = accountId(target);
+      if (accountId != null) {
+        deltas.put(accountId, delta);
+      }
+    }
+    if (!deltas.isEmpty()) {
+      eventPublisher.publishEvent(new InboxUnreadChangedEvent(this, deltas));
+    }
+  }
+
+  /** The account an {@code ACCOUNT} target points at, or {@code null}. */
+  public static Long accountId(final InboxItemTarget.TargetType type, final String targetId) {
+    if (type != InboxItemTarget.TargetType.ACCOUNT || targetId == null) {
+      return null;
+    }
+    try {
+      return Long.valueOf(targetId);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static Long accountId(final InboxItemTarget target) {
+    return accountId(target.getTargetType(), target.getTargetId());
+  }
+}
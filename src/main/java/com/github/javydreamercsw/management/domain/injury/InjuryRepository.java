@@ -18,7 +18,9 @@ package com.github.javydreamercsw.management.domain.injury;
 
 import com.github.javydreamercsw.management.domain.universe.Universe;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -37,6 +39,15 @@ public interface InjuryRepository
   /** Find all injuries for a specific wrestler in a universe. */
   List<Injury> findByWrestlerAndUniverse(Wrestler wrestler, Universe universe);
 
+  /** Injuries of any of the given wrestlers in a universe, ordered by id. */
+  @Query(
+      """
+      SELECT i FROM Injury i WHERE i.wrestler.id IN :wrestlerIds AND i.universe.id = :universeId
+      ORDER BY i.id
+      """)
+  List<Injury> findByWrestlerIdsAndUniverseId(
+      @Param("wrestlerIds") Collection<Long> wrestlerIds, @Param("universeId") Long universeId);
+
   /** Find active injuries for a specific wrestler in a universe. */
   @Query(
       """
@@ -101,6 +112,15 @@ public interface InjuryRepository
       """)
   List<Wrestler> findWrestlersWithActiveInjuries(@Param("universe") Universe universe);
 
+  /** IDs of the wrestlers with active injuries in a universe. */
+  @Query(
+      """
+      SELECT DISTINCT i.wrestler.id
+      FROM Injury i
+      WHERE i.healedDate is null AND i.universe.id = :universeId
+      """)
+  Set<Long> findWrestlerIdsWithActiveInjuries(@Param("universeId") Long universeId);
+
   /** Find wrestlers with active injuries. */
   @Query(
       """
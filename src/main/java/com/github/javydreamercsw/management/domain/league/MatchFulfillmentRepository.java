@@ -17,6 +17,8 @@
 package com.github.javydreamercsw.management.domain.league;
 
 import com.github.javydreamercsw.management.domain.show.segment.Segment;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -27,6 +29,8 @@ import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 public interface MatchFulfillmentRepository extends JpaRepository<MatchFulfillment, Long> {
   Optional<MatchFulfillment> findBySegment(Segment segment);
 
+  List<MatchFulfillment> findBySegmentIn(Collection<Segment> segments);
+
   @Query(
       """
       SELECT m FROM MatchFulfillment m \
@@ -16,13 +16,15 @@
 */
 package com.github.javydreamercsw.management.domain.npc;
 
+import com.github.javydreamercsw.base.domain.ImageReferencingRepository;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface NpcRepository extends JpaRepository<Npc, Long> {
+public interface NpcRepository
+    extends JpaRepository<Npc, Long>, ImageReferencingRepository<Npc, Long> {
 
   List<Npc> findAllByNpcType(String npcType);
 
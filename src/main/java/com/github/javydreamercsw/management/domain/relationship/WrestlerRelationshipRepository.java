@@ -17,6 +17,7 @@
 package com.github.javydreamercsw.management.domain.relationship;
 
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -33,6 +34,14 @@ public interface WrestlerRelationshipRepository extends JpaRepository<WrestlerRe
       """)
   List<WrestlerRelationship> findAllByWrestler(@Param("wrestler") Wrestler wrestler);
 
+  @Query(
+      """
+      SELECT r FROM WrestlerRelationship r JOIN FETCH r.wrestler1 JOIN FETCH r.wrestler2\
+       WHERE r.wrestler1.id IN :wrestlerIds OR r.wrestler2.id IN :wrestlerIds ORDER BY r.id\
+      """)
+  List<WrestlerRelationship> findAllByWrestlerIds(
+      @Param("wrestlerIds") Collection<Long> wrestlerIds);
+
   @Query(
       """
       SELECT r FROM WrestlerRelationship r WHERE (r.wrestler1 = :w1 AND r.wrestler2 = :w2) OR\
@@ -41,6 +50,14 @@ public interface WrestlerRelationshipRepository extends JpaRepository<WrestlerRe
   List<WrestlerRelationship> findBetweenWrestlers(
       @Param("w1") Wrestler w1, @Param("w2") Wrestler w2);
 
+  @Query(
+      """
+      SELECT r FROM WrestlerRelationship r JOIN FETCH r.wrestler1 JOIN FETCH r.wrestler2\
+       WHERE r.wrestler1 IN :wrestlers AND r.wrestler2 IN :wrestlers\
+      """)
+  List<WrestlerRelationship> findAmongWrestlers(
+      @Param("wrestlers") Collection<Wrestler> wrestlers);
+
   @Query("SELECT r FROM WrestlerRelationship r JOIN FETCH r.wrestler1 JOIN FETCH r.wrestler2")
   List<WrestlerRelationship> findAllWithWrestlers();
 }
@@ -19,10 +19,12 @@ package com.github.javydreamercsw.management.domain.rivalry;
 import com.github.javydreamercsw.management.domain.universe.Universe;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
@@ -42,6 +44,22 @@ public interface RivalryRepository
       """)
   List<Rivalry> findByUniverseWithWrestlers(@Param("universe") Universe universe);
 
+  @Query(
+      """
+      SELECT r FROM Rivalry r JOIN FETCH r.wrestler1 JOIN FETCH r.wrestler2
+      WHERE r.universe = :universe ORDER BY r.id
+      """)
+  Slice<Rivalry> findByUniverseWithWrestlers(
+      @Param("universe") Universe universe, Pageable pageable);
+
+  /** Number of heat events per rivalry, as {@code [rivalryId, count]} rows. */
+  @Query(
+      """
+      SELECT e.rivalry.id, COUNT(e) FROM HeatEvent e WHERE e.rivalry.id IN :rivalryIds
+      GROUP BY e.rivalry.id
+      """)
+  List<Object[]> countHeatEventsByRivalry(@Param("rivalryIds") Collection<Long> rivalryIds);
+
   // If you don't need a total row count, Slice is better than Page.
   Page<Rivalry> findAllBy(Pageable pageable);
 
@@ -70,6 +88,15 @@ public interface RivalryRepository
   Optional<Rivalry> findActiveRivalryBetween(
       @Param("wrestler1") Wrestler wrestler1, @Param("wrestler2") Wrestler wrestler2);
 
+  /** Active rivalries between any two of the given wrestlers, with both wrestlers fetched. */
+  @Query(
+      """
+      SELECT r FROM Rivalry r JOIN FETCH r.wrestler1 JOIN FETCH r.wrestler2
+      WHERE r.wrestler1 IN :wrestlers AND r.wrestler2 IN :wrestlers
+      AND r.isActive = true
+      """)
+  List<Rivalry> findActiveRivalriesAmong(@Param("wrestlers") Collection<Wrestler> wrestlers);
+
   /** Find all rivalries involving a specific wrestler. */
   @Query(
       """
@@ -147,4 +174,56 @@ public interface RivalryRepository
   @Modifying(clearAutomatically = true)
   @Query("DELETE FROM Rivalry r WHERE r.universe = :universe")
   void deleteByUniverse(@Param("universe") Universe universe);
+
+  /** Id and current heat of a rivalry, for set-based maintenance jobs. */
+  interface RivalryHeat {
+    Long getId();
+
+    Integer getHeat();
+  }
+
+  /**
+   * Active rivalries with heat whose latest heat event (if any) is older than {@code cutoff}, in id
+   * order after {@code afterId}. Page through with the last returned id.
+   */
+  @Query(
+      """
+      SELECT r.id AS id, r.heat AS heat FROM Rivalry r LEFT JOIN r.heatEvents e
+      WHERE r.isActive = true AND r.heat > 0 AND r.id > :afterId
+      GROUP BY r.id, r.heat
+      HAVING MAX(e.eventDate) IS NULL OR MAX(e.eventDate) < :cutoff
+      ORDER BY r.id
+      """)
+  List<RivalryHeat> findStaleActiveRivalries(
+      @Param("cutoff") Instant cutoff, @Param("afterId") long afterId, Pageable pageable);
+
+  /** Active rivalries started before {@code startedBefore}, in id order after {@code afterId}. */
+  @Query(
+      """
+      SELECT r.id AS id, r.heat AS heat FROM Rivalry r
+      WHERE r.isActive = true AND r.startedDate < :startedBefore AND r.id > :afterId
+      ORDER BY r.id
+      """)
+  List<RivalryHeat> findActiveRivalriesStartedBefore(
+      @Param("startedBefore") Instant startedBefore,
+      @Param("afterId") long afterId,
+      Pageable pageable);
+
+  /** Lowers the heat of the given rivalries by {@code amount}, never below zero. */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      """
+      UPDATE Rivalry r SET r.heat = CASE WHEN r.heat > :amount THEN r.heat - :amount ELSE 0 END
+      WHERE r.id IN :ids
+      """)
+  int decayHeat(@Param("ids") Collection<Long> ids, @Param("amount") int amount);
+
+  /** Ends the given rivalries as of {@code endedDate}. */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      """
+      UPDATE Rivalry r SET r.isActive = false, r.endedDate = :endedDate
+      WHERE r.id IN :ids AND r.isActive = true
+      """)
+  int endRivalries(@Param("ids") Collection<Long> ids, @Param("endedDate") Instant endedDate);
 }
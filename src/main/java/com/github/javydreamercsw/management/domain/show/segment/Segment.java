@@ -30,6 +30,7 @@ import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -44,12 +45,16 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.Min;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
@@ -61,6 +66,7 @@ import org.jspecify.annotations.Nullable;
  * details for storyline continuity and statistics.
  */
 @Entity
+@EntityListeners(SegmentResultListener.class)
 @Table(name = "segment")
 @Getter
 @Setter
@@ -166,6 +172,48 @@ public class Segment extends AbstractEntity<Long> {
   @Column(name = "referee_awareness_level", nullable = false)
   private int refereeAwarenessLevel = 0;
 
+  /** State as last loaded or written; see {@link SegmentResultListener}. */
+  @Transient
+  @JsonIgnore
+  @Getter(AccessLevel.NONE)
+  @ToString.Exclude
+  private final AtomicReference<StoredState> stateAsStored = new AtomicReference<>();
+
+  /**
+   * The parts of a segment that other tables are derived from: win/loss records depend on the
+   * status, type and show, summaries on the narration.
+   */
+  record StoredState(
+      SegmentStatus status, Long segmentTypeId, Long showId, String narration) {
+
+    /** Whether a record built from {@code other} would still match this state. */
+    boolean sameResultAs(@Nullable final StoredState other) {
+      return other != null
+          && status == other.status
+          && Objects.equals(segmentTypeId, other.segmentTypeId)
+          && Objects.equals(showId, other.showId);
+    }
+  }
+
+  /**
+   * Records the current state as the stored one and returns the state stored before, or {@code
+   * null} if there was none. Called by {@link SegmentResultListener} after the segment is loaded
+   * or written.
+   */
+  @Nullable StoredState markStored() {
+    return stateAsStored.getAndSet(
+        new StoredState(
+            status,
+            segmentType == null ? null : segmentType.getId(),
+            show == null ? null : show.getId(),
+            narration));
+  }
+
+  /** The state recorded by the last {@link #markStored()}. */
+  @Nullable StoredState storedState() {
+    return stateAsStored.get();
+  }
+
   /** Ensure default values before persisting. */
   @PrePersist
   private void ensureDefaults() {
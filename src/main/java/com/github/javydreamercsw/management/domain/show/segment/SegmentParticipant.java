@@ -25,6 +25,7 @@ import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -43,6 +44,7 @@ import org.jspecify.annotations.Nullable;
  * whether they won or lost.
  */
 @Entity
+@EntityListeners(SegmentResultListener.class)
 @Table(name = "segment_participant")
 @Getter
 @Setter
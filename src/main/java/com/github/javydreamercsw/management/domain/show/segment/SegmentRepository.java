@@ -118,6 +118,15 @@ public interface SegmentRepository
   /** Find segments between two dates. */
   List<Segment> findBySegmentDateBetween(Instant startDate, Instant endDate);
 
+  /** Ids of the wrestlers taking part in any segment of a show. */
+  @Query(
+      """
+      SELECT DISTINCT p.wrestler.id FROM Segment s
+      JOIN s.participants p
+      WHERE s.show.id = :showId
+      """)
+  List<Long> findParticipantIdsByShowId(@Param("showId") Long showId);
+
   /** Count wins for a wrestler in a specific universe. */
   @Query(
       """
@@ -276,6 +285,26 @@ public interface SegmentRepository
       """)
   Optional<Segment> findByIdWithDetails(@Param("id") Long id);
 
+  /**
+   * All segments of a show with everything adjudication reads eagerly loaded, in running order.
+   * Used by the whole-show batch adjudication so that each segment does not need its own lookup.
+   */
+  @Query(
+      """
+      SELECT DISTINCT s FROM Segment s
+      JOIN FETCH s.show sh
+      LEFT JOIN FETCH sh.universe u
+      JOIN FETCH s.segmentType st
+      LEFT JOIN FETCH s.segmentRules sr
+      LEFT JOIN FETCH s.titles t
+      LEFT JOIN FETCH s.referee r
+      LEFT JOIN FETCH s.participants p
+      LEFT JOIN FETCH p.wrestler w
+      WHERE sh.id = :showId
+      ORDER BY s.segmentOrder
+      """)
+  List<Segment> findByShowIdWithDetails(@Param("showId") Long showId);
+
   long countByAdjudicationStatus(
       com.github.javydreamercsw.management.domain.AdjudicationStatus adjudicationStatus);
 }
@@ -0,0 +1,89 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.domain.show.segment;
+
+import com.github.javydreamercsw.management.event.SegmentNarrationChangedEvent;
+import com.github.javydreamercsw.management.event.SegmentResultsChangedEvent;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PreRemove;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Reports {@link SegmentParticipant} writes, and {@link Segment} writes that change its status,
+ * type or show, as {@link SegmentResultsChangedEvent}s. Segments stored with a different narration
+ * are reported as {@link SegmentNarrationChangedEvent}s. Other segment edits, such as notes or
+ * summaries, raise nothing, so they do not rebuild win/loss records.
+ */
+public class SegmentResultListener {
+
+  @Autowired(required = false)
+  private ApplicationEventPublisher eventPublisher;
+
+  @PostLoad
+  void onLoad(final Object entity) {
+    if (entity instanceof Segment segment) {
+      segment.markStored();
+    }
+  }
+
+  @PostPersist
+  @PostUpdate
+  void onWrite(final Object entity) {
+    if (entity instanceof SegmentParticipant participant) {
+      participantChanged(participant);
+    } else if (entity instanceof Segment segment && segment.getId() != null) {
+      Segment.StoredState previous = segment.markStored();
+      Segment.StoredState current = segment.storedState();
+      if (!current.sameResultAs(previous)) {
+        publish(new SegmentResultsChangedEvent(this, Set.of(), Set.of(segment.getId())));
+      }
+      String narration = previous == null ? null : previous.narration();
+      if (current.narration() != null && !Objects.equals(narration, current.narration())) {
+        publish(new SegmentNarrationChangedEvent(this, Set.of(segment.getId())));
+      }
+    }
+  }
+
+  @PreRemove
+  void onRemove(final Object entity) {
+    if (entity instanceof SegmentParticipant participant) {
+      participantChanged(participant);
+    } else if (entity instanceof Segment segment && segment.getId() != null) {
+      publish(new SegmentResultsChangedEvent(this, Set.of(), Set.of(segment.getId())));
+    }
+  }
+
+  private void participantChanged(final SegmentParticipant participant) {
+    if (participant.getWrestler() != null && participant.getWrestler().getId() != null) {
+      publish(
+          new SegmentResultsChangedEvent(
+              this, Set.of(participant.getWrestler().getId()), Set.of()));
+    }
+  }
+
+  private void publish(final ApplicationEvent event) {
+    if (eventPublisher != null) {
+      eventPublisher.publishEvent(event);
+    }
+  }
+}
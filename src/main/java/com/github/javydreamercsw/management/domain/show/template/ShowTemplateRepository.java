@@ -16,6 +16,7 @@
 */
 package com.github.javydreamercsw.management.domain.show.template;
 
+import com.github.javydreamercsw.base.domain.ImageReferencingRepository;
 import com.github.javydreamercsw.management.domain.show.type.ShowType;
 import java.util.List;
 import java.util.Optional;
@@ -31,7 +32,8 @@ import org.springframework.stereotype.Repository;
  * templates.
  */
 @Repository
-public interface ShowTemplateRepository extends JpaRepository<ShowTemplate, Long> {
+public interface ShowTemplateRepository
+    extends JpaRepository<ShowTemplate, Long>, ImageReferencingRepository<ShowTemplate, Long> {
 
   /**
    * Find a show template by name.
@@ -16,6 +16,7 @@
 */
 package com.github.javydreamercsw.management.domain.team;
 
+import com.github.javydreamercsw.base.domain.ImageReferencingRepository;
 import com.github.javydreamercsw.management.domain.faction.Faction;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
 import java.util.List;
@@ -27,7 +28,10 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface TeamRepository extends JpaRepository<Team, Long>, JpaSpecificationExecutor<Team> {
+public interface TeamRepository
+    extends JpaRepository<Team, Long>,
+        JpaSpecificationExecutor<Team>,
+        ImageReferencingRepository<Team, Long> {
 
   // If you don't need a total row count, Slice is better than Page.
   Page<Team> findAllBy(Pageable pageable);
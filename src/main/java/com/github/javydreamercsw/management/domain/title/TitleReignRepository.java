@@ -19,14 +19,18 @@ package com.github.javydreamercsw.management.domain.title;
 import com.github.javydreamercsw.management.domain.show.segment.Segment;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface TitleReignRepository extends JpaRepository<TitleReign, Long> {
+public interface TitleReignRepository
+    extends JpaRepository<TitleReign, Long>, JpaSpecificationExecutor<TitleReign> {
 
   /**
    * Fetches every reign with its {@code title} eagerly loaded — used outside a Hibernate session
@@ -46,6 +50,16 @@ public interface TitleReignRepository extends JpaRepository<TitleReign, Long> {
 
   List<TitleReign> findByChampionsContaining(Wrestler wrestler);
 
+  /** Reigns held by any of the given wrestlers, with their title and every champion fetched. */
+  @Query(
+      """
+      SELECT DISTINCT tr FROM TitleReign tr JOIN FETCH tr.title LEFT JOIN FETCH tr.champions
+      WHERE tr.id IN (SELECT r.id FROM TitleReign r JOIN r.champions c WHERE c.id IN :wrestlerIds)
+      ORDER BY tr.id
+      """)
+  List<TitleReign> findByChampionIdsWithChampions(
+      @Param("wrestlerIds") Collection<Long> wrestlerIds);
+
   List<TitleReign> findByStartDateBetween(Instant startDate, Instant endDate);
 
   /**
@@ -59,4 +73,16 @@ public interface TitleReignRepository extends JpaRepository<TitleReign, Long> {
    * just changed hands.
    */
   Optional<TitleReign> findFirstByTitleAndEndDateIsNotNullOrderByEndDateDesc(Title title);
+
+  /** Names of the titles a wrestler held at any point between {@code from} and {@code until}. */
+  @Query(
+      """
+      SELECT DISTINCT tr.title.name FROM TitleReign tr JOIN tr.champions c
+      WHERE c.id = :wrestlerId AND tr.startDate <= :until
+      AND (tr.endDate IS NULL OR tr.endDate >= :from)
+      """)
+  List<String> findTitleNamesHeldBetween(
+      @Param("wrestlerId") Long wrestlerId,
+      @Param("from") Instant from,
+      @Param("until") Instant until);
 }
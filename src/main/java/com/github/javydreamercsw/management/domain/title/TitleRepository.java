@@ -16,6 +16,7 @@
 */
 package com.github.javydreamercsw.management.domain.title;
 
+import com.github.javydreamercsw.base.domain.ImageReferencingRepository;
 import com.github.javydreamercsw.base.domain.wrestler.WrestlerTier;
 import com.github.javydreamercsw.management.domain.universe.Universe;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
@@ -29,7 +30,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface TitleRepository
-    extends JpaRepository<Title, Long>, JpaSpecificationExecutor<Title> {
+    extends JpaRepository<Title, Long>,
+        JpaSpecificationExecutor<Title>,
+        ImageReferencingRepository<Title, Long> {
 
   // If you don't need a total row count, Slice is better than Page.
   Page<Title> findAllBy(Pageable pageable);
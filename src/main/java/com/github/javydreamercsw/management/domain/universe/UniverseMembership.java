@@ -17,8 +17,10 @@
 package com.github.javydreamercsw.management.domain.universe;
 
 import com.github.javydreamercsw.base.domain.account.Account;
+import com.github.javydreamercsw.base.security.OwnershipChangeListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -36,6 +38,7 @@ import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 
 @Entity
+@EntityListeners(OwnershipChangeListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
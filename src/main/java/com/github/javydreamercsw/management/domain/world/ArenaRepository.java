@@ -16,6 +16,7 @@
 */
 package com.github.javydreamercsw.management.domain.world;
 
+import com.github.javydreamercsw.base.domain.ImageReferencingRepository;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -26,7 +27,9 @@ import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
 @RepositoryRestResource
 public interface ArenaRepository
-    extends JpaRepository<Arena, Long>, JpaSpecificationExecutor<Arena> {
+    extends JpaRepository<Arena, Long>,
+        JpaSpecificationExecutor<Arena>,
+        ImageReferencingRepository<Arena, Long> {
   Optional<Arena> findByName(String name);
 
   @Query(
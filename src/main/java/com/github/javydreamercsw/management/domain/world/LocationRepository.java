@@ -16,6 +16,7 @@
 */
 package com.github.javydreamercsw.management.domain.world;
 
+import com.github.javydreamercsw.base.domain.ImageReferencingRepository;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
@@ -23,6 +24,8 @@ import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
 @RepositoryRestResource
 public interface LocationRepository
-    extends JpaRepository<Location, Long>, JpaSpecificationExecutor<Location> {
+    extends JpaRepository<Location, Long>,
+        JpaSpecificationExecutor<Location>,
+        ImageReferencingRepository<Location, Long> {
   Optional<Location> findByName(String name);
 }
@@ -20,6 +20,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.github.javydreamercsw.base.domain.AbstractEntity;
 import com.github.javydreamercsw.base.domain.account.Account;
 import com.github.javydreamercsw.base.domain.wrestler.Gender;
+import com.github.javydreamercsw.base.security.OwnershipChangeListener;
 import com.github.javydreamercsw.management.domain.campaign.WrestlerAlignment;
 import com.github.javydreamercsw.management.domain.campaign.WrestlerStatus;
 import com.github.javydreamercsw.management.domain.card.Card;
@@ -31,9 +32,13 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -44,6 +49,7 @@ import org.jspecify.annotations.Nullable;
 
 @Entity
 @Table(name = "wrestler")
+@EntityListeners(OwnershipChangeListener.class)
 @Getter
 @Setter
 @Builder
@@ -207,14 +213,112 @@ public class Wrestler extends AbstractEntity<Long> {
   @Builder.Default
   private Set<WrestlerState> wrestlerStates = new LinkedHashSet<>();
 
+  /**
+   * Universe id to state index over {@link #wrestlerStates}. Kept as an initialized final holder so
+   * it stays out of the builder and all-args constructor.
+   */
+  @Transient
+  @JsonIgnore
+  @Getter(AccessLevel.NONE)
+  private final StateIndex stateIndex = new StateIndex();
+
+  /** Owning account id as last stored; see {@link OwnershipChangeListener}. */
+  @Transient
+  @JsonIgnore
+  @Getter(AccessLevel.NONE)
+  private final AtomicReference<Long> accountIdAsStored = new AtomicReference<>();
+
+  /**
+   * Records the current owning account as the stored one and returns the account id stored
+   * before. Called by {@link OwnershipChangeListener} after the wrestler is loaded or written.
+   */
+  public Long markAccountStored() {
+    return accountIdAsStored.getAndSet(account == null ? null : account.getId());
+  }
+
   @JsonIgnore
   public java.util.Optional<WrestlerState> getState(final Long universeId) {
+    return java.util.Optional.ofNullable(findState(universeId));
+  }
+
+  private WrestlerState findState(final Long universeId) {
     if (universeId == null) {
-      return java.util.Optional.empty();
+      return null;
+    }
+    if (stateIndex.byUniverse == null
+        || stateIndex.source != wrestlerStates
+        || stateIndex.size != wrestlerStates.size()) {
+      indexStates();
+    }
+    if (!stateIndex.byUniverse.containsKey(universeId)) {
+      if (stateIndex.unkeyed) {
+        // A state without a universe id when indexed may have been given this one since.
+        indexStates();
+      }
+      recordMiss(universeId);
+    }
+    WrestlerState state = stateIndex.byUniverse.get(universeId);
+    if (state != null && !isIndexedState(state, universeId)) {
+      // Swapped out or re-pointed since indexing without changing the collection's size.
+      indexStates();
+      recordMiss(universeId);
+      state = stateIndex.byUniverse.get(universeId);
+    }
+    return state;
+  }
+
+  /**
+   * Stores a miss for the universe so repeated lookups stay O(1). Skipped while some state has no
+   * universe id yet, since that state may later turn out to belong to this universe.
+   */
+  private void recordMiss(final Long universeId) {
+    if (!stateIndex.unkeyed) {
+      stateIndex.byUniverse.putIfAbsent(universeId, null);
     }
-    return wrestlerStates.stream()
-        .filter(s -> s.getUniverse() != null && universeId.equals(s.getUniverse().getId()))
-        .findFirst();
+  }
+
+  /**
+   * Whether an indexed state still belongs to the universe and is still in {@link
+   * #wrestlerStates}. Membership is checked by identity: the id-based hash code changes once a
+   * state is persisted, so {@code contains} misses states that were added before they had an id.
+   */
+  private boolean isIndexedState(final WrestlerState state, final Long universeId) {
+    if (state.getUniverse() == null || !universeId.equals(state.getUniverse().getId())) {
+      return false;
+    }
+    for (WrestlerState candidate : wrestlerStates) {
+      if (candidate == state) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void indexStates() {
+    Map<Long, WrestlerState> index = new HashMap<>();
+    boolean unkeyed = false;
+    for (WrestlerState state : wrestlerStates) {
+      if (state.getUniverse() != null && state.getUniverse().getId() != null) {
+        index.putIfAbsent(state.getUniverse().getId(), state);
+      } else {
+        unkeyed = true;
+      }
+    }
+    stateIndex.byUniverse = index;
+    stateIndex.source = wrestlerStates;
+    stateIndex.size = wrestlerStates.size();
+    stateIndex.unkeyed = unkeyed;
+  }
+
+  /**
+   * Lookup index for {@link #findState(Long)}; never persisted or serialized. Misses are stored as
+   * {@code null} values.
+   */
+  private static final class StateIndex {
+    private Map<Long, WrestlerState> byUniverse;
+    private Set<WrestlerState> source;
+    private int size;
+    private boolean unkeyed;
   }
 
   // ==================== ATW RPG METHODS ====================
@@ -229,11 +333,8 @@ public class Wrestler extends AbstractEntity<Long> {
     if (universeId == null) {
       return getDefaultState().map(WrestlerState::getFans).orElse(0L);
     }
-    return wrestlerStates.stream()
-        .filter(s -> s.getUniverse() != null && universeId.equals(s.getUniverse().getId()))
-        .map(WrestlerState::getFans)
-        .findFirst()
-        .orElse(0L);
+    WrestlerState state = findState(universeId);
+    return state != null ? state.getFans() : 0L;
   }
 
   @JsonIgnore
@@ -248,11 +349,7 @@ public class Wrestler extends AbstractEntity<Long> {
       penalty = alignment.getCampaign().getState().getHealthPenalty();
     }
 
-    WrestlerState state =
-        wrestlerStates.stream()
-            .filter(s -> s.getUniverse().getId().equals(universeId))
-            .findFirst()
-            .orElse(null);
+    WrestlerState state = findState(universeId);
 
     int bumpsValue = state != null ? state.getBumps() : 0;
     int injuryPenalty = state != null ? state.getTotalInjuryPenalty() : 0;
@@ -0,0 +1,81 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.domain.wrestler;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Materialized win/loss/draw totals of one wrestler for the shows of one universe and season. The
+ * season is {@code null} for shows booked outside a season.
+ *
+ * <p>Rows are derived data: they are only ever replaced wholesale from the segment history, so the
+ * references are kept as plain ids rather than associations.
+ */
+@Entity
+@Table(name = "wrestler_record")
+@Getter
+@Setter
+@NoArgsConstructor
+public class WrestlerRecord {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "wrestler_record_id")
+  private Long id;
+
+  @Column(name = "wrestler_id", nullable = false)
+  private Long wrestlerId;
+
+  @Column(name = "universe_id", nullable = false)
+  private Long universeId;
+
+  @Column(name = "season_id")
+  private Long seasonId;
+
+  @Column(name = "wins", nullable = false)
+  private long wins;
+
+  @Column(name = "losses", nullable = false)
+  private long losses;
+
+  @Column(name = "draws", nullable = false)
+  private long draws;
+
+  /** Used by the aggregate query in {@link WrestlerRecordRepository#aggregate}. */
+  public WrestlerRecord(
+      final Long wrestlerId,
+      final Long universeId,
+      final Long seasonId,
+      final Long wins,
+      final Long losses,
+      final Long draws) {
+    this.wrestlerId = wrestlerId;
+    this.universeId = universeId;
+    this.seasonId = seasonId;
+    this.wins = wins;
+    this.losses = losses;
+    this.draws = draws;
+  }
+}
@@ -0,0 +1,145 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.domain.wrestler;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WrestlerRecordRepository extends JpaRepository<WrestlerRecord, Long> {
+
+  /**
+   * Win/loss/draw totals straight from the segment history, grouped by wrestler, universe and
+   * season. Only completed matches count: segments whose type is a promo, beatdown, confrontation
+   * or review are left out, and a match without any winner is a draw.
+   */
+  String AGGREGATE =
+      """
+      SELECT new com.github.javydreamercsw.management.domain.wrestler.WrestlerRecord(
+        p.wrestler.id, sh.universe.id, se.id,
+        SUM(CASE WHEN p.isWinner = true THEN 1 ELSE 0 END),
+        SUM(CASE WHEN p.isWinner = false AND EXISTS (SELECT 1 FROM SegmentParticipant o\
+       WHERE o.segment = s AND o.isWinner = true) THEN 1 ELSE 0 END),
+        SUM(CASE WHEN NOT EXISTS (SELECT 1 FROM SegmentParticipant o\
+       WHERE o.segment = s AND o.isWinner = true) THEN 1 ELSE 0 END))
+      FROM SegmentParticipant p
+      JOIN p.segment s
+      JOIN s.segmentType st
+      JOIN s.show sh
+      LEFT JOIN sh.season se
+      WHERE s.status = 'COMPLETED'
+      AND sh.universe IS NOT NULL
+      AND LOWER(st.name) NOT LIKE '%promo%'
+      AND LOWER(st.name) NOT LIKE '%beatdown%'
+      AND LOWER(st.name) NOT LIKE '%confrontation%'
+      AND LOWER(st.name) NOT LIKE '%review%'
+      """;
+
+  String GROUP_BY = " GROUP BY p.wrestler.id, sh.universe.id, se.id";
+
+  @Query(AGGREGATE + " AND p.wrestler.id IN :wrestlerIds" + GROUP_BY)
+  List<WrestlerRecord> aggregate(@Param("wrestlerIds") Collection<Long> wrestlerIds);
+
+  @Query(AGGREGATE + GROUP_BY)
+  List<WrestlerRecord> aggregateAll();
+
+  /** Wrestlers taking part in the given segments. */
+  @Query(
+      "SELECT DISTINCT p.wrestler.id FROM SegmentParticipant p WHERE p.segment.id IN :segmentIds")
+  List<Long> findParticipantIds(@Param("segmentIds") Collection<Long> segmentIds);
+
+  /**
+   * Takes write locks on the wrestler rows, in id order, so two transactions rebuilding the same
+   * wrestlers wait for each other instead of interleaving their delete and aggregate.
+   */
+  @Query(
+      value =
+          """
+          SELECT wrestler_id FROM wrestler
+          WHERE wrestler_id IN (:wrestlerIds)
+          ORDER BY wrestler_id
+          FOR UPDATE
+          """,
+      nativeQuery = true)
+  List<Long> lockWrestlers(@Param("wrestlerIds") Collection<Long> wrestlerIds);
+
+  /** Same as {@link #lockWrestlers(Collection)} for the whole roster. */
+  @Query(
+      value = "SELECT wrestler_id FROM wrestler ORDER BY wrestler_id FOR UPDATE",
+      nativeQuery = true)
+  List<Long> lockAllWrestlers();
+
+  @Modifying(flushAutomatically = true)
+  @Query("DELETE FROM WrestlerRecord r WHERE r.wrestlerId IN :wrestlerIds")
+  int deleteByWrestlerIds(@Param("wrestlerIds") Collection<Long> wrestlerIds);
+
+  @Modifying(flushAutomatically = true)
+  @Query("DELETE FROM WrestlerRecord r")
+  int deleteAllRecords();
+
+  /** Career totals of one wrestler in one universe. */
+  @Query(
+      """
+      SELECT new com.github.javydreamercsw.management.domain.wrestler.WrestlerRecordSummary(
+        r.wrestlerId, SUM(r.wins), SUM(r.losses), SUM(r.draws))
+      FROM WrestlerRecord r
+      WHERE r.wrestlerId = :wrestlerId AND r.universeId = :universeId
+      GROUP BY r.wrestlerId
+      """)
+  Optional<WrestlerRecordSummary> summarizeCareer(
+      @Param("wrestlerId") Long wrestlerId, @Param("universeId") Long universeId);
+
+  /** Totals of one wrestler over every show of one season. */
+  @Query(
+      """
+      SELECT new com.github.javydreamercsw.management.domain.wrestler.WrestlerRecordSummary(
+        r.wrestlerId, SUM(r.wins), SUM(r.losses), SUM(r.draws))
+      FROM WrestlerRecord r
+      WHERE r.wrestlerId = :wrestlerId AND r.seasonId = :seasonId
+      GROUP BY r.wrestlerId
+      """)
+  Optional<WrestlerRecordSummary> summarizeSeason(
+      @Param("wrestlerId") Long wrestlerId, @Param("seasonId") Long seasonId);
+
+  /** Career totals of every wrestler with a record in one universe, one row per wrestler. */
+  @Query(
+      """
+      SELECT new com.github.javydreamercsw.management.domain.wrestler.WrestlerRecordSummary(
+        r.wrestlerId, SUM(r.wins), SUM(r.losses), SUM(r.draws))
+      FROM WrestlerRecord r
+      WHERE r.universeId = :universeId
+      GROUP BY r.wrestlerId
+      """)
+  List<WrestlerRecordSummary> summarizeRoster(@Param("universeId") Long universeId);
+
+  /** Totals of every wrestler with a record in one season, one row per wrestler. */
+  @Query(
+      """
+      SELECT new com.github.javydreamercsw.management.domain.wrestler.WrestlerRecordSummary(
+        r.wrestlerId, SUM(r.wins), SUM(r.losses), SUM(r.draws))
+      FROM WrestlerRecord r
+      WHERE r.seasonId = :seasonId
+      GROUP BY r.wrestlerId
+      """)
+  List<WrestlerRecordSummary> summarizeSeasonRoster(@Param("seasonId") Long seasonId);
+}
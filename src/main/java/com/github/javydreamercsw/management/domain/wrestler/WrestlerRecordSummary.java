@@ -0,0 +1,32 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.domain.wrestler;
+
+/**
+ * Win/loss/draw totals of one wrestler, summed over {@link WrestlerRecord} rows.
+ *
+ * @param wrestlerId The wrestler
+ * @param wins Matches won
+ * @param losses Matches someone else won
+ * @param draws Matches nobody won
+ */
+public record WrestlerRecordSummary(Long wrestlerId, Long wins, Long losses, Long draws) {
+
+  public static WrestlerRecordSummary empty(final Long wrestlerId) {
+    return new WrestlerRecordSummary(wrestlerId, 0L, 0L, 0L);
+  }
+}
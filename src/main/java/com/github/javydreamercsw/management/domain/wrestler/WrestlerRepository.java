@@ -16,10 +16,14 @@
 */
 package com.github.javydreamercsw.management.domain.wrestler;
 
+import com.github.javydreamercsw.base.domain.ImageReferencingRepository;
+import com.github.javydreamercsw.management.dto.RosterOverviewDTO;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -28,7 +32,9 @@ import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
 @RepositoryRestResource
 public interface WrestlerRepository
-    extends JpaRepository<Wrestler, Long>, JpaSpecificationExecutor<Wrestler> {
+    extends JpaRepository<Wrestler, Long>,
+        JpaSpecificationExecutor<Wrestler>,
+        ImageReferencingRepository<Wrestler, Long> {
 
   List<Wrestler> findByAccount(com.github.javydreamercsw.base.domain.account.Account account);
 
@@ -52,6 +58,22 @@ public interface WrestlerRepository
       countQuery = "SELECT count(DISTINCT w) FROM Wrestler w")
   Page<Wrestler> findAllBy(Pageable pageable);
 
+  /**
+   * Roster overview rows for a universe. Wrestlers without a state there are included with a
+   * {@code null} tier. Sort properties on the state use its {@code s} alias, e.g. {@code s.tier}.
+   */
+  @Query(
+      """
+      SELECT new com.github.javydreamercsw.management.dto.RosterOverviewDTO(
+        w.id, w.name, s.tier, w.gender, w.isPlayer)
+      FROM Wrestler w LEFT JOIN WrestlerState s ON s.wrestler = w AND s.universe.id = :universeId
+      """)
+  Slice<RosterOverviewDTO> findRosterOverview(
+      @Param("universeId") Long universeId, Pageable pageable);
+
+  /** Wrestlers whose name contains {@code name}, for lazily loaded pickers. */
+  Slice<Wrestler> findByNameContainingIgnoreCase(String name, Pageable pageable);
+
   @Query(
       """
       SELECT DISTINCT w FROM Wrestler w LEFT JOIN FETCH w.decks LEFT JOIN FETCH w.alignments LEFT\
@@ -87,6 +109,21 @@ public interface WrestlerRepository
       """)
   List<Wrestler> findAllByActiveTrue();
 
+  /**
+   * Active wrestlers a league can still draft: neither on one of its rosters nor excluded from it.
+   * Fetches what the draft grid shows, so the pool needs no further queries.
+   */
+  @Query(
+      """
+      SELECT DISTINCT w FROM Wrestler w LEFT JOIN FETCH w.alignments LEFT JOIN FETCH\
+       w.wrestlerStates ws LEFT JOIN FETCH ws.faction WHERE w.active = true\
+       AND NOT EXISTS (SELECT r.id FROM LeagueRoster r WHERE r.league.id = :leagueId\
+       AND r.wrestler = w)\
+       AND NOT EXISTS (SELECT x.id FROM League l JOIN l.excludedWrestlers x\
+       WHERE l.id = :leagueId AND x = w)\
+      """)
+  List<Wrestler> findDraftableForLeague(@Param("leagueId") Long leagueId);
+
   List<Wrestler> findAllByGenderAndActive(
       com.github.javydreamercsw.base.domain.wrestler.Gender gender, boolean active);
 
@@ -110,6 +147,14 @@ public interface WrestlerRepository
   @Query("SELECT DISTINCT w FROM Wrestler w LEFT JOIN FETCH w.wrestlerStates ws WHERE w.id = :id")
   Optional<Wrestler> findByIdWithStates(@Param("id") Long id);
 
+  /** Loads the given wrestlers with their per-universe states and factions in one query. */
+  @Query(
+      """
+      SELECT DISTINCT w FROM Wrestler w LEFT JOIN FETCH w.wrestlerStates ws LEFT JOIN FETCH\
+       ws.faction WHERE w.id IN :ids\
+      """)
+  List<Wrestler> findAllByIdInWithStates(@Param("ids") Collection<Long> ids);
+
   @Query(
       """
       SELECT DISTINCT w FROM Wrestler w JOIN SegmentParticipant sp ON sp.wrestler = w WHERE\
@@ -17,11 +17,17 @@
 package com.github.javydreamercsw.management.domain.wrestler;
 
 import com.github.javydreamercsw.management.domain.universe.Universe;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -44,6 +50,11 @@ public interface WrestlerStateRepository extends JpaRepository<WrestlerState, Lo
 
   List<WrestlerState> findByUniverseId(Long universeId);
 
+  @Query(
+      "SELECT s FROM WrestlerState s JOIN FETCH s.wrestler LEFT JOIN FETCH s.faction"
+          + " WHERE s.universe.id = :universeId")
+  Slice<WrestlerState> findByUniverseId(@Param("universeId") Long universeId, Pageable pageable);
+
   @Query(
       "SELECT s FROM WrestlerState s LEFT JOIN FETCH s.wrestler LEFT JOIN FETCH s.manager"
           + " WHERE s.universe.id = :universeId")
@@ -62,6 +73,43 @@ public interface WrestlerStateRepository extends JpaRepository<WrestlerState, Lo
           + " s.universe.id = :universeId")
   int resetFansAndTierByUniverseId(@Param("universeId") Long universeId);
 
+  /**
+   * Sets the tier of the given states in one statement. Pending changes are flushed first; the
+   * persistence context is left alone, so callers mirror the new tier onto states they hold.
+   */
+  @Modifying(flushAutomatically = true)
+  @Query("UPDATE WrestlerState s SET s.tier = :tier WHERE s.id IN :ids")
+  int updateTierByIds(
+      @Param("tier") com.github.javydreamercsw.base.domain.wrestler.WrestlerTier tier,
+      @Param("ids") Collection<Long> ids);
+
+  /**
+   * States in a universe that still have something to recover: at least one bump or less than full
+   * physical condition. Loaded read-only so that mirroring a bulk update onto them does not flush a
+   * second, per-row update.
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+  @Query(
+      """
+      SELECT s FROM WrestlerState s JOIN FETCH s.wrestler
+      WHERE s.universe.id = :universeId AND (s.bumps > 0 OR s.physicalCondition < 100)
+      """)
+  List<WrestlerState> findRecoveryCandidates(@Param("universeId") Long universeId);
+
+  @Modifying(flushAutomatically = true)
+  @Query("UPDATE WrestlerState s SET s.bumps = s.bumps - 1 WHERE s.id IN :ids AND s.bumps > 0")
+  int healBumpByIds(@Param("ids") Collection<Long> ids);
+
+  @Modifying(flushAutomatically = true)
+  @Query(
+      """
+      UPDATE WrestlerState s SET s.physicalCondition =
+        CASE WHEN s.physicalCondition + :amount > 100 THEN 100
+        ELSE s.physicalCondition + :amount END
+      WHERE s.id IN :ids
+      """)
+  int recoverConditionByIds(@Param("ids") Collection<Long> ids, @Param("amount") int amount);
+
   @Modifying(clearAutomatically = true)
   @Query("UPDATE WrestlerState s SET s.physicalCondition = 100 WHERE s.universe.id = :universeId")
   int resetPhysicalConditionByUniverseId(@Param("universeId") Long universeId);
@@ -0,0 +1,38 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.dto;
+
+import com.github.javydreamercsw.base.domain.wrestler.Gender;
+import com.github.javydreamercsw.base.domain.wrestler.WrestlerTier;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** One row of the booker's roster overview: a wrestler and their tier in one universe. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RosterOverviewDTO {
+  private Long id;
+  private String name;
+
+  /** {@code null} while the wrestler has no state in the universe yet. */
+  private WrestlerTier tier;
+
+  private Gender gender;
+  private Boolean isPlayer;
+}
@@ -19,32 +19,24 @@ package com.github.javydreamercsw.management.event;
 import com.github.javydreamercsw.management.domain.inbox.InboxEventType;
 import com.github.javydreamercsw.management.domain.inbox.InboxItem;
 import com.github.javydreamercsw.management.domain.inbox.InboxItemTarget;
-import com.github.javydreamercsw.management.event.inbox.InboxUpdateBroadcaster;
-import com.github.javydreamercsw.management.event.inbox.InboxUpdateEvent;
-import com.github.javydreamercsw.management.service.inbox.InboxService;
+import com.github.javydreamercsw.management.service.inbox.InboxItemDraft;
+import com.github.javydreamercsw.management.service.inbox.InboxJournal;
 import lombok.NonNull;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
 
 @Component
 public class HeatChangeInboxListener implements ApplicationListener<HeatChangeEvent> {
 
-  private final InboxService inboxService;
+  private final InboxJournal inboxJournal;
   private final InboxEventType rivalryHeatChange;
-  private final ApplicationEventPublisher eventPublisher;
-  private final InboxUpdateBroadcaster inboxUpdateBroadcaster;
 
   public HeatChangeInboxListener(
-      @NonNull final InboxService inboxService,
-      @NonNull @Qualifier("rivalryHeatChange") final InboxEventType rivalryHeatChange,
-      @NonNull final ApplicationEventPublisher eventPublisher,
-      @NonNull final InboxUpdateBroadcaster inboxUpdateBroadcaster) {
-    this.inboxService = inboxService;
+      @NonNull final InboxJournal inboxJournal,
+      @NonNull @Qualifier("rivalryHeatChange") final InboxEventType rivalryHeatChange) {
+    this.inboxJournal = inboxJournal;
     this.rivalryHeatChange = rivalryHeatChange;
-    this.eventPublisher = eventPublisher;
-    this.inboxUpdateBroadcaster = inboxUpdateBroadcaster;
   }
 
   @Override
@@ -60,18 +52,14 @@ public class HeatChangeInboxListener implements ApplicationListener<HeatChangeEv
                 event.getReason());
 
     // Assuming the rivalry ID is the relevant reference for the inbox item
-    com.github.javydreamercsw.management.domain.inbox.InboxItem inboxItem =
-        inboxService.createInboxItem(
-            rivalryHeatChange,
-            "Rivalry Heat " + (event.getNewHeat() - event.getOldHeat() > 0 ? "Gained" : "Lost"),
-            message,
-            InboxItem.Urgency.INFO,
-            event.getRivalryId().toString(),
-            InboxItemTarget.TargetType.RIVALRY);
-    inboxItem.setActionType("NAVIGATE");
-    inboxItem.setActionPayload("{\"route\":\"rivalry-list\"}");
-    inboxService.save(inboxItem);
-    eventPublisher.publishEvent(new InboxUpdateEvent(this));
-    inboxUpdateBroadcaster.broadcast(new InboxUpdateEvent(this));
+    inboxJournal.append(
+        InboxItemDraft.of(
+                rivalryHeatChange,
+                "Rivalry Heat " + (event.getNewHeat() - event.getOldHeat() > 0 ? "Gained" : "Lost"),
+                message,
+                InboxItem.Urgency.INFO,
+                event.getRivalryId().toString(),
+                InboxItemTarget.TargetType.RIVALRY)
+            .navigateTo("rivalry-list"));
   }
 }
@@ -0,0 +1,50 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.event;
+
+import java.util.Map;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published when inbox writes change how many unread items accounts have, so that cached unread
+ * counts can follow.
+ */
+@Getter
+public class InboxUnreadChangedEvent extends ApplicationEvent {
+  /** Change in unread items by account id. */
+  private final Map<Long, Long> deltas;
+
+  /** Set when the accounts affected are unknown, e.g. after a bulk delete. */
+  private final boolean everyAccount;
+
+  public InboxUnreadChangedEvent(final Object source, final Map<Long, Long> deltas) {
+    this(source, deltas, false);
+  }
+
+  private InboxUnreadChangedEvent(
+      final Object source, final Map<Long, Long> deltas, final boolean everyAccount) {
+    super(source);
+    this.deltas = deltas;
+    this.everyAccount = everyAccount;
+  }
+
+  /** Any account may have changed. */
+  public static InboxUnreadChangedEvent everyAccount(final Object source) {
+    return new InboxUnreadChangedEvent(source, Map.of(), true);
+  }
+}
@@ -0,0 +1,36 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.event;
+
+import java.util.Set;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published when a wrestler changes hands or a universe membership is written, so that resolved
+ * ownership for the accounts involved is dropped.
+ */
+@Getter
+public class OwnershipChangedEvent extends ApplicationEvent {
+  /** Accounts that gained or lost something. */
+  private final Set<Long> accountIds;
+
+  public OwnershipChangedEvent(final Object source, final Set<Long> accountIds) {
+    super(source);
+    this.accountIds = accountIds;
+  }
+}
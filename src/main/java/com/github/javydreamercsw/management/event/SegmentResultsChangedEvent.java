@@ -0,0 +1,41 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.event;
+
+import java.util.Set;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published while the persistence context is flushed, when segments or their participants are
+ * written or removed, so that materialized results can be rebuilt.
+ */
+@Getter
+public class SegmentResultsChangedEvent extends ApplicationEvent {
+  /** Wrestlers whose participation row changed. */
+  private final Set<Long> wrestlerIds;
+
+  /** Segments whose own row changed; their participants are looked up later. */
+  private final Set<Long> segmentIds;
+
+  public SegmentResultsChangedEvent(
+      final Object source, final Set<Long> wrestlerIds, final Set<Long> segmentIds) {
+    super(source);
+    this.wrestlerIds = wrestlerIds;
+    this.segmentIds = segmentIds;
+  }
+}
@@ -0,0 +1,35 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published when a wrestler is created, saved, activated, deactivated or deleted, so that anything
+ * holding lists of available wrestlers reloads them.
+ */
+@Getter
+public class WrestlerAvailabilityChangedEvent extends ApplicationEvent {
+  /** The wrestler that changed, or {@code null} if it has no id yet. */
+  private final Long wrestlerId;
+
+  public WrestlerAvailabilityChangedEvent(final Object source, final Long wrestlerId) {
+    super(source);
+    this.wrestlerId = wrestlerId;
+  }
+}
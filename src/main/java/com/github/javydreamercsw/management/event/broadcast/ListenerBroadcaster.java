@@ -0,0 +1,212 @@
+/*
+* Copyright (C) 2025 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.event.broadcast;
+
+import com.github.javydreamercsw.management.service.performance.PerformanceMonitoringService;
+import com.vaadin.flow.shared.Registration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fans events out to UI listeners without letting one slow session hold up the others.
+ *
+ * <p>Every listener has its own bounded queue, drained by at most one virtual thread at a time, so
+ * per-listener ordering is kept while listeners run independently. When a new event is {@code
+ * coalescible} with the last one still waiting in a listener's queue it is merged into it (the
+ * listener sees a single delivery); when a queue is full the oldest waiting event is dropped.
+ *
+ * <p>Delivery lag (time from {@link #broadcast} to the listener being called) is recorded as {@code
+ * broadcast.<name>.lag}; merged, dropped and delivered events are counted under the same prefix.
+ *
+ * @param <E> The event type
+ */
+@Slf4j
+public final class ListenerBroadcaster<E> implements AutoCloseable {
+
+  private final String name;
+  private final int queueCapacity;
+  private final BiPredicate<E, E> coalescible;
+  private final PerformanceMonitoringService metrics;
+  private final String lagMetric;
+  private final String coalescedMetric;
+  private final String droppedMetric;
+  private final String deliveredMetric;
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+  private final AtomicLong coalesced = new AtomicLong();
+  private final AtomicLong dropped = new AtomicLong();
+
+  /**
+   * @param name Short name used in metric keys and log messages
+   * @param queueCapacity Maximum events waiting per listener
+   * @param coalescible Whether a new event (second argument) can be merged into a queued one
+   * @param metrics Where to record lag and counters; may be {@code null}
+   */
+  public ListenerBroadcaster(
+      @NonNull final String name,
+      final int queueCapacity,
+      @NonNull final BiPredicate<E, E> coalescible,
+      final PerformanceMonitoringService metrics) {
+    this.name = name;
+    this.queueCapacity = Math.max(1, queueCapacity);
+    this.coalescible = coalescible;
+    this.metrics = metrics;
+    this.lagMetric = "broadcast." + name + ".lag";
+    this.coalescedMetric = "broadcast." + name + ".coalesced";
+    this.droppedMetric = "broadcast." + name + ".dropped";
+    this.deliveredMetric = "broadcast." + name + ".delivered";
+  }
+
+  public Registration register(@NonNull final Consumer<E> listener) {
+    Subscriber subscriber = new Subscriber(listener);
+    subscribers.add(subscriber);
+    return () -> {
+      subscribers.remove(subscriber);
+      subscriber.cancel();
+    };
+  }
+
+  /** Queues the event for every registered listener and returns immediately. */
+  public void broadcast(final E event) {
+    long now = System.nanoTime();
+    for (Subscriber subscriber : subscribers) {
+      subscriber.offer(event, now);
+    }
+  }
+
+  /** Number of registered listeners. */
+  public int getListenerCount() {
+    return subscribers.size();
+  }
+
+  /** Events currently waiting across all listeners. */
+  public int getQueueDepth() {
+    int depth = 0;
+    for (Subscriber subscriber : subscribers) {
+      depth += subscriber.depth();
+    }
+    return depth;
+  }
+
+  /** Events merged into an already queued event since startup. */
+  public long getCoalescedCount() {
+    return coalesced.get();
+  }
+
+  /** Events discarded because a listener's queue was full since startup. */
+  public long getDroppedCount() {
+    return dropped.get();
+  }
+
+  @Override
+  public void close() {
+    subscribers.clear();
+    executor.shutdownNow();
+  }
+
+  private record Pending<E>(E event, long enqueuedNanos) {}
+
+  private final class Subscriber {
+    private final Consumer<E> listener;
+    private final Deque<Pending<E>> queue = new ArrayDeque<>();
+    private boolean draining;
+    private boolean cancelled;
+
+    private Subscriber(final Consumer<E> listener) {
+      this.listener = listener;
+    }
+
+    private void offer(final E event, final long enqueuedNanos) {
+      synchronized (this) {
+        if (cancelled) {
+          return;
+        }
+        Pending<E> last = queue.peekLast();
+        if (last != null && coalescible.test(last.event(), event)) {
+          coalesced.incrementAndGet();
+          count(coalescedMetric);
+          return;
+        }
+        if (queue.size() >= queueCapacity) {
+          queue.pollFirst();
+          dropped.incrementAndGet();
+          count(droppedMetric);
+        }
+        queue.addLast(new Pending<>(event, enqueuedNanos));
+        if (draining) {
+          return;
+        }
+        draining = true;
+      }
+      try {
+        executor.execute(this::drain);
+      } catch (RuntimeException e) {
+        // Executor shut down; nothing will deliver this listener's queue any more.
+        synchronized (this) {
+          draining = false;
+          queue.clear();
+        }
+      }
+    }
+
+    private void drain() {
+      while (true) {
+        Pending<E> next;
+        synchronized (this) {
+          next = queue.pollFirst();
+          if (next == null || cancelled) {
+            draining = false;
+            return;
+          }
+        }
+        if (metrics != null) {
+          metrics.recordLatency(lagMetric, System.nanoTime() - next.enqueuedNanos());
+        }
+        try {
+          listener.accept(next.event());
+          count(deliveredMetric);
+        } catch (RuntimeException e) {
+          log.warn("{} broadcast listener failed", name, e);
+        }
+      }
+    }
+
+    private synchronized int depth() {
+      return queue.size();
+    }
+
+    private synchronized void cancel() {
+      cancelled = true;
+      queue.clear();
+    }
+  }
+
+  private void count(final String metric) {
+    if (metrics != null) {
+      metrics.incrementCounter(metric);
+    }
+  }
+}
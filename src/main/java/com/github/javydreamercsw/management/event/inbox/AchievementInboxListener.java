@@ -20,11 +20,11 @@ import com.github.javydreamercsw.management.domain.inbox.InboxEventType;
 import com.github.javydreamercsw.management.domain.inbox.InboxItem;
 import com.github.javydreamercsw.management.domain.inbox.InboxItemTarget;
 import com.github.javydreamercsw.management.event.AchievementUnlockedEvent;
-import com.github.javydreamercsw.management.service.inbox.InboxService;
+import com.github.javydreamercsw.management.service.inbox.InboxItemDraft;
+import com.github.javydreamercsw.management.service.inbox.InboxJournal;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
 
@@ -32,20 +32,14 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class AchievementInboxListener implements ApplicationListener<AchievementUnlockedEvent> {
 
-  private final InboxService inboxService;
+  private final InboxJournal inboxJournal;
   private final InboxEventType achievementUnlocked;
-  private final ApplicationEventPublisher eventPublisher;
-  private final InboxUpdateBroadcaster inboxUpdateBroadcaster;
 
   public AchievementInboxListener(
-      @NonNull final InboxService inboxService,
-      @NonNull @Qualifier("ACHIEVEMENT_UNLOCKED") final InboxEventType achievementUnlocked,
-      @NonNull final ApplicationEventPublisher eventPublisher,
-      @NonNull final InboxUpdateBroadcaster inboxUpdateBroadcaster) {
-    this.inboxService = inboxService;
+      @NonNull final InboxJournal inboxJournal,
+      @NonNull @Qualifier("ACHIEVEMENT_UNLOCKED") final InboxEventType achievementUnlocked) {
+    this.inboxJournal = inboxJournal;
     this.achievementUnlocked = achievementUnlocked;
-    this.eventPublisher = eventPublisher;
-    this.inboxUpdateBroadcaster = inboxUpdateBroadcaster;
   }
 
   @Override
@@ -60,15 +54,13 @@ public class AchievementInboxListener implements ApplicationListener<Achievement
             .formatted(
                 event.getAchievementName(), event.getAchievementDescription(), event.getXpValue());
 
-    inboxService.createInboxItem(
-        achievementUnlocked,
-        "Achievement Unlocked: " + event.getAchievementName(),
-        message,
-        InboxItem.Urgency.INFO,
-        event.getAccountId().toString(),
-        InboxItemTarget.TargetType.ACCOUNT);
-
-    eventPublisher.publishEvent(new InboxUpdateEvent(this));
-    inboxUpdateBroadcaster.broadcast(new InboxUpdateEvent(this));
+    inboxJournal.append(
+        InboxItemDraft.of(
+            achievementUnlocked,
+            "Achievement Unlocked: " + event.getAchievementName(),
+            message,
+            InboxItem.Urgency.INFO,
+            event.getAccountId().toString(),
+            InboxItemTarget.TargetType.ACCOUNT));
   }
 }
@@ -20,11 +20,11 @@ import com.github.javydreamercsw.management.domain.inbox.InboxEventType;
 import com.github.javydreamercsw.management.domain.inbox.InboxItem;
 import com.github.javydreamercsw.management.domain.inbox.InboxItemTarget;
 import com.github.javydreamercsw.management.event.AdjudicationCompletedEvent;
-import com.github.javydreamercsw.management.service.inbox.InboxService;
+import com.github.javydreamercsw.management.service.inbox.InboxItemDraft;
+import com.github.javydreamercsw.management.service.inbox.InboxJournal;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
 
@@ -33,37 +33,27 @@ import org.springframework.stereotype.Component;
 public class AdjudicationCompletedInboxListener
     implements ApplicationListener<AdjudicationCompletedEvent> {
 
-  private final InboxService inboxService;
+  private final InboxJournal inboxJournal;
   private final InboxEventType adjudicationCompleted;
-  private final ApplicationEventPublisher eventPublisher;
-  private final InboxUpdateBroadcaster inboxUpdateBroadcaster;
 
   public AdjudicationCompletedInboxListener(
-      @NonNull final InboxService inboxService,
-      @NonNull @Qualifier("adjudicationCompleted") final InboxEventType adjudicationCompleted,
-      @NonNull final ApplicationEventPublisher eventPublisher,
-      @NonNull final InboxUpdateBroadcaster inboxUpdateBroadcaster) {
-    this.inboxService = inboxService;
+      @NonNull final InboxJournal inboxJournal,
+      @NonNull @Qualifier("adjudicationCompleted") final InboxEventType adjudicationCompleted) {
+    this.inboxJournal = inboxJournal;
     this.adjudicationCompleted = adjudicationCompleted;
-    this.eventPublisher = eventPublisher;
-    this.inboxUpdateBroadcaster = inboxUpdateBroadcaster;
   }
 
   @Override
   public void onApplicationEvent(@NonNull final AdjudicationCompletedEvent event) {
     log.debug("Received AdjudicationCompletedEvent for show: {}", event.getShow().getName());
-    com.github.javydreamercsw.management.domain.inbox.InboxItem inboxItem =
-        inboxService.createInboxItem(
-            adjudicationCompleted,
-            "Adjudication Complete: " + event.getShow().getName(),
-            "Adjudication completed for show: %s".formatted(event.getShow().getName()),
-            InboxItem.Urgency.INFO,
-            event.getShow().getId().toString(),
-            InboxItemTarget.TargetType.SHOW);
-    inboxItem.setActionType("NAVIGATE");
-    inboxItem.setActionPayload("{\"route\":\"show-list\"}");
-    inboxService.save(inboxItem);
-    eventPublisher.publishEvent(new InboxUpdateEvent(this));
-    inboxUpdateBroadcaster.broadcast(new InboxUpdateEvent(this));
+    inboxJournal.append(
+        InboxItemDraft.of(
+                adjudicationCompleted,
+                "Adjudication Complete: " + event.getShow().getName(),
+                "Adjudication completed for show: %s".formatted(event.getShow().getName()),
+                InboxItem.Urgency.INFO,
+                event.getShow().getId().toString(),
+                InboxItemTarget.TargetType.SHOW)
+            .navigateTo("show-list"));
   }
 }
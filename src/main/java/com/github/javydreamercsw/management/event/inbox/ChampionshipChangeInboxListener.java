@@ -21,12 +21,12 @@ import com.github.javydreamercsw.management.domain.inbox.InboxItem;
 import com.github.javydreamercsw.management.domain.inbox.InboxItemTarget;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
 import com.github.javydreamercsw.management.event.ChampionshipChangeEvent;
-import com.github.javydreamercsw.management.service.inbox.InboxService;
+import com.github.javydreamercsw.management.service.inbox.InboxItemDraft;
+import com.github.javydreamercsw.management.service.inbox.InboxJournal;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
 
@@ -35,20 +35,14 @@ import org.springframework.stereotype.Component;
 public class ChampionshipChangeInboxListener
     implements ApplicationListener<ChampionshipChangeEvent> {
 
-  private final InboxService inboxService;
+  private final InboxJournal inboxJournal;
   private final InboxEventType championshipChange;
-  private final ApplicationEventPublisher eventPublisher;
-  private final InboxUpdateBroadcaster inboxUpdateBroadcaster;
 
   public ChampionshipChangeInboxListener(
-      @NonNull final InboxService inboxService,
-      @NonNull @Qualifier("championshipChange") final InboxEventType championshipChange,
-      @NonNull final ApplicationEventPublisher eventPublisher,
-      @NonNull final InboxUpdateBroadcaster inboxUpdateBroadcaster) {
-    this.inboxService = inboxService;
+      @NonNull final InboxJournal inboxJournal,
+      @NonNull @Qualifier("championshipChange") final InboxEventType championshipChange) {
+    this.inboxJournal = inboxJournal;
     this.championshipChange = championshipChange;
-    this.eventPublisher = eventPublisher;
-    this.inboxUpdateBroadcaster = inboxUpdateBroadcaster;
   }
 
   @Override
@@ -73,18 +67,14 @@ public class ChampionshipChangeInboxListener
               .formatted(event.getTitleId(), newChampions, oldChampions);
     }
 
-    com.github.javydreamercsw.management.domain.inbox.InboxItem inboxItem =
-        inboxService.createInboxItem(
-            championshipChange,
-            "Championship Change",
-            message,
-            InboxItem.Urgency.INFO,
-            event.getTitleId().toString(),
-            InboxItemTarget.TargetType.TITLE);
-    inboxItem.setActionType("NAVIGATE");
-    inboxItem.setActionPayload("{\"route\":\"title-list\"}");
-    inboxService.save(inboxItem);
-    eventPublisher.publishEvent(new InboxUpdateEvent(this));
-    inboxUpdateBroadcaster.broadcast(new InboxUpdateEvent(this));
+    inboxJournal.append(
+        InboxItemDraft.of(
+                championshipChange,
+                "Championship Change",
+                message,
+                InboxItem.Urgency.INFO,
+                event.getTitleId().toString(),
+                InboxItemTarget.TargetType.TITLE)
+            .navigateTo("title-list"));
   }
 }
@@ -21,6 +21,8 @@ import com.github.javydreamercsw.management.domain.inbox.InboxItem;
 import com.github.javydreamercsw.management.domain.inbox.InboxItemTarget;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
 import com.github.javydreamercsw.management.event.ChampionshipDefendedEvent;
+import com.github.javydreamercsw.management.service.inbox.InboxItemDraft;
+import com.github.javydreamercsw.management.service.inbox.InboxJournal;
 import com.github.javydreamercsw.management.service.inbox.InboxService;
 import java.util.ArrayList;
 import java.util.List;
@@ -28,7 +30,6 @@ import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
 
@@ -37,20 +38,14 @@ import org.springframework.stereotype.Component;
 public class ChampionshipDefendedInboxListener
     implements ApplicationListener<ChampionshipDefendedEvent> {
 
-  private final InboxService inboxService;
+  private final InboxJournal inboxJournal;
   private final InboxEventType championshipDefended;
-  private final ApplicationEventPublisher eventPublisher;
-  private final InboxUpdateBroadcaster inboxUpdateBroadcaster;
 
   public ChampionshipDefendedInboxListener(
-      @NonNull final InboxService inboxService,
-      @NonNull @Qualifier("championshipDefended") final InboxEventType championshipDefended,
-      @NonNull final ApplicationEventPublisher eventPublisher,
-      @NonNull final InboxUpdateBroadcaster inboxUpdateBroadcaster) {
-    this.inboxService = inboxService;
+      @NonNull final InboxJournal inboxJournal,
+      @NonNull @Qualifier("championshipDefended") final InboxEventType championshipDefended) {
+    this.inboxJournal = inboxJournal;
     this.championshipDefended = championshipDefended;
-    this.eventPublisher = eventPublisher;
-    this.inboxUpdateBroadcaster = inboxUpdateBroadcaster;
   }
 
   @Override
@@ -81,17 +76,13 @@ public class ChampionshipDefendedInboxListener
       return;
     }
 
-    com.github.javydreamercsw.management.domain.inbox.InboxItem inboxItem =
-        inboxService.createInboxItem(
-            championshipDefended,
-            "Title Defended: " + event.getTitleName(),
-            message,
-            InboxItem.Urgency.INFO,
-            targets);
-    inboxItem.setActionType("NAVIGATE");
-    inboxItem.setActionPayload("{\"route\":\"title-list\"}");
-    inboxService.save(inboxItem);
-    eventPublisher.publishEvent(new InboxUpdateEvent(this));
-    inboxUpdateBroadcaster.broadcast(new InboxUpdateEvent(this));
+    inboxJournal.append(
+        InboxItemDraft.of(
+                championshipDefended,
+                "Title Defended: " + event.getTitleName(),
+                message,
+                InboxItem.Urgency.INFO,
+                targets)
+            .navigateTo("title-list"));
   }
 }
@@ -21,13 +21,14 @@ import com.github.javydreamercsw.management.domain.inbox.InboxEventType;
 import com.github.javydreamercsw.management.domain.inbox.InboxItem;
 import com.github.javydreamercsw.management.domain.inbox.InboxItemTarget;
 import com.github.javydreamercsw.management.event.DramaEventCreatedEvent;
+import com.github.javydreamercsw.management.service.inbox.InboxItemDraft;
+import com.github.javydreamercsw.management.service.inbox.InboxJournal;
 import com.github.javydreamercsw.management.service.inbox.InboxService;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
 
@@ -35,20 +36,14 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class DramaEventInboxListener implements ApplicationListener<DramaEventCreatedEvent> {
 
-  private final InboxService inboxService;
+  private final InboxJournal inboxJournal;
   private final InboxEventType dramaEventCreated;
-  private final ApplicationEventPublisher eventPublisher;
-  private final InboxUpdateBroadcaster inboxUpdateBroadcaster;
 
   public DramaEventInboxListener(
-      @NonNull final InboxService inboxService,
-      @NonNull @Qualifier("dramaEventCreated") final InboxEventType dramaEventCreated,
-      @NonNull final ApplicationEventPublisher eventPublisher,
-      @NonNull final InboxUpdateBroadcaster inboxUpdateBroadcaster) {
-    this.inboxService = inboxService;
+      @NonNull final InboxJournal inboxJournal,
+      @NonNull @Qualifier("dramaEventCreated") final InboxEventType dramaEventCreated) {
+    this.inboxJournal = inboxJournal;
     this.dramaEventCreated = dramaEventCreated;
-    this.eventPublisher = eventPublisher;
-    this.inboxUpdateBroadcaster = inboxUpdateBroadcaster;
   }
 
   @Override
@@ -70,19 +65,13 @@ public class DramaEventInboxListener implements ApplicationListener<DramaEventCr
       return;
     }
 
-    com.github.javydreamercsw.management.domain.inbox.InboxItem inboxItem =
-        inboxService.createInboxItem(
-            dramaEventCreated,
-            dramaEvent.getTitle(),
-            "%s: %s".formatted(dramaEvent.getTitle(), dramaEvent.getDescription()),
-            InboxItem.Urgency.INFO,
-            targets);
-    inboxItem.setActionType("NAVIGATE");
-    inboxItem.setActionPayload(
-        "{\"route\":\"wrestler-profile/" + dramaEvent.getPrimaryWrestler().getId() + "\"}");
-    inboxService.save(inboxItem);
-
-    eventPublisher.publishEvent(new InboxUpdateEvent(this));
-    inboxUpdateBroadcaster.broadcast(new InboxUpdateEvent(this));
+    inboxJournal.append(
+        InboxItemDraft.of(
+                dramaEventCreated,
+                dramaEvent.getTitle(),
+                "%s: %s".formatted(dramaEvent.getTitle(), dramaEvent.getDescription()),
+                InboxItem.Urgency.INFO,
+                targets)
+            .navigateTo("wrestler-profile/" + dramaEvent.getPrimaryWrestler().getId()));
   }
 }
@@ -20,11 +20,11 @@ import com.github.javydreamercsw.management.domain.inbox.InboxEventType;
 import com.github.javydreamercsw.management.domain.inbox.InboxItem;
 import com.github.javydreamercsw.management.domain.inbox.InboxItemTarget;
 import com.github.javydreamercsw.management.event.FactionHeatChangeEvent;
-import com.github.javydreamercsw.management.service.inbox.InboxService;
+import com.github.javydreamercsw.management.service.inbox.InboxItemDraft;
+import com.github.javydreamercsw.management.service.inbox.InboxJournal;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
 
@@ -32,20 +32,14 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class FactionHeatChangeInboxListener implements ApplicationListener<FactionHeatChangeEvent> {
 
-  private final InboxService inboxService;
+  private final InboxJournal inboxJournal;
   private final InboxEventType factionHeatChange;
-  private final ApplicationEventPublisher eventPublisher;
-  private final InboxUpdateBroadcaster inboxUpdateBroadcaster;
 
   public FactionHeatChangeInboxListener(
-      @NonNull final InboxService inboxService,
-      @NonNull @Qualifier("factionHeatChange") final InboxEventType factionHeatChange,
-      @NonNull final ApplicationEventPublisher eventPublisher,
-      @NonNull final InboxUpdateBroadcaster inboxUpdateBroadcaster) {
-    this.inboxService = inboxService;
+      @NonNull final InboxJournal inboxJournal,
+      @NonNull @Qualifier("factionHeatChange") final InboxEventType factionHeatChange) {
+    this.inboxJournal = inboxJournal;
     this.factionHeatChange = factionHeatChange;
-    this.eventPublisher = eventPublisher;
-    this.inboxUpdateBroadcaster = inboxUpdateBroadcaster;
   }
 
   @Override
@@ -62,18 +56,14 @@ public class FactionHeatChangeInboxListener implements ApplicationListener<Facti
                 event.getNewHeat(),
                 event.getReason());
 
-    com.github.javydreamercsw.management.domain.inbox.InboxItem inboxItem =
-        inboxService.createInboxItem(
-            factionHeatChange,
-            "Faction Rivalry Heat Change",
-            message,
-            InboxItem.Urgency.INFO,
-            event.getFactionRivalryId().toString(),
-            InboxItemTarget.TargetType.FACTION);
-    inboxItem.setActionType("NAVIGATE");
-    inboxItem.setActionPayload("{\"route\":\"faction-list\"}");
-    inboxService.save(inboxItem);
-    eventPublisher.publishEvent(new InboxUpdateEvent(this));
-    inboxUpdateBroadcaster.broadcast(new InboxUpdateEvent(this));
+    inboxJournal.append(
+        InboxItemDraft.of(
+                factionHeatChange,
+                "Faction Rivalry Heat Change",
+                message,
+                InboxItem.Urgency.INFO,
+                event.getFactionRivalryId().toString(),
+                InboxItemTarget.TargetType.FACTION)
+            .navigateTo("faction-list"));
   }
 }
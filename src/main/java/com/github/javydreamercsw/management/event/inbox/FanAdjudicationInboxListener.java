@@ -19,11 +19,12 @@ package com.github.javydreamercsw.management.event.inbox;
 import com.github.javydreamercsw.management.domain.inbox.InboxEventType;
 import com.github.javydreamercsw.management.domain.inbox.InboxItem;
 import com.github.javydreamercsw.management.event.dto.FanAwardedEvent;
+import com.github.javydreamercsw.management.service.inbox.InboxItemDraft;
+import com.github.javydreamercsw.management.service.inbox.InboxJournal;
 import com.github.javydreamercsw.management.service.inbox.InboxService;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
 
@@ -31,20 +32,14 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class FanAdjudicationInboxListener implements ApplicationListener<FanAwardedEvent> {
 
-  private final InboxService inboxService;
+  private final InboxJournal inboxJournal;
   private final InboxEventType fanAdjudication;
-  private final ApplicationEventPublisher eventPublisher;
-  private final InboxUpdateBroadcaster inboxUpdateBroadcaster;
 
   public FanAdjudicationInboxListener(
-      @NonNull final InboxService inboxService,
-      @NonNull @Qualifier("fanAdjudication") final InboxEventType fanAdjudication,
-      @NonNull final ApplicationEventPublisher eventPublisher,
-      @NonNull final InboxUpdateBroadcaster inboxUpdateBroadcaster) {
-    this.inboxService = inboxService;
+      @NonNull final InboxJournal inboxJournal,
+      @NonNull @Qualifier("fanAdjudication") final InboxEventType fanAdjudication) {
+    this.inboxJournal = inboxJournal;
     this.fanAdjudication = fanAdjudication;
-    this.eventPublisher = eventPublisher;
-    this.inboxUpdateBroadcaster = inboxUpdateBroadcaster;
   }
 
   @Override
@@ -63,18 +58,13 @@ public class FanAdjudicationInboxListener implements ApplicationListener<FanAwar
 
     log.debug(message);
 
-    com.github.javydreamercsw.management.domain.inbox.InboxItem inboxItem =
-        inboxService.createInboxItem(
-            fanAdjudication,
-            "Fan Reaction: " + event.getWrestlerState().getName(),
-            message,
-            InboxItem.Urgency.INFO,
-            InboxService.wrestlerTargets(event.getWrestlerState().getWrestler()));
-    inboxItem.setActionType("NAVIGATE");
-    inboxItem.setActionPayload(
-        "{\"route\":\"wrestler-profile/" + event.getWrestlerState().getWrestler().getId() + "\"}");
-    inboxService.save(inboxItem);
-    eventPublisher.publishEvent(new InboxUpdateEvent(this));
-    inboxUpdateBroadcaster.broadcast(new InboxUpdateEvent(this));
+    inboxJournal.append(
+        InboxItemDraft.of(
+                fanAdjudication,
+                "Fan Reaction: " + event.getWrestlerState().getName(),
+                message,
+                InboxItem.Urgency.INFO,
+                InboxService.wrestlerTargets(event.getWrestlerState().getWrestler()))
+            .navigateTo("wrestler-profile/" + event.getWrestlerState().getWrestler().getId()));
   }
 }
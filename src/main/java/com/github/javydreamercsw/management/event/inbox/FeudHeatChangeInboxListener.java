@@ -21,12 +21,12 @@ import com.github.javydreamercsw.management.domain.inbox.InboxItem;
 import com.github.javydreamercsw.management.domain.inbox.InboxItemTarget;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
 import com.github.javydreamercsw.management.event.FeudHeatChangeEvent;
-import com.github.javydreamercsw.management.service.inbox.InboxService;
+import com.github.javydreamercsw.management.service.inbox.InboxItemDraft;
+import com.github.javydreamercsw.management.service.inbox.InboxJournal;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
 
@@ -34,20 +34,14 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class FeudHeatChangeInboxListener implements ApplicationListener<FeudHeatChangeEvent> {
 
-  private final InboxService inboxService;
+  private final InboxJournal inboxJournal;
   private final InboxEventType feudHeatChange;
-  private final ApplicationEventPublisher eventPublisher;
-  private final InboxUpdateBroadcaster inboxUpdateBroadcaster;
 
   public FeudHeatChangeInboxListener(
-      @NonNull final InboxService inboxService,
-      @NonNull @Qualifier("feudHeatChange") final InboxEventType feudHeatChange,
-      @NonNull final ApplicationEventPublisher eventPublisher,
-      @NonNull final InboxUpdateBroadcaster inboxUpdateBroadcaster) {
-    this.inboxService = inboxService;
+      @NonNull final InboxJournal inboxJournal,
+      @NonNull @Qualifier("feudHeatChange") final InboxEventType feudHeatChange) {
+    this.inboxJournal = inboxJournal;
     this.feudHeatChange = feudHeatChange;
-    this.eventPublisher = eventPublisher;
-    this.inboxUpdateBroadcaster = inboxUpdateBroadcaster;
   }
 
   @Override
@@ -67,18 +61,14 @@ public class FeudHeatChangeInboxListener implements ApplicationListener<FeudHeat
                 event.getNewHeat(),
                 event.getReason());
 
-    com.github.javydreamercsw.management.domain.inbox.InboxItem inboxItem =
-        inboxService.createInboxItem(
-            feudHeatChange,
-            "Feud Heat Change: " + event.getFeudName(),
-            message,
-            InboxItem.Urgency.INFO,
-            event.getFeudId().toString(),
-            InboxItemTarget.TargetType.FEUD);
-    inboxItem.setActionType("NAVIGATE");
-    inboxItem.setActionPayload("{\"route\":\"rivalry-list\"}");
-    inboxService.save(inboxItem);
-    eventPublisher.publishEvent(new InboxUpdateEvent(this));
-    inboxUpdateBroadcaster.broadcast(new InboxUpdateEvent(this));
+    inboxJournal.append(
+        InboxItemDraft.of(
+                feudHeatChange,
+                "Feud Heat Change: " + event.getFeudName(),
+                message,
+                InboxItem.Urgency.INFO,
+                event.getFeudId().toString(),
+                InboxItemTarget.TargetType.FEUD)
+            .navigateTo("rivalry-list"));
   }
 }
@@ -20,11 +20,11 @@ import com.github.javydreamercsw.management.domain.inbox.InboxEventType;
 import com.github.javydreamercsw.management.domain.inbox.InboxItem;
 import com.github.javydreamercsw.management.domain.inbox.InboxItemTarget;
 import com.github.javydreamercsw.management.event.FeudResolvedEvent;
-import com.github.javydreamercsw.management.service.inbox.InboxService;
+import com.github.javydreamercsw.management.service.inbox.InboxItemDraft;
+import com.github.javydreamercsw.management.service.inbox.InboxJournal;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
 
@@ -32,37 +32,27 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class FeudResolvedInboxListener implements ApplicationListener<FeudResolvedEvent> {
 
-  private final InboxService inboxService;
+  private final InboxJournal inboxJournal;
   private final InboxEventType feudResolved;
-  private final ApplicationEventPublisher eventPublisher;
-  private final InboxUpdateBroadcaster inboxUpdateBroadcaster;
 
   public FeudResolvedInboxListener(
-      @NonNull final InboxService inboxService,
-      @NonNull @Qualifier("feudResolved") final InboxEventType feudResolved,
-      @NonNull final ApplicationEventPublisher eventPublisher,
-      @NonNull final InboxUpdateBroadcaster inboxUpdateBroadcaster) {
-    this.inboxService = inboxService;
+      @NonNull final InboxJournal inboxJournal,
+      @NonNull @Qualifier("feudResolved") final InboxEventType feudResolved) {
+    this.inboxJournal = inboxJournal;
     this.feudResolved = feudResolved;
-    this.eventPublisher = eventPublisher;
-    this.inboxUpdateBroadcaster = inboxUpdateBroadcaster;
   }
 
   @Override
   public void onApplicationEvent(@NonNull final FeudResolvedEvent event) {
     log.debug("Received FeudResolvedEvent for feud: {}", event.getFeud().getName());
-    com.github.javydreamercsw.management.domain.inbox.InboxItem inboxItem =
-        inboxService.createInboxItem(
-            feudResolved,
-            "Feud Resolved: " + event.getFeud().getName(),
-            "Feud '%s' has been resolved.".formatted(event.getFeud().getName()),
-            InboxItem.Urgency.INFO,
-            event.getFeud().getId().toString(),
-            InboxItemTarget.TargetType.FEUD);
-    inboxItem.setActionType("NAVIGATE");
-    inboxItem.setActionPayload("{\"route\":\"rivalry-list\"}");
-    inboxService.save(inboxItem);
-    eventPublisher.publishEvent(new InboxUpdateEvent(this));
-    inboxUpdateBroadcaster.broadcast(new InboxUpdateEvent(this));
+    inboxJournal.append(
+        InboxItemDraft.of(
+                feudResolved,
+                "Feud Resolved: " + event.getFeud().getName(),
+                "Feud '%s' has been resolved.".formatted(event.getFeud().getName()),
+                InboxItem.Urgency.INFO,
+                event.getFeud().getId().toString(),
+                InboxItemTarget.TargetType.FEUD)
+            .navigateTo("rivalry-list"));
   }
 }
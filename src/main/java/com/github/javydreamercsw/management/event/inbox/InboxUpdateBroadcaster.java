@@ -16,33 +16,44 @@
 */
 package com.github.javydreamercsw.management.event.inbox;
 
+import com.github.javydreamercsw.management.event.broadcast.ListenerBroadcaster;
+import com.github.javydreamercsw.management.service.performance.PerformanceMonitoringService;
 import com.vaadin.flow.shared.Registration;
 import jakarta.annotation.PreDestroy;
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import org.springframework.stereotype.Component;
 
+/**
+ * Notifies open UI sessions that inbox contents changed. Inbox updates carry no payload, so a
+ * burst of them collapses into a single pending refresh per session.
+ */
 @Component
 public class InboxUpdateBroadcaster {
-  private final ExecutorService executor = Executors.newSingleThreadExecutor();
-  private final List<Consumer<InboxUpdateEvent>> listeners = new CopyOnWriteArrayList<>();
+  private static final int QUEUE_CAPACITY = 4;
+
+  private final ListenerBroadcaster<InboxUpdateEvent> broadcaster;
+
+  public InboxUpdateBroadcaster(final PerformanceMonitoringService performanceMonitoringService) {
+    this.broadcaster =
+        new ListenerBroadcaster<>(
+            "inbox", QUEUE_CAPACITY, (queued, next) -> true, performanceMonitoringService);
+  }
 
   public Registration register(final Consumer<InboxUpdateEvent> listener) {
-    listeners.add(listener);
-    return () -> listeners.remove(listener);
+    return broadcaster.register(listener);
   }
 
   public void broadcast(final InboxUpdateEvent event) {
-    for (Consumer<InboxUpdateEvent> listener : listeners) {
-      executor.execute(() -> listener.accept(event));
-    }
+    broadcaster.broadcast(event);
+  }
+
+  /** Inbox refreshes currently waiting across all sessions. */
+  public int getQueueDepth() {
+    return broadcaster.getQueueDepth();
   }
 
   @PreDestroy
   public void destroy() {
-    executor.shutdown();
+    broadcaster.close();
   }
 }
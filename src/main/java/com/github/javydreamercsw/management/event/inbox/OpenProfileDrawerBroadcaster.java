@@ -16,34 +16,37 @@
 */
 package com.github.javydreamercsw.management.event.inbox;
 
+import com.github.javydreamercsw.management.event.broadcast.ListenerBroadcaster;
+import com.github.javydreamercsw.management.service.performance.PerformanceMonitoringService;
 import com.vaadin.flow.shared.Registration;
 import jakarta.annotation.PreDestroy;
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import org.springframework.stereotype.Component;
 
 /** Broadcasts a signal to open the profile drawer in the current UI session. */
 @Component
 public class OpenProfileDrawerBroadcaster {
-  private final ExecutorService executor = Executors.newSingleThreadExecutor();
-  private final List<Consumer<Void>> listeners = new CopyOnWriteArrayList<>();
+  private static final int QUEUE_CAPACITY = 1;
+
+  private final ListenerBroadcaster<Void> broadcaster;
+
+  public OpenProfileDrawerBroadcaster(
+      final PerformanceMonitoringService performanceMonitoringService) {
+    this.broadcaster =
+        new ListenerBroadcaster<>(
+            "profile-drawer", QUEUE_CAPACITY, (queued, next) -> true, performanceMonitoringService);
+  }
 
   public Registration register(final Consumer<Void> listener) {
-    listeners.add(listener);
-    return () -> listeners.remove(listener);
+    return broadcaster.register(listener);
   }
 
   public void broadcast() {
-    for (Consumer<Void> listener : listeners) {
-      executor.execute(() -> listener.accept(null));
-    }
+    broadcaster.broadcast(null);
   }
 
   @PreDestroy
   public void destroy() {
-    executor.shutdown();
+    broadcaster.close();
   }
 }
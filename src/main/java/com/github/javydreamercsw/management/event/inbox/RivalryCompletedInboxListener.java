@@ -20,11 +20,11 @@ import com.github.javydreamercsw.management.domain.inbox.InboxEventType;
 import com.github.javydreamercsw.management.domain.inbox.InboxItem;
 import com.github.javydreamercsw.management.domain.inbox.InboxItemTarget;
 import com.github.javydreamercsw.management.event.RivalryCompletedEvent;
-import com.github.javydreamercsw.management.service.inbox.InboxService;
+import com.github.javydreamercsw.management.service.inbox.InboxItemDraft;
+import com.github.javydreamercsw.management.service.inbox.InboxJournal;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
 
@@ -32,38 +32,28 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class RivalryCompletedInboxListener implements ApplicationListener<RivalryCompletedEvent> {
 
-  private final InboxService inboxService;
+  private final InboxJournal inboxJournal;
   private final InboxEventType rivalryCompleted;
-  private final ApplicationEventPublisher eventPublisher;
-  private final InboxUpdateBroadcaster inboxUpdateBroadcaster;
 
   public RivalryCompletedInboxListener(
-      @NonNull final InboxService inboxService,
-      @NonNull @Qualifier("rivalryCompleted") final InboxEventType rivalryCompleted,
-      @NonNull final ApplicationEventPublisher eventPublisher,
-      @NonNull final InboxUpdateBroadcaster inboxUpdateBroadcaster) {
-    this.inboxService = inboxService;
+      @NonNull final InboxJournal inboxJournal,
+      @NonNull @Qualifier("rivalryCompleted") final InboxEventType rivalryCompleted) {
+    this.inboxJournal = inboxJournal;
     this.rivalryCompleted = rivalryCompleted;
-    this.eventPublisher = eventPublisher;
-    this.inboxUpdateBroadcaster = inboxUpdateBroadcaster;
   }
 
   @Override
   public void onApplicationEvent(@NonNull final RivalryCompletedEvent event) {
     log.debug(
         "Received RivalryCompletedEvent for rivalry: {}", event.getRivalry().getDisplayName());
-    com.github.javydreamercsw.management.domain.inbox.InboxItem inboxItem =
-        inboxService.createInboxItem(
-            rivalryCompleted,
-            "Rivalry Ended: " + event.getRivalry().getDisplayName(),
-            "Rivalry '%s' has been completed.".formatted(event.getRivalry().getDisplayName()),
-            InboxItem.Urgency.INFO,
-            event.getRivalry().getId().toString(),
-            InboxItemTarget.TargetType.RIVALRY);
-    inboxItem.setActionType("NAVIGATE");
-    inboxItem.setActionPayload("{\"route\":\"rivalry-list\"}");
-    inboxService.save(inboxItem);
-    eventPublisher.publishEvent(new InboxUpdateEvent(this));
-    inboxUpdateBroadcaster.broadcast(new InboxUpdateEvent(this));
+    inboxJournal.append(
+        InboxItemDraft.of(
+                rivalryCompleted,
+                "Rivalry Ended: " + event.getRivalry().getDisplayName(),
+                "Rivalry '%s' has been completed.".formatted(event.getRivalry().getDisplayName()),
+                InboxItem.Urgency.INFO,
+                event.getRivalry().getId().toString(),
+                InboxItemTarget.TargetType.RIVALRY)
+            .navigateTo("rivalry-list"));
   }
 }
@@ -20,11 +20,11 @@ import com.github.javydreamercsw.management.domain.inbox.InboxEventType;
 import com.github.javydreamercsw.management.domain.inbox.InboxItem;
 import com.github.javydreamercsw.management.domain.inbox.InboxItemTarget;
 import com.github.javydreamercsw.management.event.RivalryContinuesEvent;
-import com.github.javydreamercsw.management.service.inbox.InboxService;
+import com.github.javydreamercsw.management.service.inbox.InboxItemDraft;
+import com.github.javydreamercsw.management.service.inbox.InboxJournal;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
 
@@ -32,38 +32,28 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class RivalryContinuesInboxListener implements ApplicationListener<RivalryContinuesEvent> {
 
-  private final InboxService inboxService;
+  private final InboxJournal inboxJournal;
   private final InboxEventType rivalryContinues;
-  private final ApplicationEventPublisher eventPublisher;
-  private final InboxUpdateBroadcaster inboxUpdateBroadcaster;
 
   public RivalryContinuesInboxListener(
-      @NonNull final InboxService inboxService,
-      @NonNull @Qualifier("rivalryContinues") final InboxEventType rivalryContinues,
-      @NonNull final ApplicationEventPublisher eventPublisher,
-      @NonNull final InboxUpdateBroadcaster inboxUpdateBroadcaster) {
-    this.inboxService = inboxService;
+      @NonNull final InboxJournal inboxJournal,
+      @NonNull @Qualifier("rivalryContinues") final InboxEventType rivalryContinues) {
+    this.inboxJournal = inboxJournal;
     this.rivalryContinues = rivalryContinues;
-    this.eventPublisher = eventPublisher;
-    this.inboxUpdateBroadcaster = inboxUpdateBroadcaster;
   }
 
   @Override
   public void onApplicationEvent(@NonNull final RivalryContinuesEvent event) {
     log.debug(
         "Received RivalryContinuesEvent for rivalry: {}", event.getRivalry().getDisplayName());
-    com.github.javydreamercsw.management.domain.inbox.InboxItem inboxItem =
-        inboxService.createInboxItem(
-            rivalryContinues,
-            "Rivalry Continues: " + event.getRivalry().getDisplayName(),
-            "Rivalry '%s' continues.".formatted(event.getRivalry().getDisplayName()),
-            InboxItem.Urgency.INFO,
-            event.getRivalry().getId().toString(),
-            InboxItemTarget.TargetType.RIVALRY);
-    inboxItem.setActionType("NAVIGATE");
-    inboxItem.setActionPayload("{\"route\":\"rivalry-list\"}");
-    inboxService.save(inboxItem);
-    eventPublisher.publishEvent(new InboxUpdateEvent(this));
-    inboxUpdateBroadcaster.broadcast(new InboxUpdateEvent(this));
+    inboxJournal.append(
+        InboxItemDraft.of(
+                rivalryContinues,
+                "Rivalry Continues: " + event.getRivalry().getDisplayName(),
+                "Rivalry '%s' continues.".formatted(event.getRivalry().getDisplayName()),
+                InboxItem.Urgency.INFO,
+                event.getRivalry().getId().toString(),
+                InboxItemTarget.TargetType.RIVALRY)
+            .navigateTo("rivalry-list"));
   }
 }
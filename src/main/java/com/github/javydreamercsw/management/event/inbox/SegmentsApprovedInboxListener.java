@@ -20,11 +20,11 @@ import com.github.javydreamercsw.management.domain.inbox.InboxEventType;
 import com.github.javydreamercsw.management.domain.inbox.InboxItem;
 import com.github.javydreamercsw.management.domain.inbox.InboxItemTarget;
 import com.github.javydreamercsw.management.event.SegmentsApprovedEvent;
-import com.github.javydreamercsw.management.service.inbox.InboxService;
+import com.github.javydreamercsw.management.service.inbox.InboxItemDraft;
+import com.github.javydreamercsw.management.service.inbox.InboxJournal;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
 
@@ -32,37 +32,27 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class SegmentsApprovedInboxListener implements ApplicationListener<SegmentsApprovedEvent> {
 
-  private final InboxService inboxService;
+  private final InboxJournal inboxJournal;
   private final InboxEventType segmentsApproved;
-  private final ApplicationEventPublisher eventPublisher;
-  private final InboxUpdateBroadcaster inboxUpdateBroadcaster;
 
   public SegmentsApprovedInboxListener(
-      @NonNull final InboxService inboxService,
-      @NonNull @Qualifier("segmentsApproved") final InboxEventType segmentsApproved,
-      @NonNull final ApplicationEventPublisher eventPublisher,
-      @NonNull final InboxUpdateBroadcaster inboxUpdateBroadcaster) {
-    this.inboxService = inboxService;
+      @NonNull final InboxJournal inboxJournal,
+      @NonNull @Qualifier("segmentsApproved") final InboxEventType segmentsApproved) {
+    this.inboxJournal = inboxJournal;
     this.segmentsApproved = segmentsApproved;
-    this.eventPublisher = eventPublisher;
-    this.inboxUpdateBroadcaster = inboxUpdateBroadcaster;
   }
 
   @Override
   public void onApplicationEvent(@NonNull final SegmentsApprovedEvent event) {
     log.debug("Received SegmentsApprovedEvent for show: {}", event.getShow().getName());
-    com.github.javydreamercsw.management.domain.inbox.InboxItem inboxItem =
-        inboxService.createInboxItem(
-            segmentsApproved,
-            "Segments Approved: " + event.getShow().getName(),
-            "Segments approved for show: %s".formatted(event.getShow().getName()),
-            InboxItem.Urgency.INFO,
-            event.getShow().getId().toString(),
-            InboxItemTarget.TargetType.SHOW);
-    inboxItem.setActionType("NAVIGATE");
-    inboxItem.setActionPayload("{\"route\":\"show-list\"}");
-    inboxService.save(inboxItem);
-    eventPublisher.publishEvent(new InboxUpdateEvent(this));
-    inboxUpdateBroadcaster.broadcast(new InboxUpdateEvent(this));
+    inboxJournal.append(
+        InboxItemDraft.of(
+                segmentsApproved,
+                "Segments Approved: " + event.getShow().getName(),
+                "Segments approved for show: %s".formatted(event.getShow().getName()),
+                InboxItem.Urgency.INFO,
+                event.getShow().getId().toString(),
+                InboxItemTarget.TargetType.SHOW)
+            .navigateTo("show-list"));
   }
 }
@@ -23,6 +23,8 @@ import com.github.javydreamercsw.base.security.GeneralSecurityUtils;
 import com.github.javydreamercsw.management.domain.inbox.InboxEventType;
 import com.github.javydreamercsw.management.domain.inbox.InboxItem;
 import com.github.javydreamercsw.management.domain.inbox.InboxItemTarget;
+import com.github.javydreamercsw.management.service.inbox.InboxItemDraft;
+import com.github.javydreamercsw.management.service.inbox.InboxJournal;
 import com.github.javydreamercsw.management.service.inbox.InboxService;
 import java.util.List;
 import lombok.NonNull;
@@ -35,20 +37,17 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class UpdateAvailableInboxListener implements ApplicationListener<UpdateAvailableEvent> {
 
-  private final InboxService inboxService;
+  private final InboxJournal inboxJournal;
   private final InboxEventType updateAvailableEventType;
   private final AccountRepository accountRepository;
-  private final InboxUpdateBroadcaster inboxUpdateBroadcaster;
 
   public UpdateAvailableInboxListener(
-      @NonNull final InboxService inboxService,
+      @NonNull final InboxJournal inboxJournal,
       @NonNull @Qualifier("updateAvailable") final InboxEventType updateAvailableEventType,
-      @NonNull final AccountRepository accountRepository,
-      @NonNull final InboxUpdateBroadcaster inboxUpdateBroadcaster) {
-    this.inboxService = inboxService;
+      @NonNull final AccountRepository accountRepository) {
+    this.inboxJournal = inboxJournal;
     this.updateAvailableEventType = updateAvailableEventType;
     this.accountRepository = accountRepository;
-    this.inboxUpdateBroadcaster = inboxUpdateBroadcaster;
   }
 
   @Override
@@ -73,16 +72,13 @@ public class UpdateAvailableInboxListener implements ApplicationListener<UpdateA
       return;
     }
 
-    GeneralSecurityUtils.runAsAdmin(
-        () ->
-            inboxService.createInboxItem(
-                updateAvailableEventType,
-                "Update Available: v" + event.getNewVersion(),
-                message,
-                InboxItem.Urgency.INFO,
-                adminTargets));
-
-    inboxUpdateBroadcaster.broadcast(new InboxUpdateEvent(this));
+    inboxJournal.append(
+        InboxItemDraft.of(
+            updateAvailableEventType,
+            "Update Available: v" + event.getNewVersion(),
+            message,
+            InboxItem.Urgency.INFO,
+            adminTargets));
     log.info(
         "Update available notification sent to {} admin(s) for v{}",
         adminTargets.size(),
@@ -19,11 +19,12 @@ package com.github.javydreamercsw.management.event.inbox;
 import com.github.javydreamercsw.management.domain.inbox.InboxEventType;
 import com.github.javydreamercsw.management.domain.inbox.InboxItem;
 import com.github.javydreamercsw.management.event.dto.WrestlerBumpEvent;
+import com.github.javydreamercsw.management.service.inbox.InboxItemDraft;
+import com.github.javydreamercsw.management.service.inbox.InboxJournal;
 import com.github.javydreamercsw.management.service.inbox.InboxService;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
 
@@ -31,20 +32,14 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class WrestlerBumpInboxListener implements ApplicationListener<WrestlerBumpEvent> {
 
-  private final InboxService inboxService;
+  private final InboxJournal inboxJournal;
   private final InboxEventType wrestlerBump;
-  private final ApplicationEventPublisher eventPublisher;
-  private final InboxUpdateBroadcaster inboxUpdateBroadcaster;
 
   public WrestlerBumpInboxListener(
-      @NonNull final InboxService inboxService,
-      @NonNull @Qualifier("wrestlerBump") final InboxEventType wrestlerBump,
-      @NonNull final ApplicationEventPublisher eventPublisher,
-      @NonNull final InboxUpdateBroadcaster inboxUpdateBroadcaster) {
-    this.inboxService = inboxService;
+      @NonNull final InboxJournal inboxJournal,
+      @NonNull @Qualifier("wrestlerBump") final InboxEventType wrestlerBump) {
+    this.inboxJournal = inboxJournal;
     this.wrestlerBump = wrestlerBump;
-    this.eventPublisher = eventPublisher;
-    this.inboxUpdateBroadcaster = inboxUpdateBroadcaster;
   }
 
   @Override
@@ -62,22 +57,17 @@ public class WrestlerBumpInboxListener implements ApplicationListener<WrestlerBu
           case DRAMA_EVENT -> "drama event";
           case MANUAL -> "manual assignment";
         };
-    com.github.javydreamercsw.management.domain.inbox.InboxItem inboxItem =
-        inboxService.createInboxItem(
-            wrestlerBump,
-            "Wrestler Bump: " + event.getWrestlerState().getName(),
-            "Wrestler %s received a bump from %s. Total bumps: %d"
-                .formatted(
-                    event.getWrestlerState().getName(),
-                    sourceName,
-                    event.getWrestlerState().getBumps()),
-            InboxItem.Urgency.WARNING,
-            InboxService.wrestlerTargets(event.getWrestlerState().getWrestler()));
-    inboxItem.setActionType("NAVIGATE");
-    inboxItem.setActionPayload(
-        "{\"route\":\"wrestler-profile/" + event.getWrestlerState().getWrestler().getId() + "\"}");
-    inboxService.save(inboxItem);
-    eventPublisher.publishEvent(new InboxUpdateEvent(this));
-    inboxUpdateBroadcaster.broadcast(new InboxUpdateEvent(this));
+    inboxJournal.append(
+        InboxItemDraft.of(
+                wrestlerBump,
+                "Wrestler Bump: " + event.getWrestlerState().getName(),
+                "Wrestler %s received a bump from %s. Total bumps: %d"
+                    .formatted(
+                        event.getWrestlerState().getName(),
+                        sourceName,
+                        event.getWrestlerState().getBumps()),
+                InboxItem.Urgency.WARNING,
+                InboxService.wrestlerTargets(event.getWrestlerState().getWrestler()))
+            .navigateTo("wrestler-profile/" + event.getWrestlerState().getWrestler().getId()));
   }
 }
@@ -19,11 +19,12 @@ package com.github.javydreamercsw.management.event.inbox;
 import com.github.javydreamercsw.management.domain.inbox.InboxEventType;
 import com.github.javydreamercsw.management.domain.inbox.InboxItem;
 import com.github.javydreamercsw.management.event.dto.WrestlerInjuryHealedEvent;
+import com.github.javydreamercsw.management.service.inbox.InboxItemDraft;
+import com.github.javydreamercsw.management.service.inbox.InboxJournal;
 import com.github.javydreamercsw.management.service.inbox.InboxService;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
 
@@ -32,20 +33,14 @@ import org.springframework.stereotype.Component;
 public class WrestlerInjuryHealedInboxListener
     implements ApplicationListener<WrestlerInjuryHealedEvent> {
 
-  private final InboxService inboxService;
+  private final InboxJournal inboxJournal;
   private final InboxEventType wrestlerInjuryHealed;
-  private final ApplicationEventPublisher eventPublisher;
-  private final InboxUpdateBroadcaster inboxUpdateBroadcaster;
 
   public WrestlerInjuryHealedInboxListener(
-      @NonNull final InboxService inboxService,
-      @NonNull @Qualifier("wrestlerInjuryHealed") final InboxEventType wrestlerInjuryHealed,
-      @NonNull final ApplicationEventPublisher eventPublisher,
-      @NonNull final InboxUpdateBroadcaster inboxUpdateBroadcaster) {
-    this.inboxService = inboxService;
+      @NonNull final InboxJournal inboxJournal,
+      @NonNull @Qualifier("wrestlerInjuryHealed") final InboxEventType wrestlerInjuryHealed) {
+    this.inboxJournal = inboxJournal;
     this.wrestlerInjuryHealed = wrestlerInjuryHealed;
-    this.eventPublisher = eventPublisher;
-    this.inboxUpdateBroadcaster = inboxUpdateBroadcaster;
   }
 
   @Override
@@ -56,19 +51,16 @@ public class WrestlerInjuryHealedInboxListener
       log.debug("Skipping inbox item for NPC wrestler (no account)");
       return;
     }
-    com.github.javydreamercsw.management.domain.inbox.InboxItem inboxItem =
-        inboxService.createInboxItem(
-            wrestlerInjuryHealed,
-            "Injury Healed: " + event.getWrestlerState().getName(),
-            "Wrestler %s's %s injury has healed."
-                .formatted(event.getWrestlerState().getName(), event.getInjury().getDescription()),
-            InboxItem.Urgency.INFO,
-            InboxService.wrestlerTargets(event.getWrestlerState().getWrestler()));
-    inboxItem.setActionType("NAVIGATE");
-    inboxItem.setActionPayload(
-        "{\"route\":\"wrestler-profile/" + event.getWrestlerState().getWrestler().getId() + "\"}");
-    inboxService.save(inboxItem);
-    eventPublisher.publishEvent(new InboxUpdateEvent(this));
-    inboxUpdateBroadcaster.broadcast(new InboxUpdateEvent(this));
+    inboxJournal.append(
+        InboxItemDraft.of(
+                wrestlerInjuryHealed,
+                "Injury Healed: " + event.getWrestlerState().getName(),
+                "Wrestler %s's %s injury has healed."
+                    .formatted(
+                        event.getWrestlerState().getName(),
+                        event.getInjury().getDescription()),
+                InboxItem.Urgency.INFO,
+                InboxService.wrestlerTargets(event.getWrestlerState().getWrestler()))
+            .navigateTo("wrestler-profile/" + event.getWrestlerState().getWrestler().getId()));
   }
 }
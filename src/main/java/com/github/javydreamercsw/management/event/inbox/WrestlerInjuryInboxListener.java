@@ -19,11 +19,12 @@ package com.github.javydreamercsw.management.event.inbox;
 import com.github.javydreamercsw.management.domain.inbox.InboxEventType;
 import com.github.javydreamercsw.management.domain.inbox.InboxItem;
 import com.github.javydreamercsw.management.event.dto.WrestlerInjuryEvent;
+import com.github.javydreamercsw.management.service.inbox.InboxItemDraft;
+import com.github.javydreamercsw.management.service.inbox.InboxJournal;
 import com.github.javydreamercsw.management.service.inbox.InboxService;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
 
@@ -31,20 +32,14 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class WrestlerInjuryInboxListener implements ApplicationListener<WrestlerInjuryEvent> {
 
-  private final InboxService inboxService;
+  private final InboxJournal inboxJournal;
   private final InboxEventType wrestlerInjury;
-  private final ApplicationEventPublisher eventPublisher;
-  private final InboxUpdateBroadcaster inboxUpdateBroadcaster;
 
   public WrestlerInjuryInboxListener(
-      @NonNull final InboxService inboxService,
-      @NonNull @Qualifier("wrestlerInjuryObtained") final InboxEventType wrestlerInjury,
-      @NonNull final ApplicationEventPublisher eventPublisher,
-      @NonNull final InboxUpdateBroadcaster inboxUpdateBroadcaster) {
-    this.inboxService = inboxService;
+      @NonNull final InboxJournal inboxJournal,
+      @NonNull @Qualifier("wrestlerInjuryObtained") final InboxEventType wrestlerInjury) {
+    this.inboxJournal = inboxJournal;
     this.wrestlerInjury = wrestlerInjury;
-    this.eventPublisher = eventPublisher;
-    this.inboxUpdateBroadcaster = inboxUpdateBroadcaster;
   }
 
   @Override
@@ -54,19 +49,16 @@ public class WrestlerInjuryInboxListener implements ApplicationListener<Wrestler
       log.debug("Skipping inbox item for NPC wrestler (no account)");
       return;
     }
-    com.github.javydreamercsw.management.domain.inbox.InboxItem inboxItem =
-        inboxService.createInboxItem(
-            wrestlerInjury,
-            "Wrestler Injury: " + event.getWrestlerState().getName(),
-            "Wrestler %s sustained a %s injury."
-                .formatted(event.getWrestlerState().getName(), event.getInjury().getDescription()),
-            InboxItem.Urgency.WARNING,
-            InboxService.wrestlerTargets(event.getWrestlerState().getWrestler()));
-    inboxItem.setActionType("NAVIGATE");
-    inboxItem.setActionPayload(
-        "{\"route\":\"wrestler-profile/" + event.getWrestlerState().getWrestler().getId() + "\"}");
-    inboxService.save(inboxItem);
-    eventPublisher.publishEvent(new InboxUpdateEvent(this));
-    inboxUpdateBroadcaster.broadcast(new InboxUpdateEvent(this));
+    inboxJournal.append(
+        InboxItemDraft.of(
+                wrestlerInjury,
+                "Wrestler Injury: " + event.getWrestlerState().getName(),
+                "Wrestler %s sustained a %s injury."
+                    .formatted(
+                        event.getWrestlerState().getName(),
+                        event.getInjury().getDescription()),
+                InboxItem.Urgency.WARNING,
+                InboxService.wrestlerTargets(event.getWrestlerState().getWrestler()))
+            .navigateTo("wrestler-profile/" + event.getWrestlerState().getWrestler().getId()));
   }
 }
@@ -16,33 +16,48 @@
 */
 package com.github.javydreamercsw.management.event.league;
 
+import com.github.javydreamercsw.management.event.broadcast.ListenerBroadcaster;
+import com.github.javydreamercsw.management.service.performance.PerformanceMonitoringService;
 import com.vaadin.flow.shared.Registration;
 import jakarta.annotation.PreDestroy;
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Objects;
 import java.util.function.Consumer;
 import org.springframework.stereotype.Component;
 
+/**
+ * Notifies open draft screens of picks. Back-to-back updates for the same draft collapse into one
+ * refresh for a session that has not caught up yet.
+ */
 @Component
 public class DraftBroadcaster {
-  private final ExecutorService executor = Executors.newSingleThreadExecutor();
-  private final List<Consumer<DraftUpdateEvent>> listeners = new CopyOnWriteArrayList<>();
+  private static final int QUEUE_CAPACITY = 16;
+
+  private final ListenerBroadcaster<DraftUpdateEvent> broadcaster;
+
+  public DraftBroadcaster(final PerformanceMonitoringService performanceMonitoringService) {
+    this.broadcaster =
+        new ListenerBroadcaster<>(
+            "draft",
+            QUEUE_CAPACITY,
+            (queued, next) -> Objects.equals(queued.getDraftId(), next.getDraftId()),
+            performanceMonitoringService);
+  }
 
   public Registration register(final Consumer<DraftUpdateEvent> listener) {
-    listeners.add(listener);
-    return () -> listeners.remove(listener);
+    return broadcaster.register(listener);
   }
 
   public void broadcast(final DraftUpdateEvent event) {
-    for (Consumer<DraftUpdateEvent> listener : listeners) {
-      executor.execute(() -> listener.accept(event));
-    }
+    broadcaster.broadcast(event);
+  }
+
+  /** Draft updates currently waiting across all sessions. */
+  public int getQueueDepth() {
+    return broadcaster.getQueueDepth();
   }
 
   @PreDestroy
   public void destroy() {
-    executor.shutdown();
+    broadcaster.close();
   }
 }
@@ -20,18 +20,27 @@ import com.github.javydreamercsw.management.domain.GameSetting;
 import com.github.javydreamercsw.management.domain.GameSettingRepository;
 import com.github.javydreamercsw.management.domain.universe.Universe;
 import com.github.javydreamercsw.management.event.dto.GameDateChangedEvent;
+import com.github.javydreamercsw.management.service.expansion.ExpansionToggledEvent;
 import com.github.javydreamercsw.management.service.universe.UniverseContextService;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -83,10 +92,21 @@ public class GameSettingService {
    */
   private static final Set<String> SYSTEM_KEYS = Set.of("default_theme");
 
+  /** Snapshot key for the global rows (universe_id IS NULL). */
+  private static final Long GLOBAL_SCOPE = Long.MIN_VALUE;
+
   private final GameSettingRepository repository;
   private final ApplicationEventPublisher eventPublisher;
   private final UniverseContextService universeContextService;
 
+  /** Bumped on every settings write; snapshots built under an older version are rebuilt. */
+  private final AtomicLong settingsVersion = new AtomicLong();
+
+  private final ConcurrentMap<Long, SettingsSnapshot> snapshots = new ConcurrentHashMap<>();
+
+  /** Immutable copy of the settings rows of one scope, valid while {@code version} is current. */
+  private record SettingsSnapshot(long version, Map<String, String> values) {}
+
   // ── Internal resolution ───────────────────────────────────────────────────
 
   /**
@@ -97,30 +117,94 @@ public class GameSettingService {
    *   <li>Credential keys → universe-scoped only, no fallback
    *   <li>Gameplay keys → universe-scoped with fallback to global
    * </ul>
+   *
+   * <p>Values come from the in-memory snapshots, so a read costs map lookups only.
+   *
+   * @return the raw value, or {@code null} when the setting is not configured
    */
-  private Optional<String> resolveValue(final String key) {
+  private String resolveValue(final String key) {
     if (SYSTEM_KEYS.contains(key)) {
-      return repository.findGlobal(key).map(GameSetting::getValue);
+      return settings(GLOBAL_SCOPE).get(key);
     }
 
     Long universeId = universeContextService.getCurrentUniverseId();
 
     if (CREDENTIAL_KEYS.contains(key)) {
-      if (universeId == null) {
-        return Optional.empty();
-      }
-      return repository.findBySettingKeyAndUniverseId(key, universeId).map(GameSetting::getValue);
+      return universeId == null ? null : settings(universeId).get(key);
     }
 
     // Gameplay: universe-scoped first, fall back to global
     if (universeId != null) {
-      Optional<String> universeValue =
-          repository.findBySettingKeyAndUniverseId(key, universeId).map(GameSetting::getValue);
-      if (universeValue.isPresent()) {
+      String universeValue = settings(universeId).get(key);
+      if (universeValue != null) {
         return universeValue;
       }
     }
-    return repository.findGlobal(key).map(GameSetting::getValue);
+    return settings(GLOBAL_SCOPE).get(key);
+  }
+
+  private boolean resolveBoolean(final String key, final boolean defaultValue) {
+    String value = resolveValue(key);
+    return value != null ? Boolean.parseBoolean(value) : defaultValue;
+  }
+
+  private int resolveInt(final String key, final int defaultValue) {
+    String value = resolveValue(key);
+    return value != null ? Integer.parseInt(value) : defaultValue;
+  }
+
+  /** Returns the current snapshot of one scope, loading it with a single query when stale. */
+  private Map<String, String> settings(final Long scope) {
+    long version = settingsVersion.get();
+    SettingsSnapshot snapshot = snapshots.get(scope);
+    if (snapshot != null && snapshot.version() == version) {
+      return snapshot.values();
+    }
+    List<GameSetting> rows =
+        GLOBAL_SCOPE.equals(scope)
+            ? repository.findAllGlobal()
+            : repository.findAllByUniverseId(scope);
+    Map<String, String> values = new HashMap<>();
+    for (GameSetting row : rows) {
+      if (row.getSettingKey() != null && row.getValue() != null) {
+        values.put(row.getSettingKey(), row.getValue());
+      }
+    }
+    SettingsSnapshot rebuilt = new SettingsSnapshot(version, Map.copyOf(values));
+    // Never replace a snapshot with one built under an older version.
+    snapshots.merge(
+        scope, rebuilt, (current, fresh) -> fresh.version() >= current.version() ? fresh : current);
+    return rebuilt.values();
+  }
+
+  /**
+   * Invalidates every settings snapshot; the next read of each scope reloads it. Writes made
+   * through this service do this automatically, code that saves {@link GameSetting} rows through
+   * the repository must call it itself.
+   */
+  @PreAuthorize("permitAll()")
+  public void reloadSettings() {
+    settingsVersion.incrementAndGet();
+  }
+
+  @EventListener
+  public void onExpansionToggled(final ExpansionToggledEvent event) {
+    reloadSettings();
+  }
+
+  private void settingsChanged() {
+    // Reads later in the writing transaction rebuild from its own uncommitted rows. Invalidate
+    // again once it completes so a rolled-back value is never served to other threads.
+    reloadSettings();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+              reloadSettings();
+            }
+          });
+    }
   }
 
   /**
@@ -153,13 +237,14 @@ public class GameSettingService {
     setting.setValue(value);
     setting.setUniverseId(finalUniverseId);
     repository.save(setting);
+    settingsChanged();
   }
 
   // ── Gameplay settings ────────────────────────────────────────────────────
 
   @PreAuthorize("permitAll()")
   public boolean isWearAndTearEnabled() {
-    return resolveValue(WEAR_AND_TEAR_ENABLED_KEY).map(Boolean::parseBoolean).orElse(true);
+    return resolveBoolean(WEAR_AND_TEAR_ENABLED_KEY, true);
   }
 
   @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_SYSTEM')")
@@ -170,7 +255,7 @@ public class GameSettingService {
 
   @PreAuthorize("permitAll()")
   public boolean isStatusCardsEnabled() {
-    return resolveValue(STATUS_CARDS_ENABLED_KEY).map(Boolean::parseBoolean).orElse(true);
+    return resolveBoolean(STATUS_CARDS_ENABLED_KEY, true);
   }
 
   @PreAuthorize("hasRole('ADMIN')")
@@ -187,7 +272,7 @@ public class GameSettingService {
           case LEAGUE -> TUTORIAL_ENABLED_LEAGUE_KEY;
           case GLOBAL -> TUTORIAL_ENABLED_GLOBAL_KEY;
         };
-    return resolveValue(key).map(Boolean::parseBoolean).orElse(true);
+    return resolveBoolean(key, true);
   }
 
   @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_SYSTEM')")
@@ -204,17 +289,18 @@ public class GameSettingService {
 
   @PreAuthorize("permitAll()")
   public boolean isAiNewsEnabled() {
-    return resolveValue(AI_NEWS_ENABLED_KEY).map(Boolean::parseBoolean).orElse(true);
+    return resolveBoolean(AI_NEWS_ENABLED_KEY, true);
   }
 
   @PreAuthorize("permitAll()")
   public int getNewsRumorChance() {
-    return resolveValue(NEWS_RUMOR_CHANCE_KEY).map(Integer::parseInt).orElse(20);
+    return resolveInt(NEWS_RUMOR_CHANCE_KEY, 20);
   }
 
   @PreAuthorize("permitAll()")
   public String getNewsStrategy() {
-    return resolveValue(NEWS_STRATEGY_KEY).orElse("SEGMENT");
+    String strategy = resolveValue(NEWS_STRATEGY_KEY);
+    return strategy != null ? strategy : "SEGMENT";
   }
 
   @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_SYSTEM')")
@@ -237,7 +323,8 @@ public class GameSettingService {
 
   @PreAuthorize("permitAll()")
   public LocalDate getCurrentGameDate() {
-    return resolveValue(CURRENT_GAME_DATE_KEY).map(LocalDate::parse).orElse(LocalDate.now());
+    String date = resolveValue(CURRENT_GAME_DATE_KEY);
+    return date != null ? LocalDate.parse(date) : LocalDate.now();
   }
 
   @PreAuthorize(
@@ -254,7 +341,7 @@ public class GameSettingService {
 
   @PreAuthorize("permitAll()")
   public int getRivalryResolutionThresholdPle() {
-    return resolveValue(RIVALRY_RESOLUTION_THRESHOLD_PLE_KEY).map(Integer::parseInt).orElse(30);
+    return resolveInt(RIVALRY_RESOLUTION_THRESHOLD_PLE_KEY, 30);
   }
 
   @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_SYSTEM')")
@@ -265,7 +352,7 @@ public class GameSettingService {
 
   @PreAuthorize("permitAll()")
   public int getRivalryResolutionThresholdRegular() {
-    return resolveValue(RIVALRY_RESOLUTION_THRESHOLD_REGULAR_KEY).map(Integer::parseInt).orElse(25);
+    return resolveInt(RIVALRY_RESOLUTION_THRESHOLD_REGULAR_KEY, 25);
   }
 
   @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_SYSTEM')")
@@ -276,9 +363,7 @@ public class GameSettingService {
 
   @PreAuthorize("permitAll()")
   public boolean isRivalryResolutionOnRegularShowsEnabled() {
-    return resolveValue(RIVALRY_RESOLUTION_ON_REGULAR_SHOWS_KEY)
-        .map(Boolean::parseBoolean)
-        .orElse(true);
+    return resolveBoolean(RIVALRY_RESOLUTION_ON_REGULAR_SHOWS_KEY, true);
   }
 
   @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_SYSTEM')")
@@ -289,7 +374,7 @@ public class GameSettingService {
 
   @PreAuthorize("permitAll()")
   public int getRivalryMaxDurationDays() {
-    return resolveValue(RIVALRY_MAX_DURATION_DAYS_KEY).map(Integer::parseInt).orElse(90);
+    return resolveInt(RIVALRY_MAX_DURATION_DAYS_KEY, 90);
   }
 
   @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_SYSTEM')")
@@ -300,7 +385,7 @@ public class GameSettingService {
 
   @PreAuthorize("permitAll()")
   public boolean isRivalryHeatDecayEnabled() {
-    return resolveValue(RIVALRY_HEAT_DECAY_ENABLED_KEY).map(Boolean::parseBoolean).orElse(true);
+    return resolveBoolean(RIVALRY_HEAT_DECAY_ENABLED_KEY, true);
   }
 
   @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_SYSTEM')")
@@ -311,7 +396,7 @@ public class GameSettingService {
 
   @PreAuthorize("permitAll()")
   public int getRivalryHeatDecayPerInterval() {
-    return resolveValue(RIVALRY_HEAT_DECAY_PER_INTERVAL_KEY).map(Integer::parseInt).orElse(1);
+    return resolveInt(RIVALRY_HEAT_DECAY_PER_INTERVAL_KEY, 1);
   }
 
   @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_SYSTEM')")
@@ -322,7 +407,7 @@ public class GameSettingService {
 
   @PreAuthorize("permitAll()")
   public int getRivalryHeatDecayIntervalDays() {
-    return resolveValue(RIVALRY_HEAT_DECAY_INTERVAL_DAYS_KEY).map(Integer::parseInt).orElse(7);
+    return resolveInt(RIVALRY_HEAT_DECAY_INTERVAL_DAYS_KEY, 7);
   }
 
   @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_SYSTEM')")
@@ -333,7 +418,7 @@ public class GameSettingService {
 
   @PreAuthorize("permitAll()")
   public int getRivalryResolutionMinHeat() {
-    return resolveValue(RIVALRY_RESOLUTION_MIN_HEAT_KEY).map(Integer::parseInt).orElse(10);
+    return resolveInt(RIVALRY_RESOLUTION_MIN_HEAT_KEY, 10);
   }
 
   @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_SYSTEM')")
@@ -344,7 +429,7 @@ public class GameSettingService {
 
   @PreAuthorize("permitAll()")
   public int getConditionRestThreshold() {
-    return resolveValue(CONDITION_REST_THRESHOLD_KEY).map(Integer::parseInt).orElse(75);
+    return resolveInt(CONDITION_REST_THRESHOLD_KEY, 75);
   }
 
   @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_SYSTEM')")
@@ -356,7 +441,7 @@ public class GameSettingService {
   /** Returns the inbox retention period in days. -1 means purge is disabled. Default: 90. */
   @PreAuthorize("permitAll()")
   public int getInboxRetentionDays() {
-    return resolveValue(INBOX_RETENTION_DAYS_KEY).map(Integer::parseInt).orElse(90);
+    return resolveInt(INBOX_RETENTION_DAYS_KEY, 90);
   }
 
   @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_SYSTEM')")
@@ -418,7 +503,9 @@ public class GameSettingService {
         gameSetting.getSettingKey() != null && gameSetting.getSettingKey().contains("KEY")
             ? "********"
             : gameSetting.getValue());
-    return repository.save(gameSetting);
+    GameSetting saved = repository.save(gameSetting);
+    settingsChanged();
+    return saved;
   }
 
   @Transactional
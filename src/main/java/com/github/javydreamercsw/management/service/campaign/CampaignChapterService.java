@@ -27,8 +27,6 @@ import com.github.javydreamercsw.management.dto.campaign.ChapterCriteriaDTO;
 import com.github.javydreamercsw.management.dto.campaign.ChapterPointDTO;
 import com.github.javydreamercsw.management.dto.campaign.StaticEncounterDTO;
 import com.github.javydreamercsw.management.service.expansion.ExpansionService;
-import groovy.lang.Binding;
-import groovy.lang.GroovyShell;
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.io.InputStream;
@@ -38,7 +36,10 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -54,6 +55,7 @@ public class CampaignChapterService {
   private final FeatureDataService featureDataService;
   private final ExpansionService expansionService;
   private final ResourcePatternResolver resourcePatternResolver;
+  private final CampaignScriptEngine scriptEngine;
   private List<CampaignChapterDTO> chapters = Collections.emptyList();
 
   @Autowired
@@ -61,11 +63,26 @@ public class CampaignChapterService {
       @NonNull final ObjectMapper objectMapper,
       final FeatureDataService featureDataService,
       final ExpansionService expansionService,
-      @NonNull final ResourcePatternResolver resourcePatternResolver) {
+      @NonNull final ResourcePatternResolver resourcePatternResolver,
+      @NonNull final CampaignScriptEngine scriptEngine) {
     this.objectMapper = objectMapper;
     this.featureDataService = featureDataService;
     this.expansionService = expansionService;
     this.resourcePatternResolver = resourcePatternResolver;
+    this.scriptEngine = scriptEngine;
+  }
+
+  public CampaignChapterService(
+      @NonNull final ObjectMapper objectMapper,
+      final FeatureDataService featureDataService,
+      final ExpansionService expansionService,
+      @NonNull final ResourcePatternResolver resourcePatternResolver) {
+    this(
+        objectMapper,
+        featureDataService,
+        expansionService,
+        resourcePatternResolver,
+        new CampaignScriptEngine());
   }
 
   @PostConstruct
@@ -133,6 +150,22 @@ public class CampaignChapterService {
     }
     chapters = Collections.unmodifiableList(merged);
     log.debug("Loaded {} campaign chapters total.", chapters.size());
+    precompileCriteriaScripts();
+  }
+
+  /** Compiles every chapter's custom criteria script once, ahead of the first evaluation. */
+  private void precompileCriteriaScripts() {
+    chapters.stream()
+        .flatMap(c -> Stream.of(c.getEntryPoints(), c.getExitPoints()))
+        .filter(Objects::nonNull)
+        .flatMap(List::stream)
+        .map(ChapterPointDTO::getCriteria)
+        .filter(Objects::nonNull)
+        .flatMap(List::stream)
+        .map(ChapterCriteriaDTO::getCustomEvaluationScript)
+        .filter(script -> script != null && !script.isBlank())
+        .distinct()
+        .forEach(scriptEngine::precompile);
   }
 
   public List<CampaignChapterDTO> getAllChapters() {
@@ -333,9 +366,7 @@ public class CampaignChapterService {
 
   boolean evaluateGroovyScript(@NonNull final String script, @NonNull final CampaignState state) {
     try {
-      Binding binding = new Binding();
-      binding.setVariable("state", state);
-      Object result = new GroovyShell(binding).evaluate(script);
+      Object result = scriptEngine.evaluate(script, Map.of("state", state));
       return Boolean.TRUE.equals(result);
     } catch (Exception e) {
       log.warn("Groovy script evaluation failed — treating as false: {}", e.getMessage());
@@ -0,0 +1,252 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.campaign;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.javydreamercsw.management.service.performance.PerformanceMonitoringService;
+import groovy.lang.Binding;
+import groovy.lang.GroovyClassLoader;
+import groovy.lang.GroovyCodeSource;
+import groovy.lang.Script;
+import groovy.transform.CompileStatic;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.control.customizers.ASTTransformationCustomizer;
+import org.codehaus.groovy.runtime.InvokerHelper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compiles and runs the Groovy used by campaigns: script files under {@code scripts/campaign} and
+ * snippets such as status card conditions, ability card effects and chapter criteria.
+ *
+ * <p>Compiled classes are kept in a bounded LRU keyed by source, so a snippet is compiled once no
+ * matter how often it runs. Every class gets its own class loader, which lets the JVM unload it
+ * (and free its Metaspace) once it is evicted. Script files are compiled with {@link
+ * CompileStatic} when they type-check and dynamically otherwise; snippets read their variables
+ * from the binding, which static compilation cannot resolve, so they are always dynamic.
+ */
+@Component
+@Slf4j
+public class CampaignScriptEngine {
+
+  static final String SCRIPT_ROOT = "scripts/campaign/";
+
+  /** A compiled script class and how it was compiled. */
+  record CompiledScript(Class<? extends Script> type, boolean staticallyCompiled) {}
+
+  private final Cache<String, CompiledScript> compiled;
+  private final Optional<PerformanceMonitoringService> metrics;
+  private final boolean precompileOnStartup;
+  private final ClassLoader parent = CampaignScriptEngine.class.getClassLoader();
+
+  @Autowired
+  public CampaignScriptEngine(
+      @Value("${atw.campaign.scripts.cache-size:512}") final int maxScripts,
+      @Value("${atw.campaign.scripts.precompile:true}") final boolean precompileOnStartup,
+      @NonNull final Optional<PerformanceMonitoringService> metrics) {
+    this.compiled = Caffeine.newBuilder().maximumSize(Math.max(1, maxScripts)).build();
+    this.precompileOnStartup = precompileOnStartup;
+    this.metrics = metrics;
+  }
+
+  /** An engine without metrics that compiles on first use, for code created outside Spring. */
+  public CampaignScriptEngine() {
+    this(512, false, Optional.empty());
+  }
+
+  /**
+   * Runs a snippet, compiling it on first use.
+   *
+   * @param source The Groovy snippet
+   * @param variables Variables bound for the run
+   * @return What the snippet evaluated to
+   */
+  public Object evaluate(
+      @NonNull final String source, @NonNull final Map<String, Object> variables) {
+    return run(compiled.get("snippet:" + source, key -> compile(source, key, false)), variables);
+  }
+
+  /**
+   * Runs a script file from {@code scripts/campaign}, compiling it on first use.
+   *
+   * @param scriptPath Path relative to {@code scripts/campaign}
+   * @param variables Variables bound for the run
+   * @return What the script evaluated to
+   * @throws IOException If the script does not exist or cannot be read
+   */
+  public Object runScript(
+      @NonNull final String scriptPath, @NonNull final Map<String, Object> variables)
+      throws IOException {
+    CompiledScript script = compiled.getIfPresent("file:" + scriptPath);
+    if (script == null) {
+      String source = read(new ClassPathResource(SCRIPT_ROOT + scriptPath, parent));
+      script = compiled.get("file:" + scriptPath, key -> compile(source, key, true));
+    }
+    return run(script, variables);
+  }
+
+  /** Compiles a snippet ahead of its first run. Snippets that do not compile are logged. */
+  public void precompile(final String source) {
+    if (source == null || source.isBlank()) {
+      return;
+    }
+    try {
+      compiled.get("snippet:" + source, key -> compile(source, key, false));
+    } catch (CompilationFailedException e) {
+      log.warn("Campaign snippet does not compile: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Compiles every script file under {@code scripts/campaign}.
+   *
+   * @return How many scripts compiled
+   */
+  public int precompileScripts() {
+    int count = 0;
+    try {
+      Resource[] resources =
+          new PathMatchingResourcePatternResolver(parent)
+              .getResources("classpath*:" + SCRIPT_ROOT + "**/*.groovy");
+      for (Resource resource : resources) {
+        String path = scriptPath(resource);
+        if (path == null) {
+          continue;
+        }
+        try {
+          String source = read(resource);
+          compiled.get("file:" + path, key -> compile(source, key, true));
+          count++;
+        } catch (IOException | CompilationFailedException e) {
+          log.warn("Campaign script {} does not compile: {}", path, e.getMessage());
+        }
+      }
+    } catch (IOException e) {
+      log.warn("Could not list campaign scripts: {}", e.getMessage());
+    }
+    return count;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Async
+  public void precompileOnStartup() {
+    if (precompileOnStartup) {
+      log.info("Precompiled {} campaign scripts", precompileScripts());
+    }
+  }
+
+  /** Whether scripts and known snippets are compiled when the application starts. */
+  public boolean isPrecompileOnStartup() {
+    return precompileOnStartup;
+  }
+
+  /** Compiled classes currently cached. */
+  public long getCompiledCount() {
+    compiled.cleanUp();
+    return compiled.estimatedSize();
+  }
+
+  /** Drops every compiled class, e.g. after scripts were edited. */
+  public void clear() {
+    compiled.invalidateAll();
+  }
+
+  Optional<CompiledScript> getCompiled(final String key) {
+    return Optional.ofNullable(compiled.getIfPresent(key));
+  }
+
+  private Object run(final CompiledScript script, final Map<String, Object> variables) {
+    long start = System.nanoTime();
+    try {
+      return InvokerHelper.createScript(script.type(), new Binding(variables)).run();
+    } finally {
+      metrics.ifPresent(
+          m -> m.recordLatency("campaign.script.execute", System.nanoTime() - start));
+    }
+  }
+
+  private CompiledScript compile(final String source, final String key, final boolean tryStatic) {
+    long start = System.nanoTime();
+    CompiledScript script = null;
+    if (tryStatic) {
+      try {
+        script = new CompiledScript(parse(source, key, true), true);
+      } catch (CompilationFailedException e) {
+        log.debug("{} does not type-check, compiling it dynamically: {}", key, e.getMessage());
+      }
+    }
+    if (script == null) {
+      script = new CompiledScript(parse(source, key, false), false);
+    }
+    long elapsed = System.nanoTime() - start;
+    boolean isStatic = script.staticallyCompiled();
+    metrics.ifPresent(
+        m -> {
+          m.recordLatency("campaign.script.compile", elapsed);
+          m.incrementCounter(
+              isStatic ? "campaign.script.compiled.static" : "campaign.script.compiled.dynamic");
+        });
+    log.debug(
+        "Compiled {} ({}) in {}ms", key, isStatic ? "static" : "dynamic", elapsed / 1_000_000);
+    return script;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Class<? extends Script> parse(
+      final String source, final String key, final boolean compileStatic) {
+    CompilerConfiguration configuration = new CompilerConfiguration();
+    if (compileStatic) {
+      configuration.addCompilationCustomizers(new ASTTransformationCustomizer(CompileStatic.class));
+    }
+    // One loader per class so that evicting the class lets it be unloaded.
+    GroovyClassLoader loader = new GroovyClassLoader(parent, configuration);
+    String name = "CampaignScript" + Integer.toHexString(key.hashCode() & 0x7fffffff) + ".groovy";
+    return (Class<? extends Script>)
+        loader.parseClass(new GroovyCodeSource(source, name, "/groovy/campaign"), false);
+  }
+
+  private static String read(final Resource resource) throws IOException {
+    if (!resource.exists()) {
+      throw new IOException("Script not found: " + resource.getDescription());
+    }
+    try (InputStream in = resource.getInputStream()) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  private static String scriptPath(final Resource resource) throws IOException {
+    String url = resource.getURL().toString();
+    int root = url.lastIndexOf(SCRIPT_ROOT);
+    return root < 0 ? null : url.substring(root + SCRIPT_ROOT.length());
+  }
+}
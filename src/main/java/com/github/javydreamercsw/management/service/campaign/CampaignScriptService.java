@@ -18,22 +18,16 @@ package com.github.javydreamercsw.management.service.campaign;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.javydreamercsw.management.domain.campaign.Campaign;
+import com.github.javydreamercsw.management.domain.campaign.CampaignAbilityCard;
 import com.github.javydreamercsw.management.domain.campaign.CampaignStateRepository;
-import groovy.lang.Binding;
-import groovy.lang.GroovyShell;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.Reader;
-import java.nio.charset.StandardCharsets;
+import com.github.javydreamercsw.management.domain.campaign.StatusCard;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.codehaus.groovy.control.CompilerConfiguration;
-import org.codehaus.groovy.runtime.InvokerHelper;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.core.io.Resource;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -43,12 +37,9 @@ public class CampaignScriptService {
 
   private final CampaignStateRepository campaignStateRepository;
   private final ObjectMapper objectMapper;
-
-  // Compiled script classes cached by snippet text to avoid per-call classloader creation.
-  private final Map<String, Class<?>> compiledSnippetCache = new ConcurrentHashMap<>();
-  private final groovy.lang.GroovyClassLoader groovyClassLoader =
-      new groovy.lang.GroovyClassLoader(
-          Thread.currentThread().getContextClassLoader(), new CompilerConfiguration());
+  private final CampaignScriptEngine scriptEngine;
+  private final StatusCardService statusCardService;
+  private final CampaignAbilityCardService abilityCardService;
 
   /**
    * Executes an effect script (e.g. from an ability card) within the context of a campaign.
@@ -68,14 +59,40 @@ public class CampaignScriptService {
 
     // Using Groovy's 'with' to allow calling methods on the context directly
     // e.g. "spendStamina(1)" instead of "ctx.spendStamina(1)"
-    evaluateSnippet("ctx.with { " + script + " }", variables);
+    evaluateSnippet(effectSnippet(script), variables);
+  }
+
+  /** Compiles an effect script ahead of its first {@link #executeEffect}. */
+  public void precompileEffect(final String script) {
+    if (script != null && !script.isBlank()) {
+      scriptEngine.precompile(effectSnippet(script));
+    }
+  }
+
+  /** Compiles status card conditions and ability card effects once the application is up. */
+  @EventListener(ApplicationReadyEvent.class)
+  @Async
+  public void precompileSnippets() {
+    if (!scriptEngine.isPrecompileOnStartup()) {
+      return;
+    }
+    for (StatusCard card : statusCardService.findAll()) {
+      scriptEngine.precompile(card.getFlipUpCondition());
+      scriptEngine.precompile(card.getFlipDownCondition());
+      scriptEngine.precompile(card.getDiscardCondition());
+    }
+    for (CampaignAbilityCard card : abilityCardService.findAll()) {
+      precompileEffect(card.getEffectScript());
+      precompileEffect(card.getSecondaryEffectScript());
+    }
+    log.info(
+        "Precompiled campaign snippets; {} compiled classes cached",
+        scriptEngine.getCompiledCount());
   }
 
   public Object executeScript(final String scriptPath, final Map<String, Object> variables) {
     try {
-      Binding binding = new Binding(variables);
-      groovy.lang.Script script = getScript(scriptPath, binding);
-      return script.run();
+      return scriptEngine.runScript(scriptPath, variables);
     } catch (Exception e) {
       log.error("Error executing campaign script: {}", scriptPath, e);
       throw new RuntimeException("Failed to execute campaign script: " + scriptPath, e);
@@ -94,29 +111,14 @@ public class CampaignScriptService {
       return null;
     }
     try {
-      Class<?> scriptClass =
-          compiledSnippetCache.computeIfAbsent(snippet, s -> groovyClassLoader.parseClass(s));
-      Binding binding = new Binding(variables);
-      groovy.lang.Script script = InvokerHelper.createScript(scriptClass, binding);
-      return script.run();
+      return scriptEngine.evaluate(snippet, variables);
     } catch (Exception e) {
       log.error("Error evaluating Groovy snippet: {}", snippet, e);
       throw new RuntimeException("Failed to evaluate Groovy snippet", e);
     }
   }
 
-  private groovy.lang.Script getScript(final String scriptPath, final Binding binding)
-      throws IOException {
-    // Use the class's own ClassLoader — ForkJoinPool threads have a null context ClassLoader.
-    Resource resource =
-        new ClassPathResource("scripts/campaign/" + scriptPath, CampaignScriptService.class);
-    if (!resource.exists()) {
-      throw new IOException("Script not found: " + scriptPath);
-    }
-
-    try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
-      GroovyShell shell = new GroovyShell(groovyClassLoader, binding);
-      return shell.parse(reader);
-    }
+  private static String effectSnippet(final String script) {
+    return "ctx.with { " + script + " }";
   }
 }
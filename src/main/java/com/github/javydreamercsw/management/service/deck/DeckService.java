@@ -24,6 +24,7 @@ import java.time.Clock;
 import java.util.List;
 import lombok.NonNull;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
@@ -70,6 +71,12 @@ public class DeckService {
     return deckRepository.findAll(pageable).getContent();
   }
 
+  /** One page of decks with their wrestler already loaded. */
+  @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_SYSTEM')")
+  public Slice<Deck> findPage(@NonNull final Pageable pageable) {
+    return deckRepository.findAllWithWrestler(pageable);
+  }
+
   @PreAuthorize(
       """
       hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_BOOKER') or\
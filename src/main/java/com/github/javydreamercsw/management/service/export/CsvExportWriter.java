@@ -16,8 +16,10 @@
 */
 package com.github.javydreamercsw.management.service.export;
 
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
@@ -36,35 +38,54 @@ public class CsvExportWriter {
   private static final DateTimeFormatter DATE_FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
   public byte[] write(ExportPayload payload, String universeName) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    write(out, universeName, payload);
+    return out.toByteArray();
+  }
+
+  /**
+   * Streams one CSV entry per category into a ZIP written to {@code out}. Rows are written as the
+   * source produces them, so only the current row is held in memory. Closes {@code out}.
+   */
+  public void write(OutputStream out, String universeName, ExportRowSink.Source source)
+      throws IOException {
     String dateSuffix = DATE_FMT.format(LocalDate.now());
     String safeName = universeName.replaceAll("[^a-zA-Z0-9_-]", "_");
 
-    ByteArrayOutputStream out = new ByteArrayOutputStream();
     try (ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8)) {
-      for (Map.Entry<ExportCategory, List<Map<String, Object>>> entry : payload.data().entrySet()) {
-        String entryName =
-            safeName + "-" + entry.getKey().name().toLowerCase() + "-" + dateSuffix + ".csv";
-        zip.putNextEntry(new ZipEntry(entryName));
-        writeCsv(zip, entry.getValue());
-        zip.closeEntry();
-      }
+      source.writeTo(new CsvSink(zip, safeName, dateSuffix));
     }
-    return out.toByteArray();
   }
 
-  private void writeCsv(ZipOutputStream zip, List<Map<String, Object>> rows) throws IOException {
-    Writer writer = new OutputStreamWriter(zip, StandardCharsets.UTF_8);
+  private final class CsvSink implements ExportRowSink {
+    private final ZipOutputStream zip;
+    private final Writer writer;
+    private final String safeName;
+    private final String dateSuffix;
+    private List<String> headers;
 
-    if (rows.isEmpty()) {
-      writer.flush();
-      return;
+    private CsvSink(ZipOutputStream zip, String safeName, String dateSuffix) {
+      this.zip = zip;
+      this.writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8));
+      this.safeName = safeName;
+      this.dateSuffix = dateSuffix;
     }
 
-    List<String> headers = new ArrayList<>(rows.get(0).keySet());
-    writer.write(toCsvLine(headers));
+    @Override
+    public void startCategory(ExportCategory category) throws IOException {
+      String entryName = safeName + "-" + category.name().toLowerCase() + "-" + dateSuffix + ".csv";
+      zip.putNextEntry(new ZipEntry(entryName));
+      headers = null;
+    }
 
-    for (Map<String, Object> row : rows) {
-      List<String> values = new ArrayList<>();
+    // Headers come from the first row; a category without rows yields an empty entry.
+    @Override
+    public void row(Map<String, Object> row) throws IOException {
+      if (headers == null) {
+        headers = new ArrayList<>(row.keySet());
+        writer.write(toCsvLine(headers));
+      }
+      List<String> values = new ArrayList<>(headers.size());
       for (String header : headers) {
         Object val = row.get(header);
         values.add(val != null ? val.toString() : "");
@@ -72,7 +93,11 @@ public class CsvExportWriter {
       writer.write(toCsvLine(values));
     }
 
-    writer.flush();
+    @Override
+    public void endCategory(ExportCategory category) throws IOException {
+      writer.flush();
+      zip.closeEntry();
+    }
   }
 
   private String toCsvLine(List<String> fields) {
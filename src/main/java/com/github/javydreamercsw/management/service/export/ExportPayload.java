@@ -16,7 +16,21 @@
 */
 package com.github.javydreamercsw.management.service.export;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
-public record ExportPayload(Map<ExportCategory, List<Map<String, Object>>> data) {}
+public record ExportPayload(Map<ExportCategory, List<Map<String, Object>>> data)
+    implements ExportRowSink.Source {
+
+  @Override
+  public void writeTo(final ExportRowSink sink) throws IOException {
+    for (Map.Entry<ExportCategory, List<Map<String, Object>>> entry : data.entrySet()) {
+      sink.startCategory(entry.getKey());
+      for (Map<String, Object> row : entry.getValue()) {
+        sink.row(row);
+      }
+      sink.endCategory(entry.getKey());
+    }
+  }
+}
@@ -0,0 +1,39 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.export;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Receives export rows as they are read, one category at a time, so writers can stream them to
+ * their output instead of holding the whole export in memory.
+ */
+public interface ExportRowSink {
+
+  void startCategory(ExportCategory category) throws IOException;
+
+  void row(Map<String, Object> row) throws IOException;
+
+  void endCategory(ExportCategory category) throws IOException;
+
+  /** Produces the rows of an export into a sink. */
+  @FunctionalInterface
+  interface Source {
+    void writeTo(ExportRowSink sink) throws IOException;
+  }
+}
@@ -17,6 +17,7 @@
 package com.github.javydreamercsw.management.service.export;
 
 import com.github.javydreamercsw.base.config.StorageProperties;
+import com.github.javydreamercsw.base.image.ImageIndex;
 import com.github.javydreamercsw.management.domain.faction.FactionRepository;
 import com.github.javydreamercsw.management.domain.npc.NpcRepository;
 import com.github.javydreamercsw.management.domain.show.template.ShowTemplateRepository;
@@ -27,13 +28,15 @@ import com.github.javydreamercsw.management.domain.world.LocationRepository;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerRepository;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 import lombok.RequiredArgsConstructor;
@@ -53,8 +56,11 @@ import org.springframework.transaction.annotation.Transactional;
  *       entity {@code imageUrl} fields in the database.
  *   <li><b>Default/profile images</b> ({@code images/defaults/}) — name-based profile images stored
  *       under category sub-directories (e.g. {@code images/defaults/wrestlers/John.png}). These are
- *       never stored in any DB column and must be discovered by filesystem walk.
+ *       never stored in any DB column and are listed from the {@link ImageIndex}.
  * </ol>
+ *
+ * <p>Which files exist is answered by the {@link ImageIndex} rather than by probing the disk per
+ * image; a file that vanished since the index last saw it is skipped when it fails to open.
  */
 @Service
 @Slf4j
@@ -65,6 +71,7 @@ public class ImageExportService {
   static final String DEFAULTS_PREFIX = "images/defaults/";
 
   private final StorageProperties storageProperties;
+  private final ImageIndex imageIndex;
   private final WrestlerRepository wrestlerRepository;
   private final FactionRepository factionRepository;
   private final TitleRepository titleRepository;
@@ -84,33 +91,30 @@ public class ImageExportService {
   @PreAuthorize("hasAuthority('ROLE_ADMIN')")
   @Transactional(readOnly = true)
   public int countImages() {
-    int generated = collectImageUrls().size();
-    int defaults = 0;
-    Path defaultsDir = storageProperties.getResolvedDefaultImageDir();
-    if (Files.exists(defaultsDir)) {
-      try (Stream<Path> files = Files.walk(defaultsDir)) {
-        defaults = (int) files.filter(Files::isRegularFile).count();
-      } catch (IOException e) {
-        log.warn("Failed to count default images: {}", e.getMessage());
-      }
-    }
-    return generated + defaults;
+    return collectImageUrls().size() + imageIndex.getDefaultImages().size();
   }
 
   @PreAuthorize("hasAuthority('ROLE_ADMIN')")
   @Transactional(readOnly = true)
   public byte[] exportImages() throws IOException {
     ByteArrayOutputStream out = new ByteArrayOutputStream();
+    exportImages(out);
+    return out.toByteArray();
+  }
+
+  /**
+   * Streams the image ZIP to {@code out}, copying each file from disk straight into its entry so no
+   * image is ever held in memory as a whole. Closes {@code out}.
+   */
+  @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+  @Transactional(readOnly = true)
+  public void exportImages(final OutputStream out) throws IOException {
     try (ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8)) {
       int generated = exportGeneratedImages(zip);
       int defaults = exportDefaultImages(zip);
       log.info(
-          "Image export complete: {} generated, {} default/profile images, {} bytes",
-          generated,
-          defaults,
-          out.size());
+          "Image export complete: {} generated, {} default/profile images", generated, defaults);
     }
-    return out.toByteArray();
   }
 
   private int exportGeneratedImages(final ZipOutputStream zip) throws IOException {
@@ -118,34 +122,20 @@ public class ImageExportService {
     Path imageDir = storageProperties.getResolvedImageDir();
     int count = 0;
     for (String url : urls) {
-      String filename = url.substring(GENERATED_PREFIX.length());
-      Path file = imageDir.resolve(filename);
-      if (!Files.exists(file)) {
-        log.warn("Referenced generated image not found on disk, skipping: {}", file);
-        continue;
+      if (addEntry(zip, url, imageDir.resolve(url.substring(GENERATED_PREFIX.length())))) {
+        log.debug("Added generated image: {}", url);
+        count++;
       }
-      zip.putNextEntry(new ZipEntry(url));
-      Files.copy(file, zip);
-      zip.closeEntry();
-      log.debug("Added generated image: {}", url);
-      count++;
     }
     return count;
   }
 
   private int exportDefaultImages(final ZipOutputStream zip) throws IOException {
     Path defaultsDir = storageProperties.getResolvedDefaultImageDir();
-    if (!Files.exists(defaultsDir)) {
-      return 0;
-    }
     int count = 0;
-    try (Stream<Path> files = Files.walk(defaultsDir)) {
-      for (Path file : files.filter(Files::isRegularFile).toList()) {
-        String relativePath = defaultsDir.relativize(file).toString().replace('\\', '/');
-        String entryName = DEFAULTS_PREFIX + relativePath;
-        zip.putNextEntry(new ZipEntry(entryName));
-        Files.copy(file, zip);
-        zip.closeEntry();
+    for (String relativePath : imageIndex.getDefaultImages()) {
+      String entryName = DEFAULTS_PREFIX + relativePath;
+      if (addEntry(zip, entryName, defaultsDir.resolve(relativePath))) {
         log.debug("Added default image: {}", entryName);
         count++;
       }
@@ -153,6 +143,25 @@ public class ImageExportService {
     return count;
   }
 
+  /** Copies {@code file} into a new entry; returns false if the file is gone. */
+  private boolean addEntry(final ZipOutputStream zip, final String entryName, final Path file)
+      throws IOException {
+    InputStream in;
+    try {
+      in = Files.newInputStream(file);
+    } catch (NoSuchFileException e) {
+      log.warn("Indexed image not found on disk, skipping: {}", file);
+      return false;
+    }
+    try (in) {
+      zip.putNextEntry(new ZipEntry(entryName));
+      in.transferTo(zip);
+      zip.closeEntry();
+    }
+    return true;
+  }
+
+  /** Generated image URLs referenced by any entity whose file the index knows about. */
   private Set<String> collectImageUrls() {
     Set<String> urls = new LinkedHashSet<>();
     addUrls(urls, wrestlerRepository.findAll().stream().map(e -> e.getImageUrl()).toList());
@@ -163,6 +172,14 @@ public class ImageExportService {
     addUrls(urls, showTemplateRepository.findAll().stream().map(e -> e.getImageUrl()).toList());
     addUrls(urls, arenaRepository.findAll().stream().map(e -> e.getImageUrl()).toList());
     addUrls(urls, locationRepository.findAll().stream().map(e -> e.getImageUrl()).toList());
+    urls.removeIf(
+        url -> {
+          boolean missing = !imageIndex.hasGeneratedImage(url.substring(GENERATED_PREFIX.length()));
+          if (missing) {
+            log.warn("Referenced generated image not found on disk, skipping: {}", url);
+          }
+          return missing;
+        });
     return urls;
   }
 
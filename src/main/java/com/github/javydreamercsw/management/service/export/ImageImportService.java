@@ -17,6 +17,7 @@
 package com.github.javydreamercsw.management.service.export;
 
 import com.github.javydreamercsw.base.config.StorageProperties;
+import com.github.javydreamercsw.base.image.ImageIndex;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
@@ -53,6 +54,7 @@ public class ImageImportService {
   static final String DEFAULTS_PREFIX = "images/defaults/";
 
   private final StorageProperties storageProperties;
+  private final ImageIndex imageIndex;
 
   /**
    * Extracts the ZIP entries from {@code inputStream} into the appropriate storage directories.
@@ -82,6 +84,7 @@ public class ImageImportService {
         try {
           Files.createDirectories(target.getParent());
           Files.copy(zip, target, StandardCopyOption.REPLACE_EXISTING);
+          imageIndex.add(target);
           log.debug("Restored image: {}", target);
           written++;
         } catch (IOException e) {
@@ -16,13 +16,14 @@
 */
 package com.github.javydreamercsw.management.service.export;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Instant;
-import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -34,22 +35,50 @@ public class JsonExportWriter {
   private final ObjectMapper objectMapper;
 
   public byte[] write(ExportPayload payload, String universeName) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    write(out, universeName, payload);
+    return out.toByteArray();
+  }
+
+  /**
+   * Streams the export as a single JSON document to {@code out}, writing each row as the source
+   * produces it rather than building the document tree first. Closes {@code out}.
+   */
+  public void write(OutputStream out, String universeName, ExportRowSink.Source source)
+      throws IOException {
     ObjectMapper mapper =
         objectMapper
             .copy()
             .registerModule(new JavaTimeModule())
             .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
-    Map<String, Object> root = new LinkedHashMap<>();
-    root.put("universe", universeName);
-    root.put("exportedAt", Instant.now().toString());
+    try (JsonGenerator generator = mapper.createGenerator(out)) {
+      // A failed export should not be closed into a document that looks complete.
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+      generator.useDefaultPrettyPrinter();
+      generator.writeStartObject();
+      generator.writeStringField("universe", universeName);
+      generator.writeStringField("exportedAt", Instant.now().toString());
+      generator.writeObjectFieldStart("categories");
+      source.writeTo(
+          new ExportRowSink() {
+            @Override
+            public void startCategory(ExportCategory category) throws IOException {
+              generator.writeArrayFieldStart(category.name());
+            }
 
-    Map<String, List<Map<String, Object>>> categories = new LinkedHashMap<>();
-    for (Map.Entry<ExportCategory, List<Map<String, Object>>> entry : payload.data().entrySet()) {
-      categories.put(entry.getKey().name(), entry.getValue());
-    }
-    root.put("categories", categories);
+            @Override
+            public void row(Map<String, Object> row) throws IOException {
+              generator.writeObject(row);
+            }
 
-    return mapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(root);
+            @Override
+            public void endCategory(ExportCategory category) throws IOException {
+              generator.writeEndArray();
+            }
+          });
+      generator.writeEndObject();
+      generator.writeEndObject();
+    }
   }
 }
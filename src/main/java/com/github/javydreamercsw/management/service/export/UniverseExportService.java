@@ -16,15 +16,26 @@
 */
 package com.github.javydreamercsw.management.service.export;
 
+import com.github.javydreamercsw.management.domain.campaign.WrestlerAlignment;
 import com.github.javydreamercsw.management.domain.campaign.WrestlerAlignmentRepository;
+import com.github.javydreamercsw.management.domain.injury.Injury;
 import com.github.javydreamercsw.management.domain.injury.InjuryRepository;
+import com.github.javydreamercsw.management.domain.relationship.WrestlerRelationship;
 import com.github.javydreamercsw.management.domain.relationship.WrestlerRelationshipRepository;
+import com.github.javydreamercsw.management.domain.rivalry.Rivalry;
 import com.github.javydreamercsw.management.domain.rivalry.RivalryRepository;
+import com.github.javydreamercsw.management.domain.title.TitleReign;
 import com.github.javydreamercsw.management.domain.title.TitleReignRepository;
 import com.github.javydreamercsw.management.domain.universe.Universe;
+import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerState;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerStateRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -33,6 +44,10 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,6 +57,9 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class UniverseExportService {
 
+  /** Wrestler states (and rivalries) loaded per query while exporting. */
+  static final int PAGE_SIZE = 200;
+
   private final WrestlerStateRepository wrestlerStateRepository;
   private final InjuryRepository injuryRepository;
   private final RivalryRepository rivalryRepository;
@@ -49,69 +67,148 @@ public class UniverseExportService {
   private final WrestlerAlignmentRepository wrestlerAlignmentRepository;
   private final WrestlerRelationshipRepository wrestlerRelationshipRepository;
 
+  @PersistenceContext private EntityManager entityManager;
+
+  @FunctionalInterface
+  private interface PageVisitor {
+    /** Receives the matching states of one page, in id order. */
+    void visit(List<WrestlerState> states) throws IOException;
+  }
+
+  /**
+   * Collects the whole export in memory. Prefer {@link #export} for anything that ends up in a
+   * download.
+   */
   public ExportPayload collect(
       Universe universe, Set<ExportCategory> categories, WrestlerFilter filter) {
     if (categories.isEmpty()) {
       return new ExportPayload(Map.of());
     }
 
-    List<WrestlerState> filtered =
-        applyFilter(wrestlerStateRepository.findByUniverseId(universe.getId()), filter);
-
     Map<ExportCategory, List<Map<String, Object>>> data = new LinkedHashMap<>();
-    for (ExportCategory category : categories) {
-      data.put(category, collectCategory(category, universe, filtered));
+    try {
+      export(
+          universe,
+          categories,
+          filter,
+          new ExportRowSink() {
+            private List<Map<String, Object>> rows;
+
+            @Override
+            public void startCategory(ExportCategory category) {
+              rows = new ArrayList<>();
+              data.put(category, rows);
+            }
+
+            @Override
+            public void row(Map<String, Object> row) {
+              rows.add(row);
+            }
+
+            @Override
+            public void endCategory(ExportCategory category) {}
+          });
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
     }
     return new ExportPayload(data);
   }
 
-  private List<WrestlerState> applyFilter(List<WrestlerState> states, WrestlerFilter filter) {
-    return switch (filter.scope()) {
-      case ALL -> states;
-      case ACTIVE_ONLY ->
-          states.stream().filter(s -> Boolean.TRUE.equals(s.getWrestler().getActive())).toList();
-      case MANUAL -> {
-        Set<Long> ids = filter.wrestlerIds();
-        yield states.stream().filter(s -> ids.contains(s.getWrestler().getId())).toList();
+  /**
+   * Streams the selected categories into {@code sink}, one category after the other. Wrestler
+   * states and rivalries are read a page at a time and the persistence context is cleared after
+   * each page, so memory use stays flat regardless of universe size. Per-wrestler data is loaded
+   * with one query per page, not per wrestler.
+   */
+  public void export(
+      Universe universe, Set<ExportCategory> categories, WrestlerFilter filter, ExportRowSink sink)
+      throws IOException {
+    for (ExportCategory category : categories) {
+      sink.startCategory(category);
+      writeCategory(category, universe, filter, sink);
+      sink.endCategory(category);
+    }
+  }
+
+  private void writeCategory(
+      ExportCategory category, Universe universe, WrestlerFilter filter, ExportRowSink sink)
+      throws IOException {
+    switch (category) {
+      case UNIVERSE_STATE ->
+          forEachPage(
+              universe,
+              filter,
+              states -> {
+                for (WrestlerState s : states) {
+                  sink.row(universeStateRow(s));
+                }
+              });
+      case INJURIES ->
+          forEachPage(universe, filter, states -> writeInjuries(universe, states, sink));
+      case RIVALRIES -> writeRivalries(universe, sink);
+      case TITLE_REIGNS -> {
+        Set<Long> seenReignIds = new HashSet<>();
+        forEachPage(universe, filter, states -> writeTitleReigns(states, seenReignIds, sink));
       }
-    };
+      case ALIGNMENTS ->
+          forEachPage(universe, filter, states -> writeAlignments(universe, states, sink));
+      case RELATIONSHIPS -> {
+        Set<Long> seenRelIds = new HashSet<>();
+        forEachPage(universe, filter, states -> writeRelationships(states, seenRelIds, sink));
+      }
+    }
   }
 
-  private List<Map<String, Object>> collectCategory(
-      ExportCategory category, Universe universe, List<WrestlerState> states) {
-    return switch (category) {
-      case UNIVERSE_STATE -> collectUniverseState(states);
-      case INJURIES -> collectInjuries(universe, states);
-      case RIVALRIES -> collectRivalries(universe, states);
-      case TITLE_REIGNS -> collectTitleReigns(states);
-      case ALIGNMENTS -> collectAlignments(universe, states);
-      case RELATIONSHIPS -> collectRelationships(states);
+  private void forEachPage(Universe universe, WrestlerFilter filter, PageVisitor visitor)
+      throws IOException {
+    Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("id"));
+    Slice<WrestlerState> page;
+    do {
+      page = wrestlerStateRepository.findByUniverseId(universe.getId(), pageable);
+      List<WrestlerState> states = page.stream().filter(s -> matches(s, filter)).toList();
+      if (!states.isEmpty()) {
+        visitor.visit(states);
+      }
+      // Rows for this page are already written; drop its entities before loading the next one.
+      entityManager.clear();
+      pageable = page.nextPageable();
+    } while (page.hasNext());
+  }
+
+  private static List<Long> wrestlerIds(List<WrestlerState> states) {
+    return states.stream().map(s -> s.getWrestler().getId()).toList();
+  }
+
+  private boolean matches(WrestlerState state, WrestlerFilter filter) {
+    return switch (filter.scope()) {
+      case ALL -> true;
+      case ACTIVE_ONLY -> Boolean.TRUE.equals(state.getWrestler().getActive());
+      case MANUAL -> filter.wrestlerIds().contains(state.getWrestler().getId());
     };
   }
 
-  private List<Map<String, Object>> collectUniverseState(List<WrestlerState> states) {
-    return states.stream()
-        .map(
-            s -> {
-              Map<String, Object> row = new LinkedHashMap<>();
-              row.put("wrestler", s.getWrestler().getName());
-              row.put("tier", s.getTier() != null ? s.getTier().name() : "");
-              row.put("fans", s.getFans());
-              row.put("bumps", s.getBumps());
-              row.put("morale", s.getMorale());
-              row.put("currentHealth", s.getCurrentHealth());
-              row.put("managementStamina", s.getManagementStamina());
-              row.put("physicalCondition", s.getPhysicalCondition());
-              row.put("faction", s.getFaction() != null ? s.getFaction().getName() : "");
-              return row;
-            })
-        .toList();
+  private Map<String, Object> universeStateRow(WrestlerState s) {
+    Map<String, Object> row = new LinkedHashMap<>();
+    row.put("wrestler", s.getWrestler().getName());
+    row.put("tier", s.getTier() != null ? s.getTier().name() : "");
+    row.put("fans", s.getFans());
+    row.put("bumps", s.getBumps());
+    row.put("morale", s.getMorale());
+    row.put("currentHealth", s.getCurrentHealth());
+    row.put("managementStamina", s.getManagementStamina());
+    row.put("physicalCondition", s.getPhysicalCondition());
+    row.put("faction", s.getFaction() != null ? s.getFaction().getName() : "");
+    return row;
   }
 
-  private List<Map<String, Object>> collectInjuries(Universe universe, List<WrestlerState> states) {
-    List<Map<String, Object>> rows = new ArrayList<>();
+  private void writeInjuries(Universe universe, List<WrestlerState> states, ExportRowSink sink)
+      throws IOException {
+    Map<Long, List<Injury>> byWrestler =
+        injuryRepository.findByWrestlerIdsAndUniverseId(wrestlerIds(states), universe.getId())
+            .stream()
+            .collect(Collectors.groupingBy(i -> i.getWrestler().getId()));
     for (WrestlerState state : states) {
-      for (var injury : injuryRepository.findByWrestlerAndUniverse(state.getWrestler(), universe)) {
+      for (Injury injury : byWrestler.getOrDefault(state.getWrestler().getId(), List.of())) {
         Map<String, Object> row = new LinkedHashMap<>();
         row.put("wrestler", state.getWrestler().getName());
         row.put("name", injury.getName());
@@ -122,35 +219,52 @@ public class UniverseExportService {
         row.put("isActive", injury.getIsActive());
         row.put("injuryDate", injury.getInjuryDate());
         row.put("healedDate", injury.getHealedDate() != null ? injury.getHealedDate() : "");
-        rows.add(row);
+        sink.row(row);
       }
     }
-    return rows;
   }
 
-  private List<Map<String, Object>> collectRivalries(
-      Universe universe, List<WrestlerState> states) {
-    List<Map<String, Object>> rows = new ArrayList<>();
-    for (var r : rivalryRepository.findByUniverseWithWrestlers(universe)) {
-      Map<String, Object> row = new LinkedHashMap<>();
-      row.put("wrestler1", r.getWrestler1().getName());
-      row.put("wrestler2", r.getWrestler2().getName());
-      row.put("heat", r.getHeat());
-      row.put("heatEvents", r.getHeatEvents().size());
-      row.put("isActive", r.getIsActive());
-      row.put("startedDate", r.getStartedDate());
-      row.put("endedDate", r.getEndedDate() != null ? r.getEndedDate() : "");
-      row.put("storylineNotes", r.getStorylineNotes() != null ? r.getStorylineNotes() : "");
-      rows.add(row);
-    }
-    return rows;
+  private void writeRivalries(Universe universe, ExportRowSink sink) throws IOException {
+    Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+    Slice<Rivalry> page;
+    do {
+      page = rivalryRepository.findByUniverseWithWrestlers(universe, pageable);
+      Map<Long, Long> heatEventCounts = new HashMap<>();
+      if (page.hasContent()) {
+        for (Object[] count :
+            rivalryRepository.countHeatEventsByRivalry(
+                page.stream().map(Rivalry::getId).toList())) {
+          heatEventCounts.put((Long) count[0], ((Number) count[1]).longValue());
+        }
+      }
+      for (Rivalry r : page) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("wrestler1", r.getWrestler1().getName());
+        row.put("wrestler2", r.getWrestler2().getName());
+        row.put("heat", r.getHeat());
+        row.put("heatEvents", heatEventCounts.getOrDefault(r.getId(), 0L).intValue());
+        row.put("isActive", r.getIsActive());
+        row.put("startedDate", r.getStartedDate());
+        row.put("endedDate", r.getEndedDate() != null ? r.getEndedDate() : "");
+        row.put("storylineNotes", r.getStorylineNotes() != null ? r.getStorylineNotes() : "");
+        sink.row(row);
+      }
+      entityManager.clear();
+      pageable = page.nextPageable();
+    } while (page.hasNext());
   }
 
-  private List<Map<String, Object>> collectTitleReigns(List<WrestlerState> states) {
-    Set<Long> seenReignIds = new HashSet<>();
-    List<Map<String, Object>> rows = new ArrayList<>();
+  private void writeTitleReigns(
+      List<WrestlerState> states, Set<Long> seenReignIds, ExportRowSink sink) throws IOException {
+    Map<Long, List<TitleReign>> byChampion = new HashMap<>();
+    for (TitleReign reign :
+        titleReignRepository.findByChampionIdsWithChampions(wrestlerIds(states))) {
+      for (Wrestler champion : reign.getChampions()) {
+        byChampion.computeIfAbsent(champion.getId(), id -> new ArrayList<>()).add(reign);
+      }
+    }
     for (WrestlerState state : states) {
-      for (var reign : titleReignRepository.findByChampionsContaining(state.getWrestler())) {
+      for (TitleReign reign : byChampion.getOrDefault(state.getWrestler().getId(), List.of())) {
         if (seenReignIds.add(reign.getId())) {
           String champions =
               reign.getChampions().stream().map(w -> w.getName()).collect(Collectors.joining(", "));
@@ -160,36 +274,43 @@ public class UniverseExportService {
           row.put("reignNumber", reign.getReignNumber());
           row.put("startDate", reign.getStartDate());
           row.put("endDate", reign.getEndDate() != null ? reign.getEndDate() : "");
-          rows.add(row);
+          sink.row(row);
         }
       }
     }
-    return rows;
   }
 
-  private List<Map<String, Object>> collectAlignments(
-      Universe universe, List<WrestlerState> states) {
-    List<Map<String, Object>> rows = new ArrayList<>();
+  private void writeAlignments(Universe universe, List<WrestlerState> states, ExportRowSink sink)
+      throws IOException {
+    Map<Long, WrestlerAlignment> byWrestler = new HashMap<>();
+    for (WrestlerAlignment alignment :
+        wrestlerAlignmentRepository.findByWrestlerIdsAndUniverseId(
+            wrestlerIds(states), universe.getId())) {
+      byWrestler.putIfAbsent(alignment.getWrestler().getId(), alignment);
+    }
     for (WrestlerState state : states) {
-      wrestlerAlignmentRepository
-          .findByWrestlerAndUniverseId(state.getWrestler(), universe.getId())
-          .ifPresent(
-              a -> {
-                Map<String, Object> row = new LinkedHashMap<>();
-                row.put("wrestler", state.getWrestler().getName());
-                row.put("alignmentType", a.getAlignmentType().name());
-                row.put("level", a.getLevel());
-                rows.add(row);
-              });
+      WrestlerAlignment alignment = byWrestler.get(state.getWrestler().getId());
+      if (alignment != null) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("wrestler", state.getWrestler().getName());
+        row.put("alignmentType", alignment.getAlignmentType().name());
+        row.put("level", alignment.getLevel());
+        sink.row(row);
+      }
     }
-    return rows;
   }
 
-  private List<Map<String, Object>> collectRelationships(List<WrestlerState> states) {
-    Set<Long> seenRelIds = new HashSet<>();
-    List<Map<String, Object>> rows = new ArrayList<>();
+  private void writeRelationships(
+      List<WrestlerState> states, Set<Long> seenRelIds, ExportRowSink sink) throws IOException {
+    Map<Long, List<WrestlerRelationship>> byWrestler = new HashMap<>();
+    for (WrestlerRelationship rel :
+        wrestlerRelationshipRepository.findAllByWrestlerIds(wrestlerIds(states))) {
+      byWrestler.computeIfAbsent(rel.getWrestler1().getId(), id -> new ArrayList<>()).add(rel);
+      byWrestler.computeIfAbsent(rel.getWrestler2().getId(), id -> new ArrayList<>()).add(rel);
+    }
     for (WrestlerState state : states) {
-      for (var rel : wrestlerRelationshipRepository.findAllByWrestler(state.getWrestler())) {
+      for (WrestlerRelationship rel :
+          byWrestler.getOrDefault(state.getWrestler().getId(), List.of())) {
         if (seenRelIds.add(rel.getId())) {
           Map<String, Object> row = new LinkedHashMap<>();
           row.put("wrestler1", rel.getWrestler1().getName());
@@ -198,10 +319,9 @@ public class UniverseExportService {
           row.put("level", rel.getLevel());
           row.put("isStoryline", rel.getIsStoryline());
           row.put("startedDate", rel.getStartedDate());
-          rows.add(row);
+          sink.row(row);
         }
       }
     }
-    return rows;
   }
 }
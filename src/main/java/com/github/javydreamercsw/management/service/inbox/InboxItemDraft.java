@@ -0,0 +1,94 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.inbox;
+
+import com.github.javydreamercsw.management.domain.inbox.InboxEventType;
+import com.github.javydreamercsw.management.domain.inbox.InboxItem;
+import com.github.javydreamercsw.management.domain.inbox.InboxItemTarget;
+import com.github.javydreamercsw.management.service.inbox.InboxService.TargetInfo;
+import java.time.Instant;
+import java.util.List;
+import lombok.NonNull;
+
+/**
+ * Everything needed to write one {@link InboxItem} and its targets, captured when the item is
+ * raised and persisted later by the {@link InboxJournal}.
+ *
+ * @param eventTimestamp When the item was raised; filled in by the journal when {@code null}
+ */
+public record InboxItemDraft(
+    @NonNull InboxEventType eventType,
+    String subject,
+    @NonNull String message,
+    @NonNull InboxItem.Urgency urgency,
+    @NonNull List<TargetInfo> targets,
+    String actionType,
+    String actionPayload,
+    Instant eventTimestamp) {
+
+  public InboxItemDraft {
+    targets = List.copyOf(targets);
+  }
+
+  public static InboxItemDraft of(
+      @NonNull final InboxEventType eventType,
+      final String subject,
+      @NonNull final String message,
+      @NonNull final InboxItem.Urgency urgency,
+      @NonNull final List<TargetInfo> targets) {
+    return new InboxItemDraft(eventType, subject, message, urgency, targets, null, null, null);
+  }
+
+  public static InboxItemDraft of(
+      @NonNull final InboxEventType eventType,
+      final String subject,
+      @NonNull final String message,
+      @NonNull final InboxItem.Urgency urgency,
+      @NonNull final String referenceId,
+      @NonNull final InboxItemTarget.TargetType type) {
+    return of(eventType, subject, message, urgency, List.of(new TargetInfo(referenceId, type)));
+  }
+
+  public InboxItemDraft withAction(final String actionType, final String actionPayload) {
+    return new InboxItemDraft(
+        eventType, subject, message, urgency, targets, actionType, actionPayload, eventTimestamp);
+  }
+
+  /** Shortcut for the {@code NAVIGATE} action to {@code route}. */
+  public InboxItemDraft navigateTo(@NonNull final String route) {
+    return withAction("NAVIGATE", "{\"route\":\"" + route + "\"}");
+  }
+
+  public InboxItemDraft withEventTimestamp(final Instant eventTimestamp) {
+    return new InboxItemDraft(
+        eventType, subject, message, urgency, targets, actionType, actionPayload, eventTimestamp);
+  }
+
+  /** A new, unsaved entity for this draft. */
+  public InboxItem toInboxItem() {
+    InboxItem item = new InboxItem();
+    item.setEventType(eventType);
+    item.setSubject(subject);
+    item.setDescription(message);
+    item.setUrgency(urgency);
+    item.setActionType(actionType);
+    item.setActionPayload(actionPayload);
+    item.setEventTimestamp(eventTimestamp);
+    targets.forEach(t -> item.addTarget(t.targetId(), t.type()));
+    return item;
+  }
+}
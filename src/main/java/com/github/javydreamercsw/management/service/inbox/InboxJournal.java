@@ -0,0 +1,336 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.inbox;
+
+import com.github.javydreamercsw.management.domain.inbox.InboxRepository;
+import com.github.javydreamercsw.management.domain.inbox.InboxUnreadListener;
+import com.github.javydreamercsw.management.event.InboxUnreadChangedEvent;
+import com.github.javydreamercsw.management.event.inbox.InboxUpdateBroadcaster;
+import com.github.javydreamercsw.management.event.inbox.InboxUpdateEvent;
+import com.github.javydreamercsw.management.service.inbox.InboxService.TargetInfo;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Write-behind journal for inbox items raised by event listeners.
+ *
+ * <p>Drafts appended inside a transaction are held until it commits and dropped if it rolls back,
+ * so adjudication never waits on inbox I/O. Committed drafts go to a FIFO queue drained by a single
+ * writer thread, which inserts up to {@code atw.inbox.journal.max-batch} items and their targets
+ * with two JDBC batches in one transaction and then pushes one {@link InboxUpdateEvent} for the
+ * whole batch. A single writer keeps the order items were raised in, for every account. If a batch
+ * fails, its drafts are retried one by one through {@link InboxRepository}.
+ *
+ * <p>With {@code atw.inbox.journal.async=false} drafts are written on the committing thread
+ * instead, which keeps tests deterministic.
+ */
+@Component
+@Slf4j
+public class InboxJournal {
+
+  private static final String INSERT_ITEM =
+      """
+      INSERT INTO inbox_item (event_type, subject, description, event_timestamp, is_read, urgency,
+          action_type, action_payload)
+      VALUES (?, ?, ?, ?, FALSE, ?, ?, ?)
+      """;
+  private static final String INSERT_TARGET =
+      "INSERT INTO inbox_item_target (inbox_item_id, target_id, target_type) VALUES (?, ?, ?)";
+  private static final long POLL_MILLIS = 250;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final InboxRepository inboxRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final InboxUpdateBroadcaster inboxUpdateBroadcaster;
+  private final TransactionTemplate newTransaction;
+  private final int maxBatch;
+  private final boolean async;
+
+  private final BlockingQueue<InboxItemDraft> queue = new LinkedBlockingQueue<>();
+  private final Object idleMonitor = new Object();
+  private long unwritten;
+  private volatile boolean running;
+  private Thread writer;
+
+  public InboxJournal(
+      @NonNull final JdbcTemplate jdbcTemplate,
+      @NonNull final InboxRepository inboxRepository,
+      @NonNull final ApplicationEventPublisher eventPublisher,
+      @NonNull final InboxUpdateBroadcaster inboxUpdateBroadcaster,
+      @NonNull final PlatformTransactionManager transactionManager,
+      @Value("${atw.inbox.journal.max-batch:200}") final int maxBatch,
+      @Value("${atw.inbox.journal.async:true}") final boolean async) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.inboxRepository = inboxRepository;
+    this.eventPublisher = eventPublisher;
+    this.inboxUpdateBroadcaster = inboxUpdateBroadcaster;
+    this.newTransaction = new TransactionTemplate(transactionManager);
+    this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.maxBatch = Math.max(1, maxBatch);
+    this.async = async;
+  }
+
+  @PostConstruct
+  void start() {
+    if (async) {
+      running = true;
+      writer = Thread.ofPlatform().daemon().name("inbox-journal").start(this::drain);
+    }
+  }
+
+  @PreDestroy
+  void stop() {
+    running = false;
+    if (writer != null) {
+      try {
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    // Anything the writer did not get to is written here rather than lost.
+    List<InboxItemDraft> remaining = new ArrayList<>();
+    queue.drainTo(remaining);
+    if (!remaining.isEmpty()) {
+      writeBatch(remaining);
+      written(remaining.size());
+    }
+  }
+
+  /**
+   * Records {@code draft} for writing. Inside a transaction the draft is only written once it
+   * commits; outside one it is written right away.
+   */
+  public void append(@NonNull final InboxItemDraft draft) {
+    InboxItemDraft stamped =
+        draft.eventTimestamp() == null ? draft.withEventTimestamp(Instant.now()) : draft;
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      submit(List.of(stamped));
+      return;
+    }
+    PendingDrafts pending = (PendingDrafts) TransactionSynchronizationManager.getResource(this);
+    if (pending == null) {
+      pending = new PendingDrafts();
+      TransactionSynchronizationManager.bindResource(this, pending);
+      TransactionSynchronizationManager.registerSynchronization(pending);
+    }
+    pending.drafts.add(stamped);
+  }
+
+  /**
+   * Waits until every submitted draft has been written.
+   *
+   * @return {@code false} if drafts were still pending when {@code timeout} ran out
+   */
+  public boolean awaitIdle(@NonNull final Duration timeout) throws InterruptedException {
+    long deadline = System.nanoTime() + timeout.toNanos();
+    synchronized (idleMonitor) {
+      while (unwritten > 0) {
+        long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remaining <= 0) {
+          return false;
+        }
+        idleMonitor.wait(remaining);
+      }
+    }
+    return true;
+  }
+
+  /** Drafts submitted but not yet written. */
+  public long getBacklog() {
+    synchronized (idleMonitor) {
+      return unwritten;
+    }
+  }
+
+  private void submit(final List<InboxItemDraft> drafts) {
+    if (!async || !running) {
+      writeBatch(drafts);
+      return;
+    }
+    synchronized (idleMonitor) {
+      unwritten += drafts.size();
+    }
+    queue.addAll(drafts);
+  }
+
+  private void drain() {
+    List<InboxItemDraft> batch = new ArrayList<>(maxBatch);
+    while (running || !queue.isEmpty()) {
+      try {
+        InboxItemDraft first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        queue.drainTo(batch, maxBatch - 1);
+        writeBatch(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException e) {
+        log.error("Inbox journal writer failed on a batch of {} items", batch.size(), e);
+      } finally {
+        written(batch.size());
+        batch.clear();
+      }
+    }
+  }
+
+  private void written(final int count) {
+    if (count == 0) {
+      return;
+    }
+    synchronized (idleMonitor) {
+      unwritten = Math.max(0, unwritten - count);
+      if (unwritten == 0) {
+        idleMonitor.notifyAll();
+      }
+    }
+  }
+
+  private void writeBatch(final List<InboxItemDraft> drafts) {
+    try {
+      newTransaction.executeWithoutResult(status -> insert(drafts));
+    } catch (RuntimeException e) {
+      log.warn(
+          "Batch insert of {} inbox items failed, writing them one by one: {}",
+          drafts.size(),
+          e.getMessage());
+      drafts.forEach(this::writeOne);
+    }
+    log.debug("Wrote {} inbox items", drafts.size());
+    InboxUpdateEvent update = new InboxUpdateEvent(this);
+    eventPublisher.publishEvent(update);
+    inboxUpdateBroadcaster.broadcast(update);
+  }
+
+  private void writeOne(final InboxItemDraft draft) {
+    try {
+      newTransaction.executeWithoutResult(status -> inboxRepository.save(draft.toInboxItem()));
+    } catch (RuntimeException e) {
+      log.error("Dropping inbox item '{}': {}", draft.subject(), e.getMessage());
+    }
+  }
+
+  private void insert(final List<InboxItemDraft> drafts) {
+    GeneratedKeyHolder keys = new GeneratedKeyHolder();
+    jdbcTemplate.batchUpdate(
+        con -> con.prepareStatement(INSERT_ITEM, Statement.RETURN_GENERATED_KEYS),
+        new BatchPreparedStatementSetter() {
+          @Override
+          public void setValues(@NonNull final PreparedStatement ps, final int i)
+              throws SQLException {
+            InboxItemDraft draft = drafts.get(i);
+            ps.setString(1, draft.eventType().getName());
+            ps.setString(2, draft.subject());
+            ps.setString(3, draft.message());
+            ps.setTimestamp(4, Timestamp.from(draft.eventTimestamp()));
+            ps.setString(5, draft.urgency().name());
+            ps.setString(6, draft.actionType());
+            ps.setString(7, draft.actionPayload());
+          }
+
+          @Override
+          public int getBatchSize() {
+            return drafts.size();
+          }
+        },
+        keys);
+    List<Map<String, Object>> generated = keys.getKeyList();
+    if (generated.size() != drafts.size()) {
+      throw new IllegalStateException(
+          "Expected %d generated inbox item ids, got %d"
+              .formatted(drafts.size(), generated.size()));
+    }
+    List<Object[]> targets = new ArrayList<>();
+    Map<Long, Long> unread = new HashMap<>();
+    for (int i = 0; i < drafts.size(); i++) {
+      long itemId = generatedId(generated.get(i));
+      Set<Long> accounts = new HashSet<>();
+      for (TargetInfo target : drafts.get(i).targets()) {
+        targets.add(new Object[] {itemId, target.targetId(), target.type().name()});
+        Long accountId = InboxUnreadListener.accountId(target.type(), target.targetId());
+        if (accountId != null && accounts.add(accountId)) {
+          unread.merge(accountId, 1L, Long::sum);
+        }
+      }
+    }
+    if (!targets.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_TARGET, targets);
+    }
+    if (!unread.isEmpty()) {
+      // JDBC inserts bypass InboxUnreadListener.
+      eventPublisher.publishEvent(new InboxUnreadChangedEvent(this, unread));
+    }
+  }
+
+  /** The item id among the generated keys; drivers differ in how they name the column. */
+  private static long generatedId(final Map<String, Object> keys) {
+    for (Map.Entry<String, Object> key : keys.entrySet()) {
+      if (keys.size() == 1 || "inbox_item_id".equalsIgnoreCase(key.getKey())) {
+        return ((Number) key.getValue()).longValue();
+      }
+    }
+    throw new IllegalStateException("No generated inbox_item_id in " + keys.keySet());
+  }
+
+  /** The drafts appended by one transaction, submitted once it commits. */
+  private final class PendingDrafts implements TransactionSynchronization {
+    private final List<InboxItemDraft> drafts = new ArrayList<>();
+
+    @Override
+    public void afterCommit() {
+      if (!drafts.isEmpty()) {
+        submit(List.copyOf(drafts));
+      }
+    }
+
+    @Override
+    public void afterCompletion(final int status) {
+      TransactionSynchronizationManager.unbindResourceIfPossible(InboxJournal.this);
+    }
+  }
+}
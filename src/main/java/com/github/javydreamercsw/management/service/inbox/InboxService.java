@@ -24,6 +24,7 @@ import com.github.javydreamercsw.management.domain.inbox.InboxItem;
 import com.github.javydreamercsw.management.domain.inbox.InboxItemTarget;
 import com.github.javydreamercsw.management.domain.inbox.InboxRepository;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
+import com.github.javydreamercsw.management.event.InboxUnreadChangedEvent;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
@@ -36,6 +37,7 @@ import java.util.Set;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -53,6 +55,8 @@ public class InboxService {
   private final InboxEventTypeRegistry eventTypeRegistry;
   private final SecurityUtils securityUtils;
   @Getter private final AccountRepository accountRepository;
+  private final InboxUnreadIndex unreadIndex;
+  private final ApplicationEventPublisher eventPublisher;
 
   @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_BOOKER')")
   public InboxItem createInboxItem(
@@ -263,9 +267,26 @@ public class InboxService {
     return inboxRepository.count();
   }
 
+  /**
+   * Unread items addressed to an account, served from the {@link InboxUnreadIndex}. Users other
+   * than admins and bookers always get their own count.
+   */
   @PreAuthorize("isAuthenticated()")
   public long countUnread(final Long accountId) {
-    return search(Collections.emptySet(), "Unread", "All", false, accountId).size();
+    Long effectiveAccountId = accountId;
+    if (!securityUtils.isAdmin() && !securityUtils.isBooker()) {
+      Long currentAccountId = securityUtils.getCurrentAccountId().orElse(null);
+      if (effectiveAccountId == null || !effectiveAccountId.equals(currentAccountId)) {
+        effectiveAccountId = currentAccountId;
+      }
+      if (effectiveAccountId == null) {
+        return 0L;
+      }
+    }
+    if (effectiveAccountId == null) {
+      return search(Collections.emptySet(), "Unread", "All", false, null).size();
+    }
+    return unreadIndex.getUnreadCount(effectiveAccountId);
   }
 
   @PreAuthorize("isAuthenticated()")
@@ -330,7 +351,12 @@ public class InboxService {
   public int purgeOldItems(final int retentionDays) {
     Instant cutoff = Instant.now().minus(retentionDays, ChronoUnit.DAYS);
     inboxRepository.deleteTargetsOlderThan(cutoff);
-    return inboxRepository.deleteItemsOlderThan(cutoff);
+    int deleted = inboxRepository.deleteItemsOlderThan(cutoff);
+    if (deleted > 0) {
+      // Bulk deletes bypass the entity listener that keeps unread counts up to date.
+      eventPublisher.publishEvent(InboxUnreadChangedEvent.everyAccount(this));
+    }
+    return deleted;
   }
 
   @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_BOOKER')")
@@ -0,0 +1,191 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.inbox;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.javydreamercsw.management.domain.inbox.InboxRepository;
+import com.github.javydreamercsw.management.event.InboxUnreadChangedEvent;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unread inbox item counts by account, so badge refreshes do not have to query the inbox.
+ *
+ * <p>A count is loaded with one query the first time an account asks for it. After that, changes
+ * reported by {@link InboxUnreadChangedEvent}s are applied once their transaction commits. A load
+ * that overlaps the commit of a change for the same account may or may not see that change, so
+ * its result is served once and then loaded again. Entries also expire after {@code
+ * atw.inbox.unread-index.ttl-minutes}, which bounds drift from writes that bypass JPA.
+ */
+@Component
+@Slf4j
+public class InboxUnreadIndex {
+
+  /**
+   * A loaded count.
+   *
+   * @param loadedAt When the query finished, in {@link System#nanoTime()}
+   * @param stale Set when a commit for the account overlapped the load
+   */
+  private record Count(AtomicLong value, long loadedAt, boolean stale) {}
+
+  /** Stands for every account in the commit bookkeeping. */
+  private static final Long EVERY_ACCOUNT = Long.MIN_VALUE;
+
+  private final InboxRepository inboxRepository;
+  private final Cache<Long, Count> counts;
+  private final AtomicLong loads = new AtomicLong();
+
+  /** Transactions between {@code beforeCommit} and the end of {@code afterCommit}, by account. */
+  private final Map<Long, Integer> committing = new ConcurrentHashMap<>();
+
+  /** When changes for an account were last applied, in {@link System#nanoTime()}. */
+  private final Map<Long, Long> lastCommitted = new ConcurrentHashMap<>();
+
+  public InboxUnreadIndex(
+      @NonNull final InboxRepository inboxRepository,
+      @Value("${atw.inbox.unread-index.max-accounts:10000}") final long maxAccounts,
+      @Value("${atw.inbox.unread-index.ttl-minutes:10}") final long ttlMinutes) {
+    this.inboxRepository = inboxRepository;
+    this.counts =
+        Caffeine.newBuilder()
+            .maximumSize(Math.max(1, maxAccounts))
+            .expireAfterWrite(Duration.ofMinutes(Math.max(1, ttlMinutes)))
+            .build();
+  }
+
+  /** Unread items with an {@code ACCOUNT} target for {@code accountId}. */
+  public long getUnreadCount(@NonNull final Long accountId) {
+    Count count = counts.get(accountId, this::load);
+    if (count.stale()) {
+      counts.asMap().remove(accountId, count);
+    }
+    return Math.max(0, count.value().get());
+  }
+
+  /** Queries run to load counts so far, for monitoring. */
+  public long getLoadCount() {
+    return loads.get();
+  }
+
+  /** Drops every cached count. */
+  public void invalidateAll() {
+    counts.invalidateAll();
+  }
+
+  @EventListener
+  public void onUnreadChanged(@NonNull final InboxUnreadChangedEvent event) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      // Already committed, so a count loaded just now may or may not include it.
+      if (event.isEveryAccount()) {
+        invalidateAll();
+      } else {
+        counts.invalidateAll(event.getDeltas().keySet());
+      }
+      return;
+    }
+    PendingDeltas pending = (PendingDeltas) TransactionSynchronizationManager.getResource(this);
+    if (pending == null) {
+      pending = new PendingDeltas();
+      TransactionSynchronizationManager.bindResource(this, pending);
+      TransactionSynchronizationManager.registerSynchronization(pending);
+    }
+    pending.everyAccount |= event.isEveryAccount();
+    for (Map.Entry<Long, Long> delta : event.getDeltas().entrySet()) {
+      pending.deltas.merge(delta.getKey(), delta.getValue(), Long::sum);
+    }
+  }
+
+  private Count load(final Long accountId) {
+    loads.incrementAndGet();
+    long started = System.nanoTime();
+    long unread = inboxRepository.countUnreadForAccount(accountId.toString());
+    boolean stale = overlapsCommit(accountId, started) || overlapsCommit(EVERY_ACCOUNT, started);
+    return new Count(new AtomicLong(unread), System.nanoTime(), stale);
+  }
+
+  private boolean overlapsCommit(final Long key, final long started) {
+    Long committed = lastCommitted.get(key);
+    return committing.containsKey(key) || (committed != null && committed - started >= 0);
+  }
+
+  private void committing(final Long key, final int change) {
+    committing.compute(
+        key,
+        (k, open) -> {
+          int now = (open == null ? 0 : open) + change;
+          return now > 0 ? now : null;
+        });
+  }
+
+  /** The changes of one transaction, applied once it commits. */
+  private final class PendingDeltas implements TransactionSynchronization {
+    private final Map<Long, Long> deltas = new HashMap<>();
+    private final Set<Long> keys = new HashSet<>();
+    private boolean everyAccount;
+    private long commitStarted;
+
+    @Override
+    public void beforeCommit(final boolean readOnly) {
+      keys.addAll(everyAccount ? Set.of(EVERY_ACCOUNT) : deltas.keySet());
+      keys.forEach(key -> committing(key, 1));
+      commitStarted = System.nanoTime();
+    }
+
+    @Override
+    public void afterCommit() {
+      long now = System.nanoTime();
+      keys.forEach(key -> lastCommitted.put(key, now));
+      if (everyAccount) {
+        invalidateAll();
+        return;
+      }
+      deltas.forEach(
+          (accountId, delta) -> {
+            Count count = counts.getIfPresent(accountId);
+            if (count == null) {
+              return;
+            }
+            if (count.stale() || count.loadedAt() - commitStarted >= 0) {
+              counts.asMap().remove(accountId, count);
+            } else {
+              count.value().addAndGet(delta);
+            }
+          });
+      log.debug("Applied unread count changes for {} accounts", deltas.size());
+    }
+
+    @Override
+    public void afterCompletion(final int status) {
+      keys.forEach(key -> committing(key, -1));
+      TransactionSynchronizationManager.unbindResourceIfPossible(InboxUnreadIndex.this);
+    }
+  }
+}
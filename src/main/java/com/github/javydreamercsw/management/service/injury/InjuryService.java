@@ -34,6 +34,7 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 import lombok.NonNull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
@@ -291,6 +292,12 @@ public class InjuryService {
     return injuryRepository.findAllBy(pageable);
   }
 
+  /** IDs of the wrestlers with at least one active injury in a universe, in one query. */
+  @Transactional(readOnly = true)
+  public Set<Long> getWrestlerIdsWithActiveInjuries(@NonNull final Long universeId) {
+    return injuryRepository.findWrestlerIdsWithActiveInjuries(universeId);
+  }
+
   /** Get active injuries for a wrestler in a specific universe. */
   @Transactional(readOnly = true)
   @PreAuthorize("isAuthenticated()")
@@ -0,0 +1,233 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.league;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.javydreamercsw.management.domain.league.Draft;
+import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
+import com.github.javydreamercsw.management.domain.wrestler.WrestlerRepository;
+import com.github.javydreamercsw.management.event.WrestlerAvailabilityChangedEvent;
+import com.github.javydreamercsw.management.event.WrestlerRetiredEvent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Wrestlers still available in each active draft.
+ *
+ * <p>A draft's pool is loaded with one anti-join query the first time it is needed and then kept
+ * in memory; {@link DraftService#makePick} takes the picked wrestler out of it. Every change gets a
+ * version, so an open draft screen asks for {@link #changesSince} the version it last showed and
+ * removes just those rows instead of reloading the list. If the pick's transaction rolls back the
+ * pool is dropped and reloaded, and screens behind the reload get the full list again.
+ *
+ * <p>Pools are also dropped when a wrestler is created, saved, toggled, deleted or retired, and
+ * when {@link LeagueService} changes or deletes a league. Changes made outside those paths show
+ * up once the pool reaches {@link #MAX_AGE} and is reloaded.
+ */
+@Service
+@Slf4j
+public class DraftPoolService {
+
+  private static final int MAX_DRAFTS = 100;
+  private static final Duration MAX_AGE = Duration.ofMinutes(10);
+
+  /**
+   * What changed in a pool since a given version.
+   *
+   * @param version The pool version this update brings the caller to
+   * @param removedWrestlerIds Wrestlers to remove, when {@code available} is {@code null}
+   * @param available The whole pool, when the caller is too far behind for an incremental update
+   */
+  public record PoolUpdate(long version, Set<Long> removedWrestlerIds, List<Wrestler> available) {
+
+    public boolean isFull() {
+      return available != null;
+    }
+  }
+
+  private record Removal(long version, Long wrestlerId) {}
+
+  /** One draft's pool; guarded by its own monitor. */
+  private static final class Pool {
+    private final Long leagueId;
+    private final long loadedVersion;
+    private final Map<Long, Wrestler> available = new LinkedHashMap<>();
+    private final List<Removal> removals = new ArrayList<>();
+    private long version;
+
+    private Pool(final Long leagueId, final long loadedVersion, final List<Wrestler> wrestlers) {
+      this.leagueId = leagueId;
+      this.loadedVersion = loadedVersion;
+      this.version = loadedVersion;
+      wrestlers.forEach(w -> available.put(w.getId(), w));
+    }
+  }
+
+  private final WrestlerRepository wrestlerRepository;
+  private final Cache<Long, Pool> pools =
+      Caffeine.newBuilder().maximumSize(MAX_DRAFTS).expireAfterWrite(MAX_AGE).build();
+
+  /** Shared by every pool so that a reloaded pool always starts past any version handed out. */
+  private final AtomicLong versions = new AtomicLong();
+
+  public DraftPoolService(@NonNull final WrestlerRepository wrestlerRepository) {
+    this.wrestlerRepository = wrestlerRepository;
+  }
+
+  /** The draft's available wrestlers and the version they reflect. */
+  public PoolUpdate getAvailable(@NonNull final Draft draft) {
+    Pool pool = pool(draft);
+    synchronized (pool) {
+      return new PoolUpdate(pool.version, Set.of(), List.copyOf(pool.available.values()));
+    }
+  }
+
+  /** How many wrestlers the draft can still pick from. */
+  public int countAvailable(@NonNull final Draft draft) {
+    Pool pool = pool(draft);
+    synchronized (pool) {
+      return pool.available.size();
+    }
+  }
+
+  /**
+   * Changes to the draft's pool after {@code version}: the removed wrestler ids, or the whole pool
+   * when the pool was reloaded since.
+   */
+  public PoolUpdate changesSince(@NonNull final Draft draft, final long version) {
+    Pool pool = pool(draft);
+    synchronized (pool) {
+      if (version < pool.loadedVersion || version > pool.version) {
+        return new PoolUpdate(pool.version, Set.of(), List.copyOf(pool.available.values()));
+      }
+      Set<Long> removed = new HashSet<>();
+      for (int i = pool.removals.size() - 1; i >= 0; i--) {
+        Removal removal = pool.removals.get(i);
+        if (removal.version() <= version) {
+          break;
+        }
+        removed.add(removal.wrestlerId());
+      }
+      return new PoolUpdate(pool.version, Set.copyOf(removed), null);
+    }
+  }
+
+  /**
+   * Takes a picked wrestler out of the draft's pool. Inside a transaction the pool is dropped again
+   * if it does not commit, so a failed pick never hides a wrestler.
+   */
+  public void markPicked(@NonNull final Draft draft, @NonNull final Wrestler wrestler) {
+    Pool pool = pool(draft);
+    if (wrestler.getId() != null) {
+      synchronized (pool) {
+        pool.available.remove(wrestler.getId());
+        pool.version = versions.incrementAndGet();
+        pool.removals.add(new Removal(pool.version, wrestler.getId()));
+      }
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      Long draftId = draft.getId();
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+              if (status != STATUS_COMMITTED) {
+                evict(draftId);
+              }
+            }
+          });
+    }
+  }
+
+  /** Drops the draft's pool, e.g. when the draft ends. */
+  public void evict(final Long draftId) {
+    if (draftId != null) {
+      pools.invalidate(draftId);
+    }
+  }
+
+  /**
+   * Drops the pools of the league's drafts, e.g. when its exclusions change. Inside a transaction
+   * they are dropped again once it completes, so a pool reloaded meanwhile is not kept.
+   */
+  public void evictLeague(final Long leagueId) {
+    if (leagueId != null) {
+      dropNowAndAfterCompletion(
+          () -> pools.asMap().values().removeIf(pool -> leagueId.equals(pool.leagueId)));
+    }
+  }
+
+  /** A retired wrestler is no longer draftable, so every pool is reloaded. */
+  @EventListener
+  public void onWrestlerRetired(final WrestlerRetiredEvent event) {
+    dropNowAndAfterCompletion(pools::invalidateAll);
+  }
+
+  /** Any pool may gain or lose the wrestler, so every pool is reloaded. */
+  @EventListener
+  public void onWrestlerAvailabilityChanged(final WrestlerAvailabilityChangedEvent event) {
+    dropNowAndAfterCompletion(pools::invalidateAll);
+  }
+
+  private void dropNowAndAfterCompletion(final Runnable drop) {
+    drop.run();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+              drop.run();
+            }
+          });
+    }
+  }
+
+  private Pool pool(final Draft draft) {
+    if (draft.getId() == null) {
+      return load(draft);
+    }
+    return pools.get(draft.getId(), id -> load(draft));
+  }
+
+  private Pool load(final Draft draft) {
+    long start = System.nanoTime();
+    Pool pool =
+        new Pool(
+            draft.getLeague().getId(),
+            versions.incrementAndGet(),
+            wrestlerRepository.findDraftableForLeague(draft.getLeague().getId()));
+    log.debug(
+        "Loaded draft pool for draft {}: {} wrestlers in {}ms",
+        draft.getId(),
+        pool.available.size(),
+        (System.nanoTime() - start) / 1_000_000);
+    return pool;
+  }
+}
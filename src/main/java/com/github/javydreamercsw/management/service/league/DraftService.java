@@ -54,8 +54,6 @@ import com.github.javydreamercsw.management.service.gm.SalaryCalculator;
 import com.github.javydreamercsw.management.service.inbox.InboxService;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -83,6 +81,7 @@ public class DraftService {
   private final DraftBroadcaster draftBroadcaster;
   private final InboxService inboxService;
   private final InboxEventType draftStartedEventType;
+  private final DraftPoolService draftPoolService;
 
   public DraftService(
       final DraftRepository draftRepository,
@@ -96,7 +95,8 @@ public class DraftService {
       final SalaryCalculator salaryCalculator,
       final DraftBroadcaster draftBroadcaster,
       final InboxService inboxService,
-      @Qualifier("DRAFT_STARTED") final InboxEventType draftStartedEventType) {
+      @Qualifier("DRAFT_STARTED") final InboxEventType draftStartedEventType,
+      final DraftPoolService draftPoolService) {
     this.draftRepository = draftRepository;
     this.draftPickRepository = draftPickRepository;
     this.leagueMembershipRepository = leagueMembershipRepository;
@@ -109,6 +109,7 @@ public class DraftService {
     this.draftBroadcaster = draftBroadcaster;
     this.inboxService = inboxService;
     this.draftStartedEventType = draftStartedEventType;
+    this.draftPoolService = draftPoolService;
   }
 
   @Transactional
@@ -192,6 +193,7 @@ public class DraftService {
     roster.setOwner(user);
     roster.setWrestler(wrestler);
     leagueRosterRepository.save(roster);
+    draftPoolService.markPicked(draft, wrestler);
 
     // Create Contract
     League league = draft.getLeague();
@@ -254,7 +256,7 @@ public class DraftService {
                 LeagueMembership.LeagueRole.COMMISSIONER_PLAYER));
     players.sort(Comparator.comparing(m -> m.getMember().getId()));
 
-    long availableWrestlers = countAvailableWrestlers(league);
+    int availableWrestlers = draftPoolService.countAvailable(draft);
 
     // Check if draft is over (Total picks reached)
     int totalPicks = draft.getCurrentPickNumber();
@@ -315,26 +317,6 @@ public class DraftService {
     League league = draft.getLeague();
     league.setStatus(League.LeagueStatus.SEASON_ACTIVE);
     leagueRepository.save(league);
-  }
-
-  private long countAvailableWrestlers(final League league) {
-    Set<Long> draftedWrestlerIds =
-        leagueRosterRepository.findByLeague(league).stream()
-            .map(r -> r.getWrestler().getId())
-            .collect(Collectors.toSet());
-
-    // Fetch league with excluded wrestlers to avoid LazyInitializationException
-    League fullyLoaded =
-        leagueRepository.findByIdWithExcludedWrestlers(league.getId()).orElse(league);
-
-    Set<Long> excludedWrestlerIds =
-        fullyLoaded.getExcludedWrestlers().stream()
-            .map(Wrestler::getId)
-            .collect(Collectors.toSet());
-
-    return wrestlerRepository.findAll().stream()
-        .filter(w -> !draftedWrestlerIds.contains(w.getId()))
-        .filter(w -> !excludedWrestlerIds.contains(w.getId()))
-        .count();
+    draftPoolService.evict(draft.getId());
   }
 }
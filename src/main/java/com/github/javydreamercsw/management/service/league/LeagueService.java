@@ -43,6 +43,7 @@ public class LeagueService {
   private final ShowRepository showRepository;
   private final LeagueRosterRepository leagueRosterRepository;
   private final UniverseContextService universeContextService;
+  private final DraftPoolService draftPoolService;
 
   @Transactional
   public League createLeague(
@@ -160,6 +161,7 @@ public class LeagueService {
           leagueMembershipRepository.save(m);
         });
 
+    draftPoolService.evictLeague(id);
     return leagueRepository.save(league);
   }
 
@@ -180,6 +182,7 @@ public class LeagueService {
 
     // Delete league
     leagueRepository.delete(league);
+    draftPoolService.evictLeague(id);
   }
 
   @Transactional
@@ -17,8 +17,10 @@
 package com.github.javydreamercsw.management.service.match;
 
 import com.github.javydreamercsw.base.security.GeneralSecurityUtils;
+import com.github.javydreamercsw.management.domain.AdjudicationStatus;
 import com.github.javydreamercsw.management.domain.faction.Faction;
 import com.github.javydreamercsw.management.domain.feud.MultiWrestlerFeud;
+import com.github.javydreamercsw.management.domain.league.League;
 import com.github.javydreamercsw.management.domain.league.LeagueRepository;
 import com.github.javydreamercsw.management.domain.league.LeagueRoster;
 import com.github.javydreamercsw.management.domain.league.LeagueRosterRepository;
@@ -34,6 +36,7 @@ import com.github.javydreamercsw.management.domain.show.segment.rule.SegmentRule
 import com.github.javydreamercsw.management.domain.show.segment.type.SegmentTypeNames;
 import com.github.javydreamercsw.management.domain.title.Title;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
+import com.github.javydreamercsw.management.domain.wrestler.WrestlerRepository;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerState;
 import com.github.javydreamercsw.management.event.ChampionshipChangeEvent;
 import com.github.javydreamercsw.management.event.ChampionshipDefendedEvent;
@@ -45,6 +48,7 @@ import com.github.javydreamercsw.management.service.feud.FeudResolutionService;
 import com.github.javydreamercsw.management.service.feud.MultiWrestlerFeudService;
 import com.github.javydreamercsw.management.service.legacy.LegacyService;
 import com.github.javydreamercsw.management.service.outcome.OutcomeMatrixService;
+import com.github.javydreamercsw.management.service.relationship.WrestlerPairGraph;
 import com.github.javydreamercsw.management.service.relationship.WrestlerRelationshipService;
 import com.github.javydreamercsw.management.service.ringside.RingsideActionService;
 import com.github.javydreamercsw.management.service.ringside.RingsideAiService;
@@ -68,6 +72,7 @@ import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
@@ -112,6 +117,10 @@ public class SegmentAdjudicationService {
   @Setter(onMethod_ = {@Autowired})
   private OutcomeMatrixService outcomeMatrixService;
 
+  // Field-injected for the same reason — null-safe, adjudicateShow() then skips the preload.
+  @Setter(onMethod_ = {@Autowired})
+  private WrestlerRepository wrestlerRepository;
+
   @Autowired
   public SegmentAdjudicationService(
       final RivalryService rivalryService,
@@ -238,6 +247,14 @@ public class SegmentAdjudicationService {
       UniverseContextService universeContextService,
       Random random) {}
 
+  /** Lookups shared by all segments of one {@link #adjudicateShow(Long)} run. */
+  private static final class ShowBatch {
+    private final Map<Long, MatchFulfillment> fulfillments = new HashMap<>();
+    private final List<ApplicationEvent> events = new ArrayList<>();
+    private boolean leagueResolved;
+    private Map<Long, LeagueRoster> rosterByWrestlerId;
+  }
+
   /**
    * Adjudicates a segment by ID. Preferred entry point from UI callers (e.g. MatchView) that hold a
    * detached {@link Segment} between Vaadin push events — passing the ID instead of the entity
@@ -272,12 +289,77 @@ public class SegmentAdjudicationService {
     adjudicateMatchInternal(segment, multiplier);
   }
 
+  /**
+   * Adjudicates every pending segment of a show in running order within one transaction.
+   *
+   * <p>Segments, participants, wrestler states, match fulfillments and the league roster are
+   * loaded up front in a handful of queries instead of once per segment. The show is finalized
+   * once, after every segment has been marked adjudicated, and the championship events raised
+   * along the way are published only after all segments were applied.
+   *
+   * @param showId The show to adjudicate
+   * @return The segments that were adjudicated, in running order
+   */
+  @PreAuthorize("hasAnyRole('ADMIN', 'BOOKER')")
+  @Transactional
+  public List<Segment> adjudicateShow(@NonNull final Long showId) {
+    List<Segment> pending =
+        segmentRepository.findByShowIdWithDetails(showId).stream()
+            .filter(segment -> segment.getAdjudicationStatus() == AdjudicationStatus.PENDING)
+            .toList();
+    if (pending.isEmpty()) {
+      return pending;
+    }
+
+    ShowBatch batch = new ShowBatch();
+    matchFulfillmentRepository
+        .findBySegmentIn(pending)
+        .forEach(
+            fulfillment -> batch.fulfillments.put(fulfillment.getSegment().getId(), fulfillment));
+    if (wrestlerRepository != null) {
+      // Loads the states into the persistence context so getState(universeId) on the
+      // participants no longer initializes one collection per wrestler.
+      Set<Long> participantIds =
+          pending.stream()
+              .flatMap(segment -> segment.getWrestlers().stream())
+              .map(Wrestler::getId)
+              .collect(Collectors.toSet());
+      if (!participantIds.isEmpty()) {
+        wrestlerRepository.findAllByIdInWithStates(participantIds);
+      }
+    }
+
+    for (Segment segment : pending) {
+      adjudicateMatchInternal(segment, 1.0, batch);
+      segment.setAdjudicationStatus(AdjudicationStatus.ADJUDICATED);
+    }
+    segmentRepository.saveAll(pending);
+
+    if (showService != null) {
+      showService.finalizeShowIfComplete(pending.get(0).getShow());
+    }
+    batch.events.forEach(eventPublisher::publishEvent);
+    log.info("Adjudicated {} segments of show {}", pending.size(), showId);
+    return pending;
+  }
+
   @Transactional
   private void adjudicateMatchInternal(@NonNull final Segment segment, final double multiplier) {
+    adjudicateMatchInternal(segment, multiplier, null);
+  }
+
+  /**
+   * Applies every adjudication step to one segment. {@code batch} is {@code null} for single
+   * segment adjudication; when set, preloaded lookups are reused, the show is not finalized and
+   * events are held back for {@link #adjudicateShow(Long)}.
+   */
+  private void adjudicateMatchInternal(
+      @NonNull final Segment segment, final double multiplier, final ShowBatch batch) {
     // Process match fulfillment first so that a player-reported winner is reflected
     // in the winners/losers lists used by every downstream method.
-    matchFulfillmentRepository
-        .findBySegment(segment)
+    (batch != null
+            ? Optional.ofNullable(batch.fulfillments.get(segment.getId()))
+            : matchFulfillmentRepository.findBySegment(segment))
         .ifPresent(
             fulfillment -> {
               if (fulfillment.getReportedWinner() != null && segment.getWinners().isEmpty()) {
@@ -291,13 +373,13 @@ public class SegmentAdjudicationService {
     List<Wrestler> losers = new ArrayList<>(segment.getWrestlers());
     losers.removeAll(winners);
 
-    applyLeagueStats(segment, winners, losers);
+    applyLeagueStats(segment, winners, losers, batch);
     processRewards(segment, multiplier);
     applyOutcomeMatrix(segment, winners, losers);
     applyRatingAndNoise(segment);
     Set<Long> wearAndTearBumpedIds = applyWearAndTear(segment);
     applyRingsideActions(segment);
-    applyTitleChange(segment, winners, losers);
+    applyTitleChange(segment, winners, losers, batch);
 
     Long universeId =
         segment.getShow().getUniverse() != null ? segment.getShow().getUniverse().getId() : 1L;
@@ -309,7 +391,7 @@ public class SegmentAdjudicationService {
     resolveRivalriesAndFeuds(segment, winners);
     triggerAchievements(segment, winners);
 
-    if (showService != null) {
+    if (showService != null && batch == null) {
       showService.finalizeShowIfComplete(segment.getShow());
     }
 
@@ -319,22 +401,19 @@ public class SegmentAdjudicationService {
   private void applyLeagueStats(
       @NonNull final Segment segment,
       @NonNull final List<Wrestler> winners,
-      @NonNull final List<Wrestler> losers) {
-    // Update League Stats if applicable — check show.getLeague() first, then fall back to
-    // the universe-based lookup for shows that were associated via universe rather than directly.
-    com.github.javydreamercsw.management.domain.league.League effectiveLeague =
-        segment.getShow().getLeague();
-    if (effectiveLeague == null && segment.getShow().getUniverse() != null) {
-      effectiveLeague =
-          leagueRepository.findByUniverse(segment.getShow().getUniverse()).orElse(null);
+      @NonNull final List<Wrestler> losers,
+      final ShowBatch batch) {
+    Map<Long, LeagueRoster> rosterByWrestlerId;
+    if (batch != null && batch.leagueResolved) {
+      rosterByWrestlerId = batch.rosterByWrestlerId;
+    } else {
+      rosterByWrestlerId = loadLeagueRoster(segment);
+      if (batch != null) {
+        batch.rosterByWrestlerId = rosterByWrestlerId;
+        batch.leagueResolved = true;
+      }
     }
-    if (effectiveLeague != null) {
-      final com.github.javydreamercsw.management.domain.league.League league = effectiveLeague;
-      Map<Long, LeagueRoster> rosterByWrestlerId =
-          leagueRosterRepository.findByLeague(league).stream()
-              .filter(r -> r.getWrestler() != null)
-              .collect(Collectors.toMap(r -> r.getWrestler().getId(), r -> r));
-
+    if (rosterByWrestlerId != null) {
       List<LeagueRoster> toSave = new ArrayList<>();
       if (winners.isEmpty()) {
         for (Wrestler w : segment.getWrestlers()) {
@@ -364,6 +443,22 @@ public class SegmentAdjudicationService {
     }
   }
 
+  /** Roster entries by wrestler id for the show's league, or {@code null} if it has none. */
+  private Map<Long, LeagueRoster> loadLeagueRoster(@NonNull final Segment segment) {
+    // Update League Stats if applicable — check show.getLeague() first, then fall back to
+    // the universe-based lookup for shows that were associated via universe rather than directly.
+    League league = segment.getShow().getLeague();
+    if (league == null && segment.getShow().getUniverse() != null) {
+      league = leagueRepository.findByUniverse(segment.getShow().getUniverse()).orElse(null);
+    }
+    if (league == null) {
+      return null;
+    }
+    return leagueRosterRepository.findByLeague(league).stream()
+        .filter(r -> r.getWrestler() != null)
+        .collect(Collectors.toMap(r -> r.getWrestler().getId(), r -> r));
+  }
+
   private void applyOutcomeMatrix(
       @NonNull final Segment segment,
       @NonNull final List<Wrestler> winners,
@@ -437,7 +532,8 @@ public class SegmentAdjudicationService {
   private void applyTitleChange(
       @NonNull final Segment segment,
       @NonNull final List<Wrestler> winners,
-      @NonNull final List<Wrestler> losers) {
+      @NonNull final List<Wrestler> losers,
+      final ShowBatch batch) {
     if (!SegmentTypeNames.PROMO.equals(segment.getSegmentType().getName())) {
       if (segment.getIsTitleSegment()) {
         for (Title title : segment.getTitles()) {
@@ -451,18 +547,24 @@ public class SegmentAdjudicationService {
                   && !currentChampions.isEmpty()
                   && currentChampions.stream().anyMatch(winnerSet::contains);
           if (championsDefended || winnerSet.isEmpty()) {
-            eventPublisher.publishEvent(
-                new ChampionshipDefendedEvent(this, title, currentChampions, losers));
+            publish(new ChampionshipDefendedEvent(this, title, currentChampions, losers), batch);
           } else {
             titleService.awardTitleTo(title, winners, segment);
-            eventPublisher.publishEvent(
-                new ChampionshipChangeEvent(this, title, currentChampions, winners));
+            publish(new ChampionshipChangeEvent(this, title, currentChampions, winners), batch);
           }
         }
       }
     }
   }
 
+  private void publish(@NonNull final ApplicationEvent event, final ShowBatch batch) {
+    if (batch != null) {
+      batch.events.add(event);
+    } else {
+      eventPublisher.publishEvent(event);
+    }
+  }
+
   private void applyFactionAffinity(
       @NonNull final Segment segment,
       @NonNull final List<Wrestler> winners,
@@ -539,46 +641,35 @@ public class SegmentAdjudicationService {
     String segmentTypeName = segment.getSegmentType().getName();
     boolean isPromo = SegmentTypeNames.PROMO.equals(segmentTypeName);
     boolean isAiTargeted = segment.getRivalryId() != null;
+    // Rumbles heat the rivalries their entrants already have but never start new ones; a
+    // thirty-man field would otherwise spawn hundreds of rivalries from a single match.
+    boolean mayCreateRivalries =
+        (isPromo || isAiTargeted) && !SegmentTypeNames.ABU_DHABI_RUMBLE.equals(segmentTypeName);
     final int heat = isPromo ? 4 : 1;
-
-    // Skip all-pairs heat addition for Rumbles to avoid performance issues,
-    // excessive rivalry creation, and because determining eliminations from
-    // narration is complex. Bookers can manage these rivalries manually.
-    if (!SegmentTypeNames.ABU_DHABI_RUMBLE.equals(segmentTypeName)) {
-      for (int i = 0; i < participants.size(); i++) {
-        for (int j = i + 1; j < participants.size(); j++) {
-          Wrestler wi = participants.get(i);
-          Wrestler wj = participants.get(j);
-          Faction fi = wi.getState(universeId).map(WrestlerState::getFaction).orElse(null);
-          Faction fj = wj.getState(universeId).map(WrestlerState::getFaction).orElse(null);
-          if (fi != null && fi.equals(fj)) {
-            log.debug(
-                "Skipping heat between teammates {} and {} (faction: {})",
-                wi.getName(),
-                wj.getName(),
-                fi.getName());
-            continue;
-          }
-          if (isPromo || isAiTargeted) {
-            // Promos and AI-targeted segments may create a new rivalry if none exists.
-            rivalryService.addHeatBetweenWrestlers(
-                wi.getId(), wj.getId(), heat, "From segment: " + segmentTypeName, universeId);
-          } else {
-            // Plain matches only add heat to an already-established rivalry; they do not
-            // spawn new ones for every random pairing.
-            rivalryService
-                .getRivalryBetweenWrestlers(wi.getId(), wj.getId())
-                .ifPresent(
-                    r ->
-                        rivalryService.addHeat(
-                            r.getId(), heat, "From segment: " + segmentTypeName));
-          }
-        }
+    final String reason = "From segment: " + segmentTypeName;
+
+    WrestlerPairGraph graph =
+        WrestlerPairGraph.of(
+            participants, universeId, rivalryService.getActiveRivalriesAmong(participants));
+    List<Rivalry> heated = new ArrayList<>();
+    for (WrestlerPairGraph.Pair pair : graph.pairs()) {
+      if (pair.teammates()) {
+        log.debug(
+            "Skipping heat between teammates {} and {}",
+            pair.first().getName(),
+            pair.second().getName());
+      } else if (pair.rivalry() != null) {
+        heated.add(pair.rivalry());
+      } else if (mayCreateRivalries) {
+        // Promos and AI-targeted segments may create a new rivalry if none exists. Plain
+        // matches only add heat to an already-established rivalry; they do not spawn new ones
+        // for every random pairing.
+        rivalryService.addHeatBetweenWrestlers(
+            pair.first().getId(), pair.second().getId(), heat, reason, universeId);
       }
-    } else {
-      log.info(
-          "Skipping automatic rivalry processing for Rumble segment: {}",
-          segment.getShow().getName());
+    }
+    if (!heated.isEmpty()) {
+      rivalryService.addHeat(heated, heat, reason);
     }
 
     // Add heat to feuds
@@ -0,0 +1,296 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.outcome;
+
+import com.github.javydreamercsw.management.domain.outcome.OutcomeMatrix;
+import com.github.javydreamercsw.management.domain.outcome.OutcomeMatrixCategory;
+import com.github.javydreamercsw.management.domain.outcome.OutcomeMatrixEntry;
+import com.github.javydreamercsw.management.domain.outcome.OutcomeMatrixEntryRepository;
+import com.github.javydreamercsw.management.domain.outcome.OutcomeMatrixRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Immutable in-memory copy of every outcome matrix, so resolving a roll costs array lookups instead
+ * of database round trips.
+ *
+ * <p>Each chart keeps its entries in an array indexed by d66 value. Entries and matrices are
+ * detached copies owned by the registry: redirects point at the registry's own copy of the target
+ * chart, and templates are split into literal text and {@code {PLACEHOLDER}} tokens once. The whole
+ * registry is loaded with two queries on first use and again after {@link #invalidate()}, which
+ * {@link OutcomeMatrixService} calls whenever a matrix or entry is written.
+ */
+@Component
+@Slf4j
+public class OutcomeChartRegistry {
+
+  /** One entry of a chart, with its template parsed and its redirect target resolved. */
+  public record Row(OutcomeMatrixEntry entry, Template template, OutcomeMatrix redirect) {}
+
+  /** A matrix and its rows, by d66 value and in dice order. */
+  public record Chart(OutcomeMatrix matrix, Row[] byRoll, List<Row> rows) {
+
+    /** The row for {@code diceRoll}, or {@code null} when the chart has none. */
+    public Row row(final int diceRoll) {
+      return diceRoll >= 0 && diceRoll < byRoll.length ? byRoll[diceRoll] : null;
+    }
+  }
+
+  private record Snapshot(
+      long version, Map<Long, Chart> byId, Map<OutcomeMatrixCategory, List<Chart>> byCategory) {}
+
+  private final OutcomeMatrixRepository matrixRepository;
+  private final OutcomeMatrixEntryRepository entryRepository;
+
+  /** Bumped on every write; a snapshot built under an older version is rebuilt. */
+  private final AtomicLong version = new AtomicLong();
+
+  private volatile Snapshot snapshot;
+
+  public OutcomeChartRegistry(
+      @NonNull final OutcomeMatrixRepository matrixRepository,
+      @NonNull final OutcomeMatrixEntryRepository entryRepository) {
+    this.matrixRepository = matrixRepository;
+    this.entryRepository = entryRepository;
+  }
+
+  /** The chart with the given matrix id, or {@code null} when there is none. */
+  public Chart chart(@NonNull final Long matrixId) {
+    return current().byId().get(matrixId);
+  }
+
+  /** Every chart of a category, in id order. */
+  public List<Chart> charts(@NonNull final OutcomeMatrixCategory category) {
+    return current().byCategory().getOrDefault(category, List.of());
+  }
+
+  /** Drops the loaded charts; the next lookup reloads them. */
+  public void invalidate() {
+    version.incrementAndGet();
+  }
+
+  private Snapshot current() {
+    Snapshot loaded = snapshot;
+    if (loaded != null && loaded.version() == version.get()) {
+      return loaded;
+    }
+    synchronized (this) {
+      long expected = version.get();
+      if (snapshot == null || snapshot.version() != expected) {
+        snapshot = load(expected);
+      }
+      return snapshot;
+    }
+  }
+
+  private Snapshot load(final long expected) {
+    Map<Long, OutcomeMatrix> matrices = new HashMap<>();
+    for (OutcomeMatrix source : matrixRepository.findAll()) {
+      OutcomeMatrix copy = new OutcomeMatrix();
+      copy.setId(source.getId());
+      copy.setName(source.getName());
+      copy.setDescription(source.getDescription());
+      copy.setCategory(source.getCategory());
+      matrices.put(copy.getId(), copy);
+    }
+
+    Map<Long, List<Row>> rowsByMatrix = new HashMap<>();
+    for (OutcomeMatrixEntry source : entryRepository.findAll()) {
+      OutcomeMatrix matrix = matrices.get(source.getMatrix().getId());
+      if (matrix == null) {
+        continue;
+      }
+      OutcomeMatrix redirect = null;
+      if (source.getRedirectToMatrix() != null) {
+        redirect = matrices.get(source.getRedirectToMatrix().getId());
+      }
+      OutcomeMatrixEntry copy = copy(source, matrix, redirect);
+      rowsByMatrix
+          .computeIfAbsent(matrix.getId(), id -> new ArrayList<>())
+          .add(new Row(copy, Template.compile(copy.getTemplateText()), redirect));
+    }
+
+    Map<Long, Chart> byId = new HashMap<>();
+    Map<OutcomeMatrixCategory, List<Chart>> byCategory = new EnumMap<>(OutcomeMatrixCategory.class);
+    matrices.values().stream()
+        .sorted(Comparator.comparing(OutcomeMatrix::getId))
+        .forEach(
+            matrix -> {
+              Chart chart = chart(matrix, rowsByMatrix.getOrDefault(matrix.getId(), List.of()));
+              byId.put(matrix.getId(), chart);
+              if (matrix.getCategory() != null) {
+                byCategory.computeIfAbsent(matrix.getCategory(), c -> new ArrayList<>()).add(chart);
+              }
+            });
+    byCategory.replaceAll((category, charts) -> List.copyOf(charts));
+    warnAboutRedirectCycles(byId);
+    log.debug("Loaded {} outcome charts", byId.size());
+    return new Snapshot(expected, Map.copyOf(byId), byCategory);
+  }
+
+  private static Chart chart(final OutcomeMatrix matrix, final List<Row> rows) {
+    List<Row> ordered =
+        rows.stream().sorted(Comparator.comparingInt(r -> r.entry().getDiceRoll())).toList();
+    int size = ordered.isEmpty() ? 0 : Math.max(0, ordered.getLast().entry().getDiceRoll() + 1);
+    Row[] byRoll = new Row[size];
+    for (Row row : ordered) {
+      if (row.entry().getDiceRoll() >= 0) {
+        byRoll[row.entry().getDiceRoll()] = row;
+      }
+    }
+    return new Chart(matrix, byRoll, ordered);
+  }
+
+  private static OutcomeMatrixEntry copy(
+      final OutcomeMatrixEntry source, final OutcomeMatrix matrix, final OutcomeMatrix redirect) {
+    OutcomeMatrixEntry copy = new OutcomeMatrixEntry();
+    copy.setId(source.getId());
+    copy.setMatrix(matrix);
+    copy.setDiceRoll(source.getDiceRoll());
+    copy.setTemplateText(source.getTemplateText());
+    copy.setHeatDelta(source.getHeatDelta());
+    copy.setFanDelta(source.getFanDelta());
+    copy.setTvGradeDelta(source.getTvGradeDelta());
+    copy.setGrudgeGradeDelta(source.getGrudgeGradeDelta());
+    copy.setInjuryCaused(source.isInjuryCaused());
+    copy.setRedirectToMatrix(redirect);
+    return copy;
+  }
+
+  /** Redirects that can lead back to their own chart would loop forever if followed. */
+  private static void warnAboutRedirectCycles(final Map<Long, Chart> byId) {
+    for (Chart start : byId.values()) {
+      Set<Long> seen = new HashSet<>();
+      List<Chart> pending = new ArrayList<>(List.of(start));
+      while (!pending.isEmpty()) {
+        Chart chart = pending.removeLast();
+        for (Row row : chart.rows()) {
+          if (row.redirect() == null) {
+            continue;
+          }
+          if (row.redirect().getId().equals(start.matrix().getId())) {
+            log.warn("Outcome chart '{}' can redirect back to itself", start.matrix().getName());
+            pending.clear();
+            break;
+          }
+          if (seen.add(row.redirect().getId())) {
+            pending.add(byId.get(row.redirect().getId()));
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * An entry's template split into literal text and {@code {PLACEHOLDER}} tokens, so rendering is a
+   * single pass that only builds a string when there is something to substitute.
+   */
+  public static final class Template {
+
+    private final String text;
+    private final String[] parts;
+    private final boolean[] placeholder;
+
+    private Template(final String text, final String[] parts, final boolean[] placeholder) {
+      this.text = text;
+      this.parts = parts;
+      this.placeholder = placeholder;
+    }
+
+    static Template compile(final String text) {
+      String source = text == null ? "" : text;
+      List<String> parts = new ArrayList<>();
+      List<Boolean> tokens = new ArrayList<>();
+      int literalStart = 0;
+      int open = source.indexOf('{');
+      while (open >= 0) {
+        int close = source.indexOf('}', open + 1);
+        if (close < 0) {
+          break;
+        }
+        int nested = source.lastIndexOf('{', close);
+        if (nested > open) {
+          open = nested;
+        }
+        if (open > literalStart) {
+          parts.add(source.substring(literalStart, open));
+          tokens.add(false);
+        }
+        parts.add(source.substring(open, close + 1));
+        tokens.add(true);
+        literalStart = close + 1;
+        open = source.indexOf('{', literalStart);
+      }
+      if (literalStart < source.length()) {
+        parts.add(source.substring(literalStart));
+        tokens.add(false);
+      }
+      boolean[] placeholder = new boolean[tokens.size()];
+      for (int i = 0; i < placeholder.length; i++) {
+        placeholder[i] = tokens.get(i);
+      }
+      return new Template(source, parts.toArray(String[]::new), placeholder);
+    }
+
+    /**
+     * Substitutes {@code variables} (placeholder, including braces, to value) into the template.
+     * Keys without braces are replaced wherever they occur, as plain text.
+     */
+    public String render(@NonNull final Map<String, String> variables) {
+      if (variables.isEmpty()) {
+        return text;
+      }
+      for (String key : variables.keySet()) {
+        if (!key.startsWith("{") || !key.endsWith("}")) {
+          return replaceAll(variables);
+        }
+      }
+      StringBuilder rendered = null;
+      for (int i = 0; i < parts.length; i++) {
+        String value = placeholder[i] ? variables.get(parts[i]) : null;
+        if (value != null && rendered == null) {
+          rendered = new StringBuilder(text.length() + 16);
+          for (int j = 0; j < i; j++) {
+            rendered.append(parts[j]);
+          }
+        }
+        if (rendered != null) {
+          rendered.append(value != null ? value : parts[i]);
+        }
+      }
+      return rendered == null ? text : rendered.toString();
+    }
+
+    private String replaceAll(final Map<String, String> variables) {
+      String result = text;
+      for (Map.Entry<String, String> variable : variables.entrySet()) {
+        result = result.replace(variable.getKey(), variable.getValue());
+      }
+      return result;
+    }
+  }
+}
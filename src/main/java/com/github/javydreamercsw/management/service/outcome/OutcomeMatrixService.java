@@ -25,6 +25,8 @@ import com.github.javydreamercsw.management.domain.outcome.OutcomeMatrixReposito
 import com.github.javydreamercsw.management.domain.outcome.OutcomeMatrixResult;
 import com.github.javydreamercsw.management.service.drama.DramaEventService;
 import com.github.javydreamercsw.management.service.injury.InjuryService;
+import com.github.javydreamercsw.management.service.outcome.OutcomeChartRegistry.Chart;
+import com.github.javydreamercsw.management.service.outcome.OutcomeChartRegistry.Row;
 import com.github.javydreamercsw.management.service.rivalry.RivalryService;
 import com.github.javydreamercsw.management.service.wrestler.WrestlerService;
 import jakarta.persistence.EntityNotFoundException;
@@ -38,6 +40,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Slf4j
 @Service
@@ -51,6 +55,7 @@ public class OutcomeMatrixService {
   private final DramaEventService dramaEventService;
   private final WrestlerService wrestlerService;
   private final Random random;
+  private final OutcomeChartRegistry chartRegistry;
 
   @Autowired
   public OutcomeMatrixService(
@@ -60,7 +65,8 @@ public class OutcomeMatrixService {
       final InjuryService injuryService,
       final DramaEventService dramaEventService,
       final WrestlerService wrestlerService,
-      final Random random) {
+      final Random random,
+      final OutcomeChartRegistry chartRegistry) {
     this.matrixRepository = matrixRepository;
     this.entryRepository = entryRepository;
     this.rivalryService = rivalryService;
@@ -68,6 +74,7 @@ public class OutcomeMatrixService {
     this.dramaEventService = dramaEventService;
     this.wrestlerService = wrestlerService;
     this.random = random;
+    this.chartRegistry = chartRegistry;
   }
 
   // -------------------------------------------------------------------------
@@ -76,17 +83,22 @@ public class OutcomeMatrixService {
 
   @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_BOOKER')")
   public OutcomeMatrix createMatrix(@NonNull final OutcomeMatrix matrix) {
-    return matrixRepository.save(matrix);
+    OutcomeMatrix saved = matrixRepository.save(matrix);
+    chartsChanged();
+    return saved;
   }
 
   @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_BOOKER')")
   public OutcomeMatrix updateMatrix(@NonNull final OutcomeMatrix matrix) {
-    return matrixRepository.save(matrix);
+    OutcomeMatrix saved = matrixRepository.save(matrix);
+    chartsChanged();
+    return saved;
   }
 
   @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_BOOKER')")
   public void deleteMatrix(@NonNull final Long matrixId) {
     matrixRepository.deleteById(matrixId);
+    chartsChanged();
   }
 
   @Transactional(readOnly = true)
@@ -125,17 +137,22 @@ public class OutcomeMatrixService {
             .findById(matrixId)
             .orElseThrow(() -> new EntityNotFoundException("OutcomeMatrix not found: " + matrixId));
     entry.setMatrix(matrix);
-    return entryRepository.save(entry);
+    OutcomeMatrixEntry saved = entryRepository.save(entry);
+    chartsChanged();
+    return saved;
   }
 
   @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_BOOKER')")
   public OutcomeMatrixEntry updateEntry(@NonNull final OutcomeMatrixEntry entry) {
-    return entryRepository.save(entry);
+    OutcomeMatrixEntry saved = entryRepository.save(entry);
+    chartsChanged();
+    return saved;
   }
 
   @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_BOOKER')")
   public void deleteEntry(@NonNull final Long entryId) {
     entryRepository.deleteById(entryId);
+    chartsChanged();
   }
 
   @Transactional(readOnly = true)
@@ -168,28 +185,21 @@ public class OutcomeMatrixService {
       final int diceRoll,
       @NonNull final Map<String, String> variables) {
 
-    OutcomeMatrix matrix =
-        matrixRepository
-            .findById(matrixId)
-            .orElseThrow(() -> new EntityNotFoundException("OutcomeMatrix not found: " + matrixId));
+    Chart chart = chartRegistry.chart(matrixId);
+    if (chart == null) {
+      throw new EntityNotFoundException("OutcomeMatrix not found: " + matrixId);
+    }
 
-    Optional<OutcomeMatrixEntry> entryOpt =
-        entryRepository.findByMatrixAndDiceRoll(matrix, diceRoll);
-    if (entryOpt.isEmpty()) {
+    Row row = chart.row(diceRoll);
+    if (row == null) {
       log.warn(
-          "No entry for diceRoll={} in matrix '{}' (id={})", diceRoll, matrix.getName(), matrixId);
+          "No entry for diceRoll={} in matrix '{}' (id={})",
+          diceRoll,
+          chart.matrix().getName(),
+          matrixId);
       return Optional.empty();
     }
-
-    OutcomeMatrixEntry entry = entryOpt.get();
-    String rendered = substituteVariables(entry.getTemplateText(), variables);
-
-    OutcomeMatrix redirect = null;
-    if (entry.isRedirect()) {
-      redirect = entry.getRedirectToMatrix();
-    }
-
-    return Optional.of(new OutcomeMatrixResult(entry, rendered, redirect));
+    return Optional.of(render(row, variables));
   }
 
   /**
@@ -202,23 +212,22 @@ public class OutcomeMatrixService {
   public Optional<OutcomeMatrixResult> resolveRandomRoll(
       @NonNull final OutcomeMatrixCategory category, @NonNull final Map<String, String> variables) {
 
-    List<OutcomeMatrix> matrices = matrixRepository.findByCategory(category);
-    if (matrices.isEmpty()) {
+    List<Chart> charts = chartRegistry.charts(category);
+    if (charts.isEmpty()) {
       log.warn("No outcome matrix found for category {}", category);
       return Optional.empty();
     }
 
-    OutcomeMatrix matrix = matrices.get(random.nextInt(matrices.size()));
-    List<OutcomeMatrixEntry> entries = entryRepository.findByMatrixOrderByDiceRollAsc(matrix);
-    if (entries.isEmpty()) {
-      log.warn("No entries in outcome matrix '{}' (id={})", matrix.getName(), matrix.getId());
+    Chart chart = charts.get(random.nextInt(charts.size()));
+    List<Row> rows = chart.rows();
+    if (rows.isEmpty()) {
+      log.warn(
+          "No entries in outcome matrix '{}' (id={})",
+          chart.matrix().getName(),
+          chart.matrix().getId());
       return Optional.empty();
     }
-
-    OutcomeMatrixEntry entry = entries.get(random.nextInt(entries.size()));
-    String rendered = substituteVariables(entry.getTemplateText(), variables);
-    OutcomeMatrix redirect = entry.isRedirect() ? entry.getRedirectToMatrix() : null;
-    return Optional.of(new OutcomeMatrixResult(entry, rendered, redirect));
+    return Optional.of(render(rows.get(random.nextInt(rows.size())), variables));
   }
 
   /**
@@ -320,11 +329,25 @@ public class OutcomeMatrixService {
     return DramaEventSeverity.NEUTRAL;
   }
 
-  private String substituteVariables(final String template, final Map<String, String> variables) {
-    String result = template;
-    for (Map.Entry<String, String> var : variables.entrySet()) {
-      result = result.replace(var.getKey(), var.getValue());
+  private static OutcomeMatrixResult render(
+      final Row row, final Map<String, String> variables) {
+    return new OutcomeMatrixResult(row.entry(), row.template().render(variables), row.redirect());
+  }
+
+  /**
+   * Reloads the chart registry. Reads later in the writing transaction see its uncommitted rows, so
+   * the registry is invalidated again once the transaction completes.
+   */
+  private void chartsChanged() {
+    chartRegistry.invalidate();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+              chartRegistry.invalidate();
+            }
+          });
     }
-    return result;
   }
 }
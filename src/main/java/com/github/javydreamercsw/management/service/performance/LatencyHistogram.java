@@ -0,0 +1,178 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.performance;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free, fixed-size latency histogram with log-linear buckets.
+ *
+ * <p>Each power-of-two range of nanoseconds is split into {@value #SUB_BUCKETS} linear
+ * sub-buckets, so every recorded value lands in a bucket whose width is at most ~6% of the value.
+ * Values above {@link #MAX_TRACKABLE_NANOS} (~18 minutes) are clamped into the last bucket. The
+ * bucket array is allocated once, so memory per histogram is constant (~5 KB) no matter how many
+ * samples are recorded.
+ */
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 4;
+  static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int MAX_OCTAVE = 40;
+
+  /** Largest value that gets its own bucket; anything above is clamped. */
+  static final long MAX_TRACKABLE_NANOS = (1L << (MAX_OCTAVE + 1)) - 1;
+
+  static final int BUCKET_COUNT = (MAX_OCTAVE - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Records a single latency sample.
+   *
+   * @param nanos the elapsed time in nanoseconds; negative values are treated as zero
+   */
+  public void record(final long nanos) {
+    long value = Math.min(Math.max(nanos, 0), MAX_TRACKABLE_NANOS);
+    buckets.incrementAndGet(bucketIndex(value));
+    count.increment();
+    sum.add(value);
+    max.accumulate(value);
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public long getMaxNanos() {
+    return max.get();
+  }
+
+  public double getMeanNanos() {
+    long n = count.sum();
+    return n == 0 ? 0 : (double) sum.sum() / n;
+  }
+
+  /**
+   * Returns the estimated value at the given percentile.
+   *
+   * @param percentile a value in {@code (0, 100]}
+   * @return the estimated latency in nanoseconds, or 0 if nothing was recorded
+   */
+  public long getValueAtPercentile(final double percentile) {
+    long[] counts = copyBuckets();
+    return valueAtPercentile(counts, total(counts), percentile);
+  }
+
+  /** Takes a consistent-enough snapshot of the common percentiles in a single bucket pass. */
+  public Snapshot snapshot() {
+    long[] counts = copyBuckets();
+    long total = total(counts);
+    return new Snapshot(
+        total,
+        getMeanNanos(),
+        valueAtPercentile(counts, total, 50),
+        valueAtPercentile(counts, total, 95),
+        valueAtPercentile(counts, total, 99),
+        max.get());
+  }
+
+  /** Clears all recorded samples. */
+  public void reset() {
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      buckets.set(i, 0);
+    }
+    count.reset();
+    sum.reset();
+    max.reset();
+  }
+
+  private long[] copyBuckets() {
+    long[] counts = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = buckets.get(i);
+    }
+    return counts;
+  }
+
+  private static long total(final long[] counts) {
+    long total = 0;
+    for (long c : counts) {
+      total += c;
+    }
+    return total;
+  }
+
+  private long valueAtPercentile(final long[] counts, final long total, final double percentile) {
+    if (total == 0) {
+      return 0;
+    }
+    double p = Math.min(Math.max(percentile, 0), 100);
+    long target = Math.max(1, (long) Math.ceil(p / 100.0 * total));
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= target) {
+        return Math.min(bucketMidpoint(i), max.get());
+      }
+    }
+    return max.get();
+  }
+
+  static int bucketIndex(final long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int octave = 63 - Long.numberOfLeadingZeros(value);
+    int shift = octave - SUB_BUCKET_BITS;
+    int sub = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+    return (shift + 1) * SUB_BUCKETS + sub;
+  }
+
+  static long bucketLowerBound(final int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int shift = index / SUB_BUCKETS - 1;
+    int sub = index % SUB_BUCKETS;
+    return (long) (SUB_BUCKETS + sub) << shift;
+  }
+
+  private static long bucketMidpoint(final int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int shift = index / SUB_BUCKETS - 1;
+    return bucketLowerBound(index) + ((1L << shift) >> 1);
+  }
+
+  /**
+   * Point-in-time view of a histogram. All values are in nanoseconds.
+   *
+   * @param count number of recorded samples
+   * @param mean arithmetic mean
+   * @param p50 median
+   * @param p95 95th percentile
+   * @param p99 99th percentile
+   * @param max largest recorded sample
+   */
+  public record Snapshot(long count, double mean, long p50, long p95, long p99, long max) {}
+}
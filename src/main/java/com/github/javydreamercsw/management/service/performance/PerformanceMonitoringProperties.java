@@ -0,0 +1,55 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.performance;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings for the service/repository/controller tracing done by {@code
+ * PerformanceMonitoringAspect} and the latency histograms in {@link PerformanceMonitoringService}.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "atw.performance.monitoring")
+@Data
+public class PerformanceMonitoringProperties {
+
+  /** Whether the tracing aspect is registered at all. */
+  private boolean enabled = true;
+
+  /**
+   * Initial fraction of calls (0.0 - 1.0) that are timed. Can be changed at runtime through {@link
+   * PerformanceMonitoringService#setSampleRate(double)}.
+   */
+  private double sampleRate = 1.0;
+
+  /**
+   * Maximum number of distinct latency series. Once reached, new operations are folded into a
+   * single overflow series so memory stays bounded.
+   */
+  private int maxOperations = 512;
+
+  /** Service calls slower than this are logged and counted as slow. */
+  private long serviceSlowThresholdMs = 500;
+
+  /** Repository calls slower than this are logged and counted as slow. */
+  private long repositorySlowThresholdMs = 100;
+
+  /** Controller calls slower than this are logged and counted as slow. */
+  private long controllerSlowThresholdMs = 2000;
+}
@@ -20,18 +20,21 @@ import com.github.javydreamercsw.management.config.CacheConfig.CacheMonitor;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
 import java.lang.management.ThreadMXBean;
-import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
@@ -49,7 +52,15 @@ public class PerformanceMonitoringService {
   // Performance metrics storage
   private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
   private final Map<String, AtomicLong> timers = new ConcurrentHashMap<>();
-  private final Map<String, Instant> operationStartTimes = new ConcurrentHashMap<>();
+  private final Map<String, Long> operationStartTimes = new ConcurrentHashMap<>();
+
+  /** Series name that absorbs new operations once {@code maxOperations} is reached. */
+  public static final String OVERFLOW_SERIES = "_other";
+
+  // Per-operation latency distributions, bounded by maxLatencySeries
+  private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+  private final int maxLatencySeries;
+  private volatile double sampleRate;
 
   // Historical data for charting
   private static final int MAX_HISTORY_POINTS = 100;
@@ -61,7 +72,16 @@ public class PerformanceMonitoringService {
   private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
 
   public PerformanceMonitoringService(@NonNull final CacheMonitor cacheMonitor) {
+    this(cacheMonitor, new PerformanceMonitoringProperties());
+  }
+
+  @Autowired
+  public PerformanceMonitoringService(
+      @NonNull final CacheMonitor cacheMonitor,
+      @NonNull final PerformanceMonitoringProperties properties) {
     this.cacheMonitor = cacheMonitor;
+    this.maxLatencySeries = Math.max(1, properties.getMaxOperations());
+    this.sampleRate = clampRate(properties.getSampleRate());
     // Record a dummy AI call to ensure charts have baseline data
     recordTimer("operations.duration.AI.Narration.System", 100);
     incrementCounter("operations.completed.AI.Narration.System");
@@ -82,16 +102,18 @@ public class PerformanceMonitoringService {
 
   /** Records the start of a performance-critical operation. */
   public void startOperation(@NonNull final String operationName) {
-    operationStartTimes.put(operationName, Instant.now());
+    operationStartTimes.put(operationName, System.nanoTime());
     incrementCounter("operations.started." + operationName);
   }
 
   /** Records the end of a performance-critical operation and calculates duration. */
   public void endOperation(@NonNull final String operationName) {
-    Instant startTime = operationStartTimes.remove(operationName);
+    Long startTime = operationStartTimes.remove(operationName);
     if (startTime != null) {
-      long durationMs = Duration.between(startTime, Instant.now()).toMillis();
+      long durationNanos = System.nanoTime() - startTime;
+      long durationMs = TimeUnit.NANOSECONDS.toMillis(durationNanos);
       recordTimer("operations.duration." + operationName, durationMs);
+      recordLatency("operations.duration." + operationName, durationNanos);
       incrementCounter("operations.completed." + operationName);
 
       // Log slow operations
@@ -117,6 +139,26 @@ public class PerformanceMonitoringService {
     incrementCounter("ai.requests." + provider);
   }
 
+  /**
+   * Records an AI response served from the narration cache instead of the provider.
+   *
+   * @param provider The AI provider name
+   * @param tier The cache tier that answered, e.g. {@code memory} or {@code disk}
+   */
+  public void recordAiCacheHit(@NonNull final String provider, @NonNull final String tier) {
+    incrementCounter("ai.cache.hits." + provider);
+    incrementCounter("ai.cache.hits." + tier);
+  }
+
+  /**
+   * Records a narration cache miss, i.e. a lookup that had to go to the provider.
+   *
+   * @param provider The AI provider name
+   */
+  public void recordAiCacheMiss(@NonNull final String provider) {
+    incrementCounter("ai.cache.misses." + provider);
+  }
+
   /** Increments a counter metric. */
   public void incrementCounter(final String counterName) {
     incrementCounter(counterName, 1);
@@ -137,6 +179,103 @@ public class PerformanceMonitoringService {
     timers.computeIfAbsent(timerName, k -> new AtomicLong(0)).addAndGet(durationMs);
   }
 
+  /**
+   * Records a latency sample into the histogram for the given operation. Once {@code
+   * maxOperations} distinct series exist, samples for unseen operations go to {@link
+   * #OVERFLOW_SERIES} instead of allocating a new histogram.
+   *
+   * @param operationName The operation name; callers should pass a pre-built, stable string
+   * @param durationNanos The elapsed time in nanoseconds
+   */
+  public void recordLatency(@NonNull final String operationName, final long durationNanos) {
+    LatencyHistogram histogram = latencies.get(operationName);
+    if (histogram == null) {
+      histogram =
+          latencies.size() < maxLatencySeries
+              ? latencies.computeIfAbsent(operationName, k -> new LatencyHistogram())
+              : latencies.computeIfAbsent(OVERFLOW_SERIES, k -> new LatencyHistogram());
+    }
+    histogram.record(durationNanos);
+  }
+
+  /**
+   * Decides whether the current call should be timed, according to the runtime sample rate.
+   *
+   * @return true if the caller should record this call
+   */
+  public boolean shouldSample() {
+    double rate = sampleRate;
+    return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+  }
+
+  /** Gets the fraction of calls currently being timed. */
+  public double getSampleRate() {
+    return sampleRate;
+  }
+
+  /**
+   * Changes the fraction of calls that are timed. Takes effect immediately for all threads.
+   *
+   * @param rate A value between 0.0 (off) and 1.0 (every call); out-of-range values are clamped
+   */
+  @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+  public void setSampleRate(final double rate) {
+    this.sampleRate = clampRate(rate);
+    log.info("📐 Performance sampling rate set to {}", this.sampleRate);
+  }
+
+  /**
+   * Gets the latency distribution for every tracked operation, in milliseconds.
+   *
+   * @return Operation name to percentile summary, sorted by name
+   */
+  public Map<String, LatencyStats> getLatencyStats() {
+    Map<String, LatencyStats> stats = new TreeMap<>();
+    latencies.forEach((name, histogram) -> stats.put(name, LatencyStats.of(histogram.snapshot())));
+    return stats;
+  }
+
+  /**
+   * Gets the latency distribution for a single operation.
+   *
+   * @param operationName The operation name
+   * @return The percentile summary in milliseconds, or null if never recorded
+   */
+  public LatencyStats getLatencyStats(@NonNull final String operationName) {
+    LatencyHistogram histogram = latencies.get(operationName);
+    return histogram == null ? null : LatencyStats.of(histogram.snapshot());
+  }
+
+  /**
+   * Percentile summary of one operation's latency histogram, in milliseconds.
+   *
+   * @param count Number of samples
+   * @param meanMs Mean latency
+   * @param p50Ms Median latency
+   * @param p95Ms 95th percentile latency
+   * @param p99Ms 99th percentile latency
+   * @param maxMs Maximum latency
+   */
+  public record LatencyStats(
+      long count, double meanMs, double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+
+    private static final double NANOS_PER_MS = 1_000_000.0;
+
+    static LatencyStats of(final LatencyHistogram.Snapshot snapshot) {
+      return new LatencyStats(
+          snapshot.count(),
+          snapshot.mean() / NANOS_PER_MS,
+          snapshot.p50() / NANOS_PER_MS,
+          snapshot.p95() / NANOS_PER_MS,
+          snapshot.p99() / NANOS_PER_MS,
+          snapshot.max() / NANOS_PER_MS);
+    }
+  }
+
+  private static double clampRate(final double rate) {
+    return Math.min(Math.max(rate, 0.0), 1.0);
+  }
+
   /** Gets the current value of a counter. */
   public long getCounter(@NonNull final String counterName) {
     AtomicLong counter = counters.get(counterName);
@@ -157,6 +296,8 @@ public class PerformanceMonitoringService {
     // Application metrics
     metrics.put("counters", new HashMap<>(counters));
     metrics.put("timers", new HashMap<>(timers));
+    metrics.put("latencies", getLatencyStats());
+    metrics.put("sampleRate", sampleRate);
     metrics.put("activeOperations", operationStartTimes.size());
 
     // JVM metrics
@@ -333,6 +474,7 @@ public class PerformanceMonitoringService {
     counters.clear();
     timers.clear();
     operationStartTimes.clear();
+    latencies.clear();
     log.info("🔄 Performance metrics reset");
   }
 
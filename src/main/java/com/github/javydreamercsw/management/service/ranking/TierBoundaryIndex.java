@@ -0,0 +1,119 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.ranking;
+
+import com.github.javydreamercsw.base.domain.wrestler.TierBoundary;
+import com.github.javydreamercsw.base.domain.wrestler.WrestlerTier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import lombok.NonNull;
+
+/**
+ * Immutable fan-count to tier lookup for one gender's {@link TierBoundary} set.
+ *
+ * <p>The fan axis is cut at every boundary edge (and every default {@link WrestlerTier} edge) into
+ * bands inside which the resolved tier cannot change. Each band's tier is resolved once at build
+ * time using the same rules as the former linear scan (the first matching boundary in tier order,
+ * then the default tier ranges, then {@link WrestlerTier#ROOKIE}); a lookup is then a binary search
+ * over the band starts.
+ */
+public final class TierBoundaryIndex {
+
+  /** Index that only knows the default {@link WrestlerTier} ranges. */
+  public static final TierBoundaryIndex DEFAULTS = of(List.of());
+
+  private final long[] bandStarts;
+  private final WrestlerTier[] bandTiers;
+
+  private TierBoundaryIndex(final long[] bandStarts, final WrestlerTier[] bandTiers) {
+    this.bandStarts = bandStarts;
+    this.bandTiers = bandTiers;
+  }
+
+  public static TierBoundaryIndex of(@NonNull final Collection<TierBoundary> boundaries) {
+    List<TierBoundary> ordered = new ArrayList<>();
+    for (TierBoundary boundary : boundaries) {
+      if (boundary.getTier() != null
+          && boundary.getMinFans() != null
+          && boundary.getMaxFans() != null) {
+        ordered.add(boundary);
+      }
+    }
+    // Same scan order as the former linear lookup: by tier ordinal.
+    ordered.sort(Comparator.comparingInt(b -> b.getTier().ordinal()));
+
+    TreeSet<Long> edges = new TreeSet<>();
+    edges.add(Long.MIN_VALUE);
+    for (TierBoundary boundary : ordered) {
+      addEdges(edges, boundary.getMinFans(), boundary.getMaxFans());
+    }
+    for (WrestlerTier tier : WrestlerTier.values()) {
+      addEdges(edges, tier.getMinFans(), tier.getMaxFans());
+    }
+
+    long[] starts = new long[edges.size()];
+    WrestlerTier[] tiers = new WrestlerTier[edges.size()];
+    int i = 0;
+    for (long start : edges) {
+      starts[i] = start;
+      tiers[i] = resolveLinear(ordered, start);
+      i++;
+    }
+    return new TierBoundaryIndex(starts, tiers);
+  }
+
+  private static void addEdges(final TreeSet<Long> edges, final long min, final long max) {
+    edges.add(min);
+    if (max < Long.MAX_VALUE) {
+      edges.add(max + 1);
+    }
+  }
+
+  private static WrestlerTier resolveLinear(final List<TierBoundary> ordered, final long fans) {
+    for (TierBoundary boundary : ordered) {
+      if (fans >= boundary.getMinFans() && fans <= boundary.getMaxFans()) {
+        return boundary.getTier();
+      }
+    }
+    return Arrays.stream(WrestlerTier.values())
+        .filter(tier -> fans >= tier.getMinFans() && fans <= tier.getMaxFans())
+        .findFirst()
+        .orElse(WrestlerTier.ROOKIE);
+  }
+
+  private int band(final long fans) {
+    int pos = Arrays.binarySearch(bandStarts, fans);
+    return pos >= 0 ? pos : -pos - 2;
+  }
+
+  /** Returns the tier for the given fan count. Never allocates. */
+  public WrestlerTier tierFor(final long fans) {
+    return bandTiers[band(fans)];
+  }
+
+  /**
+   * Whether moving from {@code oldFans} to {@code newFans} may change the tier, i.e. whether the
+   * two counts fall in different bands.
+   */
+  public boolean crossesBoundary(final long oldFans, final long newFans) {
+    return band(oldFans) != band(newFans);
+  }
+}
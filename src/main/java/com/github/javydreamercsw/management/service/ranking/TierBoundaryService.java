@@ -22,9 +22,12 @@ import com.github.javydreamercsw.base.domain.wrestler.TierBoundaryRepository;
 import com.github.javydreamercsw.base.domain.wrestler.WrestlerTier;
 import com.github.javydreamercsw.management.config.CacheConfig;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
@@ -37,6 +40,9 @@ public class TierBoundaryService {
 
   private final TierBoundaryRepository tierBoundaryRepository;
 
+  /** Lookup indexes built from the stored boundaries, dropped whenever a boundary is written. */
+  private final Map<Gender, TierBoundaryIndex> indexes = new ConcurrentHashMap<>();
+
   @PreAuthorize("isAuthenticated()")
   public Optional<TierBoundary> findByTierAndGender(final WrestlerTier tier, final Gender gender) {
     return tierBoundaryRepository.findByTierAndGender(tier, gender);
@@ -44,8 +50,21 @@ public class TierBoundaryService {
 
   @PreAuthorize(
       "hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_SYSTEM') or hasAuthority('ROLE_BOOKER')")
+  @CacheEvict(value = CacheConfig.TIER_BOUNDARIES_CACHE, key = "#tierBoundary.gender")
   public TierBoundary save(final TierBoundary tierBoundary) {
-    return tierBoundaryRepository.save(tierBoundary);
+    TierBoundary saved = tierBoundaryRepository.save(tierBoundary);
+    indexes.remove(tierBoundary.getGender());
+    return saved;
+  }
+
+  /**
+   * Returns the in-memory tier lookup for a gender, building it from the stored boundaries on first
+   * use after a change.
+   */
+  @PreAuthorize("isAuthenticated()")
+  public TierBoundaryIndex getIndex(final Gender gender) {
+    return indexes.computeIfAbsent(
+        gender, g -> TierBoundaryIndex.of(tierBoundaryRepository.findAllByGender(g)));
   }
 
   @PreAuthorize("isAuthenticated()")
@@ -56,6 +75,7 @@ public class TierBoundaryService {
 
   @Transactional
   @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_SYSTEM')")
+  @CacheEvict(value = CacheConfig.TIER_BOUNDARIES_CACHE, allEntries = true)
   public void resetTierBoundaries() {
     log.debug("Current boundaries: {}", tierBoundaryRepository.count());
     tierBoundaryRepository.deleteAllInBatch();
@@ -74,5 +94,6 @@ public class TierBoundaryService {
       }
     }
     tierBoundaryRepository.saveAll(boundaries);
+    indexes.clear();
   }
 }
@@ -24,8 +24,10 @@ import com.github.javydreamercsw.base.service.ranking.RankingService;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerState;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerStateRepository;
 import com.github.javydreamercsw.management.service.universe.UniverseContextService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collection;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +35,7 @@ import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -48,6 +51,11 @@ public class TierRecalculationService implements RankingService {
   private final UniverseContextService universeContextService;
   private final TierDistributionConfig tierDistributionConfig;
 
+  @PersistenceContext private EntityManager entityManager;
+
+  /** Keeps the {@code IN} list of a bulk tier update well below database parameter limits. */
+  private static final int UPDATE_CHUNK_SIZE = 1_000;
+
   @Override
   public void recalculateRanking(final List<WrestlerData> wrestlersData) {
     log.debug("Starting tier recalculation...");
@@ -59,6 +67,7 @@ public class TierRecalculationService implements RankingService {
       Gender gender = entry.getKey();
       List<WrestlerData> genderWrestlers = entry.getValue();
       long totalFans = genderWrestlers.stream().mapToLong(WrestlerData::getFans).sum();
+      List<TierBoundary> genderBoundaries = new ArrayList<>();
 
       if (totalFans == 0) {
         // All wrestlers have 0 fans, so use default tier boundaries
@@ -71,7 +80,7 @@ public class TierRecalculationService implements RankingService {
           boundary.setMaxFans(tier.getMaxFans());
           boundary.setChallengeCost(tier.getChallengeCost());
           boundary.setContenderEntryFee(tier.getContenderEntryFee());
-          tierBoundaryService.save(boundary);
+          genderBoundaries.add(tierBoundaryService.save(boundary));
         }
       } else {
         genderWrestlers.sort((w1, w2) -> w2.getFans().compareTo(w1.getFans()));
@@ -151,30 +160,24 @@ public class TierRecalculationService implements RankingService {
           boundary.setMaxFans(maxFansForNextLowerTier);
           boundary.setChallengeCost(Math.max(0, minFans / 100));
           boundary.setContenderEntryFee(Math.max(0, minFans / 200));
-          tierBoundaryService.save(boundary);
+          genderBoundaries.add(tierBoundaryService.save(boundary));
 
           maxFansForNextLowerTier = Math.max(0, minFans - 1);
           currentWrestlerIndex += numWrestlersInTier;
         }
       }
 
-      // Update wrestler tiers based on new boundaries
+      // Update wrestler tiers based on new boundaries, without re-reading them per wrestler
+      TierBoundaryIndex index = TierBoundaryIndex.of(genderBoundaries);
+      Map<WrestlerTier, List<WrestlerState>> changes = new EnumMap<>(WrestlerTier.class);
       for (WrestlerData wrestlerData : genderWrestlers) {
-        WrestlerTier newTier = calculateTier(wrestlerData.getFans(), wrestlerData.getGender());
-        if (newTier != null) {
-          if (wrestlerData instanceof WrestlerState state && state.getTier() != newTier) {
-            log.debug(
-                "Updating {}'s tier from {} to {}", state.getName(), state.getTier(), newTier);
-            state.setTier(newTier);
-            wrestlerStateRepository.save(state);
-          } else {
-            log.warn(
-                "Wrestler {} with {} fans does not match any tier!",
-                wrestlerData.getName(),
-                wrestlerData.getFans());
-          }
+        WrestlerTier newTier = index.tierFor(wrestlerData.getFans());
+        if (wrestlerData instanceof WrestlerState state && state.getTier() != newTier) {
+          log.debug("Updating {}'s tier from {} to {}", state.getName(), state.getTier(), newTier);
+          changes.computeIfAbsent(newTier, t -> new ArrayList<>()).add(state);
         }
       }
+      applyTierChanges(changes);
     }
     log.debug("Tier recalculation finished.");
   }
@@ -185,6 +188,30 @@ public class TierRecalculationService implements RankingService {
     recalculateRanking(new ArrayList<>(states));
   }
 
+  /**
+   * Incremental re-tiering against the current boundaries: only wrestlers whose fan count now falls
+   * in a different tier are touched, and those are written with one bulk update per tier.
+   *
+   * @return the number of wrestlers whose tier changed
+   */
+  @PreAuthorize("hasAnyRole('ADMIN', 'BOOKER')")
+  public int recalculateChangedTiers(@NonNull final Collection<WrestlerState> states) {
+    Map<Gender, TierBoundaryIndex> indexes = new EnumMap<>(Gender.class);
+    Map<WrestlerTier, List<WrestlerState>> changes = new EnumMap<>(WrestlerTier.class);
+    int changed = 0;
+    for (WrestlerState state : states) {
+      TierBoundaryIndex index =
+          indexes.computeIfAbsent(state.getGender(), tierBoundaryService::getIndex);
+      WrestlerTier newTier = index.tierFor(state.getFans());
+      if (state.getTier() != newTier) {
+        changes.computeIfAbsent(newTier, t -> new ArrayList<>()).add(state);
+        changed++;
+      }
+    }
+    applyTierChanges(changes);
+    return changed;
+  }
+
   @Transactional
   @PreAuthorize("hasAnyRole('ADMIN', 'BOOKER')")
   public void recalculateTier(final WrestlerData wrestlerData) {
@@ -197,20 +224,73 @@ public class TierRecalculationService implements RankingService {
     }
   }
 
+  /**
+   * Re-tiers {@code state} after its fans moved from {@code oldFans}, but only when the move
+   * crosses a tier boundary (or the state has no tier yet). The caller saves the state.
+   *
+   * @return whether the tier changed
+   */
+  @PreAuthorize("hasAnyRole('ADMIN', 'BOOKER')")
+  public boolean updateTierForFanChange(@NonNull final WrestlerState state, final long oldFans) {
+    TierBoundaryIndex index = tierBoundaryService.getIndex(state.getGender());
+    if (state.getTier() != null && !index.crossesBoundary(oldFans, state.getFans())) {
+      return false;
+    }
+    WrestlerTier newTier = index.tierFor(state.getFans());
+    if (state.getTier() == newTier) {
+      return false;
+    }
+    log.debug("Updating {}'s tier from {} to {}", state.getName(), state.getTier(), newTier);
+    state.setTier(newTier);
+    return true;
+  }
+
+  /**
+   * Persists tier changes. Stored states are written with a single bulk update per target tier;
+   * states that were never saved fall back to a regular save. The new tier is then mirrored onto
+   * the in-memory states; see {@link #mirrorTier}.
+   */
+  private void applyTierChanges(final Map<WrestlerTier, List<WrestlerState>> changes) {
+    for (Map.Entry<WrestlerTier, List<WrestlerState>> entry : changes.entrySet()) {
+      WrestlerTier tier = entry.getKey();
+      List<Long> ids = new ArrayList<>();
+      for (WrestlerState state : entry.getValue()) {
+        if (state.getId() != null) {
+          ids.add(state.getId());
+        }
+      }
+      for (int from = 0; from < ids.size(); from += UPDATE_CHUNK_SIZE) {
+        wrestlerStateRepository.updateTierByIds(
+            tier, ids.subList(from, Math.min(ids.size(), from + UPDATE_CHUNK_SIZE)));
+      }
+      for (WrestlerState state : entry.getValue()) {
+        if (state.getId() == null) {
+          state.setTier(tier);
+          wrestlerStateRepository.save(state);
+        } else {
+          mirrorTier(state, tier);
+        }
+      }
+    }
+  }
+
+  /**
+   * Sets a tier the bulk update has already stored. A state managed by the current persistence
+   * context is briefly made read-only, so the new tier becomes part of its snapshot rather than a
+   * pending change that would be written a second time; the bulk update flushed everything else.
+   */
+  private void mirrorTier(final WrestlerState state, final WrestlerTier tier) {
+    if (entityManager == null || !entityManager.contains(state)) {
+      state.setTier(tier);
+      return;
+    }
+    Session session = entityManager.unwrap(Session.class);
+    session.setReadOnly(state, true);
+    state.setTier(tier);
+    session.setReadOnly(state, false);
+  }
+
   private WrestlerTier calculateTier(final long fans, @NonNull final Gender gender) {
-    List<TierBoundary> boundaries = new ArrayList<>(tierBoundaryService.findAllByGender(gender));
-    // Sort by prestige (ICON first)
-    boundaries.sort(Comparator.comparingInt(b -> b.getTier().ordinal()));
-
-    return boundaries.stream()
-        .filter(boundary -> fans >= boundary.getMinFans() && fans <= boundary.getMaxFans())
-        .map(TierBoundary::getTier)
-        .findFirst()
-        .orElseGet(
-            () ->
-                java.util.Arrays.stream(WrestlerTier.values())
-                    .filter(tier -> fans >= tier.getMinFans() && fans <= tier.getMaxFans())
-                    .findFirst()
-                    .orElse(WrestlerTier.ROOKIE));
+    return tierBoundaryService.getIndex(gender).tierFor(fans);
   }
 }
@@ -0,0 +1,106 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.relationship;
+
+import com.github.javydreamercsw.management.domain.faction.Faction;
+import com.github.javydreamercsw.management.domain.rivalry.Rivalry;
+import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
+import com.github.javydreamercsw.management.domain.wrestler.WrestlerState;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.NonNull;
+
+/**
+ * Pairwise view of a segment's participants in one universe: the active rivalry between each pair,
+ * if any, and whether the two share a faction. It is built from rivalries loaded up front, so a
+ * thirty-man Rumble walks its 435 pairs in memory instead of querying once per pair.
+ */
+public final class WrestlerPairGraph {
+
+  /**
+   * Two participants in segment order.
+   *
+   * @param rivalry The active rivalry between them, or {@code null} if there is none
+   * @param teammates Whether both belong to the same faction in the graph's universe
+   */
+  public record Pair(Wrestler first, Wrestler second, Rivalry rivalry, boolean teammates) {}
+
+  private record PairKey(long low, long high) {
+    static PairKey of(final long a, final long b) {
+      return a <= b ? new PairKey(a, b) : new PairKey(b, a);
+    }
+  }
+
+  private final List<Pair> pairs;
+
+  private WrestlerPairGraph(final List<Pair> pairs) {
+    this.pairs = pairs;
+  }
+
+  /**
+   * Builds the graph for {@code participants}. Rivalries that do not join two participants are
+   * ignored, as are participants without an id.
+   *
+   * @param participants Segment participants, in segment order
+   * @param universeId Universe whose faction membership applies
+   * @param rivalries Active rivalries among the participants
+   */
+  public static WrestlerPairGraph of(
+      @NonNull final List<Wrestler> participants,
+      @NonNull final Long universeId,
+      @NonNull final Collection<Rivalry> rivalries) {
+    Map<PairKey, Rivalry> rivalryByPair = new HashMap<>();
+    for (Rivalry rivalry : rivalries) {
+      Long w1 = rivalry.getWrestler1() == null ? null : rivalry.getWrestler1().getId();
+      Long w2 = rivalry.getWrestler2() == null ? null : rivalry.getWrestler2().getId();
+      if (w1 != null && w2 != null) {
+        rivalryByPair.putIfAbsent(PairKey.of(w1, w2), rivalry);
+      }
+    }
+
+    List<Faction> factions = new ArrayList<>(participants.size());
+    for (Wrestler wrestler : participants) {
+      factions.add(wrestler.getState(universeId).map(WrestlerState::getFaction).orElse(null));
+    }
+
+    int size = participants.size();
+    List<Pair> pairs = new ArrayList<>(size * Math.max(0, size - 1) / 2);
+    for (int i = 0; i < size; i++) {
+      Wrestler wi = participants.get(i);
+      for (int j = i + 1; j < size; j++) {
+        Wrestler wj = participants.get(j);
+        Rivalry rivalry =
+            wi.getId() == null || wj.getId() == null
+                ? null
+                : rivalryByPair.get(PairKey.of(wi.getId(), wj.getId()));
+        boolean teammates =
+            factions.get(i) != null && Objects.equals(factions.get(i), factions.get(j));
+        pairs.add(new Pair(wi, wj, rivalry, teammates));
+      }
+    }
+    return new WrestlerPairGraph(List.copyOf(pairs));
+  }
+
+  /** Every unordered pair of participants, in segment order. */
+  public List<Pair> pairs() {
+    return pairs;
+  }
+}
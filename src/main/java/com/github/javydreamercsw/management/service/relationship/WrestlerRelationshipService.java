@@ -181,23 +181,18 @@ public class WrestlerRelationshipService {
     };
   }
 
-  /** Calculate chemistry bonus for a set of wrestlers. */
+  /**
+   * Calculate chemistry bonus for a set of wrestlers. Every relationship among them is loaded in
+   * one query, so a Rumble costs the same round trip as a singles match.
+   */
   public double calculateChemistryBonus(final List<Wrestler> wrestlers) {
     if (wrestlers == null || wrestlers.size() < 2) {
       return 0.0;
     }
 
     double totalBonus = 0.0;
-
-    for (int i = 0; i < wrestlers.size(); i++) {
-      for (int j = i + 1; j < wrestlers.size(); j++) {
-        List<WrestlerRelationship> relationships =
-            relationshipRepository.findBetweenWrestlers(wrestlers.get(i), wrestlers.get(j));
-
-        for (WrestlerRelationship rel : relationships) {
-          totalBonus += calculatePairBonus(rel);
-        }
-      }
+    for (WrestlerRelationship rel : relationshipRepository.findAmongWrestlers(wrestlers)) {
+      totalBonus += calculatePairBonus(rel);
     }
 
     // Return an average bonus based on pairs, or some other formula
@@ -16,16 +16,22 @@
 */
 package com.github.javydreamercsw.management.service.rivalry;
 
-import com.github.javydreamercsw.management.domain.rivalry.HeatEvent;
-import com.github.javydreamercsw.management.domain.rivalry.Rivalry;
 import com.github.javydreamercsw.management.domain.rivalry.RivalryRepository;
+import com.github.javydreamercsw.management.domain.rivalry.RivalryRepository.RivalryHeat;
 import com.github.javydreamercsw.management.service.GameSettingService;
+import com.github.javydreamercsw.management.service.performance.PerformanceMonitoringService;
+import java.sql.Timestamp;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.function.IntUnaryOperator;
+import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -33,14 +39,35 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Nightly rivalry maintenance: heat decay for inactive rivalries and auto-closing of rivalries past
+ * their maximum duration.
+ *
+ * <p>Both jobs are set-based. Candidates are selected by one query per page of {@link #PAGE_SIZE}
+ * rivalries (the decay query aggregates the latest heat event date per rivalry instead of loading
+ * the heat history), changed with a bulk update, and the matching {@code heat_event} rows are
+ * written with a JDBC batch insert.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RivalryDecayService {
 
+  static final int PAGE_SIZE = 500;
+
+  private static final String DECAY_REASON = "Automatic heat decay";
+
+  private static final String INSERT_HEAT_EVENT =
+      """
+      INSERT INTO heat_event (rivalry_id, heat_change, heat_after_event, reason, event_date,\
+       creation_date) VALUES (?, ?, ?, ?, ?, ?)\
+      """;
+
   private final RivalryRepository rivalryRepository;
   private final GameSettingService gameSettingService;
   private final Clock clock;
+  private final JdbcTemplate jdbcTemplate;
+  private final PerformanceMonitoringService performanceMonitoringService;
 
   /** Runs nightly to apply heat decay and auto-close stale rivalries. */
   @Scheduled(cron = "0 0 3 * * *")
@@ -55,47 +82,40 @@ public class RivalryDecayService {
     }
   }
 
-  /** Decays heat on rivalries that have had no activity for the configured interval. */
+  /**
+   * Decays heat on rivalries that have had no activity for the configured interval.
+   *
+   * @return The number of rivalries whose heat was decayed
+   */
   @Transactional
-  public void applyHeatDecay() {
+  public int applyHeatDecay() {
     if (!gameSettingService.isRivalryHeatDecayEnabled()) {
-      return;
+      return 0;
     }
 
     int decayAmount = gameSettingService.getRivalryHeatDecayPerInterval();
     int intervalDays = gameSettingService.getRivalryHeatDecayIntervalDays();
-    Instant cutoff = Instant.now(clock).minus(intervalDays, ChronoUnit.DAYS);
+    Instant now = Instant.now(clock);
+    Instant cutoff = now.minus(intervalDays, ChronoUnit.DAYS);
+    long start = System.nanoTime();
 
-    List<Rivalry> candidates = rivalryRepository.findByIsActiveTrue();
+    Pageable page = PageRequest.of(0, PAGE_SIZE);
     int decayed = 0;
-    for (Rivalry rivalry : candidates) {
-      if (rivalry.getHeat() <= 0) {
-        continue;
-      }
-      Instant lastActivity = latestHeatEventDate(rivalry);
-      if (lastActivity == null || lastActivity.isBefore(cutoff)) {
-        int oldHeat = rivalry.getHeat();
-        int newHeat = Math.max(0, oldHeat - decayAmount);
-        rivalry.setHeat(newHeat);
-
-        HeatEvent event = new HeatEvent();
-        event.setRivalry(rivalry);
-        event.setHeatChange(-decayAmount);
-        event.setReason("Automatic heat decay");
-        event.setEventDate(Instant.now(clock));
-        event.setHeatAfterEvent(newHeat);
-        rivalry.getHeatEvents().add(event);
-
-        rivalryRepository.save(rivalry);
-        decayed++;
-        log.debug(
-            "Decayed rivalry {} heat {} → {} (last activity: {})",
-            rivalry.getId(),
-            oldHeat,
-            newHeat,
-            lastActivity);
+    long afterId = 0;
+    while (true) {
+      List<RivalryHeat> batch = rivalryRepository.findStaleActiveRivalries(cutoff, afterId, page);
+      if (batch.isEmpty()) {
+        break;
       }
+      List<Long> ids = batch.stream().map(RivalryHeat::getId).toList();
+      rivalryRepository.decayHeat(ids, decayAmount);
+      insertHeatEvents(
+          batch, -decayAmount, heat -> Math.max(0, heat - decayAmount), DECAY_REASON, now);
+      decayed += batch.size();
+      afterId = ids.getLast();
     }
+
+    recordRun("rivalry.decay", decayed, start);
     if (decayed > 0) {
       log.info(
           "Heat decay applied to {} rivalries (amount: {}, interval: {}d)",
@@ -103,41 +123,76 @@ public class RivalryDecayService {
           decayAmount,
           intervalDays);
     }
+    return decayed;
   }
 
-  /** Auto-closes rivalries that have exceeded the configured maximum duration. */
+  /**
+   * Auto-closes rivalries that have exceeded the configured maximum duration.
+   *
+   * @return The number of rivalries closed
+   */
   @Transactional
-  public void closeExpiredRivalries() {
+  public int closeExpiredRivalries() {
     int maxDays = gameSettingService.getRivalryMaxDurationDays();
     if (maxDays <= 0) {
-      return;
+      return 0;
     }
 
-    Instant expiryDate = Instant.now(clock).minus(maxDays, ChronoUnit.DAYS);
-    List<Rivalry> candidates = rivalryRepository.findByIsActiveTrue();
+    Instant now = Instant.now(clock);
+    Instant expiryDate = now.minus(maxDays, ChronoUnit.DAYS);
+    String reason = "Rivalry ended: Exceeded maximum rivalry duration (%dd)".formatted(maxDays);
+    long start = System.nanoTime();
+
+    Pageable page = PageRequest.of(0, PAGE_SIZE);
     int closed = 0;
-    for (Rivalry rivalry : candidates) {
-      if (rivalry.getStartedDate() != null && rivalry.getStartedDate().isBefore(expiryDate)) {
-        rivalry.endRivalry("Exceeded maximum rivalry duration (%dd)".formatted(maxDays));
-        rivalryRepository.save(rivalry);
-        closed++;
-        log.info(
-            "Auto-closed rivalry {} (started: {}, max duration: {}d)",
-            rivalry.getId(),
-            rivalry.getStartedDate(),
-            maxDays);
+    long afterId = 0;
+    while (true) {
+      List<RivalryHeat> batch =
+          rivalryRepository.findActiveRivalriesStartedBefore(expiryDate, afterId, page);
+      if (batch.isEmpty()) {
+        break;
       }
+      List<Long> ids = batch.stream().map(RivalryHeat::getId).toList();
+      rivalryRepository.endRivalries(ids, now);
+      insertHeatEvents(batch, 0, heat -> heat, reason, now);
+      closed += batch.size();
+      afterId = ids.getLast();
+      log.debug("Auto-closed rivalries {} (max duration: {}d)", ids, maxDays);
     }
+
+    recordRun("rivalry.close", closed, start);
     if (closed > 0) {
       log.info("Auto-closed {} expired rivalries (max duration: {}d)", closed, maxDays);
     }
+    return closed;
+  }
+
+  private void insertHeatEvents(
+      @NonNull final List<RivalryHeat> rivalries,
+      final int heatChange,
+      @NonNull final IntUnaryOperator heatAfter,
+      @NonNull final String reason,
+      @NonNull final Instant eventDate) {
+    Timestamp timestamp = Timestamp.from(eventDate);
+    jdbcTemplate.batchUpdate(
+        INSERT_HEAT_EVENT,
+        rivalries,
+        rivalries.size(),
+        (ps, rivalry) -> {
+          ps.setLong(1, rivalry.getId());
+          ps.setInt(2, heatChange);
+          ps.setInt(3, heatAfter.applyAsInt(rivalry.getHeat()));
+          ps.setString(4, reason);
+          ps.setTimestamp(5, timestamp);
+          ps.setTimestamp(6, timestamp);
+        });
   }
 
-  private Instant latestHeatEventDate(final Rivalry rivalry) {
-    return rivalry.getHeatEvents().stream()
-        .map(HeatEvent::getEventDate)
-        .max(Instant::compareTo)
-        .orElse(null);
+  private void recordRun(final String metric, final int rivalries, final long startNanos) {
+    long elapsed = System.nanoTime() - startNanos;
+    performanceMonitoringService.incrementCounter(metric + ".rivalries", rivalries);
+    performanceMonitoringService.incrementCounter(metric + ".heatEvents", rivalries);
+    performanceMonitoringService.recordLatency(metric + ".duration", elapsed);
   }
 
   private void elevateToSystem() {
@@ -32,6 +32,7 @@ import com.github.javydreamercsw.management.service.GameSettingService;
 import com.github.javydreamercsw.management.service.resolution.ResolutionResult;
 import java.time.Clock;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import lombok.Getter;
@@ -142,6 +143,39 @@ public class RivalryService {
             });
   }
 
+  /**
+   * Add the same heat to several rivalries with a single flush. Inactive rivalries are skipped and
+   * a {@link HeatChangeEvent} is still published for each one that changed.
+   */
+  @PreAuthorize(
+      "hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_BOOKER') or hasAuthority('ROLE_SYSTEM')")
+  @org.springframework.cache.annotation.CacheEvict(
+      value = com.github.javydreamercsw.management.config.CacheConfig.RIVALRIES_CACHE,
+      allEntries = true)
+  public List<Rivalry> addHeat(
+      @NonNull final Collection<Rivalry> rivalries,
+      final int heatGain,
+      @NonNull final String reason) {
+    List<Rivalry> active = rivalries.stream().filter(Rivalry::getIsActive).toList();
+    if (active.isEmpty()) {
+      return List.of();
+    }
+    int[] oldHeat = active.stream().mapToInt(Rivalry::getHeat).toArray();
+    active.forEach(rivalry -> rivalry.addHeat(heatGain, reason));
+    List<Rivalry> saved = rivalryRepository.saveAllAndFlush(active);
+    for (int i = 0; i < saved.size(); i++) {
+      Rivalry rivalry = saved.get(i);
+      eventPublisher.publishEvent(
+          new HeatChangeEvent(
+              this,
+              rivalry,
+              oldHeat[i],
+              reason,
+              List.of(rivalry.getWrestler1(), rivalry.getWrestler2())));
+    }
+    return saved;
+  }
+
   /** Add heat between two specific wrestlers in the Default Universe. */
   @PreAuthorize(
       "hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_BOOKER') or hasAuthority('ROLE_SYSTEM')")
@@ -457,6 +491,16 @@ public class RivalryService {
     return rivalryRepository.findActiveRivalryBetween(wrestler1Opt.get(), wrestler2Opt.get());
   }
 
+  /** Active rivalries between any two of the given wrestlers, loaded in one query. */
+  @Transactional(readOnly = true)
+  @PreAuthorize("isAuthenticated()")
+  public List<Rivalry> getActiveRivalriesAmong(@NonNull final Collection<Wrestler> wrestlers) {
+    if (wrestlers.size() < 2) {
+      return List.of();
+    }
+    return rivalryRepository.findActiveRivalriesAmong(wrestlers);
+  }
+
   /** Check if two wrestlers have rivalry history. */
   @Transactional(readOnly = true)
   @PreAuthorize("isAuthenticated()")
@@ -17,18 +17,19 @@
 package com.github.javydreamercsw.management.service.season;
 
 import com.github.javydreamercsw.management.domain.season.Season;
-import com.github.javydreamercsw.management.domain.season.SeasonRepository;
 import com.github.javydreamercsw.management.domain.season.WrestlerSeasonSnapshotRepository;
-import com.github.javydreamercsw.management.domain.show.segment.Segment;
-import com.github.javydreamercsw.management.domain.show.segment.SegmentRepository;
-import com.github.javydreamercsw.management.domain.title.TitleReign;
 import com.github.javydreamercsw.management.domain.title.TitleReignRepository;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
+import com.github.javydreamercsw.management.domain.wrestler.WrestlerRecordSummary;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerRepository;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerState;
 import com.github.javydreamercsw.management.dto.SeasonStatsDTO;
+import com.github.javydreamercsw.management.service.wrestler.WrestlerRecordService;
 import java.time.Instant;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -41,28 +42,31 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class SeasonStatsService {
 
-  private final SegmentRepository segmentRepository;
-  private final SeasonRepository seasonRepository;
+  /** One row of a season's standings table. */
+  public record Standing(
+      Long wrestlerId, String wrestlerName, long wins, long losses, long draws) {}
+
+  private final WrestlerRecordService recordService;
   private final TitleReignRepository titleReignRepository;
   private final WrestlerRepository wrestlerRepository;
   private final WrestlerSeasonSnapshotRepository snapshotRepository;
 
   @Autowired
   public SeasonStatsService(
-      final SegmentRepository segmentRepository,
-      final SeasonRepository seasonRepository,
+      final WrestlerRecordService recordService,
       final TitleReignRepository titleReignRepository,
       final WrestlerRepository wrestlerRepository,
       final WrestlerSeasonSnapshotRepository snapshotRepository) {
-    this.segmentRepository = segmentRepository;
-    this.seasonRepository = seasonRepository;
+    this.recordService = recordService;
     this.titleReignRepository = titleReignRepository;
     this.wrestlerRepository = wrestlerRepository;
     this.snapshotRepository = snapshotRepository;
   }
 
   /**
-   * Calculates season statistics for a given wrestler and season.
+   * Calculates season statistics for a given wrestler and season. The win/loss/draw totals come
+   * from the materialized wrestler records and the accolades from a single reign query, so the cost
+   * does not grow with the number of segments in the season.
    *
    * @param wrestler the wrestler to calculate stats for
    * @param season the season to calculate stats for
@@ -81,40 +85,23 @@ public class SeasonStatsService {
       managedWrestler = wrestlerRepository.findByIdWithStates(wrestler.getId()).orElse(wrestler);
     }
 
-    List<Segment> segments =
-        segmentRepository
-            .findByWrestlerParticipationAndSeason(
-                managedWrestler, season, org.springframework.data.domain.Pageable.unpaged())
-            .getContent();
-
-    int wins = 0;
-    int losses = 0;
-    int draws = 0;
-
-    for (Segment segment : segments) {
-      if (isMatch(segment)) {
-        if (segment.getWinners().contains(managedWrestler)) {
-          wins++;
-        } else if (segment.getWinners().isEmpty()) {
-          draws++;
-        } else {
-          losses++;
-        }
-      }
-    }
+    WrestlerRecordSummary record =
+        managedWrestler.getId() != null && season.getId() != null
+            ? recordService.getSeasonRecord(managedWrestler.getId(), season.getId())
+            : WrestlerRecordSummary.empty(managedWrestler.getId());
 
+    Instant seasonEnd = season.getEndDate() != null ? season.getEndDate() : Instant.now();
     List<String> accolades =
-        titleReignRepository.findByChampionsContaining(managedWrestler).stream()
-            .filter(reign -> isReignInSeason(reign, season))
-            .map(reign -> reign.getTitle().getName())
-            .distinct()
-            .collect(java.util.stream.Collectors.toList());
+        managedWrestler.getId() != null && season.getStartDate() != null
+            ? titleReignRepository.findTitleNamesHeldBetween(
+                managedWrestler.getId(), season.getStartDate(), seasonEnd)
+            : List.of();
 
     return SeasonStatsDTO.builder()
         .seasonName(season.getName())
-        .wins(wins)
-        .losses(losses)
-        .draws(draws)
+        .wins(Math.toIntExact(record.wins()))
+        .losses(Math.toIntExact(record.losses()))
+        .draws(Math.toIntExact(record.draws()))
         .startingFans(
             snapshotRepository
                 .findByWrestlerIdAndSeasonId(managedWrestler.getId(), season.getId())
@@ -125,24 +112,38 @@ public class SeasonStatsService {
         .build();
   }
 
-  private boolean isMatch(final Segment segment) {
-    if (segment.getSegmentType() == null) {
-      return false;
+  /**
+   * Standings of every wrestler who had at least one match in the season, best record first. The
+   * totals come from one grouped query over the materialized records, and the names from one
+   * batch lookup, so the cost does not depend on the size of the roster.
+   *
+   * @param season the season to rank
+   * @return the standings, ordered by wins descending and then losses ascending
+   */
+  @Transactional(readOnly = true)
+  public List<Standing> calculateStandings(@NonNull final Season season) {
+    if (season.getId() == null) {
+      return List.of();
     }
-    String typeName = segment.getSegmentType().getName().toLowerCase();
-    return !typeName.contains("promo")
-        && !typeName.contains("beatdown")
-        && !typeName.contains("confrontation")
-        && !typeName.contains("review");
-  }
-
-  private boolean isReignInSeason(final TitleReign reign, final Season season) {
-    Instant seasonStart = season.getStartDate();
-    Instant seasonEnd = season.getEndDate() != null ? season.getEndDate() : Instant.now();
-    Instant reignStart = reign.getStartDate();
-    Instant reignEnd = reign.getEndDate() != null ? reign.getEndDate() : Instant.now();
-
-    // Check for overlap
-    return !reignStart.isAfter(seasonEnd) && !reignEnd.isBefore(seasonStart);
+    Map<Long, WrestlerRecordSummary> records =
+        recordService.getSeasonRosterRecords(season.getId());
+    Map<Long, String> names =
+        wrestlerRepository.findAllById(records.keySet()).stream()
+            .collect(Collectors.toMap(Wrestler::getId, Wrestler::getName));
+    return records.values().stream()
+        .map(
+            r ->
+                new Standing(
+                    r.wrestlerId(),
+                    names.getOrDefault(r.wrestlerId(), "#" + r.wrestlerId()),
+                    r.wins(),
+                    r.losses(),
+                    r.draws()))
+        .sorted(
+            Comparator.comparingLong(Standing::wins)
+                .reversed()
+                .thenComparingLong(Standing::losses)
+                .thenComparing(Standing::wrestlerName))
+        .toList();
   }
 }
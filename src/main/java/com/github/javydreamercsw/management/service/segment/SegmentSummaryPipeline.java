@@ -0,0 +1,483 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.segment;
+
+import com.github.javydreamercsw.base.security.GeneralSecurityUtils;
+import com.github.javydreamercsw.management.domain.show.segment.Segment;
+import com.github.javydreamercsw.management.event.SegmentNarrationChangedEvent;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Summarizes narrated segments in the background so show planning never waits on the AI for a
+ * backlog of unsummarized segments.
+ *
+ * <p>Job state lives in the {@code segment_summary_job} table. When a transaction that stored
+ * narrations commits ({@link SegmentNarrationChangedEvent}), every such segment that has no summary
+ * yet gets a {@code PENDING} row and is handed to a fixed pool of {@code
+ * atw.segment.summary.workers} threads behind a queue of {@code
+ * atw.segment.summary.queue-capacity}. A worker claims the row by moving it from {@code PENDING} to
+ * {@code RUNNING}, summarizes through {@link SegmentSummaryService} and deletes the row once the
+ * summary is stored; a row another instance already claimed is left alone. A failed attempt is
+ * retried after {@code atw.segment.summary.retry-delay-seconds}, growing linearly, until {@code
+ * atw.segment.summary.max-attempts} leaves the row {@code FAILED}. {@link #sweep()} picks up rows
+ * the queue turned away and rows left {@code RUNNING} by a restart. Only with {@code
+ * atw.segment.summary.backfill.enabled} does it also create jobs for narrated segments without one,
+ * and then only for those dated within the last {@code atw.segment.summary.backfill-days}, so older
+ * history never turns into AI calls.
+ *
+ * <p>A segment is summarized by at most one worker at a time; {@link #awaitSummaries} joins the
+ * work already in flight instead of starting a second AI call. With {@code
+ * atw.segment.summary.background.enabled=false} nothing is queued on commit and only {@link
+ * #awaitSummaries} summarizes.
+ */
+@Component
+@Slf4j
+public class SegmentSummaryPipeline {
+
+  static final String PENDING = "PENDING";
+  static final String RUNNING = "RUNNING";
+  static final String FAILED = "FAILED";
+
+  private static final int CHUNK_SIZE = 500;
+  private static final int MAX_ERROR_LENGTH = 500;
+  private static final Duration STALE_RUNNING = Duration.ofMinutes(10);
+
+  /** Narration present, summary missing. Lengths rather than comparisons, which CLOBs reject. */
+  private static final String NEEDS_SUMMARY =
+      "s.narration IS NOT NULL AND LENGTH(s.narration) > 0"
+          + " AND (s.summary IS NULL OR LENGTH(s.summary) = 0)";
+
+  private final SegmentSummaryService segmentSummaryService;
+  private final JdbcTemplate jdbcTemplate;
+  private final boolean background;
+  private final boolean backfill;
+  private final Duration backfillWindow;
+  private final int maxAttempts;
+  private final Duration retryDelay;
+  private final Duration planningWait;
+  private final ThreadPoolExecutor workers;
+  private final Map<Long, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+  public SegmentSummaryPipeline(
+      @NonNull final SegmentSummaryService segmentSummaryService,
+      @NonNull final JdbcTemplate jdbcTemplate,
+      @Value("${atw.segment.summary.background.enabled:true}") final boolean background,
+      @Value("${atw.segment.summary.workers:4}") final int workerCount,
+      @Value("${atw.segment.summary.queue-capacity:500}") final int queueCapacity,
+      @Value("${atw.segment.summary.max-attempts:5}") final int maxAttempts,
+      @Value("${atw.segment.summary.retry-delay-seconds:300}") final long retryDelaySeconds,
+      @Value("${atw.segment.summary.planning-wait-ms:3000}") final long planningWaitMs,
+      @Value("${atw.segment.summary.backfill.enabled:false}") final boolean backfill,
+      @Value("${atw.segment.summary.backfill-days:21}") final int backfillDays) {
+    this.segmentSummaryService = segmentSummaryService;
+    this.jdbcTemplate = jdbcTemplate;
+    this.background = background;
+    this.backfill = backfill;
+    this.backfillWindow = Duration.ofDays(Math.max(0, backfillDays));
+    this.maxAttempts = Math.max(1, maxAttempts);
+    this.retryDelay = Duration.ofSeconds(Math.max(0, retryDelaySeconds));
+    this.planningWait = Duration.ofMillis(Math.max(0, planningWaitMs));
+    int threads = Math.max(1, workerCount);
+    this.workers =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            0,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(Math.max(1, queueCapacity)),
+            Thread.ofPlatform().daemon().name("segment-summary-", 0).factory());
+  }
+
+  @PreDestroy
+  void stop() {
+    // Queued and running jobs stay in the table and are picked up again by the next sweep.
+    workers.shutdownNow();
+  }
+
+  @EventListener
+  public void onSegmentNarrationChanged(@NonNull final SegmentNarrationChangedEvent event) {
+    if (!background
+        || event.getSegmentIds().isEmpty()
+        || !TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    WrittenSegments written = (WrittenSegments) TransactionSynchronizationManager.getResource(this);
+    if (written == null) {
+      written = new WrittenSegments();
+      TransactionSynchronizationManager.bindResource(this, written);
+      TransactionSynchronizationManager.registerSynchronization(written);
+    }
+    written.segmentIds.addAll(event.getSegmentIds());
+  }
+
+  /**
+   * Queues every segment in {@code segmentIds} that has a narration but no summary, including ones
+   * whose earlier job ran out of attempts.
+   *
+   * @return The number of segments handed to the workers
+   */
+  public int enqueue(@NonNull final Collection<Long> segmentIds) {
+    int submitted = 0;
+    Timestamp now = Timestamp.from(Instant.now());
+    for (List<Long> chunk : chunks(segmentIds)) {
+      String ids = placeholders(chunk.size());
+      List<Object> args = new ArrayList<>(List.of(PENDING, now, now));
+      args.addAll(chunk);
+      jdbcTemplate.update(
+          "INSERT INTO segment_summary_job (segment_id, status, attempts, next_attempt_at,"
+              + " updated_at) SELECT s.segment_id, ?, 0, ?, ? FROM segment s"
+              + " WHERE s.segment_id IN ("
+              + ids
+              + ") AND "
+              + NEEDS_SUMMARY
+              + " AND NOT EXISTS (SELECT 1 FROM segment_summary_job j"
+              + " WHERE j.segment_id = s.segment_id)",
+          args.toArray());
+      List<Object> retry = new ArrayList<>(List.of(PENDING, now, now, FAILED));
+      retry.addAll(chunk);
+      jdbcTemplate.update(
+          "UPDATE segment_summary_job SET status = ?, attempts = 0, next_attempt_at = ?,"
+              + " updated_at = ? WHERE status = ? AND segment_id IN ("
+              + ids
+              + ")",
+          retry.toArray());
+      List<Object> pending = new ArrayList<>(List.of(PENDING));
+      pending.addAll(chunk);
+      for (Long id :
+          jdbcTemplate.queryForList(
+              "SELECT segment_id FROM segment_summary_job WHERE status = ? AND segment_id IN ("
+                  + ids
+                  + ")",
+              Long.class,
+              pending.toArray())) {
+        if (submit(id) != null) {
+          submitted++;
+        }
+      }
+    }
+    return submitted;
+  }
+
+  /** Waits up to {@code atw.segment.summary.planning-wait-ms}; see {@link #awaitSummaries}. */
+  public Map<Long, String> awaitSummaries(@NonNull final Collection<Long> segmentIds) {
+    return awaitSummaries(segmentIds, planningWait);
+  }
+
+  /**
+   * Summarizes the given segments in parallel and waits until {@code timeout} runs out for the
+   * results. Segments already being summarized are waited on, not summarized again. Whatever is
+   * not done by then carries on in the background.
+   *
+   * @return Summaries that were ready in time, by segment id
+   */
+  public Map<Long, String> awaitSummaries(
+      @NonNull final Collection<Long> segmentIds, @NonNull final Duration timeout) {
+    Map<Long, CompletableFuture<String>> futures = new HashMap<>();
+    for (Long id : new LinkedHashSet<>(segmentIds)) {
+      CompletableFuture<String> future = submit(id);
+      if (future != null) {
+        futures.put(id, future);
+      }
+    }
+    long deadline = System.nanoTime() + timeout.toNanos();
+    Map<Long, String> summaries = new HashMap<>();
+    for (Map.Entry<Long, CompletableFuture<String>> entry : futures.entrySet()) {
+      try {
+        long remaining = Math.max(0, deadline - System.nanoTime());
+        String summary = entry.getValue().get(remaining, TimeUnit.NANOSECONDS);
+        if (summary != null) {
+          summaries.put(entry.getKey(), summary);
+        }
+      } catch (TimeoutException e) {
+        // Still running; it is stored when it finishes.
+      } catch (ExecutionException e) {
+        log.warn("Summary for segment {} failed: {}", entry.getKey(), e.getCause().getMessage());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    if (summaries.size() < futures.size()) {
+      log.debug(
+          "{} of {} segment summaries were not ready within {}ms",
+          futures.size() - summaries.size(),
+          futures.size(),
+          timeout.toMillis());
+    }
+    return summaries;
+  }
+
+  /**
+   * Requeues jobs left {@code RUNNING} by a restart, creates jobs for recent narrated segments
+   * without a summary or a job when backfill is enabled, and submits due {@code PENDING} jobs
+   * while the queue has room.
+   */
+  public void sweep() {
+    Instant now = Instant.now();
+    List<Long> stale =
+        jdbcTemplate.queryForList(
+            "SELECT segment_id FROM segment_summary_job WHERE status = ? AND updated_at < ?",
+            Long.class,
+            RUNNING,
+            Timestamp.from(now.minus(STALE_RUNNING)));
+    for (Long id : stale) {
+      if (!inFlight.containsKey(id)) {
+        setStatus(id, PENDING, RUNNING);
+      }
+    }
+    int created =
+        backfill
+            ? jdbcTemplate.update(
+                "INSERT INTO segment_summary_job (segment_id, status, attempts, next_attempt_at,"
+                    + " updated_at) SELECT s.segment_id, ?, 0, ?, ? FROM segment s"
+                    + " WHERE s.segment_date >= ? AND "
+                    + NEEDS_SUMMARY
+                    + " AND NOT EXISTS (SELECT 1 FROM segment_summary_job j"
+                    + " WHERE j.segment_id = s.segment_id)",
+                PENDING,
+                Timestamp.from(now),
+                Timestamp.from(now),
+                Timestamp.from(now.minus(backfillWindow)))
+            : 0;
+    int room = workers.getQueue().remainingCapacity();
+    List<Long> due =
+        room == 0
+            ? List.of()
+            : jdbcTemplate.queryForList(
+                "SELECT segment_id FROM segment_summary_job WHERE status = ?"
+                    + " AND next_attempt_at <= ? ORDER BY next_attempt_at",
+                Long.class,
+                PENDING,
+                Timestamp.from(now));
+    int submitted = 0;
+    for (Long id : due) {
+      if (submitted >= room) {
+        break;
+      }
+      if (!inFlight.containsKey(id) && submit(id) != null) {
+        submitted++;
+      }
+    }
+    if (created > 0 || submitted > 0) {
+      log.info("Segment summary sweep: {} new jobs, {} submitted", created, submitted);
+    }
+  }
+
+  /** Jobs by status, for monitoring. */
+  public Map<String, Long> countJobs() {
+    Map<String, Long> counts = new HashMap<>();
+    jdbcTemplate.query(
+        "SELECT status, COUNT(*) AS jobs FROM segment_summary_job GROUP BY status",
+        rs -> {
+          counts.put(rs.getString("status"), rs.getLong("jobs"));
+        });
+    return counts;
+  }
+
+  /** Segments currently queued or being summarized by this instance. */
+  public int getInFlightCount() {
+    return inFlight.size();
+  }
+
+  /**
+   * Hands {@code segmentId} to the workers unless it is already in flight.
+   *
+   * @return The pending summary, or {@code null} when the queue is full
+   */
+  private CompletableFuture<String> submit(final Long segmentId) {
+    CompletableFuture<String> created = new CompletableFuture<>();
+    CompletableFuture<String> existing = inFlight.putIfAbsent(segmentId, created);
+    if (existing != null) {
+      return existing;
+    }
+    try {
+      workers.execute(() -> summarize(segmentId, created));
+      return created;
+    } catch (RejectedExecutionException e) {
+      // The job stays PENDING; the next sweep submits it again.
+      inFlight.remove(segmentId, created);
+      created.complete(null);
+      return null;
+    }
+  }
+
+  private void summarize(final Long segmentId, final CompletableFuture<String> result) {
+    String summary = null;
+    try {
+      if (!claim(segmentId)) {
+        // Another instance is summarizing it, or it is already done; report what is stored.
+        summary = storedSummary(segmentId);
+        return;
+      }
+      Segment segment =
+          GeneralSecurityUtils.runAsAdmin(() -> segmentSummaryService.summarizeSegment(segmentId));
+      summary = segment.getSummary();
+      if (summary == null || summary.isEmpty()) {
+        summary = null;
+        failed(segmentId, "No AI provider returned a summary");
+      } else {
+        jdbcTemplate.update("DELETE FROM segment_summary_job WHERE segment_id = ?", segmentId);
+      }
+    } catch (RuntimeException e) {
+      log.warn("Could not summarize segment {}: {}", segmentId, e.getMessage());
+      failed(segmentId, String.valueOf(e.getMessage()));
+    } finally {
+      inFlight.remove(segmentId, result);
+      result.complete(summary);
+    }
+  }
+
+  /**
+   * Moves the segment's job to {@code RUNNING}, creating it if there is none.
+   *
+   * @return Whether this worker now owns the job
+   */
+  private boolean claim(final Long segmentId) {
+    Timestamp now = Timestamp.from(Instant.now());
+    int updated =
+        jdbcTemplate.update(
+            "UPDATE segment_summary_job SET status = ?, updated_at = ? WHERE segment_id = ?"
+                + " AND status IN (?, ?)",
+            RUNNING,
+            now,
+            segmentId,
+            PENDING,
+            FAILED);
+    if (updated > 0) {
+      return true;
+    }
+    try {
+      return jdbcTemplate.update(
+              "INSERT INTO segment_summary_job (segment_id, status, attempts, next_attempt_at,"
+                  + " updated_at) SELECT s.segment_id, ?, 0, ?, ? FROM segment s"
+                  + " WHERE s.segment_id = ? AND "
+                  + NEEDS_SUMMARY
+                  + " AND NOT EXISTS (SELECT 1 FROM segment_summary_job j"
+                  + " WHERE j.segment_id = s.segment_id)",
+              RUNNING,
+              now,
+              now,
+              segmentId)
+          > 0;
+    } catch (DuplicateKeyException e) {
+      // Another instance created and claimed the job first.
+      return false;
+    }
+  }
+
+  private String storedSummary(final Long segmentId) {
+    List<String> summaries =
+        jdbcTemplate.queryForList(
+            "SELECT summary FROM segment WHERE segment_id = ?", String.class, segmentId);
+    return summaries.isEmpty() || summaries.get(0) == null || summaries.get(0).isEmpty()
+        ? null
+        : summaries.get(0);
+  }
+
+  private void failed(final Long segmentId, final String error) {
+    List<Integer> attempts =
+        jdbcTemplate.queryForList(
+            "SELECT attempts FROM segment_summary_job WHERE segment_id = ?",
+            Integer.class,
+            segmentId);
+    if (attempts.isEmpty()) {
+      return;
+    }
+    int attempt = attempts.get(0) + 1;
+    Instant now = Instant.now();
+    jdbcTemplate.update(
+        "UPDATE segment_summary_job SET status = ?, attempts = ?, next_attempt_at = ?,"
+            + " updated_at = ?, last_error = ? WHERE segment_id = ?",
+        attempt >= maxAttempts ? FAILED : PENDING,
+        attempt,
+        Timestamp.from(now.plus(retryDelay.multipliedBy(attempt))),
+        Timestamp.from(now),
+        error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error,
+        segmentId);
+  }
+
+  private void setStatus(final Long segmentId, final String status, final String expected) {
+    jdbcTemplate.update(
+        "UPDATE segment_summary_job SET status = ?, updated_at = ? WHERE segment_id = ?"
+            + " AND status = ?",
+        status,
+        Timestamp.from(Instant.now()),
+        segmentId,
+        expected);
+  }
+
+  private static String placeholders(final int count) {
+    return String.join(", ", Collections.nCopies(count, "?"));
+  }
+
+  private static List<List<Long>> chunks(final Collection<Long> ids) {
+    List<Long> all = new ArrayList<>(new HashSet<>(ids));
+    List<List<Long>> chunks = new ArrayList<>();
+    for (int from = 0; from < all.size(); from += CHUNK_SIZE) {
+      chunks.add(all.subList(from, Math.min(all.size(), from + CHUNK_SIZE)));
+    }
+    return chunks;
+  }
+
+  /** Segments written by one transaction, queued once it commits. */
+  private final class WrittenSegments implements TransactionSynchronization {
+    private final Set<Long> segmentIds = new HashSet<>();
+
+    @Override
+    public void afterCompletion(final int status) {
+      TransactionSynchronizationManager.unbindResourceIfPossible(SegmentSummaryPipeline.this);
+      if (status != STATUS_COMMITTED) {
+        return;
+      }
+      try {
+        enqueue(segmentIds);
+      } catch (RuntimeException e) {
+        // The sweep finds these segments later.
+        log.warn("Could not queue segment summaries: {}", e.getMessage());
+      }
+    }
+  }
+}
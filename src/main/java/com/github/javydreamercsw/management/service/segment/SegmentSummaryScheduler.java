@@ -0,0 +1,51 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.segment;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs {@link SegmentSummaryPipeline#sweep()} every {@code atw.segment.summary.sweep-interval-ms}
+ * so jobs the queue turned away and due retries are picked up. Narrated segments that never got a
+ * job are only swept up when {@code atw.segment.summary.backfill.enabled} is set.
+ */
+@Component
+@ConditionalOnProperty(
+    name = "atw.segment.summary.background.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class SegmentSummaryScheduler {
+
+  private final SegmentSummaryPipeline segmentSummaryPipeline;
+
+  @Scheduled(
+      initialDelayString = "${atw.segment.summary.sweep-interval-ms:60000}",
+      fixedDelayString = "${atw.segment.summary.sweep-interval-ms:60000}")
+  public void sweep() {
+    try {
+      segmentSummaryPipeline.sweep();
+    } catch (Exception e) {
+      log.error("Error during segment summary sweep", e);
+    }
+  }
+}
@@ -17,7 +17,6 @@
 package com.github.javydreamercsw.management.service.show;
 
 import com.github.javydreamercsw.base.security.SecurityUtils;
-import com.github.javydreamercsw.management.domain.AdjudicationStatus;
 import com.github.javydreamercsw.management.domain.campaign.CampaignRepository;
 import com.github.javydreamercsw.management.domain.commentator.CommentaryTeamRepository;
 import com.github.javydreamercsw.management.domain.league.League;
@@ -37,8 +36,8 @@ import com.github.javydreamercsw.management.domain.universe.Universe;
 import com.github.javydreamercsw.management.domain.universe.UniverseRepository;
 import com.github.javydreamercsw.management.domain.world.ArenaRepository;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
-import com.github.javydreamercsw.management.domain.wrestler.WrestlerRepository;
 import com.github.javydreamercsw.management.event.AdjudicationCompletedEvent;
+import com.github.javydreamercsw.management.event.SegmentResultsChangedEvent;
 import com.github.javydreamercsw.management.service.GameSettingService;
 import com.github.javydreamercsw.management.service.gm.GmModeService;
 import com.github.javydreamercsw.management.service.legacy.LegacyService;
@@ -79,7 +78,6 @@ public class ShowService {
   private final SegmentRepository segmentRepository;
   private final ApplicationEventPublisher eventPublisher;
   private final WrestlerService wrestlerService;
-  private final WrestlerRepository wrestlerRepository;
   private final GameSettingService gameSettingService;
   private final CommentaryTeamRepository commentaryTeamRepository;
   private final NewsGenerationService newsGenerationService;
@@ -101,7 +99,6 @@ public class ShowService {
       final SegmentRepository segmentRepository,
       final ApplicationEventPublisher eventPublisher,
       final WrestlerService wrestlerService,
-      final WrestlerRepository wrestlerRepository,
       final GameSettingService gameSettingService,
       final CommentaryTeamRepository commentaryTeamRepository,
       final NewsGenerationService newsGenerationService,
@@ -121,7 +118,6 @@ public class ShowService {
     this.segmentRepository = segmentRepository;
     this.eventPublisher = eventPublisher;
     this.wrestlerService = wrestlerService;
-    this.wrestlerRepository = wrestlerRepository;
     this.gameSettingService = gameSettingService;
     this.commentaryTeamRepository = commentaryTeamRepository;
     this.newsGenerationService = newsGenerationService;
@@ -511,7 +507,13 @@ public class ShowService {
       allEntries = true)
   public boolean deleteShow(@NonNull final Long id) {
     if (showRepository.existsById(id)) {
+      // The segments go with the show through ON DELETE CASCADE, which JPA never sees, so the
+      // records of their participants are rebuilt here instead of by the segment listener.
+      Set<Long> participants = new HashSet<>(segmentRepository.findParticipantIdsByShowId(id));
       showRepository.deleteById(id);
+      if (!participants.isEmpty()) {
+        eventPublisher.publishEvent(new SegmentResultsChangedEvent(this, participants, Set.of()));
+      }
       return true;
     }
     return false;
@@ -533,30 +535,18 @@ public class ShowService {
 
     Set<Long> participatingWrestlerIds = new HashSet<>();
 
-    segmentRepository.findByShow(show).stream()
-        .filter(segment -> segment.getAdjudicationStatus() == AdjudicationStatus.PENDING)
-        .forEach(
-            segment -> {
-              segmentAdjudicationService.adjudicateMatch(segment);
-              if (!SegmentTypeNames.PROMO.equals(segment.getSegmentType().getName())) {
-                segment.getWrestlers().forEach(w -> participatingWrestlerIds.add(w.getId()));
-              }
-              segment.setAdjudicationStatus(AdjudicationStatus.ADJUDICATED);
-              segmentRepository.save(segment);
-            });
+    for (Segment segment : segmentAdjudicationService.adjudicateShow(show.getId())) {
+      if (!SegmentTypeNames.PROMO.equals(segment.getSegmentType().getName())) {
+        segment.getWrestlers().forEach(w -> participatingWrestlerIds.add(w.getId()));
+      }
+    }
 
     // Campaign universes handle healing exclusively through BackstageActionService (RECOVERY).
     boolean isCampaignUniverse =
         show.getUniverse() != null && campaignRepository.existsByUniverse(show.getUniverse());
     if (!isCampaignUniverse) {
-      wrestlerRepository.findAll().stream()
-          .filter(w -> !participatingWrestlerIds.contains(w.getId()))
-          .forEach(
-              resting -> {
-                Long universeId = show.getUniverse() != null ? show.getUniverse().getId() : 1L;
-                wrestlerService.healChance(resting.getId(), universeId);
-                wrestlerService.recoverCondition(resting.getId(), universeId, 5);
-              });
+      Long universeId = show.getUniverse() != null ? show.getUniverse().getId() : 1L;
+      wrestlerService.recoverRestingWrestlers(universeId, participatingWrestlerIds, 5);
     }
 
     if (show.getShowDate() != null) {
@@ -33,6 +33,7 @@ import com.github.javydreamercsw.management.service.GameSettingService;
 import com.github.javydreamercsw.management.service.faction.FactionService;
 import com.github.javydreamercsw.management.service.injury.InjuryService;
 import com.github.javydreamercsw.management.service.rivalry.RivalryService;
+import com.github.javydreamercsw.management.service.segment.SegmentSummaryPipeline;
 import com.github.javydreamercsw.management.service.segment.type.SegmentTypeService;
 import com.github.javydreamercsw.management.service.show.ShowService;
 import com.github.javydreamercsw.management.service.show.planning.dto.ShowPlanningContextDTO;
@@ -45,6 +46,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.NonNull;
@@ -65,9 +67,7 @@ public class ShowPlanningService {
   private final Clock clock;
   private final TitleService titleService;
   private final ShowService showService;
-  private final com.github.javydreamercsw.management.service.segment.SegmentService segmentService;
-  private final com.github.javydreamercsw.management.service.segment.SegmentSummaryService
-      segmentSummaryService;
+  private final SegmentSummaryPipeline segmentSummaryPipeline;
   private final SegmentTypeService segmentTypeService;
   private final WrestlerRepository wrestlerRepository;
   private final WrestlerService wrestlerService;
@@ -112,25 +112,26 @@ public class ShowPlanningService {
         segmentRepository.findBySegmentDateBetween(lookbackStart, showDate);
     log.debug("Found {} segments", lastWeekSegments.size());
 
-    // New logic to generate summaries
-    lastWeekSegments.forEach(
-        segment -> {
-          if ((segment.getSummary() == null || segment.getSummary().isEmpty())
-              && (segment.getNarration() != null && !segment.getNarration().isEmpty())) {
-            try {
-              segmentSummaryService.summarizeSegment(segment.getId());
-              // After summarizing, reload the segment to get the updated summary
-              segmentService
-                  .findById(segment.getId())
-                  .ifPresent(
-                      updatedSegment -> {
-                        segment.setSummary(updatedSegment.getSummary());
-                      });
-            } catch (Exception e) {
-              log.error("Failed to generate summary for segment: {}", segment.getId(), e);
+    // Summaries are normally written in the background after a segment is saved; anything still
+    // missing is summarized in parallel and waited on only up to the planning deadline.
+    List<Long> unsummarized =
+        lastWeekSegments.stream()
+            .filter(
+                segment ->
+                    (segment.getSummary() == null || segment.getSummary().isEmpty())
+                        && (segment.getNarration() != null && !segment.getNarration().isEmpty()))
+            .map(Segment::getId)
+            .toList();
+    if (!unsummarized.isEmpty()) {
+      Map<Long, String> summaries = segmentSummaryPipeline.awaitSummaries(unsummarized);
+      lastWeekSegments.forEach(
+          segment -> {
+            String summary = summaries.get(segment.getId());
+            if (summary != null) {
+              segment.setSummary(summary);
             }
-          }
-        });
+          });
+    }
 
     context.setRecentSegments(lastWeekSegments);
 
@@ -45,8 +45,10 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -414,6 +416,38 @@ public class TitleService {
     return titleReignRepository.findAllWithTitle();
   }
 
+  /**
+   * One page of reigns with their title loaded, optionally limited to one title.
+   *
+   * @param title Only reigns of this title, or every reign when {@code null}
+   * @param pageable Page and sort; title properties are reachable as {@code title.*}
+   */
+  @PreAuthorize(
+      "hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_BOOKER') or hasAuthority('ROLE_SYSTEM')")
+  @Transactional(readOnly = true)
+  public Page<com.github.javydreamercsw.management.domain.title.TitleReign> getReigns(
+      @Nullable final Title title, @NonNull final Pageable pageable) {
+    return titleReignRepository.findAll(reignsOf(title), pageable);
+  }
+
+  @PreAuthorize(
+      "hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_BOOKER') or hasAuthority('ROLE_SYSTEM')")
+  @Transactional(readOnly = true)
+  public long countReigns(@Nullable final Title title) {
+    return titleReignRepository.count(reignsOf(title));
+  }
+
+  private static Specification<com.github.javydreamercsw.management.domain.title.TitleReign>
+      reignsOf(@Nullable final Title title) {
+    return (root, query, cb) -> {
+      // Count queries must not fetch.
+      if (query != null && !Long.class.equals(query.getResultType())) {
+        root.fetch("title");
+      }
+      return title == null ? cb.conjunction() : cb.equal(root.get("title"), title);
+    };
+  }
+
   @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_SYSTEM')")
   @org.springframework.cache.annotation.CacheEvict(
       value = com.github.javydreamercsw.management.config.CacheConfig.TITLES_CACHE,
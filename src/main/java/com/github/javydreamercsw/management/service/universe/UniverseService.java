@@ -31,6 +31,8 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 
@@ -52,6 +54,16 @@ public class UniverseService {
     return universeRepository.findAll();
   }
 
+  @PreAuthorize("isAuthenticated()")
+  public Page<Universe> list(@NonNull final Pageable pageable) {
+    return universeRepository.findAll(pageable);
+  }
+
+  @PreAuthorize("isAuthenticated()")
+  public long count() {
+    return universeRepository.count();
+  }
+
   @PreAuthorize("isAuthenticated()")
   public Optional<Universe> findById(@NonNull final Long id) {
     return universeRepository.findById(id);
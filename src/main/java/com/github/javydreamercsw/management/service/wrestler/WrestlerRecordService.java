@@ -0,0 +1,250 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.wrestler;
+
+import com.github.javydreamercsw.management.config.CacheConfig;
+import com.github.javydreamercsw.management.domain.wrestler.WrestlerRecord;
+import com.github.javydreamercsw.management.domain.wrestler.WrestlerRecordRepository;
+import com.github.javydreamercsw.management.domain.wrestler.WrestlerRecordSummary;
+import com.github.javydreamercsw.management.event.SegmentResultsChangedEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps the materialized {@link WrestlerRecord} table in step with the segment history and serves
+ * win/loss/draw totals from it.
+ *
+ * <p>Writes to segment participants, and segment writes that change the status, type or show, raise
+ * a {@link SegmentResultsChangedEvent} during flush. The affected wrestlers are collected per
+ * transaction and their rows are rebuilt with one aggregate query just before the transaction
+ * commits, so the records change atomically with the results they summarize. Changes only seen by
+ * the flush at commit time are rebuilt right after it in a transaction of their own. Reads in a
+ * transaction that has pending changes rebuild them first, so they always see their own writes.
+ */
+@Service
+@Slf4j
+public class WrestlerRecordService {
+
+  private static final int CHUNK_SIZE = 500;
+
+  private final WrestlerRecordRepository recordRepository;
+  private final CacheManager cacheManager;
+  private final TransactionTemplate newTransaction;
+
+  @PersistenceContext private EntityManager entityManager;
+
+  public WrestlerRecordService(
+      @NonNull final WrestlerRecordRepository recordRepository,
+      @NonNull final CacheManager cacheManager,
+      @NonNull final PlatformTransactionManager transactionManager) {
+    this.recordRepository = recordRepository;
+    this.cacheManager = cacheManager;
+    this.newTransaction = new TransactionTemplate(transactionManager);
+    this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /** Career totals of a wrestler in a universe. */
+  @Transactional(readOnly = true)
+  public WrestlerRecordSummary getCareerRecord(
+      @NonNull final Long wrestlerId, @NonNull final Long universeId) {
+    applyPendingChanges();
+    return recordRepository
+        .summarizeCareer(wrestlerId, universeId)
+        .orElseGet(() -> WrestlerRecordSummary.empty(wrestlerId));
+  }
+
+  /** Totals of a wrestler over every show of a season. */
+  @Transactional(readOnly = true)
+  public WrestlerRecordSummary getSeasonRecord(
+      @NonNull final Long wrestlerId, @NonNull final Long seasonId) {
+    applyPendingChanges();
+    return recordRepository
+        .summarizeSeason(wrestlerId, seasonId)
+        .orElseGet(() -> WrestlerRecordSummary.empty(wrestlerId));
+  }
+
+  /** Career totals of every wrestler with at least one match in the universe, by wrestler id. */
+  @Transactional(readOnly = true)
+  public Map<Long, WrestlerRecordSummary> getRosterRecords(@NonNull final Long universeId) {
+    applyPendingChanges();
+    return byWrestler(recordRepository.summarizeRoster(universeId));
+  }
+
+  /** Totals of every wrestler with at least one match in the season, by wrestler id. */
+  @Transactional(readOnly = true)
+  public Map<Long, WrestlerRecordSummary> getSeasonRosterRecords(@NonNull final Long seasonId) {
+    applyPendingChanges();
+    return byWrestler(recordRepository.summarizeSeasonRoster(seasonId));
+  }
+
+  private static Map<Long, WrestlerRecordSummary> byWrestler(
+      final List<WrestlerRecordSummary> summaries) {
+    return summaries.stream()
+        .collect(Collectors.toMap(WrestlerRecordSummary::wrestlerId, Function.identity()));
+  }
+
+  /**
+   * Recomputes every record from the segment history. This is the repair path for records that
+   * drifted from the results they summarize, e.g. after segments were removed by the database
+   * without going through JPA.
+   *
+   * @return The number of rows written
+   */
+  @PreAuthorize("hasAnyRole('ADMIN', 'SYSTEM')")
+  @Transactional
+  public int rebuildAll() {
+    recordRepository.lockAllWrestlers();
+    recordRepository.deleteAllRecords();
+    List<WrestlerRecord> records = recordRepository.aggregateAll();
+    recordRepository.saveAll(records);
+    clearStatsCache();
+    log.info("Rebuilt {} wrestler records", records.size());
+    return records.size();
+  }
+
+  @EventListener
+  public void onSegmentResultsChanged(@NonNull final SegmentResultsChangedEvent event) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      // Flushes always run in a transaction; this only guards against misuse.
+      log.debug("Segment results changed outside a transaction, records not updated");
+      return;
+    }
+    PendingChanges pending =
+        (PendingChanges) TransactionSynchronizationManager.getResource(this);
+    if (pending == null) {
+      pending = new PendingChanges();
+      TransactionSynchronizationManager.bindResource(this, pending);
+      TransactionSynchronizationManager.registerSynchronization(pending);
+    }
+    pending.wrestlerIds.addAll(event.getWrestlerIds());
+    pending.segmentIds.addAll(event.getSegmentIds());
+  }
+
+  /** Rebuilds whatever the current transaction has changed so far. */
+  private void applyPendingChanges() {
+    if (TransactionSynchronizationManager.getResource(this) instanceof PendingChanges pending) {
+      pending.apply();
+    }
+  }
+
+  private void rebuild(final Set<Long> wrestlerIds, final Set<Long> segmentIds) {
+    Set<Long> affected = new HashSet<>(wrestlerIds);
+    if (!segmentIds.isEmpty()) {
+      for (List<Long> chunk : chunks(segmentIds)) {
+        affected.addAll(recordRepository.findParticipantIds(chunk));
+      }
+    }
+    if (affected.isEmpty()) {
+      return;
+    }
+    int written = 0;
+    for (List<Long> chunk : chunks(affected)) {
+      recordRepository.lockWrestlers(chunk);
+      recordRepository.deleteByWrestlerIds(chunk);
+      List<WrestlerRecord> records = recordRepository.aggregate(chunk);
+      recordRepository.saveAll(records);
+      written += records.size();
+    }
+    log.debug("Rebuilt {} records for {} wrestlers", written, affected.size());
+  }
+
+  /** Splits the ids into sorted chunks, so row locks are always taken in the same order. */
+  private static List<List<Long>> chunks(final Set<Long> ids) {
+    List<Long> all = ids.stream().sorted().toList();
+    List<List<Long>> chunks = new ArrayList<>();
+    for (int from = 0; from < all.size(); from += CHUNK_SIZE) {
+      chunks.add(all.subList(from, Math.min(all.size(), from + CHUNK_SIZE)));
+    }
+    return chunks;
+  }
+
+  private void clearStatsCache() {
+    Cache cache = cacheManager.getCache(CacheConfig.WRESTLER_STATS_CACHE);
+    if (cache != null) {
+      cache.clear();
+    }
+  }
+
+  /** The wrestlers and segments changed by one transaction and not yet rebuilt. */
+  private final class PendingChanges implements TransactionSynchronization {
+    private final Set<Long> wrestlerIds = new HashSet<>();
+    private final Set<Long> segmentIds = new HashSet<>();
+    private boolean applying;
+
+    /** Flushes so every change has been reported, then rebuilds until nothing is left. */
+    void apply() {
+      if (applying) {
+        return;
+      }
+      applying = true;
+      try {
+        entityManager.flush();
+        while (!wrestlerIds.isEmpty() || !segmentIds.isEmpty()) {
+          Set<Long> wrestlers = Set.copyOf(wrestlerIds);
+          Set<Long> segments = Set.copyOf(segmentIds);
+          wrestlerIds.clear();
+          segmentIds.clear();
+          rebuild(wrestlers, segments);
+        }
+      } finally {
+        applying = false;
+      }
+    }
+
+    @Override
+    public void beforeCommit(final boolean readOnly) {
+      if (!readOnly) {
+        apply();
+      }
+    }
+
+    @Override
+    public void afterCommit() {
+      if (!wrestlerIds.isEmpty() || !segmentIds.isEmpty()) {
+        Set<Long> wrestlers = Set.copyOf(wrestlerIds);
+        Set<Long> segments = Set.copyOf(segmentIds);
+        newTransaction.executeWithoutResult(status -> rebuild(wrestlers, segments));
+      }
+      clearStatsCache();
+    }
+
+    @Override
+    public void afterCompletion(final int status) {
+      TransactionSynchronizationManager.unbindResourceIfPossible(WrestlerRecordService.this);
+    }
+  }
+}
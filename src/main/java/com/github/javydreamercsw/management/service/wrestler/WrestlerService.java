@@ -34,6 +34,8 @@ import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerRepository;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerState;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerStateRepository;
+import com.github.javydreamercsw.management.dto.RosterOverviewDTO;
+import com.github.javydreamercsw.management.event.WrestlerAvailabilityChangedEvent;
 import com.github.javydreamercsw.management.event.dto.FanAwardedEvent;
 import com.github.javydreamercsw.management.event.dto.WrestlerBumpEvent;
 import com.github.javydreamercsw.management.event.dto.WrestlerBumpHealedEvent;
@@ -49,6 +51,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.Nullable;
@@ -59,6 +62,7 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
@@ -68,6 +72,9 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class WrestlerService {
 
+  /** Maximum number of state IDs per bulk recovery update. */
+  private static final int UPDATE_CHUNK_SIZE = 1_000;
+
   private final WrestlerRepository wrestlerRepository;
   private final WrestlerStateRepository wrestlerStateRepository;
   private final TierBoundaryRepository tierBoundaryRepository;
@@ -131,7 +138,9 @@ public class WrestlerService {
       allEntries = true)
   @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_SYSTEM')")
   public Wrestler save(@NonNull final Wrestler wrestler) {
-    return wrestlerRepository.save(wrestler);
+    Wrestler saved = wrestlerRepository.save(wrestler);
+    eventPublisher.publishEvent(new WrestlerAvailabilityChangedEvent(this, wrestler.getId()));
+    return saved;
   }
 
   @Transactional
@@ -146,6 +155,7 @@ public class WrestlerService {
             wrestler -> {
               wrestler.setActive(active);
               wrestlerRepository.save(wrestler);
+              eventPublisher.publishEvent(new WrestlerAvailabilityChangedEvent(this, id));
             });
   }
 
@@ -156,6 +166,7 @@ public class WrestlerService {
   @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_SYSTEM')")
   public void delete(@NonNull final Long id) {
     wrestlerRepository.deleteById(id);
+    eventPublisher.publishEvent(new WrestlerAvailabilityChangedEvent(this, id));
   }
 
   @Transactional(readOnly = true)
@@ -237,6 +248,20 @@ public class WrestlerService {
     return wrestlerRepository.findAll();
   }
 
+  @Transactional(readOnly = true)
+  @PreAuthorize("isAuthenticated()")
+  public long count() {
+    return wrestlerRepository.count();
+  }
+
+  /** One page of roster overview rows (wrestler plus tier) for a universe. */
+  @Transactional(readOnly = true)
+  @PreAuthorize("isAuthenticated()")
+  public Slice<RosterOverviewDTO> getRosterOverview(
+      @NonNull final Long universeId, @NonNull final Pageable pageable) {
+    return wrestlerRepository.findRosterOverview(universeId, pageable);
+  }
+
   // ==================== ATW RPG METHODS ====================
 
   @Transactional(readOnly = true)
@@ -414,7 +439,9 @@ public class WrestlerService {
     wrestler.setLowHealth(4);
     wrestler.setLowStamina(4);
     wrestler.setActive(true);
-    return wrestlerRepository.save(wrestler);
+    Wrestler saved = wrestlerRepository.save(wrestler);
+    eventPublisher.publishEvent(new WrestlerAvailabilityChangedEvent(this, wrestler.getId()));
+    return saved;
   }
 
   @Transactional
@@ -537,8 +564,9 @@ public class WrestlerService {
         universeId,
         totalFans);
 
+    long oldFans = state.getFans();
     state.setFans(totalFans);
-    tierRecalculationService.recalculateTier(state);
+    tierRecalculationService.updateTierForFanChange(state, oldFans);
     WrestlerState savedState = wrestlerStateRepository.save(state);
     eventPublisher.publishEvent(new FanAwardedEvent(this, savedState, tempFans));
 
@@ -670,6 +698,97 @@ public class WrestlerService {
     return healChance(wrestlerId, universeId, new DiceBag(6));
   }
 
+  /** Outcome of a {@link #recoverRestingWrestlers} pass. */
+  public record RecoverySummary(int candidates, int bumpsHealed, int conditionRecovered) {}
+
+  /**
+   * Passive recovery for the wrestlers of a universe who did not work the last show.
+   *
+   * <p>Only states that have a bump or less than full condition are loaded, and active injuries
+   * come from a single query. Heal rolls follow {@link #healChance} (4+, or 5+ while injured) but
+   * happen in memory; bumps and condition are then written with chunked bulk updates and a {@link
+   * WrestlerBumpHealedEvent} is published per healed bump. Unlike the per-wrestler methods, no
+   * state is created for wrestlers without one in the universe, since they have nothing to
+   * recover.
+   *
+   * @param universeId The universe's ID
+   * @param participantIds Wrestlers who worked the show and therefore do not rest
+   * @param conditionAmount Physical condition restored to each resting wrestler, capped at 100
+   * @param diceBag The dice bag to use
+   * @return How many states were considered, healed a bump and recovered condition
+   */
+  @Transactional
+  @CacheEvict(
+      value = {CacheConfig.WRESTLERS_CACHE, CacheConfig.WRESTLER_STATS_CACHE},
+      allEntries = true)
+  public RecoverySummary recoverRestingWrestlers(
+      @NonNull final Long universeId,
+      @NonNull final Set<Long> participantIds,
+      final int conditionAmount,
+      @NonNull final DiceBag diceBag) {
+    List<WrestlerState> resting =
+        wrestlerStateRepository.findRecoveryCandidates(universeId).stream()
+            .filter(state -> !participantIds.contains(state.getWrestler().getId()))
+            .toList();
+    if (resting.isEmpty()) {
+      return new RecoverySummary(0, 0, 0);
+    }
+    Set<Long> injured = injuryService.getWrestlerIdsWithActiveInjuries(universeId);
+
+    List<WrestlerState> healed = new ArrayList<>();
+    List<WrestlerState> recovering = new ArrayList<>();
+    for (WrestlerState state : resting) {
+      if (state.getBumps() > 0) {
+        int target = injured.contains(state.getWrestler().getId()) ? 5 : 4;
+        if (diceBag.roll() >= target) {
+          healed.add(state);
+        }
+      }
+      if (state.getPhysicalCondition() != null && state.getPhysicalCondition() < 100) {
+        recovering.add(state);
+      }
+    }
+
+    updateInChunks(healed, wrestlerStateRepository::healBumpByIds);
+    updateInChunks(
+        recovering, ids -> wrestlerStateRepository.recoverConditionByIds(ids, conditionAmount));
+
+    // The candidates were loaded read-only, so mirroring the bulk updates does not flush again.
+    healed.forEach(state -> state.setBumps(state.getBumps() - 1));
+    recovering.forEach(
+        state ->
+            state.setPhysicalCondition(
+                Math.min(100, state.getPhysicalCondition() + conditionAmount)));
+    healed.forEach(state -> eventPublisher.publishEvent(new WrestlerBumpHealedEvent(this, state)));
+
+    log.debug(
+        "Recovery pass in universe {}: {} resting, {} healed a bump, {} recovered condition.",
+        universeId,
+        resting.size(),
+        healed.size(),
+        recovering.size());
+    return new RecoverySummary(resting.size(), healed.size(), recovering.size());
+  }
+
+  @Transactional
+  @CacheEvict(
+      value = {CacheConfig.WRESTLERS_CACHE, CacheConfig.WRESTLER_STATS_CACHE},
+      allEntries = true)
+  public RecoverySummary recoverRestingWrestlers(
+      @NonNull final Long universeId,
+      @NonNull final Set<Long> participantIds,
+      final int conditionAmount) {
+    return recoverRestingWrestlers(universeId, participantIds, conditionAmount, new DiceBag(6));
+  }
+
+  private static void updateInChunks(
+      final List<WrestlerState> states, final Consumer<List<Long>> update) {
+    List<Long> ids = states.stream().map(WrestlerState::getId).toList();
+    for (int from = 0; from < ids.size(); from += UPDATE_CHUNK_SIZE) {
+      update.accept(ids.subList(from, Math.min(ids.size(), from + UPDATE_CHUNK_SIZE)));
+    }
+  }
+
   @org.springframework.cache.annotation.Caching(
       evict = {
         @CacheEvict(value = CacheConfig.WRESTLERS_CACHE, key = "#wrestlerId"),
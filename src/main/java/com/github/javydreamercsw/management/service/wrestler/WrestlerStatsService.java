@@ -21,9 +21,9 @@ import com.github.javydreamercsw.management.config.CacheConfig;
 import com.github.javydreamercsw.management.domain.show.segment.Segment;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerDTO;
+import com.github.javydreamercsw.management.domain.wrestler.WrestlerRecordSummary;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerRepository;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerState;
-import com.github.javydreamercsw.management.service.segment.SegmentService;
 import com.github.javydreamercsw.management.service.title.TitleService;
 import java.util.List;
 import java.util.Optional;
@@ -41,17 +41,17 @@ public class WrestlerStatsService {
 
   private final WrestlerRepository wrestlerRepository;
   private final WrestlerService wrestlerService;
-  private final SegmentService segmentService;
+  private final WrestlerRecordService recordService;
   private final TitleService titleService;
 
   public WrestlerStatsService(
       final WrestlerRepository wrestlerRepository,
       @Lazy final WrestlerService wrestlerService,
-      @Lazy final SegmentService segmentService,
+      final WrestlerRecordService recordService,
       @Lazy final TitleService titleService) {
     this.wrestlerRepository = wrestlerRepository;
     this.wrestlerService = wrestlerService;
-    this.segmentService = segmentService;
+    this.recordService = recordService;
     this.titleService = titleService;
   }
 
@@ -79,14 +79,20 @@ public class WrestlerStatsService {
             .findById(wrestlerId)
             .orElseThrow(() -> new IllegalArgumentException("Wrestler not found: " + wrestlerId));
 
-    WrestlerStats stats = new WrestlerStats();
-    stats.setWins(segmentService.countWinsByWrestler(wrestler, universeId));
-    stats.setLosses(segmentService.countLossesByWrestler(wrestler, universeId));
+    WrestlerStats stats = toStats(recordService.getCareerRecord(wrestlerId, universeId));
     stats.setTitlesHeld((long) titleService.findTitlesByChampion(wrestler, universeId).size());
 
     return Optional.of(stats);
   }
 
+  /** Any match that was not a win counts as a loss on the career record, draws included. */
+  private static WrestlerStats toStats(final WrestlerRecordSummary record) {
+    WrestlerStats stats = new WrestlerStats();
+    stats.setWins(record.wins());
+    stats.setLosses(record.losses() + record.draws());
+    return stats;
+  }
+
   private WrestlerDTO toDTO(final Wrestler wrestler, final Long universeId) {
     WrestlerState state = wrestlerService.getOrCreateState(wrestler.getId(), universeId);
     return new WrestlerDTO(state);
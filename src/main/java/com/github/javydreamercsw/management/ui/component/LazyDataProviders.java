@@ -0,0 +1,86 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.ui.component;
+
+import com.vaadin.flow.data.provider.CallbackDataProvider;
+import com.vaadin.flow.data.provider.ConfigurableFilterDataProvider;
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import lombok.NonNull;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Lazy data providers for grids backed by Spring Data paging.
+ *
+ * <p>Each grid request becomes a {@link Pageable} carrying the grid's page and the sort properties
+ * of its sorted columns (see {@code Grid.Column#setSortProperty}), so only the visible page is
+ * loaded and ordering happens in the database. The row count comes from a separate count query.
+ */
+public final class LazyDataProviders {
+
+  private LazyDataProviders() {}
+
+  /**
+   * @param fetch Loads one page of rows
+   * @param count Total number of rows
+   * @param defaultSort Order used while no column is sorted
+   */
+  public static <T> CallbackDataProvider<T, Void> paged(
+      @NonNull final Function<Pageable, ? extends Slice<T>> fetch,
+      @NonNull final LongSupplier count,
+      @NonNull final Sort defaultSort) {
+    return DataProvider.fromCallbacks(
+        query -> fetch.apply(toPageable(query, defaultSort)).stream(),
+        query -> Math.toIntExact(count.getAsLong()));
+  }
+
+  /**
+   * Same as {@link #paged} but with a filter value, set through {@link
+   * ConfigurableFilterDataProvider#setFilter}, handed to both queries. The filter is {@code null}
+   * while none is set.
+   */
+  public static <T, F> ConfigurableFilterDataProvider<T, Void, F> filtered(
+      @NonNull final BiFunction<F, Pageable, ? extends Slice<T>> fetch,
+      @NonNull final ToLongFunction<F> count,
+      @NonNull final Sort defaultSort) {
+    return DataProvider.<T, F>fromFilteringCallbacks(
+            query ->
+                fetch
+                    .apply(query.getFilter().orElse(null), toPageable(query, defaultSort))
+                    .stream(),
+            query -> Math.toIntExact(count.applyAsLong(query.getFilter().orElse(null))))
+        .withConfigurableFilter();
+  }
+
+  /** The page requested by {@code query}, ordered by {@code defaultSort} if it has no order. */
+  public static Pageable toPageable(
+      @NonNull final Query<?, ?> query, @NonNull final Sort defaultSort) {
+    Pageable pageable = VaadinSpringDataHelpers.toSpringPageRequest(query);
+    if (pageable.getSort().isSorted() || defaultSort.isUnsorted()) {
+      return pageable;
+    }
+    return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), defaultSort);
+  }
+}
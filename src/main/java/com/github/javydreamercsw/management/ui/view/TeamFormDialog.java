@@ -28,6 +28,7 @@ import com.github.javydreamercsw.management.service.faction.FactionService;
 import com.github.javydreamercsw.management.service.npc.NpcService;
 import com.github.javydreamercsw.management.service.team.TeamService;
 import com.github.javydreamercsw.management.service.wrestler.WrestlerService;
+import com.github.javydreamercsw.management.ui.component.LazyDataProviders;
 import com.vaadin.flow.component.ModalityMode;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
@@ -41,13 +42,16 @@ import com.vaadin.flow.component.textfield.TextArea;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.data.binder.Binder;
 import com.vaadin.flow.data.binder.ValidationException;
+import com.vaadin.flow.data.provider.Query;
 import com.vaadin.flow.data.validator.StringLengthValidator;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 /**
@@ -285,15 +289,9 @@ public class TeamFormDialog extends Dialog {
   }
 
   private void loadComboBoxData() {
-    // Load wrestlers
-    wrestler1Field.setItems(
-        wrestlerRepository.findAll().stream()
-            .sorted(Comparator.comparing(Wrestler::getName))
-            .collect(Collectors.toList()));
-    wrestler2Field.setItems(
-        wrestlerRepository.findAll().stream()
-            .sorted(Comparator.comparing(Wrestler::getName))
-            .collect(Collectors.toList()));
+    // Wrestlers are searched by name one page at a time instead of loading the whole roster
+    wrestler1Field.setItems(this::fetchWrestlers);
+    wrestler2Field.setItems(this::fetchWrestlers);
     // Load factions
     factionField.setItems(
         factionService.findAll().stream()
@@ -306,6 +304,13 @@ public class TeamFormDialog extends Dialog {
             .collect(Collectors.toList()));
   }
 
+  private Stream<Wrestler> fetchWrestlers(final Query<Wrestler, String> query) {
+    return wrestlerRepository
+        .findByNameContainingIgnoreCase(
+            query.getFilter().orElse(""), LazyDataProviders.toPageable(query, Sort.by("name")))
+        .stream();
+  }
+
   public void setTeam(final TeamDTO team) {
     this.currentTeam = team;
 
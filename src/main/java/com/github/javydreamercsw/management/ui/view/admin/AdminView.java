@@ -25,6 +25,7 @@ import com.github.javydreamercsw.base.ui.service.NotificationService;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerStateRepository;
 import com.github.javydreamercsw.management.service.ranking.TierRecalculationService;
 import com.github.javydreamercsw.management.service.universe.UniverseContextService;
+import com.github.javydreamercsw.management.service.wrestler.WrestlerRecordService;
 import com.github.javydreamercsw.management.service.wrestler.WrestlerService;
 import com.github.javydreamercsw.management.ui.view.AiSettingsView;
 import com.github.javydreamercsw.management.ui.view.GameSettingsView;
@@ -62,6 +63,7 @@ public class AdminView extends VerticalLayout {
   private final WrestlerStateRepository wrestlerStateRepository;
   private final ImageCleanupService imageCleanupService;
   private final WrestlerService wrestlerService;
+  private final WrestlerRecordService wrestlerRecordService;
   private final UniverseContextService universeContextService;
   private final NotificationService notificationService;
 
@@ -71,12 +73,14 @@ public class AdminView extends VerticalLayout {
       final WrestlerStateRepository wrestlerStateRepository,
       final ImageCleanupService imageCleanupService,
       final WrestlerService wrestlerService,
+      final WrestlerRecordService wrestlerRecordService,
       final UniverseContextService universeContextService,
       final NotificationService notificationService) {
     this.rankingService = rankingService;
     this.wrestlerStateRepository = wrestlerStateRepository;
     this.imageCleanupService = imageCleanupService;
     this.wrestlerService = wrestlerService;
+    this.wrestlerRecordService = wrestlerRecordService;
     this.universeContextService = universeContextService;
     this.notificationService = notificationService;
     initializeUI();
@@ -221,6 +225,24 @@ public class AdminView extends VerticalLayout {
           }
         });
 
+    Button previewCleanupButton = new Button("Preview AI Image Cleanup");
+    previewCleanupButton.addClickListener(
+        event -> {
+          try {
+            ImageCleanupService.CleanupReport report = imageCleanupService.cleanup(true, null);
+            notificationService.showSuccess(
+                report.unused()
+                    + " of "
+                    + report.scanned()
+                    + " generated images are unused ("
+                    + report.bytes() / 1024
+                    + " KB).");
+          } catch (Exception e) {
+            notificationService.showError("Error previewing image cleanup: " + e.getMessage());
+            log.error("Error during image cleanup preview", e);
+          }
+        });
+
     Button resetConditionButton = new Button("Reset Wrestler Physical Condition");
     resetConditionButton.addThemeVariants(ButtonVariant.LUMO_ERROR);
     resetConditionButton.addClickListener(
@@ -234,13 +256,31 @@ public class AdminView extends VerticalLayout {
           }
         });
 
+    Button rebuildRecordsButton = new Button("Rebuild Win/Loss Records");
+    rebuildRecordsButton.addClickListener(
+        event -> {
+          try {
+            int count = wrestlerRecordService.rebuildAll();
+            notificationService.showSuccess(
+                "Win/loss records rebuilt from match history (" + count + " rows).");
+          } catch (Exception e) {
+            notificationService.showError("Error rebuilding win/loss records: " + e.getMessage());
+            log.error("Error during win/loss record rebuild", e);
+          }
+        });
+
     Button observabilityButton = new Button("System Observability Dashboard");
     observabilityButton.setId("observability-dashboard");
     observabilityButton.addClickListener(
         event -> UI.getCurrent().navigate(SystemObservabilityView.class));
 
     content.add(
-        recalculateTiersButton, cleanupImagesButton, resetConditionButton, observabilityButton);
+        recalculateTiersButton,
+        previewCleanupButton,
+        cleanupImagesButton,
+        resetConditionButton,
+        rebuildRecordsButton,
+        observabilityButton);
     return content;
   }
 }
@@ -19,16 +19,17 @@ package com.github.javydreamercsw.management.ui.view.booker;
 import static com.github.javydreamercsw.base.domain.account.RoleName.ADMIN_ROLE;
 import static com.github.javydreamercsw.base.domain.account.RoleName.BOOKER_ROLE;
 
+import com.github.javydreamercsw.base.domain.wrestler.WrestlerTier;
 import com.github.javydreamercsw.base.ui.component.ViewToolbar;
 import com.github.javydreamercsw.management.domain.rivalry.Rivalry;
 import com.github.javydreamercsw.management.domain.show.Show;
-import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
-import com.github.javydreamercsw.management.domain.wrestler.WrestlerState;
+import com.github.javydreamercsw.management.dto.RosterOverviewDTO;
 import com.github.javydreamercsw.management.service.news.NewsService;
 import com.github.javydreamercsw.management.service.rivalry.RivalryService;
 import com.github.javydreamercsw.management.service.show.ShowService;
 import com.github.javydreamercsw.management.service.universe.UniverseContextService;
 import com.github.javydreamercsw.management.service.wrestler.WrestlerService;
+import com.github.javydreamercsw.management.ui.component.LazyDataProviders;
 import com.github.javydreamercsw.management.ui.component.news.NewsTickerComponent;
 import com.github.javydreamercsw.management.ui.view.MainLayout;
 import com.github.javydreamercsw.management.ui.view.rivalry.RivalryListView;
@@ -37,7 +38,6 @@ import com.github.javydreamercsw.management.ui.view.wrestler.WrestlerListView;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.grid.Grid;
-import com.vaadin.flow.component.grid.GridSortOrder;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.H2;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
@@ -50,6 +50,7 @@ import com.vaadin.flow.theme.lumo.LumoUtility;
 import jakarta.annotation.security.RolesAllowed;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 
 @Route(value = "booker", layout = MainLayout.class)
 @PageTitle("Booker Dashboard | ATW RPG")
@@ -142,7 +143,7 @@ public class BookerView extends VerticalLayout {
   }
 
   private Div createPages(final Tabs tabs) {
-    Grid<Wrestler> rosterGrid = createRosterOverviewGrid();
+    Grid<RosterOverviewDTO> rosterGrid = createRosterOverviewGrid();
     Grid<Show> showsGrid = createUpcomingShowsGrid();
     Grid<Rivalry> rivalriesGrid = createActiveRivalriesGrid();
 
@@ -169,31 +170,41 @@ public class BookerView extends VerticalLayout {
     return pages;
   }
 
-  private Grid<Wrestler> createRosterOverviewGrid() {
-    Grid<Wrestler> grid = new Grid<>();
+  private Grid<RosterOverviewDTO> createRosterOverviewGrid() {
+    Grid<RosterOverviewDTO> grid = new Grid<>();
     grid.setId("roster-overview-grid");
-    Grid.Column<Wrestler> nameColumn =
-        grid.addColumn(Wrestler::getName).setHeader("Name").setSortable(true);
+    grid.addColumn(RosterOverviewDTO::getName)
+        .setHeader("Name")
+        .setSortable(true)
+        .setSortProperty("name");
 
     grid.addColumn(
-            wrestler -> {
-              WrestlerState state =
-                  wrestlerService.getOrCreateState(
-                      wrestler.getId(), universeContextService.getCurrentUniverseId());
-              return state.getTier().getDisplayWithEmoji();
-            })
+            row ->
+                (row.getTier() != null ? row.getTier() : WrestlerTier.ROOKIE)
+                    .getDisplayWithEmoji())
         .setHeader("Tier")
-        .setSortable(true);
-
-    grid.addColumn(Wrestler::getGender).setHeader("Gender").setSortable(true);
-    grid.addColumn(Wrestler::getIsPlayer).setHeader("Is Player?").setSortable(true);
-
-    grid.setItems(wrestlerService.findAll());
+        .setSortable(true)
+        .setSortProperty("s.tier");
+
+    grid.addColumn(RosterOverviewDTO::getGender)
+        .setHeader("Gender")
+        .setSortable(true)
+        .setSortProperty("gender");
+    grid.addColumn(RosterOverviewDTO::getIsPlayer)
+        .setHeader("Is Player?")
+        .setSortable(true)
+        .setSortProperty("isPlayer");
+
+    // Rows are paged from the database, sorted by name until a column is sorted.
+    grid.setItems(
+        LazyDataProviders.paged(
+            pageable ->
+                wrestlerService.getRosterOverview(
+                    universeContextService.getCurrentUniverseId(), pageable),
+            wrestlerService::count,
+            Sort.by("name")));
     grid.setSizeFull();
 
-    // Default sorting by Name
-    grid.sort(GridSortOrder.asc(nameColumn).build());
-
     return grid;
   }
 
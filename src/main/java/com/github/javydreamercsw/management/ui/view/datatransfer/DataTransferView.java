@@ -19,6 +19,7 @@ package com.github.javydreamercsw.management.ui.view.datatransfer;
 import static com.github.javydreamercsw.base.domain.account.RoleName.ADMIN_ROLE;
 
 import com.github.javydreamercsw.base.service.db.DataMigrationService;
+import com.github.javydreamercsw.base.service.db.MigrationProgressListener;
 import com.github.javydreamercsw.base.service.db.DatabaseManager;
 import com.github.javydreamercsw.base.service.db.DatabaseManagerFactory;
 import com.github.javydreamercsw.base.ui.component.ViewToolbar;
@@ -314,9 +315,27 @@ public class DataTransferView extends Main {
     }
   }
 
+  private void showMigrationProgress(final MigrationProgressListener.Progress progress) {
+    getUI()
+        .ifPresent(
+            ui ->
+                ui.access(
+                    () -> {
+                      progressBar.setIndeterminate(false);
+                      progressBar.setValue(progress.fraction());
+                      statusLabel.setText(
+                          String.format(
+                              "Migrated %s (%d/%d tables)",
+                              progress.table(),
+                              progress.completedTables(),
+                              progress.totalTables()));
+                    }));
+  }
+
   private void transferData() {
     currentStep = 3;
     updateStep();
+    progressBar.setIndeterminate(true);
     progressBar.setVisible(true);
     statusLabel.setText("Starting data transfer...");
     nextButton.setEnabled(false);
@@ -339,7 +358,8 @@ public class DataTransferView extends Main {
                       targetPort.getValue(),
                       targetDatabase.getValue(),
                       targetUser.getValue(),
-                      targetPassword.getValue());
+                      targetPassword.getValue(),
+                      this::showMigrationProgress);
                 } else {
                   Thread.sleep(2000);
                   log.info("Simulating migration of table: {}", selectedTable);
@@ -23,6 +23,7 @@ import com.github.javydreamercsw.management.domain.deck.DeckCard;
 import com.github.javydreamercsw.management.service.card.CardService;
 import com.github.javydreamercsw.management.service.deck.DeckCardService;
 import com.github.javydreamercsw.management.service.deck.DeckService;
+import com.github.javydreamercsw.management.ui.component.LazyDataProviders;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.combobox.ComboBox;
 import com.vaadin.flow.component.dialog.Dialog;
@@ -39,6 +40,7 @@ import jakarta.annotation.security.RolesAllowed;
 import java.util.Comparator;
 import java.util.stream.Collectors;
 import lombok.NonNull;
+import org.springframework.data.domain.Sort;
 
 @Route("deck-list")
 @PageTitle("Deck List")
@@ -66,7 +68,8 @@ public class DeckListView extends VerticalLayout {
     deckGrid
         .addColumn(deck -> deck.getWrestler().getName())
         .setHeader("Wrestler")
-        .setSortable(true);
+        .setSortable(true)
+        .setSortProperty("wrestler.name");
     deckGrid
         .addComponentColumn(
             deck -> {
@@ -93,7 +96,8 @@ public class DeckListView extends VerticalLayout {
                 deckGrid.setItems(deckService.findByWrestler(user.getWrestler()));
               });
     } else {
-      deckGrid.setItems(deckService.findAll());
+      deckGrid.setItems(
+          LazyDataProviders.paged(deckService::findPage, deckService::count, Sort.by("id")));
     }
     deckGrid.getStyle().set("height", "100vh");
     add(deckGrid);
@@ -23,10 +23,9 @@ import com.github.javydreamercsw.management.domain.league.DraftPickRepository;
 import com.github.javydreamercsw.management.domain.league.DraftRepository;
 import com.github.javydreamercsw.management.domain.league.League;
 import com.github.javydreamercsw.management.domain.league.LeagueRepository;
-import com.github.javydreamercsw.management.domain.league.LeagueRosterRepository;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
-import com.github.javydreamercsw.management.domain.wrestler.WrestlerRepository;
 import com.github.javydreamercsw.management.event.league.DraftBroadcaster;
+import com.github.javydreamercsw.management.service.league.DraftPoolService;
 import com.github.javydreamercsw.management.service.league.DraftService;
 import com.github.javydreamercsw.management.ui.view.MainLayout;
 import com.vaadin.flow.component.AttachEvent;
@@ -37,6 +36,7 @@ import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.grid.GridSortOrder;
+import com.vaadin.flow.component.grid.dataview.GridListDataView;
 import com.vaadin.flow.component.html.H2;
 import com.vaadin.flow.component.html.H3;
 import com.vaadin.flow.component.html.Span;
@@ -50,9 +50,7 @@ import com.vaadin.flow.router.Route;
 import com.vaadin.flow.shared.Registration;
 import com.vaadin.flow.theme.lumo.LumoUtility;
 import jakarta.annotation.security.PermitAll;
-import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
 import lombok.extern.slf4j.Slf4j;
 
 @Route(value = "draft", layout = MainLayout.class)
@@ -65,8 +63,7 @@ public class DraftView extends VerticalLayout implements HasUrlParameter<Long> {
   private final DraftRepository draftRepository;
   private final LeagueRepository leagueRepository;
   private final DraftPickRepository draftPickRepository;
-  private final WrestlerRepository wrestlerRepository;
-  private final LeagueRosterRepository leagueRosterRepository;
+  private final DraftPoolService draftPoolService;
   private final SecurityUtils securityUtils;
   private final DraftBroadcaster draftBroadcaster;
 
@@ -74,6 +71,8 @@ public class DraftView extends VerticalLayout implements HasUrlParameter<Long> {
   private League league;
   private Draft draft;
   private Registration registration;
+  private GridListDataView<Wrestler> availableWrestlers;
+  private long poolVersion;
 
   private final Grid<Wrestler> availableWrestlersGrid = new Grid<>(Wrestler.class, false);
   private final Grid<DraftPick> pickHistoryGrid = new Grid<>(DraftPick.class, false);
@@ -85,16 +84,14 @@ public class DraftView extends VerticalLayout implements HasUrlParameter<Long> {
       final DraftRepository draftRepository,
       final LeagueRepository leagueRepository,
       final DraftPickRepository draftPickRepository,
-      final WrestlerRepository wrestlerRepository,
-      final LeagueRosterRepository leagueRosterRepository,
+      final DraftPoolService draftPoolService,
       final SecurityUtils securityUtils,
       final DraftBroadcaster draftBroadcaster) {
     this.draftService = draftService;
     this.draftRepository = draftRepository;
     this.leagueRepository = leagueRepository;
     this.draftPickRepository = draftPickRepository;
-    this.wrestlerRepository = wrestlerRepository;
-    this.leagueRosterRepository = leagueRosterRepository;
+    this.draftPoolService = draftPoolService;
     this.securityUtils = securityUtils;
     this.draftBroadcaster = draftBroadcaster;
 
@@ -295,22 +292,27 @@ public class DraftView extends VerticalLayout implements HasUrlParameter<Long> {
   }
 
   private void refreshGrids() {
-    // Get drafted IDs
-    Set<Long> draftedWrestlerIds =
-        leagueRosterRepository.findByLeague(league).stream()
-            .map(r -> r.getWrestler().getId())
-            .collect(Collectors.toSet());
-
-    Set<Long> excludedWrestlerIds =
-        league.getExcludedWrestlers().stream().map(Wrestler::getId).collect(Collectors.toSet());
-
-    List<Wrestler> available =
-        wrestlerRepository.findAllByActiveTrue().stream()
-            .filter(w -> !draftedWrestlerIds.contains(w.getId()))
-            .filter(w -> !excludedWrestlerIds.contains(w.getId()))
-            .collect(Collectors.toList());
-
-    availableWrestlersGrid.setItems(available);
+    DraftPoolService.PoolUpdate pool = draftPoolService.getAvailable(draft);
+    availableWrestlers = availableWrestlersGrid.setItems(new ArrayList<>(pool.available()));
+    poolVersion = pool.version();
+    pickHistoryGrid.setItems(draftPickRepository.findByDraftOrderByPickNumberAsc(draft));
+  }
+
+  /** Applies only what changed in the pool since this screen last showed it. */
+  private void applyPoolChanges() {
+    DraftPoolService.PoolUpdate update = draftPoolService.changesSince(draft, poolVersion);
+    if (update.isFull() || availableWrestlers == null) {
+      availableWrestlers = availableWrestlersGrid.setItems(new ArrayList<>(update.available()));
+    } else if (!update.removedWrestlerIds().isEmpty()) {
+      availableWrestlers.removeItems(
+          availableWrestlers
+              .getItems()
+              .filter(w -> update.removedWrestlerIds().contains(w.getId()))
+              .toList());
+    }
+    poolVersion = update.version();
+    // Picking re-renders the action column so the buttons follow the new turn.
+    availableWrestlers.refreshAll();
     pickHistoryGrid.setItems(draftPickRepository.findByDraftOrderByPickNumberAsc(draft));
   }
 
@@ -325,7 +327,7 @@ public class DraftView extends VerticalLayout implements HasUrlParameter<Long> {
                     () -> {
                       refreshData();
                       updateStatusLabels();
-                      refreshGrids();
+                      applyPoolChanges();
                     });
               }
             });
@@ -67,6 +67,7 @@ import com.github.javydreamercsw.management.ui.component.RingsideActionComponent
 import com.github.javydreamercsw.management.ui.component.WrestlerSummaryCard;
 import com.github.javydreamercsw.management.ui.view.MainLayout;
 import com.github.javydreamercsw.management.ui.view.show.MatchInfoDialog;
+import com.vaadin.flow.component.DetachEvent;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
@@ -103,6 +104,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -150,6 +153,7 @@ public class MatchView extends VerticalLayout implements BeforeEnterObserver {
   private CommentaryComponent commentaryComponent;
   private DashboardCard narrationCard;
   private Button aiGenerateButton;
+  private CompletableFuture<String> pendingNarration;
 
   @Autowired
   public MatchView(
@@ -197,6 +201,16 @@ public class MatchView extends VerticalLayout implements BeforeEnterObserver {
     this.notificationService = notificationService;
   }
 
+  @Override
+  protected void onDetach(final DetachEvent detachEvent) {
+    super.onDetach(detachEvent);
+    // Nobody is left to show the narration; let the provider call go.
+    if (pendingNarration != null) {
+      pendingNarration.cancel(true);
+      pendingNarration = null;
+    }
+  }
+
   @Override
   public void beforeEnter(final BeforeEnterEvent event) {
     try {
@@ -1309,9 +1323,9 @@ public class MatchView extends VerticalLayout implements BeforeEnterObserver {
 
       com.vaadin.flow.component.UI ui = com.vaadin.flow.component.UI.getCurrent();
       aiGenerateButton.setEnabled(false);
-      narrationServiceFactory
-          .getBestAvailableService()
-          .narrateSegmentAsync(context)
+      pendingNarration =
+          narrationServiceFactory.getBestAvailableService().narrateSegmentAsync(context);
+      pendingNarration
           .thenAccept(
               generated -> {
                 if (generated != null && !generated.isEmpty()) {
@@ -1335,6 +1349,10 @@ public class MatchView extends VerticalLayout implements BeforeEnterObserver {
               })
           .exceptionally(
               ex -> {
+                if (ex instanceof CancellationException
+                    || ex.getCause() instanceof CancellationException) {
+                  return null;
+                }
                 log.error("Failed to generate AI narration", ex);
                 ui.access(
                     () -> {
@@ -19,6 +19,8 @@ package com.github.javydreamercsw.management.ui.view.season;
 import com.github.javydreamercsw.base.security.SecurityUtils;
 import com.github.javydreamercsw.management.domain.season.Season;
 import com.github.javydreamercsw.management.service.season.SeasonService;
+import com.github.javydreamercsw.management.service.season.SeasonStatsService;
+import com.github.javydreamercsw.management.service.season.SeasonStatsService.Standing;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.checkbox.Checkbox;
@@ -62,6 +64,7 @@ import org.springframework.data.domain.Pageable;
 public class SeasonListView extends Main {
 
   private final SeasonService seasonService;
+  private final SeasonStatsService seasonStatsService;
   private final SecurityUtils securityUtils;
   private final Grid<Season> grid;
   private final TextField searchField;
@@ -77,8 +80,11 @@ public class SeasonListView extends Main {
   private Binder<Season> binder;
 
   public SeasonListView(
-      @NonNull final SeasonService seasonService, @NonNull final SecurityUtils securityUtils) {
+      @NonNull final SeasonService seasonService,
+      @NonNull final SeasonStatsService seasonStatsService,
+      @NonNull final SecurityUtils securityUtils) {
     this.seasonService = seasonService;
+    this.seasonStatsService = seasonStatsService;
     this.securityUtils = securityUtils;
     this.grid = new Grid<>(Season.class, false);
     this.searchField = new TextField();
@@ -162,6 +168,10 @@ public class SeasonListView extends Main {
               editBtn.addClickListener(e -> openEditDialog(season));
               editBtn.setVisible(securityUtils.canEdit());
 
+              Button standingsBtn = new Button("Standings", VaadinIcon.TROPHY.create());
+              standingsBtn.addThemeVariants(ButtonVariant.LUMO_SMALL, ButtonVariant.LUMO_TERTIARY);
+              standingsBtn.addClickListener(e -> openStandingsDialog(season));
+
               Icon toggleIcon =
                   Boolean.TRUE.equals(season.getIsActive())
                       ? VaadinIcon.EYE.create()
@@ -188,7 +198,7 @@ public class SeasonListView extends Main {
               deleteBtn.addClickListener(e -> deleteSeason(season));
               deleteBtn.setVisible(securityUtils.canDelete());
 
-              return new HorizontalLayout(editBtn, toggleBtn, deleteBtn);
+              return new HorizontalLayout(standingsBtn, editBtn, toggleBtn, deleteBtn);
             })
         .setHeader("Actions")
         .setFlexGrow(0);
@@ -282,6 +292,30 @@ public class SeasonListView extends Main {
         .bind(Season::getEndDate, Season::setEndDate);
   }
 
+  private void openStandingsDialog(final Season season) {
+    Grid<Standing> standingsGrid = new Grid<>(Standing.class, false);
+    standingsGrid.setId("season-standings-grid");
+    standingsGrid.addThemeVariants(GridVariant.LUMO_NO_BORDER, GridVariant.LUMO_COMPACT);
+    standingsGrid.addColumn(Standing::wrestlerName).setHeader("Wrestler").setAutoWidth(true);
+    standingsGrid.addColumn(Standing::wins).setHeader("W");
+    standingsGrid.addColumn(Standing::losses).setHeader("L");
+    standingsGrid.addColumn(Standing::draws).setHeader("D");
+    try {
+      standingsGrid.setItems(seasonStatsService.calculateStandings(season));
+    } catch (Exception e) {
+      log.error("Error loading standings for season: {}", season.getName(), e);
+      showErrorNotification("Error loading standings: " + e.getMessage());
+      return;
+    }
+
+    Dialog standingsDialog = new Dialog();
+    standingsDialog.setHeaderTitle(season.getName() + " Standings");
+    standingsDialog.setWidth("500px");
+    standingsDialog.add(standingsGrid);
+    standingsDialog.getFooter().add(new Button("Close", e -> standingsDialog.close()));
+    standingsDialog.open();
+  }
+
   private void openEditDialog(final Season season) {
     editingSeason = season;
 
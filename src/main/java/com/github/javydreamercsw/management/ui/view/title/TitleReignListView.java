@@ -23,6 +23,7 @@ import com.github.javydreamercsw.management.domain.title.TitleRepository;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerRepository;
 import com.github.javydreamercsw.management.service.title.TitleService;
+import com.github.javydreamercsw.management.ui.component.LazyDataProviders;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.combobox.ComboBox;
@@ -41,6 +42,7 @@ import com.vaadin.flow.component.notification.NotificationVariant;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.textfield.IntegerField;
 import com.vaadin.flow.component.textfield.TextArea;
+import com.vaadin.flow.data.provider.ConfigurableFilterDataProvider;
 import com.vaadin.flow.router.Menu;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
@@ -51,11 +53,10 @@ import jakarta.annotation.security.RolesAllowed;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
-import java.util.Comparator;
 import java.util.LinkedHashSet;
-import java.util.List;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
 
 /**
  * Admin tool for directly inspecting and correcting {@link TitleReign} rows — e.g. removing reigns
@@ -73,6 +74,7 @@ public class TitleReignListView extends Main {
   private final TitleRepository titleRepository;
   private final WrestlerRepository wrestlerRepository;
   private final Grid<TitleReign> grid = new Grid<>(TitleReign.class, false);
+  private final ConfigurableFilterDataProvider<TitleReign, Void, Title> dataProvider;
 
   public TitleReignListView(
       @NonNull final TitleService titleService,
@@ -81,6 +83,11 @@ public class TitleReignListView extends Main {
     this.titleService = titleService;
     this.titleRepository = titleRepository;
     this.wrestlerRepository = wrestlerRepository;
+    this.dataProvider =
+        LazyDataProviders.filtered(
+            titleService::getReigns,
+            titleService::countReigns,
+            Sort.by("title.name", "startDate"));
 
     addClassNames(
         LumoUtility.BoxSizing.BORDER,
@@ -91,33 +98,44 @@ public class TitleReignListView extends Main {
         Height.FULL,
         Width.FULL);
 
-    add(new ViewToolbar("Title Reigns"));
+    ComboBox<Title> titleFilter = new ComboBox<>();
+    titleFilter.setPlaceholder("All titles");
+    titleFilter.setClearButtonVisible(true);
+    titleFilter.setItems(titleRepository.findAll());
+    titleFilter.setItemLabelGenerator(Title::getName);
+    titleFilter.addValueChangeListener(e -> dataProvider.setFilter(e.getValue()));
+    add(new ViewToolbar("Title Reigns", ViewToolbar.group(titleFilter)));
 
     setupGrid();
+    grid.setItems(dataProvider);
     grid.addClassNames(LumoUtility.Flex.GROW);
     add(grid);
-    refreshGrid();
   }
 
   private void setupGrid() {
     grid.addThemeVariants(GridVariant.LUMO_ROW_STRIPES);
     grid.addColumn(reign -> reign.getTitle() != null ? reign.getTitle().getName() : "")
         .setHeader("Title")
-        .setSortable(true);
+        .setSortable(true)
+        .setSortProperty("title.name");
     grid.addColumn(
             reign ->
                 reign.getChampions().stream()
                     .map(Wrestler::getName)
                     .collect(java.util.stream.Collectors.joining(" & ")))
-        .setHeader("Champion(s)")
-        .setSortable(true);
-    grid.addColumn(TitleReign::getReignNumber).setHeader("Reign #").setSortable(true);
+        .setHeader("Champion(s)");
+    grid.addColumn(TitleReign::getReignNumber)
+        .setHeader("Reign #")
+        .setSortable(true)
+        .setSortProperty("reignNumber");
     grid.addColumn(reign -> formatInstant(reign.getStartDate()))
         .setHeader("Start Date")
-        .setSortable(true);
+        .setSortable(true)
+        .setSortProperty("startDate");
     grid.addColumn(reign -> reign.getEndDate() != null ? formatInstant(reign.getEndDate()) : "—")
         .setHeader("End Date")
-        .setSortable(true);
+        .setSortable(true)
+        .setSortProperty("endDate");
     grid.addColumn(
             reign -> {
               if (reign.getEndDate() == null) {
@@ -126,8 +144,7 @@ public class TitleReignListView extends Main {
               long days = reign.getReignLengthDays(reign.getEndDate());
               return String.valueOf(days);
             })
-        .setHeader("Days")
-        .setSortable(true);
+        .setHeader("Days");
     grid.addColumn(reign -> reign.getWonAtSegment() != null ? reign.getWonAtSegment().getId() : "—")
         .setHeader("Won At Segment");
     grid.addComponentColumn(
@@ -150,11 +167,7 @@ public class TitleReignListView extends Main {
   }
 
   public void refreshGrid() {
-    List<TitleReign> reigns = titleService.getAllReigns();
-    reigns.sort(
-        Comparator.comparing((TitleReign r) -> r.getTitle() != null ? r.getTitle().getName() : "")
-            .thenComparing(TitleReign::getStartDate));
-    grid.setItems(reigns);
+    dataProvider.refreshAll();
   }
 
   private Dialog openEditDialog(@NonNull final TitleReign reign) {
@@ -167,9 +180,14 @@ public class TitleReignListView extends Main {
     titleField.setItemLabelGenerator(Title::getName);
     titleField.setValue(reign.getTitle());
 
-    List<Wrestler> allWrestlers = wrestlerRepository.findAll();
     MultiSelectComboBox<Wrestler> championsField = new MultiSelectComboBox<>("Champion(s)");
-    championsField.setItems(allWrestlers);
+    championsField.setItems(
+        query ->
+            wrestlerRepository
+                .findByNameContainingIgnoreCase(
+                    query.getFilter().orElse(""),
+                    LazyDataProviders.toPageable(query, Sort.by("name")))
+                .stream());
     championsField.setItemLabelGenerator(Wrestler::getName);
     championsField.setValue(new LinkedHashSet<>(reign.getChampions()));
 
@@ -22,7 +22,7 @@ import com.github.javydreamercsw.management.domain.wrestler.WrestlerState;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerStateRepository;
 import com.github.javydreamercsw.management.service.export.CsvExportWriter;
 import com.github.javydreamercsw.management.service.export.ExportCategory;
-import com.github.javydreamercsw.management.service.export.ExportPayload;
+import com.github.javydreamercsw.management.service.export.ExportRowSink;
 import com.github.javydreamercsw.management.service.export.JsonExportWriter;
 import com.github.javydreamercsw.management.service.export.UniverseExportService;
 import com.github.javydreamercsw.management.service.export.WrestlerFilter;
@@ -36,8 +36,6 @@ import com.vaadin.flow.component.html.H4;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.radiobutton.RadioButtonGroup;
 import com.vaadin.flow.server.streams.DownloadHandler;
-import com.vaadin.flow.server.streams.DownloadResponse;
-import java.io.ByteArrayInputStream;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
@@ -108,35 +106,34 @@ public class ExportDataDialog extends Dialog {
     downloadBtn.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
     downloadBtn.setId("export-download-button");
 
+    // Rows are written to the response as they are read, so the export never sits in memory.
     Anchor downloadAnchor =
         new Anchor(
-            DownloadHandler.fromInputStream(
+            (DownloadHandler)
                 event -> {
+                  Set<ExportCategory> categories = categoryGroup.getSelectedItems();
+                  WrestlerFilter filter = buildFilter(scopeGroup.getValue(), wrestlerPicker);
+                  ExportRowSink.Source rows =
+                      sink -> exportService.export(universe, categories, filter, sink);
                   try {
-                    Set<ExportCategory> categories = categoryGroup.getSelectedItems();
-                    WrestlerFilter filter = buildFilter(scopeGroup.getValue(), wrestlerPicker);
-                    ExportPayload payload = exportService.collect(universe, categories, filter);
-
                     if (FORMAT_CSV.equals(formatGroup.getValue())) {
-                      byte[] data = csvWriter.write(payload, universe.getName());
-                      return new DownloadResponse(
-                          new ByteArrayInputStream(data),
-                          universe.getName() + "-export.zip",
-                          "application/zip",
-                          data.length);
+                      event.setFileName(universe.getName() + "-export.zip");
+                      event.setContentType("application/zip");
+                      csvWriter.write(event.getOutputStream(), universe.getName(), rows);
                     } else {
-                      byte[] data = jsonWriter.write(payload, universe.getName());
-                      return new DownloadResponse(
-                          new ByteArrayInputStream(data),
-                          universe.getName() + "-export.json",
-                          "application/json",
-                          data.length);
+                      event.setFileName(universe.getName() + "-export.json");
+                      event.setContentType("application/json");
+                      jsonWriter.write(event.getOutputStream(), universe.getName(), rows);
                     }
                   } catch (Exception ex) {
                     log.error("Export failed for universe {}", universe.getId(), ex);
-                    return DownloadResponse.error(500);
+                    // Part of the file may already be sent, so no status can be set any more.
+                    // Failing the request aborts the download instead of leaving a truncated
+                    // file that looks complete.
+                    throw new IllegalStateException(
+                        "Export failed for universe " + universe.getId(), ex);
                   }
-                }),
+                },
             "");
     downloadAnchor.add(downloadBtn);
 
@@ -33,6 +33,7 @@ import com.github.javydreamercsw.management.service.universe.JoinRequestService;
 import com.github.javydreamercsw.management.service.universe.UniverseMembershipService;
 import com.github.javydreamercsw.management.service.universe.UniverseService;
 import com.github.javydreamercsw.management.service.universe.UniverseSettingsService;
+import com.github.javydreamercsw.management.ui.component.LazyDataProviders;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.confirmdialog.ConfirmDialog;
@@ -53,18 +54,17 @@ import com.vaadin.flow.router.Menu;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 import com.vaadin.flow.server.streams.DownloadHandler;
-import com.vaadin.flow.server.streams.DownloadResponse;
 import com.vaadin.flow.server.streams.UploadHandler;
 import com.vaadin.flow.theme.lumo.LumoUtility;
 import com.vaadin.flow.theme.lumo.LumoUtility.Height;
 import com.vaadin.flow.theme.lumo.LumoUtility.Width;
 import jakarta.annotation.security.RolesAllowed;
-import java.io.ByteArrayInputStream;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
 
 @Route("universe-list")
 @PageTitle("Universes")
@@ -147,20 +147,18 @@ public class UniverseListView extends Main {
     final int finalImageCount = imageCount;
     Anchor exportImagesAnchor =
         new Anchor(
-            DownloadHandler.fromInputStream(
+            (DownloadHandler)
                 event -> {
+                  event.setFileName("images-export.zip");
+                  event.setContentType("application/zip");
                   try {
-                    byte[] data = imageExportService.exportImages();
-                    return new DownloadResponse(
-                        new ByteArrayInputStream(data),
-                        "images-export.zip",
-                        "application/zip",
-                        data.length);
+                    imageExportService.exportImages(event.getOutputStream());
                   } catch (Exception ex) {
                     log.error("Image export failed", ex);
-                    return DownloadResponse.error(500);
+                    // The response is likely committed; fail it so the partial zip is discarded.
+                    throw new IllegalStateException("Image export failed", ex);
                   }
-                }),
+                },
             "");
     exportImagesBtn.addClickListener(
         e ->
@@ -208,11 +206,20 @@ public class UniverseListView extends Main {
 
   private void setupGrid() {
     grid.addThemeVariants(GridVariant.LUMO_ROW_STRIPES);
-    grid.addColumn(Universe::getName).setHeader("Name").setSortable(true);
-    grid.addColumn(u -> formatType(u.getType())).setHeader("Type").setSortable(true);
+    grid.addColumn(Universe::getName)
+        .setHeader("Name")
+        .setSortable(true)
+        .setSortProperty("name");
+    grid.addColumn(u -> formatType(u.getType()))
+        .setHeader("Type")
+        .setSortable(true)
+        .setSortProperty("type");
     grid.addColumn(u -> u.getCreationDate() != null ? DATE_FMT.format(u.getCreationDate()) : "")
         .setHeader("Created")
-        .setSortable(true);
+        .setSortable(true)
+        .setSortProperty("creationDate");
+    grid.setItems(
+        LazyDataProviders.paged(universeService::list, universeService::count, Sort.by("name")));
 
     grid.addComponentColumn(
             universe -> {
@@ -269,7 +276,7 @@ public class UniverseListView extends Main {
   }
 
   public void refreshGrid() {
-    grid.setItems(universeService.findAll());
+    grid.getDataProvider().refreshAll();
   }
 
   UniverseFormDialog openCreateDialog() {
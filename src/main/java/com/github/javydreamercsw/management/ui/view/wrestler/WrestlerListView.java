@@ -23,6 +23,7 @@ import com.github.javydreamercsw.base.ui.component.ViewToolbar;
 import com.github.javydreamercsw.management.domain.campaign.AlignmentType;
 import com.github.javydreamercsw.management.domain.campaign.WrestlerAlignment;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
+import com.github.javydreamercsw.management.domain.wrestler.WrestlerRecordSummary;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerState;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerStateRepository;
 import com.github.javydreamercsw.management.service.campaign.AlignmentService;
@@ -33,6 +34,7 @@ import com.github.javydreamercsw.management.service.injury.InjuryTypeService;
 import com.github.javydreamercsw.management.service.npc.NpcService;
 import com.github.javydreamercsw.management.service.universe.UniverseContextService;
 import com.github.javydreamercsw.management.service.universe.UniverseSettingsService;
+import com.github.javydreamercsw.management.service.wrestler.WrestlerRecordService;
 import com.github.javydreamercsw.management.service.wrestler.WrestlerService;
 import com.github.javydreamercsw.management.ui.component.WrestlerActionMenu;
 import com.vaadin.flow.component.button.Button;
@@ -80,9 +82,11 @@ public class WrestlerListView extends Main {
   private final UniverseContextService universeContextService;
   private final WrestlerStateRepository wrestlerStateRepository;
   private final AlignmentService alignmentService;
+  private final WrestlerRecordService wrestlerRecordService;
   private Set<Long> injuredWrestlerIds;
   private Map<Long, WrestlerState> statesByWrestlerId = new HashMap<>();
   private Map<Long, WrestlerAlignment> alignmentsByWrestlerId = new HashMap<>();
+  private Map<Long, WrestlerRecordSummary> recordsByWrestlerId = new HashMap<>();
   final Grid<Wrestler> wrestlerGrid;
 
   public WrestlerListView(
@@ -98,7 +102,8 @@ public class WrestlerListView extends Main {
       @NonNull final ImageStorageService imageStorageService,
       @NonNull final UniverseContextService universeContextService,
       @NonNull final WrestlerStateRepository wrestlerStateRepository,
-      @NonNull final AlignmentService alignmentService) {
+      @NonNull final AlignmentService alignmentService,
+      @NonNull final WrestlerRecordService wrestlerRecordService) {
     this.wrestlerService = wrestlerService;
     this.injuryService = injuryService;
     this.injuryTypeService = injuryTypeService;
@@ -111,6 +116,7 @@ public class WrestlerListView extends Main {
     this.universeContextService = universeContextService;
     this.wrestlerStateRepository = wrestlerStateRepository;
     this.alignmentService = alignmentService;
+    this.wrestlerRecordService = wrestlerRecordService;
     wrestlerGrid = new Grid<>();
     reloadGrid();
 
@@ -200,6 +206,22 @@ public class WrestlerListView extends Main {
         .setHeader("Bumps")
         .setSortable(true);
 
+    wrestlerGrid
+        .addColumn(
+            wrestler -> {
+              WrestlerRecordSummary record = recordsByWrestlerId.get(wrestler.getId());
+              return record != null
+                  ? String.format("%d-%d-%d", record.wins(), record.losses(), record.draws())
+                  : "0-0-0";
+            })
+        .setHeader("Record")
+        .setComparator(
+            Comparator.comparingLong(
+                (Wrestler wrestler) -> {
+                  WrestlerRecordSummary record = recordsByWrestlerId.get(wrestler.getId());
+                  return record != null ? record.wins() : 0L;
+                }));
+
     wrestlerGrid
         .addColumn(
             wrestler -> {
@@ -315,6 +337,16 @@ public class WrestlerListView extends Main {
           "Could not preload wrestler alignments for universe {}: {}", universeId, e.getMessage());
       alignmentsByWrestlerId = new HashMap<>();
     }
+    try {
+      recordsByWrestlerId =
+          universeId != null
+              ? wrestlerRecordService.getRosterRecords(universeId)
+              : new HashMap<>();
+    } catch (Exception e) {
+      log.warn(
+          "Could not preload wrestler records for universe {}: {}", universeId, e.getMessage());
+      recordsByWrestlerId = new HashMap<>();
+    }
     injuredWrestlerIds =
         injuryService.getWrestlersWithActiveInjuries(universeId).stream()
             .map(Wrestler::getId)
@@ -0,0 +1,14 @@
+-- Narrated segments still waiting for an AI summary; see SegmentSummaryPipeline. A row is deleted
+-- once the summary is stored. FAILED rows have used up their attempts and are queued again only
+-- when the segment is written again.
+CREATE TABLE segment_summary_job (
+    segment_id      BIGINT       NOT NULL PRIMARY KEY,
+    status          VARCHAR(16)  NOT NULL,
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP    NOT NULL,
+    updated_at      TIMESTAMP    NOT NULL,
+    last_error      VARCHAR(500),
+    FOREIGN KEY (segment_id) REFERENCES segment(segment_id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_segment_summary_job_due ON segment_summary_job (status, next_attempt_at);
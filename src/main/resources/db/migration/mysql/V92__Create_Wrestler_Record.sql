@@ -0,0 +1,42 @@
+-- Materialized win/loss/draw record per wrestler, universe and season (NULL season for shows
+-- booked outside one). Rebuilt for the affected wrestlers whenever a segment result changes; see
+-- WrestlerRecordService. A "match" is a completed segment whose type is not a promo, beatdown,
+-- confrontation or review; a draw is a match without any winner.
+CREATE TABLE wrestler_record (
+    wrestler_record_id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    wrestler_id        BIGINT NOT NULL,
+    universe_id        BIGINT NOT NULL,
+    season_id          BIGINT,
+    wins               BIGINT NOT NULL DEFAULT 0,
+    losses             BIGINT NOT NULL DEFAULT 0,
+    draws              BIGINT NOT NULL DEFAULT 0,
+    FOREIGN KEY (wrestler_id) REFERENCES wrestler(wrestler_id) ON DELETE CASCADE,
+    FOREIGN KEY (universe_id) REFERENCES universe(id)          ON DELETE CASCADE,
+    FOREIGN KEY (season_id)   REFERENCES season(season_id)     ON DELETE CASCADE
+);
+
+CREATE INDEX idx_wrestler_record_wrestler ON wrestler_record (wrestler_id, universe_id);
+CREATE INDEX idx_wrestler_record_universe_season ON wrestler_record (universe_id, season_id);
+
+-- Backfill from the existing segment history.
+INSERT INTO wrestler_record (wrestler_id, universe_id, season_id, wins, losses, draws)
+SELECT p.wrestler_id,
+       sh.universe_id,
+       sh.season_id,
+       SUM(CASE WHEN p.is_winner THEN 1 ELSE 0 END),
+       SUM(CASE WHEN NOT p.is_winner AND w.winners > 0 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN w.winners = 0 THEN 1 ELSE 0 END)
+FROM segment_participant p
+JOIN segment s ON s.segment_id = p.segment_id
+JOIN segment_type st ON st.segment_type_id = s.segment_type_id
+JOIN wrestling_show sh ON sh.show_id = s.show_id
+JOIN (SELECT segment_id, SUM(CASE WHEN is_winner THEN 1 ELSE 0 END) AS winners
+      FROM segment_participant
+      GROUP BY segment_id) w ON w.segment_id = s.segment_id
+WHERE s.status = 'COMPLETED'
+  AND sh.universe_id IS NOT NULL
+  AND LOWER(st.name) NOT LIKE '%promo%'
+  AND LOWER(st.name) NOT LIKE '%beatdown%'
+  AND LOWER(st.name) NOT LIKE '%confrontation%'
+  AND LOWER(st.name) NOT LIKE '%review%'
+GROUP BY p.wrestler_id, sh.universe_id, sh.season_id;
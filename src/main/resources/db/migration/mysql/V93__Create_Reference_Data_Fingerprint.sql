@@ -0,0 +1,8 @@
+-- Content hash of the reference data files each DataInitializer pass last applied, so unchanged
+-- passes can be skipped on the next startup; see ReferenceDataFingerprints.
+CREATE TABLE reference_data_fingerprint (
+    pass_name    VARCHAR(64) NOT NULL PRIMARY KEY,
+    content_hash VARCHAR(64) NOT NULL,
+    row_count    BIGINT      NOT NULL,
+    applied_at   TIMESTAMP   NOT NULL
+);
@@ -0,0 +1,3 @@
+-- Lets the segment summary backfill sweep (see SegmentSummaryPipeline) find recent segments
+-- without scanning the whole table.
+CREATE INDEX idx_segment_date ON segment (segment_date);
@@ -65,6 +65,9 @@ CREATE INDEX IF NOT EXISTS idx_rivalry_wrestlers ON rivalry(wrestler1_id, wrestl
 -- Index for rivalry creation date (analytics)
 CREATE INDEX IF NOT EXISTS idx_rivalry_creation_date ON rivalry(creation_date);
 
+-- Index for the latest heat event per rivalry (nightly heat decay)
+CREATE INDEX IF NOT EXISTS idx_heat_event_rivalry_date ON heat_event(rivalry_id, event_date);
+
 -- ==================== INJURY TABLE INDEXES ====================
 
 -- Index for active injuries (critical for wrestler availability checks).
@@ -0,0 +1,286 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.base.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.javydreamercsw.base.ai.SegmentNarrationService.SegmentNarrationContext;
+import com.github.javydreamercsw.base.ai.SegmentNarrationService.SegmentTypeContext;
+import com.github.javydreamercsw.base.ai.SegmentNarrationService.WrestlerContext;
+import com.github.javydreamercsw.base.ai.claude.ClaudeSegmentNarrationService;
+import com.github.javydreamercsw.base.ai.gemini.GeminiSegmentNarrationService;
+import com.github.javydreamercsw.base.ai.openai.OpenAISegmentNarrationService;
+import com.github.javydreamercsw.base.ai.service.AiSettingsService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.Environment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Drives the real Claude, Gemini and OpenAI services against a local stub HTTP server that answers
+ * in each provider's response format.
+ */
+class AsyncNarrationClientTest {
+
+  private static final String CLAUDE_BODY =
+      """
+      {"content": [{"type": "text", "text": "Claude narration"}]}
+      """;
+  private static final String GEMINI_BODY =
+      """
+      {"candidates": [
+        {"finishReason": "STOP", "content": {"parts": [{"text": "Gemini narration"}]}}
+      ]}
+      """;
+  private static final String OPENAI_BODY =
+      """
+      {"choices": [{"finish_reason": "stop", "message": {"content": "OpenAI narration"}}]}
+      """;
+
+  private HttpServer server;
+  private AiSettingsService settings;
+  private Environment environment;
+  private final AtomicInteger requests = new AtomicInteger();
+  private final AtomicInteger running = new AtomicInteger();
+  private final AtomicInteger maxRunning = new AtomicInteger();
+  private volatile CountDownLatch release = new CountDownLatch(0);
+  private volatile int failuresBeforeSuccess;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    server.createContext("/claude", exchange -> respond(exchange, CLAUDE_BODY));
+    server.createContext("/gemini/", exchange -> respond(exchange, GEMINI_BODY));
+    server.createContext("/openai", exchange -> respond(exchange, OPENAI_BODY));
+    server.start();
+    String base = "http://127.0.0.1:" + server.getAddress().getPort();
+
+    settings = mock(AiSettingsService.class);
+    when(settings.getAiTimeout()).thenReturn(10);
+    when(settings.isClaudeEnabled()).thenReturn(true);
+    when(settings.getClaudeApiKey()).thenReturn("claude-key");
+    when(settings.getClaudeApiUrl()).thenReturn(base + "/claude");
+    when(settings.getClaudeModelName()).thenReturn("claude-test");
+    when(settings.isGeminiEnabled()).thenReturn(true);
+    when(settings.getGeminiApiKey()).thenReturn("gemini-key");
+    when(settings.getGeminiApiUrl()).thenReturn(base + "/gemini/");
+    when(settings.getGeminiModelName()).thenReturn("gemini-test");
+    when(settings.isOpenAIEnabled()).thenReturn(true);
+    when(settings.getOpenAIApiKey()).thenReturn("openai-key");
+    when(settings.getOpenAIApiUrl()).thenReturn(base + "/openai");
+    when(settings.getOpenAIDefaultModel()).thenReturn("gpt-test");
+    when(settings.getOpenAIMaxTokens()).thenReturn(100);
+
+    environment = mock(Environment.class);
+    when(environment.getActiveProfiles()).thenReturn(new String[0]);
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    server.stop(0);
+  }
+
+  private void respond(final HttpExchange exchange, final String body) throws IOException {
+    requests.incrementAndGet();
+    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+    try {
+      exchange.getRequestBody().readAllBytes();
+      release.await(10, TimeUnit.SECONDS);
+      boolean fail = failuresBeforeSuccess > 0;
+      if (fail) {
+        failuresBeforeSuccess--;
+      }
+      byte[] bytes =
+          (fail ? "{\"error\": \"rate limited\"}" : body).getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(fail ? 429 : 200, bytes.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(bytes);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (IOException e) {
+      // Client went away.
+    } finally {
+      running.decrementAndGet();
+      exchange.close();
+    }
+  }
+
+  private static <T extends AbstractSegmentNarrationService> T configure(final T service) {
+    ReflectionTestUtils.setField(service, "objectMapper", new ObjectMapper());
+    service.setRequestsPerMinute(0);
+    return service;
+  }
+
+  /** Short retry delays so the tests do not wait on the production backoff. */
+  private static List<RetryPolicyConfig> fastRetries() {
+    return List.of(
+        RetryPolicyConfig.fixedDelay(
+            3, Duration.ofMillis(10), e -> e instanceof AIServiceException, "Fast retry"));
+  }
+
+  private ClaudeSegmentNarrationService claude() {
+    return configure(
+        new ClaudeSegmentNarrationService(environment, settings) {
+          @Override
+          protected List<RetryPolicyConfig> getRetryPolicies() {
+            return fastRetries();
+          }
+        });
+  }
+
+  private static SegmentNarrationContext context(final String wrestler) {
+    SegmentNarrationContext context = new SegmentNarrationContext();
+    SegmentTypeContext type = new SegmentTypeContext();
+    type.setSegmentType("Singles Match");
+    context.setSegmentType(type);
+    WrestlerContext w = new WrestlerContext();
+    w.setName(wrestler);
+    context.setWrestlers(List.of(w));
+    return context;
+  }
+
+  @Test
+  void everyProviderNarratesThroughSendAsync() throws Exception {
+    assertThat(claude().narrateSegmentAsync(context("A")).get(5, TimeUnit.SECONDS))
+        .isEqualTo("Claude narration");
+    assertThat(
+            configure(new GeminiSegmentNarrationService(environment, settings))
+                .narrateSegmentAsync(context("A"))
+                .get(5, TimeUnit.SECONDS))
+        .isEqualTo("Gemini narration");
+    assertThat(
+            configure(new OpenAISegmentNarrationService(environment, settings))
+                .narrateSegmentAsync(context("A"))
+                .get(5, TimeUnit.SECONDS))
+        .isEqualTo("OpenAI narration");
+    assertThat(requests).hasValue(3);
+  }
+
+  @Test
+  void identicalInFlightContextsShareOneProviderCall() throws Exception {
+    release = new CountDownLatch(1);
+    ClaudeSegmentNarrationService service = claude();
+
+    CompletableFuture<String> first = service.narrateSegmentAsync(context("Same"));
+    CompletableFuture<String> second = service.narrateSegmentAsync(context("Same"));
+    CompletableFuture<String> other = service.narrateSegmentAsync(context("Other"));
+    release.countDown();
+
+    assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("Claude narration");
+    assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("Claude narration");
+    assertThat(other.get(5, TimeUnit.SECONDS)).isEqualTo("Claude narration");
+    assertThat(requests).hasValue(2);
+  }
+
+  @Test
+  void cancellingOneSubscriberKeepsTheSharedCallForTheOthers() throws Exception {
+    release = new CountDownLatch(1);
+    ClaudeSegmentNarrationService service = claude();
+
+    CompletableFuture<String> leaving = service.narrateSegmentAsync(context("Same"));
+    CompletableFuture<String> staying = service.narrateSegmentAsync(context("Same"));
+    leaving.cancel(true);
+    release.countDown();
+
+    assertThat(staying.get(5, TimeUnit.SECONDS)).isEqualTo("Claude narration");
+    assertThatThrownBy(leaving::join).isInstanceOf(CancellationException.class);
+  }
+
+  @Test
+  void cancellingTheLastSubscriberReleasesTheCall() throws Exception {
+    release = new CountDownLatch(1);
+    ClaudeSegmentNarrationService service = claude();
+
+    CompletableFuture<String> abandoned = service.narrateSegmentAsync(context("Leaving"));
+    awaitRequests(1);
+    abandoned.cancel(true);
+
+    // The shared call is gone, so the same context starts a fresh provider call.
+    release.countDown();
+    assertThat(service.narrateSegmentAsync(context("Leaving")).get(5, TimeUnit.SECONDS))
+        .isEqualTo("Claude narration");
+    assertThat(requests).hasValue(2);
+  }
+
+  @Test
+  void concurrentCallsAreCappedPerProvider() throws Exception {
+    release = new CountDownLatch(1);
+    ClaudeSegmentNarrationService service = claude();
+    service.setMaxConcurrentRequests(2);
+
+    List<CompletableFuture<String>> futures = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      futures.add(service.narrateSegmentAsync(context("Wrestler " + i)));
+    }
+    awaitRequests(2);
+    Thread.sleep(200);
+    assertThat(requests).hasValue(2);
+
+    release.countDown();
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+    assertThat(requests).hasValue(6);
+    assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void retryableProviderErrorsAreRetriedWithoutBlocking() throws Exception {
+    failuresBeforeSuccess = 2;
+
+    String narration = claude().narrateSegmentAsync(context("Retry")).get(5, TimeUnit.SECONDS);
+
+    assertThat(narration).isEqualTo("Claude narration");
+    assertThat(requests).hasValue(3);
+  }
+
+  @Test
+  void synchronousNarrationUsesTheSamePipeline() {
+    assertThat(claude().narrateSegment(context("Sync"))).isEqualTo("Claude narration");
+    assertThat(requests).hasValue(1);
+  }
+
+  private void awaitRequests(final int expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (requests.get() < expected && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(requests.get()).isGreaterThanOrEqualTo(expected);
+  }
+}
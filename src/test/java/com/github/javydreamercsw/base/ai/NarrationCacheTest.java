@@ -0,0 +1,172 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.base.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.github.javydreamercsw.base.ai.SegmentNarrationService.SegmentNarrationContext;
+import com.github.javydreamercsw.base.ai.SegmentNarrationService.SegmentTypeContext;
+import com.github.javydreamercsw.base.ai.SegmentNarrationService.WrestlerContext;
+import com.github.javydreamercsw.management.service.performance.PerformanceMonitoringService;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.NonNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class NarrationCacheTest {
+
+  @TempDir Path dir;
+
+  @Test
+  void keyDependsOnProviderKindAndPrompt() {
+    String key = NarrationCache.key("Gemini", "narration", "prompt");
+
+    assertThat(key).hasSize(64).isEqualTo(NarrationCache.key("Gemini", "narration", "prompt"));
+    assertThat(NarrationCache.key("Claude", "narration", "prompt")).isNotEqualTo(key);
+    assertThat(NarrationCache.key("Gemini", "summary", "prompt")).isNotEqualTo(key);
+    assertThat(NarrationCache.key("Gemini", "narration", "prompt ")).isNotEqualTo(key);
+  }
+
+  @Test
+  void entriesSurviveANewInstanceThroughTheDiskTier() {
+    String key = NarrationCache.key("Gemini", "narration", "prompt");
+    new NarrationCache(dir, 10, 10).put(key, "Narrator: The bell rings!");
+
+    NarrationCache restarted = new NarrationCache(dir, 10, 10);
+
+    assertThat(restarted.get(key))
+        .contains(new NarrationCache.Hit("Narrator: The bell rings!", NarrationCache.Tier.DISK));
+    assertThat(restarted.get(key))
+        .contains(new NarrationCache.Hit("Narrator: The bell rings!", NarrationCache.Tier.MEMORY));
+    assertThat(restarted.getDiskEntryCount()).isEqualTo(1);
+  }
+
+  @Test
+  void diskTierEvictsLeastRecentlyUsedEntriesBeyondItsLimit() throws Exception {
+    NarrationCache cache = new NarrationCache(dir, 1, 10);
+    for (int i = 0; i < 10; i++) {
+      cache.put(NarrationCache.key("Gemini", "narration", "prompt " + i), "text " + i);
+      Thread.sleep(5);
+    }
+    String first = NarrationCache.key("Gemini", "narration", "prompt 0");
+    // Touch the oldest entry so it becomes the most recently used one.
+    assertThat(cache.get(first)).isPresent();
+
+    cache.put(NarrationCache.key("Gemini", "narration", "prompt 10"), "text 10");
+
+    NarrationCache reopened = new NarrationCache(dir, 1, 10);
+    assertThat(cache.getDiskEntryCount()).isEqualTo(9);
+    assertThat(reopened.get(first)).isPresent();
+    assertThat(reopened.get(NarrationCache.key("Gemini", "narration", "prompt 1"))).isEmpty();
+  }
+
+  @Test
+  void clearEmptiesBothTiers() {
+    NarrationCache cache = new NarrationCache(dir, 10, 10);
+    String key = NarrationCache.key("Gemini", "summary", "prompt");
+    cache.put(key, "summary");
+
+    cache.clear();
+
+    assertThat(cache.get(key)).isEmpty();
+    assertThat(cache.getMemoryEntryCount()).isZero();
+    assertThat(cache.getDiskEntryCount()).isZero();
+  }
+
+  @Test
+  void repeatedNarrationIsServedFromTheCache() {
+    AtomicInteger providerCalls = new AtomicInteger();
+    PerformanceMonitoringService metrics = mock(PerformanceMonitoringService.class);
+    AbstractSegmentNarrationService service =
+        new AbstractSegmentNarrationService() {
+          @Override
+          protected String callAIProvider(@NonNull final String prompt) {
+            return "Narration " + providerCalls.incrementAndGet();
+          }
+
+          @Override
+          public String getProviderName() {
+            return "TestProvider";
+          }
+
+          @Override
+          public boolean isAvailable() {
+            return true;
+          }
+        };
+    service.setNarrationCache(new NarrationCache(dir, 10, 10));
+    service.setPerformanceMonitoringService(metrics);
+    service.setRequestsPerMinute(0);
+
+    String first = service.narrateSegment(context());
+    String second = service.narrateSegment(context());
+    String summary = service.summarizeNarration(first);
+    String summaryAgain = service.summarizeNarration(first);
+
+    assertThat(second).isEqualTo(first).isEqualTo("Narration 1");
+    assertThat(summaryAgain).isEqualTo(summary).isEqualTo("Narration 2");
+    assertThat(providerCalls).hasValue(2);
+    verify(metrics, times(2)).recordAiCacheMiss("TestProvider");
+    verify(metrics, times(2)).recordAiCacheHit("TestProvider", "memory");
+  }
+
+  @Test
+  void unparseableResponsesAreNotCached() {
+    AtomicInteger providerCalls = new AtomicInteger();
+    AbstractSegmentNarrationService service =
+        new AbstractSegmentNarrationService() {
+          @Override
+          protected String callAIProvider(@NonNull final String prompt) {
+            providerCalls.incrementAndGet();
+            return "Error parsing AI response: truncated";
+          }
+
+          @Override
+          public String getProviderName() {
+            return "TestProvider";
+          }
+
+          @Override
+          public boolean isAvailable() {
+            return true;
+          }
+        };
+    service.setNarrationCache(new NarrationCache(dir, 10, 10));
+    service.setRequestsPerMinute(0);
+
+    service.narrateSegment(context());
+    service.narrateSegment(context());
+
+    assertThat(providerCalls).hasValue(2);
+  }
+
+  private static SegmentNarrationContext context() {
+    SegmentNarrationContext context = new SegmentNarrationContext();
+    SegmentTypeContext type = new SegmentTypeContext();
+    type.setSegmentType("Singles Match");
+    context.setSegmentType(type);
+    WrestlerContext wrestler = new WrestlerContext();
+    wrestler.setName("Rob Van Dam");
+    context.setWrestlers(List.of(wrestler));
+    return context;
+  }
+}
@@ -0,0 +1,110 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.base.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ProviderRequestLimiterTest {
+
+  private static ProviderRequestLimiter limiter(final int maxConcurrent, final int perMinute) {
+    return new ProviderRequestLimiter(
+        maxConcurrent, perMinute, 1, System::nanoTime, Executors.newVirtualThreadPerTaskExecutor());
+  }
+
+  @Test
+  void queuesCallsBeyondTheConcurrencyLimit() {
+    ProviderRequestLimiter limiter = limiter(2, 0);
+    List<CompletableFuture<String>> calls = new ArrayList<>();
+    AtomicInteger started = new AtomicInteger();
+
+    List<CompletableFuture<String>> results = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      CompletableFuture<String> call = new CompletableFuture<>();
+      calls.add(call);
+      results.add(
+          limiter.submit(
+              () -> {
+                started.incrementAndGet();
+                return call;
+              }));
+    }
+
+    assertThat(started).hasValue(2);
+    assertThat(limiter.getActiveCount()).isEqualTo(2);
+    assertThat(limiter.getQueuedCount()).isEqualTo(3);
+
+    calls.get(0).complete("first");
+    assertThat(results.get(0)).isCompletedWithValue("first");
+    assertThat(started).hasValue(3);
+  }
+
+  @Test
+  void cancelledQueuedCallNeverStarts() {
+    ProviderRequestLimiter limiter = limiter(1, 0);
+    CompletableFuture<String> blocker = new CompletableFuture<>();
+    AtomicInteger started = new AtomicInteger();
+
+    limiter.submit(() -> blocker);
+    CompletableFuture<String> queued =
+        limiter.submit(
+            () -> {
+              started.incrementAndGet();
+              return CompletableFuture.completedFuture("late");
+            });
+    queued.cancel(true);
+    blocker.complete("done");
+
+    assertThat(started).hasValue(0);
+    assertThat(limiter.getQueuedCount()).isZero();
+  }
+
+  @Test
+  void cancellingARunningCallCancelsTheUnderlyingFuture() {
+    ProviderRequestLimiter limiter = limiter(1, 0);
+    CompletableFuture<String> underlying = new CompletableFuture<>();
+
+    limiter.submit(() -> underlying).cancel(true);
+
+    assertThat(underlying).isCancelled();
+    assertThat(limiter.getActiveCount()).isZero();
+  }
+
+  @Test
+  void tokenBucketSpacesOutCallsWithoutBlockingTheCaller() throws Exception {
+    // 600 per minute with a burst of one: a new call every 100ms.
+    ProviderRequestLimiter limiter = limiter(10, 600);
+    long start = System.nanoTime();
+    List<CompletableFuture<Long>> results = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      results.add(
+          limiter.submit(() -> CompletableFuture.completedFuture(System.nanoTime() - start)));
+    }
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(100);
+
+    long lastStartMs = TimeUnit.NANOSECONDS.toMillis(results.get(2).get(5, TimeUnit.SECONDS));
+    assertThat(results.get(0).get()).isLessThan(TimeUnit.MILLISECONDS.toNanos(100));
+    assertThat(lastStartMs).isGreaterThanOrEqualTo(150);
+  }
+}
@@ -16,86 +16,198 @@
 */
 package com.github.javydreamercsw.base.ai.image;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.github.javydreamercsw.base.config.StorageProperties;
-import com.github.javydreamercsw.management.domain.npc.Npc;
-import com.github.javydreamercsw.management.domain.npc.NpcRepository;
-import com.github.javydreamercsw.management.domain.show.template.ShowTemplate;
-import com.github.javydreamercsw.management.domain.show.template.ShowTemplateRepository;
-import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
-import com.github.javydreamercsw.management.domain.wrestler.WrestlerRepository;
+import com.github.javydreamercsw.base.domain.ImageReferencingRepository;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 
-@ExtendWith(MockitoExtension.class)
 class ImageCleanupServiceTest {
 
-  @Mock private WrestlerRepository wrestlerRepository;
-  @Mock private NpcRepository npcRepository;
-  @Mock private ShowTemplateRepository showTemplateRepository;
-  @Mock private StorageProperties storageProperties;
-
-  private ImageCleanupService imageCleanupService;
+  private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
 
   @TempDir Path tempDir;
 
+  private StorageProperties storageProperties;
+
   @BeforeEach
   void setUp() {
+    storageProperties = mock(StorageProperties.class);
     when(storageProperties.getResolvedImageDir()).thenReturn(tempDir);
-    imageCleanupService =
-        new ImageCleanupService(
-            wrestlerRepository, npcRepository, showTemplateRepository, storageProperties);
+  }
+
+  private ImageCleanupService service(
+      final int batchSize, final Clock clock, final Set<String> referencedUrls) {
+    ImageReferencingRepository<?, ?> repository =
+        urls -> urls.stream().filter(referencedUrls::contains).toList();
+    return new ImageCleanupService(
+        List.of(repository), storageProperties, batchSize, Duration.ofHours(1), clock);
+  }
+
+  private Path image(final String name, final Instant modified) throws IOException {
+    Path file = Files.write(tempDir.resolve(name), new byte[] {1, 2, 3});
+    Files.setLastModifiedTime(file, FileTime.from(modified));
+    return file;
   }
 
   @Test
   void testCleanupUnusedImages() throws IOException {
-    // Create some test files
     String referenced1 = UUID.randomUUID() + ".png";
     String referenced2 = UUID.randomUUID() + ".png";
     String referenced3 = UUID.randomUUID() + ".png";
     String unused = UUID.randomUUID() + ".png";
+    Instant old = NOW.minus(Duration.ofDays(1));
+    image(referenced1, old);
+    image(referenced2, old);
+    image(referenced3, old);
+    image(unused, old);
+
+    int deletedCount =
+        service(
+                2,
+                Clock.fixed(NOW, ZoneOffset.UTC),
+                Set.of(
+                    "images/generated/" + referenced1,
+                    "images/generated/" + referenced2,
+                    "images/generated/" + referenced3))
+            .cleanupUnusedImages();
+
+    assertThat(deletedCount).isEqualTo(1);
+    assertThat(tempDir.resolve(referenced1)).exists();
+    assertThat(tempDir.resolve(referenced2)).exists();
+    assertThat(tempDir.resolve(referenced3)).exists();
+    assertThat(tempDir.resolve(unused)).doesNotExist();
+  }
+
+  @Test
+  void dryRunReportsWithoutDeleting() throws IOException {
+    Instant old = NOW.minus(Duration.ofDays(1));
+    image("a.png", old);
+    image("b.png", old);
+
+    ImageCleanupService.CleanupReport report =
+        service(10, Clock.fixed(NOW, ZoneOffset.UTC), Set.of("images/generated/a.png"))
+            .cleanup(true, null);
+
+    assertThat(report.dryRun()).isTrue();
+    assertThat(report.complete()).isTrue();
+    assertThat(report.scanned()).isEqualTo(2);
+    assertThat(report.unused()).isEqualTo(1);
+    assertThat(report.deleted()).isZero();
+    assertThat(report.bytes()).isEqualTo(3);
+    assertThat(report.sample()).containsExactly("b.png");
+    assertThat(tempDir.resolve("b.png")).exists();
+  }
+
+  @Test
+  void recentImagesAreKeptEvenIfUnreferenced() throws IOException {
+    image("fresh.png", NOW.minus(Duration.ofMinutes(5)));
+
+    ImageCleanupService.CleanupReport report =
+        service(10, Clock.fixed(NOW, ZoneOffset.UTC), Set.of()).cleanup(false, null);
+
+    assertThat(report.unused()).isZero();
+    assertThat(tempDir.resolve("fresh.png")).exists();
+  }
+
+  @Test
+  void incrementalRunsResumeWhereTheBudgetRanOut() throws IOException {
+    Instant old = NOW.minus(Duration.ofDays(1));
+    for (String name : List.of("a.png", "b.png", "c.png", "d.png", "e.png")) {
+      image(name, old);
+    }
+    ImageCleanupService service =
+        service(2, new TickingClock(NOW), Set.of("images/generated/b.png"));
+
+    // Every clock read moves a minute ahead, so each run stops after its first batch.
+    ImageCleanupService.CleanupReport first = service.cleanupIncrementally(Duration.ofSeconds(1));
+    assertThat(first.complete()).isFalse();
+    assertThat(first.scanned()).isEqualTo(2);
+    assertThat(tempDir.resolve("a.png")).doesNotExist();
+    assertThat(tempDir.resolve("c.png")).exists();
+
+    ImageCleanupService.CleanupReport second = service.cleanupIncrementally(Duration.ofSeconds(1));
+    assertThat(second.scanned()).isEqualTo(2);
+    assertThat(tempDir.resolve("d.png")).doesNotExist();
+
+    ImageCleanupService.CleanupReport third = service.cleanupIncrementally(Duration.ofSeconds(1));
+    assertThat(third.scanned()).isEqualTo(1);
+    assertThat(tempDir.resolve("e.png")).doesNotExist();
+
+    ImageCleanupService.CleanupReport fourth = service.cleanupIncrementally(Duration.ofSeconds(1));
+    assertThat(fourth.complete()).isTrue();
+    assertThat(fourth.scanned()).isZero();
+
+    // Having reached the end, the next run starts over with what is left.
+    ImageCleanupService.CleanupReport fifth = service.cleanupIncrementally(Duration.ofSeconds(1));
+    assertThat(fifth.scanned()).isEqualTo(1);
+    assertThat(fifth.deleted()).isZero();
+    assertThat(tempDir.resolve("b.png")).exists();
+  }
+
+  @Test
+  void incrementalDryRunKeepsEveryImage() throws IOException {
+    image("a.png", NOW.minus(Duration.ofDays(1)));
+
+    ImageCleanupService.CleanupReport report =
+        service(10, Clock.fixed(NOW, ZoneOffset.UTC), Set.of())
+            .cleanupIncrementally(Duration.ofSeconds(1), true);
+
+    assertThat(report.unused()).isEqualTo(1);
+    assertThat(report.deleted()).isZero();
+    assertThat(tempDir.resolve("a.png")).exists();
+  }
+
+  @Test
+  void missingDirectoryIsAnEmptyRun() throws IOException {
+    when(storageProperties.getResolvedImageDir()).thenReturn(tempDir.resolve("missing"));
+
+    ImageCleanupService.CleanupReport report =
+        service(10, Clock.fixed(NOW, ZoneOffset.UTC), Set.of()).cleanup(false, null);
+
+    assertThat(report.complete()).isTrue();
+    assertThat(report.scanned()).isZero();
+  }
+
+  /** A clock that advances one minute every time it is read. */
+  private static final class TickingClock extends Clock {
+    private Instant now;
+
+    private TickingClock(final Instant start) {
+      this.now = start;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(final ZoneId zone) {
+      return this;
+    }
 
-    Files.createFile(tempDir.resolve(referenced1));
-    Files.createFile(tempDir.resolve(referenced2));
-    Files.createFile(tempDir.resolve(referenced3));
-    Files.createFile(tempDir.resolve(unused));
-
-    List<Wrestler> wrestlers = new ArrayList<>();
-    Wrestler w = new Wrestler();
-    w.setImageUrl("images/generated/" + referenced1);
-    wrestlers.add(w);
-    when(wrestlerRepository.findAll()).thenReturn(wrestlers);
-
-    List<Npc> npcs = new ArrayList<>();
-    Npc n = new Npc();
-    n.setImageUrl("images/generated/" + referenced2);
-    npcs.add(n);
-    when(npcRepository.findAll()).thenReturn(npcs);
-
-    List<ShowTemplate> showTemplates = new ArrayList<>();
-    ShowTemplate st = new ShowTemplate();
-    st.setImageUrl("images/generated/" + referenced3);
-    showTemplates.add(st);
-    when(showTemplateRepository.findAll()).thenReturn(showTemplates);
-
-    int deletedCount = imageCleanupService.cleanupUnusedImages();
-
-    assertEquals(1, deletedCount);
-    assertEquals(true, Files.exists(tempDir.resolve(referenced1)));
-    assertEquals(true, Files.exists(tempDir.resolve(referenced2)));
-    assertEquals(true, Files.exists(tempDir.resolve(referenced3)));
-    assertEquals(false, Files.exists(tempDir.resolve(unused)));
+    @Override
+    public Instant instant() {
+      Instant current = now;
+      now = now.plus(Duration.ofMinutes(1));
+      return current;
+    }
   }
 }
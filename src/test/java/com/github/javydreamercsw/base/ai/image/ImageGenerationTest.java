@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.lenient;
 
 import com.github.javydreamercsw.base.config.StorageProperties;
+import com.github.javydreamercsw.base.image.ImageIndex;
 import java.nio.file.Path;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -44,7 +45,8 @@ class ImageGenerationTest {
     mockService = new MockImageGenerationService();
     factory = new ImageGenerationServiceFactory(List.of(mockService));
     lenient().when(storageProperties.getResolvedImageDir()).thenReturn(tempDir);
-    storageService = new ImageStorageService(storageProperties);
+    storageService =
+        new ImageStorageService(storageProperties, new ImageIndex(storageProperties, false));
   }
 
   @Test
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
 import com.github.javydreamercsw.base.config.StorageProperties;
+import com.github.javydreamercsw.base.image.ImageIndex;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -35,6 +36,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class ImageStorageServiceIntegrationTest {
 
   private ImageStorageService imageStorageService;
+  private ImageIndex imageIndex;
 
   @Mock private StorageProperties storageProperties;
 
@@ -42,7 +44,8 @@ class ImageStorageServiceIntegrationTest {
 
   @BeforeEach
   void setUp() {
-    imageStorageService = new ImageStorageService(storageProperties);
+    imageIndex = new ImageIndex(storageProperties, false);
+    imageStorageService = new ImageStorageService(storageProperties, imageIndex);
   }
 
   @Test
@@ -62,5 +65,6 @@ class ImageStorageServiceIntegrationTest {
 
     byte[] savedBytes = Files.readAllBytes(savedFile);
     assertThat(savedBytes).isEqualTo(Base64.getDecoder().decode(testData));
+    assertThat(imageIndex.hasGeneratedImage(filename)).isTrue();
   }
 }
@@ -0,0 +1,104 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.base.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.Entity;
+import java.lang.reflect.Field;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.core.type.filter.TypeFilter;
+import org.springframework.util.ClassUtils;
+
+/**
+ * The scheduled image cleanup deletes every generated image no {@link ImageReferencingRepository}
+ * reports as referenced, so an entity storing an image URL without such a repository would lose
+ * its images.
+ */
+class ImageReferencingRepositoryCoverageTest {
+
+  private static final String BASE_PACKAGE = "com.github.javydreamercsw";
+
+  @Test
+  void everyEntityWithAnImageUrlHasAnImageReferencingRepository() {
+    Set<String> covered =
+        scan(
+                new ClassPathScanningCandidateComponentProvider(false) {
+                  @Override
+                  protected boolean isCandidateComponent(final AnnotatedBeanDefinition bean) {
+                    return bean.getMetadata().isInterface();
+                  }
+                },
+                new AssignableTypeFilter(ImageReferencingRepository.class))
+            .stream()
+            .map(
+                repository ->
+                    ResolvableType.forClass(repository)
+                        .as(ImageReferencingRepository.class)
+                        .resolveGeneric(0))
+            .filter(Objects::nonNull)
+            .map(Class::getName)
+            .collect(Collectors.toSet());
+
+    Set<String> withImageUrl =
+        scan(
+                new ClassPathScanningCandidateComponentProvider(false),
+                new AnnotationTypeFilter(Entity.class))
+            .stream()
+            .filter(ImageReferencingRepositoryCoverageTest::hasImageUrl)
+            .map(Class::getName)
+            .collect(Collectors.toCollection(TreeSet::new));
+
+    assertThat(withImageUrl).isNotEmpty();
+    assertThat(covered).containsAll(withImageUrl);
+  }
+
+  private static Set<Class<?>> scan(
+      final ClassPathScanningCandidateComponentProvider scanner,
+      final TypeFilter filter) {
+    scanner.addIncludeFilter(filter);
+    return scanner.findCandidateComponents(BASE_PACKAGE).stream()
+        .map(BeanDefinition::getBeanClassName)
+        .map(
+            name ->
+                (Class<?>)
+                    ClassUtils.resolveClassName(
+                        name, ImageReferencingRepositoryCoverageTest.class.getClassLoader()))
+        .collect(Collectors.toSet());
+  }
+
+  private static boolean hasImageUrl(final Class<?> entity) {
+    for (Class<?> type = entity; type != null; type = type.getSuperclass()) {
+      for (Field field : type.getDeclaredFields()) {
+        if (field.getType() == String.class && field.getName().matches("(?i).*image.*url")) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+}
@@ -19,17 +19,24 @@ package com.github.javydreamercsw.base.image;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.github.javydreamercsw.base.config.StorageProperties;
+import java.nio.file.Path;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class ClasspathImageSourceTest {
 
+  @TempDir Path tempDir;
+
   private ClasspathImageSource source;
 
   @BeforeEach
   void setUp() {
-    source = new ClasspathImageSource();
+    StorageProperties storageProperties = new StorageProperties();
+    storageProperties.setBaseDir(tempDir.toString());
+    source = new ClasspathImageSource(new ImageIndex(storageProperties, false));
   }
 
   @Test
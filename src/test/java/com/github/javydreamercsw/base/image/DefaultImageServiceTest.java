@@ -19,10 +19,14 @@ package com.github.javydreamercsw.base.image;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -74,4 +78,43 @@ class DefaultImageServiceTest {
     assertEquals("images/generic-wrestler.png", result.url());
     assertTrue(result.isFallback());
   }
+
+  @Test
+  void testRepeatedResolutionsAreCachedIncludingFallbacks() {
+    when(source1.resolveImage("Entity", ImageCategory.WRESTLER))
+        .thenReturn(Optional.of("path/to/image.png"));
+    when(source1.resolveImage("Nobody", ImageCategory.WRESTLER)).thenReturn(Optional.empty());
+    when(source2.resolveImage("Nobody", ImageCategory.WRESTLER)).thenReturn(Optional.empty());
+
+    for (int i = 0; i < 3; i++) {
+      ImageResolution found = service.resolveImage("Entity", ImageCategory.WRESTLER);
+      assertEquals("path/to/image.png", found.url());
+      assertTrue(service.resolveImage("Nobody", ImageCategory.WRESTLER).isFallback());
+    }
+
+    verify(source1, times(1)).resolveImage("Entity", ImageCategory.WRESTLER);
+    verify(source1, times(1)).resolveImage("Nobody", ImageCategory.WRESTLER);
+    verify(source2, times(1)).resolveImage("Nobody", ImageCategory.WRESTLER);
+  }
+
+  @Test
+  void testIndexChangeDropsCachedMisses() {
+    AtomicLong version = new AtomicLong(1);
+    ImageIndex index = mock(ImageIndex.class);
+    when(index.getVersion()).thenAnswer(invocation -> version.get());
+    service = new DefaultImageService(List.of(source2, source1), index);
+    when(source1.resolveImage("Entity", ImageCategory.WRESTLER))
+        .thenReturn(Optional.empty())
+        .thenReturn(Optional.of("path/to/new.png"));
+    when(source2.resolveImage("Entity", ImageCategory.WRESTLER)).thenReturn(Optional.empty());
+
+    assertTrue(service.resolveImage("Entity", ImageCategory.WRESTLER).isFallback());
+    assertTrue(service.resolveImage("Entity", ImageCategory.WRESTLER).isFallback());
+    version.incrementAndGet();
+
+    ImageResolution result = service.resolveImage("Entity", ImageCategory.WRESTLER);
+    assertEquals("path/to/new.png", result.url());
+    assertFalse(result.isFallback());
+    verify(source1, times(2)).resolveImage("Entity", ImageCategory.WRESTLER);
+  }
 }
@@ -43,13 +43,16 @@ class FileSystemImageSourceTest {
   void setUp() {
     org.mockito.Mockito.lenient()
         .when(storageProperties.getResolvedDefaultImageDir())
-        .thenReturn(tempDir);
-    source = new FileSystemImageSource(storageProperties);
+        .thenReturn(tempDir.resolve("defaults"));
+    org.mockito.Mockito.lenient()
+        .when(storageProperties.getResolvedImageDir())
+        .thenReturn(tempDir.resolve("generated"));
+    source = new FileSystemImageSource(new ImageIndex(storageProperties, false));
   }
 
   @Test
   void testResolveExistingImage() throws IOException {
-    Path titleDir = tempDir.resolve("championships");
+    Path titleDir = tempDir.resolve("defaults").resolve("championships");
     Files.createDirectories(titleDir);
     Path imageFile = titleDir.resolve("atw-extreme.png");
     Files.createFile(imageFile);
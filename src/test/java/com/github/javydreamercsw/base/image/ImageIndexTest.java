@@ -0,0 +1,118 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.base.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.javydreamercsw.base.config.StorageProperties;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ImageIndexTest {
+
+  @TempDir Path tempDir;
+
+  private Path defaultsDir;
+  private Path generatedDir;
+  private ImageIndex index;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    StorageProperties storageProperties = new StorageProperties();
+    storageProperties.setBaseDir(tempDir.toString());
+    defaultsDir = storageProperties.getResolvedDefaultImageDir();
+    generatedDir = storageProperties.getResolvedImageDir();
+    Files.createDirectories(defaultsDir.resolve("wrestlers"));
+    Files.createFile(defaultsDir.resolve("wrestlers/John Doe.png"));
+    Files.createFile(generatedDir.resolve("abc.png"));
+    index = new ImageIndex(storageProperties, true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    index.stop();
+  }
+
+  @Test
+  void indexesBundledAndDirectoryImages() {
+    assertThat(index.isBundled("images/wrestlers/Princess Aussie.png")).isTrue();
+    assertThat(index.isBundled("images/wrestlers/Nobody.png")).isFalse();
+    assertThat(index.hasDefaultImage("wrestlers/John Doe.png")).isTrue();
+    assertThat(index.hasDefaultImage("wrestlers/Nobody.png")).isFalse();
+    assertThat(index.hasGeneratedImage("abc.png")).isTrue();
+    assertThat(index.getDefaultImages()).containsExactly("wrestlers/John Doe.png");
+  }
+
+  @Test
+  void addedFilesAreVisibleWithoutAWatcher() throws IOException {
+    long version = index.getVersion();
+    Path written = Files.createFile(generatedDir.resolve("new.png"));
+    Path outside = Files.createFile(tempDir.resolve("elsewhere.png"));
+
+    index.add(written);
+    index.add(outside);
+
+    assertThat(index.hasGeneratedImage("new.png")).isTrue();
+    assertThat(index.hasGeneratedImage("elsewhere.png")).isFalse();
+    assertThat(index.getVersion()).isEqualTo(version + 1);
+  }
+
+  @Test
+  void refreshPicksUpChangesWithoutAWatcher() throws IOException {
+    long version = index.getVersion();
+    Files.createFile(generatedDir.resolve("def.png"));
+    Files.delete(defaultsDir.resolve("wrestlers/John Doe.png"));
+
+    index.refresh();
+
+    assertThat(index.hasGeneratedImage("def.png")).isTrue();
+    assertThat(index.hasDefaultImage("wrestlers/John Doe.png")).isFalse();
+    assertThat(index.getVersion()).isGreaterThan(version);
+  }
+
+  @Test
+  void watcherTracksCreatedAndDeletedFiles() throws Exception {
+    index.start();
+    long version = index.getVersion();
+
+    Files.createFile(generatedDir.resolve("new.png"));
+    Files.createDirectories(defaultsDir.resolve("teams"));
+    Files.createFile(defaultsDir.resolve("teams/the-shield.png"));
+    Files.delete(generatedDir.resolve("abc.png"));
+
+    awaitTrue(() -> index.hasGeneratedImage("new.png"));
+    awaitTrue(() -> index.hasDefaultImage("teams/the-shield.png"));
+    awaitTrue(() -> !index.hasGeneratedImage("abc.png"));
+    assertThat(index.getVersion()).isGreaterThan(version);
+  }
+
+  private static void awaitTrue(final BooleanSupplier condition) throws InterruptedException {
+    // Some platforms poll for watch events, so allow a generous delay.
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+    while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+      Thread.sleep(50);
+    }
+    assertThat(condition.getAsBoolean()).isTrue();
+  }
+}
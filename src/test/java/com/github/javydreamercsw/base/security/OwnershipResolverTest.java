@@ -0,0 +1,139 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.base.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.javydreamercsw.base.domain.account.Account;
+import com.github.javydreamercsw.base.domain.account.AccountRepository;
+import com.github.javydreamercsw.management.domain.universe.Universe;
+import com.github.javydreamercsw.management.domain.universe.UniverseMembership;
+import com.github.javydreamercsw.management.domain.universe.UniverseMembershipRepository;
+import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
+import com.github.javydreamercsw.management.domain.wrestler.WrestlerRepository;
+import com.github.javydreamercsw.management.event.OwnershipChangedEvent;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class OwnershipResolverTest {
+
+  private AccountRepository accountRepository;
+  private WrestlerRepository wrestlerRepository;
+  private UniverseMembershipRepository universeMembershipRepository;
+  private OwnershipResolver resolver;
+  private Account account;
+
+  @BeforeEach
+  void setUp() {
+    accountRepository = mock(AccountRepository.class);
+    wrestlerRepository = mock(WrestlerRepository.class);
+    universeMembershipRepository = mock(UniverseMembershipRepository.class);
+    resolver =
+        new OwnershipResolver(accountRepository, wrestlerRepository, universeMembershipRepository);
+
+    account = new Account("player", "password", "player@example.com");
+    account.setId(7L);
+    Wrestler wrestler = new Wrestler();
+    wrestler.setId(1L);
+    when(accountRepository.findByUsername("player")).thenReturn(Optional.of(account));
+    when(wrestlerRepository.findByAccount(account)).thenReturn(List.of(wrestler));
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  private static void startRequest() {
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+  }
+
+  @Test
+  void outsideARequestEveryCallLoads() {
+    assertThat(resolver.resolve("player").ownsWrestler(1L)).isTrue();
+    assertThat(resolver.resolve("player").ownsWrestler(2L)).isFalse();
+
+    assertThat(resolver.getLoadCount()).isEqualTo(2);
+    verify(wrestlerRepository, times(2)).findByAccount(account);
+  }
+
+  @Test
+  void aRequestResolvesEachUserOnce() {
+    startRequest();
+    for (int i = 0; i < 50; i++) {
+      assertThat(resolver.resolve("player").getAccountId()).isEqualTo(7L);
+    }
+    assertThat(resolver.getLoadCount()).isEqualTo(1);
+
+    startRequest();
+    resolver.resolve("player");
+    assertThat(resolver.getLoadCount()).isEqualTo(2);
+  }
+
+  @Test
+  void ownershipChangesDropTheRequestsResolution() {
+    startRequest();
+    resolver.resolve("player");
+
+    resolver.onOwnershipChanged(new OwnershipChangedEvent(this, Set.of(99L)));
+    resolver.resolve("player");
+    assertThat(resolver.getLoadCount()).isEqualTo(1);
+
+    resolver.onOwnershipChanged(new OwnershipChangedEvent(this, Set.of(7L)));
+    resolver.resolve("player");
+    assertThat(resolver.getLoadCount()).isEqualTo(2);
+  }
+
+  @Test
+  void universeOwnershipIsLookedUpOncePerUniverse() {
+    startRequest();
+    Universe universe = Universe.builder().name("Main").build();
+    universe.setId(3L);
+    UniverseMembership membership = new UniverseMembership();
+    membership.setRole(UniverseMembership.UniverseMemberRole.OWNER);
+    when(universeMembershipRepository.findByAccountAndUniverse(account, universe))
+        .thenReturn(Optional.of(membership));
+
+    assertThat(resolver.ownsUniverse(resolver.resolve("player"), universe)).isTrue();
+    assertThat(resolver.ownsUniverse(resolver.resolve("player"), universe)).isTrue();
+
+    verify(universeMembershipRepository, times(1)).findByAccountAndUniverse(account, universe);
+  }
+
+  @Test
+  void unknownUsersOwnNothing() {
+    when(accountRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+    OwnershipResolver.Ownership ownership = resolver.resolve("ghost");
+
+    assertThat(ownership.getAccountId()).isNull();
+    assertThat(ownership.hasWrestlers()).isFalse();
+    assertThat(resolver.ownsUniverse(ownership, Universe.builder().name("Main").build())).isFalse();
+  }
+}
@@ -18,6 +18,8 @@ package com.github.javydreamercsw.base.security;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.github.javydreamercsw.base.domain.account.Account;
@@ -25,11 +27,14 @@ import com.github.javydreamercsw.base.domain.account.AccountRepository;
 import com.github.javydreamercsw.management.domain.campaign.Campaign;
 import com.github.javydreamercsw.management.domain.deck.Deck;
 import com.github.javydreamercsw.management.domain.deck.DeckRepository;
+import com.github.javydreamercsw.management.domain.inbox.InboxItem;
+import com.github.javydreamercsw.management.domain.inbox.InboxItemTarget;
 import com.github.javydreamercsw.management.domain.universe.Universe;
 import com.github.javydreamercsw.management.domain.universe.UniverseMembership;
 import com.github.javydreamercsw.management.domain.universe.UniverseMembershipRepository;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerRepository;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -57,7 +62,9 @@ class PermissionServiceTest {
     universeMembershipRepository = mock(UniverseMembershipRepository.class);
     permissionService =
         new PermissionService(
-            wrestlerRepository, accountRepository, deckRepository, universeMembershipRepository);
+            new OwnershipResolver(
+                accountRepository, wrestlerRepository, universeMembershipRepository),
+            deckRepository);
 
     UserDetails userDetails = new User("testuser", "password", Collections.emptyList());
     var auth = new UsernamePasswordAuthenticationToken(userDetails, null, Collections.emptyList());
@@ -162,6 +169,44 @@ class PermissionServiceTest {
     assertThat(permissionService.isOwner(List.of(w1, w3))).isFalse();
   }
 
+  @Test
+  void testIsOwnerCollectionResolvesOwnershipOnce() {
+    Account account = new Account("testuser", "password", "test@example.com");
+    account.setId(7L);
+    Wrestler wrestler = new Wrestler();
+    wrestler.setId(1L);
+    List<InboxItem> items = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      InboxItem item = new InboxItem();
+      if (i % 2 == 0) {
+        item.addTarget("7", InboxItemTarget.TargetType.ACCOUNT);
+      } else {
+        item.addTarget("1", InboxItemTarget.TargetType.WRESTLER);
+      }
+      items.add(item);
+    }
+
+    when(accountRepository.findByUsername("testuser")).thenReturn(Optional.of(account));
+    when(wrestlerRepository.findByAccount(account)).thenReturn(List.of(wrestler));
+
+    assertThat(permissionService.isOwner(items)).isTrue();
+    verify(accountRepository, times(1)).findByUsername("testuser");
+    verify(wrestlerRepository, times(1)).findByAccount(account);
+  }
+
+  @Test
+  void testIsOwnerInboxCollectionWithoutWrestlers() {
+    Account account = new Account("testuser", "password", "test@example.com");
+    account.setId(7L);
+    InboxItem item = new InboxItem();
+    item.addTarget("7", InboxItemTarget.TargetType.ACCOUNT);
+
+    when(accountRepository.findByUsername("testuser")).thenReturn(Optional.of(account));
+    when(wrestlerRepository.findByAccount(account)).thenReturn(List.of());
+
+    assertThat(permissionService.isOwner(List.of(item))).isTrue();
+  }
+
   @Test
   void testIsOwnerByTypeId() {
     Wrestler wrestler = new Wrestler();
@@ -0,0 +1,141 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.base.service.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Throughput benchmark for {@link DataMigrationService}: copies an H2 file database seeded with the
+ * reference data plus a long inbox history into MySQL, once sequentially and once with parallel
+ * table copy, and logs rows/s for both.
+ *
+ * <pre>
+ *   mvn -Pintegration-test verify -Dit.test=DataMigrationBenchmarkIT
+ * </pre>
+ */
+@Testcontainers
+@Slf4j
+class DataMigrationBenchmarkIT {
+
+  private static final int INBOX_ITEMS = 50_000;
+
+  @Container
+  private static final MySQLContainer MYSQL_CONTAINER =
+      new MySQLContainer("mysql:8.0")
+          .withDatabaseName("bench")
+          .withUsername("test")
+          .withPassword("test");
+
+  private static final String H2_URL =
+      "jdbc:h2:./target/db/migration_benchmark_" + System.currentTimeMillis();
+
+  @BeforeAll
+  static void seedSource() throws Exception {
+    Files.createDirectories(Paths.get("target/db"));
+    Flyway.configure()
+        .dataSource(H2_URL, "sa", "")
+        .locations("filesystem:src/main/resources/db/migration/h2")
+        .load()
+        .migrate();
+
+    try (Connection conn = DriverManager.getConnection(H2_URL, "sa", "")) {
+      conn.setAutoCommit(false);
+      try (Statement stmt = conn.createStatement()) {
+        stmt.execute(
+            """
+            MERGE INTO universe (id, name, type, creation_date) KEY(id) VALUES (900, 'Benchmark\
+             Universe', 'GLOBAL', CURRENT_TIMESTAMP())\
+            """);
+        stmt.execute(
+            """
+            MERGE INTO wrestler (wrestler_id, NAME, STARTING_STAMINA, LOW_STAMINA,\
+             STARTING_HEALTH, LOW_HEALTH, DECK_SIZE, CREATION_DATE, IS_PLAYER, GENDER, ACTIVE)\
+             KEY(wrestler_id) VALUES (900, 'Benchmark Wrestler', 15, 2, 15, 4, 15,\
+             CURRENT_TIMESTAMP(), false, 'MALE', true)\
+            """);
+      }
+      try (PreparedStatement inbox =
+          conn.prepareStatement(
+              """
+              INSERT INTO inbox_item (inbox_item_id, event_type, description, is_read,\
+               event_timestamp) VALUES (?, 'BENCHMARK', ?, false, CURRENT_TIMESTAMP())\
+              """)) {
+        for (int i = 1; i <= INBOX_ITEMS; i++) {
+          inbox.setLong(1, 100_000 + i);
+          inbox.setString(2, "Benchmark inbox item " + i);
+          inbox.addBatch();
+          if (i % 1_000 == 0) {
+            inbox.executeBatch();
+          }
+        }
+        inbox.executeBatch();
+      }
+      conn.commit();
+    }
+  }
+
+  @Test
+  void reportsThroughputForSequentialAndParallelCopy() throws Exception {
+    MigrationReport sequential = migrate(1);
+    MigrationReport parallel = migrate(4);
+
+    log.info(
+        "H2 -> MySQL: sequential {} rows in {}ms ({} rows/s); parallel {} rows in {}ms ({} rows/s)",
+        sequential.totalRows(),
+        sequential.elapsed().toMillis(),
+        Math.round(sequential.throughput()),
+        parallel.totalRows(),
+        parallel.elapsed().toMillis(),
+        Math.round(parallel.throughput()));
+
+    assertThat(parallel.totalRows()).isEqualTo(sequential.totalRows());
+    assertThat(parallel.rowsPerTable().get("inbox_item")).isEqualTo(INBOX_ITEMS);
+  }
+
+  private MigrationReport migrate(final int parallelism) throws Exception {
+    MockEnvironment env =
+        new MockEnvironment()
+            .withProperty("atw.migration.parallelism", String.valueOf(parallelism))
+            .withProperty("atw.migration.fetch-size", "1000")
+            .withProperty("atw.migration.batch-size", "1000");
+    return new DataMigrationService(env, null)
+        .migrateData(
+            "H2_FILE",
+            H2_URL,
+            "sa",
+            "",
+            "MYSQL",
+            MYSQL_CONTAINER.getJdbcUrl(),
+            MYSQL_CONTAINER.getUsername(),
+            MYSQL_CONTAINER.getPassword());
+  }
+}
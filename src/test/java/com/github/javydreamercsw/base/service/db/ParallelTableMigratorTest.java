@@ -0,0 +1,141 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.base.service.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.github.javydreamercsw.base.service.db.ParallelTableMigrator.TableStep;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ParallelTableMigratorTest {
+
+  private static Connection connection() throws SQLException {
+    Connection connection = mock(Connection.class);
+    when(connection.getAutoCommit()).thenReturn(false);
+    return connection;
+  }
+
+  @Test
+  void dependentTableStartsOnlyAfterItsParentCommitted() throws Exception {
+    ConcurrentLinkedQueue<String> order = new ConcurrentLinkedQueue<>();
+    ConcurrentLinkedQueue<MigrationProgressListener.Progress> progress =
+        new ConcurrentLinkedQueue<>();
+    ParallelTableMigrator migrator =
+        new ParallelTableMigrator(
+            ParallelTableMigratorTest::connection,
+            ParallelTableMigratorTest::connection,
+            3,
+            progress::add);
+
+    List<TableStep> steps =
+        List.of(
+            new TableStep(
+                "wrestler",
+                (s, t) -> {
+                  order.add("wrestler");
+                  ParallelTableMigrator.recordRows(5);
+                }),
+            new TableStep("card_set", (s, t) -> order.add("card_set")),
+            new TableStep("deck", (s, t) -> order.add("deck")));
+
+    MigrationReport report =
+        migrator.run(steps, Map.of("deck", Set.of("wrestler"), "card_set", Set.of()));
+
+    assertThat(order).containsExactlyInAnyOrder("wrestler", "card_set", "deck");
+    assertThat(List.copyOf(order).indexOf("deck"))
+        .isGreaterThan(List.copyOf(order).indexOf("wrestler"));
+    assertThat(report.rowsPerTable()).containsEntry("wrestler", 5L);
+    assertThat(report.totalRows()).isEqualTo(5);
+    assertThat(progress).hasSize(3);
+    assertThat(progress).anyMatch(p -> p.completedTables() == 3 && p.fraction() == 1.0);
+  }
+
+  @Test
+  void independentTablesRunConcurrently() throws Exception {
+    CountDownLatch bothStarted = new CountDownLatch(2);
+    ParallelTableMigrator.TableCopier waitForOther =
+        (s, t) -> {
+          bothStarted.countDown();
+          try {
+            if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+              throw new SQLException("Tables were not copied concurrently");
+            }
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(e);
+          }
+        };
+    ParallelTableMigrator migrator =
+        new ParallelTableMigrator(
+            ParallelTableMigratorTest::connection,
+            ParallelTableMigratorTest::connection,
+            2,
+            MigrationProgressListener.NONE);
+
+    MigrationReport report =
+        migrator.run(
+            List.of(new TableStep("npc", waitForOther), new TableStep("role", waitForOther)),
+            Map.of());
+
+    assertThat(report.rowsPerTable()).containsOnlyKeys("npc", "role");
+  }
+
+  @Test
+  void failureSkipsDependentsAndReportsCommittedTables() {
+    ConcurrentLinkedQueue<String> copied = new ConcurrentLinkedQueue<>();
+    ParallelTableMigrator migrator =
+        new ParallelTableMigrator(
+            ParallelTableMigratorTest::connection,
+            ParallelTableMigratorTest::connection,
+            1,
+            MigrationProgressListener.NONE);
+
+    List<TableStep> steps =
+        List.of(
+            new TableStep("universe", (s, t) -> copied.add("universe")),
+            new TableStep(
+                "wrestler",
+                (s, t) -> {
+                  throw new SQLException("boom");
+                }),
+            new TableStep("wrestler_state", (s, t) -> copied.add("wrestler_state")));
+
+    assertThatThrownBy(
+            () ->
+                migrator.run(
+                    steps,
+                    Map.of(
+                        "wrestler", Set.of("universe"),
+                        "wrestler_state", Set.of("wrestler"))))
+        .isInstanceOf(SQLException.class)
+        .hasMessageContaining("wrestler")
+        .hasMessageContaining("[universe]")
+        .hasMessageContaining("boom");
+    assertThat(copied).containsExactly("universe");
+  }
+}
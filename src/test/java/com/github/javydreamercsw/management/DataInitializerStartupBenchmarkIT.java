@@ -0,0 +1,95 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.javydreamercsw.base.security.GeneralSecurityUtils;
+import com.github.javydreamercsw.management.service.card.CardService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Times {@link DataInitializer#init()} against an already seeded database, the way every startup
+ * after the first one runs: applying every reference data file, then with fingerprints recorded
+ * from scratch (cold) and with fingerprints already in place (warm).
+ *
+ * <pre>
+ *   mvn -Pintegration-test verify -Dit.test=DataInitializerStartupBenchmarkIT
+ * </pre>
+ */
+@Slf4j
+@TestPropertySource(properties = "data.initializer.skip-if-not-empty=false")
+class DataInitializerStartupBenchmarkIT extends ManagementIntegrationTest {
+
+  private static final int RUNS = 3;
+
+  @Autowired private ReferenceDataFingerprints fingerprints;
+  @Autowired private CardService cardService;
+
+  @AfterEach
+  void restoreSkipUnchanged() {
+    dataInitializer.setSkipUnchanged(false);
+    fingerprints.clear();
+  }
+
+  @Test
+  void startupWithUnchangedReferenceData() {
+    long wrestlers = wrestlerRepository.count();
+    long cards = cardService.count();
+
+    dataInitializer.setSkipUnchanged(false);
+    long fullMs = bestOf(this::init);
+
+    dataInitializer.setSkipUnchanged(true);
+    fingerprints.clear();
+    long coldMs = time(this::init);
+    long warmMs = bestOf(this::init);
+
+    log.info(
+        "DataInitializer.init() on a seeded database: {}ms applying every file, {}ms recording"
+            + " fingerprints, {}ms with unchanged fingerprints",
+        fullMs,
+        coldMs,
+        warmMs);
+    assertThat(fingerprints.findAll()).hasSize(DataInitializer.ReferenceData.values().length);
+    assertThat(wrestlerRepository.count()).isEqualTo(wrestlers);
+    assertThat(cardService.count()).isEqualTo(cards);
+    assertThat(warmMs).isLessThan(fullMs);
+  }
+
+  private void init() {
+    GeneralSecurityUtils.runAsAdmin(dataInitializer::init);
+  }
+
+  private static long bestOf(final Runnable action) {
+    long best = Long.MAX_VALUE;
+    for (int i = 0; i < RUNS; i++) {
+      best = Math.min(best, time(action));
+    }
+    return best;
+  }
+
+  private static long time(final Runnable action) {
+    long start = System.nanoTime();
+    action.run();
+    return (System.nanoTime() - start) / 1_000_000;
+  }
+}
@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
@@ -86,7 +87,9 @@ import com.github.javydreamercsw.management.service.title.TitleReignRepairServic
 import com.github.javydreamercsw.management.service.title.TitleService;
 import com.github.javydreamercsw.management.service.wrestler.WrestlerService;
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -144,6 +147,7 @@ class DataInitializerTest {
   @Mock private WrestlerRelationshipService relationshipService;
   @Mock private OutcomeMatrixService outcomeMatrixService;
   @Mock private TitleReignRepairService titleReignRepairService;
+  @Mock private ReferenceDataFingerprints fingerprints;
   private final ObjectMapper objectMapper = new ObjectMapper();
 
   @BeforeEach
@@ -153,6 +157,8 @@ class DataInitializerTest {
         new DataInitializer(
             true, // Enabled parameter
             false, // skipIfNotEmpty
+            false, // skipUnchanged
+            fingerprints,
             showTemplateService,
             wrestlerRepository,
             wrestlerService,
@@ -221,6 +227,8 @@ class DataInitializerTest {
         new DataInitializer(
             false,
             false,
+            false,
+            fingerprints,
             showTemplateService,
             wrestlerRepository,
             wrestlerService,
@@ -517,6 +525,62 @@ class DataInitializerTest {
         .createOrUpdateRelationship(eq(1L), eq(2L), any(), anyInt(), anyBoolean(), anyString());
   }
 
+  @Test
+  void unchangedReferenceDataIsSkipped() {
+    stubFingerprints(Set.of());
+
+    dataInitializer.init();
+
+    verify(relationshipService, never())
+        .createOrUpdateRelationship(any(), any(), any(), anyInt(), anyBoolean(), anyString());
+    verify(npcService, never()).saveAll(any());
+    verify(fingerprints, never()).record(anyString(), anyString(), anyLong());
+  }
+
+  @Test
+  void changedReferenceDataRunsWithTheDataThatDependsOnIt() {
+    stubFingerprints(Set.of(DataInitializer.ReferenceData.WRESTLERS));
+
+    dataInitializer.init();
+
+    verify(fingerprints).record("WRESTLERS", "current", 0L);
+    verify(fingerprints).record("RELATIONSHIPS", "current", 0L);
+    verify(fingerprints).record("DECKS", "current", 0L);
+    verify(fingerprints).record("TEAMS", "current", 0L);
+    verify(fingerprints, never()).record(eq("NPCS"), anyString(), anyLong());
+    verify(fingerprints, never()).record(eq("CARDS"), anyString(), anyLong());
+    verify(npcService, never()).saveAll(any());
+  }
+
+  @Test
+  void failedPassDoesNotRecordItsFingerprint() throws IOException {
+    stubFingerprints(Set.of(DataInitializer.ReferenceData.WRESTLERS));
+    when(resourcePatternResolver.getResources("classpath*:wrestlers*.json"))
+        .thenThrow(new IOException("unreadable"));
+
+    dataInitializer.init();
+
+    verify(fingerprints, never()).record(eq("WRESTLERS"), anyString(), anyLong());
+    verify(fingerprints).record("RELATIONSHIPS", "current", 0L);
+  }
+
+  /** Every pass was last applied with hash {@code current}, except {@code changed}. */
+  private void stubFingerprints(final Set<DataInitializer.ReferenceData> changed) {
+    dataInitializer.setSkipUnchanged(true);
+    Map<String, String> hashes = new HashMap<>();
+    Map<String, ReferenceDataFingerprints.Fingerprint> applied = new HashMap<>();
+    for (DataInitializer.ReferenceData data : DataInitializer.ReferenceData.values()) {
+      hashes.put(data.name(), "current");
+      applied.put(
+          data.name(),
+          new ReferenceDataFingerprints.Fingerprint(
+              changed.contains(data) ? "previous" : "current", 0L));
+    }
+    when(fingerprints.hash(any())).thenReturn(hashes);
+    when(fingerprints.findAll()).thenReturn(applied);
+    lenient().when(deckService.findByWrestlerWithCards(any())).thenReturn(List.of());
+  }
+
   @Test
   void validateLocationsJson() throws IOException {
     ClassPathResource resource = new ClassPathResource("locations.json");
@@ -0,0 +1,131 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.aspect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.javydreamercsw.management.service.performance.PerformanceMonitoringProperties;
+import com.github.javydreamercsw.management.service.performance.PerformanceMonitoringService;
+import java.lang.reflect.Proxy;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PerformanceMonitoringAspectTest {
+
+  @Mock private PerformanceMonitoringService performanceMonitoringService;
+  @Mock private ProceedingJoinPoint joinPoint;
+  @Mock private MethodSignature signature;
+
+  private PerformanceMonitoringAspect aspect;
+
+  /** Stand-in for a service bean. */
+  static class SampleService {
+    public String work() {
+      return "done";
+    }
+  }
+
+  @BeforeEach
+  void setUp() throws Exception {
+    aspect =
+        new PerformanceMonitoringAspect(
+            performanceMonitoringService, new PerformanceMonitoringProperties());
+    when(joinPoint.getTarget()).thenReturn(new SampleService());
+    when(joinPoint.getSignature()).thenReturn(signature);
+    when(signature.getMethod()).thenReturn(SampleService.class.getMethod("work"));
+  }
+
+  @Test
+  void serviceCall_recordsLatencyUnderStableName() throws Throwable {
+    when(performanceMonitoringService.shouldSample()).thenReturn(true);
+    when(joinPoint.proceed()).thenReturn("done");
+
+    Object result = aspect.monitorServiceMethods(joinPoint);
+
+    assertThat(result).isEqualTo("done");
+    verify(performanceMonitoringService)
+        .recordLatency(eq("service.methods.SampleService.work"), anyLong());
+    verify(performanceMonitoringService).incrementCounter("service.calls.SampleService.work");
+  }
+
+  @Test
+  void serviceCall_reusesCachedNames() throws Throwable {
+    when(performanceMonitoringService.shouldSample()).thenReturn(true);
+    when(joinPoint.proceed()).thenReturn("done");
+
+    aspect.monitorServiceMethods(joinPoint);
+    aspect.monitorServiceMethods(joinPoint);
+
+    verify(performanceMonitoringService, times(2))
+        .incrementCounter("service.calls.SampleService.work");
+  }
+
+  @Test
+  void unsampledCall_skipsRecording() throws Throwable {
+    when(performanceMonitoringService.shouldSample()).thenReturn(false);
+    when(joinPoint.proceed()).thenReturn("done");
+
+    aspect.monitorServiceMethods(joinPoint);
+
+    verify(performanceMonitoringService, never()).recordLatency(anyString(), anyLong());
+    verify(performanceMonitoringService, never()).incrementCounter(anyString());
+  }
+
+  @Test
+  void failingCall_recordsErrorAndRethrows() throws Throwable {
+    when(performanceMonitoringService.shouldSample()).thenReturn(true);
+    when(joinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+
+    assertThatThrownBy(() -> aspect.monitorServiceMethods(joinPoint))
+        .isInstanceOf(IllegalStateException.class);
+
+    verify(performanceMonitoringService)
+        .recordLatency(eq("service.methods.SampleService.work.failed"), anyLong());
+    verify(performanceMonitoringService).incrementCounter("service.errors.SampleService.work");
+  }
+
+  @Test
+  void labelFor_usesRepositoryInterfaceForJdkProxies() {
+    Object proxy =
+        Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[] {SampleRepository.class},
+            (p, m, a) -> null);
+
+    assertThat(PerformanceMonitoringAspect.OperationNameCache.labelFor(proxy.getClass()))
+        .isEqualTo("SampleRepository");
+  }
+
+  interface SampleRepository {}
+}
@@ -17,11 +17,13 @@
 package com.github.javydreamercsw.management.controller.system;
 
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -74,6 +76,31 @@ class PerformanceControllerTest extends AbstractControllerTest {
         .andExpect(jsonPath("$.memory").value("Optimize heap usage"));
   }
 
+  @Test
+  void getLatencyStats_returnsPercentiles() throws Exception {
+    when(performanceMonitoringService.getLatencyStats())
+        .thenReturn(
+            Map.of(
+                "service.methods.ShowService.adjudicateShow",
+                new PerformanceMonitoringService.LatencyStats(3, 12.0, 10.0, 20.0, 20.0, 21.0)));
+
+    mockMvc
+        .perform(get("/api/system/performance/latency").with(csrf()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$['service.methods.ShowService.adjudicateShow'].p95Ms").value(20.0));
+  }
+
+  @Test
+  void setSampleRate_updatesRate() throws Exception {
+    when(performanceMonitoringService.getSampleRate()).thenReturn(0.25);
+
+    mockMvc
+        .perform(put("/api/system/performance/sampling").param("rate", "0.25").with(csrf()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.sampleRate").value(0.25));
+    verify(performanceMonitoringService).setSampleRate(0.25);
+  }
+
   @Test
   void resetPerformanceMetrics_returnsSuccess() throws Exception {
     doNothing().when(performanceMonitoringService).resetMetrics();
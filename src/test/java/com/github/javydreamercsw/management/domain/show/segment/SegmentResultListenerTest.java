@@ -0,0 +1,103 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.domain.show.segment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
+import com.github.javydreamercsw.management.event.SegmentNarrationChangedEvent;
+import com.github.javydreamercsw.management.event.SegmentResultsChangedEvent;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class SegmentResultListenerTest {
+
+  private ApplicationEventPublisher publisher;
+  private SegmentResultListener listener;
+  private Segment segment;
+
+  @BeforeEach
+  void setUp() {
+    publisher = mock(ApplicationEventPublisher.class);
+    listener = new SegmentResultListener();
+    ReflectionTestUtils.setField(listener, "eventPublisher", publisher);
+    segment = new Segment();
+    segment.setId(5L);
+    segment.setStatus(SegmentStatus.BOOKED);
+    segment.setNarration("Opening bell.");
+    listener.onLoad(segment);
+  }
+
+  @Test
+  void summaryAndNotesEditsRaiseNothing() {
+    segment.setSummary("A short summary.");
+    segment.setNotes("Booker notes.");
+
+    listener.onWrite(segment);
+
+    verifyNoInteractions(publisher);
+  }
+
+  @Test
+  void statusChangeRebuildsRecords() {
+    segment.setStatus(SegmentStatus.COMPLETED);
+
+    listener.onWrite(segment);
+
+    ArgumentCaptor<ApplicationEvent> event = ArgumentCaptor.forClass(ApplicationEvent.class);
+    verify(publisher).publishEvent(event.capture());
+    assertThat(event.getValue()).isInstanceOf(SegmentResultsChangedEvent.class);
+    assertThat(((SegmentResultsChangedEvent) event.getValue()).getSegmentIds())
+        .containsExactly(5L);
+  }
+
+  @Test
+  void narrationChangeIsReportedOnItsOwn() {
+    segment.setNarration("Opening bell, then chaos.");
+
+    listener.onWrite(segment);
+
+    ArgumentCaptor<ApplicationEvent> event = ArgumentCaptor.forClass(ApplicationEvent.class);
+    verify(publisher).publishEvent(event.capture());
+    assertThat(event.getValue()).isInstanceOf(SegmentNarrationChangedEvent.class);
+    assertThat(((SegmentNarrationChangedEvent) event.getValue()).getSegmentIds())
+        .isEqualTo(Set.of(5L));
+  }
+
+  @Test
+  void participantWritesRebuildTheWrestlersRecords() {
+    Wrestler wrestler = new Wrestler();
+    wrestler.setId(9L);
+    SegmentParticipant participant = new SegmentParticipant();
+    participant.setWrestler(wrestler);
+
+    listener.onWrite(participant);
+
+    ArgumentCaptor<SegmentResultsChangedEvent> event =
+        ArgumentCaptor.forClass(SegmentResultsChangedEvent.class);
+    verify(publisher).publishEvent(event.capture());
+    assertThat(event.getValue().getWrestlerIds()).containsExactly(9L);
+  }
+}
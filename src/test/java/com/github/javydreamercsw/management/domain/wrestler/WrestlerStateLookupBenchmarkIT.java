@@ -0,0 +1,105 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.domain.wrestler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.javydreamercsw.management.domain.universe.Universe;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares {@link Wrestler#getState(Long)} against the former linear scan over {@code
+ * wrestlerStates} for wrestlers that belong to a growing number of universes.
+ *
+ * <pre>
+ *   mvn -Pintegration-test verify -Dit.test=WrestlerStateLookupBenchmarkIT
+ * </pre>
+ */
+@Slf4j
+class WrestlerStateLookupBenchmarkIT {
+
+  private static final int LOOKUPS = 2_000_000;
+  private static final int[] UNIVERSE_COUNTS = {1, 5, 25, 100};
+
+  @Test
+  void reportsLookupCostPerUniverseCount() {
+    for (int universes : UNIVERSE_COUNTS) {
+      Wrestler wrestler = wrestlerInUniverses(universes);
+
+      // Warm up both paths before timing.
+      long sink = lookUpLinear(wrestler, universes, LOOKUPS / 10);
+      sink += lookUpIndexed(wrestler, universes, LOOKUPS / 10);
+
+      long start = System.nanoTime();
+      sink += lookUpLinear(wrestler, universes, LOOKUPS);
+      long linearNanos = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      sink += lookUpIndexed(wrestler, universes, LOOKUPS);
+      long indexedNanos = System.nanoTime() - start;
+
+      log.info(
+          "{} universes: linear scan {} ns/lookup, indexed {} ns/lookup ({}ms vs {}ms, sink {})",
+          universes,
+          String.format("%.1f", (double) linearNanos / LOOKUPS),
+          String.format("%.1f", (double) indexedNanos / LOOKUPS),
+          TimeUnit.NANOSECONDS.toMillis(linearNanos),
+          TimeUnit.NANOSECONDS.toMillis(indexedNanos),
+          sink);
+      assertThat(sink).isPositive();
+    }
+  }
+
+  private static Wrestler wrestlerInUniverses(final int universes) {
+    Wrestler wrestler = new Wrestler();
+    wrestler.setName("Benchmark Wrestler");
+    for (long id = 1; id <= universes; id++) {
+      Universe universe = new Universe();
+      universe.setId(id);
+      wrestler
+          .getWrestlerStates()
+          .add(WrestlerState.builder().wrestler(wrestler).universe(universe).fans(id).build());
+    }
+    return wrestler;
+  }
+
+  private static long lookUpIndexed(final Wrestler wrestler, final int universes, final int n) {
+    long sum = 0;
+    for (int i = 0; i < n; i++) {
+      long universeId = 1 + (i % universes);
+      sum += wrestler.getState(universeId).map(WrestlerState::getFans).orElse(0L);
+    }
+    return sum;
+  }
+
+  /** The lookup {@link Wrestler#getState(Long)} used before the universe index. */
+  private static long lookUpLinear(final Wrestler wrestler, final int universes, final int n) {
+    long sum = 0;
+    for (int i = 0; i < n; i++) {
+      Long universeId = 1L + (i % universes);
+      sum +=
+          wrestler.getWrestlerStates().stream()
+              .filter(s -> s.getUniverse() != null && universeId.equals(s.getUniverse().getId()))
+              .findFirst()
+              .map(WrestlerState::getFans)
+              .orElse(0L);
+    }
+    return sum;
+  }
+}
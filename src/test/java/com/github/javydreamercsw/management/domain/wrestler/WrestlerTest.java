@@ -17,11 +17,16 @@
 package com.github.javydreamercsw.management.domain.wrestler;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.github.javydreamercsw.management.domain.relationship.RelationshipType;
 import com.github.javydreamercsw.management.domain.relationship.WrestlerRelationship;
+import com.github.javydreamercsw.management.domain.universe.Universe;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 class WrestlerTest {
@@ -57,4 +62,110 @@ class WrestlerTest {
     assertTrue(all.contains(rel1));
     assertTrue(all.contains(rel2));
   }
+
+  @Test
+  void testGetStatePicksUpStatesAddedAfterFirstLookup() {
+    Wrestler w = new Wrestler();
+    WrestlerState first = stateIn(w, 1L, 100L);
+    w.getWrestlerStates().add(first);
+
+    assertSame(first, w.getState(1L).orElseThrow());
+    assertTrue(w.getState(2L).isEmpty());
+
+    WrestlerState second = stateIn(w, 2L, 200L);
+    w.getWrestlerStates().add(second);
+
+    assertSame(second, w.getState(2L).orElseThrow());
+    assertEquals(200L, w.getFans(2L));
+    assertEquals(0L, w.getFans(3L));
+  }
+
+  @Test
+  void testGetStateFollowsReplacedStateCollection() {
+    Wrestler w = new Wrestler();
+    w.getWrestlerStates().add(stateIn(w, 1L, 100L));
+    assertEquals(100L, w.getFans(1L));
+
+    WrestlerState replacement = stateIn(w, 1L, 500L);
+    w.setWrestlerStates(new LinkedHashSet<>(List.of(replacement)));
+
+    assertSame(replacement, w.getState(1L).orElseThrow());
+  }
+
+  @Test
+  void testGetStateSeesUniverseIdAssignedAfterAdd() {
+    Wrestler w = new Wrestler();
+    Universe universe = new Universe();
+    w.getWrestlerStates().add(WrestlerState.builder().wrestler(w).universe(universe).build());
+    assertTrue(w.getState(7L).isEmpty());
+
+    universe.setId(7L);
+
+    assertTrue(w.getState(7L).isPresent());
+  }
+
+  @Test
+  void testGetStateSeesRemoveThenAddWithUnchangedSize() {
+    Wrestler w = new Wrestler();
+    WrestlerState original = stateIn(w, 1L, 100L);
+    w.getWrestlerStates().add(original);
+    assertEquals(100L, w.getFans(1L));
+
+    w.getWrestlerStates().remove(original);
+    WrestlerState replacement = stateIn(w, 1L, 300L);
+    w.getWrestlerStates().add(replacement);
+    assertSame(replacement, w.getState(1L).orElseThrow());
+
+    w.getWrestlerStates().remove(replacement);
+    WrestlerState other = stateIn(w, 2L, 400L);
+    w.getWrestlerStates().add(other);
+    assertTrue(w.getState(1L).isEmpty());
+    assertSame(other, w.getState(2L).orElseThrow());
+  }
+
+  @Test
+  void testGetStateFindsStatePersistedAfterItWasAdded() {
+    Wrestler w = new Wrestler();
+    WrestlerState state = stateIn(w, 1L, 100L);
+    w.getWrestlerStates().add(state);
+    assertTrue(w.getState(2L).isEmpty());
+
+    // The id changes the hash code, so the set itself no longer finds the state.
+    state.setId(42L);
+
+    assertSame(state, w.getState(1L).orElseThrow());
+    assertTrue(w.getState(2L).isEmpty());
+  }
+
+  @Test
+  void testGetStateRecordsMissesUntilTheStatesChange() {
+    Wrestler w = new Wrestler();
+    AtomicInteger scans = new AtomicInteger();
+    w.setWrestlerStates(
+        new LinkedHashSet<>() {
+          @Override
+          public Iterator<WrestlerState> iterator() {
+            scans.incrementAndGet();
+            return super.iterator();
+          }
+        });
+    w.getWrestlerStates().add(stateIn(w, 1L, 100L));
+    assertTrue(w.getState(2L).isEmpty());
+    int scansAfterFirstMiss = scans.get();
+
+    assertTrue(w.getState(2L).isEmpty());
+    assertTrue(w.getState(2L).isEmpty());
+    assertEquals(scansAfterFirstMiss, scans.get());
+
+    WrestlerState second = stateIn(w, 2L, 200L);
+    w.getWrestlerStates().add(second);
+
+    assertSame(second, w.getState(2L).orElseThrow());
+  }
+
+  private static WrestlerState stateIn(final Wrestler w, final long universeId, final long fans) {
+    Universe universe = new Universe();
+    universe.setId(universeId);
+    return WrestlerState.builder().wrestler(w).universe(universe).fans(fans).build();
+  }
 }
@@ -16,9 +16,7 @@
 */
 package com.github.javydreamercsw.management.event;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -27,34 +25,25 @@ import com.github.javydreamercsw.management.domain.inbox.InboxEventType;
 import com.github.javydreamercsw.management.domain.inbox.InboxItem;
 import com.github.javydreamercsw.management.domain.inbox.InboxItemTarget;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
-import com.github.javydreamercsw.management.event.inbox.InboxUpdateBroadcaster;
-import com.github.javydreamercsw.management.event.inbox.InboxUpdateEvent;
+import com.github.javydreamercsw.management.service.inbox.InboxItemDraft;
+import com.github.javydreamercsw.management.service.inbox.InboxJournal;
 import com.github.javydreamercsw.management.service.inbox.InboxService;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.context.ApplicationEventPublisher;
+import org.mockito.ArgumentCaptor;
 
 class HeatChangeInboxListenerTest {
 
-  private InboxService inboxService;
+  private InboxJournal inboxJournal;
   private InboxEventType rivalryHeatChange;
-  private ApplicationEventPublisher eventPublisher;
-  private InboxUpdateBroadcaster inboxUpdateBroadcaster;
   private HeatChangeInboxListener listener;
 
   @BeforeEach
   public void setUp() {
-    inboxService = mock(InboxService.class);
+    inboxJournal = mock(InboxJournal.class);
     rivalryHeatChange = mock(InboxEventType.class);
-    eventPublisher = mock(ApplicationEventPublisher.class);
-    inboxUpdateBroadcaster = mock(InboxUpdateBroadcaster.class);
-    when(inboxService.createInboxItem(any(), any(), any(), any(), any(), any()))
-        .thenReturn(new InboxItem());
-    when(inboxService.save(any())).thenAnswer(inv -> inv.getArgument(0));
-    listener =
-        new HeatChangeInboxListener(
-            inboxService, rivalryHeatChange, eventPublisher, inboxUpdateBroadcaster);
+    listener = new HeatChangeInboxListener(inboxJournal, rivalryHeatChange);
   }
 
   @Test
@@ -73,16 +62,9 @@ class HeatChangeInboxListenerTest {
 
     listener.onApplicationEvent(event);
 
-    verify(inboxService)
-        .createInboxItem(
-            eq(rivalryHeatChange),
-            anyString(),
-            anyString(),
-            any(InboxItem.Urgency.class),
-            eq("123"),
-            eq(InboxItemTarget.TargetType.RIVALRY));
-    verify(eventPublisher).publishEvent(any(InboxUpdateEvent.class));
-    verify(inboxUpdateBroadcaster).broadcast(any(InboxUpdateEvent.class));
+    InboxItemDraft draft = appendedDraft();
+    assertThat(draft.subject()).isEqualTo("Rivalry Heat Gained");
+    assertThat(draft.message()).contains("gained 10");
   }
 
   @Test
@@ -101,13 +83,20 @@ class HeatChangeInboxListenerTest {
 
     listener.onApplicationEvent(event);
 
-    verify(inboxService)
-        .createInboxItem(
-            eq(rivalryHeatChange),
-            anyString(),
-            anyString(),
-            any(InboxItem.Urgency.class),
-            eq("123"),
-            eq(InboxItemTarget.TargetType.RIVALRY));
+    InboxItemDraft draft = appendedDraft();
+    assertThat(draft.subject()).isEqualTo("Rivalry Heat Lost");
+    assertThat(draft.message()).contains("lost 10");
+  }
+
+  private InboxItemDraft appendedDraft() {
+    ArgumentCaptor<InboxItemDraft> captor = ArgumentCaptor.forClass(InboxItemDraft.class);
+    verify(inboxJournal).append(captor.capture());
+    InboxItemDraft draft = captor.getValue();
+    assertThat(draft.eventType()).isEqualTo(rivalryHeatChange);
+    assertThat(draft.urgency()).isEqualTo(InboxItem.Urgency.INFO);
+    assertThat(draft.targets())
+        .containsExactly(new InboxService.TargetInfo("123", InboxItemTarget.TargetType.RIVALRY));
+    assertThat(draft.actionPayload()).isEqualTo("{\"route\":\"rivalry-list\"}");
+    return draft;
   }
 }
@@ -0,0 +1,147 @@
+/*
+* Copyright (C) 2025 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.event.broadcast;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vaadin.flow.shared.Registration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ListenerBroadcasterTest {
+
+  private ListenerBroadcaster<String> broadcaster;
+
+  @AfterEach
+  void tearDown() {
+    if (broadcaster != null) {
+      broadcaster.close();
+    }
+  }
+
+  @Test
+  void slowListenerDoesNotDelayOthersAcrossTwoHundredSessions() throws Exception {
+    broadcaster = new ListenerBroadcaster<>("test", 8, (queued, next) -> false, null);
+    CountDownLatch release = new CountDownLatch(1);
+    broadcaster.register(
+        event -> {
+          try {
+            release.await(10, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    int sessions = 200;
+    CountDownLatch delivered = new CountDownLatch(sessions);
+    for (int i = 0; i < sessions; i++) {
+      broadcaster.register(event -> delivered.countDown());
+    }
+
+    long start = System.nanoTime();
+    broadcaster.broadcast("adjudicated");
+    long broadcastMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    assertThat(delivered.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(broadcastMillis).isLessThan(500);
+    release.countDown();
+  }
+
+  @Test
+  void burstOfCoalescibleEventsReachesBusyListenerOnce() throws Exception {
+    broadcaster = new ListenerBroadcaster<>("test", 8, String::equals, null);
+    CountDownLatch firstStarted = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<String> received = new CopyOnWriteArrayList<>();
+    CountDownLatch done = new CountDownLatch(3);
+    broadcaster.register(
+        event -> {
+          received.add(event);
+          firstStarted.countDown();
+          try {
+            release.await(5, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          done.countDown();
+        });
+
+    broadcaster.broadcast("first");
+    assertThat(firstStarted.await(2, TimeUnit.SECONDS)).isTrue();
+    for (int i = 0; i < 10; i++) {
+      broadcaster.broadcast("refresh");
+    }
+    broadcaster.broadcast("other");
+    assertThat(broadcaster.getQueueDepth()).isEqualTo(2);
+    release.countDown();
+
+    assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(received).containsExactly("first", "refresh", "other");
+    assertThat(broadcaster.getCoalescedCount()).isEqualTo(9);
+  }
+
+  @Test
+  void fullQueueDropsOldestWaitingEvent() throws Exception {
+    broadcaster = new ListenerBroadcaster<>("test", 2, (queued, next) -> false, null);
+    CountDownLatch firstStarted = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<String> received = new CopyOnWriteArrayList<>();
+    CountDownLatch done = new CountDownLatch(3);
+    broadcaster.register(
+        event -> {
+          received.add(event);
+          firstStarted.countDown();
+          try {
+            release.await(5, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          done.countDown();
+        });
+
+    broadcaster.broadcast("e0");
+    assertThat(firstStarted.await(2, TimeUnit.SECONDS)).isTrue();
+    broadcaster.broadcast("e1");
+    broadcaster.broadcast("e2");
+    broadcaster.broadcast("e3");
+    release.countDown();
+
+    assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(received).containsExactly("e0", "e2", "e3");
+    assertThat(broadcaster.getDroppedCount()).isEqualTo(1);
+  }
+
+  @Test
+  void removedListenerReceivesNothingFurther() throws Exception {
+    broadcaster = new ListenerBroadcaster<>("test", 4, (queued, next) -> false, null);
+    AtomicInteger calls = new AtomicInteger();
+    CountDownLatch other = new CountDownLatch(1);
+    Registration registration = broadcaster.register(event -> calls.incrementAndGet());
+    broadcaster.register(event -> other.countDown());
+    registration.remove();
+
+    broadcaster.broadcast("event");
+
+    assertThat(other.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(calls).hasValue(0);
+    assertThat(broadcaster.getListenerCount()).isEqualTo(1);
+  }
+}
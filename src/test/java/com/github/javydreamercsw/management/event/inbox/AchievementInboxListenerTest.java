@@ -16,10 +16,8 @@
 */
 package com.github.javydreamercsw.management.event.inbox;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.contains;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
 
 import com.github.javydreamercsw.base.domain.account.Account;
 import com.github.javydreamercsw.base.domain.account.Achievement;
@@ -27,31 +25,27 @@ import com.github.javydreamercsw.management.domain.inbox.InboxEventType;
 import com.github.javydreamercsw.management.domain.inbox.InboxItem;
 import com.github.javydreamercsw.management.domain.inbox.InboxItemTarget;
 import com.github.javydreamercsw.management.event.AchievementUnlockedEvent;
+import com.github.javydreamercsw.management.service.inbox.InboxItemDraft;
+import com.github.javydreamercsw.management.service.inbox.InboxJournal;
 import com.github.javydreamercsw.management.service.inbox.InboxService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class AchievementInboxListenerTest {
 
-  @Mock private InboxService inboxService;
+  @Mock private InboxJournal inboxJournal;
   @Mock private InboxEventType achievementUnlocked;
-  @Mock private ApplicationEventPublisher eventPublisher;
-  @Mock private InboxUpdateBroadcaster inboxUpdateBroadcaster;
 
   private AchievementInboxListener listener;
 
   @BeforeEach
   public void setUp() {
-    when(inboxService.createInboxItem(any(), any(), any(), any(), any(), any()))
-        .thenReturn(new InboxItem());
-    listener =
-        new AchievementInboxListener(
-            inboxService, achievementUnlocked, eventPublisher, inboxUpdateBroadcaster);
+    listener = new AchievementInboxListener(inboxJournal, achievementUnlocked);
   }
 
   @Test
@@ -69,15 +63,15 @@ class AchievementInboxListenerTest {
 
     listener.onApplicationEvent(event);
 
-    verify(inboxService)
-        .createInboxItem(
-            eq(achievementUnlocked),
-            contains("Test Achievement"),
-            contains("Win 10 matches in a row."),
-            any(InboxItem.Urgency.class),
-            eq("1"),
-            eq(InboxItemTarget.TargetType.ACCOUNT));
-    verify(eventPublisher).publishEvent(any(InboxUpdateEvent.class));
-    verify(inboxUpdateBroadcaster).broadcast(any(InboxUpdateEvent.class));
+    ArgumentCaptor<InboxItemDraft> captor = ArgumentCaptor.forClass(InboxItemDraft.class);
+    verify(inboxJournal).append(captor.capture());
+    InboxItemDraft draft = captor.getValue();
+    assertThat(draft.eventType()).isEqualTo(achievementUnlocked);
+    assertThat(draft.subject()).contains("Test Achievement");
+    assertThat(draft.message()).contains("Win 10 matches in a row.");
+    assertThat(draft.urgency()).isEqualTo(InboxItem.Urgency.INFO);
+    assertThat(draft.targets())
+        .containsExactly(new InboxService.TargetInfo("1", InboxItemTarget.TargetType.ACCOUNT));
+    assertThat(draft.actionType()).isNull();
   }
 }
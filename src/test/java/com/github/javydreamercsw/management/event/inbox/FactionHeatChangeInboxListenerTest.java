@@ -16,9 +16,7 @@
 */
 package com.github.javydreamercsw.management.event.inbox;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -27,31 +25,24 @@ import com.github.javydreamercsw.management.domain.inbox.InboxEventType;
 import com.github.javydreamercsw.management.domain.inbox.InboxItem;
 import com.github.javydreamercsw.management.domain.inbox.InboxItemTarget;
 import com.github.javydreamercsw.management.event.FactionHeatChangeEvent;
+import com.github.javydreamercsw.management.service.inbox.InboxItemDraft;
+import com.github.javydreamercsw.management.service.inbox.InboxJournal;
 import com.github.javydreamercsw.management.service.inbox.InboxService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.context.ApplicationEventPublisher;
+import org.mockito.ArgumentCaptor;
 
 class FactionHeatChangeInboxListenerTest {
 
-  private InboxService inboxService;
+  private InboxJournal inboxJournal;
   private InboxEventType factionHeatChange;
-  private ApplicationEventPublisher eventPublisher;
-  private InboxUpdateBroadcaster inboxUpdateBroadcaster;
   private FactionHeatChangeInboxListener listener;
 
   @BeforeEach
   public void setUp() {
-    inboxService = mock(InboxService.class);
+    inboxJournal = mock(InboxJournal.class);
     factionHeatChange = mock(InboxEventType.class);
-    eventPublisher = mock(ApplicationEventPublisher.class);
-    inboxUpdateBroadcaster = mock(InboxUpdateBroadcaster.class);
-    when(inboxService.createInboxItem(any(), any(), any(), any(), any(), any()))
-        .thenReturn(new InboxItem());
-    when(inboxService.save(any())).thenAnswer(inv -> inv.getArgument(0));
-    listener =
-        new FactionHeatChangeInboxListener(
-            inboxService, factionHeatChange, eventPublisher, inboxUpdateBroadcaster);
+    listener = new FactionHeatChangeInboxListener(inboxJournal, factionHeatChange);
   }
 
   @Test
@@ -66,15 +57,14 @@ class FactionHeatChangeInboxListenerTest {
 
     listener.onApplicationEvent(event);
 
-    verify(inboxService)
-        .createInboxItem(
-            eq(factionHeatChange),
-            anyString(),
-            anyString(),
-            any(InboxItem.Urgency.class),
-            eq("123"),
-            eq(InboxItemTarget.TargetType.FACTION));
-    verify(eventPublisher).publishEvent(any(InboxUpdateEvent.class));
-    verify(inboxUpdateBroadcaster).broadcast(any(InboxUpdateEvent.class));
+    ArgumentCaptor<InboxItemDraft> captor = ArgumentCaptor.forClass(InboxItemDraft.class);
+    verify(inboxJournal).append(captor.capture());
+    InboxItemDraft draft = captor.getValue();
+    assertThat(draft.eventType()).isEqualTo(factionHeatChange);
+    assertThat(draft.message()).contains("F1", "F2", "gained 10");
+    assertThat(draft.urgency()).isEqualTo(InboxItem.Urgency.INFO);
+    assertThat(draft.targets())
+        .containsExactly(new InboxService.TargetInfo("123", InboxItemTarget.TargetType.FACTION));
+    assertThat(draft.actionPayload()).isEqualTo("{\"route\":\"faction-list\"}");
   }
 }
@@ -16,9 +16,7 @@
 */
 package com.github.javydreamercsw.management.event.inbox;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -28,32 +26,25 @@ import com.github.javydreamercsw.management.domain.inbox.InboxItem;
 import com.github.javydreamercsw.management.domain.inbox.InboxItemTarget;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
 import com.github.javydreamercsw.management.event.FeudHeatChangeEvent;
+import com.github.javydreamercsw.management.service.inbox.InboxItemDraft;
+import com.github.javydreamercsw.management.service.inbox.InboxJournal;
 import com.github.javydreamercsw.management.service.inbox.InboxService;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.context.ApplicationEventPublisher;
+import org.mockito.ArgumentCaptor;
 
 class FeudHeatChangeInboxListenerTest {
 
-  private InboxService inboxService;
+  private InboxJournal inboxJournal;
   private InboxEventType feudHeatChange;
-  private ApplicationEventPublisher eventPublisher;
-  private InboxUpdateBroadcaster inboxUpdateBroadcaster;
   private FeudHeatChangeInboxListener listener;
 
   @BeforeEach
   public void setUp() {
-    inboxService = mock(InboxService.class);
+    inboxJournal = mock(InboxJournal.class);
     feudHeatChange = mock(InboxEventType.class);
-    eventPublisher = mock(ApplicationEventPublisher.class);
-    inboxUpdateBroadcaster = mock(InboxUpdateBroadcaster.class);
-    when(inboxService.createInboxItem(any(), any(), any(), any(), any(), any()))
-        .thenReturn(new InboxItem());
-    when(inboxService.save(any())).thenAnswer(inv -> inv.getArgument(0));
-    listener =
-        new FeudHeatChangeInboxListener(
-            inboxService, feudHeatChange, eventPublisher, inboxUpdateBroadcaster);
+    listener = new FeudHeatChangeInboxListener(inboxJournal, feudHeatChange);
   }
 
   @Test
@@ -73,15 +64,13 @@ class FeudHeatChangeInboxListenerTest {
 
     listener.onApplicationEvent(event);
 
-    verify(inboxService)
-        .createInboxItem(
-            eq(feudHeatChange),
-            anyString(),
-            anyString(),
-            any(InboxItem.Urgency.class),
-            eq("123"),
-            eq(InboxItemTarget.TargetType.FEUD));
-    verify(eventPublisher).publishEvent(any(InboxUpdateEvent.class));
-    verify(inboxUpdateBroadcaster).broadcast(any(InboxUpdateEvent.class));
+    ArgumentCaptor<InboxItemDraft> captor = ArgumentCaptor.forClass(InboxItemDraft.class);
+    verify(inboxJournal).append(captor.capture());
+    InboxItemDraft draft = captor.getValue();
+    assertThat(draft.eventType()).isEqualTo(feudHeatChange);
+    assertThat(draft.urgency()).isEqualTo(InboxItem.Urgency.INFO);
+    assertThat(draft.targets())
+        .containsExactly(new InboxService.TargetInfo("123", InboxItemTarget.TargetType.FEUD));
+    assertThat(draft.actionPayload()).isEqualTo("{\"route\":\"rivalry-list\"}");
   }
 }
@@ -19,12 +19,8 @@ package com.github.javydreamercsw.management.event.inbox;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.atLeastOnce;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 import com.github.javydreamercsw.base.domain.account.Account;
 import com.github.javydreamercsw.management.ManagementIntegrationTest;
@@ -46,6 +42,8 @@ import com.github.javydreamercsw.management.event.dto.WrestlerBumpEvent;
 import com.github.javydreamercsw.management.event.dto.WrestlerBumpHealedEvent;
 import com.github.javydreamercsw.management.event.dto.WrestlerInjuryEvent;
 import com.github.javydreamercsw.management.event.dto.WrestlerInjuryHealedEvent;
+import com.github.javydreamercsw.management.service.inbox.InboxItemDraft;
+import com.github.javydreamercsw.management.service.inbox.InboxJournal;
 import com.github.javydreamercsw.management.service.inbox.InboxService;
 import com.github.javydreamercsw.management.service.wrestler.WrestlerService;
 import java.util.List;
@@ -111,8 +109,7 @@ public class InboxListenersIT extends ManagementIntegrationTest {
   @Autowired
   @Qualifier("wrestlerBumpHealed") private InboxEventType wrestlerBumpHealed;
 
-  @MockitoBean private InboxService inboxService;
-  @MockitoBean private InboxUpdateBroadcaster inboxUpdateBroadcaster;
+  @MockitoBean private InboxJournal inboxJournal;
 
   private Wrestler wrestler1;
   private Wrestler wrestler2;
@@ -126,16 +123,7 @@ public class InboxListenersIT extends ManagementIntegrationTest {
   @BeforeEach
   public void setUp() {
     clearAllRepositories();
-    Mockito.reset(inboxService);
-
-    // Stub the 5-arg (List-based) createInboxItem used by wrestler-event listeners
-    when(inboxService.createInboxItem(any(), any(), any(), any(InboxItem.Urgency.class), anyList()))
-        .thenReturn(new InboxItem());
-    // Stub the 6-arg (single-target) createInboxItem used by show/title listeners
-    when(inboxService.createInboxItem(
-            any(), any(), any(), any(InboxItem.Urgency.class), any(), any()))
-        .thenReturn(new InboxItem());
-    when(inboxService.save(any())).thenReturn(new InboxItem());
+    Mockito.reset(inboxJournal);
 
     universe =
         universeRepository
@@ -180,32 +168,14 @@ public class InboxListenersIT extends ManagementIntegrationTest {
     FanAwardedEvent event = new FanAwardedEvent(this, state1, fanChange);
     eventPublisher.publishEvent(event);
 
-    @SuppressWarnings("unchecked")
-    ArgumentCaptor<List<InboxService.TargetInfo>> targetsCaptor =
-        ArgumentCaptor.forClass(List.class);
-    ArgumentCaptor<InboxEventType> eventTypeCaptor = ArgumentCaptor.forClass(InboxEventType.class);
-    ArgumentCaptor<String> subjectCaptor = ArgumentCaptor.forClass(String.class);
-    ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
-    ArgumentCaptor<InboxItem.Urgency> urgencyCaptor =
-        ArgumentCaptor.forClass(InboxItem.Urgency.class);
-
-    verify(inboxService, times(1))
-        .createInboxItem(
-            eventTypeCaptor.capture(),
-            subjectCaptor.capture(),
-            messageCaptor.capture(),
-            urgencyCaptor.capture(),
-            targetsCaptor.capture());
-
-    assertEquals(fanAdjudication, eventTypeCaptor.getValue());
+    InboxItemDraft draft = appendedDraft(fanAdjudication);
     String expectedMessage =
         "Wrestler %s gained %d fans. New total: %d"
             .formatted(wrestler1.getName(), fanChange, state1.getFans());
-    assertEquals(expectedMessage, messageCaptor.getValue());
+    assertEquals(expectedMessage, draft.message());
 
-    List<InboxService.TargetInfo> targets = targetsCaptor.getValue();
-    assertContainsWrestlerTarget(targets, wrestler1);
-    assertContainsAccountTarget(targets, ownerAccount);
+    assertContainsWrestlerTarget(draft.targets(), wrestler1);
+    assertContainsAccountTarget(draft.targets(), ownerAccount);
   }
 
   @Test
@@ -213,30 +183,15 @@ public class InboxListenersIT extends ManagementIntegrationTest {
     AdjudicationCompletedEvent event = new AdjudicationCompletedEvent(this, show);
     eventPublisher.publishEvent(event);
 
-    ArgumentCaptor<InboxEventType> eventTypeCaptor = ArgumentCaptor.forClass(InboxEventType.class);
-    ArgumentCaptor<String> subjectCaptor = ArgumentCaptor.forClass(String.class);
-    ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
-    ArgumentCaptor<InboxItem.Urgency> urgencyCaptor =
-        ArgumentCaptor.forClass(InboxItem.Urgency.class);
-    ArgumentCaptor<String> referenceIdCaptor = ArgumentCaptor.forClass(String.class);
-    ArgumentCaptor<InboxItemTarget.TargetType> typeCaptor =
-        ArgumentCaptor.forClass(InboxItemTarget.TargetType.class);
-
-    verify(inboxService, times(1))
-        .createInboxItem(
-            eventTypeCaptor.capture(),
-            subjectCaptor.capture(),
-            messageCaptor.capture(),
-            urgencyCaptor.capture(),
-            referenceIdCaptor.capture(),
-            typeCaptor.capture());
-
-    assertEquals(adjudicationCompleted, eventTypeCaptor.getValue());
+    InboxItemDraft draft = appendedDraft(adjudicationCompleted);
     String expectedMessage = "Adjudication completed for show: %s".formatted(show.getName());
-    assertEquals(expectedMessage, messageCaptor.getValue());
+    assertEquals(expectedMessage, draft.message());
     Assertions.assertNotNull(show.getId());
-    assertEquals(show.getId().toString(), referenceIdCaptor.getValue());
-    assertEquals(InboxItemTarget.TargetType.SHOW, typeCaptor.getValue());
+    assertEquals(
+        List.of(
+            new InboxService.TargetInfo(show.getId().toString(), InboxItemTarget.TargetType.SHOW)),
+        draft.targets());
+    assertEquals("{\"route\":\"show-list\"}", draft.actionPayload());
   }
 
   @Test
@@ -245,36 +200,18 @@ public class InboxListenersIT extends ManagementIntegrationTest {
         new ChampionshipChangeEvent(this, title, List.of(wrestler1), List.of(wrestler2));
     eventPublisher.publishEvent(event);
 
-    ArgumentCaptor<InboxEventType> eventTypeCaptor = ArgumentCaptor.forClass(InboxEventType.class);
-    ArgumentCaptor<String> subjectCaptor = ArgumentCaptor.forClass(String.class);
-    ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
-    ArgumentCaptor<InboxItem.Urgency> urgencyCaptor =
-        ArgumentCaptor.forClass(InboxItem.Urgency.class);
-    ArgumentCaptor<String> referenceIdCaptor = ArgumentCaptor.forClass(String.class);
-    ArgumentCaptor<InboxItemTarget.TargetType> typeCaptor =
-        ArgumentCaptor.forClass(InboxItemTarget.TargetType.class);
-
     // Multiple listeners (e.g. AchievementInboxListener) may also fire on this event
-    verify(inboxService, atLeastOnce())
-        .createInboxItem(
-            eventTypeCaptor.capture(),
-            subjectCaptor.capture(),
-            messageCaptor.capture(),
-            urgencyCaptor.capture(),
-            referenceIdCaptor.capture(),
-            typeCaptor.capture());
-
-    // Find the invocation from ChampionshipChangeInboxListener specifically
-    int idx = eventTypeCaptor.getAllValues().indexOf(championshipChange);
-    assertTrue(
-        idx >= 0, "Expected createInboxItem to be called with championshipChange event type");
+    InboxItemDraft draft = appendedDraft(championshipChange);
     String expectedMessage =
         "Championship change for title ID %d. New champions: %s (formerly %s)"
             .formatted(title.getId(), wrestler1.getName(), wrestler2.getName());
-    assertEquals(expectedMessage, messageCaptor.getAllValues().get(idx));
+    assertEquals(expectedMessage, draft.message());
     Assertions.assertNotNull(title.getId());
-    assertEquals(title.getId().toString(), referenceIdCaptor.getAllValues().get(idx));
-    assertEquals(InboxItemTarget.TargetType.TITLE, typeCaptor.getAllValues().get(idx));
+    assertEquals(
+        List.of(
+            new InboxService.TargetInfo(
+                title.getId().toString(), InboxItemTarget.TargetType.TITLE)),
+        draft.targets());
   }
 
   @Test
@@ -287,29 +224,15 @@ public class InboxListenersIT extends ManagementIntegrationTest {
             com.github.javydreamercsw.management.domain.show.segment.rule.BumpSource.MANUAL);
     eventPublisher.publishEvent(event);
 
-    @SuppressWarnings("unchecked")
-    ArgumentCaptor<List<InboxService.TargetInfo>> targetsCaptor =
-        ArgumentCaptor.forClass(List.class);
-    ArgumentCaptor<InboxEventType> eventTypeCaptor = ArgumentCaptor.forClass(InboxEventType.class);
-    ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
-
-    verify(inboxService, times(1))
-        .createInboxItem(
-            eventTypeCaptor.capture(),
-            any(),
-            messageCaptor.capture(),
-            any(InboxItem.Urgency.class),
-            targetsCaptor.capture());
-
-    assertEquals(wrestlerBump, eventTypeCaptor.getValue());
+    InboxItemDraft draft = appendedDraft(wrestlerBump);
     String expectedMessage =
         "Wrestler %s received a bump from manual assignment. Total bumps: %d"
             .formatted(wrestler1.getName(), state1.getBumps());
-    assertEquals(expectedMessage, messageCaptor.getValue());
+    assertEquals(expectedMessage, draft.message());
+    assertEquals(InboxItem.Urgency.WARNING, draft.urgency());
 
-    List<InboxService.TargetInfo> targets = targetsCaptor.getValue();
-    assertContainsWrestlerTarget(targets, wrestler1);
-    assertContainsAccountTarget(targets, ownerAccount);
+    assertContainsWrestlerTarget(draft.targets(), wrestler1);
+    assertContainsAccountTarget(draft.targets(), ownerAccount);
   }
 
   @Test
@@ -318,29 +241,14 @@ public class InboxListenersIT extends ManagementIntegrationTest {
     WrestlerBumpHealedEvent event = new WrestlerBumpHealedEvent(this, state1);
     eventPublisher.publishEvent(event);
 
-    @SuppressWarnings("unchecked")
-    ArgumentCaptor<List<InboxService.TargetInfo>> targetsCaptor =
-        ArgumentCaptor.forClass(List.class);
-    ArgumentCaptor<InboxEventType> eventTypeCaptor = ArgumentCaptor.forClass(InboxEventType.class);
-    ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
-
-    verify(inboxService, times(1))
-        .createInboxItem(
-            eventTypeCaptor.capture(),
-            any(),
-            messageCaptor.capture(),
-            any(InboxItem.Urgency.class),
-            targetsCaptor.capture());
-
-    assertEquals(wrestlerBumpHealed, eventTypeCaptor.getValue());
+    InboxItemDraft draft = appendedDraft(wrestlerBumpHealed);
     String expectedMessage =
         "Wrestler %s's bumps have healed. New total: %d"
             .formatted(wrestler1.getName(), state1.getBumps());
-    assertEquals(expectedMessage, messageCaptor.getValue());
+    assertEquals(expectedMessage, draft.message());
 
-    List<InboxService.TargetInfo> targets = targetsCaptor.getValue();
-    assertContainsWrestlerTarget(targets, wrestler1);
-    assertContainsAccountTarget(targets, ownerAccount);
+    assertContainsWrestlerTarget(draft.targets(), wrestler1);
+    assertContainsAccountTarget(draft.targets(), ownerAccount);
   }
 
   @Test
@@ -348,29 +256,14 @@ public class InboxListenersIT extends ManagementIntegrationTest {
     WrestlerInjuryEvent event = new WrestlerInjuryEvent(this, state1, injury);
     eventPublisher.publishEvent(event);
 
-    @SuppressWarnings("unchecked")
-    ArgumentCaptor<List<InboxService.TargetInfo>> targetsCaptor =
-        ArgumentCaptor.forClass(List.class);
-    ArgumentCaptor<InboxEventType> eventTypeCaptor = ArgumentCaptor.forClass(InboxEventType.class);
-    ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
-
-    verify(inboxService, times(1))
-        .createInboxItem(
-            eventTypeCaptor.capture(),
-            any(),
-            messageCaptor.capture(),
-            any(InboxItem.Urgency.class),
-            targetsCaptor.capture());
-
-    assertEquals(wrestlerInjuryObtained, eventTypeCaptor.getValue());
+    InboxItemDraft draft = appendedDraft(wrestlerInjuryObtained);
     String expectedMessage =
         "Wrestler %s sustained a %s injury."
             .formatted(wrestler1.getName(), injury.getDescription());
-    assertEquals(expectedMessage, messageCaptor.getValue());
+    assertEquals(expectedMessage, draft.message());
 
-    List<InboxService.TargetInfo> targets = targetsCaptor.getValue();
-    assertContainsWrestlerTarget(targets, wrestler1);
-    assertContainsAccountTarget(targets, ownerAccount);
+    assertContainsWrestlerTarget(draft.targets(), wrestler1);
+    assertContainsAccountTarget(draft.targets(), ownerAccount);
   }
 
   @Test
@@ -378,29 +271,16 @@ public class InboxListenersIT extends ManagementIntegrationTest {
     WrestlerInjuryHealedEvent event = new WrestlerInjuryHealedEvent(this, state1, injury);
     eventPublisher.publishEvent(event);
 
-    @SuppressWarnings("unchecked")
-    ArgumentCaptor<List<InboxService.TargetInfo>> targetsCaptor =
-        ArgumentCaptor.forClass(List.class);
-    ArgumentCaptor<InboxEventType> eventTypeCaptor = ArgumentCaptor.forClass(InboxEventType.class);
-    ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
-
-    verify(inboxService, times(1))
-        .createInboxItem(
-            eventTypeCaptor.capture(),
-            any(),
-            messageCaptor.capture(),
-            any(InboxItem.Urgency.class),
-            targetsCaptor.capture());
-
-    assertEquals(wrestlerInjuryHealed, eventTypeCaptor.getValue());
+    InboxItemDraft draft = appendedDraft(wrestlerInjuryHealed);
     String expectedMessage =
         "Wrestler %s's %s injury has healed."
             .formatted(wrestler1.getName(), injury.getDescription());
-    assertEquals(expectedMessage, messageCaptor.getValue());
+    assertEquals(expectedMessage, draft.message());
+    assertEquals(
+        "{\"route\":\"wrestler-profile/" + wrestler1.getId() + "\"}", draft.actionPayload());
 
-    List<InboxService.TargetInfo> targets = targetsCaptor.getValue();
-    assertContainsWrestlerTarget(targets, wrestler1);
-    assertContainsAccountTarget(targets, ownerAccount);
+    assertContainsWrestlerTarget(draft.targets(), wrestler1);
+    assertContainsAccountTarget(draft.targets(), ownerAccount);
   }
 
   @Test
@@ -421,6 +301,16 @@ public class InboxListenersIT extends ManagementIntegrationTest {
         "NPC wrestler (no account) must not produce an ACCOUNT target");
   }
 
+  /** The single draft of {@code eventType} appended to the journal. */
+  private InboxItemDraft appendedDraft(final InboxEventType eventType) {
+    ArgumentCaptor<InboxItemDraft> captor = ArgumentCaptor.forClass(InboxItemDraft.class);
+    verify(inboxJournal, atLeastOnce()).append(captor.capture());
+    List<InboxItemDraft> drafts =
+        captor.getAllValues().stream().filter(d -> eventType.equals(d.eventType())).toList();
+    assertEquals(1, drafts.size(), "Expected one draft of type " + eventType);
+    return drafts.getFirst();
+  }
+
   private static void assertContainsWrestlerTarget(
       List<InboxService.TargetInfo> targets, Wrestler wrestler) {
     assertTrue(
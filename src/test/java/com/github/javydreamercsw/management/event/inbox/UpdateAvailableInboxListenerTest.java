@@ -16,7 +16,7 @@
 */
 package com.github.javydreamercsw.management.event.inbox;
 
-import static org.mockito.ArgumentMatchers.any;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 import com.github.javydreamercsw.base.domain.account.Account;
@@ -24,31 +24,32 @@ import com.github.javydreamercsw.base.domain.account.AccountRepository;
 import com.github.javydreamercsw.base.domain.account.RoleName;
 import com.github.javydreamercsw.base.event.UpdateAvailableEvent;
 import com.github.javydreamercsw.management.domain.inbox.InboxEventType;
-import com.github.javydreamercsw.management.domain.inbox.InboxItem;
+import com.github.javydreamercsw.management.domain.inbox.InboxItemTarget;
+import com.github.javydreamercsw.management.service.inbox.InboxItemDraft;
+import com.github.javydreamercsw.management.service.inbox.InboxJournal;
 import com.github.javydreamercsw.management.service.inbox.InboxService;
 import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 class UpdateAvailableInboxListenerTest {
 
-  @Mock private InboxService inboxService;
+  @Mock private InboxJournal inboxJournal;
   @Mock private InboxEventType updateAvailableEventType;
   @Mock private AccountRepository accountRepository;
-  @Mock private InboxUpdateBroadcaster inboxUpdateBroadcaster;
 
   private UpdateAvailableInboxListener listener;
 
   @BeforeEach
   void setUp() {
     listener =
-        new UpdateAvailableInboxListener(
-            inboxService, updateAvailableEventType, accountRepository, inboxUpdateBroadcaster);
+        new UpdateAvailableInboxListener(inboxJournal, updateAvailableEventType, accountRepository);
   }
 
   @Test
@@ -56,14 +57,15 @@ class UpdateAvailableInboxListenerTest {
     Account admin = new Account();
     admin.setId(1L);
     when(accountRepository.findAllByRoles_Name(RoleName.ADMIN)).thenReturn(List.of(admin));
-    when(inboxService.createInboxItem(any(), any(), any(), any(), any()))
-        .thenReturn(new InboxItem());
 
     listener.onApplicationEvent(
         new UpdateAvailableEvent(this, "2.6.0", "https://example.com/releases/v2.6.0"));
 
-    verify(inboxService).createInboxItem(any(), any(), any(), any(), any());
-    verify(inboxUpdateBroadcaster).broadcast(any(InboxUpdateEvent.class));
+    ArgumentCaptor<InboxItemDraft> captor = ArgumentCaptor.forClass(InboxItemDraft.class);
+    verify(inboxJournal).append(captor.capture());
+    assertThat(captor.getValue().subject()).isEqualTo("Update Available: v2.6.0");
+    assertThat(captor.getValue().targets())
+        .containsExactly(new InboxService.TargetInfo("1", InboxItemTarget.TargetType.ACCOUNT));
   }
 
   @Test
@@ -73,8 +75,7 @@ class UpdateAvailableInboxListenerTest {
     listener.onApplicationEvent(
         new UpdateAvailableEvent(this, "2.6.0", "https://example.com/releases/v2.6.0"));
 
-    verifyNoInteractions(inboxService);
-    verifyNoInteractions(inboxUpdateBroadcaster);
+    verifyNoInteractions(inboxJournal);
   }
 
   @Test
@@ -87,7 +88,6 @@ class UpdateAvailableInboxListenerTest {
     listener.onApplicationEvent(
         new UpdateAvailableEvent(this, "2.6.0", "https://example.com/releases/v2.6.0"));
 
-    verifyNoInteractions(inboxService);
-    verifyNoInteractions(inboxUpdateBroadcaster);
+    verifyNoInteractions(inboxJournal);
   }
 }
@@ -0,0 +1,113 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.javydreamercsw.management.domain.GameSetting;
+import com.github.javydreamercsw.management.domain.GameSettingRepository;
+import com.github.javydreamercsw.management.service.universe.UniverseContextService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Times the settings reads a 10-segment show adjudication makes (wear and tear and condition per
+ * participant, status cards, rivalry thresholds and news strategy per segment), with the
+ * repository mocked so only the service's own work is measured.
+ *
+ * <pre>
+ *   mvn -Pintegration-test verify -Dit.test=GameSettingReadBenchmarkIT
+ * </pre>
+ */
+@Slf4j
+class GameSettingReadBenchmarkIT {
+
+  private static final int SEGMENTS = 10;
+  private static final int PARTICIPANTS_PER_SEGMENT = 2;
+  private static final int SHOWS = 10_000;
+
+  @Test
+  void readsSettingsForTenSegmentShows() {
+    GameSettingRepository repository = mock(GameSettingRepository.class);
+    UniverseContextService universeContext = mock(UniverseContextService.class);
+    when(universeContext.getCurrentUniverseId()).thenReturn(1L);
+    when(repository.findAllGlobal())
+        .thenReturn(
+            List.of(
+                setting(GameSettingService.NEWS_STRATEGY_KEY, "SEGMENT"),
+                setting(GameSettingService.CURRENT_GAME_DATE_KEY, "2026-01-01")));
+    GameSetting override = setting(GameSettingService.RIVALRY_RESOLUTION_MIN_HEAT_KEY, "15");
+    override.setUniverseId(1L);
+    when(repository.findAllByUniverseId(1L)).thenReturn(List.of(override));
+
+    GameSettingService service =
+        new GameSettingService(repository, mock(ApplicationEventPublisher.class), universeContext);
+
+    long checksum = 0;
+    int reads = 0;
+    long start = System.nanoTime();
+    for (int show = 0; show < SHOWS; show++) {
+      for (int segment = 0; segment < SEGMENTS; segment++) {
+        for (int p = 0; p < PARTICIPANTS_PER_SEGMENT; p++) {
+          checksum += service.isWearAndTearEnabled() ? 1 : 0;
+          checksum += service.getConditionRestThreshold();
+          reads += 2;
+        }
+        checksum += service.isStatusCardsEnabled() ? 1 : 0;
+        checksum += service.getRivalryResolutionThresholdRegular();
+        checksum += service.getRivalryResolutionMinHeat();
+        checksum += service.isRivalryResolutionOnRegularShowsEnabled() ? 1 : 0;
+        checksum += service.getNewsStrategy().length();
+        checksum += service.isAiNewsEnabled() ? 1 : 0;
+        checksum += service.getNewsRumorChance();
+        reads += 7;
+      }
+      checksum += service.getCurrentGameDate().getDayOfYear();
+      reads++;
+    }
+    long elapsedNanos = System.nanoTime() - start;
+
+    log.info(
+        "{} settings reads over {} ten-segment shows: {}ms, {}ns/read (checksum {})",
+        reads,
+        SHOWS,
+        TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+        elapsedNanos / reads,
+        checksum);
+
+    // One query per scope for the whole run; previously up to two queries per read.
+    verify(repository, times(1)).findAllGlobal();
+    verify(repository, times(1)).findAllByUniverseId(1L);
+    verify(repository, never()).findGlobal(any());
+    verify(repository, never()).findBySettingKeyAndUniverseId(any(), any());
+  }
+
+  private static GameSetting setting(final String key, final String value) {
+    GameSetting setting = new GameSetting();
+    setting.setSettingKey(key);
+    setting.setValue(value);
+    return setting;
+  }
+}
@@ -19,6 +19,7 @@ package com.github.javydreamercsw.management.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -26,6 +27,7 @@ import com.github.javydreamercsw.management.domain.GameSetting;
 import com.github.javydreamercsw.management.domain.GameSettingRepository;
 import com.github.javydreamercsw.management.domain.universe.Universe;
 import com.github.javydreamercsw.management.event.dto.GameDateChangedEvent;
+import com.github.javydreamercsw.management.service.expansion.ExpansionToggledEvent;
 import com.github.javydreamercsw.management.service.universe.UniverseContextService;
 import java.time.LocalDate;
 import java.util.List;
@@ -56,6 +58,10 @@ class GameSettingServiceTest {
     org.mockito.Mockito.when(universeContextService.getCurrentUniverseId()).thenReturn(null);
   }
 
+  private void givenGlobal(final String key, final String value) {
+    when(repository.findAllGlobal()).thenReturn(List.of(setting(key, value)));
+  }
+
   private GameSetting setting(final String key, final String value) {
     GameSetting s = new GameSetting();
     s.setSettingKey(key);
@@ -65,97 +71,74 @@ class GameSettingServiceTest {
 
   @Test
   void isWearAndTearEnabled_settingExists_returnsValue() {
-    when(repository.findGlobal(GameSettingService.WEAR_AND_TEAR_ENABLED_KEY))
-        .thenReturn(Optional.of(setting(GameSettingService.WEAR_AND_TEAR_ENABLED_KEY, "false")));
+    givenGlobal(GameSettingService.WEAR_AND_TEAR_ENABLED_KEY, "false");
 
     assertThat(service.isWearAndTearEnabled()).isFalse();
   }
 
   @Test
   void isWearAndTearEnabled_settingMissing_returnsDefaultTrue() {
-    when(repository.findGlobal(GameSettingService.WEAR_AND_TEAR_ENABLED_KEY))
-        .thenReturn(Optional.empty());
-
     assertThat(service.isWearAndTearEnabled()).isTrue();
   }
 
   @Test
   void isStatusCardsEnabled_settingExists_returnsValue() {
-    when(repository.findGlobal(GameSettingService.STATUS_CARDS_ENABLED_KEY))
-        .thenReturn(Optional.of(setting(GameSettingService.STATUS_CARDS_ENABLED_KEY, "false")));
+    givenGlobal(GameSettingService.STATUS_CARDS_ENABLED_KEY, "false");
 
     assertThat(service.isStatusCardsEnabled()).isFalse();
   }
 
   @Test
   void isStatusCardsEnabled_settingMissing_returnsDefaultTrue() {
-    when(repository.findGlobal(GameSettingService.STATUS_CARDS_ENABLED_KEY))
-        .thenReturn(Optional.empty());
-
     assertThat(service.isStatusCardsEnabled()).isTrue();
   }
 
   @Test
   void isAiNewsEnabled_settingExists_returnsValue() {
-    when(repository.findGlobal(GameSettingService.AI_NEWS_ENABLED_KEY))
-        .thenReturn(Optional.of(setting(GameSettingService.AI_NEWS_ENABLED_KEY, "false")));
+    givenGlobal(GameSettingService.AI_NEWS_ENABLED_KEY, "false");
 
     assertThat(service.isAiNewsEnabled()).isFalse();
   }
 
   @Test
   void isAiNewsEnabled_settingMissing_returnsDefaultTrue() {
-    when(repository.findGlobal(GameSettingService.AI_NEWS_ENABLED_KEY))
-        .thenReturn(Optional.empty());
-
     assertThat(service.isAiNewsEnabled()).isTrue();
   }
 
   @Test
   void getNewsRumorChance_settingExists_returnsValue() {
-    when(repository.findGlobal(GameSettingService.NEWS_RUMOR_CHANCE_KEY))
-        .thenReturn(Optional.of(setting(GameSettingService.NEWS_RUMOR_CHANCE_KEY, "35")));
+    givenGlobal(GameSettingService.NEWS_RUMOR_CHANCE_KEY, "35");
 
     assertThat(service.getNewsRumorChance()).isEqualTo(35);
   }
 
   @Test
   void getNewsRumorChance_settingMissing_returnsDefault20() {
-    when(repository.findGlobal(GameSettingService.NEWS_RUMOR_CHANCE_KEY))
-        .thenReturn(Optional.empty());
-
     assertThat(service.getNewsRumorChance()).isEqualTo(20);
   }
 
   @Test
   void getNewsStrategy_settingExists_returnsValue() {
-    when(repository.findGlobal(GameSettingService.NEWS_STRATEGY_KEY))
-        .thenReturn(Optional.of(setting(GameSettingService.NEWS_STRATEGY_KEY, "SHOW")));
+    givenGlobal(GameSettingService.NEWS_STRATEGY_KEY, "SHOW");
 
     assertThat(service.getNewsStrategy()).isEqualTo("SHOW");
   }
 
   @Test
   void getNewsStrategy_settingMissing_returnsDefaultSegment() {
-    when(repository.findGlobal(GameSettingService.NEWS_STRATEGY_KEY)).thenReturn(Optional.empty());
-
     assertThat(service.getNewsStrategy()).isEqualTo("SEGMENT");
   }
 
   @Test
   void getCurrentGameDate_settingExists_returnsParsedDate() {
     LocalDate date = LocalDate.of(2025, 6, 15);
-    when(repository.findGlobal(GameSettingService.CURRENT_GAME_DATE_KEY))
-        .thenReturn(Optional.of(setting(GameSettingService.CURRENT_GAME_DATE_KEY, "2025-06-15")));
+    givenGlobal(GameSettingService.CURRENT_GAME_DATE_KEY, "2025-06-15");
 
     assertThat(service.getCurrentGameDate()).isEqualTo(date);
   }
 
   @Test
   void getCurrentGameDate_settingMissing_returnsToday() {
-    when(repository.findGlobal(GameSettingService.CURRENT_GAME_DATE_KEY))
-        .thenReturn(Optional.empty());
-
     LocalDate result = service.getCurrentGameDate();
 
     // Should return today's date (or close to it)
@@ -169,8 +152,7 @@ class GameSettingServiceTest {
     LocalDate newDate = LocalDate.of(2025, 6, 15);
 
     // getCurrentGameDate() -> old date
-    when(repository.findGlobal(GameSettingService.CURRENT_GAME_DATE_KEY))
-        .thenReturn(Optional.of(setting(GameSettingService.CURRENT_GAME_DATE_KEY, "2025-01-01")));
+    givenGlobal(GameSettingService.CURRENT_GAME_DATE_KEY, "2025-01-01");
     GameSetting existingSetting = setting(GameSettingService.CURRENT_GAME_DATE_KEY, "2025-01-01");
     when(repository.save(any(GameSetting.class))).thenReturn(existingSetting);
 
@@ -183,8 +165,7 @@ class GameSettingServiceTest {
   void saveCurrentGameDate_sameDateAsExisting_doesNotPublishEvent() {
     LocalDate date = LocalDate.of(2025, 6, 15);
 
-    when(repository.findGlobal(GameSettingService.CURRENT_GAME_DATE_KEY))
-        .thenReturn(Optional.of(setting(GameSettingService.CURRENT_GAME_DATE_KEY, "2025-06-15")));
+    givenGlobal(GameSettingService.CURRENT_GAME_DATE_KEY, "2025-06-15");
     GameSetting existingSetting = setting(GameSettingService.CURRENT_GAME_DATE_KEY, "2025-06-15");
     when(repository.save(any(GameSetting.class))).thenReturn(existingSetting);
 
@@ -229,121 +210,89 @@ class GameSettingServiceTest {
 
   @Test
   void getRivalryResolutionThresholdPle_settingExists_returnsValue() {
-    when(repository.findGlobal(GameSettingService.RIVALRY_RESOLUTION_THRESHOLD_PLE_KEY))
-        .thenReturn(
-            Optional.of(setting(GameSettingService.RIVALRY_RESOLUTION_THRESHOLD_PLE_KEY, "35")));
+    givenGlobal(GameSettingService.RIVALRY_RESOLUTION_THRESHOLD_PLE_KEY, "35");
     assertThat(service.getRivalryResolutionThresholdPle()).isEqualTo(35);
   }
 
   @Test
   void getRivalryResolutionThresholdPle_settingMissing_returnsDefault30() {
-    when(repository.findGlobal(GameSettingService.RIVALRY_RESOLUTION_THRESHOLD_PLE_KEY))
-        .thenReturn(Optional.empty());
     assertThat(service.getRivalryResolutionThresholdPle()).isEqualTo(30);
   }
 
   @Test
   void getRivalryResolutionThresholdRegular_settingExists_returnsValue() {
-    when(repository.findGlobal(GameSettingService.RIVALRY_RESOLUTION_THRESHOLD_REGULAR_KEY))
-        .thenReturn(
-            Optional.of(
-                setting(GameSettingService.RIVALRY_RESOLUTION_THRESHOLD_REGULAR_KEY, "30")));
+    givenGlobal(GameSettingService.RIVALRY_RESOLUTION_THRESHOLD_REGULAR_KEY, "30");
     assertThat(service.getRivalryResolutionThresholdRegular()).isEqualTo(30);
   }
 
   @Test
   void getRivalryResolutionThresholdRegular_settingMissing_returnsDefault25() {
-    when(repository.findGlobal(GameSettingService.RIVALRY_RESOLUTION_THRESHOLD_REGULAR_KEY))
-        .thenReturn(Optional.empty());
     assertThat(service.getRivalryResolutionThresholdRegular()).isEqualTo(25);
   }
 
   @Test
   void isRivalryResolutionOnRegularShowsEnabled_settingExists_returnsValue() {
-    when(repository.findGlobal(GameSettingService.RIVALRY_RESOLUTION_ON_REGULAR_SHOWS_KEY))
-        .thenReturn(
-            Optional.of(
-                setting(GameSettingService.RIVALRY_RESOLUTION_ON_REGULAR_SHOWS_KEY, "false")));
+    givenGlobal(GameSettingService.RIVALRY_RESOLUTION_ON_REGULAR_SHOWS_KEY, "false");
     assertThat(service.isRivalryResolutionOnRegularShowsEnabled()).isFalse();
   }
 
   @Test
   void isRivalryResolutionOnRegularShowsEnabled_settingMissing_returnsDefaultTrue() {
-    when(repository.findGlobal(GameSettingService.RIVALRY_RESOLUTION_ON_REGULAR_SHOWS_KEY))
-        .thenReturn(Optional.empty());
     assertThat(service.isRivalryResolutionOnRegularShowsEnabled()).isTrue();
   }
 
   @Test
   void getRivalryMaxDurationDays_settingExists_returnsValue() {
-    when(repository.findGlobal(GameSettingService.RIVALRY_MAX_DURATION_DAYS_KEY))
-        .thenReturn(Optional.of(setting(GameSettingService.RIVALRY_MAX_DURATION_DAYS_KEY, "60")));
+    givenGlobal(GameSettingService.RIVALRY_MAX_DURATION_DAYS_KEY, "60");
     assertThat(service.getRivalryMaxDurationDays()).isEqualTo(60);
   }
 
   @Test
   void getRivalryMaxDurationDays_settingMissing_returnsDefault90() {
-    when(repository.findGlobal(GameSettingService.RIVALRY_MAX_DURATION_DAYS_KEY))
-        .thenReturn(Optional.empty());
     assertThat(service.getRivalryMaxDurationDays()).isEqualTo(90);
   }
 
   @Test
   void isRivalryHeatDecayEnabled_settingExists_returnsValue() {
-    when(repository.findGlobal(GameSettingService.RIVALRY_HEAT_DECAY_ENABLED_KEY))
-        .thenReturn(
-            Optional.of(setting(GameSettingService.RIVALRY_HEAT_DECAY_ENABLED_KEY, "false")));
+    givenGlobal(GameSettingService.RIVALRY_HEAT_DECAY_ENABLED_KEY, "false");
     assertThat(service.isRivalryHeatDecayEnabled()).isFalse();
   }
 
   @Test
   void isRivalryHeatDecayEnabled_settingMissing_returnsDefaultTrue() {
-    when(repository.findGlobal(GameSettingService.RIVALRY_HEAT_DECAY_ENABLED_KEY))
-        .thenReturn(Optional.empty());
     assertThat(service.isRivalryHeatDecayEnabled()).isTrue();
   }
 
   @Test
   void getRivalryHeatDecayPerInterval_settingExists_returnsValue() {
-    when(repository.findGlobal(GameSettingService.RIVALRY_HEAT_DECAY_PER_INTERVAL_KEY))
-        .thenReturn(
-            Optional.of(setting(GameSettingService.RIVALRY_HEAT_DECAY_PER_INTERVAL_KEY, "3")));
+    givenGlobal(GameSettingService.RIVALRY_HEAT_DECAY_PER_INTERVAL_KEY, "3");
     assertThat(service.getRivalryHeatDecayPerInterval()).isEqualTo(3);
   }
 
   @Test
   void getRivalryHeatDecayPerInterval_settingMissing_returnsDefault1() {
-    when(repository.findGlobal(GameSettingService.RIVALRY_HEAT_DECAY_PER_INTERVAL_KEY))
-        .thenReturn(Optional.empty());
     assertThat(service.getRivalryHeatDecayPerInterval()).isEqualTo(1);
   }
 
   @Test
   void getRivalryHeatDecayIntervalDays_settingExists_returnsValue() {
-    when(repository.findGlobal(GameSettingService.RIVALRY_HEAT_DECAY_INTERVAL_DAYS_KEY))
-        .thenReturn(
-            Optional.of(setting(GameSettingService.RIVALRY_HEAT_DECAY_INTERVAL_DAYS_KEY, "14")));
+    givenGlobal(GameSettingService.RIVALRY_HEAT_DECAY_INTERVAL_DAYS_KEY, "14");
     assertThat(service.getRivalryHeatDecayIntervalDays()).isEqualTo(14);
   }
 
   @Test
   void getRivalryHeatDecayIntervalDays_settingMissing_returnsDefault7() {
-    when(repository.findGlobal(GameSettingService.RIVALRY_HEAT_DECAY_INTERVAL_DAYS_KEY))
-        .thenReturn(Optional.empty());
     assertThat(service.getRivalryHeatDecayIntervalDays()).isEqualTo(7);
   }
 
   @Test
   void getRivalryResolutionMinHeat_settingExists_returnsValue() {
-    when(repository.findGlobal(GameSettingService.RIVALRY_RESOLUTION_MIN_HEAT_KEY))
-        .thenReturn(Optional.of(setting(GameSettingService.RIVALRY_RESOLUTION_MIN_HEAT_KEY, "15")));
+    givenGlobal(GameSettingService.RIVALRY_RESOLUTION_MIN_HEAT_KEY, "15");
     assertThat(service.getRivalryResolutionMinHeat()).isEqualTo(15);
   }
 
   @Test
   void getRivalryResolutionMinHeat_settingMissing_returnsDefault10() {
-    when(repository.findGlobal(GameSettingService.RIVALRY_RESOLUTION_MIN_HEAT_KEY))
-        .thenReturn(Optional.empty());
     assertThat(service.getRivalryResolutionMinHeat()).isEqualTo(10);
   }
 
@@ -351,22 +300,69 @@ class GameSettingServiceTest {
 
   @Test
   void isTutorialEnabled_campaign_defaultsToTrue() {
-    when(repository.findGlobal(GameSettingService.TUTORIAL_ENABLED_CAMPAIGN_KEY))
-        .thenReturn(Optional.empty());
     assertThat(service.isTutorialEnabled(Universe.UniverseType.CAMPAIGN)).isTrue();
   }
 
   @Test
   void isTutorialEnabled_league_defaultsToTrue() {
-    when(repository.findGlobal(GameSettingService.TUTORIAL_ENABLED_LEAGUE_KEY))
-        .thenReturn(Optional.empty());
     assertThat(service.isTutorialEnabled(Universe.UniverseType.LEAGUE)).isTrue();
   }
 
   @Test
   void isTutorialEnabled_global_defaultsToTrue() {
-    when(repository.findGlobal(GameSettingService.TUTORIAL_ENABLED_GLOBAL_KEY))
-        .thenReturn(Optional.empty());
     assertThat(service.isTutorialEnabled(Universe.UniverseType.GLOBAL)).isTrue();
   }
+
+  // ── Settings snapshots ────────────────────────────────────────────────────
+
+  @Test
+  void repeatedReads_loadEachScopeOnce() {
+    when(universeContextService.getCurrentUniverseId()).thenReturn(7L);
+    givenGlobal(GameSettingService.NEWS_RUMOR_CHANCE_KEY, "35");
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(service.getNewsRumorChance()).isEqualTo(35);
+      assertThat(service.isWearAndTearEnabled()).isTrue();
+    }
+
+    verify(repository, times(1)).findAllGlobal();
+    verify(repository, times(1)).findAllByUniverseId(7L);
+    verify(repository, never()).findGlobal(any());
+    verify(repository, never()).findBySettingKeyAndUniverseId(any(), any());
+  }
+
+  @Test
+  void universeOverride_winsOverGlobal() {
+    when(universeContextService.getCurrentUniverseId()).thenReturn(7L);
+    givenGlobal(GameSettingService.NEWS_STRATEGY_KEY, "SEGMENT");
+    GameSetting override = setting(GameSettingService.NEWS_STRATEGY_KEY, "SHOW");
+    override.setUniverseId(7L);
+    when(repository.findAllByUniverseId(7L)).thenReturn(List.of(override));
+
+    assertThat(service.getNewsStrategy()).isEqualTo("SHOW");
+  }
+
+  @Test
+  void write_invalidatesTheSnapshot() {
+    givenGlobal(GameSettingService.NEWS_RUMOR_CHANCE_KEY, "35");
+    assertThat(service.getNewsRumorChance()).isEqualTo(35);
+
+    service.setNewsRumorChance(50);
+    givenGlobal(GameSettingService.NEWS_RUMOR_CHANCE_KEY, "50");
+
+    assertThat(service.getNewsRumorChance()).isEqualTo(50);
+    verify(repository, times(2)).findAllGlobal();
+  }
+
+  @Test
+  void expansionToggle_invalidatesTheSnapshot() {
+    givenGlobal(GameSettingService.WEAR_AND_TEAR_ENABLED_KEY, "true");
+    assertThat(service.isWearAndTearEnabled()).isTrue();
+
+    givenGlobal(GameSettingService.WEAR_AND_TEAR_ENABLED_KEY, "false");
+    assertThat(service.isWearAndTearEnabled()).isTrue();
+    service.onExpansionToggled(new ExpansionToggledEvent(this, "EXP", false));
+
+    assertThat(service.isWearAndTearEnabled()).isFalse();
+  }
 }
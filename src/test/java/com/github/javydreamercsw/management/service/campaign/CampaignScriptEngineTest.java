@@ -0,0 +1,119 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.campaign;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.github.javydreamercsw.management.service.performance.PerformanceMonitoringService;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class CampaignScriptEngineTest {
+
+  @Test
+  void snippetIsCompiledOnceAndReused() {
+    CampaignScriptEngine engine = new CampaignScriptEngine();
+
+    assertThat(engine.evaluate("val * 2", Map.of("val", 10))).isEqualTo(20);
+    CampaignScriptEngine.CompiledScript first =
+        engine.getCompiled("snippet:val * 2").orElseThrow();
+    assertThat(engine.evaluate("val * 2", Map.of("val", 4))).isEqualTo(8);
+
+    assertThat(engine.getCompiled("snippet:val * 2")).containsSame(first);
+    assertThat(first.staticallyCompiled()).isFalse();
+    assertThat(engine.getCompiledCount()).isEqualTo(1);
+  }
+
+  @Test
+  void runsDoNotShareBindings() {
+    CampaignScriptEngine engine = new CampaignScriptEngine();
+
+    engine.evaluate("seen = val; seen", Map.of("val", 1));
+
+    assertThat(engine.evaluate("binding.hasVariable('seen')", Map.of())).isEqualTo(false);
+  }
+
+  @Test
+  void cacheIsBounded() {
+    CampaignScriptEngine engine = new CampaignScriptEngine(2, false, Optional.empty());
+
+    for (int i = 0; i < 10; i++) {
+      engine.precompile("return " + i);
+    }
+
+    assertThat(engine.getCompiledCount()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void scriptFilesCompileStaticallyWhenTheyTypeCheck() throws IOException {
+    CampaignScriptEngine engine = new CampaignScriptEngine();
+
+    assertThat(engine.runScript("typed.groovy", Map.of())).isEqualTo(42);
+    assertThat(engine.runScript("dynamic.groovy", Map.of("wins", 3))).isEqualTo(6);
+
+    assertThat(engine.getCompiled("file:typed.groovy").orElseThrow().staticallyCompiled())
+        .isTrue();
+    assertThat(engine.getCompiled("file:dynamic.groovy").orElseThrow().staticallyCompiled())
+        .isFalse();
+  }
+
+  @Test
+  void precompileScriptsCompilesEveryScriptFile() {
+    CampaignScriptEngine engine = new CampaignScriptEngine();
+
+    assertThat(engine.precompileScripts()).isGreaterThanOrEqualTo(2);
+    assertThat(engine.getCompiled("file:typed.groovy")).isPresent();
+  }
+
+  @Test
+  void missingScriptFileIsReported() {
+    CampaignScriptEngine engine = new CampaignScriptEngine();
+
+    assertThatThrownBy(() -> engine.runScript("missing.groovy", Map.of()))
+        .isInstanceOf(IOException.class);
+  }
+
+  @Test
+  void brokenSnippetsAreLoggedWhenPrecompiled() {
+    CampaignScriptEngine engine = new CampaignScriptEngine();
+
+    engine.precompile("return (");
+
+    assertThat(engine.getCompiledCount()).isZero();
+  }
+
+  @Test
+  void compilationAndExecutionAreMeasured() {
+    PerformanceMonitoringService metrics = mock(PerformanceMonitoringService.class);
+    CampaignScriptEngine engine = new CampaignScriptEngine(16, false, Optional.of(metrics));
+
+    engine.evaluate("1 + 1", Map.of());
+    engine.evaluate("1 + 1", Map.of());
+
+    verify(metrics).recordLatency(eq("campaign.script.compile"), anyLong());
+    verify(metrics).incrementCounter("campaign.script.compiled.dynamic");
+    verify(metrics, times(2)).recordLatency(eq("campaign.script.execute"), anyLong());
+  }
+}
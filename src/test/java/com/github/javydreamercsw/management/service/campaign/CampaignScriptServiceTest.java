@@ -39,7 +39,13 @@ class CampaignScriptServiceTest {
   void setUp() {
     stateRepository = mock(CampaignStateRepository.class);
     when(stateRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
-    scriptService = new CampaignScriptService(stateRepository, new ObjectMapper());
+    scriptService =
+        new CampaignScriptService(
+            stateRepository,
+            new ObjectMapper(),
+            new CampaignScriptEngine(),
+            mock(StatusCardService.class),
+            mock(CampaignAbilityCardService.class));
   }
 
   @Test
@@ -19,6 +19,7 @@ package com.github.javydreamercsw.management.service.export;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -124,4 +125,25 @@ class CsvExportWriterTest {
       assertThat(content).contains("\"he said \"\"hello\"\"\"");
     }
   }
+
+  @Test
+  void streamingSource_writesEveryRowIntoTheZip() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writer.write(
+        out,
+        "U",
+        sink -> {
+          sink.startCategory(ExportCategory.UNIVERSE_STATE);
+          for (int i = 0; i < 1_000; i++) {
+            sink.row(Map.of("wrestler", "W" + i));
+          }
+          sink.endCategory(ExportCategory.UNIVERSE_STATE);
+        });
+
+    try (ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+      zis.getNextEntry();
+      List<String> lines = new String(zis.readAllBytes()).lines().toList();
+      assertThat(lines).hasSize(1_001).startsWith("wrestler", "W0").endsWith("W999");
+    }
+  }
 }
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
 import com.github.javydreamercsw.base.config.StorageProperties;
+import com.github.javydreamercsw.base.image.ImageIndex;
 import com.github.javydreamercsw.management.domain.faction.Faction;
 import com.github.javydreamercsw.management.domain.faction.FactionRepository;
 import com.github.javydreamercsw.management.domain.npc.NpcRepository;
@@ -66,6 +67,7 @@ class ImageExportServiceTest {
     service =
         new ImageExportService(
             storageProperties,
+            new ImageIndex(storageProperties, false),
             wrestlerRepository,
             factionRepository,
             titleRepository,
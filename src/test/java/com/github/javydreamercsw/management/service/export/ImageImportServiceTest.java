@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
 import com.github.javydreamercsw.base.config.StorageProperties;
+import com.github.javydreamercsw.base.image.ImageIndex;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -48,7 +49,7 @@ class ImageImportServiceTest {
 
   @BeforeEach
   void setUp() {
-    service = new ImageImportService(storageProperties);
+    service = new ImageImportService(storageProperties, new ImageIndex(storageProperties, false));
     when(storageProperties.getResolvedImageDir()).thenReturn(tempDir.resolve("images/generated"));
     when(storageProperties.getResolvedDefaultImageDir())
         .thenReturn(tempDir.resolve("images/defaults"));
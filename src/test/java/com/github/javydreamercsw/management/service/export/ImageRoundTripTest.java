@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
 import com.github.javydreamercsw.base.config.StorageProperties;
+import com.github.javydreamercsw.base.image.ImageIndex;
 import com.github.javydreamercsw.management.domain.faction.FactionRepository;
 import com.github.javydreamercsw.management.domain.npc.NpcRepository;
 import com.github.javydreamercsw.management.domain.show.template.ShowTemplateRepository;
@@ -97,6 +98,7 @@ class ImageRoundTripTest {
     exportService =
         new ImageExportService(
             exportStorage,
+            new ImageIndex(exportStorage, false),
             wrestlerRepository,
             factionRepository,
             titleRepository,
@@ -106,7 +108,7 @@ class ImageRoundTripTest {
             arenaRepository,
             locationRepository);
 
-    importService = new ImageImportService(importStorage);
+    importService = new ImageImportService(importStorage, new ImageIndex(importStorage, false));
   }
 
   @Test
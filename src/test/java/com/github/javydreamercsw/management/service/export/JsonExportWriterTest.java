@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -107,4 +108,25 @@ class JsonExportWriterTest {
     byte[] json = writer.write(new ExportPayload(data), "Full Export");
     assertThat(objectMapper.readTree(json)).isNotNull();
   }
+
+  @Test
+  void streamingSource_producesSameDocumentShape() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writer.write(
+        out,
+        "U",
+        sink -> {
+          sink.startCategory(ExportCategory.INJURIES);
+          sink.row(Map.of("name", "Bruise"));
+          sink.row(Map.of("name", "Sprain"));
+          sink.endCategory(ExportCategory.INJURIES);
+          sink.startCategory(ExportCategory.RIVALRIES);
+          sink.endCategory(ExportCategory.RIVALRIES);
+        });
+
+    JsonNode categories = objectMapper.readTree(out.toByteArray()).get("categories");
+    assertThat(categories.get("INJURIES").size()).isEqualTo(2);
+    assertThat(categories.get("INJURIES").get(1).get("name").asText()).isEqualTo("Sprain");
+    assertThat(categories.get("RIVALRIES").isArray()).isTrue();
+  }
 }
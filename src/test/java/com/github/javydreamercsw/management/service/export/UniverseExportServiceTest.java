@@ -17,7 +17,12 @@
 package com.github.javydreamercsw.management.service.export;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.github.javydreamercsw.base.domain.wrestler.WrestlerTier;
@@ -39,14 +44,20 @@ import com.github.javydreamercsw.management.domain.universe.Universe;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerState;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerStateRepository;
+import jakarta.persistence.EntityManager;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
 class UniverseExportServiceTest {
 
@@ -56,6 +67,7 @@ class UniverseExportServiceTest {
   private TitleReignRepository titleReignRepository;
   private WrestlerAlignmentRepository wrestlerAlignmentRepository;
   private WrestlerRelationshipRepository wrestlerRelationshipRepository;
+  private EntityManager entityManager;
 
   private UniverseExportService service;
 
@@ -82,6 +94,8 @@ class UniverseExportServiceTest {
             titleReignRepository,
             wrestlerAlignmentRepository,
             wrestlerRelationshipRepository);
+    entityManager = mock(EntityManager.class);
+    ReflectionTestUtils.setField(service, "entityManager", entityManager);
 
     universe = mock(Universe.class);
     when(universe.getId()).thenReturn(1L);
@@ -119,23 +133,17 @@ class UniverseExportServiceTest {
     when(inactiveState.getPhysicalCondition()).thenReturn(80);
     when(inactiveState.getFaction()).thenReturn(null);
 
-    when(wrestlerStateRepository.findByUniverseId(1L))
-        .thenReturn(List.of(activeState, inactiveState));
+    when(wrestlerStateRepository.findByUniverseId(eq(1L), any(Pageable.class)))
+        .thenReturn(new SliceImpl<>(List.of(activeState, inactiveState)));
 
     // Default: no related data
-    when(injuryRepository.findByWrestlerAndUniverse(activeWrestler, universe))
+    when(injuryRepository.findByWrestlerIdsAndUniverseId(any(), eq(1L))).thenReturn(List.of());
+    when(rivalryRepository.findByUniverseWithWrestlers(eq(universe), any(Pageable.class)))
+        .thenReturn(new SliceImpl<>(List.of()));
+    when(titleReignRepository.findByChampionIdsWithChampions(any())).thenReturn(List.of());
+    when(wrestlerAlignmentRepository.findByWrestlerIdsAndUniverseId(any(), eq(1L)))
         .thenReturn(List.of());
-    when(injuryRepository.findByWrestlerAndUniverse(inactiveWrestler, universe))
-        .thenReturn(List.of());
-    when(rivalryRepository.findByUniverseWithWrestlers(universe)).thenReturn(List.of());
-    when(titleReignRepository.findByChampionsContaining(activeWrestler)).thenReturn(List.of());
-    when(titleReignRepository.findByChampionsContaining(inactiveWrestler)).thenReturn(List.of());
-    when(wrestlerAlignmentRepository.findByWrestlerAndUniverseId(activeWrestler, 1L))
-        .thenReturn(Optional.empty());
-    when(wrestlerAlignmentRepository.findByWrestlerAndUniverseId(inactiveWrestler, 1L))
-        .thenReturn(Optional.empty());
-    when(wrestlerRelationshipRepository.findAllByWrestler(activeWrestler)).thenReturn(List.of());
-    when(wrestlerRelationshipRepository.findAllByWrestler(inactiveWrestler)).thenReturn(List.of());
+    when(wrestlerRelationshipRepository.findAllByWrestlerIds(any())).thenReturn(List.of());
   }
 
   @Test
@@ -204,8 +212,9 @@ class UniverseExportServiceTest {
     when(injury.getIsActive()).thenReturn(true);
     when(injury.getInjuryDate()).thenReturn(Instant.EPOCH);
     when(injury.getHealedDate()).thenReturn(null);
+    when(injury.getWrestler()).thenReturn(activeWrestler);
 
-    when(injuryRepository.findByWrestlerAndUniverse(activeWrestler, universe))
+    when(injuryRepository.findByWrestlerIdsAndUniverseId(List.of(10L), 1L))
         .thenReturn(List.of(injury));
 
     ExportPayload payload =
@@ -225,13 +234,15 @@ class UniverseExportServiceTest {
     when(rivalry.getWrestler1()).thenReturn(activeWrestler);
     when(rivalry.getWrestler2()).thenReturn(inactiveWrestler);
     when(rivalry.getHeat()).thenReturn(15);
-    when(rivalry.getHeatEvents()).thenReturn(List.of());
     when(rivalry.getIsActive()).thenReturn(true);
     when(rivalry.getStartedDate()).thenReturn(Instant.EPOCH);
     when(rivalry.getEndedDate()).thenReturn(null);
     when(rivalry.getStorylineNotes()).thenReturn(null);
 
-    when(rivalryRepository.findByUniverseWithWrestlers(universe)).thenReturn(List.of(rivalry));
+    when(rivalryRepository.findByUniverseWithWrestlers(eq(universe), any(Pageable.class)))
+        .thenReturn(new SliceImpl<>(List.of(rivalry)));
+    when(rivalryRepository.countHeatEventsByRivalry(List.of(99L)))
+        .thenReturn(List.<Object[]>of(new Object[] {99L, 3L}));
 
     ExportPayload payload =
         service.collect(universe, Set.of(ExportCategory.RIVALRIES), WrestlerFilter.all());
@@ -239,6 +250,8 @@ class UniverseExportServiceTest {
     List<Map<String, Object>> rows = payload.data().get(ExportCategory.RIVALRIES);
     assertThat(rows).hasSize(1);
     assertThat(rows.get(0)).containsEntry("heat", 15);
+    assertThat(rows.get(0)).containsEntry("heatEvents", 3);
+    verify(rivalry, never()).getHeatEvents();
   }
 
   @Test
@@ -254,8 +267,7 @@ class UniverseExportServiceTest {
     when(reign.getStartDate()).thenReturn(Instant.EPOCH);
     when(reign.getEndDate()).thenReturn(null);
 
-    when(titleReignRepository.findByChampionsContaining(activeWrestler)).thenReturn(List.of(reign));
-    when(titleReignRepository.findByChampionsContaining(inactiveWrestler))
+    when(titleReignRepository.findByChampionIdsWithChampions(List.of(10L, 20L)))
         .thenReturn(List.of(reign));
 
     ExportPayload payload =
@@ -271,9 +283,10 @@ class UniverseExportServiceTest {
     WrestlerAlignment alignment = mock(WrestlerAlignment.class);
     when(alignment.getAlignmentType()).thenReturn(AlignmentType.FACE);
     when(alignment.getLevel()).thenReturn(75);
+    when(alignment.getWrestler()).thenReturn(activeWrestler);
 
-    when(wrestlerAlignmentRepository.findByWrestlerAndUniverseId(activeWrestler, 1L))
-        .thenReturn(Optional.of(alignment));
+    when(wrestlerAlignmentRepository.findByWrestlerIdsAndUniverseId(List.of(10L), 1L))
+        .thenReturn(List.of(alignment));
 
     ExportPayload payload =
         service.collect(universe, Set.of(ExportCategory.ALIGNMENTS), WrestlerFilter.activeOnly());
@@ -296,8 +309,7 @@ class UniverseExportServiceTest {
     when(rel.getIsStoryline()).thenReturn(false);
     when(rel.getStartedDate()).thenReturn(Instant.EPOCH);
 
-    when(wrestlerRelationshipRepository.findAllByWrestler(activeWrestler)).thenReturn(List.of(rel));
-    when(wrestlerRelationshipRepository.findAllByWrestler(inactiveWrestler))
+    when(wrestlerRelationshipRepository.findAllByWrestlerIds(List.of(10L, 20L)))
         .thenReturn(List.of(rel));
 
     ExportPayload payload =
@@ -306,5 +318,45 @@ class UniverseExportServiceTest {
     List<Map<String, Object>> rows = payload.data().get(ExportCategory.RELATIONSHIPS);
     assertThat(rows).hasSize(1);
     assertThat(rows.get(0)).containsEntry("type", "MENTOR");
+    verify(wrestlerRelationshipRepository, times(1)).findAllByWrestlerIds(any());
+  }
+
+  @Test
+  void export_pagesThroughWrestlerStatesAndClearsEachPage() throws Exception {
+    Pageable first = PageRequest.of(0, UniverseExportService.PAGE_SIZE, Sort.by("id"));
+    when(wrestlerStateRepository.findByUniverseId(1L, first))
+        .thenReturn(new SliceImpl<>(List.of(activeState), first, true));
+    when(wrestlerStateRepository.findByUniverseId(1L, first.next()))
+        .thenReturn(new SliceImpl<>(List.of(inactiveState), first.next(), false));
+
+    List<String> events = new ArrayList<>();
+    service.export(
+        universe,
+        Set.of(ExportCategory.UNIVERSE_STATE),
+        WrestlerFilter.all(),
+        new ExportRowSink() {
+          @Override
+          public void startCategory(ExportCategory category) {
+            events.add("start " + category);
+          }
+
+          @Override
+          public void row(Map<String, Object> row) {
+            events.add("row " + row.get("wrestler"));
+          }
+
+          @Override
+          public void endCategory(ExportCategory category) {
+            events.add("end " + category);
+          }
+        });
+
+    assertThat(events)
+        .containsExactly(
+            "start UNIVERSE_STATE",
+            "row Active Wrestler",
+            "row Inactive Wrestler",
+            "end UNIVERSE_STATE");
+    verify(entityManager, times(2)).clear();
   }
 }
@@ -0,0 +1,144 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.inbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.javydreamercsw.base.domain.account.Account;
+import com.github.javydreamercsw.base.domain.account.RoleName;
+import com.github.javydreamercsw.base.security.OwnershipResolver;
+import com.github.javydreamercsw.base.security.PermissionService;
+import com.github.javydreamercsw.management.ManagementIntegrationTest;
+import com.github.javydreamercsw.management.domain.inbox.InboxEventType;
+import com.github.javydreamercsw.management.domain.inbox.InboxEventTypeRegistry;
+import com.github.javydreamercsw.management.domain.inbox.InboxItem;
+import com.github.javydreamercsw.management.domain.inbox.InboxItemTarget;
+import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * A player marking 200 inbox items read, unread and read again: ownership checked one item at a
+ * time, the way collection checks used to recurse, against the bulk check {@link
+ * InboxService#markSelectedAsRead} now makes, comparing the ownership loads and SQL statements
+ * each costs. A last round checks item by item inside one web request, where the resolved
+ * ownership is reused.
+ *
+ * <pre>
+ *   mvn -Pintegration-test verify -Dit.test=InboxBulkOwnershipBenchmarkIT
+ * </pre>
+ */
+@Slf4j
+class InboxBulkOwnershipBenchmarkIT extends ManagementIntegrationTest {
+
+  private static final int ITEMS = 200;
+  private static final int ROUNDS = 3;
+
+  @Autowired private InboxService inboxService;
+  @Autowired private InboxEventTypeRegistry eventTypeRegistry;
+  @Autowired private PermissionService permissionService;
+  @Autowired private OwnershipResolver ownershipResolver;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  @Test
+  void bulkInboxOperationsResolveOwnershipOnce() {
+    inboxRepository.deleteAll();
+    Account player = createTestAccount("bulk_inbox_player", RoleName.PLAYER);
+    Wrestler wrestler = createTestWrestler("Bulk Inbox Player");
+    wrestler.setAccount(player);
+    wrestlerRepository.saveAndFlush(wrestler);
+
+    InboxEventType eventType = eventTypeRegistry.getEventTypes().getFirst();
+    List<InboxItem> items = new ArrayList<>();
+    for (int i = 0; i < ITEMS; i++) {
+      InboxItem item = new InboxItem();
+      item.setEventType(eventType);
+      item.setDescription("Bulk ownership " + i);
+      if (i % 2 == 0) {
+        item.addTarget(String.valueOf(player.getId()), InboxItemTarget.TargetType.ACCOUNT);
+      } else {
+        item.addTarget(String.valueOf(wrestler.getId()), InboxItemTarget.TargetType.WRESTLER);
+      }
+      items.add(item);
+    }
+    Set<InboxItem> selected = new LinkedHashSet<>(inboxRepository.saveAll(items));
+    login(player);
+
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+
+    statistics.clear();
+    long loadsBefore = ownershipResolver.getLoadCount();
+    long start = System.nanoTime();
+    for (int round = 0; round < ROUNDS; round++) {
+      assertThat(selected).allMatch(permissionService::isOwner);
+    }
+    long perItemMs = (System.nanoTime() - start) / 1_000_000;
+    long perItemStatements = statistics.getPrepareStatementCount();
+    long perItemLoads = ownershipResolver.getLoadCount() - loadsBefore;
+
+    statistics.clear();
+    loadsBefore = ownershipResolver.getLoadCount();
+    start = System.nanoTime();
+    inboxService.markSelectedAsRead(selected);
+    inboxService.markSelectedAsUnread(selected);
+    inboxService.markSelectedAsRead(selected);
+    long bulkMs = (System.nanoTime() - start) / 1_000_000;
+    long bulkStatements = statistics.getPrepareStatementCount();
+    long bulkLoads = ownershipResolver.getLoadCount() - loadsBefore;
+
+    loadsBefore = ownershipResolver.getLoadCount();
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+    try {
+      assertThat(selected).allMatch(permissionService::isOwner);
+    } finally {
+      RequestContextHolder.resetRequestAttributes();
+    }
+    long requestLoads = ownershipResolver.getLoadCount() - loadsBefore;
+
+    log.info(
+        "{} items x {} rounds: per-item checks loaded ownership {} times ({} statements, {}ms);"
+            + " bulk operations {} times ({} statements including the updates, {}ms);"
+            + " per-item checks in one request {} time(s)",
+        ITEMS,
+        ROUNDS,
+        perItemLoads,
+        perItemStatements,
+        perItemMs,
+        bulkLoads,
+        bulkStatements,
+        bulkMs,
+        requestLoads);
+    assertThat(perItemLoads).isEqualTo((long) ITEMS * ROUNDS);
+    assertThat(perItemStatements).isGreaterThanOrEqualTo(2L * ITEMS * ROUNDS);
+    assertThat(bulkLoads).isEqualTo(ROUNDS);
+    assertThat(requestLoads).isEqualTo(1);
+    assertThat(inboxRepository.findAll()).allMatch(InboxItem::isRead);
+  }
+}
@@ -0,0 +1,165 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.inbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.github.javydreamercsw.management.ManagementIntegrationTest;
+import com.github.javydreamercsw.management.domain.inbox.InboxEventType;
+import com.github.javydreamercsw.management.domain.inbox.InboxEventTypeRegistry;
+import com.github.javydreamercsw.management.domain.inbox.InboxItem;
+import com.github.javydreamercsw.management.domain.inbox.InboxItemTarget;
+import com.github.javydreamercsw.management.domain.inbox.InboxRepository;
+import com.github.javydreamercsw.management.event.inbox.InboxUpdateBroadcaster;
+import com.github.javydreamercsw.management.event.inbox.InboxUpdateEvent;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class InboxJournalIT extends ManagementIntegrationTest {
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private InboxRepository inboxRepository;
+  @Autowired private InboxEventTypeRegistry eventTypeRegistry;
+  @Autowired private ApplicationEventPublisher eventPublisher;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private InboxUpdateBroadcaster broadcaster;
+  private InboxJournal journal;
+  private TransactionTemplate transaction;
+  private InboxEventType eventType;
+
+  @BeforeEach
+  void setUp() {
+    inboxRepository.deleteAll();
+    broadcaster = mock(InboxUpdateBroadcaster.class);
+    journal =
+        new InboxJournal(
+            jdbcTemplate,
+            inboxRepository,
+            eventPublisher,
+            broadcaster,
+            transactionManager,
+            1000,
+            true);
+    journal.start();
+    transaction = new TransactionTemplate(transactionManager);
+    eventType = eventTypeRegistry.getEventTypes().getFirst();
+  }
+
+  @AfterEach
+  void tearDown() {
+    journal.stop();
+  }
+
+  private InboxItemDraft draft(final String subject, final String accountId) {
+    return InboxItemDraft.of(
+            eventType,
+            subject,
+            subject + " happened",
+            InboxItem.Urgency.WARNING,
+            List.of(
+                new InboxService.TargetInfo("7", InboxItemTarget.TargetType.WRESTLER),
+                new InboxService.TargetInfo(accountId, InboxItemTarget.TargetType.ACCOUNT)))
+        .navigateTo("wrestler-profile/7");
+  }
+
+  @Test
+  void draftsAreWrittenAfterCommitInOrderWithOneUpdate() throws Exception {
+    transaction.executeWithoutResult(
+        status -> {
+          for (int i = 0; i < 50; i++) {
+            journal.append(draft("Item " + i, "1"));
+          }
+          assertThat(journal.getBacklog()).isZero();
+        });
+
+    assertThat(journal.awaitIdle(Duration.ofSeconds(10))).isTrue();
+
+    List<InboxItem> items =
+        inboxRepository.findAll().stream()
+            .sorted(Comparator.comparing(InboxItem::getId))
+            .toList();
+    assertThat(items).hasSize(50);
+    assertThat(items).extracting(InboxItem::getSubject).startsWith("Item 0", "Item 1", "Item 2");
+    assertThat(items.getLast().getSubject()).isEqualTo("Item 49");
+    InboxItem first = items.getFirst();
+    assertThat(first.getEventType()).isEqualTo(eventType);
+    assertThat(first.getDescription()).isEqualTo("Item 0 happened");
+    assertThat(first.getUrgency()).isEqualTo(InboxItem.Urgency.WARNING);
+    assertThat(first.getActionType()).isEqualTo("NAVIGATE");
+    assertThat(first.getActionPayload()).isEqualTo("{\"route\":\"wrestler-profile/7\"}");
+    assertThat(first.getEventTimestamp()).isNotNull();
+    assertThat(first.getTargets())
+        .extracting(InboxItemTarget::getTargetId, InboxItemTarget::getTargetType)
+        .containsExactlyInAnyOrder(
+            tuple("7", InboxItemTarget.TargetType.WRESTLER),
+            tuple("1", InboxItemTarget.TargetType.ACCOUNT));
+    // One commit, one batch, one refresh for every open inbox.
+    verify(broadcaster, times(1)).broadcast(any(InboxUpdateEvent.class));
+  }
+
+  @Test
+  void rolledBackDraftsAreDropped() throws Exception {
+    transaction.executeWithoutResult(
+        status -> {
+          journal.append(draft("Never", "1"));
+          status.setRollbackOnly();
+        });
+
+    assertThat(journal.awaitIdle(Duration.ofSeconds(10))).isTrue();
+    assertThat(inboxRepository.count()).isZero();
+    verify(broadcaster, never()).broadcast(any());
+  }
+
+  @Test
+  void draftsOutsideATransactionAreWrittenRightAway() throws Exception {
+    journal.append(draft("Standalone", "2"));
+
+    assertThat(journal.awaitIdle(Duration.ofSeconds(10))).isTrue();
+    assertThat(inboxRepository.findAll())
+        .singleElement()
+        .extracting(InboxItem::getSubject)
+        .isEqualTo("Standalone");
+  }
+
+  @Test
+  void stopWritesWhatIsStillQueued() {
+    for (int i = 0; i < 20; i++) {
+      journal.append(draft("Queued " + i, "3"));
+    }
+
+    journal.stop();
+
+    assertThat(journal.getBacklog()).isZero();
+    assertThat(inboxRepository.count()).isEqualTo(20);
+  }
+}
@@ -18,6 +18,8 @@ package com.github.javydreamercsw.management.service.inbox;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -31,6 +33,7 @@ import com.github.javydreamercsw.management.domain.inbox.InboxItem;
 import com.github.javydreamercsw.management.domain.inbox.InboxItemTarget;
 import com.github.javydreamercsw.management.domain.inbox.InboxRepository;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
+import com.github.javydreamercsw.management.event.InboxUnreadChangedEvent;
 import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
@@ -41,6 +44,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -53,6 +58,8 @@ class InboxServiceTest {
   @Mock private InboxEventTypeRegistry eventTypeRegistry;
   @Mock private SecurityUtils securityUtils;
   @Mock private AccountRepository accountRepository;
+  @Mock private InboxUnreadIndex unreadIndex;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks private InboxService inboxService;
 
@@ -188,21 +195,50 @@ class InboxServiceTest {
     when(securityUtils.isAdmin()).thenReturn(false);
     when(securityUtils.isBooker()).thenReturn(false);
     when(securityUtils.getCurrentAccountId()).thenReturn(java.util.Optional.of(1L));
-    when(inboxRepository.findAll(
-            any(Specification.class), any(org.springframework.data.domain.Sort.class)))
-        .thenReturn(List.of(item1, item2));
+    when(unreadIndex.getUnreadCount(1L)).thenReturn(2L);
 
     assertThat(inboxService.countUnread(1L)).isEqualTo(2L);
   }
 
+  @Test
+  void countUnread_asNonAdmin_forAnotherAccount_returnsOwnCount() {
+    when(securityUtils.isAdmin()).thenReturn(false);
+    when(securityUtils.isBooker()).thenReturn(false);
+    when(securityUtils.getCurrentAccountId()).thenReturn(java.util.Optional.of(1L));
+    when(unreadIndex.getUnreadCount(1L)).thenReturn(3L);
+    when(unreadIndex.getUnreadCount(2L)).thenReturn(7L);
+
+    assertThat(inboxService.countUnread(2L)).isEqualTo(3L);
+  }
+
+  @Test
+  void countUnread_asNonAdmin_withoutAccount_returnsZero() {
+    when(securityUtils.isAdmin()).thenReturn(false);
+    when(securityUtils.isBooker()).thenReturn(false);
+    when(securityUtils.getCurrentAccountId()).thenReturn(java.util.Optional.empty());
+
+    assertThat(inboxService.countUnread(1L)).isZero();
+    verify(unreadIndex, never()).getUnreadCount(any());
+  }
+
+  @Test
+  void purgeOldItems_invalidatesUnreadCountsWhenItemsWereDeleted() {
+    when(inboxRepository.deleteItemsOlderThan(any())).thenReturn(3);
+
+    assertThat(inboxService.purgeOldItems(30)).isEqualTo(3);
+    verify(eventPublisher)
+        .publishEvent(
+            argThat(
+                (ApplicationEvent e) ->
+                    e instanceof InboxUnreadChangedEvent unread && unread.isEveryAccount()));
+  }
+
   @Test
   void countUnread_withNoUnreadItems_returnsZero() {
     when(securityUtils.isAdmin()).thenReturn(false);
     when(securityUtils.isBooker()).thenReturn(false);
     when(securityUtils.getCurrentAccountId()).thenReturn(java.util.Optional.of(1L));
-    when(inboxRepository.findAll(
-            any(Specification.class), any(org.springframework.data.domain.Sort.class)))
-        .thenReturn(List.of());
+    when(unreadIndex.getUnreadCount(1L)).thenReturn(0L);
 
     assertThat(inboxService.countUnread(1L)).isEqualTo(0L);
   }
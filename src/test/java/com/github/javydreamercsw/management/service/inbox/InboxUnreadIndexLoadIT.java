@@ -0,0 +1,137 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.inbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.javydreamercsw.management.ManagementIntegrationTest;
+import com.github.javydreamercsw.management.domain.inbox.InboxEventType;
+import com.github.javydreamercsw.management.domain.inbox.InboxEventTypeRegistry;
+import com.github.javydreamercsw.management.domain.inbox.InboxItem;
+import com.github.javydreamercsw.management.domain.inbox.InboxItemTarget;
+import com.github.javydreamercsw.management.domain.inbox.InboxRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongUnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Badge refreshes for 100 logged-in accounts, each refreshing ten times while some of them read
+ * an item between rounds: counts from the unread search {@link InboxService#countUnread} used to
+ * run against counts from the {@link InboxUnreadIndex}, comparing the SQL statements each issues.
+ *
+ * <pre>
+ *   mvn -Pintegration-test verify -Dit.test=InboxUnreadIndexLoadIT
+ * </pre>
+ */
+@Slf4j
+class InboxUnreadIndexLoadIT extends ManagementIntegrationTest {
+
+  private static final int ACCOUNTS = 100;
+  private static final int ITEMS_PER_ACCOUNT = 5;
+  private static final int ROUNDS = 10;
+  private static final long FIRST_ACCOUNT_ID = 1_000_000L;
+
+  @Autowired private InboxService inboxService;
+  @Autowired private InboxRepository inboxRepository;
+  @Autowired private InboxUnreadIndex unreadIndex;
+  @Autowired private InboxEventTypeRegistry eventTypeRegistry;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  @Test
+  void badgeRefreshesForOneHundredAccounts() {
+    inboxRepository.deleteAll();
+    unreadIndex.invalidateAll();
+    InboxEventType eventType = eventTypeRegistry.getEventTypes().getFirst();
+    List<InboxItem> items = new ArrayList<>();
+    for (int a = 0; a < ACCOUNTS; a++) {
+      for (int i = 0; i < ITEMS_PER_ACCOUNT; i++) {
+        InboxItem item = new InboxItem();
+        item.setEventType(eventType);
+        item.setDescription("Unread load " + a + "/" + i);
+        item.addTarget(String.valueOf(FIRST_ACCOUNT_ID + a), InboxItemTarget.TargetType.ACCOUNT);
+        items.add(item);
+      }
+    }
+    inboxRepository.saveAll(items);
+    loginAs("admin");
+
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+    long legacyStatements = 0;
+    long indexStatements = 0;
+    long legacyMs = 0;
+    long indexMs = 0;
+    long loadsBefore = unreadIndex.getLoadCount();
+    for (int round = 0; round < ROUNDS; round++) {
+      statistics.clear();
+      long start = System.nanoTime();
+      long[] legacy =
+          refreshAll(
+              id ->
+                  inboxService.search(Collections.emptySet(), "Unread", "All", false, id).size());
+      legacyMs += (System.nanoTime() - start) / 1_000_000;
+      legacyStatements += statistics.getPrepareStatementCount();
+
+      statistics.clear();
+      start = System.nanoTime();
+      long[] indexed = refreshAll(inboxService::countUnread);
+      indexMs += (System.nanoTime() - start) / 1_000_000;
+      indexStatements += statistics.getPrepareStatementCount();
+
+      assertThat(indexed).containsExactly(legacy);
+      readOneItem(round);
+    }
+
+    log.info(
+        "{} accounts x {} refreshes: unread search ran {} statements in {}ms, index ran {} in {}ms",
+        ACCOUNTS,
+        ROUNDS,
+        legacyStatements,
+        legacyMs,
+        indexStatements,
+        indexMs);
+    assertThat(unreadIndex.getLoadCount() - loadsBefore).isEqualTo(ACCOUNTS);
+    assertThat(indexStatements).isLessThanOrEqualTo(ACCOUNTS);
+    assertThat(legacyStatements).isGreaterThanOrEqualTo((long) ACCOUNTS * ROUNDS);
+  }
+
+  private static long[] refreshAll(final LongUnaryOperator countUnread) {
+    long[] counts = new long[ACCOUNTS];
+    for (int a = 0; a < ACCOUNTS; a++) {
+      counts[a] = countUnread.applyAsLong(FIRST_ACCOUNT_ID + a);
+    }
+    return counts;
+  }
+
+  /** Marks one unread item of every tenth account, shifted by round, as read. */
+  private void readOneItem(final int round) {
+    for (int a = round % 10; a < ACCOUNTS; a += 10) {
+      long accountId = FIRST_ACCOUNT_ID + a;
+      inboxService.search(Collections.emptySet(), "Unread", "All", false, accountId).stream()
+          .findFirst()
+          .ifPresent(item -> inboxService.markSelectedAsRead(Set.of(item)));
+    }
+  }
+}
@@ -0,0 +1,149 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.inbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.javydreamercsw.management.domain.inbox.InboxRepository;
+import com.github.javydreamercsw.management.event.InboxUnreadChangedEvent;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class InboxUnreadIndexTest {
+
+  private InboxRepository inboxRepository;
+  private InboxUnreadIndex index;
+
+  @BeforeEach
+  void setUp() {
+    inboxRepository = mock(InboxRepository.class);
+    when(inboxRepository.countUnreadForAccount("1")).thenReturn(3L);
+    when(inboxRepository.countUnreadForAccount("2")).thenReturn(5L);
+    index = new InboxUnreadIndex(inboxRepository, 100, 10);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void countIsLoadedOnceAndThenServedFromMemory() {
+    assertThat(index.getUnreadCount(1L)).isEqualTo(3L);
+    assertThat(index.getUnreadCount(1L)).isEqualTo(3L);
+    assertThat(index.getUnreadCount(2L)).isEqualTo(5L);
+
+    verify(inboxRepository, times(1)).countUnreadForAccount("1");
+    assertThat(index.getLoadCount()).isEqualTo(2);
+  }
+
+  @Test
+  void committedChangesAreAppliedWithoutReloading() {
+    index.getUnreadCount(1L);
+    index.getUnreadCount(2L);
+
+    List<TransactionSynchronization> transaction =
+        inTransaction(new InboxUnreadChangedEvent(this, Map.of(1L, 2L, 2L, -1L)));
+    // Not visible until the transaction commits.
+    assertThat(index.getUnreadCount(1L)).isEqualTo(3L);
+    commit(transaction);
+
+    assertThat(index.getUnreadCount(1L)).isEqualTo(5L);
+    assertThat(index.getUnreadCount(2L)).isEqualTo(4L);
+    assertThat(index.getLoadCount()).isEqualTo(2);
+  }
+
+  @Test
+  void rolledBackChangesAreDropped() {
+    index.getUnreadCount(1L);
+
+    List<TransactionSynchronization> transaction =
+        inTransaction(new InboxUnreadChangedEvent(this, Map.of(1L, 4L)));
+    transaction.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    TransactionSynchronizationManager.clearSynchronization();
+
+    assertThat(index.getUnreadCount(1L)).isEqualTo(3L);
+    assertThat(index.getLoadCount()).isEqualTo(1);
+  }
+
+  @Test
+  void changesOutsideATransactionInvalidateTheAccount() {
+    index.getUnreadCount(1L);
+    index.getUnreadCount(2L);
+    when(inboxRepository.countUnreadForAccount("1")).thenReturn(4L);
+
+    index.onUnreadChanged(new InboxUnreadChangedEvent(this, Map.of(1L, 1L)));
+
+    assertThat(index.getUnreadCount(1L)).isEqualTo(4L);
+    assertThat(index.getUnreadCount(2L)).isEqualTo(5L);
+    assertThat(index.getLoadCount()).isEqualTo(3);
+  }
+
+  @Test
+  void bulkChangesInvalidateEveryAccountOnCommit() {
+    index.getUnreadCount(1L);
+    index.getUnreadCount(2L);
+    when(inboxRepository.countUnreadForAccount("1")).thenReturn(0L);
+    when(inboxRepository.countUnreadForAccount("2")).thenReturn(0L);
+
+    commit(inTransaction(InboxUnreadChangedEvent.everyAccount(this)));
+
+    assertThat(index.getUnreadCount(1L)).isZero();
+    assertThat(index.getUnreadCount(2L)).isZero();
+    assertThat(index.getLoadCount()).isEqualTo(4);
+  }
+
+  @Test
+  void countLoadedDuringACommitIsServedOnceAndReloaded() {
+    List<TransactionSynchronization> transaction =
+        inTransaction(new InboxUnreadChangedEvent(this, Map.of(1L, 1L)));
+    transaction.forEach(s -> s.beforeCommit(false));
+
+    // A load while the commit is in flight may miss the change, so it is only served once.
+    assertThat(index.getUnreadCount(1L)).isEqualTo(3L);
+    when(inboxRepository.countUnreadForAccount("1")).thenReturn(4L);
+    transaction.forEach(TransactionSynchronization::afterCommit);
+    transaction.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+    assertThat(index.getUnreadCount(1L)).isEqualTo(4L);
+    assertThat(index.getLoadCount()).isEqualTo(2);
+  }
+
+  private List<TransactionSynchronization> inTransaction(final InboxUnreadChangedEvent event) {
+    TransactionSynchronizationManager.initSynchronization();
+    index.onUnreadChanged(event);
+    return TransactionSynchronizationManager.getSynchronizations();
+  }
+
+  private static void commit(final List<TransactionSynchronization> transaction) {
+    transaction.forEach(s -> s.beforeCommit(false));
+    transaction.forEach(TransactionSynchronization::afterCommit);
+    transaction.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    TransactionSynchronizationManager.clearSynchronization();
+  }
+}
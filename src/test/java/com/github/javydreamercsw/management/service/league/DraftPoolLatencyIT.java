@@ -0,0 +1,105 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.league;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.javydreamercsw.base.domain.account.Account;
+import com.github.javydreamercsw.base.domain.account.RoleName;
+import com.github.javydreamercsw.base.domain.wrestler.WrestlerTier;
+import com.github.javydreamercsw.management.ManagementIntegrationTest;
+import com.github.javydreamercsw.management.domain.league.Draft;
+import com.github.javydreamercsw.management.domain.league.League;
+import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Pick-to-screen latency in a draft with a 2,000-wrestler pool: the time from {@link
+ * DraftService#makePick} to an open draft screen knowing which rows to remove, the way {@code
+ * DraftView} applies a pick.
+ *
+ * <pre>
+ *   mvn -Pintegration-test verify -Dit.test=DraftPoolLatencyIT
+ * </pre>
+ */
+@Slf4j
+class DraftPoolLatencyIT extends ManagementIntegrationTest {
+
+  private static final int POOL_SIZE = 2_000;
+  private static final int PICKS = 20;
+
+  @Autowired private LeagueService leagueService;
+  @Autowired private DraftService draftService;
+  @Autowired private DraftPoolService draftPoolService;
+
+  @Test
+  void pickToScreenWithTwoThousandWrestlers() {
+    for (int i = 0; i < POOL_SIZE; i++) {
+      wrestlerService.createWrestler(
+          "Draft Pool " + i, false, "Pool", WrestlerTier.MIDCARDER, null);
+    }
+    Account commissioner = account("pool-commish", RoleName.ADMIN);
+    Account player = account("pool-player", RoleName.PLAYER);
+    League league = leagueService.createLeague("Pool League", commissioner, PICKS, Set.of(), true);
+    leagueService.addPlayer(league, player);
+    Draft draft = draftService.startDraft(league);
+
+    DraftPoolService.PoolUpdate screen = draftPoolService.getAvailable(draft);
+    assertThat(screen.available()).hasSizeGreaterThanOrEqualTo(POOL_SIZE);
+    Map<Long, Wrestler> shown = new HashMap<>();
+    screen.available().forEach(w -> shown.put(w.getId(), w));
+    long version = screen.version();
+
+    long[] latencies = new long[PICKS];
+    for (int i = 0; i < PICKS; i++) {
+      Wrestler pick = shown.values().iterator().next();
+      long start = System.nanoTime();
+      draftService.makePick(draft, draft.getCurrentTurnUser(), pick);
+      DraftPoolService.PoolUpdate update = draftPoolService.changesSince(draft, version);
+      latencies[i] = System.nanoTime() - start;
+
+      assertThat(update.isFull()).isFalse();
+      assertThat(update.removedWrestlerIds()).containsExactly(pick.getId());
+      update.removedWrestlerIds().forEach(shown::remove);
+      version = update.version();
+    }
+
+    Arrays.sort(latencies);
+    long medianMs = latencies[PICKS / 2] / 1_000_000;
+    long p90Ms = latencies[PICKS * 9 / 10] / 1_000_000;
+    log.info(
+        "Pick-to-screen with {} wrestlers in the pool: median {}ms, p90 {}ms, max {}ms",
+        screen.available().size(),
+        medianMs,
+        p90Ms,
+        latencies[PICKS - 1] / 1_000_000);
+    assertThat(draftPoolService.countAvailable(draft)).isEqualTo(shown.size());
+    assertThat(p90Ms).isLessThan(50);
+  }
+
+  private Account account(final String username, final RoleName role) {
+    Account account = new Account(username, "password123", username + "@test.com");
+    account.addRole(roleRepository.findByName(role).orElseThrow());
+    return accountRepository.save(account);
+  }
+}
@@ -0,0 +1,163 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.league;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.javydreamercsw.management.domain.league.Draft;
+import com.github.javydreamercsw.management.domain.league.League;
+import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
+import com.github.javydreamercsw.management.domain.wrestler.WrestlerRepository;
+import com.github.javydreamercsw.management.event.WrestlerAvailabilityChangedEvent;
+import com.github.javydreamercsw.management.event.WrestlerRetiredEvent;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class DraftPoolServiceTest {
+
+  private WrestlerRepository wrestlerRepository;
+  private DraftPoolService poolService;
+  private Draft draft;
+  private List<Wrestler> wrestlers;
+
+  @BeforeEach
+  void setUp() {
+    wrestlerRepository = mock(WrestlerRepository.class);
+    poolService = new DraftPoolService(wrestlerRepository);
+    League league = new League();
+    league.setId(7L);
+    draft = new Draft();
+    draft.setId(3L);
+    draft.setLeague(league);
+    wrestlers = new ArrayList<>();
+    for (long id = 1; id <= 5; id++) {
+      Wrestler wrestler = new Wrestler();
+      wrestler.setId(id);
+      wrestler.setName("Wrestler " + id);
+      wrestlers.add(wrestler);
+    }
+    when(wrestlerRepository.findDraftableForLeague(7L)).thenReturn(wrestlers);
+  }
+
+  @Test
+  void poolIsLoadedOnceAndUpdatedInMemory() {
+    assertThat(poolService.countAvailable(draft)).isEqualTo(5);
+
+    poolService.markPicked(draft, wrestlers.get(1));
+    poolService.markPicked(draft, wrestlers.get(3));
+
+    assertThat(poolService.countAvailable(draft)).isEqualTo(3);
+    assertThat(poolService.getAvailable(draft).available())
+        .extracting(Wrestler::getId)
+        .containsExactly(1L, 3L, 5L);
+    verify(wrestlerRepository, times(1)).findDraftableForLeague(7L);
+  }
+
+  @Test
+  void changesSinceReturnsOnlyTheWrestlersPickedAfterThatVersion() {
+    long shown = poolService.getAvailable(draft).version();
+    poolService.markPicked(draft, wrestlers.get(0));
+    long afterFirst = poolService.getAvailable(draft).version();
+    poolService.markPicked(draft, wrestlers.get(4));
+
+    DraftPoolService.PoolUpdate sinceShown = poolService.changesSince(draft, shown);
+    DraftPoolService.PoolUpdate sinceFirst = poolService.changesSince(draft, afterFirst);
+
+    assertThat(sinceShown.isFull()).isFalse();
+    assertThat(sinceShown.removedWrestlerIds()).containsExactlyInAnyOrder(1L, 5L);
+    assertThat(sinceFirst.removedWrestlerIds()).containsExactly(5L);
+    assertThat(sinceFirst.version()).isEqualTo(sinceShown.version());
+    assertThat(poolService.changesSince(draft, sinceShown.version()).removedWrestlerIds())
+        .isEmpty();
+  }
+
+  @Test
+  void screensBehindAReloadGetTheFullPool() {
+    long shown = poolService.getAvailable(draft).version();
+    poolService.evict(draft.getId());
+
+    DraftPoolService.PoolUpdate update = poolService.changesSince(draft, shown);
+
+    assertThat(update.isFull()).isTrue();
+    assertThat(update.available()).hasSize(5);
+    assertThat(update.version()).isGreaterThan(shown);
+  }
+
+  @Test
+  void rolledBackPickDropsThePool() {
+    poolService.countAvailable(draft);
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      poolService.markPicked(draft, wrestlers.get(2));
+      assertThat(poolService.countAvailable(draft)).isEqualTo(4);
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertThat(poolService.countAvailable(draft)).isEqualTo(5);
+    verify(wrestlerRepository, times(2)).findDraftableForLeague(7L);
+  }
+
+  @Test
+  void leagueChangeDropsOnlyThatLeaguesPools() {
+    League otherLeague = new League();
+    otherLeague.setId(8L);
+    Draft otherDraft = new Draft();
+    otherDraft.setId(4L);
+    otherDraft.setLeague(otherLeague);
+    when(wrestlerRepository.findDraftableForLeague(8L)).thenReturn(wrestlers);
+    poolService.countAvailable(draft);
+    poolService.countAvailable(otherDraft);
+
+    poolService.evictLeague(7L);
+    poolService.countAvailable(draft);
+    poolService.countAvailable(otherDraft);
+
+    verify(wrestlerRepository, times(2)).findDraftableForLeague(7L);
+    verify(wrestlerRepository, times(1)).findDraftableForLeague(8L);
+  }
+
+  @Test
+  void retiredWrestlerDropsEveryPool() {
+    poolService.countAvailable(draft);
+
+    poolService.onWrestlerRetired(new WrestlerRetiredEvent(this, wrestlers.get(0), "age"));
+    poolService.countAvailable(draft);
+
+    verify(wrestlerRepository, times(2)).findDraftableForLeague(7L);
+  }
+
+  @Test
+  void wrestlerAvailabilityChangeDropsEveryPool() {
+    poolService.countAvailable(draft);
+
+    poolService.onWrestlerAvailabilityChanged(new WrestlerAvailabilityChangedEvent(this, 6L));
+    poolService.countAvailable(draft);
+
+    verify(wrestlerRepository, times(2)).findDraftableForLeague(7L);
+  }
+}
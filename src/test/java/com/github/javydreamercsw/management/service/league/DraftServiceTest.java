@@ -69,6 +69,7 @@ class DraftServiceTest {
   @Mock private DraftBroadcaster draftBroadcaster;
   @Mock private InboxService inboxService;
   @Mock private InboxEventType draftStartedEventType;
+  @Mock private DraftPoolService draftPoolService;
 
   @Test
   void testStartDraft() {
@@ -158,10 +159,7 @@ class DraftServiceTest {
     when(leagueMembershipRepository.findByLeagueAndRoleIn(eq(league), any()))
         .thenReturn(new ArrayList<>(List.of(m1, m2)));
 
-    // Mock countAvailableWrestlers dependencies
-    when(leagueRepository.findByIdWithExcludedWrestlers(league.getId()))
-        .thenReturn(Optional.of(league));
-    when(wrestlerRepository.findAll()).thenReturn(List.of(new Wrestler(), new Wrestler()));
+    when(draftPoolService.countAvailable(draft)).thenReturn(2);
 
     when(draftRepository.save(any(Draft.class))).thenAnswer(i -> i.getArgument(0));
     when(accountRepository.findById(any())).thenReturn(Optional.of(p1)); // simplified
@@ -193,6 +191,7 @@ class DraftServiceTest {
     assertThat(draft.getDirection()).isEqualTo(1);
 
     verify(leagueRosterRepository, times(4)).save(any(LeagueRoster.class));
+    verify(draftPoolService, times(4)).markPicked(eq(draft), any(Wrestler.class));
     verify(draftPickRepository, times(4)).save(any(DraftPick.class));
     verify(contractRepository, times(4))
         .save(any(com.github.javydreamercsw.management.domain.wrestler.WrestlerContract.class));
@@ -48,6 +48,7 @@ class LeagueServiceTest {
   @Mock private ShowRepository showRepository;
   @Mock private LeagueRosterRepository leagueRosterRepository;
   @Mock private UniverseContextService universeContextService;
+  @Mock private DraftPoolService draftPoolService;
 
   @InjectMocks private LeagueService leagueService;
 
@@ -113,4 +114,17 @@ class LeagueServiceTest {
     assertThat(result).hasSize(1);
     assertThat(result.get(0)).isEqualTo(league);
   }
+
+  @Test
+  void testUpdateLeagueDropsItsDraftPools() {
+    League league = new League();
+    league.setId(100L);
+    league.setBudget(java.math.BigDecimal.ZERO);
+    when(leagueRepository.findById(100L)).thenReturn(Optional.of(league));
+    when(leagueRepository.save(league)).thenReturn(league);
+
+    leagueService.updateLeague(100L, "Renamed", 2, Collections.emptySet(), false);
+
+    verify(draftPoolService).evictLeague(100L);
+  }
 }
@@ -16,12 +16,14 @@
 */
 package com.github.javydreamercsw.management.service.match;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -30,6 +32,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.github.javydreamercsw.base.domain.account.Account;
+import com.github.javydreamercsw.management.domain.AdjudicationStatus;
 import com.github.javydreamercsw.management.domain.faction.Faction;
 import com.github.javydreamercsw.management.domain.league.League;
 import com.github.javydreamercsw.management.domain.league.LeagueRepository;
@@ -39,14 +42,17 @@ import com.github.javydreamercsw.management.domain.rivalry.Rivalry;
 import com.github.javydreamercsw.management.domain.show.Show;
 import com.github.javydreamercsw.management.domain.show.segment.Segment;
 import com.github.javydreamercsw.management.domain.show.segment.SegmentParticipant;
+import com.github.javydreamercsw.management.domain.show.segment.SegmentRepository;
 import com.github.javydreamercsw.management.domain.show.segment.rule.BumpAddition;
 import com.github.javydreamercsw.management.domain.show.segment.rule.BumpSource;
 import com.github.javydreamercsw.management.domain.show.segment.rule.SegmentRule;
 import com.github.javydreamercsw.management.domain.show.segment.type.SegmentType;
+import com.github.javydreamercsw.management.domain.show.segment.type.SegmentTypeNames;
 import com.github.javydreamercsw.management.domain.title.Title;
 import com.github.javydreamercsw.management.domain.universe.Universe;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerState;
+import com.github.javydreamercsw.management.event.ChampionshipChangeEvent;
 import com.github.javydreamercsw.management.service.GameSettingService;
 import com.github.javydreamercsw.management.service.campaign.WrestlerStatusService;
 import com.github.javydreamercsw.management.service.faction.FactionService;
@@ -58,12 +64,14 @@ import com.github.javydreamercsw.management.service.resolution.ResolutionResult;
 import com.github.javydreamercsw.management.service.ringside.RingsideActionService;
 import com.github.javydreamercsw.management.service.ringside.RingsideAiService;
 import com.github.javydreamercsw.management.service.rivalry.RivalryService;
+import com.github.javydreamercsw.management.service.show.ShowService;
 import com.github.javydreamercsw.management.service.title.TitleService;
 import com.github.javydreamercsw.management.service.universe.UniverseContextService;
 import com.github.javydreamercsw.management.service.world.ArenaService;
 import com.github.javydreamercsw.management.service.world.LocationService;
 import com.github.javydreamercsw.management.service.wrestler.RetirementService;
 import com.github.javydreamercsw.management.service.wrestler.WrestlerService;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
@@ -71,6 +79,7 @@ import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -252,20 +261,52 @@ class SegmentAdjudicationServiceTest {
   @Test
   void testRivalryHeat() {
     // Plain matches look up an existing rivalry and add heat; they do NOT auto-create new ones.
-    Rivalry rivalry = mock(Rivalry.class);
-    when(rivalry.getId()).thenReturn(99L);
-    when(rivalryService.getRivalryBetweenWrestlers(eq(1L), eq(2L)))
-        .thenReturn(Optional.of(rivalry));
+    Rivalry rivalry = rivalry(winner, loser);
+    when(rivalryService.getActiveRivalriesAmong(any())).thenReturn(List.of(rivalry));
     when(feudService.getActiveFeudsForWrestler(anyLong())).thenReturn(List.of());
 
     segmentAdjudicationService.adjudicateMatch(segment);
 
-    verify(rivalryService).getRivalryBetweenWrestlers(eq(1L), eq(2L));
-    verify(rivalryService).addHeat(eq(99L), eq(1), anyString());
+    verify(rivalryService).getActiveRivalriesAmong(List.of(winner, loser));
+    verify(rivalryService).addHeat(eq(List.of(rivalry)), eq(1), anyString());
+    verify(rivalryService, never()).getRivalryBetweenWrestlers(anyLong(), anyLong());
     verify(rivalryService, never())
         .addHeatBetweenWrestlers(eq(1L), eq(2L), anyInt(), anyString(), anyLong());
   }
 
+  @Test
+  void testRumbleHeatsExistingRivalriesWithoutCreatingNewOnes() {
+    when(segmentType.getName()).thenReturn(SegmentTypeNames.ABU_DHABI_RUMBLE);
+    List<Wrestler> entrants = new ArrayList<>();
+    for (long id = 10; id < 40; id++) {
+      Wrestler entrant = mock(Wrestler.class);
+      when(entrant.getId()).thenReturn(id);
+      when(entrant.getState(anyLong())).thenReturn(Optional.empty());
+      when(wrestlerService.getOrCreateState(eq(id), anyLong())).thenReturn(winnerState);
+      entrants.add(entrant);
+    }
+    when(segment.getWrestlers()).thenReturn(entrants);
+    when(segment.getWinners()).thenReturn(List.of(entrants.get(0)));
+    Rivalry first = rivalry(entrants.get(0), entrants.get(29));
+    Rivalry second = rivalry(entrants.get(12), entrants.get(5));
+    when(rivalryService.getActiveRivalriesAmong(any())).thenReturn(List.of(first, second));
+    when(feudService.getActiveFeudsForWrestler(anyLong())).thenReturn(List.of());
+
+    segmentAdjudicationService.adjudicateMatch(segment);
+
+    verify(rivalryService, times(1)).getActiveRivalriesAmong(entrants);
+    verify(rivalryService).addHeat(eq(List.of(first, second)), eq(1), anyString());
+    verify(rivalryService, never())
+        .addHeatBetweenWrestlers(anyLong(), anyLong(), anyInt(), anyString(), anyLong());
+  }
+
+  private static Rivalry rivalry(final Wrestler wrestler1, final Wrestler wrestler2) {
+    Rivalry rivalry = mock(Rivalry.class);
+    when(rivalry.getWrestler1()).thenReturn(wrestler1);
+    when(rivalry.getWrestler2()).thenReturn(wrestler2);
+    return rivalry;
+  }
+
   @Test
   void testTeammatesDoNotBuildRivalryHeat() {
     Faction faction = mock(Faction.class);
@@ -322,17 +363,14 @@ class SegmentAdjudicationServiceTest {
     when(segment.getWrestlers()).thenReturn(List.of(w1, w2));
     when(segment.getWinners()).thenReturn(List.of(w1));
 
-    Rivalry rivalry = mock(Rivalry.class);
-    when(rivalry.getId()).thenReturn(99L);
-    when(rivalryService.getRivalryBetweenWrestlers(eq(10L), eq(11L)))
-        .thenReturn(Optional.of(rivalry));
+    Rivalry rivalry = rivalry(w1, w2);
+    when(rivalryService.getActiveRivalriesAmong(any())).thenReturn(List.of(rivalry));
     when(feudService.getActiveFeudsForWrestler(anyLong())).thenReturn(List.of());
 
     segmentAdjudicationService.adjudicateMatch(segment);
 
     // Plain match: heat is added to the existing rivalry, not via auto-create.
-    verify(rivalryService).getRivalryBetweenWrestlers(eq(10L), eq(11L));
-    verify(rivalryService).addHeat(eq(99L), anyInt(), anyString());
+    verify(rivalryService).addHeat(eq(List.of(rivalry)), anyInt(), anyString());
   }
 
   @Test
@@ -658,4 +696,37 @@ class SegmentAdjudicationServiceTest {
         .publishEvent(
             any(com.github.javydreamercsw.management.event.ChampionshipChangeEvent.class));
   }
+
+  @Test
+  void adjudicateShowFinalizesOnceAndPublishesEventsAfterAllSegments() {
+    SegmentRepository segmentRepository = mock(SegmentRepository.class);
+    ShowService showService = mock(ShowService.class);
+    segmentAdjudicationService.setSegmentRepository(segmentRepository);
+    segmentAdjudicationService.setShowService(showService);
+
+    Segment alreadyAdjudicated = mock(Segment.class);
+    when(alreadyAdjudicated.getAdjudicationStatus()).thenReturn(AdjudicationStatus.ADJUDICATED);
+    when(segment.getAdjudicationStatus()).thenReturn(AdjudicationStatus.PENDING);
+    when(segment.getId()).thenReturn(5L);
+    when(segmentRepository.findByShowIdWithDetails(7L))
+        .thenReturn(List.of(segment, alreadyAdjudicated));
+    when(matchFulfillmentRepository.findBySegmentIn(List.of(segment))).thenReturn(List.of());
+
+    Title title = mock(Title.class);
+    when(segment.getIsTitleSegment()).thenReturn(true);
+    when(segment.getTitles()).thenReturn(Set.of(title));
+    when(title.getCurrentChampions()).thenReturn(List.of(mock(Wrestler.class)));
+    when(feudService.getActiveFeudsForWrestler(anyLong())).thenReturn(List.of());
+
+    List<Segment> adjudicated = segmentAdjudicationService.adjudicateShow(7L);
+
+    assertThat(adjudicated).containsExactly(segment);
+    verify(matchFulfillmentRepository, never()).findBySegment(any());
+    verify(segment).setAdjudicationStatus(AdjudicationStatus.ADJUDICATED);
+    verify(alreadyAdjudicated, never()).setAdjudicationStatus(any());
+    verify(segmentRepository).saveAll(List.of(segment));
+    InOrder inOrder = inOrder(showService, eventPublisher);
+    inOrder.verify(showService, times(1)).finalizeShowIfComplete(show);
+    inOrder.verify(eventPublisher).publishEvent(any(ChampionshipChangeEvent.class));
+  }
 }
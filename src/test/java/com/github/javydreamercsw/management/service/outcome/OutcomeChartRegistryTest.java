@@ -0,0 +1,143 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.outcome;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.github.javydreamercsw.management.domain.outcome.OutcomeMatrix;
+import com.github.javydreamercsw.management.domain.outcome.OutcomeMatrixCategory;
+import com.github.javydreamercsw.management.domain.outcome.OutcomeMatrixEntry;
+import com.github.javydreamercsw.management.domain.outcome.OutcomeMatrixEntryRepository;
+import com.github.javydreamercsw.management.domain.outcome.OutcomeMatrixRepository;
+import com.github.javydreamercsw.management.service.outcome.OutcomeChartRegistry.Chart;
+import com.github.javydreamercsw.management.service.outcome.OutcomeChartRegistry.Template;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OutcomeChartRegistryTest {
+
+  private OutcomeMatrixRepository matrixRepository;
+  private OutcomeMatrixEntryRepository entryRepository;
+  private OutcomeChartRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    matrixRepository = mock(OutcomeMatrixRepository.class);
+    entryRepository = mock(OutcomeMatrixEntryRepository.class);
+    registry = new OutcomeChartRegistry(matrixRepository, entryRepository);
+  }
+
+  private static OutcomeMatrix matrix(final long id, final String name) {
+    OutcomeMatrix matrix = new OutcomeMatrix();
+    matrix.setId(id);
+    matrix.setName(name);
+    matrix.setCategory(OutcomeMatrixCategory.HIGHLIGHT_REEL);
+    return matrix;
+  }
+
+  private static OutcomeMatrixEntry entry(
+      final OutcomeMatrix matrix, final int diceRoll, final OutcomeMatrix redirect) {
+    OutcomeMatrixEntry entry = new OutcomeMatrixEntry();
+    entry.setId(matrix.getId() * 100 + diceRoll);
+    entry.setMatrix(matrix);
+    entry.setDiceRoll(diceRoll);
+    entry.setTemplateText("Roll " + diceRoll);
+    entry.setRedirectToMatrix(redirect);
+    return entry;
+  }
+
+  @Test
+  void chartsAreIndexedByD66Value() {
+    OutcomeMatrix reel = matrix(1L, "Highlight Reel O");
+    when(matrixRepository.findAll()).thenReturn(List.of(reel));
+    when(entryRepository.findAll())
+        .thenReturn(List.of(entry(reel, 66, null), entry(reel, 11, null), entry(reel, 34, null)));
+
+    Chart chart = registry.chart(1L);
+
+    assertThat(chart.row(34).entry().getTemplateText()).isEqualTo("Roll 34");
+    assertThat(chart.row(12)).isNull();
+    assertThat(chart.row(67)).isNull();
+    assertThat(chart.row(-1)).isNull();
+    assertThat(chart.rows()).extracting(r -> r.entry().getDiceRoll()).containsExactly(11, 34, 66);
+    assertThat(registry.charts(OutcomeMatrixCategory.HIGHLIGHT_REEL)).containsExactly(chart);
+    assertThat(registry.charts(OutcomeMatrixCategory.PROMO)).isEmpty();
+  }
+
+  @Test
+  void entriesAreDetachedCopiesWithResolvedRedirects() {
+    OutcomeMatrix reelO = matrix(1L, "Highlight Reel O");
+    OutcomeMatrix reelP = matrix(2L, "Highlight Reel P");
+    OutcomeMatrixEntry redirect = entry(reelO, 11, reelP);
+    when(matrixRepository.findAll()).thenReturn(List.of(reelO, reelP));
+    when(entryRepository.findAll()).thenReturn(List.of(redirect, entry(reelP, 11, null)));
+
+    OutcomeChartRegistry.Row row = registry.chart(1L).row(11);
+
+    assertThat(row.entry()).isNotSameAs(redirect).isEqualTo(redirect);
+    assertThat(row.redirect()).isSameAs(registry.chart(2L).matrix());
+    assertThat(row.entry().getRedirectToMatrix()).isSameAs(row.redirect());
+    assertThat(row.entry().getMatrix()).isSameAs(registry.chart(1L).matrix());
+  }
+
+  @Test
+  void invalidateReloadsOnNextLookup() {
+    OutcomeMatrix reel = matrix(1L, "Highlight Reel O");
+    when(matrixRepository.findAll()).thenReturn(List.of(reel));
+    Chart before = registry.chart(1L);
+    assertThat(registry.chart(1L)).isSameAs(before);
+
+    when(matrixRepository.findAll()).thenReturn(List.of());
+    registry.invalidate();
+
+    assertThat(registry.chart(1L)).isNull();
+  }
+
+  @Test
+  void templatesSubstitutePlaceholders() {
+    Template template = Template.compile("{WRESTLER_1} slams {WRESTLER_2}; {WRESTLER_1} wins.");
+
+    assertThat(template.render(Map.of("{WRESTLER_1}", "El Fuego", "{WRESTLER_2}", "The Ghost")))
+        .isEqualTo("El Fuego slams The Ghost; El Fuego wins.");
+    assertThat(template.render(Map.of("{WRESTLER_1}", "El Fuego")))
+        .isEqualTo("El Fuego slams {WRESTLER_2}; El Fuego wins.");
+  }
+
+  @Test
+  void templatesWithoutMatchingPlaceholdersAreReturnedAsIs() {
+    String text = "Crowd {goes wild} for {WRESTLER_1";
+    Template template = Template.compile(text);
+
+    assertThat(template.render(Map.of("{WRESTLER_2}", "The Ghost"))).isSameAs(text);
+    assertThat(template.render(Map.of())).isSameAs(text);
+  }
+
+  @Test
+  void plainTextKeysAreReplacedInOrder() {
+    Map<String, String> variables = new LinkedHashMap<>();
+    variables.put("FAVORED", "El Fuego");
+    variables.put("{WRESTLER_2}", "The Ghost");
+
+    assertThat(Template.compile("FAVORED pins {WRESTLER_2}").render(variables))
+        .isEqualTo("El Fuego pins The Ghost");
+  }
+}
@@ -17,6 +17,10 @@
 package com.github.javydreamercsw.management.service.outcome;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.github.javydreamercsw.management.domain.outcome.OutcomeMatrix;
@@ -25,12 +29,14 @@ import com.github.javydreamercsw.management.domain.outcome.OutcomeMatrixEntry;
 import com.github.javydreamercsw.management.domain.outcome.OutcomeMatrixEntryRepository;
 import com.github.javydreamercsw.management.domain.outcome.OutcomeMatrixRepository;
 import com.github.javydreamercsw.management.domain.outcome.OutcomeMatrixResult;
+import jakarta.persistence.EntityNotFoundException;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -43,12 +49,22 @@ class OutcomeMatrixServiceTest {
   @Mock private OutcomeMatrixRepository matrixRepository;
   @Mock private OutcomeMatrixEntryRepository entryRepository;
 
-  @InjectMocks private OutcomeMatrixService service;
+  private OutcomeMatrixService service;
 
   private OutcomeMatrix matrix;
 
   @BeforeEach
   void setUp() {
+    service =
+        new OutcomeMatrixService(
+            matrixRepository,
+            entryRepository,
+            null,
+            null,
+            null,
+            null,
+            new Random(7),
+            new OutcomeChartRegistry(matrixRepository, entryRepository));
     matrix = new OutcomeMatrix();
     matrix.setId(1L);
     matrix.setName("Highlight Reel O");
@@ -65,8 +81,8 @@ class OutcomeMatrixServiceTest {
         "{WRESTLER_1} wrestler talks trash about {WRESTLER_2}, increase Grudge Grade 1 point.");
     entry.setGrudgeGradeDelta(1);
 
-    when(matrixRepository.findById(1L)).thenReturn(Optional.of(matrix));
-    when(entryRepository.findByMatrixAndDiceRoll(matrix, 12)).thenReturn(Optional.of(entry));
+    when(matrixRepository.findAll()).thenReturn(List.of(matrix));
+    when(entryRepository.findAll()).thenReturn(List.of(entry));
 
     Optional<OutcomeMatrixResult> result =
         service.resolveRoll(
@@ -93,9 +109,8 @@ class OutcomeMatrixServiceTest {
     redirectEntry.setTemplateText("Go to HIGHLIGHT REEL P.");
     redirectEntry.setRedirectToMatrix(targetMatrix);
 
-    when(matrixRepository.findById(1L)).thenReturn(Optional.of(matrix));
-    when(entryRepository.findByMatrixAndDiceRoll(matrix, 11))
-        .thenReturn(Optional.of(redirectEntry));
+    when(matrixRepository.findAll()).thenReturn(List.of(matrix, targetMatrix));
+    when(entryRepository.findAll()).thenReturn(List.of(redirectEntry));
 
     Optional<OutcomeMatrixResult> result = service.resolveRoll(1L, 11, Map.of());
 
@@ -107,8 +122,7 @@ class OutcomeMatrixServiceTest {
 
   @Test
   void resolveRoll_returnsEmptyForUnknownDiceRoll() {
-    when(matrixRepository.findById(1L)).thenReturn(Optional.of(matrix));
-    when(entryRepository.findByMatrixAndDiceRoll(matrix, 99)).thenReturn(Optional.empty());
+    when(matrixRepository.findAll()).thenReturn(List.of(matrix));
 
     Optional<OutcomeMatrixResult> result = service.resolveRoll(1L, 99, Map.of());
 
@@ -123,8 +137,8 @@ class OutcomeMatrixServiceTest {
     entry.setDiceRoll(23);
     entry.setTemplateText("{WRESTLER_2} wrestler livid after opponent makes belittling comments.");
 
-    when(matrixRepository.findById(1L)).thenReturn(Optional.of(matrix));
-    when(entryRepository.findByMatrixAndDiceRoll(matrix, 23)).thenReturn(Optional.of(entry));
+    when(matrixRepository.findAll()).thenReturn(List.of(matrix));
+    when(entryRepository.findAll()).thenReturn(List.of(entry));
 
     Optional<OutcomeMatrixResult> result = service.resolveRoll(1L, 23, Map.of());
 
@@ -132,4 +146,69 @@ class OutcomeMatrixServiceTest {
     assertThat(result.get().renderedText())
         .isEqualTo("{WRESTLER_2} wrestler livid after opponent makes belittling comments.");
   }
+
+  @Test
+  void resolveRoll_unknownMatrixThrows() {
+    when(matrixRepository.findAll()).thenReturn(List.of(matrix));
+
+    assertThatThrownBy(() -> service.resolveRoll(5L, 11, Map.of()))
+        .isInstanceOf(EntityNotFoundException.class);
+  }
+
+  @Test
+  void rolls_areServedFromTheRegistryWithoutFurtherQueries() {
+    when(matrixRepository.findAll()).thenReturn(List.of(matrix));
+    when(entryRepository.findAll()).thenReturn(List.of(entry(11, "{WRESTLER_1} hits the ropes.")));
+
+    for (int i = 0; i < 5; i++) {
+      assertThat(service.resolveRoll(1L, 11, Map.of("{WRESTLER_1}", "El Fuego")))
+          .map(OutcomeMatrixResult::renderedText)
+          .contains("El Fuego hits the ropes.");
+      assertThat(
+              service.resolveRandomRoll(
+                  OutcomeMatrixCategory.HIGHLIGHT_REEL, Map.of("{WRESTLER_1}", "The Ghost")))
+          .map(OutcomeMatrixResult::renderedText)
+          .contains("The Ghost hits the ropes.");
+    }
+
+    verify(matrixRepository, times(1)).findAll();
+    verify(entryRepository, times(1)).findAll();
+    verify(entryRepository, never()).findByMatrixOrderByDiceRollAsc(matrix);
+  }
+
+  @Test
+  void writes_reloadTheRegistry() {
+    when(matrixRepository.findAll()).thenReturn(List.of(matrix));
+    when(entryRepository.findAll()).thenReturn(List.of(entry(11, "Before.")));
+    assertThat(service.resolveRoll(1L, 11, Map.of()))
+        .map(OutcomeMatrixResult::renderedText)
+        .contains("Before.");
+
+    OutcomeMatrixEntry updated = entry(11, "After.");
+    when(entryRepository.save(updated)).thenReturn(updated);
+    when(entryRepository.findAll()).thenReturn(List.of(updated));
+    service.updateEntry(updated);
+
+    assertThat(service.resolveRoll(1L, 11, Map.of()))
+        .map(OutcomeMatrixResult::renderedText)
+        .contains("After.");
+  }
+
+  @Test
+  void resolveRandomRoll_emptyCategoryReturnsEmpty() {
+    when(matrixRepository.findAll()).thenReturn(List.of(matrix));
+
+    assertThat(service.resolveRandomRoll(OutcomeMatrixCategory.PROMO, Map.of())).isEmpty();
+    assertThat(service.resolveRandomRoll(OutcomeMatrixCategory.HIGHLIGHT_REEL, Map.of()))
+        .isEmpty();
+  }
+
+  private OutcomeMatrixEntry entry(final int diceRoll, final String template) {
+    OutcomeMatrixEntry entry = new OutcomeMatrixEntry();
+    entry.setId((long) diceRoll);
+    entry.setMatrix(matrix);
+    entry.setDiceRoll(diceRoll);
+    entry.setTemplateText(template);
+    return entry;
+  }
 }
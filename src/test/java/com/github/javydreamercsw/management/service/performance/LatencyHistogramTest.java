@@ -0,0 +1,88 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+  @Test
+  void emptyHistogram_reportsZeros() {
+    LatencyHistogram histogram = new LatencyHistogram();
+
+    LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+    assertThat(snapshot.count()).isZero();
+    assertThat(snapshot.p50()).isZero();
+    assertThat(snapshot.p99()).isZero();
+    assertThat(snapshot.max()).isZero();
+  }
+
+  @Test
+  void percentiles_areWithinBucketPrecision() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(i * 1_000_000L); // 1ms .. 1000ms
+    }
+
+    assertThat(histogram.getCount()).isEqualTo(1000);
+    assertThat((double) histogram.getValueAtPercentile(50)).isCloseTo(500e6, within(500e6 * 0.07));
+    assertThat((double) histogram.getValueAtPercentile(95)).isCloseTo(950e6, within(950e6 * 0.07));
+    assertThat((double) histogram.getValueAtPercentile(99)).isCloseTo(990e6, within(990e6 * 0.07));
+    assertThat(histogram.getMaxNanos()).isEqualTo(1000 * 1_000_000L);
+    assertThat(histogram.getMeanNanos()).isCloseTo(500.5e6, within(1.0));
+  }
+
+  @Test
+  void bucketIndex_isMonotonicAndBounded() {
+    int previous = -1;
+    for (long v = 0; v < 1_000_000; v += 7) {
+      int index = LatencyHistogram.bucketIndex(v);
+      assertThat(index).isGreaterThanOrEqualTo(previous);
+      assertThat(LatencyHistogram.bucketLowerBound(index)).isLessThanOrEqualTo(v);
+      previous = index;
+    }
+    assertThat(LatencyHistogram.bucketIndex(LatencyHistogram.MAX_TRACKABLE_NANOS))
+        .isEqualTo(LatencyHistogram.BUCKET_COUNT - 1);
+  }
+
+  @Test
+  void hugeAndNegativeValues_areClamped() {
+    LatencyHistogram histogram = new LatencyHistogram();
+
+    histogram.record(-5);
+    histogram.record(Long.MAX_VALUE);
+
+    assertThat(histogram.getCount()).isEqualTo(2);
+    assertThat(histogram.getMaxNanos()).isEqualTo(LatencyHistogram.MAX_TRACKABLE_NANOS);
+    assertThat(histogram.getValueAtPercentile(1)).isZero();
+  }
+
+  @Test
+  void reset_clearsSamples() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(42);
+
+    histogram.reset();
+
+    assertThat(histogram.getCount()).isZero();
+    assertThat(histogram.getValueAtPercentile(50)).isZero();
+  }
+}
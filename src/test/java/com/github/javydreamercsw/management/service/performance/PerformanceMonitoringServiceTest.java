@@ -157,4 +157,66 @@ class PerformanceMonitoringServiceTest {
 
     assertThat(service.getHistory()).hasSize(sizeBefore + 1);
   }
+
+  @Test
+  void recordLatency_tracksPercentilesPerOperation() {
+    for (int i = 1; i <= 100; i++) {
+      service.recordLatency("service.methods.ShowService.adjudicateShow", i * 1_000_000L);
+    }
+
+    PerformanceMonitoringService.LatencyStats stats =
+        service.getLatencyStats("service.methods.ShowService.adjudicateShow");
+
+    assertThat(stats).isNotNull();
+    assertThat(stats.count()).isEqualTo(100L);
+    assertThat(stats.p50Ms()).isBetween(45.0, 55.0);
+    assertThat(stats.p99Ms()).isBetween(93.0, 100.0);
+    assertThat(stats.maxMs()).isEqualTo(100.0);
+  }
+
+  @Test
+  void recordLatency_foldsExtraOperationsIntoOverflowSeries() {
+    PerformanceMonitoringProperties properties = new PerformanceMonitoringProperties();
+    properties.setMaxOperations(2);
+    PerformanceMonitoringService bounded =
+        new PerformanceMonitoringService(cacheMonitor, properties);
+    bounded.resetMetrics();
+
+    bounded.recordLatency("a", 1);
+    bounded.recordLatency("b", 1);
+    bounded.recordLatency("c", 1);
+    bounded.recordLatency("d", 1);
+
+    assertThat(bounded.getLatencyStats())
+        .containsOnlyKeys("a", "b", PerformanceMonitoringService.OVERFLOW_SERIES);
+    assertThat(bounded.getLatencyStats(PerformanceMonitoringService.OVERFLOW_SERIES).count())
+        .isEqualTo(2L);
+  }
+
+  @Test
+  void sampleRate_zeroDisablesAndOneEnablesSampling() {
+    service.setSampleRate(0.0);
+    assertThat(service.shouldSample()).isFalse();
+
+    service.setSampleRate(5.0);
+    assertThat(service.getSampleRate()).isEqualTo(1.0);
+    assertThat(service.shouldSample()).isTrue();
+  }
+
+  @Test
+  void endOperation_recordsLatencyHistogram() {
+    service.startOperation("TestOp");
+    service.endOperation("TestOp");
+
+    assertThat(service.getLatencyStats("operations.duration.TestOp").count()).isEqualTo(1L);
+  }
+
+  @Test
+  void resetMetrics_clearsLatencies() {
+    service.recordLatency("x", 10);
+
+    service.resetMetrics();
+
+    assertThat(service.getLatencyStats()).isEmpty();
+  }
 }
@@ -0,0 +1,73 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.ranking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.javydreamercsw.base.domain.wrestler.Gender;
+import com.github.javydreamercsw.base.domain.wrestler.TierBoundary;
+import com.github.javydreamercsw.base.domain.wrestler.WrestlerTier;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TierBoundaryIndexTest {
+
+  private static TierBoundary boundary(final WrestlerTier tier, final long min, final long max) {
+    TierBoundary boundary = new TierBoundary();
+    boundary.setTier(tier);
+    boundary.setGender(Gender.MALE);
+    boundary.setMinFans(min);
+    boundary.setMaxFans(max);
+    return boundary;
+  }
+
+  @Test
+  void defaultsMatchEnumRanges() {
+    for (WrestlerTier tier : WrestlerTier.values()) {
+      assertEquals(tier, TierBoundaryIndex.DEFAULTS.tierFor(tier.getMinFans()));
+      assertEquals(tier, TierBoundaryIndex.DEFAULTS.tierFor(tier.getMaxFans()));
+    }
+    assertEquals(WrestlerTier.ROOKIE, TierBoundaryIndex.DEFAULTS.tierFor(-5));
+  }
+
+  @Test
+  void storedBoundariesTakePrecedenceOverDefaults() {
+    TierBoundaryIndex index =
+        TierBoundaryIndex.of(
+            List.of(
+                boundary(WrestlerTier.ICON, 20_000, Long.MAX_VALUE),
+                boundary(WrestlerTier.MAIN_EVENTER, 15_000, 19_999),
+                boundary(WrestlerTier.ROOKIE, 0, 14_999)));
+
+    assertEquals(WrestlerTier.ICON, index.tierFor(20_000));
+    assertEquals(WrestlerTier.MAIN_EVENTER, index.tierFor(19_999));
+    assertEquals(WrestlerTier.MAIN_EVENTER, index.tierFor(15_000));
+    assertEquals(WrestlerTier.ROOKIE, index.tierFor(14_999));
+    assertEquals(WrestlerTier.ROOKIE, index.tierFor(0));
+  }
+
+  @Test
+  void crossesBoundaryOnlyWhenBandChanges() {
+    TierBoundaryIndex index = TierBoundaryIndex.DEFAULTS;
+
+    assertFalse(index.crossesBoundary(1_000, 24_999));
+    assertTrue(index.crossesBoundary(24_999, 25_000));
+    assertTrue(index.crossesBoundary(160_000, 10));
+  }
+}
@@ -0,0 +1,119 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.ranking;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.javydreamercsw.base.domain.WrestlerData;
+import com.github.javydreamercsw.base.domain.wrestler.Gender;
+import com.github.javydreamercsw.base.domain.wrestler.TierBoundary;
+import com.github.javydreamercsw.base.domain.wrestler.WrestlerTier;
+import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
+import com.github.javydreamercsw.management.domain.wrestler.WrestlerState;
+import com.github.javydreamercsw.management.domain.wrestler.WrestlerStateRepository;
+import com.github.javydreamercsw.management.service.universe.UniverseContextService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Times tier lookups and a full {@link TierRecalculationService#recalculateRanking} for a 10k
+ * wrestler roster, with the repositories mocked so only the service's own work is measured.
+ *
+ * <pre>
+ *   mvn -Pintegration-test verify -Dit.test=TierRecalculationBenchmarkIT
+ * </pre>
+ */
+@Slf4j
+class TierRecalculationBenchmarkIT {
+
+  private static final int WRESTLERS = 10_000;
+  private static final int LOOKUP_ROUNDS = 100;
+
+  @Test
+  void recalculatesTenThousandWrestlers() {
+    WrestlerStateRepository stateRepository = mock(WrestlerStateRepository.class);
+    TierBoundaryService boundaryService = mock(TierBoundaryService.class);
+    TierDistributionConfig config = mock(TierDistributionConfig.class);
+    when(config.getIcon()).thenReturn(0.05);
+    when(config.getMainEventer()).thenReturn(0.15);
+    when(config.getMidcarder()).thenReturn(0.25);
+    when(config.getContender()).thenReturn(0.25);
+    when(config.getRiser()).thenReturn(0.20);
+    when(boundaryService.findByTierAndGender(any(), any())).thenReturn(Optional.empty());
+    when(boundaryService.save(any(TierBoundary.class))).thenAnswer(i -> i.getArgument(0));
+
+    TierRecalculationService service =
+        new TierRecalculationService(
+            stateRepository, boundaryService, mock(UniverseContextService.class), config);
+
+    Random random = new Random(42);
+    List<WrestlerData> roster = new ArrayList<>();
+    long[] fans = new long[WRESTLERS];
+    for (int i = 0; i < WRESTLERS; i++) {
+      Wrestler wrestler = new Wrestler();
+      wrestler.setGender(i % 2 == 0 ? Gender.MALE : Gender.FEMALE);
+      fans[i] = random.nextInt(250_000);
+      roster.add(
+          WrestlerState.builder()
+              .id((long) i + 1)
+              .wrestler(wrestler)
+              .fans(fans[i])
+              .tier(WrestlerTier.ROOKIE)
+              .build());
+    }
+
+    long start = System.nanoTime();
+    service.recalculateRanking(roster);
+    long recalcMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    TierBoundaryIndex index = TierBoundaryIndex.DEFAULTS;
+    long checksum = 0;
+    start = System.nanoTime();
+    for (int round = 0; round < LOOKUP_ROUNDS; round++) {
+      for (long f : fans) {
+        checksum += index.tierFor(f).ordinal();
+      }
+    }
+    long lookupNanos = (System.nanoTime() - start) / ((long) LOOKUP_ROUNDS * WRESTLERS);
+
+    log.info(
+        "recalculateRanking({} wrestlers): {}ms; index lookup: {}ns/op (checksum {})",
+        WRESTLERS,
+        recalcMs,
+        lookupNanos,
+        checksum);
+
+    // No per-wrestler boundary reads or saves: a few 1,000-id bulk updates per (gender, tier).
+    verify(boundaryService, never()).findAllByGender(any());
+    verify(boundaryService, never()).getIndex(any());
+    verify(stateRepository, never()).save(any(WrestlerState.class));
+    verify(
+            stateRepository,
+            atMost(Gender.values().length * WrestlerTier.values().length + WRESTLERS / 1_000))
+        .updateTierByIds(any(), any());
+  }
+}
@@ -17,7 +17,12 @@
 package com.github.javydreamercsw.management.service.ranking;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -31,6 +36,7 @@ import com.github.javydreamercsw.management.domain.wrestler.WrestlerRepository;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerState;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerStateRepository;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
@@ -59,6 +65,7 @@ class TierRecalculationServiceTest {
 
   @Captor private ArgumentCaptor<TierBoundary> tierBoundaryCaptor;
   @Captor private ArgumentCaptor<WrestlerState> wrestlerStateCaptor;
+  @Captor private ArgumentCaptor<Collection<Long>> idsCaptor;
 
   private List<WrestlerState> wrestlerStates;
   private Universe universe;
@@ -114,6 +121,13 @@ class TierRecalculationServiceTest {
               return Optional.ofNullable(inMemoryTierBoundaries.get(gender).get(tier));
             });
 
+    when(tierBoundaryService.getIndex(any(Gender.class)))
+        .thenAnswer(
+            invocation -> {
+              Gender gender = invocation.getArgument(0);
+              return TierBoundaryIndex.of(inMemoryTierBoundaries.get(gender).values());
+            });
+
     when(wrestlerStateRepository.save(any(WrestlerState.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -293,4 +307,72 @@ class TierRecalculationServiceTest {
 
     assertEquals(WrestlerTier.ICON, wrestler.getTier());
   }
+
+  @Test
+  void testRecalculateRankingBulkUpdatesStoredStates() {
+    for (int i = 0; i < wrestlerStates.size(); i++) {
+      wrestlerStates.get(i).setId(100L + i);
+    }
+
+    tierRecalculationService.recalculateRanking(new ArrayList<>(wrestlerStates));
+
+    verify(wrestlerStateRepository, never()).save(any(WrestlerState.class));
+    verify(wrestlerStateRepository, atLeastOnce())
+        .updateTierByIds(eq(WrestlerTier.ICON), idsCaptor.capture());
+    assertTrue(idsCaptor.getAllValues().stream().anyMatch(ids -> ids.contains(100L)));
+    assertEquals(WrestlerTier.ICON, wrestlerStates.get(0).getTier());
+  }
+
+  @Test
+  void testRecalculateChangedTiersOnlyTouchesWrestlersThatCrossedABoundary() {
+    for (WrestlerTier tier : WrestlerTier.values()) {
+      TierBoundary boundary = new TierBoundary();
+      boundary.setTier(tier);
+      boundary.setGender(Gender.MALE);
+      boundary.setMinFans(tier.getMinFans());
+      boundary.setMaxFans(tier.getMaxFans());
+      inMemoryTierBoundaries.get(Gender.MALE).put(tier, boundary);
+    }
+    Wrestler w = new Wrestler();
+    w.setGender(Gender.MALE);
+    WrestlerState unchanged =
+        WrestlerState.builder().id(1L).wrestler(w).fans(30_000L).tier(WrestlerTier.RISER).build();
+    WrestlerState promoted =
+        WrestlerState.builder().id(2L).wrestler(w).fans(45_000L).tier(WrestlerTier.RISER).build();
+
+    int changed = tierRecalculationService.recalculateChangedTiers(List.of(unchanged, promoted));
+
+    assertEquals(1, changed);
+    assertEquals(WrestlerTier.RISER, unchanged.getTier());
+    assertEquals(WrestlerTier.CONTENDER, promoted.getTier());
+    verify(wrestlerStateRepository, times(1))
+        .updateTierByIds(eq(WrestlerTier.CONTENDER), eq(List.of(2L)));
+    verify(wrestlerStateRepository, never()).save(any(WrestlerState.class));
+  }
+
+  @Test
+  void testUpdateTierForFanChangeOnlyReTiersWhenABoundaryIsCrossed() {
+    for (WrestlerTier tier : WrestlerTier.values()) {
+      TierBoundary boundary = new TierBoundary();
+      boundary.setTier(tier);
+      boundary.setGender(Gender.MALE);
+      boundary.setMinFans(tier.getMinFans());
+      boundary.setMaxFans(tier.getMaxFans());
+      inMemoryTierBoundaries.get(Gender.MALE).put(tier, boundary);
+    }
+    Wrestler w = new Wrestler();
+    w.setGender(Gender.MALE);
+    // Stale tier, but the fan change stays inside one band: left for a full recalculation.
+    WrestlerState sameBand =
+        WrestlerState.builder().wrestler(w).fans(31_000L).tier(WrestlerTier.ROOKIE).build();
+    WrestlerState crossed =
+        WrestlerState.builder().wrestler(w).fans(45_000L).tier(WrestlerTier.RISER).build();
+
+    assertFalse(tierRecalculationService.updateTierForFanChange(sameBand, 30_000L));
+    assertTrue(tierRecalculationService.updateTierForFanChange(crossed, 39_000L));
+
+    assertEquals(WrestlerTier.ROOKIE, sameBand.getTier());
+    assertEquals(WrestlerTier.CONTENDER, crossed.getTier());
+    verify(wrestlerStateRepository, never()).save(any(WrestlerState.class));
+  }
 }
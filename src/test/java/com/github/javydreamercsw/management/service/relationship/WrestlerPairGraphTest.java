@@ -0,0 +1,112 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.relationship;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.javydreamercsw.management.domain.faction.Faction;
+import com.github.javydreamercsw.management.domain.rivalry.Rivalry;
+import com.github.javydreamercsw.management.domain.universe.Universe;
+import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
+import com.github.javydreamercsw.management.domain.wrestler.WrestlerState;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class WrestlerPairGraphTest {
+
+  private static final long UNIVERSE_ID = 7L;
+
+  @Test
+  void thirtyEntrantsYieldEveryPairWithItsRivalry() {
+    List<Wrestler> entrants = new ArrayList<>();
+    for (long id = 1; id <= 30; id++) {
+      entrants.add(wrestler(id, null));
+    }
+    // Stored in the opposite order to the segment.
+    Rivalry rivalry = rivalry(entrants.get(29), entrants.get(0));
+    // Not between two entrants.
+    Rivalry outsider = rivalry(entrants.get(3), wrestler(99L, null));
+
+    WrestlerPairGraph graph =
+        WrestlerPairGraph.of(entrants, UNIVERSE_ID, List.of(rivalry, outsider));
+
+    assertThat(graph.pairs()).hasSize(435);
+    assertThat(graph.pairs())
+        .filteredOn(p -> p.rivalry() != null)
+        .singleElement()
+        .satisfies(
+            p -> {
+              assertThat(p.first()).isSameAs(entrants.get(0));
+              assertThat(p.second()).isSameAs(entrants.get(29));
+              assertThat(p.rivalry()).isSameAs(rivalry);
+            });
+  }
+
+  @Test
+  void factionMembershipIsReadForTheGraphsUniverse() {
+    Faction faction = new Faction();
+    faction.setId(3L);
+    faction.setName("The Corporation");
+    Wrestler a = wrestler(1L, faction);
+    Wrestler b = wrestler(2L, faction);
+    Wrestler c = wrestler(3L, null);
+
+    WrestlerPairGraph graph = WrestlerPairGraph.of(List.of(a, b, c), UNIVERSE_ID, List.of());
+    WrestlerPairGraph elsewhere = WrestlerPairGraph.of(List.of(a, b, c), 8L, List.of());
+
+    assertThat(graph.pairs())
+        .extracting(WrestlerPairGraph.Pair::teammates)
+        .containsExactly(true, false, false);
+    assertThat(elsewhere.pairs()).noneMatch(WrestlerPairGraph.Pair::teammates);
+  }
+
+  @Test
+  void unsavedParticipantsHaveNoRivalry() {
+    Wrestler saved = wrestler(1L, null);
+    Wrestler unsaved = Wrestler.builder().build();
+
+    WrestlerPairGraph graph =
+        WrestlerPairGraph.of(List.of(saved, unsaved), UNIVERSE_ID, List.of());
+
+    assertThat(graph.pairs()).singleElement().satisfies(p -> assertThat(p.rivalry()).isNull());
+  }
+
+  private static Wrestler wrestler(final long id, final Faction faction) {
+    Wrestler wrestler = Wrestler.builder().build();
+    wrestler.setId(id);
+    wrestler.setName("Entrant " + id);
+    Universe universe = new Universe();
+    universe.setId(UNIVERSE_ID);
+    WrestlerState state = new WrestlerState();
+    state.setWrestler(wrestler);
+    state.setUniverse(universe);
+    state.setFaction(faction);
+    wrestler.setWrestlerStates(new LinkedHashSet<>(Set.of(state)));
+    return wrestler;
+  }
+
+  private static Rivalry rivalry(final Wrestler wrestler1, final Wrestler wrestler2) {
+    Rivalry rivalry = new Rivalry();
+    rivalry.setWrestler1(wrestler1);
+    rivalry.setWrestler2(wrestler2);
+    rivalry.setIsActive(true);
+    return rivalry;
+  }
+}
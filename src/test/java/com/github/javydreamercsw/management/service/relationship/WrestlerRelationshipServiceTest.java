@@ -91,7 +91,7 @@ class WrestlerRelationshipServiceTest {
     rel.setType(RelationshipType.SPOUSE);
     rel.setLevel(100);
 
-    when(relationshipRepository.findBetweenWrestlers(w1, w2)).thenReturn(List.of(rel));
+    when(relationshipRepository.findAmongWrestlers(List.of(w1, w2))).thenReturn(List.of(rel));
 
     double bonus = relationshipService.calculateChemistryBonus(List.of(w1, w2));
 
@@ -0,0 +1,117 @@
+/*
+* Copyright (C) 2025 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.rivalry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.javydreamercsw.management.ManagementIntegrationTest;
+import com.github.javydreamercsw.management.domain.rivalry.Rivalry;
+import com.github.javydreamercsw.management.domain.rivalry.RivalryRepository;
+import com.github.javydreamercsw.management.domain.universe.Universe;
+import com.github.javydreamercsw.management.domain.universe.UniverseRepository;
+import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Times {@link RivalryDecayService#applyHeatDecay()} over 1,000 active rivalries carrying 50,000
+ * heat events, half of which have been inactive for a year.
+ *
+ * <pre>
+ *   mvn -Pintegration-test verify -Dit.test=RivalryDecayBenchmarkIT
+ * </pre>
+ */
+@Slf4j
+class RivalryDecayBenchmarkIT extends ManagementIntegrationTest {
+
+  private static final int WRESTLERS = 46; // 1,035 distinct pairs
+  private static final int RIVALRIES = 1_000;
+  private static final int EVENTS_PER_RIVALRY = 50;
+  private static final int STARTING_HEAT = 20;
+
+  @Autowired private RivalryDecayService rivalryDecayService;
+  @Autowired private RivalryRepository rivalryRepository;
+  @Autowired private UniverseRepository universeRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void decaysFiftyThousandHeatEventHistory() {
+    Universe universe = universeRepository.findAll().stream().findFirst().orElseThrow();
+    List<Wrestler> wrestlers = new ArrayList<>();
+    for (int i = 0; i < WRESTLERS; i++) {
+      Wrestler wrestler = new Wrestler();
+      wrestler.setName("Decay Benchmark " + i);
+      wrestlers.add(wrestlerRepository.save(wrestler));
+    }
+
+    List<Rivalry> rivalries = new ArrayList<>();
+    for (int i = 0; i < WRESTLERS && rivalries.size() < RIVALRIES; i++) {
+      for (int j = i + 1; j < WRESTLERS && rivalries.size() < RIVALRIES; j++) {
+        Rivalry rivalry = new Rivalry();
+        rivalry.setWrestler1(wrestlers.get(i));
+        rivalry.setWrestler2(wrestlers.get(j));
+        rivalry.setUniverse(universe);
+        rivalry.setHeat(STARTING_HEAT);
+        rivalries.add(rivalry);
+      }
+    }
+    rivalries = rivalryRepository.saveAll(rivalries);
+
+    Instant now = Instant.now();
+    Timestamp stale = Timestamp.from(now.minus(365, ChronoUnit.DAYS));
+    Timestamp recent = Timestamp.from(now);
+    List<Object[]> events = new ArrayList<>();
+    for (int r = 0; r < rivalries.size(); r++) {
+      boolean inactive = r % 2 == 0;
+      for (int e = 0; e < EVENTS_PER_RIVALRY; e++) {
+        Timestamp date = inactive || e < EVENTS_PER_RIVALRY - 1 ? stale : recent;
+        events.add(
+            new Object[] {rivalries.get(r).getId(), 1, STARTING_HEAT, "Benchmark", date, date});
+      }
+    }
+    jdbcTemplate.batchUpdate(
+        """
+        INSERT INTO heat_event (rivalry_id, heat_change, heat_after_event, reason, event_date,\
+         creation_date) VALUES (?, ?, ?, ?, ?, ?)\
+        """,
+        events);
+
+    long start = System.nanoTime();
+    int decayed = rivalryDecayService.applyHeatDecay();
+    long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+    log.info(
+        "Heat decay over {} rivalries / {} heat events: {} decayed in {}ms",
+        rivalries.size(),
+        events.size(),
+        decayed,
+        elapsedMs);
+    assertThat(decayed).isEqualTo(RIVALRIES / 2);
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM heat_event WHERE reason = 'Automatic heat decay'",
+                Integer.class))
+        .isEqualTo(RIVALRIES / 2);
+  }
+}
@@ -0,0 +1,165 @@
+/*
+* Copyright (C) 2025 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.rivalry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.github.javydreamercsw.management.domain.rivalry.RivalryRepository;
+import com.github.javydreamercsw.management.domain.rivalry.RivalryRepository.RivalryHeat;
+import com.github.javydreamercsw.management.service.GameSettingService;
+import com.github.javydreamercsw.management.service.performance.PerformanceMonitoringService;
+import java.sql.PreparedStatement;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RivalryDecayServiceTest {
+
+  private static final Instant NOW = Instant.parse("2026-03-01T03:00:00Z");
+
+  @Mock private RivalryRepository rivalryRepository;
+  @Mock private GameSettingService gameSettingService;
+  @Mock private JdbcTemplate jdbcTemplate;
+  @Mock private PerformanceMonitoringService performanceMonitoringService;
+
+  @Captor private ArgumentCaptor<Collection<RivalryHeat>> rowsCaptor;
+  @Captor private ArgumentCaptor<ParameterizedPreparedStatementSetter<RivalryHeat>> setterCaptor;
+
+  private RivalryDecayService service;
+
+  @BeforeEach
+  void setUp() {
+    service =
+        new RivalryDecayService(
+            rivalryRepository,
+            gameSettingService,
+            Clock.fixed(NOW, ZoneOffset.UTC),
+            jdbcTemplate,
+            performanceMonitoringService);
+    when(gameSettingService.isRivalryHeatDecayEnabled()).thenReturn(true);
+    when(gameSettingService.getRivalryHeatDecayPerInterval()).thenReturn(5);
+    when(gameSettingService.getRivalryHeatDecayIntervalDays()).thenReturn(7);
+    when(gameSettingService.getRivalryMaxDurationDays()).thenReturn(90);
+  }
+
+  private static RivalryHeat rivalry(final long id, final int heat) {
+    return new RivalryHeat() {
+      @Override
+      public Long getId() {
+        return id;
+      }
+
+      @Override
+      public Integer getHeat() {
+        return heat;
+      }
+    };
+  }
+
+  @Test
+  void decaysStaleRivalriesPageByPageWithBulkUpdates() throws Exception {
+    Instant cutoff = NOW.minus(7, ChronoUnit.DAYS);
+    when(rivalryRepository.findStaleActiveRivalries(eq(cutoff), eq(0L), any()))
+        .thenReturn(List.of(rivalry(3L, 12), rivalry(8L, 3)));
+    when(rivalryRepository.findStaleActiveRivalries(eq(cutoff), eq(8L), any()))
+        .thenReturn(List.of());
+
+    int decayed = service.applyHeatDecay();
+
+    assertThat(decayed).isEqualTo(2);
+    verify(rivalryRepository).decayHeat(List.of(3L, 8L), 5);
+    verify(jdbcTemplate)
+        .batchUpdate(anyString(), rowsCaptor.capture(), eq(2), setterCaptor.capture());
+    assertThat(rowsCaptor.getValue()).extracting(RivalryHeat::getId).containsExactly(3L, 8L);
+
+    // Heat after the event never goes below zero; the change always records the full amount.
+    PreparedStatement ps = Mockito.mock(PreparedStatement.class);
+    setterCaptor.getValue().setValues(ps, rivalry(8L, 3));
+    verify(ps).setLong(1, 8L);
+    verify(ps).setInt(2, -5);
+    verify(ps).setInt(3, 0);
+    verify(ps).setString(4, "Automatic heat decay");
+    verify(performanceMonitoringService).incrementCounter("rivalry.decay.rivalries", 2);
+  }
+
+  @Test
+  void decayDisabledDoesNotQuery() {
+    when(gameSettingService.isRivalryHeatDecayEnabled()).thenReturn(false);
+
+    assertThat(service.applyHeatDecay()).isZero();
+
+    verifyNoInteractions(rivalryRepository, jdbcTemplate);
+  }
+
+  @Test
+  void closesExpiredRivalriesAndRecordsEndEvents() throws Exception {
+    Instant expiry = NOW.minus(90, ChronoUnit.DAYS);
+    when(rivalryRepository.findActiveRivalriesStartedBefore(eq(expiry), eq(0L), any()))
+        .thenReturn(List.of(rivalry(4L, 17)));
+    when(rivalryRepository.findActiveRivalriesStartedBefore(eq(expiry), eq(4L), any()))
+        .thenReturn(List.of());
+
+    int closed = service.closeExpiredRivalries();
+
+    assertThat(closed).isEqualTo(1);
+    verify(rivalryRepository).endRivalries(List.of(4L), NOW);
+    verify(jdbcTemplate)
+        .batchUpdate(anyString(), rowsCaptor.capture(), eq(1), setterCaptor.capture());
+    PreparedStatement ps = Mockito.mock(PreparedStatement.class);
+    setterCaptor.getValue().setValues(ps, rivalry(4L, 17));
+    verify(ps).setInt(2, 0);
+    verify(ps).setInt(3, 17);
+    verify(ps).setString(4, "Rivalry ended: Exceeded maximum rivalry duration (90d)");
+  }
+
+  @Test
+  void closeDisabledWhenMaxDurationNotPositive() {
+    when(gameSettingService.getRivalryMaxDurationDays()).thenReturn(0);
+
+    assertThat(service.closeExpiredRivalries()).isZero();
+
+    verify(rivalryRepository, never()).findActiveRivalriesStartedBefore(any(), anyLong(), any());
+    verify(rivalryRepository, never()).endRivalries(any(), any());
+    verify(rivalryRepository, never()).decayHeat(any(), anyInt());
+  }
+}
@@ -20,6 +20,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -150,6 +152,43 @@ class RivalryServiceTest {
     verify(rivalryRepository).saveAndFlush(rivalry);
   }
 
+  @Test
+  @DisplayName("Should add heat to several rivalries with one flush")
+  void shouldAddHeatToSeveralRivalriesWithOneFlush() {
+    // Given
+    Wrestler wrestler1 = createWrestler("Wrestler 1", 1L);
+    Wrestler wrestler2 = createWrestler("Wrestler 2", 2L);
+    Wrestler wrestler3 = createWrestler("Wrestler 3", 3L);
+    Rivalry first = createRivalry(wrestler1, wrestler2, 5);
+    Rivalry second = createRivalry(wrestler2, wrestler3, 12);
+    second.setId(2L);
+    Rivalry ended = createRivalry(wrestler1, wrestler3, 7);
+    ended.setId(3L);
+    ended.setIsActive(false);
+
+    when(rivalryRepository.saveAllAndFlush(List.of(first, second)))
+        .thenReturn(List.of(first, second));
+
+    // When
+    List<Rivalry> result =
+        rivalryService.addHeat(List.of(first, second, ended), 2, "Rumble elimination");
+
+    // Then
+    assertThat(result).containsExactly(first, second);
+    assertThat(first.getHeat()).isEqualTo(7);
+    assertThat(second.getHeat()).isEqualTo(14);
+    assertThat(ended.getHeat()).isEqualTo(7);
+    verify(rivalryRepository, never()).saveAndFlush(any(Rivalry.class));
+    verify(eventPublisher)
+        .publishEvent(
+            argThat(
+                event ->
+                    event instanceof HeatChangeEvent heat
+                        && second.getId().equals(heat.getRivalryId())
+                        && heat.getOldHeat() == 12));
+    verify(eventPublisher, times(2)).publishEvent(any(HeatChangeEvent.class));
+  }
+
   @Test
   @DisplayName("Should add heat between wrestlers")
   void shouldAddHeatBetweenWrestlers() {
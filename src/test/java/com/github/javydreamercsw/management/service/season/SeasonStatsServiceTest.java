@@ -18,29 +18,22 @@ package com.github.javydreamercsw.management.service.season;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import com.github.javydreamercsw.management.domain.AdjudicationStatus;
 import com.github.javydreamercsw.management.domain.season.Season;
-import com.github.javydreamercsw.management.domain.season.SeasonRepository;
 import com.github.javydreamercsw.management.domain.season.WrestlerSeasonSnapshot;
 import com.github.javydreamercsw.management.domain.season.WrestlerSeasonSnapshotRepository;
-import com.github.javydreamercsw.management.domain.show.segment.Segment;
-import com.github.javydreamercsw.management.domain.show.segment.SegmentRepository;
-import com.github.javydreamercsw.management.domain.show.segment.SegmentStatus;
-import com.github.javydreamercsw.management.domain.show.segment.type.SegmentType;
-import com.github.javydreamercsw.management.domain.title.Title;
-import com.github.javydreamercsw.management.domain.title.TitleReign;
 import com.github.javydreamercsw.management.domain.title.TitleReignRepository;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
+import com.github.javydreamercsw.management.domain.wrestler.WrestlerRecordSummary;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerRepository;
 import com.github.javydreamercsw.management.dto.SeasonStatsDTO;
+import com.github.javydreamercsw.management.service.wrestler.WrestlerRecordService;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -48,15 +41,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("SeasonStatsService Tests")
 class SeasonStatsServiceTest {
 
-  @Mock private SegmentRepository segmentRepository;
-  @Mock private SeasonRepository seasonRepository;
+  @Mock private WrestlerRecordService recordService;
   @Mock private TitleReignRepository titleReignRepository;
   @Mock private WrestlerRepository wrestlerRepository;
   @Mock private WrestlerSeasonSnapshotRepository snapshotRepository;
@@ -65,8 +55,6 @@ class SeasonStatsServiceTest {
 
   private Wrestler wrestler;
   private Season season;
-  private SegmentType matchType;
-  private SegmentType promoType;
 
   @BeforeEach
   public void setUp() {
@@ -100,38 +88,17 @@ class SeasonStatsServiceTest {
     season.setName("Season 1");
     season.setStartDate(Instant.parse("2024-01-01T00:00:00Z"));
     season.setEndDate(Instant.parse("2024-03-31T23:59:59Z"));
-
-    matchType = new SegmentType();
-    matchType.setName("One on One");
-
-    promoType = new SegmentType();
-    promoType.setName("Promo");
   }
 
   @Test
   @DisplayName("Should calculate season stats correctly for a wrestler")
   void testCalculateSeasonStatsForPlayer() {
     // Given
-    Segment win1 = createSegment(101L, matchType, true);
-    Segment win2 = createSegment(102L, matchType, true);
-    Segment loss1 = createSegment(103L, matchType, false);
-    Segment draw1 = createSegment(104L, matchType, null); // Null winner means draw if completed
-    Segment promo = createSegment(105L, promoType, true); // Promos shouldn't count for wins/losses
-
-    List<Segment> segments = Arrays.asList(win1, win2, loss1, draw1, promo);
-    when(segmentRepository.findByWrestlerParticipationAndSeason(
-            eq(wrestler), eq(season), any(Pageable.class)))
-        .thenReturn(new PageImpl<>(segments));
-
-    // Accolades
-    Title title = new Title();
-    title.setName("World Championship");
-    TitleReign reign = new TitleReign();
-    reign.setTitle(title);
-    reign.setStartDate(Instant.parse("2024-02-01T00:00:00Z"));
-    reign.setEndDate(Instant.parse("2024-02-15T00:00:00Z"));
-
-    when(titleReignRepository.findByChampionsContaining(wrestler)).thenReturn(Arrays.asList(reign));
+    when(recordService.getSeasonRecord(1L, 1L))
+        .thenReturn(new WrestlerRecordSummary(1L, 2L, 1L, 1L));
+    when(titleReignRepository.findTitleNamesHeldBetween(
+            1L, season.getStartDate(), season.getEndDate()))
+        .thenReturn(List.of("World Championship"));
 
     // When
     SeasonStatsDTO stats = seasonStatsService.calculateStats(wrestler, season);
@@ -152,39 +119,56 @@ class SeasonStatsServiceTest {
   void testStartingFansFallsBackToZeroWhenNoSnapshot() {
     when(snapshotRepository.findByWrestlerIdAndSeasonId(1L, 1L))
         .thenReturn(java.util.Optional.empty());
-    when(segmentRepository.findByWrestlerParticipationAndSeason(
-            eq(wrestler), eq(season), any(Pageable.class)))
-        .thenReturn(new PageImpl<>(java.util.List.of()));
-    when(titleReignRepository.findByChampionsContaining(wrestler)).thenReturn(java.util.List.of());
+    when(recordService.getSeasonRecord(1L, 1L)).thenReturn(WrestlerRecordSummary.empty(1L));
+    when(titleReignRepository.findTitleNamesHeldBetween(
+            1L, season.getStartDate(), season.getEndDate()))
+        .thenReturn(List.of());
 
     SeasonStatsDTO stats = seasonStatsService.calculateStats(wrestler, season);
 
     assertThat(stats.getStartingFans()).isZero();
+    assertThat(stats.getWins()).isZero();
+    assertThat(stats.getAccolades()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Unsaved wrestlers get empty stats without querying records")
+  void testUnsavedWrestlerGetsEmptyStats() {
+    Wrestler unsaved = new Wrestler();
+    unsaved.setName("Unsaved");
+
+    SeasonStatsDTO stats = seasonStatsService.calculateStats(unsaved, season);
+
+    assertThat(stats.getWins()).isZero();
+    assertThat(stats.getLosses()).isZero();
+    assertThat(stats.getDraws()).isZero();
+    assertThat(stats.getAccolades()).isEmpty();
+    verifyNoInteractions(recordService, titleReignRepository);
   }
 
-  private Segment createSegment(final Long id, final SegmentType type, final Boolean isWinner) {
-    Segment segment = new Segment();
-    segment.setId(id);
-    segment.setSegmentType(type);
-    segment.setStatus(SegmentStatus.COMPLETED);
-    segment.setAdjudicationStatus(AdjudicationStatus.ADJUDICATED);
-
-    segment.addParticipant(wrestler);
-    if (isWinner != null) {
-      if (isWinner) {
-        segment.setWinners(Arrays.asList(wrestler));
-      } else {
-        Wrestler opponent = new Wrestler();
-        opponent.setId(2L);
-        opponent.setName("Opponent");
-        segment.addParticipant(opponent);
-        segment.setWinners(Arrays.asList(opponent));
-      }
-    } else {
-      // Draw - completed but no winners
-      segment.setWinners(new ArrayList<>());
-    }
-
-    return segment;
+  @Test
+  @DisplayName("Standings rank the season's roster by wins, then by fewest losses")
+  void testStandingsAreRankedFromOneRosterQuery() {
+    Wrestler second = new Wrestler();
+    second.setId(2L);
+    second.setName("Second");
+    Wrestler third = new Wrestler();
+    third.setId(3L);
+    third.setName("Third");
+    when(recordService.getSeasonRosterRecords(1L))
+        .thenReturn(
+            Map.of(
+                1L, new WrestlerRecordSummary(1L, 3L, 2L, 0L),
+                2L, new WrestlerRecordSummary(2L, 3L, 1L, 0L),
+                3L, new WrestlerRecordSummary(3L, 5L, 4L, 1L)));
+    when(wrestlerRepository.findAllById(any())).thenReturn(List.of(wrestler, second, third));
+
+    List<SeasonStatsService.Standing> standings = seasonStatsService.calculateStandings(season);
+
+    assertThat(standings)
+        .extracting(SeasonStatsService.Standing::wrestlerName)
+        .containsExactly("Third", "Second", "Test Wrestler");
+    assertThat(standings.get(0).draws()).isEqualTo(1L);
+    verifyNoInteractions(titleReignRepository, snapshotRepository);
   }
 }
@@ -0,0 +1,142 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.segment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.javydreamercsw.base.domain.wrestler.WrestlerTier;
+import com.github.javydreamercsw.management.ManagementIntegrationTest;
+import com.github.javydreamercsw.management.domain.rivalry.Rivalry;
+import com.github.javydreamercsw.management.domain.rivalry.RivalryRepository;
+import com.github.javydreamercsw.management.domain.show.Show;
+import com.github.javydreamercsw.management.domain.show.ShowRepository;
+import com.github.javydreamercsw.management.domain.show.segment.Segment;
+import com.github.javydreamercsw.management.domain.show.segment.SegmentRepository;
+import com.github.javydreamercsw.management.domain.show.segment.type.SegmentType;
+import com.github.javydreamercsw.management.domain.show.segment.type.SegmentTypeNames;
+import com.github.javydreamercsw.management.domain.show.segment.type.SegmentTypeRepository;
+import com.github.javydreamercsw.management.domain.show.type.ShowType;
+import com.github.javydreamercsw.management.domain.show.type.ShowTypeRepository;
+import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
+import com.github.javydreamercsw.management.service.match.SegmentAdjudicationService;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Adjudicates thirty-man Rumbles whose entrants share 100 active rivalries and times each one. All
+ * 435 pairs are processed, so every rivalry gains heat from every Rumble.
+ *
+ * <pre>
+ *   mvn -Pintegration-test verify -Dit.test=RumbleHeatBenchmarkIT
+ * </pre>
+ */
+@Slf4j
+class RumbleHeatBenchmarkIT extends ManagementIntegrationTest {
+
+  private static final int ENTRANTS = 30;
+  private static final int RIVALRIES = 100;
+  private static final int RUMBLES = 5;
+
+  @Autowired private SegmentAdjudicationService segmentAdjudicationService;
+  @Autowired private RivalryRepository rivalryRepository;
+  @Autowired private ShowRepository showRepository;
+  @Autowired private ShowTypeRepository showTypeRepository;
+  @Autowired private SegmentRepository segmentRepository;
+  @Autowired private SegmentTypeRepository segmentTypeRepository;
+
+  @Test
+  void thirtyManRumbleHeatsEveryRivalry() {
+    List<Wrestler> entrants = new ArrayList<>();
+    for (int i = 0; i < ENTRANTS; i++) {
+      entrants.add(
+          wrestlerService.createWrestler(
+              "Rumble Entrant " + i, false, "Rumble", WrestlerTier.MIDCARDER, defaultUniverse));
+    }
+    List<Rivalry> rivalries = new ArrayList<>();
+    for (int i = 0; i < ENTRANTS && rivalries.size() < RIVALRIES; i++) {
+      for (int j = i + 1; j < ENTRANTS && rivalries.size() < RIVALRIES; j += 3) {
+        Rivalry rivalry = new Rivalry();
+        rivalry.setWrestler1(entrants.get(i));
+        rivalry.setWrestler2(entrants.get(j));
+        rivalry.setUniverse(defaultUniverse);
+        rivalry.setHeat(0);
+        rivalry.setIsActive(true);
+        rivalry.setStartedDate(Instant.now());
+        rivalries.add(rivalry);
+      }
+    }
+    List<Long> rivalryIds =
+        rivalryRepository.saveAll(rivalries).stream().map(Rivalry::getId).toList();
+
+    SegmentType rumble =
+        segmentTypeRepository
+            .findByName(SegmentTypeNames.ABU_DHABI_RUMBLE)
+            .orElseGet(
+                () -> {
+                  SegmentType type = new SegmentType();
+                  type.setName(SegmentTypeNames.ABU_DHABI_RUMBLE);
+                  return segmentTypeRepository.save(type);
+                });
+    ShowType showType = new ShowType();
+    showType.setName("Rumble Benchmark");
+    showType.setDescription("Rumble Benchmark");
+    showType = showTypeRepository.save(showType);
+
+    long[] latencies = new long[RUMBLES];
+    for (int r = 0; r < RUMBLES; r++) {
+      Show show = new Show();
+      show.setName("Rumble Night " + r);
+      show.setDescription("Rumble Night");
+      show.setShowDate(LocalDate.now());
+      show.setType(showType);
+      show.setUniverse(defaultUniverse);
+      show = showRepository.save(show);
+
+      Segment segment = new Segment();
+      segment.setShow(show);
+      segment.setSegmentType(rumble);
+      entrants.forEach(segment::addParticipant);
+      segment.setWinners(List.of(entrants.get(r)));
+      segment = segmentRepository.save(segment);
+
+      long start = System.nanoTime();
+      segmentAdjudicationService.adjudicateMatch(segment);
+      latencies[r] = System.nanoTime() - start;
+    }
+
+    assertThat(rivalryRepository.findAllById(rivalryIds))
+        .hasSize(rivalryIds.size())
+        .allSatisfy(rivalry -> assertThat(rivalry.getHeat()).isEqualTo(RUMBLES));
+    assertThat(rivalryRepository.findActiveRivalriesAmong(entrants)).hasSize(rivalryIds.size());
+
+    Arrays.sort(latencies);
+    log.info(
+        "Adjudicated {} {}-man Rumbles over {} rivalries: median {}ms, max {}ms",
+        RUMBLES,
+        ENTRANTS,
+        rivalryIds.size(),
+        latencies[RUMBLES / 2] / 1_000_000,
+        latencies[RUMBLES - 1] / 1_000_000);
+    assertThat(latencies[RUMBLES / 2] / 1_000_000).isLessThan(2_000);
+  }
+}
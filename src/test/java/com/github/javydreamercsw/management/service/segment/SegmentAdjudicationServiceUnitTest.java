@@ -18,6 +18,7 @@ package com.github.javydreamercsw.management.service.segment;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -56,6 +57,7 @@ import com.github.javydreamercsw.management.service.world.ArenaService;
 import com.github.javydreamercsw.management.service.world.LocationService;
 import com.github.javydreamercsw.management.service.wrestler.RetirementService;
 import com.github.javydreamercsw.management.service.wrestler.WrestlerService;
+import java.util.List;
 import java.util.Optional;
 import java.util.Random;
 import org.junit.jupiter.api.BeforeEach;
@@ -166,15 +168,16 @@ class SegmentAdjudicationServiceUnitTest {
   @Test
   void testAdjudicateMatch_WithNoExistingRivalry_SkipsHeat() {
     // Plain matches do not create new rivalries; with no existing rivalry no heat is added.
-    when(rivalryService.getRivalryBetweenWrestlers(wrestler1.getId(), wrestler2.getId()))
-        .thenReturn(Optional.empty());
+    when(rivalryService.getActiveRivalriesAmong(List.of(wrestler1, wrestler2)))
+        .thenReturn(List.of());
 
     adjudicationService.adjudicateMatch(matchSegment);
 
-    verify(rivalryService).getRivalryBetweenWrestlers(wrestler1.getId(), wrestler2.getId());
+    verify(rivalryService).getActiveRivalriesAmong(List.of(wrestler1, wrestler2));
     verify(rivalryService, never())
         .addHeatBetweenWrestlers(anyLong(), anyLong(), anyInt(), anyString(), anyLong());
     verify(rivalryService, never()).addHeat(anyLong(), anyInt(), anyString());
+    verify(rivalryService, never()).addHeat(anyCollection(), anyInt(), anyString());
   }
 
   @Test
@@ -182,12 +185,15 @@ class SegmentAdjudicationServiceUnitTest {
     // Plain matches add heat to an already-established rivalry without creating new ones.
     Rivalry rivalry = new Rivalry();
     rivalry.setId(99L);
-    when(rivalryService.getRivalryBetweenWrestlers(wrestler1.getId(), wrestler2.getId()))
-        .thenReturn(Optional.of(rivalry));
+    rivalry.setWrestler1(wrestler2);
+    rivalry.setWrestler2(wrestler1);
+    when(rivalryService.getActiveRivalriesAmong(List.of(wrestler1, wrestler2)))
+        .thenReturn(List.of(rivalry));
 
     adjudicationService.adjudicateMatch(matchSegment);
 
-    verify(rivalryService, times(1)).addHeat(eq(99L), eq(1), eq("From segment: Match"));
+    verify(rivalryService, times(1))
+        .addHeat(eq(List.of(rivalry)), eq(1), eq("From segment: Match"));
     verify(rivalryService, never())
         .addHeatBetweenWrestlers(anyLong(), anyLong(), anyInt(), anyString(), anyLong());
   }
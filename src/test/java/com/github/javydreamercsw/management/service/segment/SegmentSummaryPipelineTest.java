@@ -0,0 +1,256 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.segment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.javydreamercsw.management.domain.show.segment.Segment;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/** Runs the pipeline against an in-memory H2 database carrying the real job table migration. */
+class SegmentSummaryPipelineTest {
+
+  private JdbcTemplate jdbcTemplate;
+  private SegmentSummaryService summaryService;
+  private SegmentSummaryPipeline pipeline;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    jdbcTemplate =
+        new JdbcTemplate(
+            new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""));
+    jdbcTemplate.execute(
+        "CREATE TABLE segment (segment_id BIGINT PRIMARY KEY, segment_date TIMESTAMP NOT NULL,"
+            + " narration CLOB, summary CLOB)");
+    jdbcTemplate.execute(
+        Files.readString(
+            Path.of("src/main/resources/db/migration/h2/V125__Create_Segment_Summary_Job.sql")));
+    summaryService = mock(SegmentSummaryService.class);
+    pipeline = pipeline(0);
+  }
+
+  @AfterEach
+  void tearDown() {
+    pipeline.stop();
+    jdbcTemplate.execute("SHUTDOWN");
+  }
+
+  private SegmentSummaryPipeline pipeline(final long retryDelaySeconds) {
+    return new SegmentSummaryPipeline(
+        summaryService, jdbcTemplate, true, 2, 10, 2, retryDelaySeconds, 1000, true, 21);
+  }
+
+  private void insertSegment(final long id, final String narration, final String summary) {
+    insertSegment(id, Instant.now(), narration, summary);
+  }
+
+  private void insertSegment(
+      final long id, final Instant date, final String narration, final String summary) {
+    jdbcTemplate.update(
+        "INSERT INTO segment (segment_id, segment_date, narration, summary) VALUES (?, ?, ?, ?)",
+        id,
+        Timestamp.from(date),
+        narration,
+        summary);
+  }
+
+  private static Segment summarized(final long id, final String summary) {
+    Segment segment = new Segment();
+    segment.setId(id);
+    segment.setSummary(summary);
+    return segment;
+  }
+
+  private Map<String, Long> jobs() {
+    return pipeline.countJobs();
+  }
+
+  private static void await(final BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(condition.getAsBoolean()).isTrue();
+  }
+
+  @Test
+  void onlyNarratedSegmentsWithoutASummaryAreQueued() throws Exception {
+    insertSegment(1, "Narration", null);
+    insertSegment(2, "Narration", "Done");
+    insertSegment(3, null, null);
+    when(summaryService.summarizeSegment(1L)).thenReturn(summarized(1, "Summary"));
+
+    assertThat(pipeline.enqueue(List.of(1L, 2L, 3L))).isEqualTo(1);
+
+    await(() -> jobs().isEmpty() && pipeline.getInFlightCount() == 0);
+    verify(summaryService).summarizeSegment(1L);
+    verify(summaryService, never()).summarizeSegment(2L);
+    verify(summaryService, never()).summarizeSegment(3L);
+  }
+
+  @Test
+  void failedJobsAreRetriedUntilTheyRunOutOfAttempts() throws Exception {
+    insertSegment(1, "Narration", null);
+    when(summaryService.summarizeSegment(1L)).thenThrow(new IllegalStateException("No provider"));
+
+    pipeline.enqueue(List.of(1L));
+    await(() -> pipeline.getInFlightCount() == 0 && jobs().containsKey("PENDING"));
+    pipeline.sweep();
+    await(() -> jobs().containsKey("FAILED"));
+
+    verify(summaryService, times(2)).summarizeSegment(1L);
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT last_error FROM segment_summary_job WHERE segment_id = 1", String.class))
+        .isEqualTo("No provider");
+
+    // Writing the segment again queues it afresh.
+    pipeline.sweep();
+    verify(summaryService, times(2)).summarizeSegment(1L);
+    pipeline.enqueue(List.of(1L));
+    await(() -> pipeline.getInFlightCount() == 0 && jobs().containsKey("PENDING"));
+    verify(summaryService, times(3)).summarizeSegment(1L);
+  }
+
+  @Test
+  void retriesWaitForTheirDelay() throws Exception {
+    pipeline.stop();
+    pipeline = pipeline(300);
+    insertSegment(1, "Narration", null);
+    when(summaryService.summarizeSegment(1L)).thenReturn(summarized(1, null));
+
+    pipeline.enqueue(List.of(1L));
+    await(() -> pipeline.getInFlightCount() == 0 && jobs().containsKey("PENDING"));
+    pipeline.sweep();
+
+    assertThat(pipeline.getInFlightCount()).isZero();
+    verify(summaryService, times(1)).summarizeSegment(1L);
+  }
+
+  @Test
+  void sweepQueuesNarratedSegmentsThatHaveNoJob() throws Exception {
+    insertSegment(1, "Narration", null);
+    insertSegment(2, "Narration", null);
+    when(summaryService.summarizeSegment(anyLong()))
+        .thenAnswer(inv -> summarized(inv.getArgument(0), "Summary"));
+
+    pipeline.sweep();
+
+    await(() -> jobs().isEmpty() && pipeline.getInFlightCount() == 0);
+    verify(summaryService).summarizeSegment(1L);
+    verify(summaryService).summarizeSegment(2L);
+  }
+
+  @Test
+  void backfillOnlyQueuesSegmentsInsideTheWindow() throws Exception {
+    insertSegment(1, Instant.now().minus(Duration.ofDays(3)), "Narration", null);
+    insertSegment(2, Instant.now().minus(Duration.ofDays(400)), "Narration", null);
+    when(summaryService.summarizeSegment(anyLong()))
+        .thenAnswer(inv -> summarized(inv.getArgument(0), "Summary"));
+
+    pipeline.sweep();
+
+    await(() -> jobs().isEmpty() && pipeline.getInFlightCount() == 0);
+    verify(summaryService).summarizeSegment(1L);
+    verify(summaryService, never()).summarizeSegment(2L);
+  }
+
+  @Test
+  void sweepCreatesNoJobsWithoutBackfill() throws Exception {
+    pipeline.stop();
+    pipeline =
+        new SegmentSummaryPipeline(
+            summaryService, jdbcTemplate, true, 2, 10, 2, 0, 1000, false, 21);
+    insertSegment(1, "Narration", null);
+
+    pipeline.sweep();
+
+    assertThat(jobs()).isEmpty();
+    verify(summaryService, never()).summarizeSegment(anyLong());
+  }
+
+  @Test
+  void aJobClaimedElsewhereIsNotSummarizedAgain() throws Exception {
+    insertSegment(1, "Narration", null);
+    jdbcTemplate.update(
+        "INSERT INTO segment_summary_job (segment_id, status, attempts, next_attempt_at,"
+            + " updated_at) VALUES (1, 'RUNNING', 0, ?, ?)",
+        Timestamp.from(Instant.now()),
+        Timestamp.from(Instant.now()));
+
+    Map<Long, String> ready = pipeline.awaitSummaries(List.of(1L), Duration.ofSeconds(2));
+
+    assertThat(ready).isEmpty();
+    assertThat(jobs()).containsEntry("RUNNING", 1L);
+    verify(summaryService, never()).summarizeSegment(anyLong());
+  }
+
+  @Test
+  void awaitSummariesReturnsWhatIsReadyByTheDeadline() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    for (long id = 1; id <= 20; id++) {
+      insertSegment(id, "Narration", null);
+    }
+    when(summaryService.summarizeSegment(anyLong()))
+        .thenAnswer(
+            inv -> {
+              long id = inv.getArgument(0);
+              if (id != 1) {
+                release.await(5, TimeUnit.SECONDS);
+              }
+              return summarized(id, "Summary " + id);
+            });
+    List<Long> ids = LongStream.rangeClosed(1, 20).boxed().toList();
+
+    long start = System.nanoTime();
+    Map<Long, String> ready = pipeline.awaitSummaries(ids, Duration.ofMillis(200));
+    long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    // Twenty slow summaries cost one deadline, not twenty AI round trips.
+    assertThat(elapsedMs).isLessThan(2000);
+    assertThat(ready).containsExactly(Map.entry(1L, "Summary 1"));
+
+    // Asking again joins the work already in flight instead of summarizing twice.
+    pipeline.awaitSummaries(ids, Duration.ZERO);
+    release.countDown();
+    await(() -> jobs().isEmpty() && pipeline.getInFlightCount() == 0);
+    verify(summaryService, times(1)).summarizeSegment(2L);
+  }
+}
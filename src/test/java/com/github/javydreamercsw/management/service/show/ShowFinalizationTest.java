@@ -44,7 +44,6 @@ import com.github.javydreamercsw.management.domain.world.Arena;
 import com.github.javydreamercsw.management.domain.world.ArenaRepository;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerContractRepository;
-import com.github.javydreamercsw.management.domain.wrestler.WrestlerRepository;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerState;
 import com.github.javydreamercsw.management.service.GameSettingService;
 import com.github.javydreamercsw.management.service.gm.GmModeService;
@@ -78,7 +77,6 @@ class ShowFinalizationTest {
   @Mock private SegmentRepository segmentRepository;
   @Mock private LeagueRepository leagueRepository;
   @Mock private WrestlerService wrestlerService;
-  @Mock private WrestlerRepository wrestlerRepository;
   @Mock private SegmentAdjudicationService segmentAdjudicationService;
   @Mock private ApplicationEventPublisher eventPublisher;
   @Mock private GameSettingService gameSettingService;
@@ -110,7 +108,6 @@ class ShowFinalizationTest {
             segmentRepository,
             eventPublisher,
             wrestlerService,
-            wrestlerRepository,
             gameSettingService,
             commentaryTeamRepository,
             newsGenerationService,
@@ -19,6 +19,7 @@ package com.github.javydreamercsw.management.service.show;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
@@ -49,8 +50,8 @@ import com.github.javydreamercsw.management.domain.universe.UniverseRepository;
 import com.github.javydreamercsw.management.domain.world.Arena;
 import com.github.javydreamercsw.management.domain.world.ArenaRepository;
 import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
-import com.github.javydreamercsw.management.domain.wrestler.WrestlerRepository;
 import com.github.javydreamercsw.management.event.AdjudicationCompletedEvent;
+import com.github.javydreamercsw.management.event.SegmentResultsChangedEvent;
 import com.github.javydreamercsw.management.service.GameSettingService;
 import com.github.javydreamercsw.management.service.gm.GmModeService;
 import com.github.javydreamercsw.management.service.legacy.LegacyService;
@@ -66,10 +67,11 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import org.junit.jupiter.api.Assertions;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -88,7 +90,6 @@ class ShowServiceTest {
   @Mock private LeagueRepository leagueRepository;
   @Mock private SegmentRepository segmentRepository;
   @Mock private WrestlerService wrestlerService;
-  @Mock private WrestlerRepository wrestlerRepository;
   @Mock private SegmentAdjudicationService segmentAdjudicationService;
   @Mock private ApplicationEventPublisher eventPublisher;
   @Mock private GameSettingService gameSettingService;
@@ -128,7 +129,6 @@ class ShowServiceTest {
             segmentRepository,
             eventPublisher,
             wrestlerService,
-            wrestlerRepository,
             gameSettingService,
             commentaryTeamRepository,
             newsGenerationService,
@@ -529,6 +529,20 @@ class ShowServiceTest {
     verify(showRepository).deleteById(1L);
   }
 
+  @Test
+  void deleteShow_existingShow_rebuildsParticipantRecords() {
+    when(showRepository.existsById(1L)).thenReturn(true);
+    when(segmentRepository.findParticipantIdsByShowId(1L)).thenReturn(List.of(10L, 20L));
+
+    showService.deleteShow(1L);
+
+    ArgumentCaptor<SegmentResultsChangedEvent> event =
+        ArgumentCaptor.forClass(SegmentResultsChangedEvent.class);
+    verify(eventPublisher).publishEvent(event.capture());
+    assertThat(event.getValue().getWrestlerIds()).containsExactlyInAnyOrder(10L, 20L);
+    assertThat(event.getValue().getSegmentIds()).isEmpty();
+  }
+
   @Test
   void deleteShow_nonExistingShow_returnsFalse() {
     when(showRepository.existsById(99L)).thenReturn(false);
@@ -545,7 +559,7 @@ class ShowServiceTest {
 
   @Test
   void getSegments_delegatesToRepository() {
-    when(segmentRepository.findByShow(show)).thenReturn(List.of(pendingSegment));
+    when(segmentAdjudicationService.adjudicateShow(1L)).thenReturn(List.of(pendingSegment));
 
     List<Segment> result = showService.getSegments(show);
 
@@ -691,17 +705,14 @@ class ShowServiceTest {
   // ---------------------------------------------------------------------------
 
   @Test
-  void adjudicateShow_adjudicatesPendingSegmentsOnly() {
+  void adjudicateShow_delegatesToBatchAdjudication() {
     when(showRepository.findById(1L)).thenReturn(Optional.of(show));
-    when(segmentRepository.findByShow(show))
-        .thenReturn(Arrays.asList(pendingSegment, adjudicatedSegment));
-    when(wrestlerRepository.findAll()).thenReturn(Collections.emptyList());
+    when(segmentAdjudicationService.adjudicateShow(1L)).thenReturn(List.of(pendingSegment));
 
     showService.adjudicateShow(1L);
 
-    verify(segmentAdjudicationService, times(1)).adjudicateMatch(pendingSegment);
-    verify(segmentAdjudicationService, never()).adjudicateMatch(adjudicatedSegment);
-    Assertions.assertEquals(AdjudicationStatus.ADJUDICATED, pendingSegment.getAdjudicationStatus());
+    verify(segmentAdjudicationService, times(1)).adjudicateShow(1L);
+    verify(segmentAdjudicationService, never()).adjudicateMatch(any(Segment.class));
     // show has no date set — game date should not be updated
     verify(gameSettingService, never()).saveCurrentGameDate(any());
   }
@@ -721,7 +732,6 @@ class ShowServiceTest {
     show.setShowDate(showDate);
     when(showRepository.findById(1L)).thenReturn(Optional.of(show));
     when(segmentRepository.findByShow(show)).thenReturn(Collections.emptyList());
-    when(wrestlerRepository.findAll()).thenReturn(Collections.emptyList());
 
     showService.adjudicateShow(1L);
 
@@ -736,15 +746,13 @@ class ShowServiceTest {
     pendingSegment.addParticipant(wrestler1);
 
     when(showRepository.findById(1L)).thenReturn(Optional.of(show));
-    when(segmentRepository.findByShow(show)).thenReturn(List.of(pendingSegment));
-    when(wrestlerRepository.findAll()).thenReturn(List.of(wrestler1, wrestler2));
+    when(segmentAdjudicationService.adjudicateShow(1L)).thenReturn(List.of(pendingSegment));
 
     showService.adjudicateShow(1L);
 
-    // wrestler2 did not participate → should get a heal chance
-    verify(wrestlerService, times(1)).healChance(eq(wrestler2.getId()), anyLong());
-    // wrestler1 participated → should NOT get a heal chance
-    verify(wrestlerService, never()).healChance(eq(wrestler1.getId()), anyLong());
+    // Only wrestler1 participated → everyone else in the universe rests
+    verify(wrestlerService, times(1))
+        .recoverRestingWrestlers(eq(1L), eq(Set.of(wrestler1.getId())), eq(5));
     // show has no date set — game date should not be updated
     verify(gameSettingService, never()).saveCurrentGameDate(any());
   }
@@ -759,13 +767,12 @@ class ShowServiceTest {
     pendingSegment.addParticipant(wrestler1);
 
     when(showRepository.findById(1L)).thenReturn(Optional.of(show));
-    when(segmentRepository.findByShow(show)).thenReturn(List.of(pendingSegment));
-    when(wrestlerRepository.findAll()).thenReturn(List.of(wrestler1, wrestler2));
+    when(segmentAdjudicationService.adjudicateShow(1L)).thenReturn(List.of(pendingSegment));
     when(campaignRepository.existsByUniverse(universe)).thenReturn(true);
 
     showService.adjudicateShow(1L);
 
-    verify(wrestlerService, never()).healChance(anyLong(), anyLong());
+    verify(wrestlerService, never()).recoverRestingWrestlers(anyLong(), any(), anyInt());
   }
 
   @Test
@@ -778,13 +785,12 @@ class ShowServiceTest {
     pendingSegment.addParticipant(wrestler1);
 
     when(showRepository.findById(1L)).thenReturn(Optional.of(show));
-    when(segmentRepository.findByShow(show)).thenReturn(List.of(pendingSegment));
-    when(wrestlerRepository.findAll()).thenReturn(List.of(wrestler1, wrestler2));
+    when(segmentAdjudicationService.adjudicateShow(1L)).thenReturn(List.of(pendingSegment));
     when(campaignRepository.existsByUniverse(universe)).thenReturn(false);
 
     showService.adjudicateShow(1L);
 
-    verify(wrestlerService, times(1)).healChance(eq(wrestler2.getId()), anyLong());
-    verify(wrestlerService, never()).healChance(eq(wrestler1.getId()), anyLong());
+    verify(wrestlerService, times(1))
+        .recoverRestingWrestlers(eq(20L), eq(Set.of(wrestler1.getId())), eq(5));
   }
 }
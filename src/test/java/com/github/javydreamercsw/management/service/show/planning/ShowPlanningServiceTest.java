@@ -19,6 +19,7 @@ package com.github.javydreamercsw.management.service.show.planning;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -44,7 +45,7 @@ import com.github.javydreamercsw.management.domain.wrestler.WrestlerRepository;
 import com.github.javydreamercsw.management.domain.wrestler.WrestlerState;
 import com.github.javydreamercsw.management.service.GameSettingService;
 import com.github.javydreamercsw.management.service.injury.InjuryService;
-import com.github.javydreamercsw.management.service.segment.SegmentSummaryService;
+import com.github.javydreamercsw.management.service.segment.SegmentSummaryPipeline;
 import com.github.javydreamercsw.management.service.segment.type.SegmentTypeService;
 import com.github.javydreamercsw.management.service.show.planning.dto.ShowPlanningContextDTO;
 import com.github.javydreamercsw.management.service.wrestler.WrestlerService;
@@ -54,6 +55,7 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
@@ -82,8 +84,7 @@ class ShowPlanningServiceTest {
   @Mock private com.github.javydreamercsw.management.service.title.TitleService titleService;
   @Mock private com.github.javydreamercsw.management.service.faction.FactionService factionService;
   @Mock private com.github.javydreamercsw.management.service.show.ShowService showService;
-  @Mock private SegmentSummaryService segmentSummaryService;
-  @Mock private com.github.javydreamercsw.management.service.segment.SegmentService segmentService;
+  @Mock private SegmentSummaryPipeline segmentSummaryPipeline;
   @Mock private com.github.javydreamercsw.management.service.npc.NpcService npcService;
   @Mock private org.springframework.context.ApplicationEventPublisher eventPublisher;
   @Mock private TitleReignRepository titleReignRepository;
@@ -227,6 +228,41 @@ class ShowPlanningServiceTest {
     assertEquals(1, capturedContext.getFullRoster().size());
   }
 
+  @Test
+  void testGetShowPlanningContext_FillsMissingSummariesFromPipeline() {
+    Segment summarized = new Segment();
+    summarized.setId(10L);
+    summarized.setNarration("Narration");
+    summarized.setSummary("Already summarized");
+    Segment late = new Segment();
+    late.setId(11L);
+    late.setNarration("Narration");
+    Segment ready = new Segment();
+    ready.setId(12L);
+    ready.setNarration("Narration");
+    Segment silent = new Segment();
+    silent.setId(13L);
+    when(segmentRepository.findBySegmentDateBetween(any(), any()))
+        .thenReturn(new ArrayList<>(List.of(summarized, late, ready, silent)));
+    when(segmentSummaryPipeline.awaitSummaries(List.of(11L, 12L)))
+        .thenReturn(Map.of(12L, "Fresh summary"));
+    when(wrestlerService.findAllFiltered(any(), any(), anyLong(), (String) any(), any()))
+        .thenReturn(List.of(activeWrestler));
+    when(rivalryService.getActiveRivalries()).thenReturn(new ArrayList<>());
+    when(titleService.getActiveTitles()).thenReturn(new ArrayList<>());
+    when(factionService.findAll()).thenReturn(new ArrayList<>());
+    when(showService.getUpcomingShows(10)).thenReturn(new ArrayList<>());
+    when(mapper.toDto(any(ShowPlanningContext.class))).thenReturn(new ShowPlanningContextDTO());
+
+    showPlanningService.getShowPlanningContext(show);
+
+    // Only narrated segments without a summary are requested; late ones are left for the pipeline.
+    verify(segmentSummaryPipeline).awaitSummaries(List.of(11L, 12L));
+    assertEquals("Already summarized", summarized.getSummary());
+    assertNull(late.getSummary());
+    assertEquals("Fresh summary", ready.getSummary());
+  }
+
   @Test
   void testApproveProposedSegments() {
     // Given
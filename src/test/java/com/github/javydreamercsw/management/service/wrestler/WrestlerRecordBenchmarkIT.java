@@ -0,0 +1,187 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.wrestler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.javydreamercsw.management.ManagementIntegrationTest;
+import com.github.javydreamercsw.management.domain.season.Season;
+import com.github.javydreamercsw.management.domain.show.Show;
+import com.github.javydreamercsw.management.domain.show.segment.Segment;
+import com.github.javydreamercsw.management.domain.show.segment.SegmentRepository;
+import com.github.javydreamercsw.management.domain.show.segment.type.SegmentType;
+import com.github.javydreamercsw.management.domain.show.type.ShowType;
+import com.github.javydreamercsw.management.domain.wrestler.Wrestler;
+import com.github.javydreamercsw.management.dto.SeasonStatsDTO;
+import com.github.javydreamercsw.management.service.season.SeasonService;
+import com.github.javydreamercsw.management.service.season.SeasonStatsService;
+import com.github.javydreamercsw.management.service.segment.type.SegmentTypeService;
+import com.github.javydreamercsw.management.service.show.ShowService;
+import com.github.javydreamercsw.management.service.show.type.ShowTypeService;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Times season stats over 100,000 completed matches between 200 wrestlers: the per-segment Java
+ * loop {@link SeasonStatsService} used to run against the aggregate over materialized records, and
+ * a full {@link WrestlerRecordService#rebuildAll()} of the records, and the grouped query behind
+ * {@link SeasonStatsService#calculateStandings(Season)}.
+ *
+ * <pre>
+ *   mvn -Pintegration-test verify -Dit.test=WrestlerRecordBenchmarkIT
+ * </pre>
+ */
+@Slf4j
+class WrestlerRecordBenchmarkIT extends ManagementIntegrationTest {
+
+  private static final int WRESTLERS = 200;
+  private static final int SHOWS = 100;
+  private static final int SEGMENTS = 100_000;
+  private static final int SAMPLE = 10;
+
+  @Autowired private WrestlerRecordService recordService;
+  @Autowired private SeasonStatsService seasonStatsService;
+  @Autowired private SegmentRepository segmentRepository;
+  @Autowired private SeasonService seasonService;
+  @Autowired private ShowService showService;
+  @Autowired private ShowTypeService showTypeService;
+  @Autowired private SegmentTypeService segmentTypeService;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private TransactionTemplate transactionTemplate;
+
+  @Test
+  void seasonStatsOverOneHundredThousandSegments() {
+    List<Wrestler> wrestlers = new ArrayList<>();
+    for (int i = 0; i < WRESTLERS; i++) {
+      Wrestler wrestler = new Wrestler();
+      wrestler.setName("Record Benchmark " + i);
+      wrestlers.add(wrestlerRepository.save(wrestler));
+    }
+    Season season = seasonService.createSeason("Record Benchmark", "Benchmark season", 5);
+    ShowType showType = new ShowType();
+    showType.setName("Record Benchmark");
+    showTypeService.save(showType);
+    List<Long> showIds = new ArrayList<>();
+    for (int i = 0; i < SHOWS; i++) {
+      Show show = new Show();
+      show.setName("Record Benchmark " + i);
+      show.setSeason(season);
+      show.setShowDate(LocalDate.now());
+      show.setType(showType);
+      show.setUniverse(defaultUniverse);
+      showIds.add(showService.save(show).getId());
+    }
+    SegmentType matchType =
+        segmentTypeService.createOrUpdateSegmentType("Record Benchmark Match", "Benchmark");
+
+    Timestamp now = Timestamp.from(Instant.now());
+    List<Object[]> segments = new ArrayList<>(SEGMENTS);
+    for (int i = 0; i < SEGMENTS; i++) {
+      segments.add(new Object[] {showIds.get(i % SHOWS), matchType.getId(), now});
+    }
+    jdbcTemplate.batchUpdate(
+        """
+        INSERT INTO segment (show_id, segment_type_id, segment_date, status)\
+         VALUES (?, ?, ?, 'COMPLETED')\
+        """,
+        segments);
+    List<Long> segmentIds =
+        jdbcTemplate.queryForList(
+            "SELECT segment_id FROM segment WHERE segment_type_id = ? ORDER BY segment_id",
+            Long.class,
+            matchType.getId());
+    List<Object[]> participants = new ArrayList<>(SEGMENTS * 2);
+    for (int i = 0; i < segmentIds.size(); i++) {
+      int a = i % WRESTLERS;
+      int b = (a + 1 + (i / WRESTLERS) % (WRESTLERS - 1)) % WRESTLERS;
+      boolean draw = i % 10 == 0;
+      Long segmentId = segmentIds.get(i);
+      participants.add(new Object[] {segmentId, wrestlers.get(a).getId(), !draw});
+      participants.add(new Object[] {segmentId, wrestlers.get(b).getId(), false});
+    }
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO segment_participant (segment_id, wrestler_id, is_winner) VALUES (?, ?, ?)",
+        participants);
+
+    long start = System.nanoTime();
+    int rows = recordService.rebuildAll();
+    long rebuildMs = (System.nanoTime() - start) / 1_000_000;
+
+    List<Wrestler> sample = wrestlers.subList(0, SAMPLE);
+    start = System.nanoTime();
+    List<int[]> legacy =
+        transactionTemplate.execute(
+            status -> sample.stream().map(w -> legacyCount(w, season)).toList());
+    long legacyMs = (System.nanoTime() - start) / 1_000_000;
+
+    start = System.nanoTime();
+    List<SeasonStatsDTO> stats =
+        sample.stream().map(w -> seasonStatsService.calculateStats(w, season)).toList();
+    long aggregateMs = (System.nanoTime() - start) / 1_000_000;
+
+    start = System.nanoTime();
+    List<SeasonStatsService.Standing> standings = seasonStatsService.calculateStandings(season);
+    long standingsMs = (System.nanoTime() - start) / 1_000_000;
+
+    log.info(
+        "{} segments / {} wrestlers: rebuilt {} records in {}ms; season stats for {} wrestlers"
+            + " took {}ms iterating segments and {}ms from records; standings for the whole"
+            + " roster took {}ms",
+        segmentIds.size(),
+        WRESTLERS,
+        rows,
+        rebuildMs,
+        SAMPLE,
+        legacyMs,
+        aggregateMs,
+        standingsMs);
+    assertThat(standings).hasSize(WRESTLERS);
+    for (int i = 0; i < SAMPLE; i++) {
+      SeasonStatsDTO dto = stats.get(i);
+      assertThat(new int[] {dto.getWins(), dto.getLosses(), dto.getDraws()})
+          .containsExactly(legacy.get(i));
+    }
+    assertThat(rows).isEqualTo(WRESTLERS);
+  }
+
+  /** What {@code SeasonStatsService} did before records were materialized. */
+  private int[] legacyCount(final Wrestler wrestler, final Season season) {
+    int[] counts = new int[3];
+    for (Segment segment :
+        segmentRepository
+            .findByWrestlerParticipationAndSeason(wrestler, season, Pageable.unpaged())
+            .getContent()) {
+      if (segment.getWinners().contains(wrestler)) {
+        counts[0]++;
+      } else if (segment.getWinners().isEmpty()) {
+        counts[2]++;
+      } else {
+        counts[1]++;
+      }
+    }
+    return counts;
+  }
+}
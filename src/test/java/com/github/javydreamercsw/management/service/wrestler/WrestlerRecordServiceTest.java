@@ -0,0 +1,184 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.service.wrestler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.github.javydreamercsw.management.config.CacheConfig;
+import com.github.javydreamercsw.management.domain.wrestler.WrestlerRecord;
+import com.github.javydreamercsw.management.domain.wrestler.WrestlerRecordRepository;
+import com.github.javydreamercsw.management.domain.wrestler.WrestlerRecordSummary;
+import com.github.javydreamercsw.management.event.SegmentResultsChangedEvent;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class WrestlerRecordServiceTest {
+
+  private WrestlerRecordRepository repository;
+  private EntityManager entityManager;
+  private PlatformTransactionManager transactionManager;
+  private Cache statsCache;
+  private WrestlerRecordService service;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(WrestlerRecordRepository.class);
+    entityManager = mock(EntityManager.class);
+    transactionManager = mock(PlatformTransactionManager.class);
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    statsCache = mock(Cache.class);
+    CacheManager cacheManager = mock(CacheManager.class);
+    when(cacheManager.getCache(CacheConfig.WRESTLER_STATS_CACHE)).thenReturn(statsCache);
+    service = new WrestlerRecordService(repository, cacheManager, transactionManager);
+    ReflectionTestUtils.setField(service, "entityManager", entityManager);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    TransactionSynchronizationManager.unbindResourceIfPossible(service);
+  }
+
+  @Test
+  void changesOutsideATransactionAreIgnored() {
+    service.onSegmentResultsChanged(changed(Set.of(1L), Set.of()));
+
+    verifyNoInteractions(repository, entityManager);
+  }
+
+  @Test
+  void pendingChangesAreRebuiltBeforeReadsInTheSameTransaction() {
+    TransactionSynchronizationManager.initSynchronization();
+    when(repository.findParticipantIds(List.of(10L))).thenReturn(List.of(2L, 3L));
+    WrestlerRecord record = new WrestlerRecord(1L, 7L, null, 1L, 0L, 0L);
+    when(repository.aggregate(anyCollection())).thenReturn(List.of(record));
+    when(repository.summarizeCareer(1L, 7L))
+        .thenReturn(Optional.of(new WrestlerRecordSummary(1L, 1L, 0L, 0L)));
+
+    service.onSegmentResultsChanged(changed(Set.of(1L), Set.of()));
+    service.onSegmentResultsChanged(changed(Set.of(), Set.of(10L)));
+    WrestlerRecordSummary summary = service.getCareerRecord(1L, 7L);
+
+    assertThat(summary.wins()).isEqualTo(1L);
+    verify(entityManager).flush();
+    InOrder order = inOrder(repository);
+    order.verify(repository).lockWrestlers(List.of(1L, 2L, 3L));
+    order.verify(repository).deleteByWrestlerIds(List.of(1L, 2L, 3L));
+    order.verify(repository).saveAll(List.of(record));
+  }
+
+  @Test
+  void changesAreRebuiltBeforeCommitAndTheStatsCacheIsClearedAfterIt() {
+    TransactionSynchronizationManager.initSynchronization();
+    when(repository.aggregate(anyCollection())).thenReturn(List.of());
+
+    service.onSegmentResultsChanged(changed(Set.of(4L), Set.of()));
+    List<TransactionSynchronization> synchronizations =
+        TransactionSynchronizationManager.getSynchronizations();
+    assertThat(synchronizations).hasSize(1);
+    synchronizations.forEach(s -> s.beforeCommit(false));
+    synchronizations.forEach(TransactionSynchronization::afterCommit);
+    synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+    verify(repository).deleteByWrestlerIds(List.of(4L));
+    verify(statsCache).clear();
+    assertThat(TransactionSynchronizationManager.getResource(service)).isNull();
+  }
+
+  @Test
+  void changesFlushedDuringCommitAreRebuiltInANewTransaction() {
+    TransactionSynchronizationManager.initSynchronization();
+    when(repository.aggregate(anyCollection())).thenReturn(List.of());
+
+    service.onSegmentResultsChanged(changed(Set.of(4L), Set.of()));
+    List<TransactionSynchronization> synchronizations =
+        TransactionSynchronizationManager.getSynchronizations();
+    synchronizations.forEach(s -> s.beforeCommit(false));
+    // Raised by the flush that runs as part of the commit itself.
+    service.onSegmentResultsChanged(changed(Set.of(5L), Set.of()));
+    synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+    verify(repository).deleteByWrestlerIds(List.of(5L));
+    verify(transactionManager).commit(any());
+  }
+
+  @Test
+  void missingRecordsReadAsEmpty() {
+    when(repository.summarizeSeason(1L, 2L)).thenReturn(Optional.empty());
+
+    assertThat(service.getSeasonRecord(1L, 2L)).isEqualTo(WrestlerRecordSummary.empty(1L));
+  }
+
+  @Test
+  void rosterRecordsAreKeyedByWrestler() {
+    when(repository.summarizeRoster(7L))
+        .thenReturn(
+            List.of(
+                new WrestlerRecordSummary(1L, 3L, 2L, 1L),
+                new WrestlerRecordSummary(2L, 1L, 0L, 0L)));
+    when(repository.summarizeSeasonRoster(3L))
+        .thenReturn(List.of(new WrestlerRecordSummary(2L, 1L, 0L, 0L)));
+
+    assertThat(service.getRosterRecords(7L))
+        .containsOnlyKeys(1L, 2L)
+        .containsEntry(1L, new WrestlerRecordSummary(1L, 3L, 2L, 1L));
+    assertThat(service.getSeasonRosterRecords(3L)).containsOnlyKeys(2L);
+  }
+
+  @Test
+  void rebuildAllReplacesEveryRecord() {
+    List<WrestlerRecord> records =
+        List.of(
+            new WrestlerRecord(1L, 7L, 3L, 2L, 1L, 0L),
+            new WrestlerRecord(2L, 7L, 3L, 1L, 2L, 0L));
+    when(repository.aggregateAll()).thenReturn(records);
+
+    assertThat(service.rebuildAll()).isEqualTo(2);
+    InOrder order = inOrder(repository);
+    order.verify(repository).lockAllWrestlers();
+    order.verify(repository).deleteAllRecords();
+    verify(repository).saveAll(records);
+    verify(statsCache).clear();
+  }
+
+  private static SegmentResultsChangedEvent changed(
+      final Set<Long> wrestlerIds, final Set<Long> segmentIds) {
+    return new SegmentResultsChangedEvent(new Object(), wrestlerIds, segmentIds);
+  }
+}
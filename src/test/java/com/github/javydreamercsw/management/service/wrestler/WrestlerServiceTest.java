@@ -338,6 +338,69 @@ class WrestlerServiceTest {
     verify(eventPublisher, atLeastOnce()).publishEvent(any(WrestlerBumpHealedEvent.class));
   }
 
+  @Test
+  void testRecoverRestingWrestlers_BatchesUpdatesAndSkipsParticipants() {
+    // Given: wrestler 1 worked the show, 2 rests healthy-ish, 3 rests with an active injury
+    Universe universe = wrestlerState.getUniverse();
+    wrestlerState.setId(10L);
+    wrestlerState.setBumps(2);
+    WrestlerState resting = restingState(2L, 20L, universe, 1, 90);
+    WrestlerState injured = restingState(3L, 30L, universe, 1, 98);
+    when(wrestlerStateRepository.findRecoveryCandidates(1L))
+        .thenReturn(List.of(wrestlerState, resting, injured));
+    when(injuryService.getWrestlerIdsWithActiveInjuries(1L)).thenReturn(Set.of(3L));
+    when(diceBag.roll()).thenReturn(4);
+
+    // When
+    WrestlerService.RecoverySummary summary =
+        wrestlerService.recoverRestingWrestlers(1L, Set.of(1L), 5, diceBag);
+
+    // Then: a 4 heals the healthy wrestler but not the injured one (needs 5+)
+    assertEquals(new WrestlerService.RecoverySummary(2, 1, 2), summary);
+    verify(wrestlerStateRepository).healBumpByIds(List.of(20L));
+    verify(wrestlerStateRepository).recoverConditionByIds(List.of(20L, 30L), 5);
+    verify(wrestlerStateRepository, never()).save(any(WrestlerState.class));
+    verify(eventPublisher, times(1)).publishEvent(any(WrestlerBumpHealedEvent.class));
+    assertEquals(0, resting.getBumps());
+    assertEquals(95, resting.getPhysicalCondition());
+    assertEquals(1, injured.getBumps());
+    assertEquals(100, injured.getPhysicalCondition());
+    assertEquals(2, wrestlerState.getBumps());
+  }
+
+  @Test
+  void testRecoverRestingWrestlers_NothingToRecover() {
+    when(wrestlerStateRepository.findRecoveryCandidates(1L)).thenReturn(List.of());
+
+    WrestlerService.RecoverySummary summary =
+        wrestlerService.recoverRestingWrestlers(1L, Set.of(), 5, diceBag);
+
+    assertEquals(new WrestlerService.RecoverySummary(0, 0, 0), summary);
+    verify(injuryService, never()).getWrestlerIdsWithActiveInjuries(anyLong());
+    verify(wrestlerStateRepository, never()).healBumpByIds(any());
+    verify(wrestlerStateRepository, never()).recoverConditionByIds(any(), anyInt());
+  }
+
+  private static WrestlerState restingState(
+      final long wrestlerId,
+      final long stateId,
+      final Universe universe,
+      final int bumps,
+      final int condition) {
+    Wrestler w = new Wrestler();
+    w.setId(wrestlerId);
+    w.setName("Resting " + wrestlerId);
+    WrestlerState state =
+        WrestlerState.builder()
+            .wrestler(w)
+            .universe(universe)
+            .bumps(bumps)
+            .physicalCondition(condition)
+            .build();
+    state.setId(stateId);
+    return state;
+  }
+
   @Test
   void testRecalibrateFanCounts() {
     // Given
@@ -0,0 +1,99 @@
+/*
+* Copyright (C) 2026 Software Consulting Dreams LLC
+*
+* This program is free software: you can redistribute it and/or modify
+* it under the terms of the GNU General Public License as published by
+* the Free Software Foundation, either version 3 of the License, or
+* (at your option) any later version.
+*
+* This program is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+* GNU General Public License for more details.
+*
+* You should have received a copy of the GNU General Public License
+* along with this program.  If not, see <www.gnu.org>.
+*/
+package com.github.javydreamercsw.management.ui.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vaadin.flow.data.provider.CallbackDataProvider;
+import com.vaadin.flow.data.provider.ConfigurableFilterDataProvider;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.provider.QuerySortOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+class LazyDataProvidersTest {
+
+  @Test
+  void gridPageAndSortBecomeAPageable() {
+    AtomicReference<Pageable> requested = new AtomicReference<>();
+    CallbackDataProvider<String, Void> provider =
+        LazyDataProviders.paged(
+            pageable -> {
+              requested.set(pageable);
+              return new SliceImpl<>(List.of("b", "a"));
+            },
+            () -> 120L,
+            Sort.by("id"));
+
+    List<String> rows =
+        provider
+            .fetch(new Query<>(50, 50, QuerySortOrder.desc("name").build(), null, null))
+            .toList();
+
+    assertThat(rows).containsExactly("b", "a");
+    assertThat(requested.get()).isEqualTo(PageRequest.of(1, 50, Sort.by("name").descending()));
+    assertThat(provider.size(new Query<>())).isEqualTo(120);
+  }
+
+  @Test
+  void defaultSortIsUsedWhileNoColumnIsSorted() {
+    AtomicReference<Pageable> requested = new AtomicReference<>();
+    CallbackDataProvider<String, Void> provider =
+        LazyDataProviders.paged(
+            pageable -> {
+              requested.set(pageable);
+              return new SliceImpl<>(List.of());
+            },
+            () -> 0L,
+            Sort.by("title.name", "startDate"));
+
+    provider.fetch(new Query<>(0, 25, List.of(), null, null)).toList();
+
+    assertThat(requested.get())
+        .isEqualTo(PageRequest.of(0, 25, Sort.by("title.name", "startDate")));
+  }
+
+  @Test
+  void filterReachesBothQueries() {
+    List<String> filters = new ArrayList<>();
+    ConfigurableFilterDataProvider<String, Void, String> provider =
+        LazyDataProviders.filtered(
+            (filter, pageable) -> {
+              filters.add(filter);
+              return new SliceImpl<>(List.of());
+            },
+            filter -> {
+              filters.add(filter);
+              return 3L;
+            },
+            Sort.unsorted());
+
+    provider.fetch(new Query<>(0, 10, List.of(), null, null)).toList();
+    provider.setFilter("Heavyweight");
+    int size = provider.size(new Query<>());
+    provider.fetch(new Query<>(0, 10, List.of(), null, null)).toList();
+
+    assertThat(size).isEqualTo(3);
+    assertThat(filters).containsExactly(null, "Heavyweight", "Heavyweight");
+  }
+}
@@ -18,6 +18,7 @@ package com.github.javydreamercsw.management.ui.view;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 import com.github.javydreamercsw.base.security.SecurityUtils;
@@ -30,10 +31,12 @@ import com.vaadin.flow.component.combobox.ComboBox;
 import com.vaadin.flow.component.textfield.TextArea;
 import com.vaadin.flow.component.textfield.TextField;
 import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
 class TeamFormDialogFieldsTest extends AbstractViewTest {
@@ -49,7 +52,8 @@ class TeamFormDialogFieldsTest extends AbstractViewTest {
 
   @BeforeEach
   void setup() {
-    when(wrestlerRepository.findAll()).thenReturn(Collections.emptyList());
+    when(wrestlerRepository.findByNameContainingIgnoreCase(any(), any()))
+        .thenReturn(new SliceImpl<>(List.of()));
     when(factionService.findAll()).thenReturn(Collections.emptyList());
     when(npcService.findAllByType("Manager")).thenReturn(Collections.emptyList());
 
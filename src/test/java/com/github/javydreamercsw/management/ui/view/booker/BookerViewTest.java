@@ -18,6 +18,7 @@ package com.github.javydreamercsw.management.ui.view.booker;
 
 import static com.github.mvysny.kaributesting.v10.LocatorJ._get;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 import com.github.javydreamercsw.management.service.news.NewsService;
@@ -31,10 +32,12 @@ import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.html.H2;
 import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
+import org.springframework.data.domain.SliceImpl;
 
 class BookerViewTest extends AbstractViewTest {
 
@@ -48,7 +51,7 @@ class BookerViewTest extends AbstractViewTest {
 
   @BeforeEach
   void setup() {
-    when(wrestlerService.findAll()).thenReturn(Collections.emptyList());
+    when(wrestlerService.getRosterOverview(any(), any())).thenReturn(new SliceImpl<>(List.of()));
     when(showService.getUpcomingShows(5)).thenReturn(Collections.emptyList());
     when(rivalryService.getActiveRivalries()).thenReturn(Collections.emptyList());
     when(newsService.getLatestNews()).thenReturn(Collections.emptyList());
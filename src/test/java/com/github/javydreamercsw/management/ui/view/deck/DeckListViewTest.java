@@ -18,6 +18,7 @@ package com.github.javydreamercsw.management.ui.view.deck;
 
 import static com.github.mvysny.kaributesting.v10.LocatorJ._get;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 import com.github.javydreamercsw.base.security.SecurityUtils;
@@ -27,12 +28,13 @@ import com.github.javydreamercsw.management.service.deck.DeckService;
 import com.github.javydreamercsw.management.ui.view.AbstractViewTest;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.grid.Grid;
-import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
+import org.springframework.data.domain.SliceImpl;
 
 class DeckListViewTest extends AbstractViewTest {
 
@@ -46,7 +48,7 @@ class DeckListViewTest extends AbstractViewTest {
   @BeforeEach
   void setup() {
     when(securityUtils.getAuthenticatedUser()).thenReturn(Optional.empty());
-    when(deckService.findAll()).thenReturn(Collections.emptyList());
+    when(deckService.findPage(any())).thenReturn(new SliceImpl<>(List.of()));
     view = new DeckListView(deckService, deckCardService, cardService, securityUtils);
     UI.getCurrent().add(view);
   }
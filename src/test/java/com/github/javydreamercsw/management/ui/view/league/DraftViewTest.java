@@ -27,16 +27,17 @@ import com.github.javydreamercsw.management.domain.league.DraftPickRepository;
 import com.github.javydreamercsw.management.domain.league.DraftRepository;
 import com.github.javydreamercsw.management.domain.league.League;
 import com.github.javydreamercsw.management.domain.league.LeagueRepository;
-import com.github.javydreamercsw.management.domain.league.LeagueRosterRepository;
-import com.github.javydreamercsw.management.domain.wrestler.WrestlerRepository;
 import com.github.javydreamercsw.management.event.league.DraftBroadcaster;
+import com.github.javydreamercsw.management.service.league.DraftPoolService;
 import com.github.javydreamercsw.management.service.league.DraftService;
 import com.github.javydreamercsw.management.ui.view.AbstractViewTest;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.html.H2;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -48,8 +49,7 @@ class DraftViewTest extends AbstractViewTest {
   @Mock private DraftRepository draftRepository;
   @Mock private LeagueRepository leagueRepository;
   @Mock private DraftPickRepository draftPickRepository;
-  @Mock private WrestlerRepository wrestlerRepository;
-  @Mock private LeagueRosterRepository leagueRosterRepository;
+  @Mock private DraftPoolService draftPoolService;
   @Mock private SecurityUtils securityUtils;
   @Mock private DraftBroadcaster draftBroadcaster;
 
@@ -71,8 +71,8 @@ class DraftViewTest extends AbstractViewTest {
     when(draftRepository.findByLeague(any())).thenReturn(Optional.of(draft));
     when(draftPickRepository.findByDraftOrderByPickNumberAsc(any()))
         .thenReturn(Collections.emptyList());
-    when(leagueRosterRepository.findByLeague(any())).thenReturn(Collections.emptyList());
-    when(wrestlerRepository.findAll()).thenReturn(Collections.emptyList());
+    when(draftPoolService.getAvailable(any()))
+        .thenReturn(new DraftPoolService.PoolUpdate(1L, Set.of(), List.of()));
     when(securityUtils.getAuthenticatedUser()).thenReturn(Optional.empty());
 
     view =
@@ -81,8 +81,7 @@ class DraftViewTest extends AbstractViewTest {
             draftRepository,
             leagueRepository,
             draftPickRepository,
-            wrestlerRepository,
-            leagueRosterRepository,
+            draftPoolService,
             securityUtils,
             draftBroadcaster);
     view.setParameter(null, 1L);
@@ -23,6 +23,7 @@ import static org.mockito.Mockito.when;
 
 import com.github.javydreamercsw.base.security.SecurityUtils;
 import com.github.javydreamercsw.management.service.season.SeasonService;
+import com.github.javydreamercsw.management.service.season.SeasonStatsService;
 import com.github.javydreamercsw.management.ui.view.AbstractViewTest;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.grid.Grid;
@@ -36,6 +37,7 @@ import org.springframework.data.domain.Pageable;
 class SeasonListViewTest extends AbstractViewTest {
 
   @Mock private SeasonService seasonService;
+  @Mock private SeasonStatsService seasonStatsService;
   @Mock private SecurityUtils securityUtils;
 
   private SeasonListView view;
@@ -43,7 +45,7 @@ class SeasonListViewTest extends AbstractViewTest {
   @BeforeEach
   void setup() {
     when(seasonService.getAllSeasons(any(Pageable.class))).thenReturn(Page.empty());
-    view = new SeasonListView(seasonService, securityUtils);
+    view = new SeasonListView(seasonService, seasonStatsService, securityUtils);
     UI.getCurrent().add(view);
   }
 
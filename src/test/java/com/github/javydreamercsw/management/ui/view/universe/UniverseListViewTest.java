@@ -18,6 +18,7 @@ package com.github.javydreamercsw.management.ui.view.universe;
 
 import static com.github.mvysny.kaributesting.v10.LocatorJ._get;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 import com.github.javydreamercsw.base.ui.component.ViewToolbar;
@@ -32,11 +33,11 @@ import com.github.javydreamercsw.management.service.universe.UniverseService;
 import com.github.javydreamercsw.management.service.universe.UniverseSettingsService;
 import com.github.javydreamercsw.management.ui.view.AbstractViewTest;
 import com.vaadin.flow.component.UI;
-import java.util.Collections;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
+import org.springframework.data.domain.Page;
 
 class UniverseListViewTest extends AbstractViewTest {
 
@@ -68,7 +69,7 @@ class UniverseListViewTest extends AbstractViewTest {
 
   @BeforeEach
   void setup() {
-    when(universeService.findAll()).thenReturn(Collections.emptyList());
+    when(universeService.list(any())).thenReturn(Page.empty());
 
     view =
         new UniverseListView(
@@ -19,6 +19,7 @@ package com.github.javydreamercsw.management.ui.view.wrestler;
 import static com.github.mvysny.kaributesting.v10.LocatorJ._get;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.github.javydreamercsw.base.ai.image.ImageStorageService;
@@ -33,6 +34,7 @@ import com.github.javydreamercsw.management.service.injury.InjuryTypeService;
 import com.github.javydreamercsw.management.service.npc.NpcService;
 import com.github.javydreamercsw.management.service.universe.UniverseContextService;
 import com.github.javydreamercsw.management.service.universe.UniverseSettingsService;
+import com.github.javydreamercsw.management.service.wrestler.WrestlerRecordService;
 import com.github.javydreamercsw.management.service.wrestler.WrestlerService;
 import com.github.javydreamercsw.management.ui.view.AbstractViewTest;
 import com.vaadin.flow.component.UI;
@@ -59,6 +61,7 @@ class WrestlerListViewTest extends AbstractViewTest {
   @Mock private UniverseContextService universeContextService;
   @Mock private WrestlerStateRepository wrestlerStateRepository;
   @Mock private AlignmentService alignmentService;
+  @Mock private WrestlerRecordService wrestlerRecordService;
 
   private WrestlerListView view;
 
@@ -87,7 +90,8 @@ class WrestlerListViewTest extends AbstractViewTest {
             imageStorageService,
             universeContextService,
             wrestlerStateRepository,
-            alignmentService);
+            alignmentService,
+            wrestlerRecordService);
     UI.getCurrent().add(view);
   }
 
@@ -97,4 +101,12 @@ class WrestlerListViewTest extends AbstractViewTest {
     Grid<?> grid = _get(view, Grid.class, spec -> spec.withId("wrestler-list-grid"));
     assertTrue(grid.isVisible());
   }
+
+  @Test
+  @DisplayName("Should load the whole roster's records with one grouped query")
+  void shouldPreloadRosterRecords() {
+    Grid<?> grid = _get(view, Grid.class, spec -> spec.withId("wrestler-list-grid"));
+    assertTrue(grid.getColumns().stream().anyMatch(c -> "Record".equals(c.getHeaderText())));
+    verify(wrestlerRecordService).getRosterRecords(1L);
+  }
 }
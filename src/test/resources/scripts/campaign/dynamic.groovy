@@ -0,0 +1,2 @@
+// Reads a bound variable, which only dynamic Groovy can resolve.
+return wins * 2
@@ -0,0 +1,2 @@
+int base = 2
+return base * 21